@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.Executor;
 
 import jakarta.persistence.EntityManagerFactory;
 
@@ -45,6 +46,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -101,6 +103,23 @@ public class AttachmentAutoConfiguration {
 
     protected static final String FEATURE_NAME = "Attachment";
 
+    static final String CACHE_FILL_EXECUTOR = "attachmentCacheFillExecutor";
+
+    @Bean(name = CACHE_FILL_EXECUTOR)
+    @ConditionalOnProperty(prefix = PropertyKeys.Features.PREFIX + ".attachment.storage", name = "cache-enabled", havingValue = "true")
+    @ConditionalOnMissingBean(name = CACHE_FILL_EXECUTOR)
+    Executor attachmentCacheFillExecutor(AttachmentFeatureProperties properties) {
+        AttachmentFeatureProperties.Storage storage = properties.getStorage();
+        int threads = Math.max(1, storage.getCacheFillThreads());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("attachment-cache-fill-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Math.max(0, storage.getCacheFillQueueCapacity()));
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     @Primary
     @ConditionalOnMissingBean(FileStorage.class)
@@ -110,6 +129,7 @@ public class AttachmentAutoConfiguration {
             ObjectProvider<I18n> i18nProvider,
             ObjectProvider<AttachmentDataJpaRepository> dataRepositoryProvider,
             ObjectProvider<NamedParameterJdbcTemplate> templateProvider,
+            @Qualifier(CACHE_FILL_EXECUTOR) ObjectProvider<Executor> cacheFillExecutorProvider,
             PersistenceProperties persistenceProperties) {
         AttachmentFeatureProperties.Storage storage = properties.getStorage();
         I18n i18n = I18nUtils.resolve(i18nProvider);
@@ -130,7 +150,7 @@ public class AttachmentAutoConfiguration {
                     log.info("{} feature using cache base directory: {}", FEATURE_NAME, LogUtils.green(baseDir));
                     log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                             LogUtils.blue(CachedFileStore.class, true), LogUtils.red(State.CREATED.toString())));
-                    return new CachedFileStore(dbStore, cache);
+                    return new CachedFileStore(dbStore, cache, cacheFillExecutorProvider.getObject());
                 }
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                         LogUtils.blue(JpaFileStore.class, true), LogUtils.red(State.CREATED.toString())));
@@ -148,7 +168,7 @@ public class AttachmentAutoConfiguration {
                 log.info("{} feature using cache base directory: {}", FEATURE_NAME, LogUtils.green(baseDir));
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                         LogUtils.blue(CachedFileStore.class, true), LogUtils.red(State.CREATED.toString())));
-                return new CachedFileStore(dbStore, cache);
+                return new CachedFileStore(dbStore, cache, cacheFillExecutorProvider.getObject());
             }
             log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                     LogUtils.blue(JdbcFileStore.class, true), LogUtils.red(State.CREATED.toString())));
@@ -102,6 +102,17 @@ public class AttachmentFeatureProperties extends FeatureToggle {
          * faster reads.
          */
         private boolean cacheEnabled = false;
+
+        /**
+         * Threads that fill the local cache from the database in the background.
+         */
+        private int cacheFillThreads = 4;
+
+        /**
+         * Cache fills queued while every fill thread is busy. Misses beyond this are
+         * served from the database without filling the cache.
+         */
+        private int cacheFillQueueCapacity = 64;
     }
 
     @Getter
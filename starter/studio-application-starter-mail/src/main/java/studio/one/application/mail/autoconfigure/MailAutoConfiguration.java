@@ -1,5 +1,7 @@
 package studio.one.application.mail.autoconfigure;
 
+import java.time.Clock;
+
 import jakarta.persistence.EntityManagerFactory;
 
 import org.springframework.beans.factory.ObjectProvider;
@@ -22,23 +24,30 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import studio.one.application.mail.config.ImapProperties;
 import studio.one.application.mail.domain.entity.MailAttachmentEntity;
 import studio.one.application.mail.domain.entity.MailMessageEntity;
+import studio.one.application.mail.persistence.repository.MailAttachmentContentRepository;
 import studio.one.application.mail.persistence.repository.MailAttachmentRepository;
 import studio.one.application.mail.persistence.repository.MailMessageRepository;
 import studio.one.application.mail.persistence.repository.MailSyncLogRepository;
+import studio.one.application.mail.persistence.repository.MailSyncStateRepository;
+import studio.one.application.mail.service.MailAttachmentContentCleanupJob;
 import studio.one.application.mail.service.MailAttachmentService;
 import studio.one.application.mail.service.MailMessageService;
 import studio.one.application.mail.service.MailSyncJobLauncher;
 import studio.one.application.mail.service.MailSyncService;
 import studio.one.application.mail.service.MailSyncLogService;
 import studio.one.application.mail.service.MailSyncNotifier;
+import studio.one.application.mail.service.MailSyncStateService;
 import studio.one.application.mail.service.SseMailSyncNotifier;
+import studio.one.application.mail.service.impl.ImapIdleWatcher;
 import studio.one.application.mail.service.impl.ImapMailSyncService;
 import studio.one.application.mail.service.impl.JdbcMailAttachmentService;
 import studio.one.application.mail.service.impl.JdbcMailMessageService;
 import studio.one.application.mail.service.impl.JdbcMailSyncLogService;
+import studio.one.application.mail.service.impl.JdbcMailSyncStateService;
 import studio.one.application.mail.service.impl.JpaMailAttachmentService;
 import studio.one.application.mail.service.impl.JpaMailMessageService;
 import studio.one.application.mail.service.impl.JpaMailSyncLogService;
+import studio.one.application.mail.service.impl.JpaMailSyncStateService;
 import studio.one.application.mail.web.controller.MailController;
 import studio.one.application.mail.web.controller.MailSseController;
 import studio.one.platform.autoconfigure.PersistenceProperties;
@@ -94,6 +103,7 @@ public class MailAutoConfiguration {
             MailFeatureProperties mailFeatureProperties,
             PersistenceProperties persistenceProperties,
             ObjectProvider<MailAttachmentRepository> jpaRepositoryProvider,
+            ObjectProvider<MailAttachmentContentRepository> jpaContentRepositoryProvider,
             ObjectProvider<NamedParameterJdbcTemplate> jdbcProvider) {
 
         PersistenceProperties.Type type = mailFeatureProperties.resolvePersistence(persistenceProperties.getType());
@@ -103,7 +113,7 @@ public class MailAutoConfiguration {
                 throw new IllegalStateException(
                         "JPA persistence selected but MailAttachmentRepository is not available");
             }
-            return new JpaMailAttachmentService(repo);
+            return new JpaMailAttachmentService(repo, jpaContentRepositoryProvider.getIfAvailable());
         }
         if (type == PersistenceProperties.Type.jdbc) {
             NamedParameterJdbcTemplate jdbc = jdbcProvider.getIfAvailable();
@@ -116,6 +126,18 @@ public class MailAutoConfiguration {
         throw new IllegalStateException("Unsupported persistence type for mail attachment service: " + type);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(prefix = PropertyKeys.Features.PREFIX
+            + ".mail.imap.attachment-cleanup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MailAttachmentContentCleanupJob mailAttachmentContentCleanupJob(MailFeatureProperties properties,
+            MailAttachmentService mailAttachmentService,
+            ObjectProvider<Clock> clock) {
+        return new MailAttachmentContentCleanupJob(mailAttachmentService,
+                properties.getImap().getAttachmentCleanup().getGrace(),
+                clock.getIfAvailable(Clock::systemUTC));
+    }
+
     @Bean(MailSyncLogService.SERVICE_NAME)
     @ConditionalOnMissingBean(MailSyncLogService.class)
     public MailSyncLogService mailSyncLogService(
@@ -143,14 +165,58 @@ public class MailAutoConfiguration {
         throw new IllegalStateException("Unsupported persistence type for mail sync log service: " + type);
     }
 
+    @Bean(MailSyncStateService.SERVICE_NAME)
+    @ConditionalOnMissingBean(MailSyncStateService.class)
+    public MailSyncStateService mailSyncStateService(
+            MailFeatureProperties mailFeatureProperties,
+            PersistenceProperties persistenceProperties,
+            ObjectProvider<MailSyncStateRepository> jpaRepositoryProvider,
+            ObjectProvider<NamedParameterJdbcTemplate> jdbcProvider) {
+
+        PersistenceProperties.Type type = mailFeatureProperties.resolvePersistence(persistenceProperties.getType());
+        if (type == PersistenceProperties.Type.jpa) {
+            MailSyncStateRepository repo = jpaRepositoryProvider.getIfAvailable();
+            if (repo == null) {
+                throw new IllegalStateException("JPA persistence selected but MailSyncStateRepository is not available");
+            }
+            return new JpaMailSyncStateService(repo);
+        }
+        if (type == PersistenceProperties.Type.jdbc) {
+            NamedParameterJdbcTemplate jdbc = jdbcProvider.getIfAvailable();
+            if (jdbc == null) {
+                throw new IllegalStateException(
+                        "JDBC persistence selected but NamedParameterJdbcTemplate is not available");
+            }
+            return new JdbcMailSyncStateService(jdbc);
+        }
+        throw new IllegalStateException("Unsupported persistence type for mail sync state service: " + type);
+    }
+
     @Bean(MailSyncService.SERVICE_NAME)
     @ConditionalOnMissingBean(MailSyncService.class)
     public MailSyncService mailSyncService(MailFeatureProperties properties,
             MailMessageService mailMessageService,
             MailAttachmentService mailAttachmentService,
-            MailSyncLogService mailSyncLogService) {
+            MailSyncLogService mailSyncLogService,
+            ObjectProvider<MailSyncStateService> mailSyncStateServiceProvider) {
         ImapProperties imap = properties.getImap();
-        return new ImapMailSyncService(imap, mailMessageService, mailAttachmentService, mailSyncLogService);
+        ImapMailSyncService service = new ImapMailSyncService(imap, mailMessageService, mailAttachmentService,
+                mailSyncLogService);
+        mailSyncStateServiceProvider.ifAvailable(service::setMailSyncStateService);
+        return service;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(prefix = PropertyKeys.Features.PREFIX
+            + ".mail.imap.idle", name = "enabled", havingValue = "true")
+    public ImapIdleWatcher imapIdleWatcher(MailFeatureProperties properties,
+            MailSyncService mailSyncService,
+            MailSyncLogService mailSyncLogService,
+            ObjectProvider<MailSyncNotifier> mailSyncNotifierProvider) {
+        ImapIdleWatcher watcher = new ImapIdleWatcher(properties.getImap(), mailSyncService, mailSyncLogService);
+        mailSyncNotifierProvider.ifAvailable(watcher::setMailSyncNotifier);
+        return watcher;
     }
 
     @Bean
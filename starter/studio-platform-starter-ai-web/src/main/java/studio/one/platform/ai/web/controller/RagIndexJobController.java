@@ -32,6 +32,7 @@ import studio.one.platform.ai.core.rag.RagIndexJobCreateRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobFilter;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
 import studio.one.platform.ai.core.rag.RagIndexJobSourceRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
@@ -48,6 +49,7 @@ import studio.one.platform.ai.web.dto.RagIndexJobCreateRequestDto;
 import studio.one.platform.ai.web.dto.RagIndexJobDto;
 import studio.one.platform.ai.web.dto.RagIndexJobListResponseDto;
 import studio.one.platform.ai.web.dto.RagIndexJobLogDto;
+import studio.one.platform.ai.web.dto.RagIndexJobQueueDto;
 import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.web.dto.ApiResponse;
 
@@ -118,6 +120,15 @@ public class RagIndexJobController {
                 page.limit())));
     }
 
+    @GetMapping("/jobs/queue")
+    @PreAuthorize("@endpointAuthz.can('services:ai_rag','read')")
+    public ResponseEntity<ApiResponse<RagIndexJobQueueDto>> queueStats() {
+        return jobService.queueStats()
+                .map(stats -> ResponseEntity.ok(ApiResponse.ok(RagIndexJobQueueDto.from(stats))))
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_IMPLEMENTED, "RAG index job queue is not configured"));
+    }
+
     @GetMapping("/jobs/{jobId}")
     @PreAuthorize("@endpointAuthz.can('services:ai_rag','read')")
     public ResponseEntity<ApiResponse<RagIndexJobDto>> getJob(@PathVariable("jobId") String jobId) {
@@ -134,7 +145,10 @@ public class RagIndexJobController {
         RagIndexJob job = command.sourceRequest() == null
                 ? jobService.createJob(command.request())
                 : jobService.createJob(command.request(), command.sourceRequest());
-        dispatch(job.jobId(), () -> jobService.startJob(job.jobId()));
+        RagIndexJobPriority priority = RagIndexJobPriority.from(request.priority());
+        submit(job.jobId(),
+                () -> jobService.submitJob(job.jobId(), priority),
+                () -> jobService.startJob(job.jobId()));
         return ResponseEntity.accepted().body(ApiResponse.ok(RagIndexJobDto.from(job)));
     }
 
@@ -147,7 +161,9 @@ public class RagIndexJobController {
         if (job.status() == RagIndexJobStatus.PENDING || job.status() == RagIndexJobStatus.RUNNING) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "RAG index job is still active");
         }
-        dispatch(jobId, () -> jobService.retryJob(jobId));
+        submit(jobId,
+                () -> jobService.submitRetry(jobId, RagIndexJobPriority.NORMAL),
+                () -> jobService.retryJob(jobId));
         return ResponseEntity.accepted().body(ApiResponse.ok(RagIndexJobDto.from(requireJob(jobId))));
     }
 
@@ -328,6 +344,22 @@ public class RagIndexJobController {
         return "attachment".equalsIgnoreCase(request.sourceType());
     }
 
+    /**
+     * Hands the job to the service's job queue, falling back to {@link #dispatch} on the
+     * controller executor when the service has no queue.
+     */
+    private void submit(String jobId, Runnable queued, Runnable fallback) {
+        try {
+            queued.run();
+        } catch (UnsupportedOperationException ex) {
+            dispatch(jobId, fallback);
+        } catch (RejectedExecutionException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "RAG index job queue is full", ex);
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage(), ex);
+        }
+    }
+
     private void dispatch(String jobId, Runnable task) {
         try {
             CompletableFuture.runAsync(() -> {
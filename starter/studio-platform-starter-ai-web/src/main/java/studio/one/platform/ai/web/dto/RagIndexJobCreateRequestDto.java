@@ -21,7 +21,8 @@ public record RagIndexJobCreateRequestDto(
         String chunkingStrategy,
         Integer chunkMaxSize,
         Integer chunkOverlap,
-        String chunkUnit) {
+        String chunkUnit,
+        String priority) {
     public RagIndexJobCreateRequestDto(
             String objectType,
             String objectId,
@@ -33,7 +34,7 @@ public record RagIndexJobCreateRequestDto(
             List<String> keywords,
             Boolean useLlmKeywordExtraction) {
         this(objectType, objectId, documentId, sourceType, forceReindex, text, metadata, keywords,
-                useLlmKeywordExtraction, null, null, null, null, null, null, null);
+                useLlmKeywordExtraction, null, null, null, null, null, null, null, null);
     }
 
     public RagIndexJobCreateRequestDto(
@@ -50,6 +51,28 @@ public record RagIndexJobCreateRequestDto(
             String embeddingProvider,
             String embeddingModel) {
         this(objectType, objectId, documentId, sourceType, forceReindex, text, metadata, keywords,
-                useLlmKeywordExtraction, embeddingProfileId, embeddingProvider, embeddingModel, null, null, null, null);
+                useLlmKeywordExtraction, embeddingProfileId, embeddingProvider, embeddingModel, null, null, null, null, null);
+    }
+
+    public RagIndexJobCreateRequestDto(
+            String objectType,
+            String objectId,
+            String documentId,
+            String sourceType,
+            Boolean forceReindex,
+            String text,
+            Map<String, Object> metadata,
+            List<String> keywords,
+            Boolean useLlmKeywordExtraction,
+            String embeddingProfileId,
+            String embeddingProvider,
+            String embeddingModel,
+            String chunkingStrategy,
+            Integer chunkMaxSize,
+            Integer chunkOverlap,
+            String chunkUnit) {
+        this(objectType, objectId, documentId, sourceType, forceReindex, text, metadata, keywords,
+                useLlmKeywordExtraction, embeddingProfileId, embeddingProvider, embeddingModel, chunkingStrategy,
+                chunkMaxSize, chunkOverlap, chunkUnit, null);
     }
 }
@@ -0,0 +1,32 @@
+package studio.one.platform.ai.web.dto;
+
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
+
+public record RagIndexJobQueueDto(
+        int queued,
+        int running,
+        int capacity,
+        int workers,
+        long submitted,
+        long rejected,
+        long completed,
+        long averageWaitMs,
+        long maxWaitMs,
+        long averageRunMs,
+        long maxRunMs) {
+
+    public static RagIndexJobQueueDto from(RagIndexJobQueueStats stats) {
+        return new RagIndexJobQueueDto(
+                stats.queued(),
+                stats.running(),
+                stats.capacity(),
+                stats.workers(),
+                stats.submitted(),
+                stats.rejected(),
+                stats.completed(),
+                stats.averageWaitMillis(),
+                stats.maxWaitMillis(),
+                stats.averageRunMillis(),
+                stats.maxRunMillis());
+    }
+}
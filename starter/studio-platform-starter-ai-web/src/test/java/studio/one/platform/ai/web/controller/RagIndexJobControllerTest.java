@@ -14,6 +14,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +34,8 @@ import studio.one.platform.ai.core.rag.RagIndexJobLogCode;
 import studio.one.platform.ai.core.rag.RagIndexJobLogLevel;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
 import studio.one.platform.ai.core.rag.RagIndexJobSourceRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
@@ -48,6 +51,7 @@ import studio.one.platform.ai.web.dto.RagIndexChunkPageResponseDto;
 import studio.one.platform.ai.web.dto.RagIndexJobCreateRequestDto;
 import studio.one.platform.ai.web.dto.RagIndexJobDto;
 import studio.one.platform.ai.web.dto.RagIndexJobListResponseDto;
+import studio.one.platform.ai.web.dto.RagIndexJobQueueDto;
 import studio.one.platform.ai.web.dto.RagIndexJobLogDto;
 import studio.one.platform.web.dto.ApiResponse;
 
@@ -92,6 +96,50 @@ class RagIndexJobControllerTest {
                 .containsEntry("category", "manual");
     }
 
+    @Test
+    void createJobSubmitsToJobQueueWithRequestedPriority() {
+        QueueingJobService jobService = new QueueingJobService(false);
+        RagIndexJobController controller = new RagIndexJobController(
+                jobService,
+                mock(RagPipelineService.class),
+                null,
+                task -> {
+                    throw new AssertionError("controller executor must not be used when the service queues jobs");
+                });
+
+        ResponseEntity<ApiResponse<RagIndexJobDto>> response = controller.createJob(requestWithPriority("high"));
+        ResponseEntity<ApiResponse<RagIndexJobQueueDto>> queue = controller.queueStats();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(202);
+        assertThat(jobService.submittedPriority).isEqualTo(RagIndexJobPriority.HIGH);
+        assertThat(queue.getBody().getData().queued()).isEqualTo(3);
+        assertThat(queue.getBody().getData().averageWaitMs()).isEqualTo(40L);
+    }
+
+    @Test
+    void createJobReturnsServiceUnavailableWhenJobQueueIsFull() {
+        RagIndexJobController controller = new RagIndexJobController(
+                new QueueingJobService(true),
+                mock(RagPipelineService.class),
+                null);
+
+        assertThatThrownBy(() -> controller.createJob(requestWithPriority(null)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode().value()).isEqualTo(503));
+    }
+
+    @Test
+    void queueStatsIsNotImplementedWithoutJobQueue() {
+        RagIndexJobController controller = new RagIndexJobController(
+                new CapturingJobService(),
+                mock(RagPipelineService.class),
+                null);
+
+        assertThatThrownBy(controller::queueStats)
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode().value()).isEqualTo(501));
+    }
+
     @Test
     void createJobPassesChunkingOptionsToIndexRequest() {
         CapturingJobService jobService = new CapturingJobService();
@@ -689,6 +737,52 @@ class RagIndexJobControllerTest {
         }
     }
 
+    private static RagIndexJobCreateRequestDto requestWithPriority(String priority) {
+        return new RagIndexJobCreateRequestDto(
+                "attachment",
+                "42",
+                "doc-1",
+                "attachment",
+                false,
+                "hello",
+                Map.of(),
+                List.of(),
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                priority);
+    }
+
+    private static class QueueingJobService extends CapturingJobService {
+
+        private final boolean full;
+        private RagIndexJobPriority submittedPriority;
+
+        QueueingJobService(boolean full) {
+            super(RagIndexJobStatus.PENDING);
+            this.full = full;
+        }
+
+        @Override
+        public RagIndexJob submitJob(String jobId, RagIndexJobPriority priority) {
+            if (full) {
+                throw new RejectedExecutionException("RAG index job queue is full");
+            }
+            this.submittedPriority = priority;
+            return getJob(jobId).orElseThrow();
+        }
+
+        @Override
+        public Optional<RagIndexJobQueueStats> queueStats() {
+            return Optional.of(new RagIndexJobQueueStats(3, 2, 100, 2, 10, 1, 5, 40, 90, 1200, 3000));
+        }
+    }
+
     private static class CapturingJobService implements RagIndexJobService {
 
         private final RagIndexJob job;
@@ -32,6 +32,7 @@ dependencies {
     implementation("com.pgvector:pgvector:${property("pgvectorVersion")}")
     implementation("com.github.ben-manes.caffeine:caffeine:${property("caffeineVersion")}")
     implementation("io.github.resilience4j:resilience4j-retry:${property("resilience4jVersion")}")
+    implementation("io.github.resilience4j:resilience4j-ratelimiter:${property("resilience4jVersion")}")
     implementation("com.github.spullara.mustache.java:compiler:${property("mustacheVersion")}")
     implementation("com.fasterxml.jackson.core:jackson-databind")
 
@@ -0,0 +1,86 @@
+package studio.one.platform.ai.adapters.vector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import studio.one.platform.ai.core.vector.VectorSearchResult;
+
+/**
+ * Merges the vector and lexical candidate lists of a two-stage hybrid search.
+ * <p>
+ * A chunk found by both stages is counted once with both ranks. The returned results keep
+ * the score of their vector stage; only the order follows the fused score.
+ */
+public final class HybridRankFusion {
+
+    /**
+     * A candidate from one stage. {@code key} identifies the chunk across both lists and
+     * {@code rank} is the lexical relevance (ignored for vector candidates).
+     */
+    public record Candidate(Object key, VectorSearchResult result, double rank) {
+
+        public Candidate {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(result, "result");
+        }
+    }
+
+    private HybridRankFusion() {
+    }
+
+    public static List<VectorSearchResult> fuse(
+            PgVectorStoreAdapterV2.HybridFusion fusion,
+            int rrfK,
+            List<Candidate> vectorCandidates,
+            List<Candidate> lexicalCandidates,
+            int topK,
+            double vectorWeight,
+            double lexicalWeight) {
+        Map<Object, Fused> fused = new LinkedHashMap<>();
+        for (int i = 0; i < vectorCandidates.size(); i++) {
+            Candidate candidate = vectorCandidates.get(i);
+            fused.computeIfAbsent(candidate.key(), key -> new Fused(candidate.result())).vectorRank = i + 1;
+        }
+        double bestRank = 0.0d;
+        for (Candidate candidate : lexicalCandidates) {
+            bestRank = Math.max(bestRank, candidate.rank());
+        }
+        for (int i = 0; i < lexicalCandidates.size(); i++) {
+            Candidate candidate = lexicalCandidates.get(i);
+            Fused entry = fused.computeIfAbsent(candidate.key(), key -> new Fused(candidate.result()));
+            entry.lexicalRank = i + 1;
+            entry.lexicalScore = bestRank > 0.0d ? candidate.rank() / bestRank : 0.0d;
+        }
+        List<Fused> ranked = new ArrayList<>(fused.values());
+        for (Fused entry : ranked) {
+            entry.score = fusion == PgVectorStoreAdapterV2.HybridFusion.WEIGHTED
+                    ? vectorWeight * entry.result.score() + lexicalWeight * entry.lexicalScore
+                    : reciprocal(rrfK, vectorWeight, entry.vectorRank) + reciprocal(rrfK, lexicalWeight, entry.lexicalRank);
+        }
+        ranked.sort(Comparator.comparingDouble((Fused entry) -> entry.score).reversed());
+        return ranked.stream()
+                .limit(Math.max(0, topK))
+                .map(entry -> entry.result)
+                .toList();
+    }
+
+    private static double reciprocal(int rrfK, double weight, int rank) {
+        return rank <= 0 ? 0.0d : weight / (rrfK + rank);
+    }
+
+    private static final class Fused {
+        private final VectorSearchResult result;
+        private int vectorRank;
+        private int lexicalRank;
+        private double lexicalScore;
+        private double score;
+
+        private Fused(VectorSearchResult result) {
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package studio.one.platform.ai.adapters.vector;
+
+/**
+ * pgvector distance metric. The metric decides both the operator used in
+ * {@code ORDER BY embedding <op> :vector} and the operator class of the ANN index; the
+ * planner only uses the index when the two belong to the same metric.
+ */
+public enum PgVectorDistanceMetric {
+
+    /** Cosine distance ({@code <=>}, {@code vector_cosine_ops}). */
+    COSINE("<=>", "vector_cosine_ops"),
+    /** Euclidean distance ({@code <->}, {@code vector_l2_ops}). */
+    L2("<->", "vector_l2_ops"),
+    /** Negative inner product ({@code <#>}, {@code vector_ip_ops}). */
+    INNER_PRODUCT("<#>", "vector_ip_ops");
+
+    private static final String[] OPERATORS = { "<=>", "<->", "<#>" };
+
+    private final String operator;
+    private final String operatorClass;
+
+    PgVectorDistanceMetric(String operator, String operatorClass) {
+        this.operator = operator;
+        this.operatorClass = operatorClass;
+    }
+
+    public String operator() {
+        return operator;
+    }
+
+    public String operatorClass() {
+        return operatorClass;
+    }
+
+    /**
+     * Rewrites every pgvector distance operator in {@code sql} to this metric's operator.
+     */
+    public String apply(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String rewritten = sql;
+        for (String candidate : OPERATORS) {
+            if (!candidate.equals(operator)) {
+                rewritten = rewritten.replace(candidate, operator);
+            }
+        }
+        return rewritten;
+    }
+
+    /**
+     * Converts a distance returned by {@link #operator()} into a score where larger is more similar.
+     * Cosine and L2 keep the {@code 1 / (1 + distance)} mapping; inner product distances are
+     * negated products, so they are mapped through a logistic function to stay in {@code (0, 1)}.
+     */
+    public double score(double distance) {
+        if (this == INNER_PRODUCT) {
+            return 1.0d / (1.0d + Math.exp(distance));
+        }
+        return 1.0d / (1.0d + Math.max(0.0d, distance));
+    }
+
+    /**
+     * Resolves the metric whose operator class is {@code operatorClass}, or {@code null}.
+     */
+    public static PgVectorDistanceMetric fromOperatorClass(String operatorClass) {
+        for (PgVectorDistanceMetric metric : values()) {
+            if (metric.operatorClass.equalsIgnoreCase(operatorClass)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,210 @@
+package studio.one.platform.ai.adapters.vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates and checks the ANN index of {@code tb_ai_document_chunk.embedding}.
+ * <p>
+ * The index is built with the operator class of the configured {@link PgVectorDistanceMetric}
+ * so that it matches the operator {@link PgVectorStoreAdapterV2} orders by. With a
+ * {@link PgVectorQuantization} other than {@code NONE} the managed index is the quantized
+ * expression index that serves the coarse search stage. On startup the
+ * existing {@code ivfflat}/{@code hnsw} indexes are read from {@code pg_indexes} and a warning
+ * is logged when none of them can serve the configured operator, because every search would
+ * then fall back to a sequential scan.
+ */
+@Slf4j
+public class PgVectorIndexManager {
+
+    public enum IndexType {
+        IVFFLAT,
+        HNSW
+    }
+
+    static final String TABLE = "tb_ai_document_chunk";
+
+    static final String COLUMN = "embedding";
+
+    private static final String INDEXES_SQL = "SELECT indexname, indexdef FROM pg_indexes"
+            + " WHERE schemaname = ANY (current_schemas(false)) AND tablename = ?";
+
+    private static final Pattern ANN_INDEX_PATTERN = Pattern.compile(
+            "using\\s+(ivfflat|hnsw)\\s*\\((.*?" + COLUMN + ".*?)\\s+(\\w+_ops)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PgVectorDistanceMetric metric;
+    private final IndexType indexType;
+    private final int lists;
+    private final int m;
+    private final int efConstruction;
+    private boolean createOnStartup;
+    private PgVectorQuantization quantization = PgVectorQuantization.NONE;
+    private int dimension;
+    private Consumer<IndexType> activeIndexListener = type -> {
+    };
+
+    public PgVectorIndexManager(JdbcTemplate jdbcTemplate, PgVectorDistanceMetric metric, IndexType indexType,
+            int lists, int m, int efConstruction) {
+        if (lists <= 0 || m <= 0 || efConstruction <= 0) {
+            throw new IllegalArgumentException("lists, m and efConstruction must be positive");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.metric = Objects.requireNonNullElse(metric, PgVectorDistanceMetric.COSINE);
+        this.indexType = Objects.requireNonNullElse(indexType, IndexType.IVFFLAT);
+        this.lists = lists;
+        this.m = m;
+        this.efConstruction = efConstruction;
+    }
+
+    public void setCreateOnStartup(boolean createOnStartup) {
+        this.createOnStartup = createOnStartup;
+    }
+
+    /**
+     * Manages the expression index used by the coarse stage of a quantized search instead of
+     * the full-precision index.
+     */
+    public void setQuantization(PgVectorQuantization quantization, int dimension) {
+        PgVectorQuantization value = Objects.requireNonNullElse(quantization, PgVectorQuantization.NONE);
+        if (value != PgVectorQuantization.NONE && dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be positive for quantized indexes");
+        }
+        this.quantization = value;
+        this.dimension = dimension;
+    }
+
+    /**
+     * Receives the type of the index that {@link #verify()} finds serving the configured operator,
+     * so that search tuning only sets the parameters that index reads.
+     */
+    public void setActiveIndexListener(Consumer<IndexType> activeIndexListener) {
+        this.activeIndexListener = Objects.requireNonNull(activeIndexListener, "activeIndexListener");
+    }
+
+    /**
+     * Creates the configured index when no index with the metric's operator class exists.
+     *
+     * @return {@code true} when an index was created
+     */
+    public boolean ensureIndex() {
+        if (findMatching(indexes()) != null) {
+            return false;
+        }
+        String sql = createIndexSql();
+        log.info("Creating pgvector index: {}", sql);
+        jdbcTemplate.execute(sql);
+        return true;
+    }
+
+    /**
+     * Logs a warning when no ANN index matches the configured metric.
+     *
+     * @return {@code true} when a matching index exists
+     */
+    public boolean verify() {
+        List<AnnIndex> indexes = indexes();
+        if (indexes.isEmpty()) {
+            log.warn("No ivfflat/hnsw index on {}.{}; vector search ordered by '{}' scans the whole table. "
+                    + "Expected an index using {}.", TABLE, COLUMN, searchOperator(), operatorClass());
+            return false;
+        }
+        AnnIndex matching = findMatching(indexes);
+        if (matching == null) {
+            log.warn("Vector search orders by '{}' ({}, quantization {}) but the ANN index(es) on {}.{} use {}; "
+                    + "the planner cannot use them. Align studio.ai.vector.postgres.metric/quantization with the "
+                    + "index or rebuild it.",
+                    searchOperator(), metric, quantization.label(), TABLE, COLUMN,
+                    indexes.stream().map(index -> index.name() + "=" + index.operatorClass()).toList());
+            return false;
+        }
+        log.debug("pgvector index {} ({} {}) matches metric {} with quantization {}", matching.name(),
+                matching.type(), matching.operatorClass(), metric, quantization.label());
+        activeIndexListener.accept(IndexType.valueOf(matching.type().toUpperCase(Locale.ROOT)));
+        return true;
+    }
+
+    /**
+     * Runs {@link #ensureIndex()} when {@code createOnStartup} is set, then {@link #verify()}.
+     * Database errors are logged instead of failing startup.
+     */
+    public void start() {
+        try {
+            if (createOnStartup) {
+                ensureIndex();
+            }
+            verify();
+        } catch (DataAccessException ex) {
+            log.warn("pgvector index check skipped: {}", ex.getMessage());
+        }
+    }
+
+    String indexName() {
+        String prefix = quantization == PgVectorQuantization.NONE ? "vector" : quantization.label();
+        String suffix = quantization == PgVectorQuantization.BINARY ? "hamming" : metric.name().toLowerCase(Locale.ROOT);
+        return "idx_ai_chunk_" + prefix + "_" + indexType.name().toLowerCase(Locale.ROOT) + "_" + suffix;
+    }
+
+    String createIndexSql() {
+        String with = indexType == IndexType.HNSW
+                ? "m = " + m + ", ef_construction = " + efConstruction
+                : "lists = " + lists;
+        return "CREATE INDEX IF NOT EXISTS " + indexName() + " ON " + TABLE
+                + " USING " + indexType.name().toLowerCase(Locale.ROOT)
+                + " (" + quantization.indexExpression(dimension) + " " + operatorClass() + ") WITH (" + with + ")";
+    }
+
+    List<AnnIndex> indexes() {
+        List<AnnIndex> indexes = new ArrayList<>();
+        jdbcTemplate.query(INDEXES_SQL, rs -> {
+            AnnIndex index = parse(rs.getString("indexname"), rs.getString("indexdef"));
+            if (index != null) {
+                indexes.add(index);
+            }
+        }, TABLE);
+        return indexes;
+    }
+
+    private AnnIndex findMatching(List<AnnIndex> indexes) {
+        for (AnnIndex index : indexes) {
+            if (index.operatorClass().equalsIgnoreCase(operatorClass())
+                    && (quantization != PgVectorQuantization.NONE || COLUMN.equalsIgnoreCase(index.expression()))) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    static AnnIndex parse(String name, String definition) {
+        if (definition == null) {
+            return null;
+        }
+        Matcher matcher = ANN_INDEX_PATTERN.matcher(definition);
+        if (!matcher.find()) {
+            return null;
+        }
+        return new AnnIndex(name, matcher.group(1).toLowerCase(Locale.ROOT), matcher.group(2).trim(),
+                matcher.group(3).toLowerCase(Locale.ROOT));
+    }
+
+    private String operatorClass() {
+        return quantization.operatorClass(metric);
+    }
+
+    private String searchOperator() {
+        return quantization == PgVectorQuantization.BINARY ? "<~>" : metric.operator();
+    }
+
+    record AnnIndex(String name, String type, String expression, String operatorClass) {
+    }
+}
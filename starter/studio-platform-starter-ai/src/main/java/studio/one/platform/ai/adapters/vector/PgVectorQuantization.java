@@ -0,0 +1,69 @@
+package studio.one.platform.ai.adapters.vector;
+
+import java.util.Locale;
+
+/**
+ * Compressed representation used for the coarse stage of a pgvector search.
+ * <p>
+ * The quantized form is an expression over {@code embedding}, so the table keeps full-precision
+ * vectors and only the expression index is smaller: {@code halfvec} halves it and
+ * {@code binary_quantize(...)::bit} (Hamming distance) shrinks it 32 times. The coarse stage
+ * orders by the same expression as the index and {@link PgVectorStoreAdapterV2} re-ranks the
+ * candidates by exact distance on {@code embedding}.
+ */
+public enum PgVectorQuantization {
+
+    /** Full-precision search on {@code embedding}. */
+    NONE,
+    /** {@code embedding::halfvec(n)} with the metric's {@code halfvec_*_ops}. */
+    HALFVEC,
+    /** {@code binary_quantize(embedding)::bit(n)} with {@code bit_hamming_ops}. */
+    BINARY;
+
+    /**
+     * Indexed expression, as it must appear both in {@code CREATE INDEX} and in {@code ORDER BY}.
+     */
+    public String indexExpression(int dimension) {
+        switch (this) {
+            case HALFVEC:
+                return "(" + PgVectorIndexManager.COLUMN + "::halfvec(" + dimension + "))";
+            case BINARY:
+                return "(binary_quantize(" + PgVectorIndexManager.COLUMN + ")::bit(" + dimension + "))";
+            case NONE:
+            default:
+                return PgVectorIndexManager.COLUMN;
+        }
+    }
+
+    public String operatorClass(PgVectorDistanceMetric metric) {
+        switch (this) {
+            case HALFVEC:
+                return metric.operatorClass().replace("vector_", "halfvec_");
+            case BINARY:
+                return "bit_hamming_ops";
+            case NONE:
+            default:
+                return metric.operatorClass();
+        }
+    }
+
+    /**
+     * Coarse {@code ORDER BY} expression comparing the indexed expression with {@code :vector}.
+     */
+    public String orderExpression(PgVectorDistanceMetric metric, int dimension) {
+        switch (this) {
+            case HALFVEC:
+                return indexExpression(dimension) + " " + metric.operator()
+                        + " (CAST(:vector AS vector)::halfvec(" + dimension + "))";
+            case BINARY:
+                return indexExpression(dimension) + " <~> binary_quantize(CAST(:vector AS vector))";
+            case NONE:
+            default:
+                return PgVectorIndexManager.COLUMN + " " + metric.operator() + " :vector";
+        }
+    }
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
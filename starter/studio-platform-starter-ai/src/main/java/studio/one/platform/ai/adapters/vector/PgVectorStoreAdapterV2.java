@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +21,9 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import studio.one.platform.ai.core.MetadataFilter;
+import studio.one.platform.ai.core.embedding.FloatVector;
 import studio.one.platform.ai.core.vector.VectorDocument;
+import studio.one.platform.ai.core.vector.VectorSearchComparison;
 import studio.one.platform.ai.core.vector.VectorSearchRequest;
 import studio.one.platform.ai.core.vector.VectorSearchResult;
 import studio.one.platform.ai.core.vector.VectorStorePort;
@@ -29,24 +32,29 @@ import studio.one.platform.data.sqlquery.annotation.SqlStatement;
 /**
  * PgVector {@link VectorStorePort} implementation backed by sqlset-defined
  * statements and {@link SqlStatement} injection.
+ * <p>
+ * Similarity statements are written with the cosine operator and rewritten to the operator of
+ * the configured {@link PgVectorDistanceMetric}, which must match the ANN index opclass
+ * (see {@link PgVectorIndexManager}). With {@link PgVectorQuantization} enabled, similarity
+ * statements become a coarse stage over the quantized expression index followed by an exact
+ * re-rank of its candidates.
  */
 @Slf4j
 public class PgVectorStoreAdapterV2 implements VectorStorePort {
 
-    private static final RowMapper<VectorSearchResult> ROW_MAPPER = new RowMapper<>() {
-        @Override
-        public VectorSearchResult mapRow(ResultSet rs, int rowNum) throws SQLException {
-            String objectId = rs.getString("object_id");
-            String content = rs.getString("text");
-            String metadataJson = rs.getString("metadata");
-            double distance = rs.getDouble("distance");
-            double score = 1.0d / (1.0d + distance);
-            Map<String, Object> metadata = Json.read(metadataJson);
-            String documentId = Objects.toString(metadata.getOrDefault("documentId", objectId), objectId);
-            VectorDocument document = new VectorDocument(documentId, content, metadata, List.of());
-            return new VectorSearchResult(document, score);
-        }
-    };
+    /**
+     * How {@link #hybridSearch} merges the ANN and full-text candidate lists.
+     */
+    public enum HybridFusion {
+        /** Reciprocal rank fusion: {@code weight / (k + rank)} summed over both lists. */
+        RRF,
+        /** Weighted sum of the vector score and {@code ts_rank_cd} normalized by the best candidate. */
+        WEIGHTED
+    }
+
+    private static final String SET_LOCAL_SQL = "SELECT set_config(?, ?, true)";
+    /** Largest {@code hnsw.ef_search} pgvector accepts. */
+    static final int MAX_EF_SEARCH = 1000;
     private static final Pattern ORDER_BY_PATTERN = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
 
     @SqlStatement("ai.vector.upsertChunk")
@@ -61,11 +69,11 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
     @SqlStatement("ai.vector.searchByObject")
     private String searchByObjectSql;
 
-    @SqlStatement("ai.vector.hybridSearch")
-    private String hybridSearchSql;
+    @SqlStatement("ai.vector.lexicalSearch")
+    private String lexicalSearchSql;
 
-    @SqlStatement("ai.vector.hybridSearchByObject")
-    private String hybridSearchByObjectSql;
+    @SqlStatement("ai.vector.lexicalSearchByObject")
+    private String lexicalSearchByObjectSql;
 
     @SqlStatement("ai.vector.exists")
     private String existsSql;
@@ -79,9 +87,27 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
     @SqlStatement("ai.vector.metadataByObject")
     private String metadataByObjectSql;
 
+    @SqlStatement("ai.vector.listEmbeddingsByObject")
+    private String listEmbeddingsByObjectSql;
+
+    @SqlStatement("ai.vector.deleteByObjectFromChunkIndex")
+    private String deleteByObjectFromChunkIndexSql;
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final JdbcTemplate jdbcTemplate;
     private final TransactionTemplate transactionTemplate;
+    private final RowMapper<VectorSearchResult> rowMapper = this::mapSearchRow;
+    private PgVectorDistanceMetric distanceMetric = PgVectorDistanceMetric.COSINE;
+    private Integer defaultEfSearch;
+    private Integer defaultProbes;
+    private PgVectorIndexManager.IndexType annIndexType;
+    private HybridFusion hybridFusion = HybridFusion.RRF;
+    private int hybridCandidateMultiplier = 4;
+    private int hybridMinCandidates = 50;
+    private int rrfK = 60;
+    private PgVectorQuantization quantization = PgVectorQuantization.NONE;
+    private int quantizationDimension;
+    private int rerankMultiplier = 4;
 
     public PgVectorStoreAdapterV2(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -91,6 +117,82 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
                 : new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
     }
 
+    /**
+     * Sets the distance metric. Every pgvector operator in the sqlset statements is rewritten to
+     * the metric's operator, so the ANN index must be built with {@link PgVectorDistanceMetric#operatorClass()}.
+     */
+    public void setDistanceMetric(PgVectorDistanceMetric distanceMetric) {
+        this.distanceMetric = Objects.requireNonNullElse(distanceMetric, PgVectorDistanceMetric.COSINE);
+    }
+
+    public PgVectorDistanceMetric getDistanceMetric() {
+        return distanceMetric;
+    }
+
+    /**
+     * Sets the {@code hnsw.ef_search} used when a request does not carry its own value.
+     */
+    public void setDefaultEfSearch(Integer defaultEfSearch) {
+        this.defaultEfSearch = positiveOrNull(defaultEfSearch);
+    }
+
+    /**
+     * Sets the {@code ivfflat.probes} used when a request does not carry its own value.
+     */
+    public void setDefaultProbes(Integer defaultProbes) {
+        this.defaultProbes = positiveOrNull(defaultProbes);
+    }
+
+    /**
+     * Sets the type of the ANN index the search runs on. {@code hnsw.ef_search} is only set for
+     * an HNSW index and {@code ivfflat.probes} only for an IVFFlat index; while the type is
+     * unknown ({@code null}) both are set.
+     */
+    public void setAnnIndexType(PgVectorIndexManager.IndexType annIndexType) {
+        this.annIndexType = annIndexType;
+    }
+
+    public void setHybridFusion(HybridFusion hybridFusion) {
+        this.hybridFusion = Objects.requireNonNullElse(hybridFusion, HybridFusion.RRF);
+    }
+
+    /**
+     * Sets how many candidates each hybrid stage fetches: {@code max(topK * multiplier, minCandidates)}.
+     */
+    public void setHybridCandidates(int multiplier, int minCandidates) {
+        if (multiplier <= 0 || minCandidates < 0) {
+            throw new IllegalArgumentException("multiplier must be positive and minCandidates non-negative");
+        }
+        this.hybridCandidateMultiplier = multiplier;
+        this.hybridMinCandidates = minCandidates;
+    }
+
+    public void setRrfK(int rrfK) {
+        if (rrfK <= 0) {
+            throw new IllegalArgumentException("rrfK must be positive");
+        }
+        this.rrfK = rrfK;
+    }
+
+    /**
+     * Enables two-stage search: {@code limit * rerankMultiplier} candidates are ordered by the
+     * quantized expression index, then re-ranked by exact distance on {@code embedding}.
+     * {@code dimension} must match the column and the expression index.
+     */
+    public void setQuantization(PgVectorQuantization quantization, int dimension, int rerankMultiplier) {
+        PgVectorQuantization value = Objects.requireNonNullElse(quantization, PgVectorQuantization.NONE);
+        if (value != PgVectorQuantization.NONE && (dimension <= 0 || rerankMultiplier <= 0)) {
+            throw new IllegalArgumentException("dimension and rerankMultiplier must be positive");
+        }
+        this.quantization = value;
+        this.quantizationDimension = dimension;
+        this.rerankMultiplier = Math.max(1, rerankMultiplier);
+    }
+
+    public PgVectorQuantization getQuantization() {
+        return quantization;
+    }
+
     @Override
     public void upsert(List<VectorDocument> documents) {
         upsertInternal(documents);
@@ -106,7 +208,7 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
                     .addValue("chunkIndex", resolveChunkIndex(metadata))
                     .addValue("text", document.content())
                     .addValue("metadata", Json.write(metadata))
-                    .addValue("embedding", toPgVector(document.embedding())));
+                    .addValue("embedding", toPgVector(document.embeddingVector())));
         }
         MapSqlParameterSource[] params = batch.toArray(MapSqlParameterSource[]::new);
         namedParameterJdbcTemplate.batchUpdate(upsertSql, params);
@@ -114,11 +216,11 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
 
     @Override
     public List<VectorSearchResult> search(VectorSearchRequest request) {
-        PGvector vector = toPgVector(request.embedding());
+        PGvector vector = toPgVector(request.queryEmbedding());
         MapSqlParameterSource params = metadataParams(request, true)
                 .addValue("vector", vector)
                 .addValue("limit", request.topK());
-        return namedParameterJdbcTemplate.query(filteredSql(searchSql, request, true), params, ROW_MAPPER);
+        return annQuery(filteredSql(searchSql, request, true), params, request);
     }
 
     @Override
@@ -143,53 +245,90 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
         });
     }
 
+    /**
+     * Upserts the changed chunks and deletes the tail beyond {@code chunkCount} in one
+     * transaction, leaving unchanged rows (and their index entries) untouched.
+     */
+    @Override
+    public void updateByObject(String objectType, String objectId, List<VectorDocument> documents, int chunkCount) {
+        Objects.requireNonNull(documents, "documents");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("objectType", objectType)
+                .addValue("objectId", objectId)
+                .addValue("chunkCount", chunkCount);
+        Runnable update = () -> {
+            if (!documents.isEmpty()) {
+                upsertInternal(documents);
+            }
+            namedParameterJdbcTemplate.update(deleteByObjectFromChunkIndexSql, params);
+        };
+        if (transactionTemplate == null) {
+            log.warn("TransactionTemplate unavailable; updateByObject will execute non-atomically. "
+                    + "Configure a DataSource to enable transactional updates.");
+            update.run();
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> update.run());
+    }
+
+    @Override
+    public List<VectorDocument> listDocumentsByObject(String objectType, String objectId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("objectType", objectType)
+                .addValue("objectId", objectId);
+        return namedParameterJdbcTemplate.query(listEmbeddingsByObjectSql, params, (rs, rowNum) -> {
+            String objId = rs.getString("object_id");
+            Map<String, Object> metadata = Json.read(rs.getString("metadata"));
+            String documentId = Objects.toString(metadata.getOrDefault("documentId", objId), objId);
+            String embedding = rs.getString("embedding");
+            FloatVector vector = embedding == null ? FloatVector.empty()
+                    : FloatVector.of(new PGvector(embedding).toArray());
+            return new VectorDocument(documentId, rs.getString("text"), metadata, vector);
+        });
+    }
+
     @Override
     public List<VectorSearchResult> searchByObject(String objectType, String objectId, VectorSearchRequest request) {
-        PGvector vector = toPgVector(request.embedding());
+        PGvector vector = toPgVector(request.queryEmbedding());
         MapSqlParameterSource params = new MapSqlParameterSource()
                 .addValue("objectType", normalize(objectType))
                 .addValue("objectId", normalize(objectId))
                 .addValue("vector", vector)
                 .addValue("limit", request.topK());
         addMetadataParams(params, request, false);
-        return namedParameterJdbcTemplate.query(filteredSql(searchByObjectSql, request, false), params, ROW_MAPPER);
+        return annQuery(filteredSql(searchByObjectSql, request, false), params, request);
     }
 
     /**
-     * 벡터 유사도(semantic similarity) 와 텍스트 기반 검색 점수(lexical relevance) 를 하나의
-     * 점수(hybrid) 로 결합해, Semantic + Lexical 하이브리드 검색을 구현.
-     * - Semantic Similarity Score (거리 기반).
-     * - PostgreSQL Full Text Search(FTS) 정규화 점수 을 활용 query 와 keywords 비교. 키워드가 문서 동사/명사와 잘 맞으면 점수 증가
-     * 
+     * 벡터 유사도(semantic similarity) 와 텍스트 기반 검색 점수(lexical relevance) 를 결합한 하이브리드 검색.
+     * - 1단계: ANN 인덱스로 벡터 후보 top-N, {@code text_search} GIN 인덱스로 전문 검색 후보 top-N 을 각각 조회한다.
+     * - 2단계: 두 후보 목록을 {@link HybridFusion} 방식(RRF 또는 가중합)으로 합쳐 topK 를 반환한다.
+     * 반환 score 는 기존과 같이 벡터 거리 기반 점수이며, 순서만 결합 점수를 따른다.
      */
     @Override
     public List<VectorSearchResult> hybridSearch(String query, VectorSearchRequest request, double vectorWeight,
             double lexicalWeight) {
-        PGvector vector = toPgVector(request.embedding());
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("vector", vector)
+        MapSqlParameterSource params = metadataParams(request, true)
+                .addValue("vector", toPgVector(request.queryEmbedding()))
                 .addValue("query", query)
-                .addValue("vectorWeight", vectorWeight)
-                .addValue("lexicalWeight", lexicalWeight)
-                .addValue("limit", request.topK());
-        addMetadataParams(params, request, true);
-        return namedParameterJdbcTemplate.query(filteredSql(hybridSearchSql, request, true), params, ROW_MAPPER);
+                .addValue("limit", candidateCount(request.topK()));
+        return hybrid(filteredSql(searchSql, request, true), filteredSql(lexicalSearchSql, request, true), params,
+                request, query, vectorWeight, lexicalWeight);
     }
 
     @Override
     public List<VectorSearchResult> hybridSearchByObject(String query, String objectType, String objectId,
             VectorSearchRequest request, double vectorWeight, double lexicalWeight) {
-        PGvector vector = toPgVector(request.embedding());
         MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("vector", vector)
+                .addValue("vector", toPgVector(request.queryEmbedding()))
                 .addValue("query", query)
-                .addValue("vectorWeight", vectorWeight)
-                .addValue("lexicalWeight", lexicalWeight)
                 .addValue("objectType", normalize(objectType))
                 .addValue("objectId", normalize(objectId))
-                .addValue("limit", request.topK());
+                .addValue("limit", candidateCount(request.topK()));
         addMetadataParams(params, request, false);
-        return namedParameterJdbcTemplate.query(filteredSql(hybridSearchByObjectSql, request, false), params, ROW_MAPPER);
+        return hybrid(filteredSql(searchByObjectSql, request, false),
+                filteredSql(lexicalSearchByObjectSql, request, false), params, request, query, vectorWeight,
+                lexicalWeight);
     }
 
     @Override
@@ -215,7 +354,7 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
             String metadataJson = rs.getString("metadata");
             Map<String, Object> metadata = Json.read(metadataJson);
             String documentId = Objects.toString(metadata.getOrDefault("documentId", objId), objId);
-            VectorDocument document = new VectorDocument(documentId, content, metadata, List.of());
+            VectorDocument document = new VectorDocument(documentId, content, metadata, FloatVector.empty());
             return new VectorSearchResult(document, 1.0d);
         });
     }
@@ -235,7 +374,7 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
             String metadataJson = rs.getString("metadata");
             Map<String, Object> metadata = Json.read(metadataJson);
             String documentId = Objects.toString(metadata.getOrDefault("documentId", objId), objId);
-            VectorDocument document = new VectorDocument(documentId, content, metadata, List.of());
+            VectorDocument document = new VectorDocument(documentId, content, metadata, FloatVector.empty());
             return new VectorSearchResult(document, 1.0d);
         });
     }
@@ -253,12 +392,197 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
         return rows.get(0) == null ? Map.of() : Map.copyOf(rows.get(0));
     }
 
-    private static PGvector toPgVector(List<Double> embedding) {
-        float[] values = new float[embedding.size()];
-        for (int i = 0; i < embedding.size(); i++) {
-            values[i] = embedding.get(i).floatValue();
+    /**
+     * Runs a similarity query with the configured metric's operator. When {@code ef_search} or
+     * {@code probes} is requested, they are set with {@code set_config(..., true)} inside a
+     * transaction so the values only apply to this query's connection.
+     */
+    private List<VectorSearchResult> annQuery(String sql, MapSqlParameterSource params, VectorSearchRequest request) {
+        String statement = annStatement(sql, params, quantization);
+        return withAnnTuning(request, coarseLimit(params, quantization),
+                () -> namedParameterJdbcTemplate.query(statement, params, rowMapper));
+    }
+
+    /**
+     * Runs each query in full precision and with the configured quantization, measuring the
+     * overlap of the returned chunk ids and the mean latency of each mode.
+     * <p>
+     * The first query is run once in both modes before timing starts so that connection setup
+     * and cold index pages are not charged to either mode, and the order of the two runs
+     * alternates between queries so that neither mode always reads pages the other just cached.
+     */
+    @Override
+    public VectorSearchComparison compareSearchModes(List<VectorSearchRequest> queries) {
+        Objects.requireNonNull(queries, "queries");
+        long expected = 0L;
+        long matched = 0L;
+        long baselineNanos = 0L;
+        long candidateNanos = 0L;
+        if (!queries.isEmpty()) {
+            VectorSearchRequest warmUp = queries.get(0);
+            ids(warmUp, PgVectorQuantization.NONE);
+            ids(warmUp, quantization);
+        }
+        for (int i = 0; i < queries.size(); i++) {
+            VectorSearchRequest request = queries.get(i);
+            boolean baselineFirst = i % 2 == 0;
+            long startedAt = System.nanoTime();
+            List<Long> first = ids(request, baselineFirst ? PgVectorQuantization.NONE : quantization);
+            long midpoint = System.nanoTime();
+            List<Long> second = ids(request, baselineFirst ? quantization : PgVectorQuantization.NONE);
+            long finishedAt = System.nanoTime();
+            List<Long> baseline = baselineFirst ? first : second;
+            List<Long> candidate = baselineFirst ? second : first;
+            baselineNanos += baselineFirst ? midpoint - startedAt : finishedAt - midpoint;
+            candidateNanos += baselineFirst ? finishedAt - midpoint : midpoint - startedAt;
+            expected += baseline.size();
+            matched += baseline.stream().filter(candidate::contains).count();
+        }
+        int count = queries.size();
+        return new VectorSearchComparison(
+                PgVectorQuantization.NONE.label(),
+                quantization.label(),
+                count,
+                expected == 0L ? 1.0d : (double) matched / expected,
+                count == 0 ? 0.0d : baselineNanos / 1_000_000.0d / count,
+                count == 0 ? 0.0d : candidateNanos / 1_000_000.0d / count);
+    }
+
+    private List<Long> ids(VectorSearchRequest request, PgVectorQuantization mode) {
+        MapSqlParameterSource params = metadataParams(request, true)
+                .addValue("vector", toPgVector(request.queryEmbedding()))
+                .addValue("limit", request.topK());
+        String statement = annStatement(filteredSql(searchSql, request, true), params, mode);
+        return withAnnTuning(request, coarseLimit(params, mode),
+                () -> namedParameterJdbcTemplate.query(statement, params, (rs, rowNum) -> rs.getLong("id")));
+    }
+
+    /**
+     * Applies the metric operator and, for a quantized mode, wraps the statement so that its
+     * {@code ORDER BY ... LIMIT :limit} tail becomes a coarse stage over the quantized expression
+     * limited to {@code :coarseLimit}. The inner select list still computes the exact
+     * {@code distance}, which the outer query orders by.
+     */
+    private String annStatement(String sql, MapSqlParameterSource params, PgVectorQuantization mode) {
+        String statement = distanceMetric.apply(sql);
+        if (mode == PgVectorQuantization.NONE) {
+            return statement;
+        }
+        int orderByIndex = lastOrderByIndex(statement);
+        if (orderByIndex < 0) {
+            return statement;
+        }
+        params.addValue("coarseLimit", coarseLimit(params, mode));
+        return "SELECT * FROM (" + statement.substring(0, orderByIndex)
+                + "ORDER BY " + mode.orderExpression(distanceMetric, quantizationDimension)
+                + " LIMIT :coarseLimit) candidates ORDER BY distance ASC LIMIT :limit";
+    }
+
+    private Integer coarseLimit(MapSqlParameterSource params, PgVectorQuantization mode) {
+        if (mode == PgVectorQuantization.NONE || !params.hasValue("limit")) {
+            return null;
         }
-        return new PGvector(values);
+        int limit = ((Number) params.getValue("limit")).intValue();
+        return (int) Math.min(Integer.MAX_VALUE, (long) limit * rerankMultiplier);
+    }
+
+    private List<VectorSearchResult> hybrid(String annSql, String lexicalSql, MapSqlParameterSource params,
+            VectorSearchRequest request, String query, double vectorWeight, double lexicalWeight) {
+        String annStatement = annStatement(annSql, params, quantization);
+        String lexicalStatement = distanceMetric.apply(lexicalSql);
+        boolean lexical = query != null && !query.isBlank();
+        Integer coarseLimit = coarseLimit(params, quantization);
+        int candidates = candidateCount(request.topK());
+        // The ANN stage asks for the hybrid candidate count, which easily exceeds pgvector's default ef_search of 40;
+        // withAnnTuning stops the raise at MAX_EF_SEARCH, so a large topK gets at most that many ANN candidates.
+        int minEfSearch = coarseLimit == null ? candidates : Math.max(coarseLimit, candidates);
+        return withAnnTuning(request, minEfSearch, () -> {
+            List<HybridRankFusion.Candidate> annCandidates = namedParameterJdbcTemplate.query(annStatement, params,
+                    (rs, rowNum) -> candidate(rs, rowNum, false));
+            List<HybridRankFusion.Candidate> lexicalCandidates = lexical
+                    ? namedParameterJdbcTemplate.query(lexicalStatement, params,
+                            (rs, rowNum) -> candidate(rs, rowNum, true))
+                    : List.of();
+            return fuse(annCandidates, lexicalCandidates, request.topK(), vectorWeight, lexicalWeight);
+        });
+    }
+
+    List<VectorSearchResult> fuse(List<HybridRankFusion.Candidate> annCandidates,
+            List<HybridRankFusion.Candidate> lexicalCandidates, int topK, double vectorWeight, double lexicalWeight) {
+        return HybridRankFusion.fuse(hybridFusion, rrfK, annCandidates, lexicalCandidates, topK, vectorWeight,
+                lexicalWeight);
+    }
+
+    private int candidateCount(int topK) {
+        return Math.max((int) Math.min(Integer.MAX_VALUE, (long) topK * hybridCandidateMultiplier),
+                Math.max(topK, hybridMinCandidates));
+    }
+
+    private HybridRankFusion.Candidate candidate(ResultSet rs, int rowNum, boolean lexical) throws SQLException {
+        return new HybridRankFusion.Candidate(rs.getLong("id"), mapSearchRow(rs, rowNum), lexical ? rs.getDouble("rank") : 0.0d);
+    }
+
+    /**
+     * {@code minEfSearch} is the coarse candidate count of a quantized search or the ANN
+     * candidate count of a hybrid search; HNSW returns at most {@code ef_search} rows, so it is
+     * raised to at least that many, up to {@link #MAX_EF_SEARCH}.
+     */
+    private <T> T withAnnTuning(VectorSearchRequest request, Integer minEfSearch, Supplier<T> query) {
+        Integer efSearch = annIndexType == PgVectorIndexManager.IndexType.IVFFLAT ? null
+                : efSearch(request, minEfSearch);
+        Integer probes = annIndexType == PgVectorIndexManager.IndexType.HNSW ? null
+                : request.probes() != null ? request.probes() : defaultProbes;
+        if ((efSearch == null && probes == null) || transactionTemplate == null) {
+            if (efSearch != null || probes != null) {
+                log.debug("TransactionTemplate unavailable; ignoring ef_search/probes tuning.");
+            }
+            return query.get();
+        }
+        return transactionTemplate.execute(status -> {
+            if (efSearch != null) {
+                setLocal("hnsw.ef_search", efSearch);
+            }
+            if (probes != null) {
+                setLocal("ivfflat.probes", probes);
+            }
+            return query.get();
+        });
+    }
+
+    private Integer efSearch(VectorSearchRequest request, Integer minEfSearch) {
+        Integer requestedEfSearch = request.efSearch() != null ? request.efSearch() : defaultEfSearch;
+        if (minEfSearch == null || (requestedEfSearch != null && requestedEfSearch >= minEfSearch)) {
+            return requestedEfSearch;
+        }
+        if (minEfSearch > MAX_EF_SEARCH) {
+            log.warn("hnsw.ef_search clamped to {} (wanted {}); HNSW returns at most {} candidates for this query.",
+                    MAX_EF_SEARCH, minEfSearch, MAX_EF_SEARCH);
+            return Math.max(MAX_EF_SEARCH, requestedEfSearch == null ? 0 : requestedEfSearch);
+        }
+        return minEfSearch;
+    }
+
+    private void setLocal(String name, int value) {
+        jdbcTemplate.queryForObject(SET_LOCAL_SQL, String.class, name, Integer.toString(value));
+    }
+
+    private VectorSearchResult mapSearchRow(ResultSet rs, int rowNum) throws SQLException {
+        String objectId = rs.getString("object_id");
+        String content = rs.getString("text");
+        String metadataJson = rs.getString("metadata");
+        double score = distanceMetric.score(rs.getDouble("distance"));
+        Map<String, Object> metadata = Json.read(metadataJson);
+        String documentId = Objects.toString(metadata.getOrDefault("documentId", objectId), objectId);
+        VectorDocument document = new VectorDocument(documentId, content, metadata, FloatVector.empty());
+        return new VectorSearchResult(document, score);
+    }
+
+    private static Integer positiveOrNull(Integer value) {
+        return value == null || value <= 0 ? null : value;
+    }
+
+    private static PGvector toPgVector(FloatVector embedding) {
+        return new PGvector(embedding.backingArray());
     }
 
     private static String resolveObjectType(Map<String, Object> metadata) {
@@ -341,7 +665,7 @@ public class PgVectorStoreAdapterV2 implements VectorStorePort {
         String head = orderByIndex < 0 ? sql : sql.substring(0, orderByIndex);
         String tail = orderByIndex < 0 ? "" : sql.substring(orderByIndex);
         String conjunction = head.toLowerCase(java.util.Locale.ROOT).contains(" where ") ? " AND " : " WHERE ";
-        return head + conjunction + String.join(" AND ", conditions) + tail;
+        return head + conjunction + String.join(" AND ", conditions) + (tail.isEmpty() ? "" : " " + tail);
     }
 
     private static int lastOrderByIndex(String sql) {
@@ -0,0 +1,384 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+import studio.one.platform.ai.core.vector.VectorRecord;
+
+/**
+ * One generation of the embedded store: the HNSW graph, the chunk payloads indexed by node,
+ * the term index and the object-scope lookups. Not thread-safe; {@link EmbeddedVectorStore}
+ * guards it with a read/write lock and swaps in a compacted copy.
+ */
+final class EmbeddedVectorIndex {
+
+    /**
+     * Scopes smaller than this are scanned exactly instead of walking the graph.
+     */
+    static final int EXACT_SCAN_LIMIT = 1024;
+
+    private static final long SEED = 0x5EEDL;
+
+    record ObjectKey(String objectType, String objectId) {
+    }
+
+    record ChunkKey(ObjectKey object, int chunkIndex) {
+    }
+
+    record Chunk(String objectType, String objectId, int chunkIndex, String text, Map<String, Object> metadata) {
+
+        Chunk {
+            Objects.requireNonNull(objectType, "objectType");
+            Objects.requireNonNull(objectId, "objectId");
+            text = text == null ? "" : text;
+            metadata = metadata == null ? Map.of() : Map.copyOf(metadata);
+        }
+
+        ObjectKey objectKey() {
+            return new ObjectKey(objectType, objectId);
+        }
+
+        ChunkKey key() {
+            return new ChunkKey(objectKey(), chunkIndex);
+        }
+
+        String documentId() {
+            return Objects.toString(metadata.getOrDefault(VectorRecord.KEY_DOCUMENT_ID, objectId), objectId);
+        }
+
+        String lexicalText() {
+            Object keywords = metadata.get("keywordsText");
+            return keywords == null ? text : text + " " + keywords;
+        }
+
+        String contentHash() {
+            Object hash = metadata.get(VectorRecord.KEY_CONTENT_HASH);
+            return hash == null ? null : hash.toString();
+        }
+    }
+
+    /**
+     * A live chunk and its stored vector, copied out for a rebuild. Stored vectors are never
+     * modified, so the array is shared.
+     */
+    record LiveNode(Chunk chunk, float[] vector) {
+    }
+
+    /**
+     * Copy of everything a snapshot persists, taken under the store's read lock so the files
+     * can be written without holding it. Chunks are {@code null} for tombstones.
+     */
+    record SnapshotView(
+            PgVectorDistanceMetric metric,
+            int m,
+            int efConstruction,
+            int dimension,
+            int entryPoint,
+            int maxLevel,
+            List<float[]> vectors,
+            List<int[][]> neighbors,
+            List<Chunk> chunks) {
+
+        int size() {
+            return chunks.size();
+        }
+    }
+
+    private final PgVectorDistanceMetric metric;
+    private final int m;
+    private final int efConstruction;
+    private HnswGraph graph;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final InvertedIndex lexical = new InvertedIndex();
+    private final Map<ChunkKey, Integer> nodesByKey = new HashMap<>();
+    private final Map<ObjectKey, TreeMap<Integer, Integer>> nodesByObject = new HashMap<>();
+    private final Map<String, Integer> contentHashes = new HashMap<>();
+
+    EmbeddedVectorIndex(PgVectorDistanceMetric metric, int m, int efConstruction) {
+        this.metric = Objects.requireNonNull(metric, "metric");
+        this.m = m;
+        this.efConstruction = efConstruction;
+    }
+
+    PgVectorDistanceMetric metric() {
+        return metric;
+    }
+
+    int m() {
+        return m;
+    }
+
+    int efConstruction() {
+        return efConstruction;
+    }
+
+    HnswGraph graph() {
+        return graph;
+    }
+
+    int size() {
+        return chunks.size();
+    }
+
+    int liveCount() {
+        return nodesByKey.size();
+    }
+
+    int deletedCount() {
+        return chunks.size() - nodesByKey.size();
+    }
+
+    Chunk chunk(int node) {
+        return node < 0 || node >= chunks.size() ? null : chunks.get(node);
+    }
+
+    /**
+     * Adds a chunk, tombstoning the chunk previously stored under the same
+     * {@code (objectType, objectId, chunkIndex)}.
+     *
+     * @return the new node id
+     */
+    int put(Chunk chunk, float[] vector) {
+        if (graph == null) {
+            graph = new HnswGraph(metric, vector.length, m, efConstruction, SEED);
+        }
+        Integer previous = nodesByKey.get(chunk.key());
+        if (previous != null) {
+            remove(previous);
+        }
+        int node = graph.add(vector);
+        chunks.add(chunk);
+        index(node, chunk);
+        return node;
+    }
+
+    void remove(int node) {
+        Chunk chunk = chunk(node);
+        if (chunk == null) {
+            return;
+        }
+        chunks.set(node, null);
+        graph.delete(node);
+        nodesByKey.remove(chunk.key());
+        TreeMap<Integer, Integer> objectNodes = nodesByObject.get(chunk.objectKey());
+        if (objectNodes != null) {
+            objectNodes.remove(chunk.chunkIndex());
+            if (objectNodes.isEmpty()) {
+                nodesByObject.remove(chunk.objectKey());
+            }
+        }
+        lexical.remove(node, chunk.lexicalText());
+        String hash = chunk.contentHash();
+        if (hash != null) {
+            contentHashes.computeIfPresent(hash, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    int removeObject(ObjectKey object) {
+        List<Integer> nodes = objectNodes(object);
+        nodes.forEach(this::remove);
+        return nodes.size();
+    }
+
+    /**
+     * Removes the object's chunks whose chunk index is {@code fromChunkIndex} or higher.
+     */
+    int removeObjectFrom(ObjectKey object, int fromChunkIndex) {
+        TreeMap<Integer, Integer> nodes = nodesByObject.get(object);
+        if (nodes == null) {
+            return 0;
+        }
+        List<Integer> tail = new ArrayList<>(nodes.tailMap(fromChunkIndex, true).values());
+        tail.forEach(this::remove);
+        return tail.size();
+    }
+
+    int removeWhere(Predicate<Chunk> predicate) {
+        List<Integer> matched = new ArrayList<>();
+        for (int node = 0; node < chunks.size(); node++) {
+            Chunk chunk = chunks.get(node);
+            if (chunk != null && predicate.test(chunk)) {
+                matched.add(node);
+            }
+        }
+        matched.forEach(this::remove);
+        return matched.size();
+    }
+
+    /**
+     * @return the live nodes of the object ordered by chunk index
+     */
+    List<Integer> objectNodes(ObjectKey object) {
+        TreeMap<Integer, Integer> nodes = nodesByObject.get(object);
+        return nodes == null ? List.of() : new ArrayList<>(nodes.values());
+    }
+
+    boolean containsObject(ObjectKey object) {
+        return nodesByObject.containsKey(object);
+    }
+
+    boolean containsContentHash(String contentHash) {
+        return contentHashes.containsKey(contentHash);
+    }
+
+    /**
+     * Nearest live nodes accepted by {@code accept}. When {@code scope} is given it is the
+     * complete set of nodes that may match (for example an object's chunks); small scopes are
+     * scanned exactly. A graph walk that returns fewer than {@code k} hits under a filter falls
+     * back to an exact scan so that selective filters do not lose results.
+     */
+    List<HnswGraph.Neighbor> nearest(float[] query, int k, int ef, IntPredicate accept, Collection<Integer> scope) {
+        if (graph == null || k <= 0) {
+            return List.of();
+        }
+        if (scope != null && scope.size() <= Math.max(EXACT_SCAN_LIMIT, ef)) {
+            return exact(graph.prepare(query), k, accept, scope);
+        }
+        List<HnswGraph.Neighbor> found = graph.search(query, k, ef, accept);
+        if (found.size() < k && accept != null && found.size() < liveCount()) {
+            return exact(graph.prepare(query), k, accept, scope);
+        }
+        return found;
+    }
+
+    double distance(float[] query, int node) {
+        return graph.distanceTo(graph.prepare(query), node);
+    }
+
+    List<InvertedIndex.Scored> lexical(String query, int limit, IntPredicate accept) {
+        return lexical.search(query, limit, accept);
+    }
+
+    /**
+     * Builds a new generation holding only live chunks, with a freshly linked graph.
+     */
+    EmbeddedVectorIndex compacted() {
+        return rebuilt(metric, m, efConstruction);
+    }
+
+    /**
+     * Same as {@link #compacted()} but links the new graph with the given parameters. Stored
+     * vectors are already normalized for cosine, so switching away from cosine keeps directions
+     * only.
+     */
+    EmbeddedVectorIndex rebuilt(PgVectorDistanceMetric metric, int m, int efConstruction) {
+        return build(metric, m, efConstruction, liveNodes());
+    }
+
+    /**
+     * Links a new generation from copied live nodes; touches no state of an existing index.
+     */
+    static EmbeddedVectorIndex build(PgVectorDistanceMetric metric, int m, int efConstruction, List<LiveNode> nodes) {
+        EmbeddedVectorIndex next = new EmbeddedVectorIndex(metric, m, efConstruction);
+        for (LiveNode node : nodes) {
+            next.put(node.chunk(), node.vector());
+        }
+        return next;
+    }
+
+    List<LiveNode> liveNodes() {
+        List<LiveNode> live = new ArrayList<>(liveCount());
+        for (int node = 0; node < chunks.size(); node++) {
+            Chunk chunk = chunks.get(node);
+            if (chunk != null) {
+                live.add(new LiveNode(chunk, graph.vector(node)));
+            }
+        }
+        return live;
+    }
+
+    SnapshotView snapshotView() {
+        int count = chunks.size();
+        List<float[]> vectors = new ArrayList<>(count);
+        List<int[][]> neighbors = new ArrayList<>(count);
+        for (int node = 0; node < count; node++) {
+            vectors.add(graph.vector(node));
+            int[][] levels = new int[graph.level(node) + 1][];
+            for (int level = 0; level < levels.length; level++) {
+                levels[level] = graph.neighbors(node, level);
+            }
+            neighbors.add(levels);
+        }
+        return new SnapshotView(
+                metric,
+                m,
+                efConstruction,
+                graph == null ? 0 : graph.dimension(),
+                graph == null ? -1 : graph.entryPoint(),
+                graph == null ? -1 : graph.maxLevel(),
+                vectors,
+                neighbors,
+                new ArrayList<>(chunks));
+    }
+
+    /**
+     * Appends a persisted node; {@code chunk} is {@code null} for a tombstone.
+     */
+    void restore(int dimension, float[] vector, int[][] neighbors, Chunk chunk) {
+        if (graph == null) {
+            graph = new HnswGraph(metric, dimension, m, efConstruction, SEED);
+        }
+        int node = chunks.size();
+        graph.restore(node, vector, neighbors, chunk == null);
+        chunks.add(chunk);
+        if (chunk != null) {
+            index(node, chunk);
+        }
+    }
+
+    void restoreEntryPoint(int node, int level) {
+        if (graph != null) {
+            graph.restoreEntryPoint(node, level);
+        }
+    }
+
+    private void index(int node, Chunk chunk) {
+        nodesByKey.put(chunk.key(), node);
+        nodesByObject.computeIfAbsent(chunk.objectKey(), key -> new TreeMap<>()).put(chunk.chunkIndex(), node);
+        lexical.add(node, chunk.lexicalText());
+        String hash = chunk.contentHash();
+        if (hash != null) {
+            contentHashes.merge(hash, 1, Integer::sum);
+        }
+    }
+
+    private List<HnswGraph.Neighbor> exact(float[] preparedQuery, int k, IntPredicate accept,
+            Collection<Integer> scope) {
+        PriorityQueue<HnswGraph.Neighbor> top = new PriorityQueue<>(HnswGraph.Neighbor.BY_DISTANCE.reversed());
+        if (scope != null) {
+            for (int node : scope) {
+                offer(top, preparedQuery, node, k, accept);
+            }
+        } else {
+            for (int node = 0; node < chunks.size(); node++) {
+                offer(top, preparedQuery, node, k, accept);
+            }
+        }
+        List<HnswGraph.Neighbor> ordered = new ArrayList<>(top);
+        ordered.sort(HnswGraph.Neighbor.BY_DISTANCE);
+        return ordered;
+    }
+
+    private void offer(PriorityQueue<HnswGraph.Neighbor> top, float[] preparedQuery, int node, int k,
+            IntPredicate accept) {
+        if (chunks.get(node) == null || (accept != null && !accept.test(node))) {
+            return;
+        }
+        double distance = graph.distanceTo(preparedQuery, node);
+        if (top.size() < k) {
+            top.add(new HnswGraph.Neighbor(node, distance));
+        } else if (distance < top.peek().distance()) {
+            top.poll();
+            top.add(new HnswGraph.Neighbor(node, distance));
+        }
+    }
+}
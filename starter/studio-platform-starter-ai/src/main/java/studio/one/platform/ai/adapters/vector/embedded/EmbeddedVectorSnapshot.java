@@ -0,0 +1,296 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+
+/**
+ * Reads and writes {@link EmbeddedVectorIndex} generations.
+ * <p>
+ * Each snapshot is a {@code gen-<n>} directory with three files: {@code vectors.f32}
+ * (header and little-endian floats, loaded through a memory-mapped read), {@code graph.bin}
+ * (per-node tombstone flag and neighbor lists) and {@code records.jsonl} (chunk payloads, one
+ * line per node). The {@code CURRENT} file names the live generation and is replaced with an
+ * atomic move after the new directory is complete, so a crash mid-write leaves the previous
+ * snapshot in place. Every file and the directories it lives in are forced to disk before the
+ * move and before the {@code CURRENT} switch, and the generation before the current one is kept
+ * as a fallback.
+ */
+@Slf4j
+final class EmbeddedVectorSnapshot {
+
+    static final String CURRENT = "CURRENT";
+    static final String VECTORS = "vectors.f32";
+    static final String GRAPH = "graph.bin";
+    static final String RECORDS = "records.jsonl";
+
+    private static final int MAGIC = 0x45564543;
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 9;
+    private static final String GENERATION_PREFIX = "gen-";
+    private static final int RETAINED_OLDER_GENERATIONS = 1;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() {
+    };
+
+    private final Path directory;
+
+    EmbeddedVectorSnapshot(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes {@code view} as the next generation and makes it current. The view is a copy, so
+     * the store's lock is not held while writing.
+     */
+    void write(EmbeddedVectorIndex.SnapshotView view) {
+        try {
+            Files.createDirectories(directory);
+            long generation = currentGeneration() + 1;
+            Path target = directory.resolve(GENERATION_PREFIX + generation);
+            Path staging = directory.resolve(GENERATION_PREFIX + generation + ".tmp");
+            deleteRecursively(staging);
+            Files.createDirectories(staging);
+            writeVectors(staging.resolve(VECTORS), view);
+            writeGraph(staging.resolve(GRAPH), view);
+            writeRecords(staging.resolve(RECORDS), view);
+            fsync(staging.resolve(GRAPH));
+            fsync(staging.resolve(RECORDS));
+            fsyncDirectory(staging);
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            fsyncDirectory(directory);
+            Path pointer = directory.resolve(CURRENT + ".tmp");
+            Files.writeString(pointer, target.getFileName().toString(), StandardCharsets.UTF_8);
+            fsync(pointer);
+            Files.move(pointer, directory.resolve(CURRENT), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            fsyncDirectory(directory);
+            deleteOlderThan(generation - RETAINED_OLDER_GENERATIONS);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write embedded vector snapshot to " + directory, ex);
+        }
+    }
+
+    /**
+     * Loads the current generation, or returns {@code null} when no snapshot exists yet.
+     */
+    EmbeddedVectorIndex read(PgVectorDistanceMetric metric, int m, int efConstruction) {
+        Path current = directory.resolve(CURRENT);
+        if (!Files.isRegularFile(current)) {
+            return null;
+        }
+        try {
+            Path generation = directory.resolve(Files.readString(current, StandardCharsets.UTF_8).trim());
+            return read(generation, metric, m, efConstruction);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read embedded vector snapshot from " + directory, ex);
+        }
+    }
+
+    private EmbeddedVectorIndex read(Path generation, PgVectorDistanceMetric metric, int m, int efConstruction)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(generation.resolve(VECTORS), StandardOpenOption.READ);
+                DataInputStream graph = new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(generation.resolve(GRAPH))));
+                BufferedReader records = Files.newBufferedReader(generation.resolve(RECORDS), StandardCharsets.UTF_8)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION) {
+                throw new IOException("Unsupported snapshot format in " + generation);
+            }
+            int dimension = mapped.getInt();
+            int count = mapped.getInt();
+            PgVectorDistanceMetric storedMetric = PgVectorDistanceMetric.values()[mapped.getInt()];
+            int storedM = mapped.getInt();
+            int storedEfConstruction = mapped.getInt();
+            int entryPoint = mapped.getInt();
+            int maxLevel = mapped.getInt();
+            if (storedMetric != metric || storedM != m || storedEfConstruction != efConstruction) {
+                log.warn("Embedded vector snapshot {} was built with metric={}, m={}, efConstruction={}; "
+                        + "the graph is rebuilt with the configured values after loading.",
+                        generation, storedMetric, storedM, storedEfConstruction);
+            }
+            EmbeddedVectorIndex index = new EmbeddedVectorIndex(storedMetric, storedM, storedEfConstruction);
+            FloatBuffer floats = mapped.asFloatBuffer();
+            for (int node = 0; node < count; node++) {
+                float[] vector = new float[dimension];
+                floats.get(vector);
+                boolean tombstone = graph.readBoolean();
+                int[][] neighbors = new int[graph.readInt()][];
+                for (int level = 0; level < neighbors.length; level++) {
+                    neighbors[level] = new int[graph.readInt()];
+                    for (int i = 0; i < neighbors[level].length; i++) {
+                        neighbors[level][i] = graph.readInt();
+                    }
+                }
+                String line = records.readLine();
+                if (line == null) {
+                    throw new IOException("Truncated " + RECORDS + " in " + generation);
+                }
+                index.restore(dimension, vector, neighbors, tombstone ? null : toChunk(line));
+            }
+            index.restoreEntryPoint(entryPoint, maxLevel);
+            return index;
+        }
+    }
+
+    private static void writeVectors(Path path, EmbeddedVectorIndex.SnapshotView view) throws IOException {
+        int dimension = view.dimension();
+        int count = view.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_INTS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(dimension)
+                .putInt(count)
+                .putInt(view.metric().ordinal())
+                .putInt(view.m())
+                .putInt(view.efConstruction())
+                .putInt(view.entryPoint())
+                .putInt(view.maxLevel());
+        header.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(header);
+            ByteBuffer buffer = ByteBuffer.allocate(Math.max(1, dimension) * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (float[] vector : view.vectors()) {
+                buffer.clear();
+                buffer.asFloatBuffer().put(vector);
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static void writeGraph(Path path, EmbeddedVectorIndex.SnapshotView view) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE_NEW)))) {
+            for (int node = 0; node < view.size(); node++) {
+                out.writeBoolean(view.chunks().get(node) == null);
+                int[][] levels = view.neighbors().get(node);
+                out.writeInt(levels.length);
+                for (int[] neighbors : levels) {
+                    out.writeInt(neighbors.length);
+                    for (int neighbor : neighbors) {
+                        out.writeInt(neighbor);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeRecords(Path path, EmbeddedVectorIndex.SnapshotView view) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW)) {
+            for (EmbeddedVectorIndex.Chunk chunk : view.chunks()) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                if (chunk == null) {
+                    line.put("deleted", true);
+                } else {
+                    line.put("objectType", chunk.objectType());
+                    line.put("objectId", chunk.objectId());
+                    line.put("chunkIndex", chunk.chunkIndex());
+                    line.put("text", chunk.text());
+                    line.put("metadata", chunk.metadata());
+                }
+                out.write(objectMapper.writeValueAsString(line));
+                out.newLine();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EmbeddedVectorIndex.Chunk toChunk(String line) throws IOException {
+        Map<String, Object> values = objectMapper.readValue(line, RECORD_TYPE);
+        return new EmbeddedVectorIndex.Chunk(
+                (String) values.get("objectType"),
+                (String) values.get("objectId"),
+                ((Number) values.get("chunkIndex")).intValue(),
+                (String) values.get("text"),
+                (Map<String, Object>) values.get("metadata"));
+    }
+
+    private long currentGeneration() throws IOException {
+        long max = 0L;
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                max = Math.max(max, generationOf(entry));
+            }
+        }
+        return max;
+    }
+
+    private void deleteOlderThan(long generation) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                long value = generationOf(entry);
+                if (value > 0 && value < generation) {
+                    deleteRecursively(entry);
+                }
+            }
+        }
+    }
+
+    private static void fsync(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces directory entries (created, renamed files) to disk. Not every platform can open a
+     * directory as a channel (Windows cannot); there the rename itself is relied on.
+     */
+    private static void fsyncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            log.debug("Could not fsync directory {}: {}", dir, ex.getMessage());
+        }
+    }
+
+    private static long generationOf(Path entry) {
+        String name = entry.getFileName().toString();
+        if (!name.startsWith(GENERATION_PREFIX) || name.endsWith(".tmp")) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(name.substring(GENERATION_PREFIX.length()));
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            for (Path entry : (Iterable<Path>) walk.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,598 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.ai.adapters.vector.HybridRankFusion;
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+import studio.one.platform.ai.core.MetadataFilter;
+import studio.one.platform.ai.core.embedding.FloatVector;
+import studio.one.platform.ai.core.vector.VectorDocument;
+import studio.one.platform.ai.core.vector.VectorRecord;
+import studio.one.platform.ai.core.vector.VectorSearchRequest;
+import studio.one.platform.ai.core.vector.VectorSearchResult;
+import studio.one.platform.ai.core.vector.VectorStorePort;
+
+/**
+ * In-process {@link VectorStorePort} backed by an HNSW graph, for single-node deployments and
+ * tests that should not depend on PostgreSQL.
+ * <p>
+ * Rows are keyed by {@code (objectType, objectId, chunkIndex)} like {@code tb_ai_document_chunk};
+ * scores, metadata filters and hybrid fusion follow {@code PgVectorStoreAdapterV2}. Searches run
+ * concurrently under a read lock and writes take the write lock. Updates and deletes tombstone
+ * graph nodes; a maintenance task rebuilds the graph once tombstones exceed
+ * {@link EmbeddedVectorStoreOptions#compactionThreshold()} and writes a snapshot when data has
+ * changed. Both copy what they need under a short read lock and do the expensive work without
+ * holding any lock. {@link #close()} writes a final snapshot.
+ */
+@Slf4j
+public class EmbeddedVectorStore implements VectorStorePort, AutoCloseable {
+
+    private final EmbeddedVectorStoreOptions options;
+    private final EmbeddedVectorSnapshot snapshot;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object maintenanceMonitor = new Object();
+    private EmbeddedVectorIndex index;
+    private long version;
+    private long persistedVersion;
+    private List<ToIntFunction<EmbeddedVectorIndex>> compactionLog;
+    private int hybridCandidateMultiplier = 4;
+    private int hybridMinCandidates = 50;
+    private ScheduledExecutorService executor;
+
+    public EmbeddedVectorStore(EmbeddedVectorStoreOptions options) {
+        this.options = Objects.requireNonNull(options, "options");
+        this.snapshot = options.directory() == null ? null : new EmbeddedVectorSnapshot(options.directory());
+        this.index = emptyIndex();
+    }
+
+    /**
+     * Sets how many candidates each hybrid stage fetches: {@code max(topK * multiplier, minCandidates)}.
+     */
+    public void setHybridCandidates(int multiplier, int minCandidates) {
+        if (multiplier < 1 || minCandidates < 1) {
+            throw new IllegalArgumentException("Hybrid candidate multiplier and minimum must be positive");
+        }
+        this.hybridCandidateMultiplier = multiplier;
+        this.hybridMinCandidates = minCandidates;
+    }
+
+    /**
+     * Loads the current snapshot, if any, and starts the maintenance task.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        load();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "embedded-vector-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = options.maintenanceInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::safeMaintain, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Embedded vector store started with {} chunk(s){}", liveCount(),
+                snapshot == null ? " (memory only)" : " from " + options.directory());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        flush();
+    }
+
+    @Override
+    public void upsert(List<VectorDocument> documents) {
+        Objects.requireNonNull(documents, "documents");
+        List<Entry> entries = entries(documents);
+        if (entries.isEmpty()) {
+            return;
+        }
+        write(target -> {
+            entries.forEach(entry -> target.put(entry.chunk(), entry.vector()));
+            return entries.size();
+        });
+    }
+
+    @Override
+    public void deleteByObject(String objectType, String objectId) {
+        EmbeddedVectorIndex.ObjectKey object = new EmbeddedVectorIndex.ObjectKey(objectType, objectId);
+        write(target -> target.removeObject(object));
+    }
+
+    /**
+     * Removes the object's chunks and adds {@code documents} under one write lock, so searches
+     * see either the old or the new chunks.
+     */
+    @Override
+    public void replaceByObject(String objectType, String objectId, List<VectorDocument> documents) {
+        Objects.requireNonNull(documents, "documents");
+        List<Entry> entries = entries(documents);
+        EmbeddedVectorIndex.ObjectKey object = new EmbeddedVectorIndex.ObjectKey(objectType, objectId);
+        write(target -> {
+            int removed = target.removeObject(object);
+            entries.forEach(entry -> target.put(entry.chunk(), entry.vector()));
+            return removed + entries.size();
+        });
+    }
+
+    /**
+     * Adds {@code documents} and drops the object's chunks from {@code chunkCount} on under one
+     * write lock; chunks that are not replaced keep their graph nodes.
+     */
+    @Override
+    public void updateByObject(String objectType, String objectId, List<VectorDocument> documents, int chunkCount) {
+        Objects.requireNonNull(documents, "documents");
+        List<Entry> entries = entries(documents);
+        EmbeddedVectorIndex.ObjectKey object = new EmbeddedVectorIndex.ObjectKey(objectType, objectId);
+        write(target -> {
+            entries.forEach(entry -> target.put(entry.chunk(), entry.vector()));
+            return entries.size() + target.removeObjectFrom(object, chunkCount);
+        });
+    }
+
+    /**
+     * Returns the object's chunks with their stored vectors. With the cosine metric the vectors
+     * are unit length, which scores the same when they are written back.
+     */
+    @Override
+    public List<VectorDocument> listDocumentsByObject(String objectType, String objectId) {
+        return read(() -> index.objectNodes(new EmbeddedVectorIndex.ObjectKey(objectType, objectId)).stream()
+                .map(node -> {
+                    EmbeddedVectorIndex.Chunk chunk = index.chunk(node);
+                    return new VectorDocument(chunk.documentId(), chunk.text(), chunk.metadata(),
+                            FloatVector.of(index.graph().vector(node)));
+                })
+                .toList());
+    }
+
+    @Override
+    public void deleteByDocumentId(String documentId) {
+        write(target -> target.removeWhere(chunk -> Objects.equals(documentId, chunk.documentId())));
+    }
+
+    @Override
+    public void deleteByChunkId(String chunkId) {
+        write(target -> target.removeWhere(chunk -> Objects.equals(chunkId,
+                Objects.toString(chunk.metadata().get(VectorRecord.KEY_CHUNK_ID), null))));
+    }
+
+    @Override
+    public List<VectorSearchResult> search(VectorSearchRequest request) {
+        MetadataFilter filter = request.metadataFilter();
+        return vectorSearch(new Scope(filter.objectType(), filter.objectId(), filter), request);
+    }
+
+    @Override
+    public List<VectorSearchResult> searchByObject(String objectType, String objectId, VectorSearchRequest request) {
+        return vectorSearch(new Scope(normalize(objectType), normalize(objectId), request.metadataFilter()), request);
+    }
+
+    /**
+     * Fetches vector and BM25 candidates separately and fuses them like
+     * {@code PgVectorStoreAdapterV2}; returned scores are vector scores.
+     */
+    @Override
+    public List<VectorSearchResult> hybridSearch(String query, VectorSearchRequest request, double vectorWeight,
+            double lexicalWeight) {
+        MetadataFilter filter = request.metadataFilter();
+        return hybrid(new Scope(filter.objectType(), filter.objectId(), filter), query, request, vectorWeight,
+                lexicalWeight);
+    }
+
+    @Override
+    public List<VectorSearchResult> hybridSearchByObject(String query, String objectType, String objectId,
+            VectorSearchRequest request, double vectorWeight, double lexicalWeight) {
+        return hybrid(new Scope(normalize(objectType), normalize(objectId), request.metadataFilter()), query,
+                request, vectorWeight, lexicalWeight);
+    }
+
+    @Override
+    public boolean exists(String objectType, String objectId) {
+        return read(() -> index.containsObject(new EmbeddedVectorIndex.ObjectKey(objectType, objectId)));
+    }
+
+    @Override
+    public boolean existsByContentHash(String contentHash) {
+        return contentHash != null && read(() -> index.containsContentHash(contentHash));
+    }
+
+    @Override
+    public List<VectorSearchResult> listByObject(String objectType, String objectId, Integer limit) {
+        int rowLimit = limit == null || limit <= 0 ? Integer.MAX_VALUE : limit;
+        return page(objectType, objectId, 0, rowLimit);
+    }
+
+    @Override
+    public List<VectorSearchResult> listByObject(String objectType, String objectId, int offset, int limit) {
+        return page(objectType, objectId, Math.max(0, offset), limit <= 0 ? 50 : limit);
+    }
+
+    @Override
+    public Map<String, Object> getMetadata(String objectType, String objectId) {
+        return read(() -> {
+            List<Integer> nodes = index.objectNodes(new EmbeddedVectorIndex.ObjectKey(objectType, objectId));
+            return nodes.isEmpty() ? Map.<String, Object>of() : index.chunk(nodes.get(0)).metadata();
+        });
+    }
+
+    /**
+     * Compacts the graph when tombstones exceed the threshold and writes a snapshot of changed
+     * data. Called by the maintenance task.
+     */
+    void maintain() {
+        compactIfNeeded();
+        flush();
+    }
+
+    /**
+     * Rebuilds the graph from live nodes when the tombstone ratio exceeds the threshold.
+     * <p>
+     * Live chunks and vectors are copied under a short read lock and the new graph is linked
+     * without holding any lock, so neither searches nor writers wait for the rebuild. Writes made
+     * meanwhile are logged and replayed onto the new generation, which is swapped in under the
+     * write lock.
+     *
+     * @return whether a compacted generation was installed
+     */
+    boolean compactIfNeeded() {
+        return compactIfNeeded(() -> {
+        });
+    }
+
+    /**
+     * {@link #compactIfNeeded()} with a hook that runs after the rebuild and before the swap.
+     */
+    boolean compactIfNeeded(Runnable beforeSwap) {
+        synchronized (maintenanceMonitor) {
+            PgVectorDistanceMetric metric;
+            int m;
+            int efConstruction;
+            List<EmbeddedVectorIndex.LiveNode> live;
+            Lock readLock = lock.readLock();
+            readLock.lock();
+            try {
+                if (index.size() == 0
+                        || (double) index.deletedCount() / index.size() < options.compactionThreshold()) {
+                    return false;
+                }
+                metric = index.metric();
+                m = index.m();
+                efConstruction = index.efConstruction();
+                live = index.liveNodes();
+                compactionLog = new ArrayList<>();
+            } finally {
+                readLock.unlock();
+            }
+            EmbeddedVectorIndex compacted;
+            try {
+                compacted = EmbeddedVectorIndex.build(metric, m, efConstruction, live);
+                beforeSwap.run();
+            } catch (RuntimeException | Error ex) {
+                Lock writeLock = lock.writeLock();
+                writeLock.lock();
+                try {
+                    compactionLog = null;
+                } finally {
+                    writeLock.unlock();
+                }
+                throw ex;
+            }
+            Lock writeLock = lock.writeLock();
+            writeLock.lock();
+            try {
+                List<ToIntFunction<EmbeddedVectorIndex>> replay = compactionLog;
+                compactionLog = null;
+                replay.forEach(mutation -> mutation.applyAsInt(compacted));
+                log.debug("Compacted embedded vector graph from {} to {} node(s), replaying {} write(s)",
+                        index.size(), compacted.size(), replay.size());
+                index = compacted;
+                version++;
+                return true;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot if the data changed since the last one; no-op for a memory-only store.
+     * The data is copied under a short read lock and written to disk without holding it.
+     */
+    void flush() {
+        if (snapshot == null) {
+            return;
+        }
+        synchronized (maintenanceMonitor) {
+            EmbeddedVectorIndex.SnapshotView view;
+            long viewVersion;
+            Lock readLock = lock.readLock();
+            readLock.lock();
+            try {
+                if (version == persistedVersion) {
+                    return;
+                }
+                view = index.snapshotView();
+                viewVersion = version;
+            } finally {
+                readLock.unlock();
+            }
+            snapshot.write(view);
+            persistedVersion = viewVersion;
+        }
+    }
+
+    int liveCount() {
+        return read(() -> index.liveCount());
+    }
+
+    int deletedCount() {
+        return read(() -> index.deletedCount());
+    }
+
+    private void load() {
+        if (snapshot == null) {
+            return;
+        }
+        EmbeddedVectorIndex loaded = snapshot.read(options.metric(), options.m(), options.efConstruction());
+        if (loaded == null) {
+            return;
+        }
+        boolean rebuild = loaded.metric() != options.metric() || loaded.m() != options.m()
+                || loaded.efConstruction() != options.efConstruction();
+        EmbeddedVectorIndex restored = rebuild
+                ? loaded.rebuilt(options.metric(), options.m(), options.efConstruction())
+                : loaded;
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            index = restored;
+            if (rebuild) {
+                version++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private List<VectorSearchResult> vectorSearch(Scope scope, VectorSearchRequest request) {
+        float[] query = request.queryEmbedding().toArray();
+        return read(() -> {
+            List<HnswGraph.Neighbor> nearest = nearest(scope, query, request.topK(), request);
+            List<VectorSearchResult> results = new ArrayList<>(nearest.size());
+            for (HnswGraph.Neighbor neighbor : nearest) {
+                results.add(result(neighbor.node(), index.metric().score(neighbor.distance())));
+            }
+            return results;
+        });
+    }
+
+    private List<VectorSearchResult> hybrid(Scope scope, String query, VectorSearchRequest request,
+            double vectorWeight, double lexicalWeight) {
+        float[] vector = request.queryEmbedding().toArray();
+        int candidates = candidateCount(request.topK());
+        boolean lexical = query != null && !query.isBlank();
+        return read(() -> {
+            List<HybridRankFusion.Candidate> annCandidates = new ArrayList<>();
+            for (HnswGraph.Neighbor neighbor : nearest(scope, vector, candidates, request)) {
+                annCandidates.add(new HybridRankFusion.Candidate(neighbor.node(),
+                        result(neighbor.node(), index.metric().score(neighbor.distance())), 0.0d));
+            }
+            List<HybridRankFusion.Candidate> lexicalCandidates = new ArrayList<>();
+            if (lexical && index.graph() != null) {
+                for (InvertedIndex.Scored scored : index.lexical(query, candidates, accept(scope))) {
+                    double score = index.metric().score(index.distance(vector, scored.node()));
+                    lexicalCandidates.add(new HybridRankFusion.Candidate(scored.node(),
+                            result(scored.node(), score), scored.score()));
+                }
+            }
+            return HybridRankFusion.fuse(options.hybridFusion(), options.rrfK(), annCandidates, lexicalCandidates,
+                    request.topK(), vectorWeight, lexicalWeight);
+        });
+    }
+
+    private List<HnswGraph.Neighbor> nearest(Scope scope, float[] query, int k, VectorSearchRequest request) {
+        int ef = Math.max(k, request.efSearch() != null && request.efSearch() > 0
+                ? request.efSearch()
+                : options.efSearch());
+        List<Integer> scopeNodes = scope.objectType() != null && scope.objectId() != null
+                ? index.objectNodes(new EmbeddedVectorIndex.ObjectKey(scope.objectType(), scope.objectId()))
+                : null;
+        return index.nearest(query, k, ef, accept(scope), scopeNodes);
+    }
+
+    private IntPredicate accept(Scope scope) {
+        if (!scope.hasCriteria()) {
+            return null;
+        }
+        return node -> {
+            EmbeddedVectorIndex.Chunk chunk = index.chunk(node);
+            return chunk != null && scope.matches(chunk);
+        };
+    }
+
+    private List<VectorSearchResult> page(String objectType, String objectId, int offset, int limit) {
+        return read(() -> index.objectNodes(new EmbeddedVectorIndex.ObjectKey(objectType, objectId)).stream()
+                .skip(offset)
+                .limit(limit)
+                .map(node -> result(node, 1.0d))
+                .toList());
+    }
+
+    private VectorSearchResult result(int node, double score) {
+        EmbeddedVectorIndex.Chunk chunk = index.chunk(node);
+        VectorDocument document = new VectorDocument(chunk.documentId(), chunk.text(), chunk.metadata(),
+                FloatVector.empty());
+        return new VectorSearchResult(document, score);
+    }
+
+    private int candidateCount(int topK) {
+        return Math.max((int) Math.min(Integer.MAX_VALUE, (long) topK * hybridCandidateMultiplier),
+                Math.max(topK, hybridMinCandidates));
+    }
+
+    private <T> T read(Supplier<T> action) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Applies {@code mutation} to the current index under the write lock. While a compaction is
+     * rebuilding, the mutation is also logged so it can be replayed onto the new generation; it
+     * must therefore only touch the index it is given.
+     */
+    private void write(ToIntFunction<EmbeddedVectorIndex> mutation) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (mutation.applyAsInt(index) > 0) {
+                version++;
+                if (compactionLog != null) {
+                    compactionLog.add(mutation);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private EmbeddedVectorIndex emptyIndex() {
+        return new EmbeddedVectorIndex(options.metric(), options.m(), options.efConstruction());
+    }
+
+    private void safeMaintain() {
+        try {
+            maintain();
+        } catch (RuntimeException ex) {
+            log.warn("Embedded vector store maintenance failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private static List<Entry> entries(List<VectorDocument> documents) {
+        List<Entry> entries = new ArrayList<>(documents.size());
+        int dimension = -1;
+        for (VectorDocument document : documents) {
+            float[] vector = document.embeddingVector().toArray();
+            if (dimension >= 0 && vector.length != dimension) {
+                throw new IllegalArgumentException("All embeddings in a batch must have the same dimension");
+            }
+            dimension = vector.length;
+            Map<String, Object> metadata = withDocumentId(document);
+            entries.add(new Entry(new EmbeddedVectorIndex.Chunk(
+                    resolveObjectType(metadata),
+                    resolveObjectId(metadata, document.id()),
+                    resolveChunkIndex(metadata),
+                    document.content(),
+                    metadata), vector));
+        }
+        return entries;
+    }
+
+    private static String resolveObjectType(Map<String, Object> metadata) {
+        Object value = metadata.getOrDefault("objectType", "DEFAULT");
+        return Objects.toString(value, "DEFAULT");
+    }
+
+    private static String resolveObjectId(Map<String, Object> metadata, String fallback) {
+        Object value = metadata.get("objectId");
+        if (value != null && !Objects.toString(value, "").isBlank()) {
+            return Objects.toString(value);
+        }
+        return fallback;
+    }
+
+    private static int resolveChunkIndex(Map<String, Object> metadata) {
+        Object value = metadata.getOrDefault("chunkOrder", metadata.getOrDefault("chunkIndex", 0));
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (Exception ex) {
+            return 0;
+        }
+    }
+
+    private static Map<String, Object> withDocumentId(VectorDocument document) {
+        Map<String, Object> metadata = new HashMap<>(document.metadata());
+        metadata.putIfAbsent("documentId", document.id());
+        return metadata;
+    }
+
+    private static String normalize(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+
+    private record Entry(EmbeddedVectorIndex.Chunk chunk, float[] vector) {
+    }
+
+    /**
+     * Object scope plus the non-scope metadata predicates of a request. Values are compared as
+     * strings, like {@code metadata ->> key} in the PostgreSQL adapter.
+     */
+    private record Scope(String objectType, String objectId, MetadataFilter filter) {
+
+        boolean hasCriteria() {
+            return objectType != null || objectId != null
+                    || filter.equalsCriteria().keySet().stream().anyMatch(key -> !isObjectScopeKey(key))
+                    || filter.inCriteria().keySet().stream().anyMatch(key -> !isObjectScopeKey(key));
+        }
+
+        boolean matches(EmbeddedVectorIndex.Chunk chunk) {
+            if (objectType != null && !objectType.equals(chunk.objectType())) {
+                return false;
+            }
+            if (objectId != null && !objectId.equals(chunk.objectId())) {
+                return false;
+            }
+            Map<String, Object> metadata = chunk.metadata();
+            for (Map.Entry<String, Object> entry : filter.equalsCriteria().entrySet()) {
+                if (!isObjectScopeKey(entry.getKey())
+                        && !Objects.equals(Objects.toString(entry.getValue(), null), text(metadata, entry.getKey()))) {
+                    return false;
+                }
+            }
+            for (Map.Entry<String, List<Object>> entry : filter.inCriteria().entrySet()) {
+                if (isObjectScopeKey(entry.getKey())) {
+                    continue;
+                }
+                String value = text(metadata, entry.getKey());
+                if (value == null || entry.getValue().stream()
+                        .noneMatch(candidate -> value.equals(Objects.toString(candidate, null)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String text(Map<String, Object> metadata, String key) {
+            Object value = metadata.get(key);
+            return value == null ? null : value.toString();
+        }
+
+        private static boolean isObjectScopeKey(String key) {
+            return "objectType".equals(key) || "objectId".equals(key);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+import studio.one.platform.ai.adapters.vector.PgVectorStoreAdapterV2;
+
+/**
+ * Runtime options for {@link EmbeddedVectorStore}.
+ *
+ * <p>{@code directory} holds the snapshots; {@code null} keeps the store in memory only.
+ * {@code m}/{@code efConstruction} shape the HNSW graph and {@code efSearch} is the default
+ * candidate list size of a query. The graph is rebuilt without tombstones once deleted nodes
+ * exceed {@code compactionThreshold} of all nodes. Compaction checks and snapshots of changed
+ * data run every {@code maintenanceInterval}.
+ */
+public record EmbeddedVectorStoreOptions(
+        Path directory,
+        PgVectorDistanceMetric metric,
+        int m,
+        int efConstruction,
+        int efSearch,
+        double compactionThreshold,
+        Duration maintenanceInterval,
+        PgVectorStoreAdapterV2.HybridFusion hybridFusion,
+        int rrfK) {
+
+    public static final int DEFAULT_M = 16;
+    public static final int DEFAULT_EF_CONSTRUCTION = 100;
+    public static final int DEFAULT_EF_SEARCH = 64;
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.2d;
+    public static final Duration DEFAULT_MAINTENANCE_INTERVAL = Duration.ofMinutes(1);
+    public static final int DEFAULT_RRF_K = 60;
+
+    public EmbeddedVectorStoreOptions {
+        metric = metric == null ? PgVectorDistanceMetric.COSINE : metric;
+        maintenanceInterval = maintenanceInterval == null ? DEFAULT_MAINTENANCE_INTERVAL : maintenanceInterval;
+        hybridFusion = hybridFusion == null ? PgVectorStoreAdapterV2.HybridFusion.RRF : hybridFusion;
+        if (m < 2) {
+            throw new IllegalArgumentException("m must be at least 2");
+        }
+        if (efConstruction <= 0 || efSearch <= 0) {
+            throw new IllegalArgumentException("efConstruction and efSearch must be positive");
+        }
+        if (compactionThreshold <= 0.0d || compactionThreshold > 1.0d) {
+            throw new IllegalArgumentException("compactionThreshold must be in (0, 1]");
+        }
+        if (maintenanceInterval.isNegative() || maintenanceInterval.isZero()) {
+            throw new IllegalArgumentException("maintenanceInterval must be positive");
+        }
+        if (rrfK <= 0) {
+            throw new IllegalArgumentException("rrfK must be positive");
+        }
+    }
+
+    public static EmbeddedVectorStoreOptions defaults(Path directory) {
+        return new EmbeddedVectorStoreOptions(
+                directory,
+                PgVectorDistanceMetric.COSINE,
+                DEFAULT_M,
+                DEFAULT_EF_CONSTRUCTION,
+                DEFAULT_EF_SEARCH,
+                DEFAULT_COMPACTION_THRESHOLD,
+                DEFAULT_MAINTENANCE_INTERVAL,
+                PgVectorStoreAdapterV2.HybridFusion.RRF,
+                DEFAULT_RRF_K);
+    }
+}
@@ -0,0 +1,420 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+
+/**
+ * Hierarchical navigable small world graph over {@code float[]} vectors.
+ * <p>
+ * Nodes are dense {@code int} ids assigned in insertion order. Deleted nodes stay in the
+ * graph as tombstones so that routing through them keeps working; they are never returned
+ * and disappear when the owner rebuilds the graph. The class is not thread-safe; callers
+ * guard it with a read/write lock.
+ */
+final class HnswGraph {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final PgVectorDistanceMetric metric;
+    private final int dimension;
+    private final int m;
+    private final int maxConnections0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private float[][] vectors = new float[16][];
+    private int[][][] links = new int[16][][];
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private final BitSet deleted = new BitSet();
+
+    HnswGraph(PgVectorDistanceMetric metric, int dimension, int m, int efConstruction, long seed) {
+        if (dimension <= 0 || m < 2 || efConstruction <= 0) {
+            throw new IllegalArgumentException("dimension, m (>= 2) and efConstruction must be positive");
+        }
+        this.metric = metric;
+        this.dimension = dimension;
+        this.m = m;
+        this.maxConnections0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0d / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    int m() {
+        return m;
+    }
+
+    int efConstruction() {
+        return efConstruction;
+    }
+
+    PgVectorDistanceMetric metric() {
+        return metric;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int liveCount() {
+        return size - deleted.cardinality();
+    }
+
+    int deletedCount() {
+        return deleted.cardinality();
+    }
+
+    boolean isDeleted(int node) {
+        return deleted.get(node);
+    }
+
+    float[] vector(int node) {
+        return vectors[node];
+    }
+
+    /**
+     * Adds a vector and links it into the graph.
+     *
+     * @return the node id
+     */
+    int add(float[] vector) {
+        return insert(prepare(vector), randomLevel());
+    }
+
+    void delete(int node) {
+        if (node >= 0 && node < size) {
+            deleted.set(node);
+        }
+    }
+
+    /**
+     * Returns up to {@code k} live nodes nearest to {@code query} that satisfy {@code accept},
+     * ordered by ascending distance. The search keeps {@code max(ef, k)} candidates on the
+     * bottom layer; rejected and deleted nodes are traversed but not returned.
+     */
+    List<Neighbor> search(float[] query, int k, int ef, IntPredicate accept) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        float[] q = prepare(query);
+        int current = entryPoint;
+        double currentDistance = distance(q, vectors[current]);
+        for (int level = maxLevel; level > 0; level--) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (int neighbor : neighbors(current, level)) {
+                    double d = distance(q, vectors[neighbor]);
+                    if (d < currentDistance) {
+                        currentDistance = d;
+                        current = neighbor;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        IntPredicate filter = node -> !deleted.get(node) && (accept == null || accept.test(node));
+        List<Neighbor> found = searchLayer(q, List.of(new Neighbor(current, currentDistance)), Math.max(ef, k), 0,
+                filter);
+        return found.size() <= k ? found : new ArrayList<>(found.subList(0, k));
+    }
+
+    /**
+     * Exact distance from a query already passed through {@link #prepare(float[])} to {@code node}.
+     */
+    double distanceTo(float[] preparedQuery, int node) {
+        return distance(preparedQuery, vectors[node]);
+    }
+
+    int level(int node) {
+        return links[node].length - 1;
+    }
+
+    int[] neighbors(int node, int level) {
+        int[][] nodeLinks = links[node];
+        if (level >= nodeLinks.length) {
+            return EMPTY;
+        }
+        int[] list = nodeLinks[level];
+        return Arrays.copyOfRange(list, 1, 1 + list[0]);
+    }
+
+    int entryPoint() {
+        return entryPoint;
+    }
+
+    int maxLevel() {
+        return maxLevel;
+    }
+
+    BitSet deletedNodes() {
+        return (BitSet) deleted.clone();
+    }
+
+    /**
+     * Restores a node exactly as it was persisted; used when loading a snapshot.
+     */
+    void restore(int node, float[] vector, int[][] nodeNeighbors, boolean tombstone) {
+        if (node != size) {
+            throw new IllegalStateException("Nodes must be restored in order; expected " + size + " but got " + node);
+        }
+        ensureCapacity(node + 1);
+        vectors[node] = vector;
+        int[][] nodeLinks = new int[nodeNeighbors.length][];
+        for (int level = 0; level < nodeNeighbors.length; level++) {
+            int[] list = new int[maxConnections(level) + 1];
+            int count = Math.min(nodeNeighbors[level].length, maxConnections(level));
+            System.arraycopy(nodeNeighbors[level], 0, list, 1, count);
+            list[0] = count;
+            nodeLinks[level] = list;
+        }
+        links[node] = nodeLinks;
+        if (tombstone) {
+            deleted.set(node);
+        }
+        size++;
+    }
+
+    void restoreEntryPoint(int node, int level) {
+        this.entryPoint = node;
+        this.maxLevel = level;
+    }
+
+    private int insert(float[] vector, int level) {
+        int node = size;
+        ensureCapacity(node + 1);
+        vectors[node] = vector;
+        int[][] nodeLinks = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            nodeLinks[l] = new int[maxConnections(l) + 1];
+        }
+        links[node] = nodeLinks;
+        size++;
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+        int current = entryPoint;
+        double currentDistance = distance(vector, vectors[current]);
+        for (int l = maxLevel; l > level; l--) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                int[] list = links[current][l];
+                for (int i = 1; i <= list[0]; i++) {
+                    double d = distance(vector, vectors[list[i]]);
+                    if (d < currentDistance) {
+                        currentDistance = d;
+                        current = list[i];
+                        changed = true;
+                    }
+                }
+            }
+        }
+        List<Neighbor> entryPoints = List.of(new Neighbor(current, currentDistance));
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Neighbor> candidates = searchLayer(vector, entryPoints, efConstruction, l, null);
+            List<Neighbor> selected = selectNeighbors(candidates, m);
+            int[] list = links[node][l];
+            for (Neighbor neighbor : selected) {
+                list[++list[0]] = neighbor.node();
+            }
+            for (Neighbor neighbor : selected) {
+                connect(neighbor.node(), node, neighbor.distance(), l);
+            }
+            entryPoints = candidates;
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+        return node;
+    }
+
+    private void connect(int from, int to, double distance, int level) {
+        int[] list = links[from][level];
+        int limit = maxConnections(level);
+        if (list[0] < limit) {
+            list[++list[0]] = to;
+            return;
+        }
+        List<Neighbor> candidates = new ArrayList<>(list[0] + 1);
+        candidates.add(new Neighbor(to, distance));
+        for (int i = 1; i <= list[0]; i++) {
+            candidates.add(new Neighbor(list[i], distance(vectors[from], vectors[list[i]])));
+        }
+        candidates.sort(Neighbor.BY_DISTANCE);
+        List<Neighbor> kept = selectNeighbors(candidates, limit);
+        list[0] = 0;
+        for (Neighbor neighbor : kept) {
+            list[++list[0]] = neighbor.node();
+        }
+    }
+
+    /**
+     * Neighbor selection heuristic: a candidate is kept when it is closer to the base node
+     * than to any already selected neighbor, which spreads links across directions. Pruned
+     * candidates fill the remaining slots so that sparse regions stay connected.
+     */
+    private List<Neighbor> selectNeighbors(List<Neighbor> candidates, int limit) {
+        if (candidates.size() <= limit) {
+            return candidates;
+        }
+        List<Neighbor> selected = new ArrayList<>(limit);
+        List<Neighbor> pruned = new ArrayList<>();
+        for (Neighbor candidate : candidates) {
+            if (selected.size() >= limit) {
+                break;
+            }
+            boolean diverse = true;
+            for (Neighbor chosen : selected) {
+                if (distance(vectors[candidate.node()], vectors[chosen.node()]) < candidate.distance()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < limit; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private List<Neighbor> searchLayer(float[] query, List<Neighbor> entryPoints, int ef, int level,
+            IntPredicate accept) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Neighbor> candidates = new PriorityQueue<>(Neighbor.BY_DISTANCE);
+        PriorityQueue<Neighbor> results = new PriorityQueue<>(Neighbor.BY_DISTANCE.reversed());
+        for (Neighbor entry : entryPoints) {
+            if (visited.get(entry.node())) {
+                continue;
+            }
+            visited.set(entry.node());
+            candidates.add(entry);
+            if (accept == null || accept.test(entry.node())) {
+                results.add(entry);
+            }
+        }
+        while (!candidates.isEmpty()) {
+            Neighbor closest = candidates.poll();
+            if (results.size() >= ef && closest.distance() > results.peek().distance()) {
+                break;
+            }
+            int[] list = links[closest.node()][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int neighbor = list[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double d = distance(query, vectors[neighbor]);
+                if (results.size() < ef || d < results.peek().distance()) {
+                    Neighbor next = new Neighbor(neighbor, d);
+                    candidates.add(next);
+                    if (accept == null || accept.test(neighbor)) {
+                        results.add(next);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+        List<Neighbor> ordered = new ArrayList<>(results);
+        ordered.sort(Neighbor.BY_DISTANCE);
+        return ordered;
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnections0 : m;
+    }
+
+    private int randomLevel() {
+        double r = random.nextDouble();
+        return (int) Math.floor(-Math.log(Math.max(r, Double.MIN_NORMAL)) * levelMultiplier);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > vectors.length) {
+            int next = Math.max(capacity, vectors.length * 2);
+            vectors = Arrays.copyOf(vectors, next);
+            links = Arrays.copyOf(links, next);
+        }
+    }
+
+    /**
+     * Copies the vector and, for cosine, normalizes it so that distance is {@code 1 - dot}.
+     */
+    float[] prepare(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Vector dimension " + vector.length + " does not match " + dimension);
+        }
+        float[] copy = vector.clone();
+        if (metric == PgVectorDistanceMetric.COSINE) {
+            double norm = 0.0d;
+            for (float value : copy) {
+                norm += value * value;
+            }
+            if (norm > 0.0d) {
+                float scale = (float) (1.0d / Math.sqrt(norm));
+                for (int i = 0; i < copy.length; i++) {
+                    copy[i] *= scale;
+                }
+            }
+        }
+        return copy;
+    }
+
+    private double distance(float[] a, float[] b) {
+        switch (metric) {
+            case L2: {
+                double sum = 0.0d;
+                for (int i = 0; i < a.length; i++) {
+                    double diff = a[i] - b[i];
+                    sum += diff * diff;
+                }
+                return Math.sqrt(sum);
+            }
+            case INNER_PRODUCT:
+                return -dot(a, b);
+            case COSINE:
+            default:
+                return 1.0d - dot(a, b);
+        }
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0.0d;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    record Neighbor(int node, double distance) {
+
+        static final Comparator<Neighbor> BY_DISTANCE = Comparator.comparingDouble(Neighbor::distance)
+                .thenComparingInt(Neighbor::node);
+    }
+}
@@ -0,0 +1,122 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory term index scored with BM25 ({@code k1 = 1.2}, {@code b = 0.75}).
+ * <p>
+ * Terms are lower-cased runs of letters and digits, so Hangul and Latin text are split the
+ * same way as PostgreSQL's {@code simple} configuration. Not thread-safe; callers guard it
+ * with the store lock.
+ */
+final class InvertedIndex {
+
+    private static final Pattern SPLIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2d;
+    private static final double B = 0.75d;
+
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    void add(int node, String text) {
+        Map<String, Integer> frequencies = frequencies(text);
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(node, entry.getValue());
+            length += entry.getValue();
+        }
+        lengths.put(node, length);
+        totalLength += length;
+    }
+
+    void remove(int node, String text) {
+        Integer length = lengths.remove(node);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        for (String term : frequencies(text).keySet()) {
+            Map<Integer, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(node);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    int documentCount() {
+        return lengths.size();
+    }
+
+    /**
+     * Returns up to {@code limit} nodes matching any query term, best BM25 score first.
+     */
+    List<Scored> search(String query, int limit, IntPredicate accept) {
+        Map<String, Integer> terms = frequencies(query);
+        if (terms.isEmpty() || lengths.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = (double) totalLength / lengths.size();
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : terms.keySet()) {
+            Map<Integer, Integer> list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            double idf = Math.log(1.0d + (lengths.size() - list.size() + 0.5d) / (list.size() + 0.5d));
+            for (Map.Entry<Integer, Integer> posting : list.entrySet()) {
+                int node = posting.getKey();
+                if (accept != null && !accept.test(node)) {
+                    continue;
+                }
+                double tf = posting.getValue();
+                double norm = tf + K1 * (1.0d - B + B * lengths.get(node) / averageLength);
+                scores.merge(node, idf * tf * (K1 + 1.0d) / norm, Double::sum);
+            }
+        }
+        PriorityQueue<Scored> top = new PriorityQueue<>(Scored.ASCENDING);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            top.add(new Scored(entry.getKey(), entry.getValue()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Scored> ordered = new ArrayList<>(top);
+        ordered.sort(Scored.ASCENDING.reversed());
+        return ordered;
+    }
+
+    static Map<String, Integer> frequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        if (text == null || text.isBlank()) {
+            return frequencies;
+        }
+        for (String token : SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    record Scored(int node, double score) {
+
+        static final Comparator<Scored> ASCENDING = Comparator.comparingDouble(Scored::score)
+                .thenComparing(Scored::node, Comparator.reverseOrder());
+    }
+}
@@ -42,11 +42,7 @@ public class SpringAiEmbeddingAdapter implements EmbeddingPort {
         List<EmbeddingVector> vectors = new ArrayList<>(response.getResults().size());
         for (int index = 0; index < response.getResults().size(); index++) {
             float[] raw = response.getResults().get(index).getOutput();
-            List<Double> values = new ArrayList<>(raw.length);
-            for (float value : raw) {
-                values.add((double) value);
-            }
-            vectors.add(new EmbeddingVector(request.texts().get(index), values));
+            vectors.add(new EmbeddingVector(request.texts().get(index), raw));
         }
         return new EmbeddingResponse(vectors);
     }
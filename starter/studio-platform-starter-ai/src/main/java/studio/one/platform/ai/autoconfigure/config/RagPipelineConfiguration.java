@@ -1,13 +1,19 @@
 package studio.one.platform.ai.autoconfigure.config;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -15,6 +21,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -27,6 +34,7 @@ import studio.one.platform.ai.core.chat.ChatPort;
 import studio.one.platform.ai.core.chunk.TextChunker;
 import studio.one.platform.ai.core.embedding.EmbeddingInputType;
 import studio.one.platform.ai.core.embedding.EmbeddingPort;
+import studio.one.platform.ai.core.embedding.FloatVector;
 import studio.one.platform.ai.core.rag.RagEmbeddingProfile;
 import studio.one.platform.ai.core.registry.AiProviderRegistry;
 import studio.one.platform.ai.core.vector.VectorStorePort;
@@ -39,9 +47,14 @@ import studio.one.platform.ai.service.pipeline.DefaultRagEmbeddingProfileResolve
 import studio.one.platform.ai.service.pipeline.DefaultRagIndexJobService;
 import studio.one.platform.ai.service.pipeline.InMemoryRagIndexJobRepository;
 import studio.one.platform.ai.service.pipeline.JdbcRagIndexJobRepository;
+import studio.one.platform.ai.service.pipeline.RagIndexJobClaimOptions;
+import studio.one.platform.ai.service.pipeline.RagIndexJobClaimWorker;
 import studio.one.platform.ai.service.pipeline.RagIndexJobRepository;
+import studio.one.platform.ai.service.pipeline.RagIndexJobQueueOptions;
+import studio.one.platform.ai.service.pipeline.RagIndexJobScheduler;
 import studio.one.platform.ai.service.pipeline.RagIndexJobService;
 import studio.one.platform.ai.service.pipeline.RagIndexJobSourceExecutor;
+import studio.one.platform.ai.service.pipeline.RagEmbeddingBatchOptions;
 import studio.one.platform.ai.service.pipeline.RagEmbeddingProfileResolver;
 import studio.one.platform.ai.service.pipeline.RagKeywordOptions;
 import studio.one.platform.ai.service.pipeline.RagPipelineDiagnosticsOptions;
@@ -81,7 +94,7 @@ public class RagPipelineConfiguration {
         }
 
         @Bean
-        public Cache<String, List<Double>> embeddingCache(RagPipelineProperties properties) {
+        public Cache<String, FloatVector> embeddingCache(RagPipelineProperties properties) {
 
                 I18n i18n = I18nUtils.resolve(i18nProvider);
                 log.info(LogUtils.format(i18n,  I18nKeys.AutoConfig.Feature.Service.DEPENDS_ON,
@@ -115,15 +128,30 @@ public class RagPipelineConfiguration {
                 return Retry.of("embedding", config);
         }
 
+        @Bean(name = "ragEmbeddingExecutor")
+        @ConditionalOnMissingBean(name = "ragEmbeddingExecutor")
+        Executor ragEmbeddingExecutor(RagPipelineProperties properties) {
+                ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+                int concurrency = Math.max(1, properties.getEmbedding().getMaxConcurrency());
+                executor.setThreadNamePrefix("rag-embedding-");
+                executor.setCorePoolSize(concurrency);
+                executor.setMaxPoolSize(concurrency);
+                executor.setQueueCapacity(concurrency * 16);
+                executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+                executor.initialize();
+                return executor;
+        }
+
         @Bean(name = { RagPipelineService.SERVICE_NAME, RagPipelineService.LEGACY_SERVICE_NAME })
         RagPipelineService ragPipelineService(EmbeddingPort embeddingPort, VectorStorePort vectorStorePort,
                         ObjectProvider<TextChunker> textChunkerProvider,
-                        Cache<String, List<Double>> embeddingCache, Retry embeddingRetry,
+                        Cache<String, FloatVector> embeddingCache, Retry embeddingRetry,
                         ObjectProvider<ChunkingOrchestrator> chunkingOrchestratorProvider,
                         ObjectProvider<KeywordExtractor> keywordExtractorProvider,
                         ObjectProvider<TextCleaner> textCleanerProvider,
                         RagPipelineProperties properties,
-                        RagEmbeddingProfileResolver embeddingProfileResolver) {
+                        RagEmbeddingProfileResolver embeddingProfileResolver,
+                        @Qualifier("ragEmbeddingExecutor") Executor ragEmbeddingExecutor) {
 
                 I18n i18n = I18nUtils.resolve(i18nProvider);
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS,
@@ -137,7 +165,9 @@ public class RagPipelineConfiguration {
                                 textCleanerProvider.getIfAvailable(), ragPipelineOptions(properties),
                                 ragPipelineDiagnosticsOptions(properties),
                                 ragKeywordOptions(properties),
-                                embeddingProfileResolver);
+                                embeddingProfileResolver,
+                                ragEmbeddingBatchOptions(properties),
+                                ragEmbeddingExecutor);
         }
 
         @Bean
@@ -161,8 +191,10 @@ public class RagPipelineConfiguration {
         @ConditionalOnBean(NamedParameterJdbcTemplate.class)
         @ConditionalOnMissingBean(RagIndexJobRepository.class)
         @ConditionalOnProperty(prefix = PropertyKeys.AI.PREFIX + ".pipeline.jobs", name = "repository", havingValue = "jdbc")
-        RagIndexJobRepository jdbcRagIndexJobRepository(NamedParameterJdbcTemplate template) {
-                return new JdbcRagIndexJobRepository(template);
+        RagIndexJobRepository jdbcRagIndexJobRepository(
+                        NamedParameterJdbcTemplate template,
+                        ObjectProvider<ObjectMapper> objectMapperProvider) {
+                return new JdbcRagIndexJobRepository(template, objectMapperProvider.getIfAvailable(ObjectMapper::new));
         }
 
         @Bean
@@ -171,16 +203,61 @@ public class RagPipelineConfiguration {
                 return new InMemoryRagIndexJobRepository();
         }
 
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean(RagIndexJobScheduler.class)
+        @ConditionalOnProperty(prefix = PropertyKeys.AI.PREFIX + ".pipeline.jobs.queue", name = "enabled", havingValue = "true", matchIfMissing = true)
+        RagIndexJobScheduler ragIndexJobScheduler(RagPipelineProperties properties) {
+                RagPipelineProperties.QueueProperties queue = properties.getJobs().getQueue();
+                return new RagIndexJobScheduler(new RagIndexJobQueueOptions(
+                                queue.getWorkers(),
+                                queue.getCapacity(),
+                                queue.getOfferTimeout(),
+                                queue.isVirtualThreads()));
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(RagIndexJobClaimOptions.class)
+        @ConditionalOnProperty(prefix = PropertyKeys.AI.PREFIX + ".pipeline.jobs.cluster", name = "enabled", havingValue = "true")
+        RagIndexJobClaimOptions ragIndexJobClaimOptions(RagPipelineProperties properties) {
+                RagPipelineProperties.ClusterProperties cluster = properties.getJobs().getCluster();
+                String nodeId = normalize(cluster.getNodeId());
+                return new RagIndexJobClaimOptions(
+                                nodeId == null ? defaultNodeId() : nodeId,
+                                cluster.getLeaseDuration(),
+                                cluster.getHeartbeatInterval(),
+                                cluster.getPollInterval(),
+                                cluster.getMaxAttempts());
+        }
+
         @Bean
         @ConditionalOnMissingBean(RagIndexJobService.class)
         RagIndexJobService ragIndexJobService(
                         RagIndexJobRepository ragIndexJobRepository,
                         RagPipelineService ragPipelineService,
-                        ObjectProvider<RagIndexJobSourceExecutor> sourceExecutors) {
+                        ObjectProvider<RagIndexJobSourceExecutor> sourceExecutors,
+                        ObjectProvider<RagIndexJobScheduler> schedulerProvider,
+                        ObjectProvider<RagIndexJobClaimOptions> claimOptionsProvider) {
                 return new DefaultRagIndexJobService(
                                 ragIndexJobRepository,
                                 ragPipelineService,
-                                sourceExecutors.orderedStream().toList());
+                                sourceExecutors.orderedStream().toList(),
+                                schedulerProvider.getIfAvailable(),
+                                claimOptionsProvider.getIfAvailable());
+        }
+
+        @Bean(initMethod = "start", destroyMethod = "close")
+        @ConditionalOnBean(RagIndexJobClaimOptions.class)
+        @ConditionalOnMissingBean(RagIndexJobClaimWorker.class)
+        RagIndexJobClaimWorker ragIndexJobClaimWorker(
+                        RagIndexJobRepository ragIndexJobRepository,
+                        RagIndexJobService ragIndexJobService,
+                        RagIndexJobScheduler ragIndexJobScheduler,
+                        RagIndexJobClaimOptions claimOptions) {
+                if (!(ragIndexJobService instanceof DefaultRagIndexJobService defaultService)) {
+                        throw new IllegalStateException("Clustered RAG index jobs require DefaultRagIndexJobService but found "
+                                        + ragIndexJobService.getClass().getName());
+                }
+                return new RagIndexJobClaimWorker(ragIndexJobRepository, defaultService, ragIndexJobScheduler, claimOptions);
         }
 
         @Bean
@@ -247,6 +324,16 @@ public class RagPipelineConfiguration {
                 return value == null || value.isBlank() ? null : value.trim();
         }
 
+        private String defaultNodeId() {
+                String host;
+                try {
+                        host = InetAddress.getLocalHost().getHostName();
+                } catch (UnknownHostException ex) {
+                        host = "node";
+                }
+                return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+
         private RagPipelineOptions ragPipelineOptions(RagPipelineProperties properties) {
                 RagPipelineProperties.RetrievalProperties retrieval = properties.getRetrieval();
                 RagPipelineProperties.ObjectScopeProperties objectScope = properties.getObjectScope();
@@ -260,6 +347,15 @@ public class RagPipelineConfiguration {
                                 objectScope.getMaxListLimit());
         }
 
+        private RagEmbeddingBatchOptions ragEmbeddingBatchOptions(RagPipelineProperties properties) {
+                RagPipelineProperties.EmbeddingProperties embedding = properties.getEmbedding();
+                return new RagEmbeddingBatchOptions(
+                                embedding.getBatchSize(),
+                                embedding.getMaxConcurrency(),
+                                embedding.getRequestsPerSecond(),
+                                embedding.getRateLimitTimeout());
+        }
+
         private RagPipelineDiagnosticsOptions ragPipelineDiagnosticsOptions(RagPipelineProperties properties) {
                 RagPipelineProperties.DiagnosticsProperties diagnostics = properties.getDiagnostics();
                 return new RagPipelineDiagnosticsOptions(
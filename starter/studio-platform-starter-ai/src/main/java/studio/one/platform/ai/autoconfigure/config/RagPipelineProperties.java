@@ -3,6 +3,9 @@ package studio.one.platform.ai.autoconfigure.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import studio.one.platform.constant.PropertyKeys;
+import studio.one.platform.ai.service.pipeline.RagEmbeddingBatchOptions;
+import studio.one.platform.ai.service.pipeline.RagIndexJobClaimOptions;
+import studio.one.platform.ai.service.pipeline.RagIndexJobQueueOptions;
 import studio.one.platform.ai.service.pipeline.RagPipelineDiagnosticsOptions;
 import studio.one.platform.ai.service.pipeline.RagKeywordOptions;
 import studio.one.platform.ai.service.pipeline.RagPipelineOptions;
@@ -19,6 +22,7 @@ public class RagPipelineProperties {
     private int chunkOverlap = 50;
     private final CacheProperties cache = new CacheProperties();
     private final RetryProperties retry = new RetryProperties();
+    private final EmbeddingProperties embedding = new EmbeddingProperties();
     private final RetrievalProperties retrieval = new RetrievalProperties();
     private final ObjectScopeProperties objectScope = new ObjectScopeProperties();
     private final CleanerProperties cleaner = new CleanerProperties();
@@ -80,6 +84,10 @@ public class RagPipelineProperties {
         return retry;
     }
 
+    public EmbeddingProperties getEmbedding() {
+        return embedding;
+    }
+
     public RetrievalProperties getRetrieval() {
         return retrieval;
     }
@@ -127,6 +135,8 @@ public class RagPipelineProperties {
 
     public static class JobProperties {
         private String repository = "memory";
+        private final QueueProperties queue = new QueueProperties();
+        private final ClusterProperties cluster = new ClusterProperties();
 
         public String getRepository() {
             return repository;
@@ -135,6 +145,119 @@ public class RagPipelineProperties {
         public void setRepository(String repository) {
             this.repository = repository;
         }
+
+        public QueueProperties getQueue() {
+            return queue;
+        }
+
+        public ClusterProperties getCluster() {
+            return cluster;
+        }
+    }
+
+    public static class QueueProperties {
+        private boolean enabled = true;
+        private int workers = RagIndexJobQueueOptions.DEFAULT_WORKERS;
+        private int capacity = RagIndexJobQueueOptions.DEFAULT_CAPACITY;
+        private Duration offerTimeout = RagIndexJobQueueOptions.DEFAULT_OFFER_TIMEOUT;
+        private boolean virtualThreads = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getOfferTimeout() {
+            return offerTimeout;
+        }
+
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+    }
+
+    public static class ClusterProperties {
+        private boolean enabled = false;
+        private String nodeId;
+        private Duration leaseDuration = RagIndexJobClaimOptions.DEFAULT_LEASE_DURATION;
+        private Duration heartbeatInterval = RagIndexJobClaimOptions.DEFAULT_HEARTBEAT_INTERVAL;
+        private Duration pollInterval = RagIndexJobClaimOptions.DEFAULT_POLL_INTERVAL;
+        private int maxAttempts = RagIndexJobClaimOptions.DEFAULT_MAX_ATTEMPTS;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        public void setNodeId(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public Duration getLeaseDuration() {
+            return leaseDuration;
+        }
+
+        public void setLeaseDuration(Duration leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
     }
 
     public static class RetryProperties {
@@ -158,6 +281,45 @@ public class RagPipelineProperties {
         }
     }
 
+    public static class EmbeddingProperties {
+        private int batchSize = RagEmbeddingBatchOptions.DEFAULT_BATCH_SIZE;
+        private int maxConcurrency = RagEmbeddingBatchOptions.DEFAULT_MAX_CONCURRENCY;
+        private int requestsPerSecond = RagEmbeddingBatchOptions.DEFAULT_REQUESTS_PER_SECOND;
+        private Duration rateLimitTimeout = RagEmbeddingBatchOptions.DEFAULT_RATE_LIMIT_TIMEOUT;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public int getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public Duration getRateLimitTimeout() {
+            return rateLimitTimeout;
+        }
+
+        public void setRateLimitTimeout(Duration rateLimitTimeout) {
+            this.rateLimitTimeout = rateLimitTimeout;
+        }
+    }
+
     public static class RetrievalProperties {
         private double vectorWeight = RagPipelineOptions.DEFAULT_VECTOR_WEIGHT;
         private double lexicalWeight = RagPipelineOptions.DEFAULT_LEXICAL_WEIGHT;
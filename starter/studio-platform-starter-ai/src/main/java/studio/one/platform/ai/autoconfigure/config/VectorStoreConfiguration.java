@@ -3,16 +3,20 @@ package studio.one.platform.ai.autoconfigure.config;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.ai.adapters.vector.PgVectorIndexManager;
 import studio.one.platform.ai.adapters.vector.PgVectorStoreAdapterV2;
+import studio.one.platform.ai.adapters.vector.embedded.EmbeddedVectorStore;
 import studio.one.platform.ai.core.vector.VectorStorePort;
 import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.component.State;
+import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.service.I18n;
 import studio.one.platform.util.I18nUtils;
 import studio.one.platform.util.LogUtils;
@@ -25,7 +29,10 @@ public class VectorStoreConfiguration {
     @Bean
     @ConditionalOnMissingBean(VectorStorePort.class)
     @ConditionalOnBean(JdbcTemplate.class)
-    public VectorStorePort vectorStorePort(JdbcTemplate jdbcTemplate, ObjectProvider<I18n> i18nProvider) {
+    @ConditionalOnProperty(prefix = PropertyKeys.AI.PREFIX + ".vector", name = "type", havingValue = "pgvector",
+            matchIfMissing = true)
+    public PgVectorStoreAdapterV2 vectorStorePort(JdbcTemplate jdbcTemplate, VectorStoreProperties properties,
+            ObjectProvider<I18n> i18nProvider) {
 
         I18n i18n = I18nUtils.resolve(i18nProvider);
         log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DEPENDS_ON,
@@ -34,6 +41,55 @@ public class VectorStoreConfiguration {
                 LogUtils.green(PgVectorStoreAdapterV2.class, true),
                 LogUtils.red(State.CREATED.toString())));
 
-        return new PgVectorStoreAdapterV2(jdbcTemplate);
+        VectorStoreProperties.PostgresProperties postgres = properties.getPostgres();
+        PgVectorStoreAdapterV2 adapter = new PgVectorStoreAdapterV2(jdbcTemplate);
+        adapter.setDistanceMetric(postgres.getMetric());
+        adapter.setDefaultEfSearch(postgres.getEfSearch());
+        adapter.setDefaultProbes(postgres.getProbes());
+        VectorStoreProperties.HybridProperties hybrid = postgres.getHybrid();
+        adapter.setHybridFusion(hybrid.getFusion());
+        adapter.setHybridCandidates(hybrid.getCandidateMultiplier(), hybrid.getMinCandidates());
+        adapter.setRrfK(hybrid.getRrfK());
+        VectorStoreProperties.QuantizationProperties quantization = postgres.getQuantization();
+        adapter.setQuantization(quantization.getMode(), quantization.getDimension(),
+                quantization.getRerankMultiplier());
+        return adapter;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean(VectorStorePort.class)
+    @ConditionalOnProperty(prefix = PropertyKeys.AI.PREFIX + ".vector", name = "type", havingValue = "embedded")
+    public EmbeddedVectorStore embeddedVectorStore(VectorStoreProperties properties,
+            ObjectProvider<I18n> i18nProvider) {
+
+        I18n i18n = I18nUtils.resolve(i18nProvider);
+        log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DEPENDS_ON,
+                AiProviderRegistryConfiguration.FEATURE_NAME,
+                LogUtils.blue(VectorStorePort.class, true),
+                LogUtils.green(EmbeddedVectorStore.class, true),
+                LogUtils.red(State.CREATED.toString())));
+
+        VectorStoreProperties.EmbeddedProperties embedded = properties.getEmbedded();
+        EmbeddedVectorStore store = new EmbeddedVectorStore(embedded.toOptions());
+        VectorStoreProperties.HybridProperties hybrid = embedded.getHybrid();
+        store.setHybridCandidates(hybrid.getCandidateMultiplier(), hybrid.getMinCandidates());
+        return store;
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnBean({ JdbcTemplate.class, PgVectorStoreAdapterV2.class })
+    @ConditionalOnMissingBean(PgVectorIndexManager.class)
+    @ConditionalOnProperty(prefix = PropertyKeys.AI.PREFIX + ".vector.postgres.index", name = "verify-on-startup",
+            havingValue = "true", matchIfMissing = true)
+    public PgVectorIndexManager pgVectorIndexManager(JdbcTemplate jdbcTemplate, VectorStoreProperties properties,
+            PgVectorStoreAdapterV2 vectorStore) {
+        VectorStoreProperties.PostgresProperties postgres = properties.getPostgres();
+        VectorStoreProperties.IndexProperties index = postgres.getIndex();
+        PgVectorIndexManager manager = new PgVectorIndexManager(jdbcTemplate, postgres.getMetric(), index.getType(),
+                index.getLists(), index.getM(), index.getEfConstruction());
+        manager.setCreateOnStartup(index.isCreateOnStartup());
+        manager.setQuantization(postgres.getQuantization().getMode(), postgres.getQuantization().getDimension());
+        manager.setActiveIndexListener(vectorStore::setAnnIndexType);
+        return manager;
     }
 }
@@ -1,21 +1,68 @@
 package studio.one.platform.ai.autoconfigure.config;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+import studio.one.platform.ai.adapters.vector.PgVectorIndexManager;
+import studio.one.platform.ai.adapters.vector.PgVectorQuantization;
+import studio.one.platform.ai.adapters.vector.PgVectorStoreAdapterV2;
+import studio.one.platform.ai.adapters.vector.embedded.EmbeddedVectorStoreOptions;
 import studio.one.platform.constant.PropertyKeys;
 
 @ConfigurationProperties(prefix = PropertyKeys.AI.PREFIX + ".vector")
 public class VectorStoreProperties {
 
+    /** 사용할 VectorStorePort 구현. */
+    private Type type = Type.PGVECTOR;
+
     private final PostgresProperties postgres = new PostgresProperties();
 
+    private final EmbeddedProperties embedded = new EmbeddedProperties();
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
     public PostgresProperties getPostgres() {
         return postgres;
     }
 
+    public EmbeddedProperties getEmbedded() {
+        return embedded;
+    }
+
+    public enum Type {
+        /** PostgreSQL + pgvector ({@code tb_ai_document_chunk}). */
+        PGVECTOR,
+        /** 프로세스 내 HNSW 인덱스와 로컬 스냅샷. */
+        EMBEDDED
+    }
+
     public static class PostgresProperties {
         private String textSearchConfig = "simple";
 
+        /** 검색 거리 metric. 쿼리 연산자와 인덱스 opclass 를 함께 결정한다. */
+        private PgVectorDistanceMetric metric = PgVectorDistanceMetric.COSINE;
+
+        /** 요청에 값이 없을 때 사용할 hnsw.ef_search. 비어 있으면 서버 기본값을 쓴다. */
+        private Integer efSearch;
+
+        /** 요청에 값이 없을 때 사용할 ivfflat.probes. 비어 있으면 서버 기본값을 쓴다. */
+        private Integer probes;
+
+        private final IndexProperties index = new IndexProperties();
+
+        private final HybridProperties hybrid = new HybridProperties();
+
+        private final QuantizationProperties quantization = new QuantizationProperties();
+
         public String getTextSearchConfig() {
             return textSearchConfig;
         }
@@ -23,5 +70,283 @@ public class VectorStoreProperties {
         public void setTextSearchConfig(String textSearchConfig) {
             this.textSearchConfig = textSearchConfig;
         }
+
+        public PgVectorDistanceMetric getMetric() {
+            return metric;
+        }
+
+        public void setMetric(PgVectorDistanceMetric metric) {
+            this.metric = metric;
+        }
+
+        public Integer getEfSearch() {
+            return efSearch;
+        }
+
+        public void setEfSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+        }
+
+        public Integer getProbes() {
+            return probes;
+        }
+
+        public void setProbes(Integer probes) {
+            this.probes = probes;
+        }
+
+        public IndexProperties getIndex() {
+            return index;
+        }
+
+        public HybridProperties getHybrid() {
+            return hybrid;
+        }
+
+        public QuantizationProperties getQuantization() {
+            return quantization;
+        }
+    }
+
+    public static class QuantizationProperties {
+        /** 1차 후보 검색에 사용할 압축 표현. {@code none}이면 전체 정밀도로 검색한다. */
+        private PgVectorQuantization mode = PgVectorQuantization.NONE;
+
+        /** {@code embedding} 컬럼 차원. 표현식 인덱스와 쿼리의 캐스트에 사용된다. */
+        private int dimension = 768;
+
+        /** 정확한 거리로 다시 정렬할 후보 수 배수({@code limit * rerank-multiplier}). */
+        private int rerankMultiplier = 4;
+
+        public PgVectorQuantization getMode() {
+            return mode;
+        }
+
+        public void setMode(PgVectorQuantization mode) {
+            this.mode = mode;
+        }
+
+        public int getDimension() {
+            return dimension;
+        }
+
+        public void setDimension(int dimension) {
+            this.dimension = dimension;
+        }
+
+        public int getRerankMultiplier() {
+            return rerankMultiplier;
+        }
+
+        public void setRerankMultiplier(int rerankMultiplier) {
+            this.rerankMultiplier = rerankMultiplier;
+        }
+    }
+
+    public static class EmbeddedProperties {
+        /** 스냅샷 디렉터리. 비어 있으면 메모리에만 유지한다. */
+        private String directory;
+
+        private PgVectorDistanceMetric metric = PgVectorDistanceMetric.COSINE;
+
+        private int m = EmbeddedVectorStoreOptions.DEFAULT_M;
+
+        private int efConstruction = EmbeddedVectorStoreOptions.DEFAULT_EF_CONSTRUCTION;
+
+        /** 요청에 값이 없을 때 사용할 후보 목록 크기. */
+        private int efSearch = EmbeddedVectorStoreOptions.DEFAULT_EF_SEARCH;
+
+        /** 삭제 표시된 노드 비율이 이 값을 넘으면 그래프를 다시 만든다. */
+        private double compactionThreshold = EmbeddedVectorStoreOptions.DEFAULT_COMPACTION_THRESHOLD;
+
+        /** 압축 점검과 변경분 스냅샷 주기. */
+        private Duration maintenanceInterval = EmbeddedVectorStoreOptions.DEFAULT_MAINTENANCE_INTERVAL;
+
+        private final HybridProperties hybrid = new HybridProperties();
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public PgVectorDistanceMetric getMetric() {
+            return metric;
+        }
+
+        public void setMetric(PgVectorDistanceMetric metric) {
+            this.metric = metric;
+        }
+
+        public int getM() {
+            return m;
+        }
+
+        public void setM(int m) {
+            this.m = m;
+        }
+
+        public int getEfConstruction() {
+            return efConstruction;
+        }
+
+        public void setEfConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+        }
+
+        public int getEfSearch() {
+            return efSearch;
+        }
+
+        public void setEfSearch(int efSearch) {
+            this.efSearch = efSearch;
+        }
+
+        public double getCompactionThreshold() {
+            return compactionThreshold;
+        }
+
+        public void setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+
+        public Duration getMaintenanceInterval() {
+            return maintenanceInterval;
+        }
+
+        public void setMaintenanceInterval(Duration maintenanceInterval) {
+            this.maintenanceInterval = maintenanceInterval;
+        }
+
+        public HybridProperties getHybrid() {
+            return hybrid;
+        }
+
+        public EmbeddedVectorStoreOptions toOptions() {
+            return new EmbeddedVectorStoreOptions(
+                    directory == null || directory.isBlank() ? null : Path.of(directory),
+                    metric,
+                    m,
+                    efConstruction,
+                    efSearch,
+                    compactionThreshold,
+                    maintenanceInterval,
+                    hybrid.getFusion(),
+                    hybrid.getRrfK());
+        }
+    }
+
+    public static class HybridProperties {
+        /** ANN 후보와 전문 검색 후보를 합치는 방식. */
+        private PgVectorStoreAdapterV2.HybridFusion fusion = PgVectorStoreAdapterV2.HybridFusion.RRF;
+
+        /** 단계별 후보 수 = max(topK * candidate-multiplier, min-candidates). */
+        private int candidateMultiplier = 4;
+
+        private int minCandidates = 50;
+
+        /** RRF 상수 k. 클수록 상위 순위의 영향이 줄어든다. */
+        private int rrfK = 60;
+
+        public PgVectorStoreAdapterV2.HybridFusion getFusion() {
+            return fusion;
+        }
+
+        public void setFusion(PgVectorStoreAdapterV2.HybridFusion fusion) {
+            this.fusion = fusion;
+        }
+
+        public int getCandidateMultiplier() {
+            return candidateMultiplier;
+        }
+
+        public void setCandidateMultiplier(int candidateMultiplier) {
+            this.candidateMultiplier = candidateMultiplier;
+        }
+
+        public int getMinCandidates() {
+            return minCandidates;
+        }
+
+        public void setMinCandidates(int minCandidates) {
+            this.minCandidates = minCandidates;
+        }
+
+        public int getRrfK() {
+            return rrfK;
+        }
+
+        public void setRrfK(int rrfK) {
+            this.rrfK = rrfK;
+        }
+    }
+
+    public static class IndexProperties {
+        private PgVectorIndexManager.IndexType type = PgVectorIndexManager.IndexType.IVFFLAT;
+
+        /** ivfflat lists. */
+        private int lists = 100;
+
+        /** hnsw m (노드당 최대 연결 수). */
+        private int m = 16;
+
+        /** hnsw ef_construction (빌드 시 후보 목록 크기). */
+        private int efConstruction = 64;
+
+        /** 시작 시 metric 과 맞는 인덱스가 없으면 생성한다. */
+        private boolean createOnStartup = false;
+
+        /** 시작 시 쿼리 연산자와 인덱스 opclass 가 맞는지 점검해 경고를 남긴다. */
+        private boolean verifyOnStartup = true;
+
+        public PgVectorIndexManager.IndexType getType() {
+            return type;
+        }
+
+        public void setType(PgVectorIndexManager.IndexType type) {
+            this.type = type;
+        }
+
+        public int getLists() {
+            return lists;
+        }
+
+        public void setLists(int lists) {
+            this.lists = lists;
+        }
+
+        public int getM() {
+            return m;
+        }
+
+        public void setM(int m) {
+            this.m = m;
+        }
+
+        public int getEfConstruction() {
+            return efConstruction;
+        }
+
+        public void setEfConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+        }
+
+        public boolean isCreateOnStartup() {
+            return createOnStartup;
+        }
+
+        public void setCreateOnStartup(boolean createOnStartup) {
+            this.createOnStartup = createOnStartup;
+        }
+
+        public boolean isVerifyOnStartup() {
+            return verifyOnStartup;
+        }
+
+        public void setVerifyOnStartup(boolean verifyOnStartup) {
+            this.verifyOnStartup = verifyOnStartup;
+        }
     }
 }
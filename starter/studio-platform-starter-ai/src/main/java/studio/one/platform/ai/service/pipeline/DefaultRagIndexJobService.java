@@ -11,6 +11,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 
 import studio.one.platform.ai.core.rag.RagIndexJob;
 import studio.one.platform.ai.core.rag.RagIndexJobCreateRequest;
@@ -20,10 +21,14 @@ import studio.one.platform.ai.core.rag.RagIndexJobLogCode;
 import studio.one.platform.ai.core.rag.RagIndexJobLogLevel;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPayload;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
 import studio.one.platform.ai.core.rag.RagIndexJobSourceRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
+import studio.one.platform.ai.core.vector.VectorRecord;
 
 public class DefaultRagIndexJobService implements RagIndexJobService {
 
@@ -35,6 +40,9 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
     private final ConcurrentMap<String, StoredRequest> requests = new ConcurrentHashMap<>();
     private final Queue<String> requestOrder = new ConcurrentLinkedQueue<>();
     private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Set<String> leasedJobs = ConcurrentHashMap.newKeySet();
+    private final RagIndexJobScheduler scheduler;
+    private final RagIndexJobClaimOptions claimOptions;
 
     public DefaultRagIndexJobService(
             RagIndexJobRepository repository,
@@ -46,9 +54,44 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
             RagIndexJobRepository repository,
             RagPipelineService ragPipelineService,
             List<RagIndexJobSourceExecutor> sourceExecutors) {
+        this(repository, ragPipelineService, sourceExecutors, null);
+    }
+
+    /**
+     * @param scheduler job queue used by {@link #submitJob} and {@link #submitRetry}; when {@code null}
+     *                  those methods are unsupported and callers must run jobs themselves
+     */
+    public DefaultRagIndexJobService(
+            RagIndexJobRepository repository,
+            RagPipelineService ragPipelineService,
+            List<RagIndexJobSourceExecutor> sourceExecutors,
+            RagIndexJobScheduler scheduler) {
+        this(repository, ragPipelineService, sourceExecutors, scheduler, null);
+    }
+
+    /**
+     * @param claimOptions enables clustered mode when not {@code null}: submitted jobs are enqueued in the
+     *                     shared repository and executed by whichever node claims them through a
+     *                     {@link RagIndexJobClaimWorker}, and synchronously started jobs hold a lease
+     */
+    public DefaultRagIndexJobService(
+            RagIndexJobRepository repository,
+            RagPipelineService ragPipelineService,
+            List<RagIndexJobSourceExecutor> sourceExecutors,
+            RagIndexJobScheduler scheduler,
+            RagIndexJobClaimOptions claimOptions) {
+        if (claimOptions != null && !repository.supportsClaiming()) {
+            throw new IllegalArgumentException("RAG index job repository does not support claiming: "
+                    + repository.getClass().getName());
+        }
+        if (claimOptions != null && scheduler == null) {
+            throw new IllegalArgumentException("Clustered RAG index jobs require a job scheduler");
+        }
         this.repository = repository;
         this.ragPipelineService = ragPipelineService;
         this.sourceExecutors = sourceExecutors == null ? List.of() : List.copyOf(sourceExecutors);
+        this.scheduler = scheduler;
+        this.claimOptions = claimOptions;
     }
 
     @Override
@@ -67,10 +110,10 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
                 request.documentId(),
                 request.sourceType(),
                 Instant.now());
-        requests.put(jobId, new StoredRequest(request, sourceRequest));
-        requestOrder.add(jobId);
-        evictStoredRequests();
-        return repository.save(job);
+        RagIndexJob saved = repository.save(job);
+        repository.saveRequest(jobId, new RagIndexJobPayload(request, sourceRequest));
+        storeRequest(jobId, new StoredRequest(request, sourceRequest));
+        return saved;
     }
 
     @Override
@@ -83,14 +126,57 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
             if (job.status() != RagIndexJobStatus.PENDING) {
                 throw new IllegalStateException("RAG index job can only be started from PENDING status: " + jobId);
             }
-            return runJob(jobId);
+            if (claimOptions == null) {
+                return runJob(jobId);
+            }
+            if (!repository.claim(jobId, claimOptions.nodeId(), claimOptions.leaseDuration())) {
+                throw new IllegalStateException("RAG index job is claimed by another node: " + jobId);
+            }
+            return runLeasedJob(jobId);
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * Runs a job this node has already claimed through {@link RagIndexJobRepository#claimNext}.
+     * The lease is released when the job finishes or if it is no longer pending.
+     */
+    RagIndexJob runClaimedJob(String jobId) {
+        if (!runningJobs.add(jobId)) {
+            throw new IllegalStateException("RAG index job is already running: " + jobId);
+        }
+        try {
+            RagIndexJob job = requireJob(jobId);
+            if (job.status() != RagIndexJobStatus.PENDING) {
+                repository.releaseLease(jobId, claimOptions.nodeId());
+                return job;
+            }
+            return runLeasedJob(jobId);
         } finally {
             runningJobs.remove(jobId);
         }
     }
 
+    /**
+     * Jobs whose lease is held by a job running on this node and must be renewed.
+     */
+    Set<String> leasedJobIds() {
+        return Set.copyOf(leasedJobs);
+    }
+
+    private RagIndexJob runLeasedJob(String jobId) {
+        leasedJobs.add(jobId);
+        try {
+            return runJob(jobId);
+        } finally {
+            leasedJobs.remove(jobId);
+            repository.releaseLease(jobId, claimOptions.nodeId());
+        }
+    }
+
     private RagIndexJob runJob(String jobId) {
-        StoredRequest storedRequest = requests.get(jobId);
+        StoredRequest storedRequest = storedRequest(jobId);
         RagIndexProgressListener listener = progressListener(jobId);
         listener.onStarted();
         if (isCancelled(jobId)) {
@@ -153,6 +239,9 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
     @Override
     public RagIndexJob cancelJob(String jobId) {
         RagIndexJob cancelled = repository.cancelJob(jobId, "RAG index job cancelled");
+        if (scheduler != null) {
+            scheduler.cancel(jobId);
+        }
         repository.appendLog(log(
                 jobId,
                 RagIndexJobLogLevel.INFO,
@@ -173,7 +262,7 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
             if (current.status() == RagIndexJobStatus.PENDING || current.status() == RagIndexJobStatus.RUNNING) {
                 throw new IllegalStateException("RAG index job cannot be retried while active: " + jobId);
             }
-            if (!requests.containsKey(jobId)) {
+            if (storedRequest(jobId) == null) {
                 throw new IllegalStateException("RAG index job request is no longer available for retry: " + jobId);
             }
             RagIndexJob job = current.resetForRetry(Instant.now());
@@ -191,6 +280,114 @@ public class DefaultRagIndexJobService implements RagIndexJobService {
         }
     }
 
+    @Override
+    public RagIndexJob submitJob(String jobId, RagIndexJobPriority priority) {
+        RagIndexJobScheduler jobScheduler = requireScheduler();
+        RagIndexJob job = requireJob(jobId);
+        if (job.status() != RagIndexJobStatus.PENDING) {
+            throw new IllegalStateException("RAG index job can only be started from PENDING status: " + jobId);
+        }
+        enqueue(jobScheduler, jobId, priority);
+        return job;
+    }
+
+    @Override
+    public RagIndexJob submitRetry(String jobId, RagIndexJobPriority priority) {
+        RagIndexJobScheduler jobScheduler = requireScheduler();
+        if (!runningJobs.add(jobId)) {
+            throw new IllegalStateException("RAG index job is already running: " + jobId);
+        }
+        RagIndexJob job;
+        try {
+            RagIndexJob current = requireJob(jobId);
+            if (current.status() == RagIndexJobStatus.PENDING || current.status() == RagIndexJobStatus.RUNNING) {
+                throw new IllegalStateException("RAG index job cannot be retried while active: " + jobId);
+            }
+            if (storedRequest(jobId) == null) {
+                throw new IllegalStateException("RAG index job request is no longer available for retry: " + jobId);
+            }
+            job = repository.save(current.resetForRetry(Instant.now()));
+            repository.appendLog(log(
+                    jobId,
+                    RagIndexJobLogLevel.INFO,
+                    null,
+                    RagIndexJobLogCode.RETRY_REQUESTED,
+                    "RAG index retry requested",
+                    null));
+        } finally {
+            runningJobs.remove(jobId);
+        }
+        enqueue(jobScheduler, jobId, priority);
+        return job;
+    }
+
+    @Override
+    public Optional<RagIndexJobQueueStats> queueStats() {
+        return scheduler == null ? Optional.empty() : Optional.of(scheduler.stats());
+    }
+
+    private void enqueue(RagIndexJobScheduler jobScheduler, String jobId, RagIndexJobPriority priority) {
+        if (claimOptions != null) {
+            // Clustered: any node with free workers claims the job from the shared repository.
+            repository.enqueue(jobId, priority);
+            return;
+        }
+        try {
+            jobScheduler.submit(jobId, tenant(storedRequest(jobId)), priority, () -> startJob(jobId));
+        } catch (RejectedExecutionException ex) {
+            progressListener(jobId).onError(
+                    null,
+                    RagIndexJobLogCode.UNKNOWN_ERROR,
+                    "RAG index job dispatch rejected",
+                    ex.getMessage());
+            throw ex;
+        }
+    }
+
+    private RagIndexJobScheduler requireScheduler() {
+        if (scheduler == null) {
+            throw new UnsupportedOperationException("RAG index job queue is not configured");
+        }
+        return scheduler;
+    }
+
+    private StoredRequest storedRequest(String jobId) {
+        StoredRequest storedRequest = requests.get(jobId);
+        if (storedRequest != null) {
+            return storedRequest;
+        }
+        // The job may have been created on another node or before a restart.
+        return repository.findRequest(jobId)
+                .map(payload -> {
+                    StoredRequest loaded = new StoredRequest(payload.request(), payload.sourceRequest());
+                    storeRequest(jobId, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    private void storeRequest(String jobId, StoredRequest storedRequest) {
+        if (requests.put(jobId, storedRequest) == null) {
+            requestOrder.add(jobId);
+        }
+        evictStoredRequests();
+    }
+
+    private String tenant(StoredRequest storedRequest) {
+        if (storedRequest == null) {
+            return null;
+        }
+        RagIndexJobCreateRequest request = storedRequest.request();
+        Object tenant = null;
+        if (request.indexRequest() != null && request.indexRequest().metadata() != null) {
+            tenant = request.indexRequest().metadata().get(VectorRecord.KEY_TENANT_ID);
+        }
+        if (tenant == null && storedRequest.sourceRequest() != null && storedRequest.sourceRequest().metadata() != null) {
+            tenant = storedRequest.sourceRequest().metadata().get(VectorRecord.KEY_TENANT_ID);
+        }
+        return tenant == null ? null : tenant.toString();
+    }
+
     @Override
     public Optional<RagIndexJob> getJob(String jobId) {
         return repository.findById(jobId);
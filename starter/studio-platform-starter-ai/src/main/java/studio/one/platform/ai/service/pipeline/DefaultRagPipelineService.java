@@ -4,12 +4,14 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HexFormat;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -21,9 +23,7 @@ import studio.one.platform.ai.core.MetadataFilter;
 import studio.one.platform.ai.core.chunk.TextChunker;
 import studio.one.platform.ai.core.embedding.EmbeddingInputType;
 import studio.one.platform.ai.core.embedding.EmbeddingPort;
-import studio.one.platform.ai.core.embedding.EmbeddingRequest;
-import studio.one.platform.ai.core.embedding.EmbeddingResponse;
-import studio.one.platform.ai.core.embedding.EmbeddingVector;
+import studio.one.platform.ai.core.embedding.FloatVector;
 import studio.one.platform.ai.core.rag.RagIndexRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
 import studio.one.platform.ai.core.rag.RagRetrievalDiagnostics;
@@ -48,8 +48,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     private final RagEmbeddingProfileResolver embeddingProfileResolver;
     private final VectorStorePort vectorStorePort;
     private final RagChunker ragChunker;
-    private final Cache<String, List<Double>> embeddingCache;
-    private final Retry retry;
+    private final RagEmbeddingBatcher embeddingBatcher;
     private final KeywordExtractor keywordExtractor;
     private final TextCleaner textCleaner;
     private final RagPipelineOptions options;
@@ -60,7 +59,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     public DefaultRagPipelineService(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -68,14 +67,15 @@ public class DefaultRagPipelineService implements RagPipelineService {
             RagPipelineDiagnosticsOptions diagnosticsOptions,
             RagKeywordOptions keywordOptions) {
         this(embeddingPort, vectorStorePort, createChunker(textChunker, null), embeddingCache, retry, keywordExtractor, textCleaner,
-                options, diagnosticsOptions, keywordOptions, new SinglePortRagEmbeddingProfileResolver(embeddingPort));
+                options, diagnosticsOptions, keywordOptions, new SinglePortRagEmbeddingProfileResolver(embeddingPort),
+                RagEmbeddingBatchOptions.defaults(), null);
     }
 
     public DefaultRagPipelineService(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
             ChunkingOrchestrator chunkingOrchestrator,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -84,27 +84,29 @@ public class DefaultRagPipelineService implements RagPipelineService {
             RagKeywordOptions keywordOptions) {
         this(embeddingPort, vectorStorePort, createChunker(textChunker, chunkingOrchestrator), embeddingCache, retry,
                 keywordExtractor, textCleaner, options, diagnosticsOptions, keywordOptions,
-                new SinglePortRagEmbeddingProfileResolver(embeddingPort));
+                new SinglePortRagEmbeddingProfileResolver(embeddingPort), RagEmbeddingBatchOptions.defaults(), null);
     }
 
     private DefaultRagPipelineService(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             RagChunker ragChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
             RagPipelineOptions options,
             RagPipelineDiagnosticsOptions diagnosticsOptions,
             RagKeywordOptions keywordOptions,
-            RagEmbeddingProfileResolver embeddingProfileResolver) {
+            RagEmbeddingProfileResolver embeddingProfileResolver,
+            RagEmbeddingBatchOptions batchOptions,
+            Executor embeddingExecutor) {
 
         this.embeddingPort = Objects.requireNonNull(embeddingPort, "embeddingPort");
         this.embeddingProfileResolver = Objects.requireNonNull(embeddingProfileResolver, "embeddingProfileResolver");
         this.vectorStorePort = Objects.requireNonNull(vectorStorePort, "vectorStorePort");
         this.ragChunker = Objects.requireNonNull(ragChunker, "ragChunker");
-        this.embeddingCache = Objects.requireNonNull(embeddingCache, "embeddingCache");
-        this.retry = Objects.requireNonNull(retry, "retry");
+        this.embeddingBatcher = new RagEmbeddingBatcher(embeddingCache, retry,
+                Objects.requireNonNull(batchOptions, "batchOptions"), embeddingExecutor);
         this.keywordExtractor = keywordExtractor;
         this.textCleaner = textCleaner;
         this.options = Objects.requireNonNull(options, "options");
@@ -115,7 +117,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     public static DefaultRagPipelineService create(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor) {
         return create(embeddingPort, vectorStorePort, textChunker, embeddingCache, retry, keywordExtractor,
@@ -126,7 +128,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     public static DefaultRagPipelineService create(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             RagPipelineOptions options) {
@@ -137,7 +139,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     public static DefaultRagPipelineService create(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -149,7 +151,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     static DefaultRagPipelineService create(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -162,7 +164,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     public static DefaultRagPipelineService create(EmbeddingPort embeddingPort,
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -178,7 +180,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
             ChunkingOrchestrator chunkingOrchestrator,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -194,7 +196,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
             VectorStorePort vectorStorePort,
             TextChunker textChunker,
             ChunkingOrchestrator chunkingOrchestrator,
-            Cache<String, List<Double>> embeddingCache,
+            Cache<String, FloatVector> embeddingCache,
             Retry retry,
             KeywordExtractor keywordExtractor,
             TextCleaner textCleaner,
@@ -202,9 +204,35 @@ public class DefaultRagPipelineService implements RagPipelineService {
             RagPipelineDiagnosticsOptions diagnosticsOptions,
             RagKeywordOptions keywordOptions,
             RagEmbeddingProfileResolver embeddingProfileResolver) {
+        return create(embeddingPort, vectorStorePort, textChunker, chunkingOrchestrator, embeddingCache, retry,
+                keywordExtractor, textCleaner, options, diagnosticsOptions, keywordOptions, embeddingProfileResolver,
+                RagEmbeddingBatchOptions.defaults(), null);
+    }
+
+    /**
+     * Creates a pipeline whose embedding stage groups cache misses into batches of
+     * {@link RagEmbeddingBatchOptions#batchSize()} and runs up to
+     * {@link RagEmbeddingBatchOptions#maxConcurrency()} batches on
+     * {@code embeddingExecutor}. A {@code null} executor embeds batches on the
+     * calling thread.
+     */
+    public static DefaultRagPipelineService create(EmbeddingPort embeddingPort,
+            VectorStorePort vectorStorePort,
+            TextChunker textChunker,
+            ChunkingOrchestrator chunkingOrchestrator,
+            Cache<String, FloatVector> embeddingCache,
+            Retry retry,
+            KeywordExtractor keywordExtractor,
+            TextCleaner textCleaner,
+            RagPipelineOptions options,
+            RagPipelineDiagnosticsOptions diagnosticsOptions,
+            RagKeywordOptions keywordOptions,
+            RagEmbeddingProfileResolver embeddingProfileResolver,
+            RagEmbeddingBatchOptions batchOptions,
+            Executor embeddingExecutor) {
         return new DefaultRagPipelineService(embeddingPort, vectorStorePort, createChunker(textChunker, chunkingOrchestrator),
                 embeddingCache, retry, keywordExtractor, textCleaner, options, diagnosticsOptions, keywordOptions,
-                embeddingProfileResolver);
+                embeddingProfileResolver, batchOptions, embeddingExecutor);
     }
 
     private static RagChunker createChunker(TextChunker textChunker, ChunkingOrchestrator chunkingOrchestrator) {
@@ -244,17 +272,23 @@ public class DefaultRagPipelineService implements RagPipelineService {
             baseMetadata.put("keywords", documentKeywords);
             baseMetadata.put("keywordsText", String.join(" ", documentKeywords));
         }
-        int order = 0;
+        String objectType = RagChunkingMetadata.normalizeObjectScope(baseMetadata.get("objectType"));
+        String objectId = RagChunkingMetadata.normalizeObjectScope(baseMetadata.get("objectId"));
+        RagIndexDelta delta = objectType != null && objectId != null && !chunks.isEmpty()
+                ? RagIndexDelta.of(vectorStorePort.listDocumentsByObject(objectType, objectId))
+                : RagIndexDelta.empty();
         progress.onStep(RagIndexJobStep.EMBEDDING);
-        for (RagPipelineChunk chunk : chunks) {
+        List<ResolvedRagEmbedding> resolvedEmbeddings = new ArrayList<>(chunks.size());
+        List<String> contentHashes = new ArrayList<>(chunks.size());
+        List<Map<String, Object>> chunkMetadata = new ArrayList<>(chunks.size());
+        for (int order = 0; order < chunks.size(); order++) {
+            RagPipelineChunk chunk = chunks.get(order);
             ResolvedRagEmbedding resolvedEmbedding = resolveEmbedding(request, chunk);
-            List<Double> embedding = embedWithCache(chunk.content(), resolvedEmbedding);
+            String contentHash = contentHash(chunk.content());
             Map<String, Object> metadata = new HashMap<>(baseMetadata);
             mergeChunkMetadata(metadata, chunk.metadata());
             metadata.putAll(resolvedEmbedding.metadata());
-            List<String> chunkKeywords = keywordOptions.scope().includesChunk()
-                    ? resolveChunkKeywords(request, chunk.content())
-                    : List.of();
+            List<String> chunkKeywords = resolveChunkKeywords(request, chunk.content(), contentHash, delta);
             if (!chunkKeywords.isEmpty()) {
                 metadata.put("chunkKeywords", chunkKeywords);
                 metadata.put("chunkKeywordsText", String.join(" ", chunkKeywords));
@@ -264,18 +298,29 @@ public class DefaultRagPipelineService implements RagPipelineService {
             metadata.put("chunkOrder", order);
             metadata.put(VectorRecord.KEY_CHUNK_INDEX, order);
             metadata.put("chunkLength", chunk.content().length());
-            records.add(vectorRecord(request.documentId(), chunk, metadata, embedding));
-            progress.onEmbeddedCount(records.size());
-            order++;
+            resolvedEmbeddings.add(resolvedEmbedding);
+            contentHashes.add(contentHash);
+            chunkMetadata.add(metadata);
+        }
+        List<FloatVector> embeddings = embed(chunks, resolvedEmbeddings, contentHashes, chunkMetadata, delta,
+                progress);
+        for (int order = 0; order < chunks.size(); order++) {
+            records.add(vectorRecord(request.documentId(), chunks.get(order), contentHashes.get(order),
+                    chunkMetadata.get(order), embeddings.get(order)));
         }
-        String objectType = RagChunkingMetadata.normalizeObjectScope(baseMetadata.get("objectType"));
-        String objectId = RagChunkingMetadata.normalizeObjectScope(baseMetadata.get("objectId"));
         progress.onStep(RagIndexJobStep.INDEXING);
         if (objectType != null && objectId != null) {
             if (records.isEmpty()) {
                 vectorStorePort.deleteByObject(objectType, objectId);
-            } else {
+            } else if (delta.isEmpty()) {
                 vectorStorePort.replaceRecordsByObject(objectType, objectId, records);
+            } else {
+                List<VectorRecord> changed = delta.changed(objectType, objectId, records);
+                if (!changed.isEmpty() || delta.hasChunksFrom(records.size())) {
+                    vectorStorePort.updateRecordsByObject(objectType, objectId, changed, records.size());
+                }
+                log.debug("Incrementally indexed {}/{}: {} of {} chunks written",
+                        objectType, objectId, changed.size(), records.size());
             }
         } else if (!records.isEmpty()) {
             vectorStorePort.upsertAll(records);
@@ -283,21 +328,68 @@ public class DefaultRagPipelineService implements RagPipelineService {
         progress.onIndexedCount(records.size());
     }
 
+    /**
+     * Embeds the chunks, reusing the stored embedding of chunks whose content and embedding
+     * profile did not change since the object was last indexed. Reused chunks are reported as
+     * embedded before the remaining ones are sent to the provider.
+     */
+    private List<FloatVector> embed(
+            List<RagPipelineChunk> chunks,
+            List<ResolvedRagEmbedding> resolvedEmbeddings,
+            List<String> contentHashes,
+            List<Map<String, Object>> chunkMetadata,
+            RagIndexDelta delta,
+            RagIndexProgressListener progress) {
+        if (delta.isEmpty()) {
+            return embeddingBatcher.embedAll(
+                    chunks.stream().map(RagPipelineChunk::content).toList(),
+                    resolvedEmbeddings,
+                    progress::onEmbeddedCount);
+        }
+        List<FloatVector> embeddings = new ArrayList<>(Collections.nCopies(chunks.size(), null));
+        List<Integer> pending = new ArrayList<>();
+        for (int order = 0; order < chunks.size(); order++) {
+            Map<String, Object> metadata = chunkMetadata.get(order);
+            FloatVector reused = delta.reusableEmbedding(contentHashes.get(order), metadata, embeddingModel(metadata));
+            if (reused == null) {
+                pending.add(order);
+            } else {
+                embeddings.set(order, reused);
+            }
+        }
+        int reusedCount = chunks.size() - pending.size();
+        if (reusedCount > 0) {
+            progress.onEmbeddedCount(reusedCount);
+        }
+        if (!pending.isEmpty()) {
+            List<FloatVector> embedded = embeddingBatcher.embedAll(
+                    pending.stream().map(order -> chunks.get(order).content()).toList(),
+                    pending.stream().map(resolvedEmbeddings::get).toList(),
+                    count -> progress.onEmbeddedCount(reusedCount + count));
+            for (int i = 0; i < pending.size(); i++) {
+                embeddings.set(pending.get(i), embedded.get(i));
+            }
+        }
+        log.debug("Reused {} stored embeddings, embedded {} chunks", reusedCount, pending.size());
+        return embeddings;
+    }
+
     private VectorRecord vectorRecord(
             String documentId,
             RagPipelineChunk chunk,
+            String contentHash,
             Map<String, Object> metadata,
-            List<Double> embedding) {
+            FloatVector embedding) {
         return VectorRecord.builder()
                 .id(chunk.id())
                 .documentId(documentId)
                 .chunkId(chunk.id())
                 .parentChunkId(text(metadata.get(VectorRecord.KEY_PARENT_CHUNK_ID)))
-                .contentHash(contentHash(chunk.content()))
+                .contentHash(contentHash)
                 .text(chunk.content())
                 .embedding(embedding)
                 .embeddingModel(embeddingModel(metadata))
-                .embeddingDimension(embedding.size())
+                .embeddingDimension(embedding.dimension())
                 .chunkType(text(metadata.get(VectorRecord.KEY_CHUNK_TYPE)))
                 .headingPath(text(firstPresent(metadata, VectorRecord.KEY_HEADING_PATH, ChunkMetadata.KEY_SECTION)))
                 .sourceRef(text(firstPresent(metadata,
@@ -387,7 +479,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
             return searchObjectScope(request, filter);
         }
         ResolvedRagEmbedding resolvedEmbedding = resolveEmbedding(request);
-        List<Double> queryEmbedding = embedWithCache(request.query(), resolvedEmbedding);
+        FloatVector queryEmbedding = embedWithCache(request.query(), resolvedEmbedding);
         VectorSearchRequest searchRequest = new VectorSearchRequest(
                 queryEmbedding,
                 request.topK(),
@@ -415,7 +507,7 @@ public class DefaultRagPipelineService implements RagPipelineService {
     private List<RagSearchResult> searchObjectScope(RagSearchRequest request, MetadataFilter filter) {
         ResolvedRagEmbedding resolvedEmbedding = resolveEmbedding(request);
         MetadataFilter searchFilter = embeddingFilter(filter, resolvedEmbedding, hasEmbeddingSelection(request));
-        List<Double> queryEmbedding = embedWithCache(request.query(), resolvedEmbedding);
+        FloatVector queryEmbedding = embedWithCache(request.query(), resolvedEmbedding);
         VectorSearchRequest searchRequest = new VectorSearchRequest(
                 queryEmbedding,
                 request.topK(),
@@ -480,26 +572,12 @@ public class DefaultRagPipelineService implements RagPipelineService {
                 : Optional.empty();
     }
 
-    private List<Double> embedWithCache(String text) {
+    private FloatVector embedWithCache(String text) {
         return embedWithCache(text, resolveLegacyEmbedding());
     }
 
-    private List<Double> embedWithCache(String text, ResolvedRagEmbedding resolvedEmbedding) {
-        String cacheKey = embeddingCacheKey(text, resolvedEmbedding);
-        List<Double> cached = embeddingCache.getIfPresent(cacheKey);
-        if (cached != null) {
-            return cached;
-        }
-        EmbeddingResponse response = executeEmbedding(List.of(text), resolvedEmbedding);
-        EmbeddingVector vector = response.vectors().get(0);
-        List<Double> values = List.copyOf(vector.values());
-        embeddingCache.put(cacheKey, values);
-        return values;
-    }
-
-    private EmbeddingResponse executeEmbedding(List<String> texts, ResolvedRagEmbedding resolvedEmbedding) {
-        Supplier<EmbeddingResponse> supplier = () -> resolvedEmbedding.embeddingPort().embed(resolvedEmbedding.request(texts));
-        return Retry.decorateSupplier(retry, supplier).get();
+    private FloatVector embedWithCache(String text, ResolvedRagEmbedding resolvedEmbedding) {
+        return embeddingBatcher.embed(text, resolvedEmbedding);
     }
 
     private ResolvedRagEmbedding resolveLegacyEmbedding() {
@@ -558,15 +636,6 @@ public class DefaultRagPipelineService implements RagPipelineService {
                 || request.embeddingModel() != null;
     }
 
-    private String embeddingCacheKey(String text, ResolvedRagEmbedding resolvedEmbedding) {
-        return String.join("|",
-                text == null ? "" : text,
-                resolvedEmbedding.profileId() == null ? "" : resolvedEmbedding.profileId(),
-                resolvedEmbedding.provider() == null ? "" : resolvedEmbedding.provider(),
-                resolvedEmbedding.model() == null ? "" : resolvedEmbedding.model(),
-                resolvedEmbedding.inputType().name());
-    }
-
     private EmbeddingInputType embeddingInputType(Map<String, Object> metadata) {
         if (metadata == null) {
             return EmbeddingInputType.TEXT;
@@ -605,10 +674,20 @@ public class DefaultRagPipelineService implements RagPipelineService {
         }
     }
 
-    private List<String> resolveChunkKeywords(RagIndexRequest request, String chunkText) {
-        if (!request.useLlmKeywordExtraction() || keywordExtractor == null) {
+    private List<String> resolveChunkKeywords(
+            RagIndexRequest request,
+            String chunkText,
+            String contentHash,
+            RagIndexDelta delta) {
+        if (!keywordOptions.scope().includesChunk()
+                || !request.useLlmKeywordExtraction()
+                || keywordExtractor == null) {
             return List.of();
         }
+        List<String> stored = delta.reusableChunkKeywords(contentHash);
+        if (stored != null) {
+            return stored;
+        }
         try {
             return normalizeKeywords(keywordExtractor.extract(chunkText));
         } catch (Exception ignored) {
@@ -3,15 +3,22 @@ package studio.one.platform.ai.service.pipeline;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import studio.one.platform.ai.core.rag.RagIndexJob;
 import studio.one.platform.ai.core.rag.RagIndexJobFilter;
@@ -20,12 +27,24 @@ import studio.one.platform.ai.core.rag.RagIndexJobLogCode;
 import studio.one.platform.ai.core.rag.RagIndexJobLogLevel;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPayload;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
 
+/**
+ * JDBC backed job repository. Besides job state it stores the original request and
+ * lease columns so several nodes can share the table: {@link #claimNext} selects
+ * enqueued jobs with {@code FOR UPDATE SKIP LOCKED} and the owning node keeps its
+ * lease alive with {@link #renewLease} until the job finishes.
+ */
 public class JdbcRagIndexJobRepository implements RagIndexJobRepository {
 
+    static final String LEASE_EXPIRED_MESSAGE = "RAG index job lease expired after maximum attempts";
+
+    private static final String ACTIVE_STATUSES = "('PENDING', 'RUNNING')";
+
     private static final RowMapper<RagIndexJob> JOB_ROW_MAPPER = (rs, rowNum) -> new RagIndexJob(
             rs.getString("job_id"),
             rs.getString("object_type"),
@@ -55,9 +74,28 @@ public class JdbcRagIndexJobRepository implements RagIndexJobRepository {
             instant(rs, "created_at"));
 
     private final NamedParameterJdbcTemplate template;
+    private final RagIndexJobPayloadCodec payloadCodec;
+    private volatile TransactionOperations transactions;
 
     public JdbcRagIndexJobRepository(NamedParameterJdbcTemplate template) {
+        this(template, new ObjectMapper());
+    }
+
+    public JdbcRagIndexJobRepository(NamedParameterJdbcTemplate template, ObjectMapper objectMapper) {
+        this(template, objectMapper, null);
+    }
+
+    /**
+     * @param transactions transaction boundary for {@link #claimNext}; when {@code null} a
+     *                     {@link DataSourceTransactionManager} over the template's data source is used
+     */
+    public JdbcRagIndexJobRepository(
+            NamedParameterJdbcTemplate template,
+            ObjectMapper objectMapper,
+            TransactionOperations transactions) {
         this.template = template;
+        this.payloadCodec = new RagIndexJobPayloadCodec(objectMapper);
+        this.transactions = transactions;
     }
 
     @Override
@@ -216,6 +254,203 @@ public class JdbcRagIndexJobRepository implements RagIndexJobRepository {
                 """, new MapSqlParameterSource("jobId", jobId), LOG_ROW_MAPPER);
     }
 
+    @Override
+    public void saveRequest(String jobId, RagIndexJobPayload payload) {
+        template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET request_payload = :payload
+                 WHERE job_id = :jobId
+                """, new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("payload", payload == null ? null : payloadCodec.write(payload)));
+    }
+
+    @Override
+    public Optional<RagIndexJobPayload> findRequest(String jobId) {
+        List<String> payloads = template.queryForList("""
+                SELECT request_payload
+                  FROM tb_ai_rag_index_job
+                 WHERE job_id = :jobId
+                """, new MapSqlParameterSource("jobId", jobId), String.class);
+        return payloads.stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(payloadCodec::read);
+    }
+
+    @Override
+    public boolean supportsClaiming() {
+        return true;
+    }
+
+    @Override
+    public void enqueue(String jobId, RagIndexJobPriority priority) {
+        RagIndexJobPriority effectivePriority = priority == null ? RagIndexJobPriority.NORMAL : priority;
+        int updated = template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET priority = :priority,
+                       enqueued_at = :now,
+                       attempt_count = 0
+                 WHERE job_id = :jobId
+                   AND status = 'PENDING'
+                   AND lease_owner IS NULL
+                """, new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("priority", effectivePriority.ordinal())
+                .addValue("now", timestamp(Instant.now())));
+        if (updated == 0) {
+            throw new IllegalStateException("RAG index job is not pending or is already claimed: " + jobId);
+        }
+    }
+
+    @Override
+    public List<String> claimNext(String owner, Duration leaseDuration, int limit) {
+        Objects.requireNonNull(owner, "owner");
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<String> claimed = transactions().execute(status -> {
+            List<String> candidates = template.queryForList("""
+                    SELECT job_id
+                      FROM tb_ai_rag_index_job
+                     WHERE status = 'PENDING'
+                       AND enqueued_at IS NOT NULL
+                       AND lease_owner IS NULL
+                     ORDER BY priority ASC, enqueued_at ASC, job_id ASC
+                     LIMIT :limit
+                       FOR UPDATE SKIP LOCKED
+                    """, new MapSqlParameterSource("limit", limit), String.class);
+            Instant now = Instant.now();
+            List<String> jobIds = new ArrayList<>(candidates.size());
+            for (String jobId : candidates) {
+                // The conditional update keeps claiming safe on databases that ignore SKIP LOCKED.
+                int updated = template.update("""
+                        UPDATE tb_ai_rag_index_job
+                           SET lease_owner = :owner,
+                               lease_expires_at = :expiresAt,
+                               enqueued_at = NULL,
+                               attempt_count = attempt_count + 1
+                         WHERE job_id = :jobId
+                           AND status = 'PENDING'
+                           AND lease_owner IS NULL
+                        """, leaseParameters(jobId, owner, leaseDuration, now));
+                if (updated == 1) {
+                    jobIds.add(jobId);
+                }
+            }
+            return jobIds;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    @Override
+    public boolean claim(String jobId, String owner, Duration leaseDuration) {
+        Objects.requireNonNull(owner, "owner");
+        return template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET lease_owner = :owner,
+                       lease_expires_at = :expiresAt,
+                       enqueued_at = NULL,
+                       attempt_count = attempt_count + 1
+                 WHERE job_id = :jobId
+                   AND status = 'PENDING'
+                   AND (lease_owner IS NULL OR lease_owner = :owner OR lease_expires_at < :now)
+                """, leaseParameters(jobId, owner, leaseDuration, Instant.now())) == 1;
+    }
+
+    @Override
+    public boolean renewLease(String jobId, String owner, Duration leaseDuration) {
+        return template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET lease_expires_at = :expiresAt
+                 WHERE job_id = :jobId
+                   AND lease_owner = :owner
+                   AND status IN
+                """ + ACTIVE_STATUSES, leaseParameters(jobId, owner, leaseDuration, Instant.now())) == 1;
+    }
+
+    @Override
+    public void releaseLease(String jobId, String owner) {
+        template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET lease_owner = NULL,
+                       lease_expires_at = NULL
+                 WHERE job_id = :jobId
+                   AND lease_owner = :owner
+                """, new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("owner", owner));
+    }
+
+    @Override
+    public boolean requeueClaimed(String jobId, String owner) {
+        return template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET lease_owner = NULL,
+                       lease_expires_at = NULL,
+                       enqueued_at = :now,
+                       attempt_count = CASE WHEN attempt_count > 0 THEN attempt_count - 1 ELSE 0 END
+                 WHERE job_id = :jobId
+                   AND lease_owner = :owner
+                   AND status = 'PENDING'
+                """, new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("owner", owner)
+                .addValue("now", timestamp(Instant.now()))) == 1;
+    }
+
+    @Override
+    public int recoverExpiredLeases(int maxAttempts) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", timestamp(Instant.now()))
+                .addValue("maxAttempts", Math.max(1, maxAttempts))
+                .addValue("errorMessage", LEASE_EXPIRED_MESSAGE);
+        int failed = template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET status = 'FAILED',
+                       error_message = :errorMessage,
+                       finished_at = :now,
+                       lease_owner = NULL,
+                       lease_expires_at = NULL,
+                       enqueued_at = NULL
+                 WHERE lease_owner IS NOT NULL
+                   AND lease_expires_at < :now
+                   AND attempt_count >= :maxAttempts
+                   AND status IN
+                """ + ACTIVE_STATUSES, params);
+        int requeued = template.update("""
+                UPDATE tb_ai_rag_index_job
+                   SET status = 'PENDING',
+                       current_step = NULL,
+                       chunk_count = 0,
+                       embedded_count = 0,
+                       indexed_count = 0,
+                       warning_count = 0,
+                       error_message = NULL,
+                       started_at = NULL,
+                       finished_at = NULL,
+                       duration_ms = NULL,
+                       lease_owner = NULL,
+                       lease_expires_at = NULL,
+                       enqueued_at = :now
+                 WHERE lease_owner IS NOT NULL
+                   AND lease_expires_at < :now
+                   AND attempt_count < :maxAttempts
+                   AND status IN
+                """ + ACTIVE_STATUSES, params);
+        return failed + requeued;
+    }
+
+    private TransactionOperations transactions() {
+        TransactionOperations current = transactions;
+        if (current == null) {
+            current = new TransactionTemplate(
+                    new DataSourceTransactionManager(template.getJdbcTemplate().getDataSource()));
+            transactions = current;
+        }
+        return current;
+    }
+
     private RagIndexJob requireJob(String jobId) {
         return findById(jobId)
                 .orElseThrow(() -> new NoSuchElementException("RAG index job not found: " + jobId));
@@ -241,6 +476,14 @@ public class JdbcRagIndexJobRepository implements RagIndexJobRepository {
                 .addValue("durationMs", job.durationMs());
     }
 
+    private MapSqlParameterSource leaseParameters(String jobId, String owner, Duration leaseDuration, Instant now) {
+        return new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("owner", owner)
+                .addValue("now", timestamp(now))
+                .addValue("expiresAt", timestamp(now.plus(leaseDuration)));
+    }
+
     private MapSqlParameterSource logParameters(RagIndexJobLog log) {
         return new MapSqlParameterSource()
                 .addValue("logId", log.logId())
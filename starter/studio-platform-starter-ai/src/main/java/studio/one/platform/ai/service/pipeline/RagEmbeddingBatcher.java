@@ -0,0 +1,253 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.retry.Retry;
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.ai.core.embedding.EmbeddingResponse;
+import studio.one.platform.ai.core.embedding.EmbeddingVector;
+import studio.one.platform.ai.core.embedding.FloatVector;
+
+/**
+ * Embedding stage of the RAG pipeline. Cache misses are grouped per
+ * {@link ResolvedRagEmbedding} into provider-sized batches, and up to
+ * {@link RagEmbeddingBatchOptions#maxConcurrency()} batches per group run on the
+ * supplied executor. Results are returned in input order and embedded counts are
+ * reported from the calling thread as a contiguous prefix, one call per input.
+ */
+@Slf4j
+final class RagEmbeddingBatcher {
+
+    private final Cache<String, FloatVector> embeddingCache;
+    private final Retry retry;
+    private final RagEmbeddingBatchOptions options;
+    private final Executor executor;
+    private final RateLimiter rateLimiter;
+
+    RagEmbeddingBatcher(
+            Cache<String, FloatVector> embeddingCache,
+            Retry retry,
+            RagEmbeddingBatchOptions options,
+            Executor executor) {
+        this.embeddingCache = Objects.requireNonNull(embeddingCache, "embeddingCache");
+        this.retry = Objects.requireNonNull(retry, "retry");
+        this.options = Objects.requireNonNull(options, "options");
+        this.executor = executor;
+        this.rateLimiter = options.rateLimited() ? RateLimiter.of("embedding", RateLimiterConfig.custom()
+                .limitForPeriod(options.requestsPerSecond())
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(options.rateLimitTimeout())
+                .build()) : null;
+    }
+
+    FloatVector embed(String text, ResolvedRagEmbedding resolvedEmbedding) {
+        String cacheKey = cacheKey(text, resolvedEmbedding);
+        FloatVector cached = embeddingCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        FloatVector values = execute(List.of(text), resolvedEmbedding).get(0);
+        embeddingCache.put(cacheKey, values);
+        return values;
+    }
+
+    List<FloatVector> embedAll(
+            List<String> texts,
+            List<ResolvedRagEmbedding> resolvedEmbeddings,
+            IntConsumer embeddedCountListener) {
+        if (texts.size() != resolvedEmbeddings.size()) {
+            throw new IllegalArgumentException("texts and resolvedEmbeddings must have the same size");
+        }
+        List<FloatVector> results = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        EmbeddedCounter counter = new EmbeddedCounter(texts.size(), embeddedCountListener);
+        Map<ResolvedRagEmbedding, Map<String, PendingText>> misses = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            ResolvedRagEmbedding resolvedEmbedding = resolvedEmbeddings.get(i);
+            String cacheKey = cacheKey(text, resolvedEmbedding);
+            FloatVector cached = embeddingCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                results.set(i, cached);
+                counter.markEmbedded(i);
+                continue;
+            }
+            misses.computeIfAbsent(resolvedEmbedding, key -> new LinkedHashMap<>())
+                    .computeIfAbsent(cacheKey, key -> new PendingText(key, text))
+                    .indexes()
+                    .add(i);
+        }
+        misses.forEach((resolvedEmbedding, pending) ->
+                runBatches(resolvedEmbedding, partition(new ArrayList<>(pending.values())), results, counter));
+        return results;
+    }
+
+    private void runBatches(
+            ResolvedRagEmbedding resolvedEmbedding,
+            List<List<PendingText>> batches,
+            List<FloatVector> results,
+            EmbeddedCounter counter) {
+        if (executor == null || options.maxConcurrency() == 1 || batches.size() == 1) {
+            for (List<PendingText> batch : batches) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("Embedding was interrupted");
+                }
+                complete(batch, execute(texts(batch), resolvedEmbedding), results, counter);
+            }
+            return;
+        }
+        CompletionService<BatchResult> completion = new ExecutorCompletionService<>(executor);
+        List<Future<BatchResult>> futures = new ArrayList<>(batches.size());
+        Iterator<List<PendingText>> pending = batches.iterator();
+        int inFlight = 0;
+        try {
+            while (inFlight < options.maxConcurrency() && pending.hasNext()) {
+                futures.add(submit(completion, pending.next(), resolvedEmbedding));
+                inFlight++;
+            }
+            while (inFlight > 0) {
+                BatchResult result = completion.take().get();
+                inFlight--;
+                complete(result.batch(), result.vectors(), results, counter);
+                if (pending.hasNext()) {
+                    futures.add(submit(completion, pending.next(), resolvedEmbedding));
+                    inFlight++;
+                }
+            }
+        } catch (InterruptedException ex) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Embedding was interrupted", ex);
+        } catch (ExecutionException ex) {
+            cancel(futures);
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Embedding batch failed", ex.getCause());
+        }
+    }
+
+    private Future<BatchResult> submit(
+            CompletionService<BatchResult> completion,
+            List<PendingText> batch,
+            ResolvedRagEmbedding resolvedEmbedding) {
+        return completion.submit(() -> new BatchResult(batch, execute(texts(batch), resolvedEmbedding)));
+    }
+
+    private void complete(
+            List<PendingText> batch,
+            List<FloatVector> vectors,
+            List<FloatVector> results,
+            EmbeddedCounter counter) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingText pending = batch.get(i);
+            FloatVector values = vectors.get(i);
+            embeddingCache.put(pending.cacheKey(), values);
+            for (int index : pending.indexes()) {
+                results.set(index, values);
+                counter.markEmbedded(index);
+            }
+        }
+    }
+
+    private List<FloatVector> execute(List<String> texts, ResolvedRagEmbedding resolvedEmbedding) {
+        List<EmbeddingVector> vectors = call(texts, resolvedEmbedding).vectors();
+        if (texts.size() == 1) {
+            return List.of(vectors.get(0).vector());
+        }
+        if (vectors.size() == texts.size()) {
+            return vectors.stream()
+                    .map(EmbeddingVector::vector)
+                    .toList();
+        }
+        log.warn("Embedding provider returned {} vectors for {} inputs; falling back to single-text requests. "
+                        + "provider={}, model={}",
+                vectors.size(), texts.size(), resolvedEmbedding.provider(), resolvedEmbedding.model());
+        List<FloatVector> values = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            values.add(call(List.of(text), resolvedEmbedding).vectors().get(0).vector());
+        }
+        return values;
+    }
+
+    private EmbeddingResponse call(List<String> texts, ResolvedRagEmbedding resolvedEmbedding) {
+        Supplier<EmbeddingResponse> supplier = () -> resolvedEmbedding.embeddingPort()
+                .embed(resolvedEmbedding.request(texts));
+        if (rateLimiter != null) {
+            supplier = RateLimiter.decorateSupplier(rateLimiter, supplier);
+        }
+        return Retry.decorateSupplier(retry, supplier).get();
+    }
+
+    private List<List<PendingText>> partition(List<PendingText> pending) {
+        List<List<PendingText>> batches = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += options.batchSize()) {
+            batches.add(pending.subList(from, Math.min(from + options.batchSize(), pending.size())));
+        }
+        return batches;
+    }
+
+    private List<String> texts(List<PendingText> batch) {
+        return batch.stream().map(PendingText::text).toList();
+    }
+
+    private void cancel(List<Future<BatchResult>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    static String cacheKey(String text, ResolvedRagEmbedding resolvedEmbedding) {
+        return String.join("|",
+                text == null ? "" : text,
+                resolvedEmbedding.profileId() == null ? "" : resolvedEmbedding.profileId(),
+                resolvedEmbedding.provider() == null ? "" : resolvedEmbedding.provider(),
+                resolvedEmbedding.model() == null ? "" : resolvedEmbedding.model(),
+                resolvedEmbedding.inputType().name());
+    }
+
+    private record PendingText(String cacheKey, String text, List<Integer> indexes) {
+
+        private PendingText(String cacheKey, String text) {
+            this(cacheKey, text, new ArrayList<>(1));
+        }
+    }
+
+    private record BatchResult(List<PendingText> batch, List<FloatVector> vectors) {
+    }
+
+    private static final class EmbeddedCounter {
+
+        private final boolean[] embedded;
+        private final IntConsumer listener;
+        private int next;
+
+        private EmbeddedCounter(int size, IntConsumer listener) {
+            this.embedded = new boolean[size];
+            this.listener = listener;
+        }
+
+        private void markEmbedded(int index) {
+            embedded[index] = true;
+            while (next < embedded.length && embedded[next]) {
+                next++;
+                listener.accept(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import studio.one.platform.ai.core.embedding.FloatVector;
+import studio.one.platform.ai.core.vector.VectorDocument;
+import studio.one.platform.ai.core.vector.VectorRecord;
+
+/**
+ * Chunks previously stored for an object scope, compared with a new index of the same object.
+ * Embeddings and chunk keywords are reused for chunks whose content hash and embedding
+ * profile are unchanged, and only chunks whose text or metadata differ from the stored row at
+ * the same chunk index are written back. Metadata is compared after normalizing numbers,
+ * lists and maps, so values read back from JSON match the values the pipeline produced.
+ * <p>
+ * Document-level statistics such as {@code chunkCount} and {@code indexedTextLength} are stamped
+ * on every chunk and change with any edit to the text, so they are compared on the first chunk
+ * only. That chunk carries the current values; other unchanged chunks keep the values from when
+ * they were last written.
+ */
+final class RagIndexDelta {
+
+    private static final RagIndexDelta EMPTY = new RagIndexDelta(List.of());
+    private static final List<String> EMBEDDING_KEYS = List.of(
+            VectorRecord.KEY_EMBEDDING_PROFILE_ID,
+            VectorRecord.KEY_EMBEDDING_PROVIDER,
+            VectorRecord.KEY_EMBEDDING_INPUT_TYPE);
+    private static final String CHUNK_KEYWORDS = "chunkKeywords";
+    private static final Set<String> DOCUMENT_KEYS = Set.of("originalTextLength", "indexedTextLength", "chunkCount");
+
+    private final Map<Integer, VectorDocument> byChunkIndex = new HashMap<>();
+    private final Map<String, List<VectorDocument>> byContentHash = new HashMap<>();
+    private int maxChunkIndex = -1;
+
+    private RagIndexDelta(List<VectorDocument> stored) {
+        for (VectorDocument document : stored) {
+            Map<String, Object> metadata = document.metadata();
+            Integer chunkIndex = chunkIndex(metadata);
+            if (chunkIndex != null) {
+                byChunkIndex.put(chunkIndex, document);
+                maxChunkIndex = Math.max(maxChunkIndex, chunkIndex);
+            }
+            String contentHash = Objects.toString(metadata.get(VectorRecord.KEY_CONTENT_HASH), null);
+            if (contentHash != null) {
+                byContentHash.computeIfAbsent(contentHash, key -> new ArrayList<>()).add(document);
+            }
+        }
+    }
+
+    static RagIndexDelta empty() {
+        return EMPTY;
+    }
+
+    static RagIndexDelta of(List<VectorDocument> stored) {
+        return stored == null || stored.isEmpty() ? EMPTY : new RagIndexDelta(stored);
+    }
+
+    boolean isEmpty() {
+        return byChunkIndex.isEmpty();
+    }
+
+    /**
+     * Returns the stored embedding of a chunk with the same content, embedded by the same model,
+     * profile, provider and input type as {@code metadata} describes, or {@code null}.
+     */
+    FloatVector reusableEmbedding(String contentHash, Map<String, Object> metadata, String embeddingModel) {
+        for (VectorDocument document : byContentHash.getOrDefault(contentHash, List.of())) {
+            FloatVector embedding = document.embeddingVector();
+            if (!embedding.isEmpty() && sameEmbedding(document.metadata(), metadata, embeddingModel, embedding)) {
+                return embedding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the chunk keywords stored for the same content, or {@code null} when none were
+     * stored.
+     */
+    List<String> reusableChunkKeywords(String contentHash) {
+        for (VectorDocument document : byContentHash.getOrDefault(contentHash, List.of())) {
+            if (document.metadata().get(CHUNK_KEYWORDS) instanceof Collection<?> keywords && !keywords.isEmpty()) {
+                return keywords.stream().map(Objects::toString).toList();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the records that differ from the stored chunk at the same chunk index, in the
+     * form the store persists them for the object scope.
+     */
+    List<VectorRecord> changed(String objectType, String objectId, List<VectorRecord> records) {
+        List<VectorRecord> changed = new ArrayList<>();
+        for (VectorRecord record : records) {
+            Map<String, Object> expected = new LinkedHashMap<>(record.toMetadata());
+            expected.put(VectorRecord.KEY_OBJECT_TYPE, objectType);
+            expected.put(VectorRecord.KEY_OBJECT_ID, objectId);
+            Integer chunkIndex = chunkIndex(expected);
+            if (chunkIndex != null) {
+                expected.putIfAbsent("chunkOrder", chunkIndex);
+            }
+            VectorDocument stored = chunkIndex == null ? null : byChunkIndex.get(chunkIndex);
+            if (stored == null
+                    || !Objects.equals(stored.content(), record.text())
+                    || !comparable(stored.metadata(), chunkIndex).equals(comparable(expected, chunkIndex))) {
+                changed.add(record);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Whether chunks at or beyond {@code chunkCount} are stored and must be deleted.
+     */
+    boolean hasChunksFrom(int chunkCount) {
+        return maxChunkIndex >= chunkCount;
+    }
+
+    private static boolean sameEmbedding(
+            Map<String, Object> stored,
+            Map<String, Object> metadata,
+            String embeddingModel,
+            FloatVector embedding) {
+        if (!Objects.equals(Objects.toString(stored.get(VectorRecord.KEY_EMBEDDING_MODEL), null), embeddingModel)) {
+            return false;
+        }
+        for (String key : EMBEDDING_KEYS) {
+            if (!Objects.equals(Objects.toString(stored.get(key), null), Objects.toString(metadata.get(key), null))) {
+                return false;
+            }
+        }
+        Object dimension = metadata.get(VectorRecord.KEY_EMBEDDING_DIMENSION);
+        return !(dimension instanceof Number number) || number.intValue() == embedding.dimension();
+    }
+
+    private static Object comparable(Map<String, Object> metadata, int chunkIndex) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> normalized = (Map<String, Object>) normalize(metadata);
+        if (chunkIndex != 0) {
+            normalized.keySet().removeAll(DOCUMENT_KEYS);
+        }
+        return normalized;
+    }
+
+    private static Integer chunkIndex(Map<String, Object> metadata) {
+        Object value = metadata.getOrDefault(VectorRecord.KEY_CHUNK_INDEX, metadata.get("chunkOrder"));
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Integer.valueOf(text.trim());
+            } catch (NumberFormatException ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> normalized = new TreeMap<>();
+            map.forEach((key, item) -> {
+                if (item != null) {
+                    normalized.put(Objects.toString(key), normalize(item));
+                }
+            });
+            return normalized;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(RagIndexDelta::normalize).toList();
+        }
+        if (value instanceof Number number) {
+            try {
+                return new BigDecimal(number.toString()).stripTrailingZeros();
+            } catch (NumberFormatException ex) {
+                return number.toString();
+            }
+        }
+        if (value instanceof String || value instanceof Boolean || value == null) {
+            return value;
+        }
+        return value.toString();
+    }
+}
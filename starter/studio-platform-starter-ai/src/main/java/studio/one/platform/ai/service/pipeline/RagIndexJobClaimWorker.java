@@ -0,0 +1,147 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
+
+/**
+ * Claims enqueued RAG index jobs from a shared repository and runs them on the local
+ * {@link RagIndexJobScheduler}.
+ * <p>
+ * Each poll first recovers expired leases, then claims as many jobs as there are idle
+ * local workers. A heartbeat renews the leases of claimed and running jobs; when a
+ * renewal fails (the job was cancelled or another node took it over) the local run is
+ * cancelled.
+ */
+@Slf4j
+public class RagIndexJobClaimWorker implements AutoCloseable {
+
+    private final RagIndexJobRepository repository;
+    private final DefaultRagIndexJobService jobService;
+    private final RagIndexJobScheduler scheduler;
+    private final RagIndexJobClaimOptions options;
+    private final Set<String> claimedJobs = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService executor;
+
+    public RagIndexJobClaimWorker(
+            RagIndexJobRepository repository,
+            DefaultRagIndexJobService jobService,
+            RagIndexJobScheduler scheduler,
+            RagIndexJobClaimOptions options) {
+        this.repository = Objects.requireNonNull(repository, "repository");
+        this.jobService = Objects.requireNonNull(jobService, "jobService");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.options = Objects.requireNonNull(options, "options");
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rag-index-job-claim");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(
+                this::safePoll, 0L, options.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(
+                this::safeHeartbeat,
+                options.heartbeatInterval().toMillis(),
+                options.heartbeatInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("RAG index job claim worker started for node {}", options.nodeId());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Recovers expired leases and claims jobs for idle local workers.
+     *
+     * @return the number of jobs claimed
+     */
+    int poll() {
+        int recovered = repository.recoverExpiredLeases(options.maxAttempts());
+        if (recovered > 0) {
+            log.warn("Recovered {} RAG index job(s) with expired leases", recovered);
+        }
+        RagIndexJobQueueStats stats = scheduler.stats();
+        int idle = stats.workers() - stats.running() - stats.queued();
+        if (idle <= 0) {
+            return 0;
+        }
+        List<String> jobIds = repository.claimNext(options.nodeId(), options.leaseDuration(), idle);
+        for (String jobId : jobIds) {
+            dispatch(jobId);
+        }
+        return jobIds.size();
+    }
+
+    /**
+     * Renews the leases of claimed and running jobs and cancels local runs whose lease was lost.
+     */
+    void heartbeat() {
+        Set<String> jobIds = new LinkedHashSet<>(claimedJobs);
+        jobIds.addAll(jobService.leasedJobIds());
+        for (String jobId : jobIds) {
+            if (!repository.renewLease(jobId, options.nodeId(), options.leaseDuration())) {
+                log.warn("Lost lease on RAG index job {}; cancelling local run", jobId);
+                claimedJobs.remove(jobId);
+                scheduler.cancel(jobId);
+            }
+        }
+    }
+
+    private void dispatch(String jobId) {
+        claimedJobs.add(jobId);
+        try {
+            scheduler.submit(jobId, null, RagIndexJobPriority.NORMAL, () -> {
+                try {
+                    jobService.runClaimedJob(jobId);
+                } finally {
+                    claimedJobs.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            claimedJobs.remove(jobId);
+            // Keeps the job's priority and does not count the claim against its attempts.
+            if (repository.requeueClaimed(jobId, options.nodeId())) {
+                log.debug("Returned RAG index job {} to the shared queue: {}", jobId, ex.getMessage());
+            } else {
+                log.debug("RAG index job {} is no longer pending or claimed by this node", jobId);
+            }
+        }
+    }
+
+    private void safePoll() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("RAG index job claim poll failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void safeHeartbeat() {
+        try {
+            heartbeat();
+        } catch (RuntimeException ex) {
+            log.warn("RAG index job lease heartbeat failed: {}", ex.getMessage(), ex);
+        }
+    }
+}
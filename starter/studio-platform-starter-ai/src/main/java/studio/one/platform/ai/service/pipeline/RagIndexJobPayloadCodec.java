@@ -0,0 +1,165 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import studio.one.platform.ai.core.rag.RagChunkingOptions;
+import studio.one.platform.ai.core.rag.RagIndexJobCreateRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPayload;
+import studio.one.platform.ai.core.rag.RagIndexJobSourceRequest;
+import studio.one.platform.ai.core.rag.RagIndexRequest;
+
+/**
+ * JSON form of {@link RagIndexJobPayload} stored in {@code tb_ai_rag_index_job.request_payload}.
+ * The payload is mapped field by field so that the stored format does not depend on
+ * the Java shape of the request classes.
+ */
+final class RagIndexJobPayloadCodec {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    RagIndexJobPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    String write(RagIndexJobPayload payload) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("request", request(payload.request()));
+        if (payload.sourceRequest() != null) {
+            root.put("sourceRequest", sourceRequest(payload.sourceRequest()));
+        }
+        try {
+            return objectMapper.writeValueAsString(root);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize RAG index job request", ex);
+        }
+    }
+
+    RagIndexJobPayload read(String json) {
+        Map<String, Object> root;
+        try {
+            root = objectMapper.readValue(json, MAP_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize RAG index job request", ex);
+        }
+        Map<String, Object> request = map(root.get("request"));
+        Map<String, Object> indexRequest = map(request.get("indexRequest"));
+        Map<String, Object> sourceRequest = map(root.get("sourceRequest"));
+        return new RagIndexJobPayload(
+                new RagIndexJobCreateRequest(
+                        text(request.get("objectType")),
+                        text(request.get("objectId")),
+                        text(request.get("documentId")),
+                        text(request.get("sourceType")),
+                        Boolean.TRUE.equals(request.get("forceReindex")),
+                        indexRequest.isEmpty() ? null : new RagIndexRequest(
+                                text(indexRequest.get("documentId")),
+                                text(indexRequest.get("text")),
+                                map(indexRequest.get("metadata")),
+                                strings(indexRequest.get("keywords")),
+                                Boolean.TRUE.equals(indexRequest.get("useLlmKeywordExtraction")),
+                                text(indexRequest.get("embeddingProfileId")),
+                                text(indexRequest.get("embeddingProvider")),
+                                text(indexRequest.get("embeddingModel")),
+                                chunkingOptions(map(indexRequest.get("chunkingOptions"))))),
+                sourceRequest.isEmpty() ? null : new RagIndexJobSourceRequest(
+                        map(sourceRequest.get("metadata")),
+                        strings(sourceRequest.get("keywords")),
+                        Boolean.TRUE.equals(sourceRequest.get("useLlmKeywordExtraction")),
+                        text(sourceRequest.get("embeddingProfileId")),
+                        text(sourceRequest.get("embeddingProvider")),
+                        text(sourceRequest.get("embeddingModel")),
+                        chunkingOptions(map(sourceRequest.get("chunkingOptions")))));
+    }
+
+    private Map<String, Object> request(RagIndexJobCreateRequest request) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("objectType", request.objectType());
+        values.put("objectId", request.objectId());
+        values.put("documentId", request.documentId());
+        values.put("sourceType", request.sourceType());
+        values.put("forceReindex", request.forceReindex());
+        RagIndexRequest indexRequest = request.indexRequest();
+        if (indexRequest != null) {
+            Map<String, Object> index = new LinkedHashMap<>();
+            index.put("documentId", indexRequest.documentId());
+            index.put("text", indexRequest.text());
+            index.put("metadata", indexRequest.metadata());
+            index.put("keywords", indexRequest.keywords());
+            index.put("useLlmKeywordExtraction", indexRequest.useLlmKeywordExtraction());
+            index.put("embeddingProfileId", indexRequest.embeddingProfileId());
+            index.put("embeddingProvider", indexRequest.embeddingProvider());
+            index.put("embeddingModel", indexRequest.embeddingModel());
+            index.put("chunkingOptions", chunkingOptions(indexRequest.chunkingOptions()));
+            values.put("indexRequest", index);
+        }
+        return values;
+    }
+
+    private Map<String, Object> sourceRequest(RagIndexJobSourceRequest sourceRequest) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("metadata", sourceRequest.metadata());
+        values.put("keywords", sourceRequest.keywords());
+        values.put("useLlmKeywordExtraction", sourceRequest.useLlmKeywordExtraction());
+        values.put("embeddingProfileId", sourceRequest.embeddingProfileId());
+        values.put("embeddingProvider", sourceRequest.embeddingProvider());
+        values.put("embeddingModel", sourceRequest.embeddingModel());
+        values.put("chunkingOptions", chunkingOptions(sourceRequest.chunkingOptions()));
+        return values;
+    }
+
+    private Map<String, Object> chunkingOptions(RagChunkingOptions options) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("strategy", options.strategy());
+        values.put("maxSize", options.maxSize());
+        values.put("overlap", options.overlap());
+        values.put("unit", options.unit());
+        return values;
+    }
+
+    private RagChunkingOptions chunkingOptions(Map<String, Object> values) {
+        return new RagChunkingOptions(
+                text(values.get("strategy")),
+                integer(values.get("maxSize")),
+                integer(values.get("overlap")),
+                text(values.get("unit")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        if (!(value instanceof Map<?, ?> map)) {
+            return Map.of();
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        ((Map<Object, Object>) map).forEach((key, item) -> {
+            if (key != null && item != null) {
+                values.put(key.toString(), item);
+            }
+        });
+        return values;
+    }
+
+    private static List<String> strings(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+        return list.stream().filter(Objects::nonNull).map(Object::toString).toList();
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static Integer integer(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+}
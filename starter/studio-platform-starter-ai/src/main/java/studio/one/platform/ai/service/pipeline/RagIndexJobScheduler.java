@@ -0,0 +1,338 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
+
+/**
+ * Bounded, prioritized work queue for RAG index jobs with a fixed worker pool.
+ * <p>
+ * Higher {@link RagIndexJobPriority priorities} are always served first. Within a
+ * priority, tenants are served round-robin so a bulk re-index from one tenant
+ * cannot starve another. When the queue is full, {@link #submit} waits up to
+ * {@link RagIndexJobQueueOptions#offerTimeout()} and then throws
+ * {@link RejectedExecutionException}. {@link #cancel(String)} drops a queued job
+ * or interrupts the worker running it, which aborts in-flight embedding batches.
+ */
+@Slf4j
+public class RagIndexJobScheduler implements AutoCloseable {
+
+    static final String DEFAULT_TENANT = "";
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    static final Duration INTERRUPT_GRACE = Duration.ofSeconds(5);
+
+    private final RagIndexJobQueueOptions options;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Map<RagIndexJobPriority, LinkedHashMap<String, ArrayDeque<QueuedJob>>> queues =
+            new EnumMap<>(RagIndexJobPriority.class);
+    private final Map<String, QueuedJob> queuedJobs = new HashMap<>();
+    private final Map<String, Thread> runningJobs = new HashMap<>();
+    private final List<Thread> workers;
+    private boolean closed;
+
+    private long submitted;
+    private long rejected;
+    private long completed;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private long totalRunNanos;
+    private long maxRunNanos;
+
+    public RagIndexJobScheduler(RagIndexJobQueueOptions options) {
+        this.options = Objects.requireNonNull(options, "options");
+        for (RagIndexJobPriority priority : RagIndexJobPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+        ThreadFactory threadFactory = threadFactory(options.virtualThreads());
+        List<Thread> threads = new ArrayList<>(options.workers());
+        for (int i = 0; i < options.workers(); i++) {
+            Thread worker = threadFactory.newThread(this::runWorker);
+            threads.add(worker);
+        }
+        this.workers = List.copyOf(threads);
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Queues {@code task} for {@code jobId}.
+     *
+     * @throws RejectedExecutionException if the job is already queued or running,
+     *                                    the scheduler is closed, or no space became
+     *                                    available within the offer timeout
+     */
+    public void submit(String jobId, String tenant, RagIndexJobPriority priority, Runnable task) {
+        Objects.requireNonNull(jobId, "jobId");
+        Objects.requireNonNull(task, "task");
+        RagIndexJobPriority resolvedPriority = priority == null ? RagIndexJobPriority.NORMAL : priority;
+        String resolvedTenant = tenant == null ? DEFAULT_TENANT : tenant;
+        lock.lock();
+        try {
+            if (queuedJobs.containsKey(jobId) || runningJobs.containsKey(jobId)) {
+                throw new RejectedExecutionException("RAG index job is already queued or running: " + jobId);
+            }
+            awaitCapacity();
+            QueuedJob job = new QueuedJob(jobId, resolvedTenant, resolvedPriority, task, System.nanoTime());
+            queues.get(resolvedPriority).computeIfAbsent(resolvedTenant, key -> new ArrayDeque<>()).addLast(job);
+            queuedJobs.put(jobId, job);
+            submitted++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitCapacity() {
+        long remainingNanos = options.offerTimeout().toNanos();
+        while (!closed && queuedJobs.size() >= options.capacity()) {
+            if (remainingNanos <= 0L) {
+                rejected++;
+                throw new RejectedExecutionException("RAG index job queue is full (capacity "
+                        + options.capacity() + ")");
+            }
+            try {
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                rejected++;
+                throw new RejectedExecutionException("Interrupted while waiting for RAG index job queue space", ex);
+            }
+        }
+        if (closed) {
+            rejected++;
+            throw new RejectedExecutionException("RAG index job scheduler is closed");
+        }
+    }
+
+    /**
+     * Removes a queued job or interrupts the worker running it.
+     *
+     * @return {@code true} if the job was queued or running
+     */
+    public boolean cancel(String jobId) {
+        lock.lock();
+        try {
+            QueuedJob queued = queuedJobs.remove(jobId);
+            if (queued != null) {
+                Map<String, ArrayDeque<QueuedJob>> tenants = queues.get(queued.priority());
+                ArrayDeque<QueuedJob> deque = tenants.get(queued.tenant());
+                deque.remove(queued);
+                if (deque.isEmpty()) {
+                    tenants.remove(queued.tenant());
+                }
+                notFull.signal();
+                return true;
+            }
+            Thread worker = runningJobs.get(jobId);
+            if (worker != null) {
+                worker.interrupt();
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RagIndexJobQueueStats stats() {
+        lock.lock();
+        try {
+            return new RagIndexJobQueueStats(
+                    queuedJobs.size(),
+                    runningJobs.size(),
+                    options.capacity(),
+                    workers.size(),
+                    submitted,
+                    rejected,
+                    completed,
+                    completed == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / completed),
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos),
+                    completed == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(totalRunNanos / completed),
+                    TimeUnit.NANOSECONDS.toMillis(maxRunNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting jobs and waits up to {@link #SHUTDOWN_TIMEOUT} for running and already
+     * queued jobs to finish. Workers still busy after that are interrupted, which aborts their
+     * in-flight embedding batches, and are given a short grace period to exit.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (!awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("RAG index jobs still running after {}; interrupting workers", SHUTDOWN_TIMEOUT);
+            workers.forEach(Thread::interrupt);
+            if (!awaitTermination(INTERRUPT_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("RAG index job workers did not stop within {}", INTERRUPT_GRACE);
+            }
+        }
+    }
+
+    /**
+     * Waits until every worker has exited after {@link #close()}.
+     *
+     * @return {@code true} if all workers terminated before the timeout
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            for (Thread worker : workers) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return workers.stream().noneMatch(Thread::isAlive);
+                }
+                TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return workers.stream().noneMatch(Thread::isAlive);
+    }
+
+    private void runWorker() {
+        while (true) {
+            QueuedJob job;
+            long waitNanos;
+            lock.lock();
+            try {
+                job = take();
+                if (job == null) {
+                    return;
+                }
+                waitNanos = System.nanoTime() - job.submittedAt();
+                runningJobs.put(job.jobId(), Thread.currentThread());
+            } catch (InterruptedException ex) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            } finally {
+                lock.unlock();
+            }
+            long startedAt = System.nanoTime();
+            try {
+                job.task().run();
+            } catch (RuntimeException ex) {
+                log.warn("RAG index job execution failed for jobId={}: {}", job.jobId(), ex.getMessage(), ex);
+            } finally {
+                finish(job, waitNanos, System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    private QueuedJob take() throws InterruptedException {
+        QueuedJob job = poll();
+        while (job == null) {
+            if (closed) {
+                return null;
+            }
+            notEmpty.await();
+            job = poll();
+        }
+        return job;
+    }
+
+    private QueuedJob poll() {
+        for (LinkedHashMap<String, ArrayDeque<QueuedJob>> tenants : queues.values()) {
+            Iterator<Map.Entry<String, ArrayDeque<QueuedJob>>> iterator = tenants.entrySet().iterator();
+            if (!iterator.hasNext()) {
+                continue;
+            }
+            Map.Entry<String, ArrayDeque<QueuedJob>> next = iterator.next();
+            iterator.remove();
+            QueuedJob job = next.getValue().pollFirst();
+            if (!next.getValue().isEmpty()) {
+                // Move the tenant to the back so same-priority tenants are served round-robin.
+                tenants.put(next.getKey(), next.getValue());
+            }
+            queuedJobs.remove(job.jobId());
+            notFull.signal();
+            return job;
+        }
+        return null;
+    }
+
+    private void finish(QueuedJob job, long waitNanos, long runNanos) {
+        lock.lock();
+        try {
+            runningJobs.remove(job.jobId());
+            // Clear a cancel interrupt that arrived after the task returned so it cannot leak into the next job.
+            Thread.interrupted();
+            completed++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            totalRunNanos += runNanos;
+            maxRunNanos = Math.max(maxRunNanos, runNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        AtomicInteger sequence = new AtomicInteger();
+        if (virtualThreads) {
+            ThreadFactory virtual = virtualThreadFactory();
+            if (virtual != null) {
+                return virtual;
+            }
+            log.warn("Virtual threads are not available on this runtime; RAG index job workers use platform threads");
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, "rag-index-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * {@code Thread.ofVirtual().name("rag-index-job-", 1).factory()}, called through the public
+     * {@code Thread.Builder} interface so the build does not need a Java 21 release target.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "rag-index-job-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            log.debug("Virtual thread factory lookup failed: {}", ex.toString());
+            return null;
+        }
+    }
+
+    private record QueuedJob(
+            String jobId,
+            String tenant,
+            RagIndexJobPriority priority,
+            Runnable task,
+            long submittedAt) {
+    }
+}
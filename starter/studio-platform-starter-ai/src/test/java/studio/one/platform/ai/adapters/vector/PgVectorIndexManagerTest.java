@@ -0,0 +1,127 @@
+package studio.one.platform.ai.adapters.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class PgVectorIndexManagerTest {
+
+    private static final String IVFFLAT_COSINE = "CREATE INDEX idx_ai_chunk_vector ON public.tb_ai_document_chunk"
+            + " USING ivfflat (embedding vector_cosine_ops) WITH (lists='100')";
+
+    @Test
+    void parsesAnnIndexDefinitions() {
+        PgVectorIndexManager.AnnIndex index = PgVectorIndexManager.parse("idx_ai_chunk_vector", IVFFLAT_COSINE);
+
+        assertThat(index).isNotNull();
+        assertThat(index.type()).isEqualTo("ivfflat");
+        assertThat(index.operatorClass()).isEqualTo("vector_cosine_ops");
+        assertThat(PgVectorIndexManager.parse("idx_ai_chunk_object",
+                "CREATE INDEX idx_ai_chunk_object ON public.tb_ai_document_chunk USING btree (object_type, object_id)"))
+                .isNull();
+    }
+
+    @Test
+    void buildsHnswIndexWithMetricOperatorClass() {
+        PgVectorIndexManager manager = new PgVectorIndexManager(mock(JdbcTemplate.class),
+                PgVectorDistanceMetric.INNER_PRODUCT, PgVectorIndexManager.IndexType.HNSW, 100, 24, 128);
+
+        assertThat(manager.createIndexSql()).isEqualTo("CREATE INDEX IF NOT EXISTS idx_ai_chunk_vector_hnsw_inner_product"
+                + " ON tb_ai_document_chunk USING hnsw (embedding vector_ip_ops) WITH (m = 24, ef_construction = 128)");
+    }
+
+    @Test
+    void verifyReportsMismatchBetweenMetricAndIndexOpclass() throws Exception {
+        JdbcTemplate jdbcTemplate = jdbcTemplateWithIndexes(Map.of("idx_ai_chunk_vector", IVFFLAT_COSINE));
+
+        PgVectorIndexManager l2 = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.L2,
+                PgVectorIndexManager.IndexType.IVFFLAT, 100, 16, 64);
+        PgVectorIndexManager cosine = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.COSINE,
+                PgVectorIndexManager.IndexType.IVFFLAT, 100, 16, 64);
+
+        assertThat(l2.verify()).isFalse();
+        assertThat(cosine.verify()).isTrue();
+    }
+
+    @Test
+    void verifyReportsTypeOfMatchingIndex() throws Exception {
+        JdbcTemplate jdbcTemplate = jdbcTemplateWithIndexes(Map.of("idx_ai_chunk_vector", IVFFLAT_COSINE));
+        List<PgVectorIndexManager.IndexType> reported = new ArrayList<>();
+
+        PgVectorIndexManager l2 = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.L2,
+                PgVectorIndexManager.IndexType.HNSW, 100, 16, 64);
+        l2.setActiveIndexListener(reported::add);
+        l2.verify();
+        PgVectorIndexManager cosine = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.COSINE,
+                PgVectorIndexManager.IndexType.HNSW, 100, 16, 64);
+        cosine.setActiveIndexListener(reported::add);
+        cosine.verify();
+
+        assertThat(reported).containsExactly(PgVectorIndexManager.IndexType.IVFFLAT);
+    }
+
+    @Test
+    void ensureIndexCreatesOnlyWhenNoMatchingIndexExists() throws Exception {
+        JdbcTemplate jdbcTemplate = jdbcTemplateWithIndexes(Map.of("idx_ai_chunk_vector", IVFFLAT_COSINE));
+
+        new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.COSINE,
+                PgVectorIndexManager.IndexType.HNSW, 100, 16, 64).ensureIndex();
+        verify(jdbcTemplate, never()).execute(anyString());
+
+        boolean created = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.L2,
+                PgVectorIndexManager.IndexType.HNSW, 100, 16, 64).ensureIndex();
+        assertThat(created).isTrue();
+        verify(jdbcTemplate).execute("CREATE INDEX IF NOT EXISTS idx_ai_chunk_vector_hnsw_l2 ON tb_ai_document_chunk"
+                + " USING hnsw (embedding vector_l2_ops) WITH (m = 16, ef_construction = 64)");
+    }
+
+    @Test
+    void managesQuantizedExpressionIndex() throws Exception {
+        JdbcTemplate jdbcTemplate = jdbcTemplateWithIndexes(Map.of(
+                "idx_ai_chunk_vector", IVFFLAT_COSINE,
+                "idx_ai_chunk_halfvec", "CREATE INDEX idx_ai_chunk_halfvec ON public.tb_ai_document_chunk"
+                        + " USING hnsw (((embedding)::halfvec(768)) halfvec_cosine_ops)"));
+        PgVectorIndexManager halfvec = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.COSINE,
+                PgVectorIndexManager.IndexType.HNSW, 100, 16, 64);
+        halfvec.setQuantization(PgVectorQuantization.HALFVEC, 768);
+        PgVectorIndexManager binary = new PgVectorIndexManager(jdbcTemplate, PgVectorDistanceMetric.COSINE,
+                PgVectorIndexManager.IndexType.HNSW, 100, 16, 64);
+        binary.setQuantization(PgVectorQuantization.BINARY, 768);
+
+        assertThat(halfvec.verify()).isTrue();
+        assertThat(binary.verify()).isFalse();
+        assertThat(binary.ensureIndex()).isTrue();
+        verify(jdbcTemplate).execute("CREATE INDEX IF NOT EXISTS idx_ai_chunk_binary_hnsw_hamming ON tb_ai_document_chunk"
+                + " USING hnsw ((binary_quantize(embedding)::bit(768)) bit_hamming_ops) WITH (m = 16, ef_construction = 64)");
+    }
+
+    private static JdbcTemplate jdbcTemplateWithIndexes(Map<String, String> definitions) throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<String, String> entry : definitions.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("indexname")).thenReturn(entry.getKey());
+                when(rs.getString("indexdef")).thenReturn(entry.getValue());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(PgVectorIndexManager.TABLE));
+        return jdbcTemplate;
+    }
+}
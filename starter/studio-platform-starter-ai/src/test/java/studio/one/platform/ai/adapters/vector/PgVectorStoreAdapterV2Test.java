@@ -3,6 +3,7 @@ package studio.one.platform.ai.adapters.vector;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +27,7 @@ import com.pgvector.PGvector;
 import studio.one.platform.ai.core.MetadataFilter;
 import studio.one.platform.ai.core.vector.VectorDocument;
 import studio.one.platform.ai.core.vector.VectorRecord;
+import studio.one.platform.ai.core.vector.VectorSearchComparison;
 import studio.one.platform.ai.core.vector.VectorSearchRequest;
 import studio.one.platform.ai.core.vector.VectorSearchResult;
 
@@ -35,9 +37,11 @@ class PgVectorStoreAdapterV2Test {
     private static final String SEARCH_SQL = "search-sql";
     private static final String DELETE_BY_OBJECT_SQL = "delete-by-object-sql";
     private static final String SEARCH_BY_OBJECT_SQL = "search-by-object-sql";
-    private static final String HYBRID_SEARCH_SQL = "hybrid-search-sql";
+    private static final String LEXICAL_SEARCH_SQL = "lexical-search-sql";
     private static final String LIST_BY_OBJECT_SQL = "list-by-object-sql";
     private static final String METADATA_BY_OBJECT_SQL = "metadata-by-object-sql";
+    private static final String LIST_EMBEDDINGS_BY_OBJECT_SQL = "list-embeddings-by-object-sql";
+    private static final String DELETE_FROM_CHUNK_INDEX_SQL = "delete-from-chunk-index-sql";
 
     private JdbcTemplate jdbcTemplate;
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
@@ -53,9 +57,11 @@ class PgVectorStoreAdapterV2Test {
         setField("searchSql", SEARCH_SQL);
         setField("deleteByObjectSql", DELETE_BY_OBJECT_SQL);
         setField("searchByObjectSql", SEARCH_BY_OBJECT_SQL);
-        setField("hybridSearchSql", HYBRID_SEARCH_SQL);
+        setField("lexicalSearchSql", LEXICAL_SEARCH_SQL);
         setField("listByObjectSql", LIST_BY_OBJECT_SQL);
         setField("metadataByObjectSql", METADATA_BY_OBJECT_SQL);
+        setField("listEmbeddingsByObjectSql", LIST_EMBEDDINGS_BY_OBJECT_SQL);
+        setField("deleteByObjectFromChunkIndexSql", DELETE_FROM_CHUNK_INDEX_SQL);
     }
 
     @Test
@@ -242,6 +248,59 @@ class PgVectorStoreAdapterV2Test {
                 .contains("\"chunkOrder\":7");
     }
 
+    @Test
+    void updateRecordsByObjectUpsertsChangedChunksAndDeletesTail() {
+        VectorRecord record = VectorRecord.builder()
+                .id("record-2")
+                .documentId("doc-1")
+                .chunkId("chunk-2")
+                .contentHash("hash-2")
+                .text("changed text")
+                .embedding(List.of(0.1d, 0.2d))
+                .embeddingModel("test-embedding")
+                .metadata(Map.of(VectorRecord.KEY_CHUNK_INDEX, 2))
+                .build();
+
+        adapter.updateRecordsByObject("ARTICLE", "article-1", List.of(record), 3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MapSqlParameterSource[]> batchCaptor = ArgumentCaptor.forClass(MapSqlParameterSource[].class);
+        verify(namedParameterJdbcTemplate).batchUpdate(org.mockito.Mockito.eq(UPSERT_SQL), batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(1);
+        assertThat(batchCaptor.getValue()[0].getValue("objectId")).isEqualTo("article-1");
+        assertThat(batchCaptor.getValue()[0].getValue("chunkIndex")).isEqualTo(2);
+        ArgumentCaptor<MapSqlParameterSource> paramsCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).update(org.mockito.Mockito.eq(DELETE_FROM_CHUNK_INDEX_SQL),
+                paramsCaptor.capture());
+        assertThat(paramsCaptor.getValue().getValue("chunkCount")).isEqualTo(3);
+        verify(namedParameterJdbcTemplate, org.mockito.Mockito.never())
+                .update(org.mockito.Mockito.eq(DELETE_BY_OBJECT_SQL), any(MapSqlParameterSource.class));
+    }
+
+    @Test
+    void listDocumentsByObjectParsesStoredEmbedding() throws SQLException {
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    @SuppressWarnings("unchecked")
+                    RowMapper<VectorDocument> rowMapper = invocation.getArgument(2);
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getString("object_id")).thenReturn("article-1");
+                    when(rs.getString("text")).thenReturn("chunk body");
+                    when(rs.getString("metadata")).thenReturn("{\"documentId\":\"doc-list\",\"contentHash\":\"h1\"}");
+                    when(rs.getString("embedding")).thenReturn("[0.5,0.25]");
+                    return List.of(rowMapper.mapRow(rs, 0));
+                });
+
+        List<VectorDocument> documents = adapter.listDocumentsByObject("ARTICLE", "article-1");
+
+        assertThat(documents).hasSize(1);
+        assertThat(documents.get(0).id()).isEqualTo("doc-list");
+        assertThat(documents.get(0).metadata()).containsEntry("contentHash", "h1");
+        assertThat(documents.get(0).embedding()).containsExactly(0.5d, 0.25d);
+        verify(namedParameterJdbcTemplate).query(org.mockito.Mockito.eq(LIST_EMBEDDINGS_BY_OBJECT_SQL),
+                any(MapSqlParameterSource.class), any(RowMapper.class));
+    }
+
     @Test
     void searchByObjectNormalizesBlankFiltersAndMapsMetadataDocumentId() throws SQLException {
         when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
@@ -273,22 +332,55 @@ class PgVectorStoreAdapterV2Test {
     }
 
     @Test
-    void hybridSearchPassesWeightsToSqlSetBackedQuery() {
+    void hybridSearchRunsAnnAndFullTextCandidateQueries() {
         when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
                 .thenReturn(List.of());
 
         adapter.hybridSearch("hello", new VectorSearchRequest(List.of(0.7d, 0.8d), 5), 0.6d, 0.4d);
 
         ArgumentCaptor<MapSqlParameterSource> paramsCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
-        verify(namedParameterJdbcTemplate).query(org.mockito.Mockito.eq(HYBRID_SEARCH_SQL), paramsCaptor.capture(), any(RowMapper.class));
+        verify(namedParameterJdbcTemplate).query(org.mockito.Mockito.eq(SEARCH_SQL), paramsCaptor.capture(), any(RowMapper.class));
+        verify(namedParameterJdbcTemplate).query(org.mockito.Mockito.eq(LEXICAL_SEARCH_SQL), any(MapSqlParameterSource.class), any(RowMapper.class));
         MapSqlParameterSource params = paramsCaptor.getValue();
         assertThat(params.getValue("query")).isEqualTo("hello");
-        assertThat(params.getValue("vectorWeight")).isEqualTo(0.6d);
-        assertThat(params.getValue("lexicalWeight")).isEqualTo(0.4d);
-        assertThat(params.getValue("limit")).isEqualTo(5);
+        assertThat(params.getValue("limit")).isEqualTo(50);
         assertThat(params.getValue("vector")).isInstanceOf(PGvector.class);
     }
 
+    @Test
+    void hybridSearchSkipsFullTextStageForBlankQuery() {
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.hybridSearch(" ", new VectorSearchRequest(List.of(0.7d, 0.8d), 5), 0.6d, 0.4d);
+
+        verify(namedParameterJdbcTemplate, org.mockito.Mockito.never())
+                .query(org.mockito.Mockito.eq(LEXICAL_SEARCH_SQL), any(MapSqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    void reciprocalRankFusionPromotesChunksFoundByBothStages() {
+        List<HybridRankFusion.Candidate> ann = List.of(candidate(1, 0.9d, 0), candidate(2, 0.8d, 0),
+                candidate(3, 0.7d, 0));
+        List<HybridRankFusion.Candidate> lexical = List.of(candidate(4, 0.2d, 0.9d), candidate(3, 0.7d, 0.5d));
+
+        List<VectorSearchResult> results = adapter.fuse(ann, lexical, 3, 0.5d, 0.5d);
+
+        assertThat(results).extracting(result -> result.document().id()).containsExactly("doc-3", "doc-1", "doc-4");
+        assertThat(results.get(0).score()).isEqualTo(0.7d);
+    }
+
+    @Test
+    void weightedFusionCombinesVectorScoreWithNormalizedTextRank() {
+        adapter.setHybridFusion(PgVectorStoreAdapterV2.HybridFusion.WEIGHTED);
+        List<HybridRankFusion.Candidate> ann = List.of(candidate(1, 0.9d, 0), candidate(2, 0.6d, 0));
+        List<HybridRankFusion.Candidate> lexical = List.of(candidate(2, 0.6d, 0.8d), candidate(3, 0.1d, 0.4d));
+
+        List<VectorSearchResult> results = adapter.fuse(ann, lexical, 5, 0.5d, 0.5d);
+
+        assertThat(results).extracting(result -> result.document().id()).containsExactly("doc-2", "doc-1", "doc-3");
+    }
+
     @Test
     void listByObjectUsesConfiguredLimitAndMapsMetadataDocumentId() throws SQLException {
         when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
@@ -328,6 +420,207 @@ class PgVectorStoreAdapterV2Test {
         verify(namedParameterJdbcTemplate).query(org.mockito.Mockito.eq(METADATA_BY_OBJECT_SQL), any(MapSqlParameterSource.class), any(RowMapper.class));
     }
 
+    @Test
+    void searchRewritesDistanceOperatorToConfiguredMetric() throws Exception {
+        setField("searchSql", "SELECT object_id, text, metadata, (embedding <=> :vector) AS distance FROM chunks"
+                + " ORDER BY embedding <=> :vector");
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3));
+        adapter.setDistanceMetric(PgVectorDistanceMetric.INNER_PRODUCT);
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(namedParameterJdbcTemplate, org.mockito.Mockito.times(2))
+                .query(sqlCaptor.capture(), any(MapSqlParameterSource.class), any(RowMapper.class));
+        assertThat(sqlCaptor.getAllValues().get(0)).contains("embedding <=> :vector").doesNotContain("<#>");
+        assertThat(sqlCaptor.getAllValues().get(1)).contains("embedding <#> :vector").doesNotContain("<=>");
+    }
+
+    @Test
+    void innerProductScoreStaysBetweenZeroAndOne() {
+        assertThat(PgVectorDistanceMetric.INNER_PRODUCT.score(-0.9d)).isBetween(0.5d, 1.0d);
+        assertThat(PgVectorDistanceMetric.INNER_PRODUCT.score(0.9d)).isBetween(0.0d, 0.5d);
+        assertThat(PgVectorDistanceMetric.COSINE.score(0.5d)).isEqualTo(1.0d / 1.5d);
+    }
+
+    @Test
+    void searchAppliesAnnTuningInsideTransaction() throws Exception {
+        javax.sql.DataSource dataSource = mock(javax.sql.DataSource.class);
+        java.sql.Connection connection = mock(java.sql.Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        adapter = new PgVectorStoreAdapterV2(jdbcTemplate);
+        setField("namedParameterJdbcTemplate", namedParameterJdbcTemplate);
+        setField("searchSql", SEARCH_SQL);
+        adapter.setDefaultProbes(7);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3).withAnnTuning(120, null));
+
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "hnsw.ef_search", "120");
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "ivfflat.probes", "7");
+        verify(connection).commit();
+    }
+
+    @Test
+    void hybridSearchRaisesEfSearchToCandidateCountWithoutQuantization() throws Exception {
+        javax.sql.DataSource dataSource = mock(javax.sql.DataSource.class);
+        java.sql.Connection connection = mock(java.sql.Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        adapter = new PgVectorStoreAdapterV2(jdbcTemplate);
+        setField("namedParameterJdbcTemplate", namedParameterJdbcTemplate);
+        setField("searchSql", SEARCH_SQL);
+        setField("lexicalSearchSql", LEXICAL_SEARCH_SQL);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.hybridSearch("hello", new VectorSearchRequest(List.of(0.7d, 0.8d), 5), 0.6d, 0.4d);
+
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "hnsw.ef_search", "50");
+    }
+
+    @Test
+    void hybridSearchClampsEfSearchForLargeTopK() throws Exception {
+        javax.sql.DataSource dataSource = mock(javax.sql.DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(java.sql.Connection.class));
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        adapter = new PgVectorStoreAdapterV2(jdbcTemplate);
+        setField("namedParameterJdbcTemplate", namedParameterJdbcTemplate);
+        setField("searchSql", SEARCH_SQL);
+        setField("lexicalSearchSql", LEXICAL_SEARCH_SQL);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.hybridSearch("hello", new VectorSearchRequest(List.of(0.7d, 0.8d), 500), 0.6d, 0.4d);
+
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "hnsw.ef_search",
+                String.valueOf(PgVectorStoreAdapterV2.MAX_EF_SEARCH));
+    }
+
+    @Test
+    void quantizedSearchClampsRaisedEfSearchToPgvectorMaximum() throws Exception {
+        javax.sql.DataSource dataSource = mock(javax.sql.DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(java.sql.Connection.class));
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        adapter = new PgVectorStoreAdapterV2(jdbcTemplate);
+        setField("namedParameterJdbcTemplate", namedParameterJdbcTemplate);
+        setField("searchSql", SEARCH_SQL);
+        adapter.setQuantization(PgVectorQuantization.HALFVEC, 768, 4);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 300));
+
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "hnsw.ef_search",
+                String.valueOf(PgVectorStoreAdapterV2.MAX_EF_SEARCH));
+    }
+
+    @Test
+    void searchSetsOnlyParametersOfActiveIndexType() throws Exception {
+        javax.sql.DataSource dataSource = mock(javax.sql.DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(java.sql.Connection.class));
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        adapter = new PgVectorStoreAdapterV2(jdbcTemplate);
+        setField("namedParameterJdbcTemplate", namedParameterJdbcTemplate);
+        setField("searchSql", SEARCH_SQL);
+        adapter.setDefaultProbes(7);
+        adapter.setQuantization(PgVectorQuantization.HALFVEC, 768, 4);
+        adapter.setAnnIndexType(PgVectorIndexManager.IndexType.IVFFLAT);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3).withAnnTuning(120, null));
+        adapter.setAnnIndexType(PgVectorIndexManager.IndexType.HNSW);
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3).withAnnTuning(120, null));
+
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "ivfflat.probes", "7");
+        verify(jdbcTemplate).queryForObject("SELECT set_config(?, ?, true)", String.class, "hnsw.ef_search", "120");
+    }
+
+    @Test
+    void searchSkipsAnnTuningWhenNothingIsRequested() {
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3));
+
+        verify(jdbcTemplate, org.mockito.Mockito.never())
+                .queryForObject(anyString(), org.mockito.Mockito.eq(String.class), anyString(), anyString());
+    }
+
+    @Test
+    void quantizedSearchRanksCoarseCandidatesByExactDistance() throws Exception {
+        setField("searchSql", "SELECT id, object_id, text, metadata, (embedding <=> :vector) AS distance"
+                + " FROM chunks ORDER BY embedding <=> :vector ASC LIMIT :limit");
+        adapter.setQuantization(PgVectorQuantization.BINARY, 768, 5);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        adapter.search(new VectorSearchRequest(List.of(0.2d, 0.3d), 3,
+                MetadataFilter.of(Map.of("topic", "faq"), Map.of(), Map.of())));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> paramsCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(sqlCaptor.capture(), paramsCaptor.capture(), any(RowMapper.class));
+        assertThat(sqlCaptor.getValue())
+                .startsWith("SELECT * FROM (SELECT id, object_id, text, metadata, (embedding <=> :vector) AS distance")
+                .contains("= :metadataEqualsValue0 ORDER BY (binary_quantize(embedding)::bit(768))"
+                        + " <~> binary_quantize(CAST(:vector AS vector)) LIMIT :coarseLimit) candidates")
+                .endsWith("ORDER BY distance ASC LIMIT :limit");
+        assertThat(paramsCaptor.getValue().getValue("coarseLimit")).isEqualTo(15);
+        assertThat(paramsCaptor.getValue().getValue("limit")).isEqualTo(3);
+    }
+
+    @Test
+    void compareSearchModesReportsRecallOfQuantizedSearch() throws Exception {
+        setField("searchSql", "SELECT id, object_id, text, metadata, (embedding <=> :vector) AS distance"
+                + " FROM chunks ORDER BY embedding <=> :vector ASC LIMIT :limit");
+        adapter.setQuantization(PgVectorQuantization.HALFVEC, 768, 4);
+        doAnswer(invocation -> ((String) invocation.getArgument(0)).contains("halfvec")
+                ? List.of(1L, 2L, 9L)
+                : List.of(1L, 2L, 3L, 4L))
+                .when(namedParameterJdbcTemplate).query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class));
+
+        VectorSearchComparison comparison = adapter.compareSearchModes(List.of(
+                new VectorSearchRequest(List.of(0.2d, 0.3d), 4),
+                new VectorSearchRequest(List.of(0.4d, 0.1d), 4)));
+
+        assertThat(comparison.baselineMode()).isEqualTo("none");
+        assertThat(comparison.candidateMode()).isEqualTo("halfvec");
+        assertThat(comparison.queries()).isEqualTo(2);
+        assertThat(comparison.recall()).isEqualTo(0.5d);
+        assertThat(comparison.baselineMeanMs()).isNotNegative();
+    }
+
+    @Test
+    void compareSearchModesWarmsUpAndAlternatesModeOrder() throws Exception {
+        setField("searchSql", "SELECT id, object_id, text, metadata, (embedding <=> :vector) AS distance"
+                + " FROM chunks ORDER BY embedding <=> :vector ASC LIMIT :limit");
+        adapter.setQuantization(PgVectorQuantization.HALFVEC, 768, 4);
+        when(namedParameterJdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(1L));
+
+        adapter.compareSearchModes(List.of(
+                new VectorSearchRequest(List.of(0.2d, 0.3d), 4),
+                new VectorSearchRequest(List.of(0.4d, 0.1d), 4)));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(namedParameterJdbcTemplate, org.mockito.Mockito.times(6))
+                .query(sqlCaptor.capture(), any(MapSqlParameterSource.class), any(RowMapper.class));
+        assertThat(sqlCaptor.getAllValues())
+                .extracting(sql -> sql.contains("halfvec") ? "halfvec" : "none")
+                .containsExactly("none", "halfvec", "none", "halfvec", "halfvec", "none");
+    }
+
+    private static HybridRankFusion.Candidate candidate(long id, double score, double rank) {
+        VectorDocument document = new VectorDocument("doc-" + id, "chunk " + id, Map.of(), List.of());
+        return new HybridRankFusion.Candidate(id, new VectorSearchResult(document, score), rank);
+    }
+
     private void setField(String fieldName, Object value) throws Exception {
         Field field = PgVectorStoreAdapterV2.class.getDeclaredField(fieldName);
         field.setAccessible(true);
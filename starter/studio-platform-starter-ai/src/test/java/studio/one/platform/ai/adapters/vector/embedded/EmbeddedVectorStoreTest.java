@@ -0,0 +1,291 @@
+package studio.one.platform.ai.adapters.vector.embedded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+import studio.one.platform.ai.adapters.vector.PgVectorStoreAdapterV2;
+import studio.one.platform.ai.core.MetadataFilter;
+import studio.one.platform.ai.core.embedding.FloatVector;
+import studio.one.platform.ai.core.vector.VectorDocument;
+import studio.one.platform.ai.core.vector.VectorSearchRequest;
+import studio.one.platform.ai.core.vector.VectorSearchResult;
+
+class EmbeddedVectorStoreTest {
+
+    private static final int DIMENSION = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void hnswRecallMatchesBruteForce() {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null));
+        Random random = new Random(7);
+        List<float[]> vectors = new ArrayList<>();
+        List<VectorDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            float[] vector = randomVector(random);
+            vectors.add(vector);
+            documents.add(document("doc", "d" + i, 0, "chunk " + i, vector, Map.of()));
+        }
+        store.upsert(documents);
+
+        int hits = 0;
+        int total = 0;
+        for (int q = 0; q < 20; q++) {
+            float[] query = randomVector(random);
+            Set<String> expected = new HashSet<>(bruteForce(vectors, query, 10));
+            for (VectorSearchResult result : store.search(new VectorSearchRequest(FloatVector.of(query), 10, null))) {
+                if (expected.contains(result.document().metadata().get("objectId"))) {
+                    hits++;
+                }
+            }
+            total += expected.size();
+        }
+        assertThat((double) hits / total).isGreaterThanOrEqualTo(0.9d);
+    }
+
+    @Test
+    void filtersByObjectScopeAndMetadata() {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null));
+        store.upsert(List.of(
+                document("doc", "a", 0, "alpha", vector(1, 0), Map.of("lang", "ko")),
+                document("doc", "a", 1, "alpha two", vector(0.9f, 0.1f), Map.of("lang", "en")),
+                document("doc", "b", 0, "beta", vector(1, 0.05f), Map.of("lang", "ko"))));
+
+        VectorSearchRequest scoped = new VectorSearchRequest(FloatVector.of(vector(1, 0)), 5,
+                MetadataFilter.objectScope("doc", "a"));
+        assertThat(store.search(scoped)).extracting(result -> result.document().content())
+                .containsExactly("alpha", "alpha two");
+
+        VectorSearchRequest korean = new VectorSearchRequest(FloatVector.of(vector(1, 0)), 5,
+                MetadataFilter.of(Map.of("lang", "ko"), Map.of(), Map.of()));
+        assertThat(store.search(korean)).extracting(result -> result.document().content())
+                .containsExactly("alpha", "beta");
+        assertThat(store.searchByObject("doc", "b", new VectorSearchRequest(FloatVector.of(vector(1, 0)), 5, null)))
+                .extracting(result -> result.document().content())
+                .containsExactly("beta");
+        assertThat(store.search(scoped).get(0).score()).isCloseTo(1.0d, within(1.0e-6));
+    }
+
+    @Test
+    void replaceTombstonesOldChunksAndCompactionDropsThem() {
+        EmbeddedVectorStoreOptions options = new EmbeddedVectorStoreOptions(null, PgVectorDistanceMetric.COSINE,
+                16, 100, 64, 0.3d, Duration.ofMinutes(1), PgVectorStoreAdapterV2.HybridFusion.RRF, 60);
+        EmbeddedVectorStore store = new EmbeddedVectorStore(options);
+        store.upsert(List.of(
+                document("doc", "a", 0, "old zero", vector(1, 0), Map.of("contentHash", "h0")),
+                document("doc", "a", 1, "old one", vector(0, 1), Map.of("contentHash", "h1")),
+                document("doc", "b", 0, "other", vector(1, 1), Map.of())));
+
+        store.replaceByObject("doc", "a", List.of(
+                document("doc", "a", 0, "new zero", vector(1, 0), Map.of("contentHash", "h2"))));
+
+        assertThat(store.liveCount()).isEqualTo(2);
+        assertThat(store.deletedCount()).isEqualTo(2);
+        assertThat(store.existsByContentHash("h1")).isFalse();
+        assertThat(store.existsByContentHash("h2")).isTrue();
+        assertThat(store.listByObject("doc", "a", null)).extracting(result -> result.document().content())
+                .containsExactly("new zero");
+
+        assertThat(store.compactIfNeeded()).isTrue();
+        assertThat(store.deletedCount()).isZero();
+        assertThat(store.search(new VectorSearchRequest(FloatVector.of(vector(1, 0)), 5, null)))
+                .extracting(result -> result.document().content())
+                .containsExactly("new zero", "other");
+    }
+
+    @Test
+    void compactionReplaysWritesMadeDuringTheRebuild() {
+        EmbeddedVectorStoreOptions options = new EmbeddedVectorStoreOptions(null, PgVectorDistanceMetric.COSINE,
+                16, 100, 64, 0.3d, Duration.ofMinutes(1), PgVectorStoreAdapterV2.HybridFusion.RRF, 60);
+        EmbeddedVectorStore store = new EmbeddedVectorStore(options);
+        store.upsert(List.of(
+                document("doc", "a", 0, "zero", vector(1, 0), Map.of()),
+                document("doc", "a", 1, "one", vector(0, 1), Map.of()),
+                document("doc", "b", 0, "other", vector(1, 1), Map.of())));
+        store.deleteByObject("doc", "b");
+
+        boolean compacted = store.compactIfNeeded(() -> {
+            store.upsert(List.of(document("doc", "c", 0, "during", vector(1, 2), Map.of())));
+            store.updateByObject("doc", "a", List.of(
+                    document("doc", "a", 0, "zero changed", vector(2, 0), Map.of())), 1);
+        });
+
+        assertThat(compacted).isTrue();
+        assertThat(store.liveCount()).isEqualTo(2);
+        assertThat(store.deletedCount()).as("tombstones from the replayed update").isEqualTo(2);
+        assertThat(store.listByObject("doc", "a", null)).extracting(result -> result.document().content())
+                .containsExactly("zero changed");
+        assertThat(store.exists("doc", "c")).isTrue();
+        assertThat(store.search(new VectorSearchRequest(FloatVector.of(vector(1, 2)), 1, null)))
+                .extracting(result -> result.document().content())
+                .containsExactly("during");
+    }
+
+    @Test
+    void snapshotRestoresChunksGraphAndTombstones() throws Exception {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(directory));
+        store.start();
+        Random random = new Random(11);
+        List<VectorDocument> documents = IntStream.range(0, 200)
+                .mapToObj(i -> document("doc", "d" + (i / 4), i % 4, "text " + i, randomVector(random),
+                        Map.of("n", i)))
+                .toList();
+        store.upsert(documents);
+        store.deleteByObject("doc", "d0");
+        float[] query = randomVector(random);
+        List<VectorSearchResult> before = store.search(new VectorSearchRequest(FloatVector.of(query), 8, null));
+        store.close();
+
+        Path current = directory.resolve(Files.readString(directory.resolve(EmbeddedVectorSnapshot.CURRENT)).trim());
+        assertThat(current.resolve(EmbeddedVectorSnapshot.VECTORS)).exists();
+        assertThat(current.resolve(EmbeddedVectorSnapshot.GRAPH)).exists();
+        assertThat(current.resolve(EmbeddedVectorSnapshot.RECORDS)).exists();
+
+        EmbeddedVectorStore reloaded = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(directory));
+        reloaded.start();
+        try {
+            assertThat(reloaded.liveCount()).isEqualTo(196);
+            assertThat(reloaded.deletedCount()).isEqualTo(4);
+            assertThat(reloaded.exists("doc", "d0")).isFalse();
+            assertThat(reloaded.getMetadata("doc", "d1")).containsEntry("n", 4);
+            assertThat(reloaded.search(new VectorSearchRequest(FloatVector.of(query), 8, null)))
+                    .extracting(result -> result.document().content())
+                    .containsExactlyElementsOf(before.stream().map(result -> result.document().content()).toList());
+        } finally {
+            reloaded.close();
+        }
+    }
+
+    @Test
+    void snapshotKeepsOnePreviousGeneration() throws Exception {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(directory));
+        for (int i = 0; i < 3; i++) {
+            store.upsert(List.of(document("doc", "a", i, "text " + i, vector(1, i), Map.of())));
+            store.flush();
+        }
+
+        try (var entries = Files.list(directory)) {
+            assertThat(entries.map(path -> path.getFileName().toString()))
+                    .containsExactlyInAnyOrder(EmbeddedVectorSnapshot.CURRENT, "gen-2", "gen-3");
+        }
+        assertThat(Files.readString(directory.resolve(EmbeddedVectorSnapshot.CURRENT)).trim()).isEqualTo("gen-3");
+    }
+
+    @Test
+    void hybridSearchFusesVectorAndBm25Candidates() {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null));
+        store.upsert(List.of(
+                document("doc", "a", 0, "vector neighbour", vector(1, 0), Map.of()),
+                document("doc", "a", 1, "환불 정책 안내", vector(0, 1), Map.of()),
+                document("doc", "a", 2, "unrelated", vector(-1, 0), Map.of("keywordsText", "환불"))));
+
+        VectorSearchRequest request = new VectorSearchRequest(FloatVector.of(vector(1, 0)), 2, null);
+
+        assertThat(store.hybridSearch("환불 정책", request, 0.5d, 0.5d))
+                .extracting(result -> result.document().content())
+                .containsExactly("환불 정책 안내", "unrelated");
+        assertThat(store.hybridSearch(" ", request, 0.5d, 0.5d))
+                .extracting(result -> result.document().content())
+                .containsExactly("vector neighbour", "환불 정책 안내");
+        assertThat(store.hybridSearchByObject("환불", "doc", "missing", request, 0.5d, 0.5d)).isEmpty();
+    }
+
+    @Test
+    void listsObjectChunksInChunkOrderWithPaging() {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null));
+        store.upsert(List.of(
+                document("doc", "a", 2, "two", vector(1, 0), Map.of()),
+                document("doc", "a", 0, "zero", vector(1, 0), Map.of()),
+                document("doc", "a", 1, "one", vector(1, 0), Map.of())));
+
+        assertThat(store.listByObject("doc", "a", null)).extracting(result -> result.document().content())
+                .containsExactly("zero", "one", "two");
+        assertThat(store.listByObject("doc", "a", 1, 1)).extracting(result -> result.document().content())
+                .containsExactly("one");
+        assertThat(store.listByObject("doc", "a", null).get(0).document().id()).isEqualTo("doc-a-0");
+    }
+
+    @Test
+    void updateByObjectKeepsUntouchedChunksAndDropsTail() {
+        EmbeddedVectorStore store = new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null));
+        store.upsert(List.of(
+                document("doc", "a", 0, "zero", vector(1, 0), Map.of("contentHash", "h0")),
+                document("doc", "a", 1, "one", vector(0, 1), Map.of("contentHash", "h1")),
+                document("doc", "a", 2, "two", vector(1, 1), Map.of("contentHash", "h2"))));
+
+        store.updateByObject("doc", "a", List.of(
+                document("doc", "a", 1, "one changed", vector(0, 2), Map.of("contentHash", "h3"))), 2);
+
+        assertThat(store.deletedCount()).isEqualTo(2);
+        List<VectorDocument> stored = store.listDocumentsByObject("doc", "a");
+        assertThat(stored).extracting(VectorDocument::content).containsExactly("zero", "one changed");
+        assertThat(stored.get(1).embeddingVector().dimension()).isEqualTo(DIMENSION);
+        assertThat(stored.get(1).embeddingVector().get(1)).isEqualTo(1.0f);
+        assertThat(store.existsByContentHash("h2")).isFalse();
+    }
+
+    private static VectorDocument document(String objectType, String objectId, int chunkIndex, String text,
+            float[] vector, Map<String, ?> extra) {
+        Map<String, Object> metadata = new HashMap<>(extra);
+        metadata.put("objectType", objectType);
+        metadata.put("objectId", objectId);
+        metadata.put("chunkIndex", chunkIndex);
+        return new VectorDocument(objectType + "-" + objectId + "-" + chunkIndex, text, metadata,
+                FloatVector.of(vector));
+    }
+
+    private static float[] vector(float x, float y) {
+        float[] vector = new float[DIMENSION];
+        vector[0] = x;
+        vector[1] = y;
+        return vector;
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static List<String> bruteForce(List<float[]> vectors, float[] query, int k) {
+        return IntStream.range(0, vectors.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> -cosine(vectors.get(i), query)))
+                .limit(k)
+                .map(i -> "d" + i)
+                .toList();
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0.0d;
+        double na = 0.0d;
+        double nb = 0.0d;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dot / Math.sqrt(na * nb);
+    }
+}
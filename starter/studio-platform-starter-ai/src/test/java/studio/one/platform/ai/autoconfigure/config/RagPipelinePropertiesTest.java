@@ -10,8 +10,15 @@ import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.StandardEnvironment;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 
+import studio.one.platform.ai.adapters.vector.PgVectorDistanceMetric;
+import studio.one.platform.ai.adapters.vector.PgVectorIndexManager;
+import studio.one.platform.ai.adapters.vector.PgVectorQuantization;
+import studio.one.platform.ai.adapters.vector.PgVectorStoreAdapterV2;
+
 @SuppressWarnings("deprecation")
 class RagPipelinePropertiesTest {
 
@@ -40,6 +47,19 @@ class RagPipelinePropertiesTest {
         assertThat(properties.getDiagnostics().isLogResults()).isFalse();
         assertThat(properties.getDiagnostics().getMaxSnippetChars()).isEqualTo(120);
         assertThat(properties.getJobs().getRepository()).isEqualTo("memory");
+        assertThat(properties.getEmbedding().getBatchSize()).isEqualTo(32);
+        assertThat(properties.getEmbedding().getMaxConcurrency()).isEqualTo(4);
+        assertThat(properties.getEmbedding().getRequestsPerSecond()).isZero();
+        assertThat(properties.getEmbedding().getRateLimitTimeout()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(properties.getJobs().getQueue().isEnabled()).isTrue();
+        assertThat(properties.getJobs().getQueue().getWorkers()).isEqualTo(2);
+        assertThat(properties.getJobs().getQueue().getCapacity()).isEqualTo(100);
+        assertThat(properties.getJobs().getQueue().getOfferTimeout()).isEqualTo(Duration.ZERO);
+        assertThat(properties.getJobs().getQueue().isVirtualThreads()).isFalse();
+        assertThat(properties.getJobs().getCluster().isEnabled()).isFalse();
+        assertThat(properties.getJobs().getCluster().getNodeId()).isNull();
+        assertThat(properties.getJobs().getCluster().getLeaseDuration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(properties.getJobs().getCluster().getMaxAttempts()).isEqualTo(3);
     }
 
     @Test
@@ -64,7 +84,21 @@ class RagPipelinePropertiesTest {
                 Map.entry("studio.ai.pipeline.diagnostics.enabled", "true"),
                 Map.entry("studio.ai.pipeline.diagnostics.log-results", "true"),
                 Map.entry("studio.ai.pipeline.diagnostics.max-snippet-chars", "42"),
-                Map.entry("studio.ai.pipeline.jobs.repository", "jdbc"))));
+                Map.entry("studio.ai.pipeline.jobs.repository", "jdbc"),
+                Map.entry("studio.ai.pipeline.embedding.batch-size", "64"),
+                Map.entry("studio.ai.pipeline.embedding.max-concurrency", "8"),
+                Map.entry("studio.ai.pipeline.embedding.requests-per-second", "20"),
+                Map.entry("studio.ai.pipeline.embedding.rate-limit-timeout", "5s"),
+                Map.entry("studio.ai.pipeline.jobs.queue.workers", "6"),
+                Map.entry("studio.ai.pipeline.jobs.queue.capacity", "500"),
+                Map.entry("studio.ai.pipeline.jobs.queue.offer-timeout", "2s"),
+                Map.entry("studio.ai.pipeline.jobs.queue.virtual-threads", "true"),
+                Map.entry("studio.ai.pipeline.jobs.cluster.enabled", "true"),
+                Map.entry("studio.ai.pipeline.jobs.cluster.node-id", "worker-1"),
+                Map.entry("studio.ai.pipeline.jobs.cluster.lease-duration", "2m"),
+                Map.entry("studio.ai.pipeline.jobs.cluster.heartbeat-interval", "20s"),
+                Map.entry("studio.ai.pipeline.jobs.cluster.poll-interval", "500ms"),
+                Map.entry("studio.ai.pipeline.jobs.cluster.max-attempts", "5"))));
 
         RagPipelineProperties properties = new Binder(ConfigurationPropertySources.get(environment))
                 .bind("studio.ai.pipeline", Bindable.of(RagPipelineProperties.class))
@@ -89,6 +123,20 @@ class RagPipelinePropertiesTest {
         assertThat(properties.getDiagnostics().isLogResults()).isTrue();
         assertThat(properties.getDiagnostics().getMaxSnippetChars()).isEqualTo(42);
         assertThat(properties.getJobs().getRepository()).isEqualTo("jdbc");
+        assertThat(properties.getEmbedding().getBatchSize()).isEqualTo(64);
+        assertThat(properties.getEmbedding().getMaxConcurrency()).isEqualTo(8);
+        assertThat(properties.getEmbedding().getRequestsPerSecond()).isEqualTo(20);
+        assertThat(properties.getEmbedding().getRateLimitTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(properties.getJobs().getQueue().getWorkers()).isEqualTo(6);
+        assertThat(properties.getJobs().getQueue().getCapacity()).isEqualTo(500);
+        assertThat(properties.getJobs().getQueue().getOfferTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(properties.getJobs().getQueue().isVirtualThreads()).isTrue();
+        assertThat(properties.getJobs().getCluster().isEnabled()).isTrue();
+        assertThat(properties.getJobs().getCluster().getNodeId()).isEqualTo("worker-1");
+        assertThat(properties.getJobs().getCluster().getLeaseDuration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(properties.getJobs().getCluster().getHeartbeatInterval()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(properties.getJobs().getCluster().getPollInterval()).isEqualTo(Duration.ofMillis(500));
+        assertThat(properties.getJobs().getCluster().getMaxAttempts()).isEqualTo(5);
     }
 
     @Test
@@ -121,16 +169,40 @@ class RagPipelinePropertiesTest {
     void shouldExposeVectorStoreDefaultsAndOverrides() {
         VectorStoreProperties defaults = new VectorStoreProperties();
         assertThat(defaults.getPostgres().getTextSearchConfig()).isEqualTo("simple");
+        assertThat(defaults.getPostgres().getMetric()).isEqualTo(PgVectorDistanceMetric.COSINE);
+        assertThat(defaults.getPostgres().getIndex().getType()).isEqualTo(PgVectorIndexManager.IndexType.IVFFLAT);
+        assertThat(defaults.getPostgres().getIndex().isVerifyOnStartup()).isTrue();
+        assertThat(defaults.getPostgres().getHybrid().getFusion()).isEqualTo(PgVectorStoreAdapterV2.HybridFusion.RRF);
+        assertThat(defaults.getPostgres().getHybrid().getRrfK()).isEqualTo(60);
+        assertThat(defaults.getType()).isEqualTo(VectorStoreProperties.Type.PGVECTOR);
+        assertThat(defaults.getPostgres().getQuantization().getMode()).isEqualTo(PgVectorQuantization.NONE);
+        assertThat(defaults.getEmbedded().toOptions().directory()).isNull();
 
         StandardEnvironment environment = new StandardEnvironment();
         environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of(
-                "studio.ai.vector.postgres.text-search-config", "simple")));
+                "studio.ai.vector.postgres.text-search-config", "simple",
+                "studio.ai.vector.postgres.metric", "inner-product",
+                "studio.ai.vector.postgres.ef-search", "80",
+                "studio.ai.vector.postgres.index.type", "hnsw",
+                "studio.ai.vector.postgres.index.ef-construction", "128",
+                "studio.ai.vector.postgres.quantization.mode", "binary",
+                "studio.ai.vector.type", "embedded",
+                "studio.ai.vector.embedded.directory", "/var/lib/studio/vectors",
+                "studio.ai.vector.embedded.maintenance-interval", "30s")));
 
         VectorStoreProperties properties = new Binder(ConfigurationPropertySources.get(environment))
                 .bind("studio.ai.vector", Bindable.of(VectorStoreProperties.class))
                 .orElseThrow(() -> new AssertionError("VectorStoreProperties binding failed"));
 
         assertThat(properties.getPostgres().getTextSearchConfig()).isEqualTo("simple");
+        assertThat(properties.getPostgres().getMetric()).isEqualTo(PgVectorDistanceMetric.INNER_PRODUCT);
+        assertThat(properties.getPostgres().getEfSearch()).isEqualTo(80);
+        assertThat(properties.getPostgres().getIndex().getType()).isEqualTo(PgVectorIndexManager.IndexType.HNSW);
+        assertThat(properties.getPostgres().getIndex().getEfConstruction()).isEqualTo(128);
+        assertThat(properties.getPostgres().getQuantization().getMode()).isEqualTo(PgVectorQuantization.BINARY);
+        assertThat(properties.getType()).isEqualTo(VectorStoreProperties.Type.EMBEDDED);
+        assertThat(properties.getEmbedded().toOptions().directory()).isEqualTo(Path.of("/var/lib/studio/vectors"));
+        assertThat(properties.getEmbedded().toOptions().maintenanceInterval()).isEqualTo(Duration.ofSeconds(30));
     }
 
     private void assertDeprecatedFallbackAccessor(Method method) {
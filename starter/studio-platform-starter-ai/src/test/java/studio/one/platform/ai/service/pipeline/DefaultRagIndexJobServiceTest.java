@@ -6,12 +6,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import studio.one.platform.ai.core.rag.RagIndexJob;
 import studio.one.platform.ai.core.rag.RagIndexJobCreateRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobLogLevel;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
 import studio.one.platform.ai.core.rag.RagIndexJobSourceRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
@@ -151,6 +154,62 @@ class DefaultRagIndexJobServiceTest {
                         studio.one.platform.ai.core.rag.RagIndexJobLogCode.JOB_CANCELLED));
     }
 
+    @Test
+    void submitJobRunsOnSchedulerAndReportsQueueStats() throws Exception {
+        try (RagIndexJobScheduler scheduler = new RagIndexJobScheduler(RagIndexJobQueueOptions.defaults())) {
+            DefaultRagIndexJobService service = new DefaultRagIndexJobService(
+                    repository, new SuccessfulPipeline(), List.of(), scheduler);
+            RagIndexJob job = service.createJob(new RagIndexJobCreateRequest(
+                    "attachment",
+                    "42",
+                    "doc-1",
+                    "raw",
+                    false,
+                    new RagIndexRequest("doc-1", "content", Map.of("tenantId", "acme"))));
+
+            RagIndexJob submitted = service.submitJob(job.jobId(), RagIndexJobPriority.HIGH);
+
+            assertThat(submitted.status()).isEqualTo(RagIndexJobStatus.PENDING);
+            awaitStatus(service, job.jobId(), RagIndexJobStatus.SUCCEEDED);
+            assertThat(service.queueStats()).hasValueSatisfying(stats -> {
+                assertThat(stats.submitted()).isEqualTo(1);
+                assertThat(stats.capacity()).isEqualTo(RagIndexJobQueueOptions.DEFAULT_CAPACITY);
+            });
+        }
+    }
+
+    @Test
+    void cancelInterruptsRunningQueuedJob() throws Exception {
+        BlockingPipeline pipeline = new BlockingPipeline();
+        try (RagIndexJobScheduler scheduler = new RagIndexJobScheduler(RagIndexJobQueueOptions.defaults())) {
+            DefaultRagIndexJobService service = new DefaultRagIndexJobService(
+                    repository, pipeline, List.of(), scheduler);
+            RagIndexJob job = service.createJob(new RagIndexJobCreateRequest(
+                    "attachment",
+                    "42",
+                    "doc-1",
+                    "raw",
+                    false,
+                    new RagIndexRequest("doc-1", "content", Map.of())));
+            service.submitJob(job.jobId(), RagIndexJobPriority.NORMAL);
+            assertThat(pipeline.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            service.cancelJob(job.jobId());
+
+            assertThat(pipeline.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(service.getJob(job.jobId()).orElseThrow().status()).isEqualTo(RagIndexJobStatus.CANCELLED);
+        }
+    }
+
+    @Test
+    void submitJobIsUnsupportedWithoutScheduler() {
+        DefaultRagIndexJobService service = new DefaultRagIndexJobService(repository, new SuccessfulPipeline());
+
+        assertThatThrownBy(() -> service.submitJob("job-1", RagIndexJobPriority.NORMAL))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(service.queueStats()).isEmpty();
+    }
+
     @Test
     void cancelRejectsTerminalJob() {
         DefaultRagIndexJobService service = new DefaultRagIndexJobService(repository, new SuccessfulPipeline());
@@ -252,6 +311,35 @@ class DefaultRagIndexJobServiceTest {
                         studio.one.platform.ai.core.rag.RagIndexJobLogCode.SOURCE_UNSUPPORTED));
     }
 
+    private static void awaitStatus(
+            DefaultRagIndexJobService service,
+            String jobId,
+            RagIndexJobStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getJob(jobId).orElseThrow().status() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(service.getJob(jobId).orElseThrow().status()).isEqualTo(status);
+    }
+
+    private static class BlockingPipeline extends BasePipeline {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public void index(RagIndexRequest request, RagIndexProgressListener listener) {
+            listener.onStep(RagIndexJobStep.EMBEDDING);
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw new IllegalStateException("Embedding was interrupted", ex);
+            }
+        }
+    }
+
     private static class SuccessfulPipeline extends BasePipeline {
 
         @Override
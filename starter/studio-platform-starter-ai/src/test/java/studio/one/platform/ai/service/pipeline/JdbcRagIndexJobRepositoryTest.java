@@ -3,8 +3,10 @@ package studio.one.platform.ai.service.pipeline;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,20 +17,29 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 
+import studio.one.platform.ai.core.rag.RagChunkingOptions;
 import studio.one.platform.ai.core.rag.RagIndexJob;
+import studio.one.platform.ai.core.rag.RagIndexJobCreateRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobFilter;
 import studio.one.platform.ai.core.rag.RagIndexJobLog;
 import studio.one.platform.ai.core.rag.RagIndexJobLogCode;
 import studio.one.platform.ai.core.rag.RagIndexJobLogLevel;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPayload;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobSourceRequest;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
+import studio.one.platform.ai.core.rag.RagIndexRequest;
 
 class JdbcRagIndexJobRepositoryTest {
 
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
     private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
     private JdbcRagIndexJobRepository repository;
 
     @BeforeEach
@@ -37,7 +48,7 @@ class JdbcRagIndexJobRepositoryTest {
                 .generateUniqueName(true)
                 .setType(EmbeddedDatabaseType.H2)
                 .build();
-        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate = new JdbcTemplate(database);
         createSchema(jdbcTemplate);
         repository = new JdbcRagIndexJobRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
     }
@@ -113,6 +124,124 @@ class JdbcRagIndexJobRepositoryTest {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void storesAndRestoresJobRequestPayload() {
+        repository.save(pending("job-1", "attachment", "42", "doc-1"));
+        repository.save(pending("job-2", "attachment", "43", "doc-2"));
+        RagIndexJobPayload indexPayload = new RagIndexJobPayload(
+                new RagIndexJobCreateRequest("attachment", "42", null, "attachment", true,
+                        new RagIndexRequest("doc-1", "hello", Map.of("tenantId", "t-1"), List.of("k1"), true,
+                                "default", "openai", "text-embedding-3-small",
+                                new RagChunkingOptions("recursive", 400, 40, "token"))),
+                null);
+        RagIndexJobPayload sourcePayload = new RagIndexJobPayload(
+                new RagIndexJobCreateRequest("attachment", "43", "doc-2", "attachment", false, null),
+                new RagIndexJobSourceRequest(Map.of("category", "manual"), List.of("k2"), false));
+
+        repository.saveRequest("job-1", indexPayload);
+        repository.saveRequest("job-2", sourcePayload);
+
+        RagIndexJobPayload restored = repository.findRequest("job-1").orElseThrow();
+        assertThat(restored.request().forceReindex()).isTrue();
+        assertThat(restored.request().documentId()).isEqualTo("doc-1");
+        RagIndexRequest indexRequest = restored.request().indexRequest();
+        assertThat(indexRequest.text()).isEqualTo("hello");
+        assertThat(indexRequest.metadata()).containsEntry("tenantId", "t-1");
+        assertThat(indexRequest.keywords()).containsExactly("k1");
+        assertThat(indexRequest.useLlmKeywordExtraction()).isTrue();
+        assertThat(indexRequest.embeddingModel()).isEqualTo("text-embedding-3-small");
+        assertThat(indexRequest.chunkingOptions()).isEqualTo(new RagChunkingOptions("recursive", 400, 40, "token"));
+        assertThat(restored.sourceRequest()).isNull();
+        assertThat(repository.findRequest("job-2")).get()
+                .extracting(RagIndexJobPayload::sourceRequest)
+                .isEqualTo(sourcePayload.sourceRequest());
+        assertThat(repository.findRequest("missing")).isEmpty();
+    }
+
+    @Test
+    void claimsEnqueuedJobsByPriorityAndSkipsClaimedJobs() {
+        repository.save(pending("job-low", "attachment", "1", "doc-1"));
+        repository.save(pending("job-normal", "attachment", "2", "doc-2"));
+        repository.save(pending("job-high", "attachment", "3", "doc-3"));
+        repository.save(pending("job-idle", "attachment", "4", "doc-4"));
+        repository.enqueue("job-low", RagIndexJobPriority.LOW);
+        repository.enqueue("job-normal", RagIndexJobPriority.NORMAL);
+        repository.enqueue("job-high", RagIndexJobPriority.HIGH);
+
+        assertThat(repository.claimNext("node-a", LEASE, 2)).containsExactly("job-high", "job-normal");
+        assertThat(repository.claimNext("node-b", LEASE, 5)).containsExactly("job-low");
+        assertThat(repository.claimNext("node-b", LEASE, 5)).isEmpty();
+        assertThat(repository.claim("job-high", "node-b", LEASE)).isFalse();
+        assertThat(repository.claim("job-high", "node-a", LEASE)).isTrue();
+        assertThat(repository.claim("job-idle", "node-b", LEASE)).isTrue();
+        assertThatThrownBy(() -> repository.enqueue("job-idle", RagIndexJobPriority.NORMAL))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void renewsAndReleasesLeasesOnlyForOwner() {
+        repository.save(pending("job-1", "attachment", "42", "doc-1"));
+        repository.enqueue("job-1", RagIndexJobPriority.NORMAL);
+        repository.claimNext("node-a", LEASE, 1);
+
+        assertThat(repository.renewLease("job-1", "node-b", LEASE)).isFalse();
+        assertThat(repository.renewLease("job-1", "node-a", LEASE)).isTrue();
+        repository.releaseLease("job-1", "node-b");
+        assertThat(leaseOwner("job-1")).isEqualTo("node-a");
+
+        repository.cancelJob("job-1", "cancelled");
+        assertThat(repository.renewLease("job-1", "node-a", LEASE)).isFalse();
+        repository.releaseLease("job-1", "node-a");
+        assertThat(leaseOwner("job-1")).isNull();
+    }
+
+    @Test
+    void requeuesClaimedJobWithStoredPriorityAndWithoutCountingTheAttempt() {
+        repository.save(pending("job-1", "attachment", "42", "doc-1"));
+        repository.save(pending("job-2", "attachment", "43", "doc-2"));
+        repository.enqueue("job-1", RagIndexJobPriority.HIGH);
+        repository.enqueue("job-2", RagIndexJobPriority.NORMAL);
+        assertThat(repository.claimNext("node-a", LEASE, 1)).containsExactly("job-1");
+
+        assertThat(repository.requeueClaimed("job-1", "node-b")).isFalse();
+        assertThat(repository.requeueClaimed("job-1", "node-a")).isTrue();
+
+        assertThat(leaseOwner("job-1")).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempt_count FROM tb_ai_rag_index_job WHERE job_id = 'job-1'", Integer.class)).isZero();
+        assertThat(repository.claimNext("node-b", LEASE, 1)).containsExactly("job-1");
+    }
+
+    @Test
+    void recoversExpiredLeasesAndFailsJobsAfterMaxAttempts() {
+        repository.save(pending("job-1", "attachment", "42", "doc-1"));
+        repository.save(pending("job-2", "attachment", "43", "doc-2"));
+        repository.enqueue("job-1", RagIndexJobPriority.NORMAL);
+        repository.enqueue("job-2", RagIndexJobPriority.NORMAL);
+        repository.claimNext("node-a", Duration.ofMillis(-1), 2);
+        repository.updateStatus("job-1", RagIndexJobStatus.RUNNING, RagIndexJobStep.EMBEDDING, null);
+        repository.updateCounts("job-1", 5, 2, 0, 0);
+        jdbcTemplate.update("UPDATE tb_ai_rag_index_job SET attempt_count = 3 WHERE job_id = 'job-2'");
+
+        assertThat(repository.recoverExpiredLeases(3)).isEqualTo(2);
+
+        RagIndexJob requeued = repository.findById("job-1").orElseThrow();
+        assertThat(requeued.status()).isEqualTo(RagIndexJobStatus.PENDING);
+        assertThat(requeued.chunkCount()).isZero();
+        assertThat(requeued.currentStep()).isNull();
+        assertThat(leaseOwner("job-1")).isNull();
+        RagIndexJob failed = repository.findById("job-2").orElseThrow();
+        assertThat(failed.status()).isEqualTo(RagIndexJobStatus.FAILED);
+        assertThat(failed.errorMessage()).isEqualTo(JdbcRagIndexJobRepository.LEASE_EXPIRED_MESSAGE);
+        assertThat(repository.claimNext("node-b", LEASE, 5)).containsExactly("job-1");
+        assertThat(repository.recoverExpiredLeases(3)).isZero();
+    }
+
+    private String leaseOwner(String jobId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT lease_owner FROM tb_ai_rag_index_job WHERE job_id = ?", String.class, jobId);
+    }
+
     private RagIndexJob pending(String jobId, String objectType, String objectId, String documentId) {
         return RagIndexJob.pending(
                 jobId,
@@ -142,7 +271,13 @@ class JdbcRagIndexJobRepositoryTest {
                   created_at TIMESTAMP NOT NULL,
                   started_at TIMESTAMP,
                   finished_at TIMESTAMP,
-                  duration_ms BIGINT
+                  duration_ms BIGINT,
+                  request_payload CLOB,
+                  priority INT NOT NULL DEFAULT 1,
+                  enqueued_at TIMESTAMP,
+                  lease_owner VARCHAR(200),
+                  lease_expires_at TIMESTAMP,
+                  attempt_count INT NOT NULL DEFAULT 0
                 )
                 """,
                 """
@@ -0,0 +1,258 @@
+package studio.one.platform.ai.service.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import studio.one.platform.ai.core.rag.RagIndexJob;
+import studio.one.platform.ai.core.rag.RagIndexJobCreateRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobStatus;
+import studio.one.platform.ai.core.rag.RagIndexJobStep;
+import studio.one.platform.ai.core.rag.RagIndexRequest;
+import studio.one.platform.ai.core.rag.RagRetrievalDiagnostics;
+import studio.one.platform.ai.core.rag.RagSearchRequest;
+import studio.one.platform.ai.core.rag.RagSearchResult;
+
+class RagIndexJobClaimWorkerTest {
+
+    private EmbeddedDatabase database;
+    private JdbcRagIndexJobRepository repository;
+    private final List<AutoCloseable> resources = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        createSchema(jdbcTemplate);
+        repository = new JdbcRagIndexJobRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+        database.shutdown();
+    }
+
+    @Test
+    void jobSubmittedOnOneNodeRunsOnTheNodeThatClaimsIt() throws Exception {
+        Node nodeA = node("node-a", new RecordingPipeline());
+        RecordingPipeline pipelineB = new RecordingPipeline();
+        Node nodeB = node("node-b", pipelineB);
+        RagIndexJob job = nodeA.service().createJob(request("doc-1", "clustered content"));
+
+        nodeA.service().submitJob(job.jobId(), RagIndexJobPriority.HIGH);
+
+        assertThat(nodeB.worker().poll()).isEqualTo(1);
+        assertThat(pipelineB.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        RagIndexJob finished = awaitStatus(job.jobId(), RagIndexJobStatus.SUCCEEDED);
+        assertThat(finished.indexedCount()).isEqualTo(1);
+        assertThat(pipelineB.texts).containsExactly("clustered content");
+        assertThat(nodeA.worker().poll()).isZero();
+    }
+
+    @Test
+    void lostLeaseCancelsLocalRun() throws Exception {
+        Node nodeA = node("node-a", new RecordingPipeline());
+        BlockingPipeline pipelineB = new BlockingPipeline();
+        Node nodeB = node("node-b", pipelineB);
+        RagIndexJob job = nodeA.service().createJob(request("doc-1", "content"));
+        nodeA.service().submitJob(job.jobId(), RagIndexJobPriority.NORMAL);
+        nodeB.worker().poll();
+        assertThat(pipelineB.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        nodeA.service().cancelJob(job.jobId());
+        nodeB.worker().heartbeat();
+
+        assertThat(pipelineB.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(repository.findById(job.jobId())).get()
+                .extracting(RagIndexJob::status)
+                .isEqualTo(RagIndexJobStatus.CANCELLED);
+    }
+
+    @Test
+    void startJobRejectsJobLeasedByAnotherNode() {
+        Node nodeA = node("node-a", new RecordingPipeline());
+        RagIndexJob job = nodeA.service().createJob(request("doc-1", "content"));
+        assertThat(repository.claim(job.jobId(), "node-b", Duration.ofMinutes(1))).isTrue();
+
+        assertThatThrownBy(() -> nodeA.service().startJob(job.jobId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("another node");
+    }
+
+    @Test
+    void clusteredModeRequiresClaimingRepository() {
+        assertThatThrownBy(() -> new DefaultRagIndexJobService(
+                new InMemoryRagIndexJobRepository(),
+                new RecordingPipeline(),
+                List.of(),
+                scheduler(),
+                RagIndexJobClaimOptions.defaults("node-a")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Node node(String nodeId, RagPipelineService pipeline) {
+        RagIndexJobClaimOptions options = RagIndexJobClaimOptions.defaults(nodeId);
+        RagIndexJobScheduler scheduler = scheduler();
+        DefaultRagIndexJobService service = new DefaultRagIndexJobService(
+                repository, pipeline, List.of(), scheduler, options);
+        RagIndexJobClaimWorker worker = new RagIndexJobClaimWorker(repository, service, scheduler, options);
+        resources.add(worker);
+        return new Node(service, worker);
+    }
+
+    private RagIndexJobScheduler scheduler() {
+        RagIndexJobScheduler scheduler = new RagIndexJobScheduler(
+                new RagIndexJobQueueOptions(1, 10, Duration.ZERO, false));
+        resources.add(scheduler);
+        return scheduler;
+    }
+
+    private RagIndexJob awaitStatus(String jobId, RagIndexJobStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        RagIndexJob job = repository.findById(jobId).orElseThrow();
+        while (job.status() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = repository.findById(jobId).orElseThrow();
+        }
+        assertThat(job.status()).isEqualTo(status);
+        return job;
+    }
+
+    private static RagIndexJobCreateRequest request(String documentId, String text) {
+        return new RagIndexJobCreateRequest(
+                "attachment",
+                "42",
+                documentId,
+                "raw",
+                false,
+                new RagIndexRequest(documentId, text, Map.of("objectType", "attachment", "objectId", "42")));
+    }
+
+    private void createSchema(JdbcTemplate jdbcTemplate) {
+        List.of(
+                """
+                CREATE TABLE tb_ai_rag_index_job (
+                  job_id VARCHAR(100) PRIMARY KEY,
+                  object_type VARCHAR(100),
+                  object_id VARCHAR(150),
+                  document_id VARCHAR(200),
+                  source_type VARCHAR(100),
+                  status VARCHAR(30) NOT NULL,
+                  current_step VARCHAR(30),
+                  chunk_count INT NOT NULL DEFAULT 0,
+                  embedded_count INT NOT NULL DEFAULT 0,
+                  indexed_count INT NOT NULL DEFAULT 0,
+                  warning_count INT NOT NULL DEFAULT 0,
+                  error_message CLOB,
+                  created_at TIMESTAMP NOT NULL,
+                  started_at TIMESTAMP,
+                  finished_at TIMESTAMP,
+                  duration_ms BIGINT,
+                  request_payload CLOB,
+                  priority INT NOT NULL DEFAULT 1,
+                  enqueued_at TIMESTAMP,
+                  lease_owner VARCHAR(200),
+                  lease_expires_at TIMESTAMP,
+                  attempt_count INT NOT NULL DEFAULT 0
+                )
+                """,
+                """
+                CREATE TABLE tb_ai_rag_index_job_log (
+                  log_id VARCHAR(100) PRIMARY KEY,
+                  job_id VARCHAR(100) NOT NULL,
+                  log_level VARCHAR(20) NOT NULL,
+                  step VARCHAR(30),
+                  code VARCHAR(100) NOT NULL,
+                  message CLOB,
+                  detail CLOB,
+                  created_at TIMESTAMP NOT NULL
+                )
+                """)
+                .forEach(jdbcTemplate::execute);
+    }
+
+    private record Node(DefaultRagIndexJobService service, RagIndexJobClaimWorker worker) {
+    }
+
+    private static class RecordingPipeline extends BasePipeline {
+
+        private final List<String> texts = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void index(RagIndexRequest request, RagIndexProgressListener listener) {
+            texts.add(request.text());
+            listener.onStep(RagIndexJobStep.INDEXING);
+            listener.onIndexedCount(1);
+            completed.countDown();
+        }
+    }
+
+    private static class BlockingPipeline extends BasePipeline {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public void index(RagIndexRequest request, RagIndexProgressListener listener) {
+            listener.onStep(RagIndexJobStep.EMBEDDING);
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw new IllegalStateException("Embedding was interrupted", ex);
+            }
+        }
+    }
+
+    private abstract static class BasePipeline implements RagPipelineService {
+
+        @Override
+        public void index(RagIndexRequest request) {
+        }
+
+        @Override
+        public List<RagSearchResult> search(RagSearchRequest request) {
+            return List.of();
+        }
+
+        @Override
+        public List<RagSearchResult> searchByObject(RagSearchRequest request, String objectType, String objectId) {
+            return List.of();
+        }
+
+        @Override
+        public List<RagSearchResult> listByObject(String objectType, String objectId, Integer limit) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<RagRetrievalDiagnostics> latestDiagnostics() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package studio.one.platform.ai.service.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
+
+class RagIndexJobSchedulerTest {
+
+    @Test
+    void servesHigherPriorityFirstAndTenantsRoundRobin() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(6);
+        try (RagIndexJobScheduler scheduler = new RagIndexJobScheduler(
+                new RagIndexJobQueueOptions(1, 10, Duration.ZERO, false))) {
+            CountDownLatch blocking = new CountDownLatch(1);
+            scheduler.submit("blocker", null, RagIndexJobPriority.NORMAL, () -> {
+                blocking.countDown();
+                await(release);
+            });
+            assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+            submit(scheduler, "a-1", "tenant-a", RagIndexJobPriority.NORMAL, order, done);
+            submit(scheduler, "a-2", "tenant-a", RagIndexJobPriority.NORMAL, order, done);
+            submit(scheduler, "a-3", "tenant-a", RagIndexJobPriority.NORMAL, order, done);
+            submit(scheduler, "b-1", "tenant-b", RagIndexJobPriority.NORMAL, order, done);
+            submit(scheduler, "low", "tenant-b", RagIndexJobPriority.LOW, order, done);
+            submit(scheduler, "high", "tenant-a", RagIndexJobPriority.HIGH, order, done);
+            release.countDown();
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(order).containsExactly("high", "a-1", "b-1", "a-2", "a-3", "low");
+        }
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try (RagIndexJobScheduler scheduler = new RagIndexJobScheduler(
+                new RagIndexJobQueueOptions(1, 1, Duration.ofMillis(20), false))) {
+            scheduler.submit("running", null, null, () -> {
+                started.countDown();
+                await(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            scheduler.submit("queued", null, null, () -> { });
+
+            assertThatThrownBy(() -> scheduler.submit("overflow", null, null, () -> { }))
+                    .isInstanceOf(RejectedExecutionException.class)
+                    .hasMessageContaining("full");
+            assertThatThrownBy(() -> scheduler.submit("queued", null, null, () -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+
+            RagIndexJobQueueStats stats = scheduler.stats();
+            assertThat(stats.queued()).isEqualTo(1);
+            assertThat(stats.running()).isEqualTo(1);
+            assertThat(stats.rejected()).isEqualTo(1);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void cancelDropsQueuedJobAndInterruptsRunningJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        try (RagIndexJobScheduler scheduler = new RagIndexJobScheduler(
+                new RagIndexJobQueueOptions(1, 10, Duration.ZERO, false))) {
+            scheduler.submit("running", null, null, () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException ex) {
+                    interrupted.set(true);
+                } finally {
+                    finished.countDown();
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            scheduler.submit("queued", null, null, () -> queuedRan.set(true));
+
+            assertThat(scheduler.cancel("queued")).isTrue();
+            assertThat(scheduler.cancel("running")).isTrue();
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(interrupted).isTrue();
+            assertThat(queuedRan).isFalse();
+            assertThat(scheduler.cancel("unknown")).isFalse();
+        }
+    }
+
+    @Test
+    void closeWaitsForRunningJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        RagIndexJobScheduler scheduler = new RagIndexJobScheduler(
+                new RagIndexJobQueueOptions(1, 10, Duration.ZERO, false));
+        scheduler.submit("running", null, null, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(200L);
+                finished.set(true);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        scheduler.close();
+
+        assertThat(finished).isTrue();
+        assertThat(scheduler.awaitTermination(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThatThrownBy(() -> scheduler.submit("late", null, null, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void runsWorkersOnVirtualThreadsWhenRequested() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        try (RagIndexJobScheduler scheduler = new RagIndexJobScheduler(
+                new RagIndexJobQueueOptions(1, 10, Duration.ZERO, true))) {
+            scheduler.submit("virtual", null, null, () -> {
+                try {
+                    virtual.set((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+                } catch (ReflectiveOperationException ex) {
+                    throw new IllegalStateException(ex);
+                } finally {
+                    done.countDown();
+                }
+            });
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(virtual).isTrue();
+    }
+
+    private static void submit(
+            RagIndexJobScheduler scheduler,
+            String jobId,
+            String tenant,
+            RagIndexJobPriority priority,
+            List<String> order,
+            CountDownLatch done) {
+        scheduler.submit(jobId, tenant, priority, () -> {
+            order.add(jobId);
+            done.countDown();
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import studio.one.platform.ai.adapters.vector.embedded.EmbeddedVectorStore;
+import studio.one.platform.ai.adapters.vector.embedded.EmbeddedVectorStoreOptions;
 import studio.one.platform.ai.core.MetadataFilter;
 import studio.one.platform.ai.core.chunk.TextChunk;
 import studio.one.platform.ai.core.chunk.TextChunker;
@@ -19,6 +21,7 @@ import studio.one.platform.ai.core.embedding.EmbeddingPort;
 import studio.one.platform.ai.core.embedding.EmbeddingRequest;
 import studio.one.platform.ai.core.embedding.EmbeddingResponse;
 import studio.one.platform.ai.core.embedding.EmbeddingVector;
+import studio.one.platform.ai.core.embedding.FloatVector;
 import studio.one.platform.ai.core.rag.RagIndexRequest;
 import studio.one.platform.ai.core.rag.RagRetrievalDiagnostics;
 import studio.one.platform.ai.core.rag.RagSearchRequest;
@@ -42,6 +45,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -52,6 +57,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -76,7 +82,7 @@ class RagPipelineServiceTest {
     @Mock
     private ChunkingOrchestrator chunkingOrchestrator;
 
-    private Cache<String, List<Double>> cache;
+    private Cache<String, FloatVector> cache;
     private Retry retry;
 
     private RagPipelineService ragPipelineService;
@@ -245,6 +251,92 @@ class RagPipelineServiceTest {
         assertThat(listener.indexedCounts).containsExactly(2);
     }
 
+    @Test
+    void shouldEmbedChunksInConcurrentBatchesPreservingOrderAndProgress() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ragPipelineService = DefaultRagPipelineService.create(
+                    embeddingPort,
+                    vectorStorePort,
+                    textChunker,
+                    null,
+                    cache,
+                    retry,
+                    keywordExtractor,
+                    null,
+                    RagPipelineOptions.defaults(),
+                    RagPipelineDiagnosticsOptions.defaults(),
+                    RagKeywordOptions.defaults(),
+                    new SinglePortRagEmbeddingProfileResolver(embeddingPort),
+                    new RagEmbeddingBatchOptions(2, 2, 0, null),
+                    executor);
+            RecordingProgressListener listener = new RecordingProgressListener();
+            when(textChunker.chunk("doc-batch", "a bb ccc dddd a"))
+                    .thenReturn(List.of(
+                            new TextChunk("doc-batch-0", "a"),
+                            new TextChunk("doc-batch-1", "bb"),
+                            new TextChunk("doc-batch-2", "ccc"),
+                            new TextChunk("doc-batch-3", "dddd"),
+                            new TextChunk("doc-batch-4", "a")));
+            when(embeddingPort.embed(any(EmbeddingRequest.class))).thenAnswer(invocation -> {
+                EmbeddingRequest embeddingRequest = invocation.getArgument(0);
+                return new EmbeddingResponse(embeddingRequest.texts().stream()
+                        .map(text -> new EmbeddingVector(text, List.of((double) text.length())))
+                        .toList());
+            });
+
+            ragPipelineService.index(new RagIndexRequest("doc-batch", "a bb ccc dddd a", Map.of()), listener);
+
+            ArgumentCaptor<EmbeddingRequest> embeddingRequests = ArgumentCaptor.forClass(EmbeddingRequest.class);
+            verify(embeddingPort, times(2)).embed(embeddingRequests.capture());
+            assertThat(embeddingRequests.getAllValues())
+                    .extracting(EmbeddingRequest::texts)
+                    .containsExactlyInAnyOrder(List.of("a", "bb"), List.of("ccc", "dddd"));
+            verify(vectorStorePort).upsertAll(recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue())
+                    .extracting(VectorRecord::embedding)
+                    .containsExactly(List.of(1.0), List.of(2.0), List.of(3.0), List.of(4.0), List.of(1.0));
+            assertThat(listener.embeddedCounts).containsExactly(1, 2, 3, 4, 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFallBackToSingleTextRequestsWhenProviderIgnoresBatch() {
+        ragPipelineService = DefaultRagPipelineService.create(
+                embeddingPort,
+                vectorStorePort,
+                textChunker,
+                null,
+                cache,
+                retry,
+                keywordExtractor,
+                null,
+                RagPipelineOptions.defaults(),
+                RagPipelineDiagnosticsOptions.defaults(),
+                RagKeywordOptions.defaults(),
+                new SinglePortRagEmbeddingProfileResolver(embeddingPort),
+                new RagEmbeddingBatchOptions(8, 1, 0, null),
+                null);
+        when(textChunker.chunk("doc-single", "hello world"))
+                .thenReturn(List.of(
+                        new TextChunk("doc-single-0", "hello"),
+                        new TextChunk("doc-single-1", "world")));
+        when(embeddingPort.embed(any(EmbeddingRequest.class)))
+                .thenReturn(new EmbeddingResponse(List.of(new EmbeddingVector("batch", List.of(0.0)))))
+                .thenReturn(new EmbeddingResponse(List.of(new EmbeddingVector("hello", List.of(0.1)))))
+                .thenReturn(new EmbeddingResponse(List.of(new EmbeddingVector("world", List.of(0.2)))));
+
+        ragPipelineService.index(new RagIndexRequest("doc-single", "hello world", Map.of()));
+
+        verify(embeddingPort, times(3)).embed(any(EmbeddingRequest.class));
+        verify(vectorStorePort).upsertAll(recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue())
+                .extracting(VectorRecord::embedding)
+                .containsExactly(List.of(0.1), List.of(0.2));
+    }
+
     @Test
     void shouldPersistVectorRecordMetadataThroughDefaultLegacyAdapter() {
         CapturingVectorStore store = new CapturingVectorStore();
@@ -480,6 +572,70 @@ class RagPipelineServiceTest {
         verify(vectorStorePort, never()).replaceRecordsByObject(anyString(), anyString(), any());
     }
 
+    @Test
+    void shouldReembedOnlyChangedChunksWhenObjectIsReindexed() {
+        EmbeddedVectorStore store = spy(new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null)));
+        Map<String, Object> scope = Map.of("objectType", "attachment", "objectId", "42");
+        when(embeddingPort.embed(any(EmbeddingRequest.class))).thenAnswer(invocation -> {
+            EmbeddingRequest embeddingRequest = invocation.getArgument(0);
+            return new EmbeddingResponse(embeddingRequest.texts().stream()
+                    .map(text -> new EmbeddingVector(text, List.of((double) text.length(), 1.0d)))
+                    .toList());
+        });
+        when(textChunker.chunk("doc-incremental", "alpha beta gamma")).thenReturn(List.of(
+                new TextChunk("doc-incremental-0", "alpha"),
+                new TextChunk("doc-incremental-1", "beta"),
+                new TextChunk("doc-incremental-2", "gamma")));
+        when(textChunker.chunk("doc-incremental", "alpha delta")).thenReturn(List.of(
+                new TextChunk("doc-incremental-0", "alpha"),
+                new TextChunk("doc-incremental-1", "delta")));
+
+        indexWithEmptyCache(store, new RagIndexRequest("doc-incremental", "alpha beta gamma", scope));
+        indexWithEmptyCache(store, new RagIndexRequest("doc-incremental", "alpha delta", scope));
+        indexWithEmptyCache(store, new RagIndexRequest("doc-incremental", "alpha delta", scope));
+
+        ArgumentCaptor<EmbeddingRequest> embeddingRequests = ArgumentCaptor.forClass(EmbeddingRequest.class);
+        verify(embeddingPort, org.mockito.Mockito.atLeastOnce()).embed(embeddingRequests.capture());
+        assertThat(embeddingRequests.getAllValues().stream().flatMap(request -> request.texts().stream()))
+                .containsExactly("alpha", "beta", "gamma", "delta");
+        verify(store).replaceByObject(eq("attachment"), eq("42"), any());
+        verify(store).updateByObject(eq("attachment"), eq("42"), any(), eq(2));
+        assertThat(store.listByObject("attachment", "42", null))
+                .extracting(result -> result.document().content())
+                .containsExactly("alpha", "delta");
+    }
+
+    @Test
+    void shouldNotRewriteUnchangedChunksWhenOnlyDocumentStatisticsChange() {
+        EmbeddedVectorStore store = spy(new EmbeddedVectorStore(EmbeddedVectorStoreOptions.defaults(null)));
+        Map<String, Object> scope = Map.of("objectType", "attachment", "objectId", "42");
+        when(embeddingPort.embed(any(EmbeddingRequest.class))).thenAnswer(invocation -> {
+            EmbeddingRequest embeddingRequest = invocation.getArgument(0);
+            return new EmbeddingResponse(embeddingRequest.texts().stream()
+                    .map(text -> new EmbeddingVector(text, List.of((double) text.length(), 1.0d)))
+                    .toList());
+        });
+        when(textChunker.chunk("doc-stats", "alpha beta gamma")).thenReturn(List.of(
+                new TextChunk("doc-stats-0", "alpha"),
+                new TextChunk("doc-stats-1", "beta"),
+                new TextChunk("doc-stats-2", "gamma")));
+        when(textChunker.chunk("doc-stats", "alpha beta gamma zeta")).thenReturn(List.of(
+                new TextChunk("doc-stats-0", "alpha"),
+                new TextChunk("doc-stats-1", "beta"),
+                new TextChunk("doc-stats-2", "gamma"),
+                new TextChunk("doc-stats-3", "zeta")));
+
+        indexWithEmptyCache(store, new RagIndexRequest("doc-stats", "alpha beta gamma", scope));
+        indexWithEmptyCache(store, new RagIndexRequest("doc-stats", "alpha beta gamma zeta", scope));
+
+        ArgumentCaptor<List<VectorDocument>> written = ArgumentCaptor.forClass(List.class);
+        verify(store).updateByObject(eq("attachment"), eq("42"), written.capture(), eq(4));
+        assertThat(written.getValue())
+                .extracting(VectorDocument::content)
+                .containsExactly("alpha", "zeta");
+        assertThat(written.getValue().get(0).metadata()).containsEntry("chunkCount", 4);
+    }
+
     @Test
     void shouldAddChunkKeywordsWhenScopeIsChunk() {
         ragPipelineService = DefaultRagPipelineService.create(
@@ -1177,6 +1333,11 @@ class RagPipelineServiceTest {
                 .doesNotContainKeys("content", "snippet", "text", "chunk");
     }
 
+    private void indexWithEmptyCache(VectorStorePort store, RagIndexRequest request) {
+        DefaultRagPipelineService.create(embeddingPort, store, textChunker, Caffeine.newBuilder().build(), retry,
+                keywordExtractor).index(request);
+    }
+
     private static final class RecordingProgressListener implements RagIndexProgressListener {
 
         private final List<studio.one.platform.ai.core.rag.RagIndexJobStep> steps = new ArrayList<>();
@@ -65,6 +65,8 @@ import studio.one.platform.objecttype.cache.CachedObjectPolicyResolver;
 import studio.one.platform.objecttype.cache.CachedObjectTypeRegistry;
 import studio.one.platform.objecttype.cache.CachedObjectRebindService;
 import studio.one.platform.objecttype.cache.CacheInvalidatable;
+import studio.one.platform.objecttype.cache.ClusteredCacheInvalidatable;
+import studio.one.platform.cache.CacheInvalidationBus;
 import java.time.Duration;
 
 import studio.one.platform.component.State;
@@ -207,12 +209,21 @@ public class ObjectTypeAutoConfiguration {
     public ObjectRebindService cachedObjectRebindService(
             ObjectRebindService delegate,
             ObjectTypeRegistry registry,
-            ObjectPolicyResolver resolver) {
+            ObjectPolicyResolver resolver,
+            ObjectProvider<CacheInvalidationBus> busProvider) {
         CacheInvalidatable registryCache = (registry instanceof CacheInvalidatable ci) ? ci : null;
         CacheInvalidatable policyCache = (resolver instanceof CacheInvalidatable ci) ? ci : null;
         if (registryCache == null && policyCache == null) {
             return delegate;
         }
+        CacheInvalidationBus bus = busProvider.getIfAvailable();
+        if (bus != null) {
+            // rebind 결과를 모든 노드의 registry/policy 캐시에 전파한다.
+            registryCache = registryCache == null ? null
+                    : new ClusteredCacheInvalidatable(bus, ClusteredCacheInvalidatable.REGISTRY_CACHE, registryCache);
+            policyCache = policyCache == null ? null
+                    : new ClusteredCacheInvalidatable(bus, ClusteredCacheInvalidatable.POLICY_CACHE, policyCache);
+        }
         return new CachedObjectRebindService(delegate, registryCache, policyCache);
     }
 
@@ -21,13 +21,14 @@
 
 package studio.one.platform.realtime.autoconfigure;
 
-import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
@@ -37,9 +38,12 @@ import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.component.State;
 import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.constant.ServiceNames;
+import studio.one.platform.realtime.metrics.MicrometerRealtimeMetricsRecorder;
 import studio.one.platform.realtime.stomp.config.RealtimeStompProperties;
 import studio.one.platform.realtime.stomp.messaging.LocalStompMessagingService;
 import studio.one.platform.realtime.stomp.messaging.RealtimeMessagingService;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+import studio.one.platform.realtime.stomp.redis.RealtimeRedisPublisher;
 import studio.one.platform.realtime.stomp.security.RealtimeHandshakeHandler;
 import studio.one.platform.service.I18n;
 import studio.one.platform.util.I18nUtils;
@@ -60,13 +64,27 @@ public class RealtimeStompAutoConfiguration {
     @ConditionalOnProperty(prefix = "studio.realtime.stomp", name = "enabled", havingValue = "true", matchIfMissing = true)
     public RealtimeMessagingService realtimeMessagingService(
             org.springframework.messaging.simp.SimpMessagingTemplate template,
-            ObjectProvider<BeanFactory> beanFactoryProvider) {
-        BeanFactory beanFactory = beanFactoryProvider.getIfAvailable();
-        Object redisTemplate = null;
-        if (beanFactory != null && beanFactory.containsBean("realtimeRedisTemplate")) {
-            redisTemplate = beanFactory.getBean("realtimeRedisTemplate");
+            ObjectProvider<RealtimeRedisPublisher> redisPublisherProvider,
+            ObjectProvider<RealtimeMetricsRecorder> metricsProvider) {
+        return new LocalStompMessagingService(template, properties,
+                redisPublisherProvider.getIfAvailable(),
+                metricsProvider.getIfAvailable(RealtimeMetricsRecorder::noop));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class RealtimeMetricsConfig {
+
+        @Bean
+        @ConditionalOnMissingBean(RealtimeMetricsRecorder.class)
+        public RealtimeMetricsRecorder realtimeMetricsRecorder(
+                ObjectProvider<io.micrometer.core.instrument.MeterRegistry> meterRegistryProvider) {
+            io.micrometer.core.instrument.MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+            if (meterRegistry == null) {
+                return RealtimeMetricsRecorder.noop();
+            }
+            return new MicrometerRealtimeMetricsRecorder(meterRegistry);
         }
-        return new LocalStompMessagingService(template, properties, redisTemplate);
     }
 
     @Bean(name = ServiceNames.Featrues.PREFIX + ":realtime:jwt-handshake-handler")
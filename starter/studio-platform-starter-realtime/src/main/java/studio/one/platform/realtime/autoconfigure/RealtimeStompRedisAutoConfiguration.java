@@ -21,28 +21,35 @@
 
 package studio.one.platform.realtime.autoconfigure;
 
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import studio.one.platform.realtime.stomp.config.RealtimeStompProperties;
-import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
 import studio.one.platform.realtime.stomp.messaging.RealtimeMessagingService;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+import studio.one.platform.realtime.stomp.redis.RealtimeEnvelopeCodec;
+import studio.one.platform.realtime.stomp.redis.RealtimeRedisPublisher;
 import studio.one.platform.realtime.stomp.redis.RealtimeRedisSubscriber;
+import studio.one.platform.realtime.stomp.redis.RedisRealtimePublisher;
 
-@AutoConfiguration
+@AutoConfiguration(after = RedisAutoConfiguration.class)
 @EnableConfigurationProperties(RealtimeStompProperties.class)
 @ConditionalOnClass(name = "org.springframework.data.redis.connection.RedisConnectionFactory")
 //@ConditionalOnProperty(prefix = PropertyKeys.Features.PREFIX + ".realtime",  name = "enabled", havingValue = "true", matchIfMissing = false)
@@ -52,33 +59,61 @@ public class RealtimeStompRedisAutoConfiguration {
 
     private final RealtimeStompProperties properties;
 
+    @Bean
+    @ConditionalOnMissingBean
+    public RealtimeEnvelopeCodec realtimeEnvelopeCodec() {
+        return new RealtimeEnvelopeCodec();
+    }
+
+    /**
+     * 미리 직렬화된 envelope 바이트를 그대로 발행하는 템플릿.
+     */
     @Bean
     @ConditionalOnBean(RedisConnectionFactory.class)
-    public RedisTemplate<String, RealtimeEnvelope> realtimeRedisTemplate(
+    public RedisTemplate<String, byte[]> realtimeRedisTemplate(
             RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, RealtimeEnvelope> template = new RedisTemplate<>();
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
-        Jackson2JsonRedisSerializer<RealtimeEnvelope> serializer =
-                new Jackson2JsonRedisSerializer<>(RealtimeEnvelope.class);
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.findAndRegisterModules();
-        serializer.setObjectMapper(mapper);
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(serializer);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
         template.afterPropertiesSet();
         return template;
     }
 
+    @Bean
+    @ConditionalOnBean(RedisConnectionFactory.class)
+    @ConditionalOnMissingBean(RealtimeRedisPublisher.class)
+    public RedisRealtimePublisher realtimeRedisPublisher(
+            RedisTemplate<String, byte[]> realtimeRedisTemplate,
+            RealtimeEnvelopeCodec codec,
+            ObjectProvider<RealtimeMetricsRecorder> metricsProvider) {
+        RealtimeStompProperties.Batch batch = properties.getBatch();
+        return new RedisRealtimePublisher(
+                realtimeRedisTemplate,
+                properties.getRedisChannel(),
+                codec,
+                metricsProvider.getIfAvailable(RealtimeMetricsRecorder::noop),
+                batch.isEnabled() ? batch.getMaxSize() : 1,
+                batch.getFlushInterval());
+    }
+
     @Bean
     @ConditionalOnBean(RedisConnectionFactory.class)
     public RedisMessageListenerContainer realtimeRedisListenerContainer(
             RedisConnectionFactory connectionFactory,
-            RedisTemplate<String, RealtimeEnvelope> redisTemplate,
+            RealtimeEnvelopeCodec codec,
             RealtimeMessagingService messagingService,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            ObjectProvider<RealtimeMetricsRecorder> metricsProvider) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(new RealtimeRedisSubscriber(redisTemplate, messagingService, objectMapper),
+        container.addMessageListener(new RealtimeRedisSubscriber(
+                codec,
+                messagingService,
+                objectMapper,
+                metricsProvider.getIfAvailable(RealtimeMetricsRecorder::noop),
+                properties.getBatch().isCoalesceFrames(),
+                Clock.systemUTC()),
                 new PatternTopic(properties.getRedisChannel()));
 
         return container;
@@ -0,0 +1,62 @@
+package studio.one.platform.realtime.autoconfigure;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.autoconfigure.features.cache.CacheInvalidationProperties;
+import studio.one.platform.cache.CacheInvalidationBus;
+import studio.one.platform.constant.PropertyKeys;
+import studio.one.platform.realtime.cache.RedisCacheInvalidationBus;
+
+/**
+ * {@code studio.cache.invalidation.type=redis}이면 realtime 모듈의 Redis 연결로
+ * {@link RedisCacheInvalidationBus}를 등록합니다.
+ */
+@AutoConfiguration(after = RedisAutoConfiguration.class,
+        beforeName = "studio.one.platform.autoconfigure.features.cache.CacheInvalidationAutoConfiguration")
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+@ConditionalOnClass(name = "org.springframework.data.redis.connection.RedisConnectionFactory")
+@ConditionalOnProperty(prefix = PropertyKeys.Cache.Invalidation.PREFIX, name = "type", havingValue = "redis")
+@Slf4j
+public class RedisCacheInvalidationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(RedisConnectionFactory.class)
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public RedisCacheInvalidationBus cacheInvalidationBus(
+            RedisConnectionFactory connectionFactory,
+            ObjectProvider<ObjectMapper> objectMapper,
+            CacheInvalidationProperties properties) {
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(template,
+                objectMapper.getIfAvailable(ObjectMapper::new), properties.getRedis().getChannel(),
+                properties.getNodeId());
+        log.info("Redis cache invalidation bus created (channel={}, node={})", bus.getChannel(), bus.nodeId());
+        return bus;
+    }
+
+    @Bean
+    @ConditionalOnBean(RedisCacheInvalidationBus.class)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisCacheInvalidationBus bus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bus, new ChannelTopic(bus.getChannel()));
+        return container;
+    }
+}
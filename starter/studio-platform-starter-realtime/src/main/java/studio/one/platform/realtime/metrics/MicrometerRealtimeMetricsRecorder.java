@@ -0,0 +1,51 @@
+package studio.one.platform.realtime.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+
+/**
+ * Micrometer-backed realtime metrics recorder.
+ */
+@RequiredArgsConstructor
+public class MicrometerRealtimeMetricsRecorder implements RealtimeMetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recordPublish(String transport, int envelopes) {
+        String safeTransport = (transport == null || transport.isBlank()) ? "unknown" : transport;
+        Counter.builder("realtime.publish.envelopes")
+                .tag("transport", safeTransport)
+                .register(meterRegistry)
+                .increment(envelopes);
+        DistributionSummary.builder("realtime.publish.batch.size")
+                .tag("transport", safeTransport)
+                .register(meterRegistry)
+                .record(envelopes);
+    }
+
+    @Override
+    public void recordFanOut(String type, Duration latency) {
+        String safeType = (type == null || type.isBlank()) ? "unknown" : type;
+        Timer.builder("realtime.fanout.latency")
+                .tag("type", safeType)
+                .register(meterRegistry)
+                .record(latency != null ? latency : Duration.ZERO);
+    }
+
+    @Override
+    public void recordFrame(int payloads) {
+        Counter.builder("realtime.stomp.frames")
+                .register(meterRegistry)
+                .increment();
+        Counter.builder("realtime.stomp.frame.payloads")
+                .register(meterRegistry)
+                .increment(payloads);
+    }
+}
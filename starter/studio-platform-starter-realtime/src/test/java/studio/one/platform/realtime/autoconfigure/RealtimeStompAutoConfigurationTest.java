@@ -9,6 +9,14 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import studio.one.platform.realtime.metrics.MicrometerRealtimeMetricsRecorder;
+import studio.one.platform.realtime.stomp.config.RealtimeStompProperties;
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelopes;
+import studio.one.platform.realtime.stomp.domain.model.RealtimePayload;
+import studio.one.platform.realtime.stomp.messaging.RealtimeMessagingService;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
 import studio.one.platform.realtime.stomp.security.RealtimeHandshakeHandler;
 
 class RealtimeStompAutoConfigurationTest {
@@ -49,4 +57,31 @@ class RealtimeStompAutoConfigurationTest {
                     assertThat(context).hasSingleBean(RealtimeHandshakeHandler.class);
                 });
     }
+
+    @Test
+    void keepsRedisBatchPublishingOffByDefault() {
+        contextRunner
+                .withPropertyValues("studio.realtime.stomp.jwt-enabled=false")
+                .run(context -> assertThat(context.getBean(RealtimeStompProperties.class).getBatch().isEnabled())
+                        .isFalse());
+    }
+
+    @Test
+    void recordsLocalPublishRateWhenMeterRegistryIsPresent() {
+        contextRunner
+                .withPropertyValues("studio.realtime.stomp.jwt-enabled=false")
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .run(context -> {
+                    assertThat(context).getBean(RealtimeMetricsRecorder.class)
+                            .isInstanceOf(MicrometerRealtimeMetricsRecorder.class);
+
+                    context.getBean(RealtimeMessagingService.class)
+                            .publish(RealtimeEnvelopes.toTopic("/jobs", new RealtimePayload() {
+                            }));
+
+                    assertThat(context.getBean(MeterRegistry.class)
+                            .get("realtime.publish.envelopes").tag("transport", "local").counter().count())
+                            .isEqualTo(1.0);
+                });
+    }
 }
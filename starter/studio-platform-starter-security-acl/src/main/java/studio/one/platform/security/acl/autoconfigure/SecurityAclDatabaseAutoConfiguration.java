@@ -381,8 +381,10 @@ public class SecurityAclDatabaseAutoConfiguration {
                 @Bean
                 @ConditionalOnBean(org.springframework.security.acls.model.AclCache.class)
                 public studio.one.base.security.acl.policy.AclCacheInvalidationListener aclCacheInvalidationListener(
-                                ObjectProvider<org.springframework.security.acls.model.AclCache> aclCacheProvider) {
-                        return new studio.one.base.security.acl.policy.AclCacheInvalidationListener(aclCacheProvider);
+                                ObjectProvider<org.springframework.security.acls.model.AclCache> aclCacheProvider,
+                                ObjectProvider<studio.one.platform.cache.CacheInvalidationBus> busProvider) {
+                        return new studio.one.base.security.acl.policy.AclCacheInvalidationListener(aclCacheProvider,
+                                        busProvider.getIfAvailable());
                 }
         }
 
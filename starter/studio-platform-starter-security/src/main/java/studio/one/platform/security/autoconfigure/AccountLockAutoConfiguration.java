@@ -1,6 +1,7 @@
 package studio.one.platform.security.autoconfigure;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import jakarta.persistence.EntityManagerFactory;
 
@@ -23,6 +24,7 @@ import studio.one.base.security.authentication.lock.persistence.jdbc.AccountLock
 import studio.one.base.security.authentication.lock.persistence.jpa.AccountLockJpaRepository;
 import studio.one.base.security.authentication.lock.service.AccountLockService;
 import studio.one.base.security.authentication.lock.service.AccountLockServiceImpl;
+import studio.one.base.security.authentication.lock.service.LoginFailureCounters;
 import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.autoconfigure.PersistenceProperties;
 import studio.one.platform.component.State;
@@ -69,13 +71,27 @@ public class AccountLockAutoConfiguration {
                                 "AccountLockRepository",
                                 LogUtils.green( isJdbc ? AccountLockJdbcRepository.class : AccountLockJpaRepository.class, true ))); 
 
-                return new AccountLockServiceImpl(
+                AccountLockServiceImpl service = new AccountLockServiceImpl(
                                 accountLockRepository,
                                 clock,
                                 properties.getMaxAttempts(),
                                 properties.getWindow(),
                                 properties.getLockDuration(),
                                 properties.isResetOnSuccess());
+                AccountLockProperties.Counters counters = properties.getCounters();
+                Duration window = properties.getWindow();
+                if (counters.isEnabled() && (window == null || window.isZero() || window.isNegative())) {
+                        log.warn("Account lock counters are enabled but account-lock.window is not set; "
+                                        + "failures keep accumulating in the database without in-memory counters.");
+                } else if (counters.isEnabled()) {
+                        service.setFailureCounters(new LoginFailureCounters(
+                                        window, counters.getBuckets(), counters.getMaxKeys(), clock));
+                        log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.INFO + I18nKeys.AutoConfig.Feature.Service.INIT, FEATURE_NAME,
+                                        LogUtils.blue(AccountLockService.class, true),
+                                        "LoginFailureCounters Window",
+                                        LogUtils.green(window.toString())));
+                }
+                return service;
 
         }
 
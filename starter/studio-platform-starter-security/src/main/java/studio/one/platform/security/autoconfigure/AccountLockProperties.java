@@ -29,10 +29,29 @@ public class AccountLockProperties extends FeatureToggle  {
     /** 성공 시 실패횟수/잠금 리셋 여부 */
     private boolean resetOnSuccess = true;
 
+    /** 메모리 슬라이딩 윈도우 실패 카운터 설정 */
+    private Counters counters = new Counters();
+
     public PersistenceProperties.Type resolvePersistence(PersistenceProperties.Type globalDefault) {
         if (getPersistence() != null) {
             return getPersistence();
         }
         return globalDefault != null ? globalDefault : PersistenceProperties.Type.jpa;
     }
+
+    @Getter
+    @Setter
+    public static class Counters {
+        /**
+         * 사용 여부. 켜면 윈도우 내 실패가 max-attempts 에 이를 때까지 DB 를 갱신하지 않는다 (노드별 집계).
+         * 집계 윈도우는 account-lock.window 를 그대로 쓰며, window 가 0(무제한 누적)이면 카운터를 쓰지 않는다.
+         */
+        private boolean enabled = false;
+
+        /** 윈도우를 나눌 버킷 수 (슬라이딩 정밀도) */
+        private int buckets = 15;
+
+        /** 추적할 최대 사용자명 수 (초과 시 해당 사용자는 DB 경로로 처리) */
+        private int maxKeys = 100_000;
+    }
 }
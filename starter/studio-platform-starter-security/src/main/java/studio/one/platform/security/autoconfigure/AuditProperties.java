@@ -1,8 +1,11 @@
 package studio.one.platform.security.autoconfigure;
 
+import java.time.Duration;
+
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -10,6 +13,8 @@ import org.springframework.validation.annotation.Validated;
 
 import lombok.Getter;
 import lombok.Setter;
+import studio.one.base.security.audit.LoginFailureLogBatchWriter;
+import studio.one.base.security.audit.persistence.jdbc.LoginFailureLogPartitionManager;
 import studio.one.platform.autoconfigure.PersistenceProperties;
 import studio.one.platform.constant.PropertyKeys;
 
@@ -50,6 +55,17 @@ public class AuditProperties {
 
         private WebProperties web = new WebProperties();
 
+        /** 감사 로그 배치 저장 설정 */
+        @Valid
+        private Batch batch = new Batch();
+
+        /** PostgreSQL 시간 파티션 관리 설정 */
+        @Valid
+        private Partitioning partitioning = new Partitioning();
+
+        /** 시간대별 사전 집계 설정 */
+        private Hourly hourly = new Hourly();
+
         public PersistenceProperties.Type resolvePersistence(PersistenceProperties.Type globalDefault) {
             if (persistence != null) {
                 return persistence;
@@ -58,4 +74,52 @@ public class AuditProperties {
         }
         
     }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        /** 배치 저장 사용 여부. false 면 실패마다 한 건씩 저장 */
+        private boolean enabled = false;
+
+        /** 버퍼(링 버퍼) 최대 건수 */
+        @Positive
+        private int capacity = 10_000;
+
+        /** 한 번에 저장할 최대 건수 */
+        @Positive
+        private int batchSize = 200;
+
+        /** 버퍼가 batch-size 에 못 미쳐도 저장하는 주기 */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /** 버퍼가 가득 찼을 때 정책 (DROP: 버림, BLOCK: offer-timeout 만큼 대기 후 버림) */
+        private LoginFailureLogBatchWriter.OverflowPolicy overflow = LoginFailureLogBatchWriter.OverflowPolicy.DROP;
+
+        /** BLOCK 정책에서 버퍼 여유를 기다리는 최대 시간 */
+        private Duration offerTimeout = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class Partitioning {
+        /** 파티션 사전 생성/보관 기간 파티션 삭제 사용 여부 (테이블이 파티션 테이블일 때만 동작) */
+        private boolean enabled = false;
+
+        /** 파티션 단위 (DAILY | MONTHLY) */
+        private LoginFailureLogPartitionManager.Interval interval = LoginFailureLogPartitionManager.Interval.DAILY;
+
+        /** 미리 만들어 둘 이후 파티션 수 */
+        @PositiveOrZero
+        private int precreate = 7;
+
+        /** 시작 시각 없는 조회에 적용할 기본 조회 기간 (파티션 pruning 용, 0 이면 제한 없음) */
+        private Duration defaultQueryLookback = Duration.ofDays(31);
+    }
+
+    @Getter
+    @Setter
+    public static class Hourly {
+        /** tb_login_failure_hourly 사전 집계 및 /hourly 조회 사용 여부 */
+        private boolean enabled = false;
+    }
 }
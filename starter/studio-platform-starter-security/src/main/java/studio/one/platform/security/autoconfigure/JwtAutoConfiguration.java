@@ -29,6 +29,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.base.security.authentication.lock.service.AccountLockService;
 import studio.one.base.security.jwt.JwtTokenProvider;
+import studio.one.base.security.jwt.principal.JwtPrincipalCache;
+import studio.one.base.security.jwt.principal.JwtPrincipalCacheInvalidator;
 import studio.one.base.security.jwt.refresh.HashedRefreshTokenStore;
 import studio.one.base.security.jwt.refresh.RefreshTokenStore;
 import studio.one.base.security.jwt.refresh.persistence.RefreshTokenRepository;
@@ -39,6 +41,7 @@ import studio.one.base.security.web.controller.JwtRefreshController;
 import studio.one.platform.autoconfigure.EntityScanRegistrarSupport;
 import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.autoconfigure.PersistenceProperties;
+import studio.one.platform.cache.CacheInvalidationBus;
 import studio.one.platform.component.State;
 import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.constant.ServiceNames;
@@ -78,18 +81,33 @@ public class JwtAutoConfiguration {
     @ConditionalOnProperty(prefix = PropertyKeys.Security.Jwt.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
     public JwtTokenProvider jwtTokenProvider(
             Clock jwtClock,
+            ObjectProvider<JwtPrincipalCache> principalCacheProvider,
             ObjectProvider<I18n> i18nProvider) {
         I18n i18n = I18nUtils.resolve(i18nProvider);
         var jwtProps = securityProperties.getJwt();
         JwtTokenProvider provider = new JwtTokenProvider(
                 jwtProps,
                 jwtClock,
-                i18n);
+                i18n,
+                principalCacheProvider.getIfAvailable());
         log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                 LogUtils.blue(JwtTokenProvider.class, true), LogUtils.red(State.CREATED.toString())));
         return provider;
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = PropertyKeys.Security.Jwt.PREFIX + ".principal-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public JwtPrincipalCache jwtPrincipalCache(
+            Clock jwtClock,
+            ObjectProvider<I18n> i18nProvider) {
+        I18n i18n = I18nUtils.resolve(i18nProvider);
+        JwtProperties.PrincipalCache props = securityProperties.getJwt().getPrincipalCache();
+        log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                LogUtils.blue(JwtPrincipalCache.class, true), LogUtils.red(State.CREATED.toString())));
+        return new JwtPrincipalCache(props.getMaximumSize(), props.getTtl(), jwtClock);
+    }
+
     @Bean
     @ConditionalOnClass({ RefreshTokenStore.class })
     @ConditionalOnMissingBean
@@ -150,6 +168,19 @@ public class JwtAutoConfiguration {
                 I18nUtils.resolve(i18nProvider));
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "studio.one.base.user.domain.event.UserAuthorityChangedEvent")
+    @ConditionalOnProperty(prefix = PropertyKeys.Security.Jwt.PREFIX + ".principal-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class PrincipalCacheInvalidationConfig {
+
+        @Bean
+        @ConditionalOnMissingBean
+        JwtPrincipalCacheInvalidator jwtPrincipalCacheInvalidator(JwtPrincipalCache jwtPrincipalCache,
+                ObjectProvider<CacheInvalidationBus> busProvider) {
+            return new JwtPrincipalCacheInvalidator(jwtPrincipalCache, busProvider.getIfAvailable());
+        }
+    }
+
     @Configuration
     @AutoConfigureBefore(HibernateJpaAutoConfiguration.class)
     @ConditionalOnJwtPersistence(PersistenceProperties.Type.jpa)
@@ -89,6 +89,12 @@ public class JwtProperties implements JwtConfig {
     
     private String cookieSameSite = "Strict";
 
+    /**
+     * {@code true}이면 권한 claim이 있는 액세스 토큰은 사용자 조회 없이 claim만으로 인증합니다.
+     * 권한 변경은 액세스 토큰이 재발급될 때(최대 accessTtl 후) 반영됩니다.
+     */
+    private boolean statelessAccessTokens = false;
+
     @Getter
     @Setter
     public static class Endpoints {
@@ -100,6 +106,20 @@ public class JwtProperties implements JwtConfig {
 
     private Endpoints endpoints = new Endpoints();
 
+    /**
+     * 인증된 JWT principal 캐시 설정. 항목은 ttl과 토큰 만료 중 이른 시점에 만료되며
+     * 사용자/권한 변경 이벤트로 즉시 무효화됩니다.
+     */
+    @Getter
+    @Setter
+    public static class PrincipalCache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000L;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    private PrincipalCache principalCache = new PrincipalCache();
+
     /** 인증 없이 접근 허용할 패턴 */
     private List<String> permit = Arrays.asList("/api/auth/**");
 
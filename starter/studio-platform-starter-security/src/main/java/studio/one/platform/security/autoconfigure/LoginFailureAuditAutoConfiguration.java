@@ -1,5 +1,6 @@
 package studio.one.platform.security.autoconfigure;
 
+import java.time.Clock;
 import java.util.concurrent.Executor;
 
 import jakarta.persistence.EntityManagerFactory;
@@ -27,11 +28,17 @@ import org.springframework.security.authentication.DefaultAuthenticationEventPub
 
 import lombok.extern.slf4j.Slf4j;
 import studio.one.base.security.audit.LoginFailureEventListener;
+import studio.one.base.security.audit.LoginFailureLogBatchWriter;
+import studio.one.base.security.audit.LoginFailureHourlyRollupJob;
+import studio.one.base.security.audit.LoginFailureLogPartitionJob;
 import studio.one.base.security.audit.LoginFailureLogRetentionJob;
 import studio.one.base.security.audit.LoginSuccessEventListener;
 import studio.one.base.security.audit.domain.entity.LoginFailureLog;
+import studio.one.base.security.audit.persistence.LoginFailureHourlyCountRepository;
 import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
+import studio.one.base.security.audit.persistence.jdbc.LoginFailureHourlyCountJdbcRepository;
 import studio.one.base.security.audit.persistence.jdbc.LoginFailureLogJdbcRepository;
+import studio.one.base.security.audit.persistence.jdbc.LoginFailureLogPartitionManager;
 import studio.one.base.security.audit.persistence.jpa.LoginFailureLogJpaRepository;
 import studio.one.base.security.audit.service.LoginFailureQueryService;
 import studio.one.base.security.audit.service.LoginFailureQueryServiceImpl;
@@ -84,6 +91,8 @@ public class LoginFailureAuditAutoConfiguration {
         @ConditionalOnMissingBean
         LoginFailureQueryService loginFailureQueryService(
                         LoginFailureLogRepository repository,
+                        ObjectProvider<LoginFailureHourlyCountRepository> hourlyCountRepository,
+                        AuditProperties props,
                         ObjectProvider<I18n> i18nProvider) {
                 I18n i18n = I18nUtils.resolve(i18nProvider);
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
@@ -98,7 +107,13 @@ public class LoginFailureAuditAutoConfiguration {
                                                 : LoginFailureLogJpaRepository.class,
                                                 true)));
 
-                return new LoginFailureQueryServiceImpl(repository);
+                LoginFailureQueryServiceImpl service = new LoginFailureQueryServiceImpl(repository);
+                hourlyCountRepository.ifAvailable(service::setHourlyCountRepository);
+                AuditProperties.Partitioning partitioning = props.getLoginFailure().getPartitioning();
+                if (partitioning.isEnabled()) {
+                        service.setDefaultLookback(partitioning.getDefaultQueryLookback());
+                }
+                return service;
         }
 
         @Bean
@@ -161,6 +176,7 @@ public class LoginFailureAuditAutoConfiguration {
         public LoginFailureEventListener loginFailureEventListener(
                         ObjectProvider<AccountLockService> accountLockService,
                         ObjectProvider<LoginFailureLogRepository> loginFailureLogRepository,
+                        ObjectProvider<LoginFailureLogBatchWriter> loginFailureLogBatchWriter,
                         AuditProperties props,
                         ObjectProvider<I18n> i18nProvider) {
 
@@ -168,7 +184,29 @@ public class LoginFailureAuditAutoConfiguration {
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                                 LogUtils.blue(LoginFailureEventListener.class, true),
                                 LogUtils.red(State.CREATED.toString())));
-                return new LoginFailureEventListener(accountLockService, loginFailureLogRepository);
+                return new LoginFailureEventListener(accountLockService, loginFailureLogRepository,
+                                loginFailureLogBatchWriter);
+        }
+
+        @Bean(name = ServiceNames.SECURITY_AUDIT_LOGIN_FAILURE_BATCH_WRITER, initMethod = "start", destroyMethod = "close")
+        @ConditionalOnProperty(prefix = PropertyKeys.Security.Audit.LOGIN_FAILURE + ".batch", name = "enabled", havingValue = "true")
+        @ConditionalOnMissingBean(LoginFailureLogBatchWriter.class)
+        public LoginFailureLogBatchWriter loginFailureLogBatchWriter(
+                        LoginFailureLogRepository repository,
+                        AuditProperties props,
+                        ObjectProvider<I18n> i18nProvider) {
+                AuditProperties.Batch batch = props.getLoginFailure().getBatch();
+                I18n i18n = I18nUtils.resolve(i18nProvider);
+                log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                                LogUtils.blue(LoginFailureLogBatchWriter.class, true),
+                                LogUtils.red(State.CREATED.toString())));
+                return new LoginFailureLogBatchWriter(
+                                repository,
+                                batch.getCapacity(),
+                                batch.getBatchSize(),
+                                batch.getFlushInterval(),
+                                batch.getOverflow(),
+                                batch.getOfferTimeout());
         }
 
         @Bean(name = ServiceNames.SECURITY_AUDIT_LOGIN_SUCCESS_EVENT_LISTENER)
@@ -190,6 +228,8 @@ public class LoginFailureAuditAutoConfiguration {
         @ConditionalOnProperty(prefix = PropertyKeys.Security.Audit.LOGIN_FAILURE, name = "retention-days")
         public LoginFailureLogRetentionJob loginFailureLogRetentionJob(
                         LoginFailureLogRepository repo,
+                        ObjectProvider<LoginFailureLogPartitionManager> partitionManager,
+                        ObjectProvider<LoginFailureHourlyCountRepository> hourlyCountRepository,
                         AuditProperties props,
                         ObjectProvider<I18n> i18nProvider) {
 
@@ -204,7 +244,69 @@ public class LoginFailureAuditAutoConfiguration {
                                 "LoginFailureLogRetentionJob Retention Days",
                                 LogUtils.green(props.getLoginFailure().getRetentionDays().toString())));
 
-                return new LoginFailureLogRetentionJob(repo, props.getLoginFailure().getRetentionDays());
+                LoginFailureLogRetentionJob job = new LoginFailureLogRetentionJob(repo,
+                                props.getLoginFailure().getRetentionDays());
+                partitionManager.ifAvailable(job::setPartitionManager);
+                hourlyCountRepository.ifAvailable(job::setHourlyCountRepository);
+                return job;
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = PropertyKeys.Security.Audit.LOGIN_FAILURE
+                        + ".partitioning", name = "enabled", havingValue = "true")
+        @ConditionalOnMissingBean
+        public LoginFailureLogPartitionManager loginFailureLogPartitionManager(
+                        @Qualifier(ServiceNames.NAMED_JDBC_TEMPLATE) NamedParameterJdbcTemplate template,
+                        AuditProperties props,
+                        ObjectProvider<I18n> i18nProvider) {
+                AuditProperties.Partitioning partitioning = props.getLoginFailure().getPartitioning();
+                I18n i18n = I18nUtils.resolve(i18nProvider);
+                log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                                LogUtils.blue(LoginFailureLogPartitionManager.class, true),
+                                LogUtils.red(State.CREATED.toString())));
+                log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.INFO + I18nKeys.AutoConfig.Feature.Service.INIT,
+                                FEATURE_NAME,
+                                LogUtils.blue(LoginFailureLogPartitionManager.class, true),
+                                "Partition Interval",
+                                LogUtils.green(partitioning.getInterval().name())));
+                return new LoginFailureLogPartitionManager(template, partitioning.getInterval());
+        }
+
+        @Bean(initMethod = "precreatePartitions")
+        @ConditionalOnProperty(prefix = PropertyKeys.Security.Audit.LOGIN_FAILURE
+                        + ".partitioning", name = "enabled", havingValue = "true")
+        @ConditionalOnMissingBean
+        public LoginFailureLogPartitionJob loginFailureLogPartitionJob(
+                        LoginFailureLogPartitionManager partitionManager,
+                        AuditProperties props,
+                        ObjectProvider<Clock> clock) {
+                return new LoginFailureLogPartitionJob(partitionManager,
+                                props.getLoginFailure().getPartitioning().getPrecreate(),
+                                clock.getIfAvailable(Clock::systemUTC));
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = PropertyKeys.Security.Audit.LOGIN_FAILURE
+                        + ".hourly", name = "enabled", havingValue = "true")
+        @ConditionalOnMissingBean(LoginFailureHourlyCountRepository.class)
+        public LoginFailureHourlyCountRepository loginFailureHourlyCountRepository(
+                        @Qualifier(ServiceNames.NAMED_JDBC_TEMPLATE) NamedParameterJdbcTemplate template,
+                        ObjectProvider<I18n> i18nProvider) {
+                I18n i18n = I18nUtils.resolve(i18nProvider);
+                log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                                LogUtils.blue(LoginFailureHourlyCountJdbcRepository.class, true),
+                                LogUtils.red(State.CREATED.toString())));
+                return new LoginFailureHourlyCountJdbcRepository(template);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = PropertyKeys.Security.Audit.LOGIN_FAILURE
+                        + ".hourly", name = "enabled", havingValue = "true")
+        @ConditionalOnMissingBean
+        public LoginFailureHourlyRollupJob loginFailureHourlyRollupJob(
+                        LoginFailureHourlyCountRepository repository,
+                        ObjectProvider<Clock> clock) {
+                return new LoginFailureHourlyRollupJob(repository, clock.getIfAvailable(Clock::systemUTC));
         }
 
         @Configuration
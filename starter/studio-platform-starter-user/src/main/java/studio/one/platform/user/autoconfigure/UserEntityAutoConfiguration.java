@@ -33,6 +33,7 @@ import studio.one.base.user.domain.event.listener.UserCacheEvictListener;
 import studio.one.platform.autoconfigure.EntityScanRegistrarSupport;
 import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.autoconfigure.PersistenceProperties;
+import studio.one.platform.cache.CacheInvalidationBus;
 import studio.one.platform.component.State;
 import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.service.I18n;
@@ -172,11 +173,12 @@ public class UserEntityAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean(UserCacheEvictListener.class)
         @ConditionalOnBean(CacheManager.class)
-        UserCacheEvictListener userCacheEvictListener(CacheManager cacheManager) {
+        UserCacheEvictListener userCacheEvictListener(CacheManager cacheManager,
+                        ObjectProvider<CacheInvalidationBus> busProvider) {
                 I18n i18n = I18nUtils.resolve(i18nProvider);
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                                 LogUtils.blue(UserCacheEvictListener.class, true),
                                 LogUtils.red(State.CREATED.toString())));
-                return new UserCacheEvictListener(cacheManager);
+                return new UserCacheEvictListener(cacheManager, busProvider.getIfAvailable());
         }
 }
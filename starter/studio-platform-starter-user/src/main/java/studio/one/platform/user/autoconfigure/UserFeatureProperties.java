@@ -68,4 +68,25 @@ public class UserFeatureProperties extends FeatureToggle {
      */
     private boolean useDefault = true;
 
+    /** 사용자 키워드 검색 백엔드 */
+    private Search search = new Search();
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Search {
+
+        /**
+         * database: 저장소 {@code lower(...) like} 검색(기본값),
+         * postgres-trigram: {@code pg_trgm} index 와 일치 품질 순위 사용,
+         * in-memory: username/email 접두어 index (소규모 배포용)
+         */
+        private Engine engine = Engine.DATABASE;
+    }
+
+    public enum Engine {
+        DATABASE,
+        POSTGRES_TRIGRAM,
+        IN_MEMORY
+    }
 }
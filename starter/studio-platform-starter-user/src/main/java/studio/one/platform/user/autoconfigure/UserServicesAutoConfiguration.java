@@ -14,6 +14,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -28,6 +29,9 @@ import studio.one.base.user.persistence.ApplicationGroupRoleRepository;
 import studio.one.base.user.persistence.ApplicationRoleRepository;
 import studio.one.base.user.persistence.ApplicationUserRoleRepository;
 import studio.one.base.user.persistence.ApplicationUserRepository;
+import studio.one.base.user.search.InMemoryUserSearchEngine;
+import studio.one.base.user.search.PostgresTrigramUserSearchEngine;
+import studio.one.base.user.search.UserSearchEngine;
 import studio.one.base.user.service.ApplicationCompanyService;
 import studio.one.base.user.service.ApplicationGroupService;
 import studio.one.base.user.service.ApplicationRoleService;
@@ -43,6 +47,7 @@ import studio.one.base.user.service.impl.ApplicationUserServiceImpl;
 import studio.one.base.user.config.PasswordPolicyProperties;
 import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.autoconfigure.PersistenceProperties;
+import studio.one.platform.cache.CacheInvalidationBus;
 import studio.one.platform.component.State;
 import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.constant.ServiceNames;
@@ -103,16 +108,47 @@ public class UserServicesAutoConfiguration {
                         @Qualifier(ServiceNames.REPOSITORY) ObjectProvider<DomainEvents> domainEventsProvider,
                         Clock clock,
                         ObjectProvider<UserMutator<?>> userMutatorProvider,
-                        ObjectProvider<PasswordPolicyService> policyValidatorProvider) {
+                        ObjectProvider<PasswordPolicyService> policyValidatorProvider,
+                        ObjectProvider<UserSearchEngine> userSearchEngineProvider) {
 
                 I18n i18n = I18nUtils.resolve(i18nProvider);
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                                 LogUtils.blue(ApplicationUserServiceImpl.class, true),
                                 LogUtils.red(State.CREATED.toString())));
-                return new ApplicationUserServiceImpl(userRepo, roleRepo, groupRepo, userRoleRepo, membershipRepo,
-                                jdbcTemplate, passwordEncoder, domainEventsProvider, clock, i18nProvider,
-                                (UserMutator) userMutatorProvider.getIfAvailable(ApplicationUserMutator::new),
+                ApplicationUserServiceImpl service = new ApplicationUserServiceImpl(userRepo, roleRepo, groupRepo,
+                                userRoleRepo, membershipRepo, jdbcTemplate, passwordEncoder, domainEventsProvider, clock,
+                                i18nProvider, (UserMutator) userMutatorProvider.getIfAvailable(ApplicationUserMutator::new),
                                 policyValidatorProvider);
+                userSearchEngineProvider.ifAvailable(service::setUserSearchEngine);
+                return service;
+        }
+
+        @Bean
+        @ConditionalOnClass(ApplicationUserRepository.class)
+        @ConditionalOnMissingBean(UserSearchEngine.class)
+        @ConditionalOnProperty(prefix = PropertyKeys.Features.User.PREFIX + ".search", name = "engine", havingValue = "postgres-trigram")
+        public UserSearchEngine postgresTrigramUserSearchEngine(
+                        @Qualifier(ServiceNames.JDBC_TEMPLATE) JdbcTemplate jdbcTemplate) {
+                I18n i18n = I18nUtils.resolve(i18nProvider);
+                log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                                LogUtils.blue(PostgresTrigramUserSearchEngine.class, true),
+                                LogUtils.red(State.CREATED.toString())));
+                return new PostgresTrigramUserSearchEngine(new NamedParameterJdbcTemplate(jdbcTemplate));
+        }
+
+        @Bean
+        @ConditionalOnClass(ApplicationUserRepository.class)
+        @ConditionalOnMissingBean(UserSearchEngine.class)
+        @ConditionalOnProperty(prefix = PropertyKeys.Features.User.PREFIX + ".search", name = "engine", havingValue = "in-memory")
+        public InMemoryUserSearchEngine inMemoryUserSearchEngine(
+                        @Qualifier(ServiceNames.JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                        ObjectProvider<CacheInvalidationBus> busProvider) {
+                I18n i18n = I18nUtils.resolve(i18nProvider);
+                log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                                LogUtils.blue(InMemoryUserSearchEngine.class, true),
+                                LogUtils.red(State.CREATED.toString())));
+                return new InMemoryUserSearchEngine(new NamedParameterJdbcTemplate(jdbcTemplate),
+                                busProvider.getIfAvailable());
         }
 
         @Bean
@@ -135,13 +171,14 @@ public class UserServicesAutoConfiguration {
                         ApplicationGroupRepository groupRepo,
                         ApplicationRoleRepository userRoleRepo,
                         ApplicationGroupMembershipRepository membershipRepo,
-                        ApplicationGroupRoleRepository groupRoleRepo) {
+                        ApplicationGroupRoleRepository groupRoleRepo,
+                        @Qualifier(ServiceNames.REPOSITORY) ObjectProvider<DomainEvents> domainEventsProvider) {
                 I18n i18n = I18nUtils.resolve(i18nProvider);
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                                 LogUtils.blue(ApplicationGroupServiceImpl.class, true),
                                 LogUtils.red(State.CREATED.toString())));
                 return new ApplicationGroupServiceImpl(groupRepo, userRoleRepo, membershipRepo, groupRoleRepo,
-                                jdbcTemplate, i18nProvider);
+                                jdbcTemplate, i18nProvider, domainEventsProvider);
         }
 
         @Bean(name = ApplicationRoleService.SERVICE_NAME)
@@ -177,11 +214,12 @@ public class UserServicesAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean(UserCacheEvictListener.class)
         @ConditionalOnBean(CacheManager.class)
-        UserCacheEvictListener userCacheEvictListener(ObjectProvider<CacheManager> cacheManager) {
+        UserCacheEvictListener userCacheEvictListener(ObjectProvider<CacheManager> cacheManager,
+                        ObjectProvider<CacheInvalidationBus> busProvider) {
                 I18n i18n = I18nUtils.resolve(i18nProvider); 
                 log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                                 LogUtils.blue(UserCacheEvictListener.class, true),
                                 LogUtils.red(State.CREATED.toString())));
-                return new UserCacheEvictListener(cacheManager.getIfAvailable());
+                return new UserCacheEvictListener(cacheManager.getIfAvailable(), busProvider.getIfAvailable());
         }
 }
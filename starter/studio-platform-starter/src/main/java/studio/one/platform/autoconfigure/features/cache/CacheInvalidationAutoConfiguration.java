@@ -0,0 +1,42 @@
+package studio.one.platform.autoconfigure.features.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.autoconfigure.I18nKeys;
+import studio.one.platform.cache.CacheInvalidationBus;
+import studio.one.platform.cache.LocalCacheInvalidationBus;
+import studio.one.platform.component.State;
+import studio.one.platform.service.I18n;
+import studio.one.platform.util.I18nUtils;
+import studio.one.platform.util.LogUtils;
+
+/**
+ * 기본 {@link CacheInvalidationBus}(JVM 내부 전달)를 등록합니다.
+ * Redis 등 클러스터 구현이 먼저 등록되면 이 구성은 건너뜁니다.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+@Slf4j
+public class CacheInvalidationAutoConfiguration {
+
+    private static final String FEATURE_NAME = "Cache Invalidation";
+
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public CacheInvalidationBus cacheInvalidationBus(CacheInvalidationProperties properties,
+            ObjectProvider<I18n> i18nProvider) {
+        I18n i18n = I18nUtils.resolve(i18nProvider);
+        if (properties.getType() != CacheInvalidationProperties.Type.local) {
+            log.warn("Cache invalidation type '{}' is not available; invalidations stay on this node",
+                    properties.getType());
+        }
+        log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
+                LogUtils.blue(LocalCacheInvalidationBus.class, true), LogUtils.red(State.CREATED.toString())));
+        return new LocalCacheInvalidationBus(properties.getNodeId());
+    }
+}
@@ -0,0 +1,38 @@
+package studio.one.platform.autoconfigure.features.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+import studio.one.platform.constant.PropertyKeys;
+
+/**
+ * 캐시 무효화 버스 설정({@code studio.cache.invalidation.*}).
+ */
+@ConfigurationProperties(prefix = PropertyKeys.Cache.Invalidation.PREFIX)
+@Getter
+@Setter
+public class CacheInvalidationProperties {
+
+    public enum Type {
+        /** 현재 JVM 안에서만 전달 */
+        local,
+        /** Redis pub/sub으로 모든 노드에 전달 (studio-platform-starter-realtime 필요) */
+        redis
+    }
+
+    private Type type = Type.local;
+
+    /**
+     * 노드 id. 비어 있으면 기동 시 임의로 생성합니다.
+     */
+    private String nodeId;
+
+    private Redis redis = new Redis();
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private String channel = "studio:cache:invalidation";
+    }
+}
@@ -27,6 +27,8 @@ dependencies {
     api(project(":studio-platform-autoconfigure"))
     compileOnly("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    compileOnly("io.micrometer:micrometer-core")
     testImplementation("org.springframework.boot:spring-boot-starter-web")
     testImplementation("org.apache.poi:poi:${property("apachePoiVersion")}")
+    testImplementation("io.micrometer:micrometer-core")
 }
@@ -1,13 +1,17 @@
 package studio.one.platform.textract.autoconfigure;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +19,10 @@ import studio.one.platform.autoconfigure.I18nKeys;
 import studio.one.platform.component.State;
 import studio.one.platform.constant.PropertyKeys;
 import studio.one.platform.service.I18n;
+import studio.one.platform.textract.cache.DiskExtractionResultCache;
+import studio.one.platform.textract.cache.ExtractionResultCache;
+import studio.one.platform.textract.cache.InMemoryExtractionResultCache;
+import studio.one.platform.textract.cache.TieredExtractionResultCache;
 import studio.one.platform.textract.extractor.FileParser;
 import studio.one.platform.textract.extractor.FileParserFactory;
 import studio.one.platform.textract.extractor.impl.DocxFileParser;
@@ -24,6 +32,9 @@ import studio.one.platform.textract.extractor.impl.ImageFileParser;
 import studio.one.platform.textract.extractor.impl.PdfFileParser;
 import studio.one.platform.textract.extractor.impl.PptxFileParser;
 import studio.one.platform.textract.extractor.impl.TextFileParser;
+import studio.one.platform.textract.metrics.MicrometerOcrMetricsRecorder;
+import studio.one.platform.textract.ocr.OcrMetricsRecorder;
+import studio.one.platform.textract.ocr.TesseractOcrEngine;
 import studio.one.platform.textract.service.FileContentExtractionService;
 import studio.one.platform.util.I18nUtils;
 import studio.one.platform.util.LogUtils;
@@ -57,15 +68,9 @@ public class TextractAutoConfiguration {
     @Bean
     @ConditionalOnClass(name = "org.apache.pdfbox.pdmodel.PDDocument")
     public FileParser pdfFileParser() {
+        TextractProperties.Pdf pdf = props.getPdf();
         logCreated(PdfFileParser.class);
-        return new PdfFileParser();
-    }
-
-    @Bean
-    @ConditionalOnClass(name = "net.sourceforge.tess4j.Tesseract")
-    public FileParser imageFileParser() {
-        logCreated(ImageFileParser.class);
-        return new ImageFileParser(props.getTesseract().getDatapath(), props.getTesseract().getLanguage());
+        return new PdfFileParser(pdf.resolvedWorkers(), pdf.getPagesPerTask(), pdf.getBoundarySamplePages());
     }
 
     @Bean
@@ -96,12 +101,79 @@ public class TextractAutoConfiguration {
     }
 
     @Bean
-    public FileContentExtractionService fileContentExtractionService(FileParserFactory factory) {
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = PropertyKeys.Features.PREFIX
+            + ".text.cache", name = "enabled", havingValue = "true")
+    public ExtractionResultCache extractionResultCache() {
+        TextractProperties.Cache cache = props.getCache();
+        ExtractionResultCache memory = new InMemoryExtractionResultCache(cache.getMemoryMaxSize().toBytes());
+        if (!StringUtils.hasText(cache.getDiskDirectory())) {
+            logCreated(InMemoryExtractionResultCache.class);
+            return memory;
+        }
+        logCreated(TieredExtractionResultCache.class);
+        return new TieredExtractionResultCache(memory, new DiskExtractionResultCache(
+                Path.of(cache.getDiskDirectory()), cache.getDiskMaxSize().toBytes()));
+    }
+
+    @Bean
+    public FileContentExtractionService fileContentExtractionService(
+            FileParserFactory factory,
+            ObjectProvider<ExtractionResultCache> cacheProvider) {
         logCreated(FileContentExtractionService.class);
-        return new FileContentExtractionService(factory, props.getMaxExtractBytes());
+        return new FileContentExtractionService(
+                factory,
+                props.getMaxExtractBytes(),
+                cacheProvider.getIfAvailable(ExtractionResultCache::noop));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "net.sourceforge.tess4j.Tesseract")
+    static class OcrConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public TesseractOcrEngine tesseractOcrEngine(
+                TextractProperties props,
+                ObjectProvider<OcrMetricsRecorder> metricsProvider,
+                ObjectProvider<I18n> i18nProvider) {
+            TextractProperties.Tesseract tesseract = props.getTesseract();
+            logCreated(i18nProvider, TesseractOcrEngine.class);
+            return new TesseractOcrEngine(
+                    tesseract.getDatapath(),
+                    tesseract.getLanguage(),
+                    tesseract.toOcrOptions(),
+                    metricsProvider.getIfAvailable(OcrMetricsRecorder::noop));
+        }
+
+        @Bean
+        public FileParser imageFileParser(TesseractOcrEngine tesseractOcrEngine, ObjectProvider<I18n> i18nProvider) {
+            logCreated(i18nProvider, ImageFileParser.class);
+            return new ImageFileParser(tesseractOcrEngine);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class OcrMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OcrMetricsRecorder.class)
+        public OcrMetricsRecorder ocrMetricsRecorder(
+                ObjectProvider<io.micrometer.core.instrument.MeterRegistry> meterRegistryProvider) {
+            io.micrometer.core.instrument.MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+            if (meterRegistry == null) {
+                return OcrMetricsRecorder.noop();
+            }
+            return new MicrometerOcrMetricsRecorder(meterRegistry);
+        }
     }
 
     private void logCreated(Class<?> type) {
+        logCreated(i18nProvider, type);
+    }
+
+    private static void logCreated(ObjectProvider<I18n> i18nProvider, Class<?> type) {
         I18n i18n = I18nUtils.resolve(i18nProvider);
         log.info(LogUtils.format(i18n, I18nKeys.AutoConfig.Feature.Service.DETAILS, FEATURE_NAME,
                 LogUtils.blue(type, true), LogUtils.red(State.CREATED.toString())));
@@ -1,8 +1,12 @@
 package studio.one.platform.textract.autoconfigure;
 
+import java.time.Duration;
+
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import lombok.Getter;
@@ -10,6 +14,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import studio.one.platform.autoconfigure.FeaturesProperties.FeatureToggle;
 import studio.one.platform.constant.PropertyKeys;
+import studio.one.platform.textract.ocr.OcrOptions;
 
 @ConfigurationProperties(prefix = PropertyKeys.Features.PREFIX + ".text")
 @Validated
@@ -20,13 +25,106 @@ public class TextractProperties extends FeatureToggle {
     @Min(1)
     private int maxExtractBytes = 10 * 1024 * 1024;
 
+    @Valid
     private Tesseract tesseract = new Tesseract();
 
+    @Valid
+    private Pdf pdf = new Pdf();
+
+    @Valid
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Cache {
+
+        /**
+         * 입력 내용 해시와 파서 버전을 키로 추출 결과를 재사용할지 여부.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 메모리 계층에 보관할 추출 결과의 추정 크기 상한.
+         */
+        private DataSize memoryMaxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * 디스크 계층 디렉터리. 비어 있으면 메모리 계층만 사용한다.
+         */
+        private String diskDirectory;
+
+        /**
+         * 디스크 계층의 최대 크기. 넘으면 가장 오래 사용하지 않은 결과부터 삭제한다.
+         */
+        private DataSize diskMaxSize = DataSize.ofGigabytes(1);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Pdf {
+
+        /**
+         * 페이지 범위를 병렬 추출할 워커 수. 1이면 순차 처리하고, 0이면 CPU 코어 수를 사용한다.
+         */
+        @Min(0)
+        private int workers = 1;
+
+        /**
+         * 워커 작업 하나가 처리할 연속 페이지 수.
+         */
+        @Min(1)
+        private int pagesPerTask = 16;
+
+        /**
+         * 스트리밍 파싱에서 반복 머리글/바닥글 판정에 사용할 앞쪽 페이지 수.
+         */
+        @Min(2)
+        private int boundarySamplePages = 10;
+
+        public int resolvedWorkers() {
+            return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
     public static class Tesseract {
         private String datapath = "/usr/share/tesseract-ocr/4.00/tessdata";
         private String language = "kor+eng";
+
+        /**
+         * 동시에 사용할 Tesseract 엔진 수. 0이면 CPU 코어 수를 사용한다.
+         */
+        @Min(0)
+        private int poolSize = 0;
+
+        /**
+         * 모든 엔진이 사용 중일 때 유휴 엔진을 기다리는 최대 시간.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(60);
+
+        /**
+         * 시작 시 pool 크기만큼 엔진을 미리 만들어 언어 데이터를 적재(초기화)할지 여부.
+         */
+        private boolean warmUp = true;
+
+        /**
+         * 긴 변이 이 값을 넘는 이미지를 OCR 전에 축소한다. 0이면 축소하지 않는다.
+         */
+        @Min(0)
+        private int maxImageDimension = 0;
+
+        /**
+         * OCR 전에 이미지를 흑백으로 이진화할지 여부.
+         */
+        private boolean binarize = false;
+
+        public OcrOptions toOcrOptions() {
+            int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+            return new OcrOptions(size, acquireTimeout, warmUp, maxImageDimension, binarize);
+        }
     }
 }
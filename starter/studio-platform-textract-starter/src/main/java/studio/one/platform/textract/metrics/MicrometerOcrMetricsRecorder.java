@@ -0,0 +1,32 @@
+package studio.one.platform.textract.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import studio.one.platform.textract.ocr.OcrMetricsRecorder;
+
+/**
+ * Micrometer-backed OCR metrics recorder.
+ */
+@RequiredArgsConstructor
+public class MicrometerOcrMetricsRecorder implements OcrMetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recordQueueWait(Duration wait) {
+        Timer.builder("textract.ocr.queue.wait")
+                .register(meterRegistry)
+                .record(wait != null ? wait : Duration.ZERO);
+    }
+
+    @Override
+    public void recordPage(Duration elapsed, boolean success) {
+        Timer.builder("textract.ocr.page.duration")
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsed != null ? elapsed : Duration.ZERO);
+    }
+}
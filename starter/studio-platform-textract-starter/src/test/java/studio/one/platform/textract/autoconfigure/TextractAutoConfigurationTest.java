@@ -2,12 +2,22 @@ package studio.one.platform.textract.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import studio.one.platform.textract.cache.ExtractionResultCache;
+import studio.one.platform.textract.cache.TieredExtractionResultCache;
+import studio.one.platform.textract.metrics.MicrometerOcrMetricsRecorder;
+import studio.one.platform.textract.ocr.OcrMetricsRecorder;
+import studio.one.platform.textract.ocr.OcrOptions;
 import studio.one.platform.textract.service.FileContentExtractionService;
 
 class TextractAutoConfigurationTest {
@@ -64,4 +74,62 @@ class TextractAutoConfigurationTest {
                     assertThat(context).doesNotHaveBean("hwpHwpxFileParser");
                 });
     }
+
+    @Test
+    void bindsPdfParallelOptions() {
+        contextRunner
+                .withPropertyValues(
+                        "studio.features.text.pdf.workers=4",
+                        "studio.features.text.pdf.pages-per-task=8")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    TextractProperties.Pdf pdf = context.getBean(TextractProperties.class).getPdf();
+                    assertThat(pdf.resolvedWorkers()).isEqualTo(4);
+                    assertThat(pdf.getPagesPerTask()).isEqualTo(8);
+                });
+    }
+
+    @Test
+    void registersTieredExtractionCacheWhenDiskDirectoryIsConfigured(@TempDir Path tempDir) {
+        contextRunner
+                .withPropertyValues(
+                        "studio.features.text.cache.enabled=true",
+                        "studio.features.text.cache.memory-max-size=8MB",
+                        "studio.features.text.cache.disk-directory=" + tempDir.resolve("textract"))
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).getBean(ExtractionResultCache.class)
+                            .isInstanceOf(TieredExtractionResultCache.class);
+                    assertThat(tempDir.resolve("textract")).isDirectory();
+                });
+    }
+
+    @Test
+    void skipsExtractionCacheByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(ExtractionResultCache.class);
+            assertThat(context).hasSingleBean(FileContentExtractionService.class);
+        });
+    }
+
+    @Test
+    void bindsOcrPoolOptionsAndRegistersMicrometerRecorder() {
+        contextRunner
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues(
+                        "studio.features.text.tesseract.pool-size=4",
+                        "studio.features.text.tesseract.max-image-dimension=3000",
+                        "studio.features.text.tesseract.binarize=true")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).getBean(OcrMetricsRecorder.class)
+                            .isInstanceOf(MicrometerOcrMetricsRecorder.class);
+                    OcrOptions options = context.getBean(TextractProperties.class).getTesseract().toOcrOptions();
+                    assertThat(options.poolSize()).isEqualTo(4);
+                    assertThat(options.maxImageDimension()).isEqualTo(3000);
+                    assertThat(options.binarize()).isTrue();
+                    assertThat(options.warmUp()).isTrue();
+                });
+    }
 }
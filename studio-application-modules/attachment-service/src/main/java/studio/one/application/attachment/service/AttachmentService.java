@@ -24,7 +24,9 @@ package studio.one.application.attachment.service;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import studio.one.application.attachment.domain.model.Attachment;
 import studio.one.platform.exception.NotFoundException;
 import org.springframework.data.domain.Page;
@@ -34,6 +36,11 @@ public interface AttachmentService {
 
 	public static final String SERVICE_NAME = "components:attachment-service";
 
+	/**
+	 * 업로드 시 기록하는 바이너리 SHA-256(hex) 속성 이름. 다운로드 strong ETag로 사용한다.
+	 */
+	public static final String CONTENT_SHA256_PROPERTY = "content.sha256";
+
 	Attachment getAttachmentById(long attachmentId) throws NotFoundException;
 
 	List<Attachment> getAttachments(int objectType, long objectId);
@@ -76,4 +83,11 @@ public interface AttachmentService {
 
 	InputStream getInputStream(Attachment attachment) throws IOException;
 
+	/**
+	 * 바이너리가 로컬 파일로 존재하면 그 경로를 반환한다. 다운로드 시 파일 채널로 직접 전송하는 데 사용한다.
+	 */
+	default Optional<Path> getLocalPath(Attachment attachment) {
+		return Optional.empty();
+	}
+
 }
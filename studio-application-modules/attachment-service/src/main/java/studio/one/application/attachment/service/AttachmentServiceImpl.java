@@ -6,8 +6,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
@@ -184,8 +191,9 @@ public class AttachmentServiceImpl implements AttachmentService {
         }
         Attachment savedAttachment = attachmentRepository.save(attachment);
         try {
-            fileStorage.save(savedAttachment, inputStream);
-            return savedAttachment;
+            DigestInputStream digestInput = new DigestInputStream(inputStream, sha256());
+            fileStorage.save(savedAttachment, digestInput);
+            return recordContentHash(savedAttachment, digestInput.getMessageDigest());
         } catch (RuntimeException e) {
             cleanupAfterStorageFailure(savedAttachment, e);
             throw e;
@@ -218,6 +226,28 @@ public class AttachmentServiceImpl implements AttachmentService {
         return fileStorage.load(attachment);
     }
 
+    @Override
+    public Optional<Path> getLocalPath(Attachment attachment) {
+        return fileStorage.localPath(attachment);
+    }
+
+    private Attachment recordContentHash(Attachment attachment, MessageDigest digest) {
+        Map<String, String> properties = attachment.getProperties() == null
+                ? new HashMap<>()
+                : new HashMap<>(attachment.getProperties());
+        properties.put(CONTENT_SHA256_PROPERTY, HexFormat.of().formatHex(digest.digest()));
+        attachment.setProperties(properties);
+        return attachmentRepository.save(toEntity(attachment));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     private ApplicationAttachment toEntity(Attachment attachment) {
         if (attachment instanceof ApplicationAttachment attach) {
             return attach;
@@ -229,6 +259,7 @@ public class AttachmentServiceImpl implements AttachmentService {
         entity.setName(attachment.getName());
         entity.setContentType(attachment.getContentType());
         entity.setSize(attachment.getSize());
+        entity.setProperties(attachment.getProperties());
         return entity;
     }
 
@@ -1,35 +1,48 @@
 package studio.one.application.attachment.storage;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.application.attachment.domain.model.Attachment;
 
 /**
  * Wraps a primary FileStorage (e.g., database) with a filesystem cache to reduce DB reads.
+ * <p>
+ * Binaries are streamed through {@link StreamingCacheFill}: a cache miss returns a stream over the
+ * primary read while the cache is filled in the background, and concurrent misses for the same
+ * attachment share one primary read.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class CachedFileStore implements FileStorage {
 
     private final FileStorage primary;
     private final FileStorage cache;
+    private final StreamingCacheFill<Long> cacheFill;
+
+    /**
+     * @param executor runs background cache fills; owned and shut down by the caller
+     */
+    public CachedFileStore(FileStorage primary, FileStorage cache, Executor executor) {
+        this(primary, cache, new StreamingCacheFill<>("Attachment", executor, null));
+    }
+
+    public CachedFileStore(FileStorage primary, FileStorage cache, StreamingCacheFill<Long> cacheFill) {
+        this.primary = primary;
+        this.cache = cache;
+        this.cacheFill = cacheFill;
+    }
 
     @Override
     public String save(Attachment attachment, InputStream input) {
+        cacheFill.invalidate(attachment.getAttachmentId());
         try {
-            byte[] bytes = input.readAllBytes();
-            String location = primary.save(attachment, new ByteArrayInputStream(bytes));
-            try {
-                cache.save(attachment, new ByteArrayInputStream(bytes));
-            } catch (RuntimeException cacheError) {
-                log.warn("Attachment cache write failed for id={}: {}", attachment.getAttachmentId(),
-                        cacheError.getMessage());
-            }
-            return location;
+            return cacheFill.save(input,
+                    in -> primary.save(attachment, in),
+                    in -> cache.save(attachment, in));
         } catch (IOException e) {
             throw new RuntimeException("Attachment save failed", e);
         }
@@ -38,25 +51,30 @@ public class CachedFileStore implements FileStorage {
     @Override
     public InputStream load(Attachment attachment) {
         try {
-            return cache.load(attachment);
-        } catch (RuntimeException cacheMiss) {
-            try (InputStream source = primary.load(attachment)) {
-                byte[] bytes = source.readAllBytes();
-                try {
-                    cache.save(attachment, new ByteArrayInputStream(bytes));
-                } catch (RuntimeException cacheError) {
-                    log.warn("Attachment cache fill failed for id={}: {}", attachment.getAttachmentId(),
-                            cacheError.getMessage());
-                }
-                return new ByteArrayInputStream(bytes);
-            } catch (IOException e) {
-                throw new RuntimeException("Attachment load failed", e);
-            }
+            return cacheFill.load(attachment.getAttachmentId(),
+                    () -> cache.load(attachment),
+                    () -> primary.load(attachment),
+                    in -> cache.save(attachment, in));
+        } catch (IOException e) {
+            throw new RuntimeException("Attachment load failed", e);
+        }
+    }
+
+    /**
+     * Exposes the cached file only when no fill for the attachment is in flight, so a partially
+     * written cache entry is never served directly.
+     */
+    @Override
+    public Optional<Path> localPath(Attachment attachment) {
+        if (cacheFill.isFilling(attachment.getAttachmentId())) {
+            return Optional.empty();
         }
+        return cache.localPath(attachment);
     }
 
     @Override
     public void delete(Attachment attachment) {
+        cacheFill.invalidate(attachment.getAttachmentId());
         primary.delete(attachment);
         try {
             cache.delete(attachment);
@@ -2,6 +2,8 @@ package studio.one.application.attachment.storage;
 
 import studio.one.application.attachment.domain.model.Attachment;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface FileStorage {
     String save(
@@ -15,4 +17,9 @@ public interface FileStorage {
     /** 파일 삭제 */
     void delete(Attachment attachment);
 
+    /** 바이너리가 완성된 로컬 파일로 존재하면 그 경로 (range 다운로드를 파일 채널로 직접 전송할 때 사용) */
+    default Optional<Path> localPath(Attachment attachment) {
+        return Optional.empty();
+    }
+
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files; 
 import java.nio.file.Path;
+import java.util.Optional;
+
 import lombok.RequiredArgsConstructor;
 import studio.one.application.attachment.domain.model.Attachment;
 
@@ -35,6 +37,13 @@ public class LocalFileStore implements FileStorage {
         }
     }
 
+    @Override
+    public Optional<Path> localPath(Attachment attachment) {
+        Path file = Path.of(baseDir, String.valueOf(attachment.getObjectType()))
+                .resolve(attachment.getAttachmentId() + "");
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
     @Override
     public void delete(Attachment attachment) {
         try {
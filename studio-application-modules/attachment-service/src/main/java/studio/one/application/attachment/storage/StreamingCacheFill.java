@@ -0,0 +1,530 @@
+package studio.one.application.attachment.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies binaries between a primary store and a cache store without buffering them on the heap.
+ * <p>
+ * Writes tee the input into a spool file while the primary store reads it, then copy the spool
+ * file into the cache. A cache miss opens the primary stream once and a background task spools
+ * it to a temp file; the caller and every concurrent caller for the same key read from that
+ * spool file as it grows, and the cache is filled from it once the primary read completes.
+ * Memory per transfer is bounded by a fixed copy buffer regardless of the binary size.
+ * <p>
+ * Background fills run on the executor passed in, which the caller owns and shuts down. A fill the
+ * executor rejects is skipped and the caller reads the primary stream directly.
+ *
+ * @param <K> cache key, e.g. attachment id or thumbnail key
+ */
+@Slf4j
+public class StreamingCacheFill<K> {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String name;
+    private final Executor executor;
+    private final Path spoolDir;
+    private final ConcurrentMap<K, Fill> fills = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor runs cache fills in the background
+     * @param spoolDir directory for spool files; the system temp directory when {@code null}
+     */
+    public StreamingCacheFill(String name, Executor executor, Path spoolDir) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.spoolDir = spoolDir;
+    }
+
+    /**
+     * Saves {@code input} to the primary store and copies the same bytes to the cache store.
+     * A cache write failure is logged and does not fail the save.
+     */
+    public <R> R save(InputStream input, Function<InputStream, R> primarySave, Consumer<InputStream> cacheSave)
+            throws IOException {
+        Path spool = createSpool();
+        try {
+            R result;
+            boolean spooled;
+            try (TeeInputStream tee = new TeeInputStream(input, Files.newOutputStream(spool))) {
+                result = primarySave.apply(tee);
+                spooled = tee.finish();
+            }
+            if (spooled) {
+                try (InputStream cached = Files.newInputStream(spool)) {
+                    cacheSave.accept(cached);
+                } catch (IOException | RuntimeException cacheError) {
+                    log.warn("{} cache write failed: {}", name, cacheError.getMessage());
+                }
+            }
+            return result;
+        } finally {
+            deleteQuietly(spool);
+        }
+    }
+
+    /**
+     * Loads {@code key} from the cache, or from the primary store on a miss while filling the cache
+     * in the background. Concurrent misses for the same key share a single primary read.
+     */
+    public InputStream load(
+            K key,
+            Supplier<InputStream> cacheLoad,
+            Supplier<InputStream> primaryLoad,
+            Consumer<InputStream> cacheSave) throws IOException {
+        while (true) {
+            Fill current = fills.get(key);
+            if (current != null) {
+                InputStream inFlight = current.open();
+                if (inFlight != null) {
+                    return inFlight;
+                }
+            }
+            try {
+                return cacheLoad.get();
+            } catch (RuntimeException cacheMiss) {
+                log.debug("{} cache miss for {}: {}", name, key, cacheMiss.getMessage());
+            }
+            Fill fill = new Fill(key);
+            if (fills.putIfAbsent(key, fill) == null) {
+                return startFill(key, fill, primaryLoad, cacheSave);
+            }
+            // Another caller started a fill for this key; join it on the next pass.
+        }
+    }
+
+    private InputStream startFill(
+            K key,
+            Fill fill,
+            Supplier<InputStream> primaryLoad,
+            Consumer<InputStream> cacheSave) throws IOException {
+        InputStream source;
+        try {
+            source = primaryLoad.get();
+        } catch (RuntimeException ex) {
+            fills.remove(key, fill);
+            fill.abort();
+            throw ex;
+        }
+        try {
+            fill.start(createSpool());
+        } catch (IOException ex) {
+            fills.remove(key, fill);
+            fill.abort();
+            log.warn("{} cache fill skipped for {}: {}", name, key, ex.getMessage());
+            return source;
+        }
+        InputStream reader = fill.open();
+        try {
+            executor.execute(() -> fill.run(source, cacheSave));
+        } catch (RejectedExecutionException ex) {
+            reader.close();
+            fills.remove(key, fill);
+            fill.abort();
+            log.warn("{} cache fill rejected for {}: {}", name, key, ex.getMessage());
+            return source;
+        }
+        return reader;
+    }
+
+    /**
+     * Stops an in-flight fill for {@code key} from writing to the cache, e.g. when the binary is deleted.
+     * Readers that already joined the fill still receive the full content.
+     */
+    public void invalidate(K key) {
+        Fill fill = fills.remove(key);
+        if (fill != null) {
+            fill.invalidate();
+        }
+    }
+
+    /**
+     * Invalidates every in-flight fill whose key matches {@code filter}.
+     */
+    public void invalidateIf(Predicate<? super K> filter) {
+        fills.keySet().stream().filter(filter).toList().forEach(this::invalidate);
+    }
+
+    /**
+     * @return {@code true} while a fill for {@code key} is spooling or writing the cache
+     */
+    public boolean isFilling(K key) {
+        return fills.containsKey(key);
+    }
+
+    int inFlight() {
+        return fills.size();
+    }
+
+    private Path createSpool() throws IOException {
+        return spoolDir == null
+                ? Files.createTempFile("cache-fill-", ".spool")
+                : Files.createTempFile(Files.createDirectories(spoolDir), "cache-fill-", ".spool");
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.debug("{} spool delete failed for {}: {}", name, path, ex.getMessage());
+        }
+    }
+
+    /**
+     * One primary read spooled to a temp file, shared by every reader of the same key.
+     */
+    private final class Fill {
+
+        private final K key;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition progress = lock.newCondition();
+        private Path spool;
+        private boolean started;
+        private long written;
+        private boolean complete;
+        private IOException failure;
+        private boolean invalidated;
+        private boolean retired;
+        private int readers;
+
+        Fill(K key) {
+            this.key = key;
+        }
+
+        void start(Path spoolFile) {
+            lock.lock();
+            try {
+                spool = spoolFile;
+                started = true;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Opens a reader over the spool, waiting while the leader is still opening the primary stream.
+         *
+         * @return {@code null} if the fill is already finished or was aborted
+         */
+        InputStream open() throws IOException {
+            lock.lock();
+            try {
+                while (!started && !retired) {
+                    progress.await();
+                }
+                if (retired) {
+                    return null;
+                }
+                readers++;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for " + name + " content", ex);
+            } finally {
+                lock.unlock();
+            }
+            try {
+                return new SpoolReader(this, FileChannel.open(spool, StandardOpenOption.READ));
+            } catch (IOException ex) {
+                release();
+                throw ex;
+            }
+        }
+
+        void run(InputStream source, Consumer<InputStream> cacheSave) {
+            try (InputStream in = source;
+                    FileChannel out = FileChannel.open(spool, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                ByteBuffer chunk = ByteBuffer.wrap(buffer);
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    chunk.clear().limit(read);
+                    while (chunk.hasRemaining()) {
+                        out.write(chunk);
+                    }
+                    advance(read);
+                }
+                finish(null);
+            } catch (IOException | RuntimeException ex) {
+                finish(ex instanceof IOException io ? io : new IOException(ex.getMessage(), ex));
+                fills.remove(key, this);
+                retire();
+                log.warn("{} primary read failed for {}: {}", name, key, ex.getMessage());
+                return;
+            }
+            if (!isInvalidated()) {
+                try (InputStream cached = Files.newInputStream(spool)) {
+                    cacheSave.accept(cached);
+                } catch (IOException | RuntimeException cacheError) {
+                    log.warn("{} cache fill failed for {}: {}", name, key, cacheError.getMessage());
+                }
+            }
+            // Readers arriving until now were served from the spool, so they never saw a partial cache entry.
+            fills.remove(key, this);
+            retire();
+        }
+
+        void abort() {
+            finish(new IOException("cache fill aborted"));
+            retire();
+        }
+
+        void invalidate() {
+            lock.lock();
+            try {
+                invalidated = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits until bytes beyond {@code position} are spooled.
+         *
+         * @return the spooled length, or {@code -1} when the content ends at {@code position}
+         */
+        long awaitAvailable(long position) throws IOException {
+            lock.lock();
+            try {
+                while (position >= written && !complete) {
+                    progress.await();
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                return position >= written ? -1L : written;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for " + name + " content", ex);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            boolean delete;
+            lock.lock();
+            try {
+                readers--;
+                delete = retired && readers == 0;
+            } finally {
+                lock.unlock();
+            }
+            if (delete) {
+                deleteQuietly(spool);
+            }
+        }
+
+        private void advance(int bytes) {
+            lock.lock();
+            try {
+                written += bytes;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void finish(IOException error) {
+            lock.lock();
+            try {
+                complete = true;
+                failure = error;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isInvalidated() {
+            lock.lock();
+            try {
+                return invalidated;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void retire() {
+            boolean delete;
+            lock.lock();
+            try {
+                retired = true;
+                delete = readers == 0;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (delete) {
+                deleteQuietly(spool);
+            }
+        }
+    }
+
+    /**
+     * Reads a spool file while it is still being written.
+     */
+    private final class SpoolReader extends InputStream {
+
+        private final Fill fill;
+        private final FileChannel channel;
+        private long position;
+        private boolean closed;
+
+        SpoolReader(Fill fill, FileChannel channel) {
+            this.fill = fill;
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (length == 0) {
+                return 0;
+            }
+            long available = fill.awaitAvailable(position);
+            if (available < 0) {
+                return -1;
+            }
+            int toRead = (int) Math.min(length, available - position);
+            int read = channel.read(ByteBuffer.wrap(buffer, offset, toRead), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                channel.close();
+            } finally {
+                fill.release();
+            }
+        }
+    }
+
+    /**
+     * Copies every byte read from the source into a spool file. A spool write failure only
+     * disables the copy; the source keeps streaming to the primary store.
+     */
+    private static final class TeeInputStream extends FilterInputStream {
+
+        private final OutputStream copy;
+        private boolean copyFailed;
+
+        TeeInputStream(InputStream source, OutputStream copy) {
+            super(source);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1 && !copyFailed) {
+                try {
+                    copy.write(value);
+                } catch (IOException ex) {
+                    copyFailed = true;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0 && !copyFailed) {
+                try {
+                    copy.write(buffer, offset, read);
+                } catch (IOException ex) {
+                    copyFailed = true;
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes would be missing from the copy; read them instead.
+            byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(n, 0))];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Copies any bytes the primary store left unread.
+         *
+         * @return {@code true} if the copy holds the complete content
+         */
+        boolean finish() throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) != -1) {
+                // drain into the copy
+            }
+            return !copyFailed;
+        }
+
+        /**
+         * Closes the copy only; the source belongs to the caller.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                copy.close();
+            } catch (IOException ex) {
+                copyFailed = true;
+            }
+        }
+    }
+}
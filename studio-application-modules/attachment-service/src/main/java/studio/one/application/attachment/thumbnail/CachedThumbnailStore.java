@@ -1,31 +1,43 @@
 package studio.one.application.attachment.thumbnail;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import studio.one.application.attachment.storage.StreamingCacheFill;
 
+/**
+ * Wraps a primary ThumbnailStorage with a cache; binaries are streamed through {@link StreamingCacheFill}.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class CachedThumbnailStore implements ThumbnailStorage {
 
     private final ThumbnailStorage primary;
     private final ThumbnailStorage cache;
+    private final StreamingCacheFill<ThumbnailKey> cacheFill;
+
+    /**
+     * @param executor runs background cache fills; owned and shut down by the caller
+     */
+    public CachedThumbnailStore(ThumbnailStorage primary, ThumbnailStorage cache, Executor executor) {
+        this(primary, cache, new StreamingCacheFill<>("Thumbnail", executor, null));
+    }
+
+    public CachedThumbnailStore(ThumbnailStorage primary, ThumbnailStorage cache,
+            StreamingCacheFill<ThumbnailKey> cacheFill) {
+        this.primary = primary;
+        this.cache = cache;
+        this.cacheFill = cacheFill;
+    }
 
     @Override
     public String save(ThumbnailKey key, InputStream input) {
+        cacheFill.invalidate(key);
         try {
-            byte[] bytes = input.readAllBytes();
-            String location = primary.save(key, new ByteArrayInputStream(bytes));
-            try {
-                cache.save(key, new ByteArrayInputStream(bytes));
-            } catch (RuntimeException cacheError) {
-                log.warn("Thumbnail cache write failed for id={}: {}", key.getAttachmentId(),
-                        cacheError.getMessage());
-            }
-            return location;
+            return cacheFill.save(input,
+                    in -> primary.save(key, in),
+                    in -> cache.save(key, in));
         } catch (IOException e) {
             throw new RuntimeException("Thumbnail save failed", e);
         }
@@ -34,25 +46,18 @@ public class CachedThumbnailStore implements ThumbnailStorage {
     @Override
     public InputStream load(ThumbnailKey key) {
         try {
-            return cache.load(key);
-        } catch (RuntimeException cacheMiss) {
-            try (InputStream source = primary.load(key)) {
-                byte[] bytes = source.readAllBytes();
-                try {
-                    cache.save(key, new ByteArrayInputStream(bytes));
-                } catch (RuntimeException cacheError) {
-                    log.warn("Thumbnail cache fill failed for id={}: {}", key.getAttachmentId(),
-                            cacheError.getMessage());
-                }
-                return new ByteArrayInputStream(bytes);
-            } catch (IOException e) {
-                throw new RuntimeException("Thumbnail load failed", e);
-            }
+            return cacheFill.load(key,
+                    () -> cache.load(key),
+                    () -> primary.load(key),
+                    in -> cache.save(key, in));
+        } catch (IOException e) {
+            throw new RuntimeException("Thumbnail load failed", e);
         }
     }
 
     @Override
     public void delete(ThumbnailKey key) {
+        cacheFill.invalidate(key);
         primary.delete(key);
         try {
             cache.delete(key);
@@ -64,6 +69,7 @@ public class CachedThumbnailStore implements ThumbnailStorage {
 
     @Override
     public void deleteAll(int objectType, long attachmentId) {
+        cacheFill.invalidateIf(key -> key.getObjectType() == objectType && key.getAttachmentId() == attachmentId);
         primary.deleteAll(objectType, attachmentId);
         try {
             cache.deleteAll(objectType, attachmentId);
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -76,12 +77,14 @@ public class AttachmentController {
 
     @GetMapping("/{attachmentId:[\\p{Digit}]+}/download")
     @PreAuthorize("@endpointAuthz.can('features:attachment','service-download')")
-    public ResponseEntity<StreamingResponseBody> download(@PathVariable("attachmentId") long attachmentId)
-            throws IOException, NotFoundException {
+    public ResponseEntity<StreamingResponseBody> download(
+            @PathVariable("attachmentId") long attachmentId,
+            @RequestHeader HttpHeaders requestHeaders) throws IOException, NotFoundException {
         Attachment attachment = attachmentService.getAttachmentById(attachmentId);
         return AttachmentWebSupport.downloadResponse(
                 attachment,
-                attachmentService.getInputStream(attachment),
+                attachmentService,
+                requestHeaders,
                 CacheControl.noCache());
     }
 
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -102,13 +104,15 @@ public class AttachmentMgmtController {
 
     @GetMapping("/{attachmentId:[\\p{Digit}]+}/download")
     @PreAuthorize("@endpointAuthz.can('features:attachment','download')")
-    public ResponseEntity<StreamingResponseBody> download(@PathVariable("attachmentId") long attachmentId)
-            throws IOException, NotFoundException {
+    public ResponseEntity<StreamingResponseBody> download(
+            @PathVariable("attachmentId") long attachmentId,
+            @RequestHeader HttpHeaders requestHeaders) throws IOException, NotFoundException {
         Attachment attachment = attachmentService.getAttachmentById(attachmentId);
         AttachmentAccessSupport.requireAttachmentAccess(attachment, requirePrincipal());
         return AttachmentWebSupport.downloadResponse(
                 attachment,
-                attachmentService.getInputStream(attachment),
+                attachmentService,
+                requestHeaders,
                 CacheControl.noCache());
     }
 
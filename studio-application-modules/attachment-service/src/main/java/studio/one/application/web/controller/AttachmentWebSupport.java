@@ -1,6 +1,20 @@
 package studio.one.application.web.controller;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +22,8 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -15,6 +31,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import studio.one.application.attachment.domain.model.Attachment;
+import studio.one.application.attachment.service.AttachmentService;
 import studio.one.application.web.dto.AttachmentDto;
 import studio.one.platform.identity.IdentityService;
 import studio.one.platform.identity.UserDto;
@@ -46,29 +63,182 @@ final class AttachmentWebSupport {
         return new PreparedUpload(sanitizedName, resolveMediaTypeString(file.getContentType()), (int) file.getSize());
     }
 
+    /**
+     * Builds a download response that honours conditional GET ({@code If-None-Match} /
+     * {@code If-Modified-Since}) and a single byte range ({@code Range} / {@code If-Range}).
+     * Requests for several ranges receive the full body. The binary is opened only when a body
+     * is sent; local files are copied with {@link FileChannel#transferTo} from the range offset.
+     */
     static ResponseEntity<StreamingResponseBody> downloadResponse(
             Attachment attachment,
-            InputStream in,
-            CacheControl cacheControl) {
-        StreamingResponseBody body = out -> {
-            try (in) {
-                in.transferTo(out);
-            }
-        };
+            AttachmentService attachmentService,
+            HttpHeaders requestHeaders,
+            CacheControl cacheControl) throws IOException {
+        long length = attachment.getSize();
+        String etag = entityTag(attachment);
+        Instant lastModified = lastModified(attachment);
         HttpHeaders headers = new HttpHeaders();
         headers.setCacheControl(cacheControl.getHeaderValue());
+        headers.setETag(etag);
+        if (lastModified != null) {
+            headers.setLastModified(lastModified);
+        }
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (isNotModified(requestHeaders, etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        HttpRange range = requestedRange(requestHeaders, etag, lastModified);
+        long start = 0L;
+        long count = length;
+        if (range != null) {
+            if (length <= 0 || !isSatisfiable(range, length)) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            start = range.getRangeStart(length);
+            count = range.getRangeEnd(length) - start + 1;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + count - 1) + "/" + length);
+        }
         headers.setContentType(resolveMediaType(attachment.getContentType()));
-        headers.setContentLength(attachment.getSize());
+        headers.setContentLength(count);
         if (StringUtils.hasText(attachment.getName())) {
             headers.setContentDisposition(ContentDisposition.attachment()
                     .filename(attachment.getName())
                     .build());
         }
-        return ResponseEntity.ok()
+        StreamingResponseBody body = body(attachment, attachmentService, start, count, range == null);
+        return ResponseEntity.status(range == null ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT)
                 .headers(headers)
                 .body(body);
     }
 
+    /**
+     * Strong ETag from the stored content hash; attachments saved before hashes were recorded
+     * get a weak ETag from id, size and modification time.
+     */
+    static String entityTag(Attachment attachment) {
+        Map<String, String> properties = attachment.getProperties();
+        String hash = properties == null ? null : properties.get(AttachmentService.CONTENT_SHA256_PROPERTY);
+        if (StringUtils.hasText(hash)) {
+            return "\"sha256-" + hash + "\"";
+        }
+        Instant lastModified = lastModified(attachment);
+        return "W/\"" + attachment.getAttachmentId() + "-" + attachment.getSize() + "-"
+                + (lastModified == null ? 0L : lastModified.toEpochMilli()) + "\"";
+    }
+
+    private static Instant lastModified(Attachment attachment) {
+        return attachment.getUpdatedAt() != null ? attachment.getUpdatedAt() : attachment.getCreatedAt();
+    }
+
+    private static boolean isNotModified(HttpHeaders requestHeaders, String etag, Instant lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String opaque = opaqueTag(etag);
+            return ifNoneMatch.stream().anyMatch(tag -> "*".equals(tag) || opaqueTag(tag).equals(opaque));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && lastModified != null
+                && lastModified.getEpochSecond() * 1000 <= ifModifiedSince;
+    }
+
+    /**
+     * @return the single range to serve, or {@code null} to serve the full body
+     */
+    private static HttpRange requestedRange(HttpHeaders requestHeaders, String etag, Instant lastModified) {
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        if (ranges.size() != 1 || !ifRangeMatches(requestHeaders.getFirst(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            return null;
+        }
+        return ranges.get(0);
+    }
+
+    private static boolean ifRangeMatches(String ifRange, String etag, Instant lastModified) {
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires strong comparison.
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+        try {
+            long date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return lastModified != null && lastModified.getEpochSecond() == date;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) < length;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static StreamingResponseBody body(
+            Attachment attachment,
+            AttachmentService attachmentService,
+            long start,
+            long count,
+            boolean full) throws IOException {
+        Optional<Path> localPath = attachmentService.getLocalPath(attachment);
+        if (localPath.isPresent()) {
+            Path file = localPath.get();
+            return out -> {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    transfer(channel, start, count, Channels.newChannel(out));
+                }
+            };
+        }
+        InputStream in = attachmentService.getInputStream(attachment);
+        return out -> {
+            try (in) {
+                if (full) {
+                    in.transferTo(out);
+                } else {
+                    in.skipNBytes(start);
+                    copy(in, out, count);
+                }
+            }
+        };
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0L;
+        while (transferred < count) {
+            long sent = channel.transferTo(position + transferred, count - transferred, target);
+            if (sent <= 0) {
+                break;
+            }
+            transferred += sent;
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out, long count) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = count;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                break;
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
     static AttachmentDto toDto(Attachment attachment, ObjectProvider<IdentityService> identityServiceProvider) {
         return AttachmentDto.of(
                 attachment,
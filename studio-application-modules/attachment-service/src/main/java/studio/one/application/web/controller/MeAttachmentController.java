@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -109,7 +111,8 @@ public class MeAttachmentController {
     @GetMapping("/{attachmentId:[\\p{Digit}]+}/download")
     public ResponseEntity<StreamingResponseBody> download(
             @PathVariable("attachmentId") long attachmentId,
-            @AuthenticationPrincipal(expression = "userId") Long userId) throws IOException, NotFoundException {
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestHeader HttpHeaders requestHeaders) throws IOException, NotFoundException {
         long resolvedUserId = AttachmentAccessSupport.requireUserId(userId);
         Attachment attachment = attachmentService.getAttachmentById(attachmentId);
         if (attachment.getCreatedBy() != resolvedUserId) {
@@ -117,7 +120,8 @@ public class MeAttachmentController {
         }
         return AttachmentWebSupport.downloadResponse(
                 attachment,
-                attachmentService.getInputStream(attachment),
+                attachmentService,
+                requestHeaders,
                 CacheControl.noCache());
     }
 
@@ -76,6 +76,8 @@ class AttachmentServiceImplTest {
         assertEquals(4, savedSize.get());
         assertEquals(4, storedBytes.get());
         assertEquals(4, saved.getSize());
+        assertEquals("9f64a747e1b97f131fabb6b447296c9b6f0201e79fb3c5356e6c77e89b6a806a",
+                saved.getProperties().get(AttachmentService.CONTENT_SHA256_PROPERTY));
     }
 
     @Test
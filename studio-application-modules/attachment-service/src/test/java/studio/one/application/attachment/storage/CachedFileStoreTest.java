@@ -0,0 +1,252 @@
+package studio.one.application.attachment.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import studio.one.application.attachment.domain.entity.ApplicationAttachment;
+import studio.one.application.attachment.domain.model.Attachment;
+
+class CachedFileStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void saveStreamsToPrimaryAndCache() throws Exception {
+        MemoryFileStore primary = new MemoryFileStore();
+        LocalFileStore cache = new LocalFileStore(tempDir.resolve("cache").toString());
+        CachedFileStore store = new CachedFileStore(primary, cache, cacheFill());
+        ApplicationAttachment attachment = attachment(1L);
+        byte[] content = content(3 * StreamingCacheFill.BUFFER_SIZE + 17);
+
+        store.save(attachment, new ByteArrayInputStream(content));
+
+        assertArrayEquals(content, primary.contents.get(1L));
+        try (InputStream in = cache.load(attachment)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+        assertSpoolDirEmpty();
+    }
+
+    @Test
+    void cacheWriteFailureDoesNotFailSave() {
+        MemoryFileStore primary = new MemoryFileStore();
+        MemoryFileStore cache = new MemoryFileStore();
+        cache.failSave = true;
+        CachedFileStore store = new CachedFileStore(primary, cache, cacheFill());
+        byte[] content = content(1024);
+
+        store.save(attachment(2L), new ByteArrayInputStream(content));
+
+        assertArrayEquals(content, primary.contents.get(2L));
+    }
+
+    @Test
+    void cacheMissStreamsFromPrimaryAndFillsCache() throws Exception {
+        MemoryFileStore primary = new MemoryFileStore();
+        LocalFileStore cache = new LocalFileStore(tempDir.resolve("cache").toString());
+        StreamingCacheFill<Long> cacheFill = cacheFill();
+        CachedFileStore store = new CachedFileStore(primary, cache, cacheFill);
+        ApplicationAttachment attachment = attachment(3L);
+        byte[] content = content(5 * StreamingCacheFill.BUFFER_SIZE + 3);
+        primary.contents.put(3L, content);
+
+        try (InputStream in = store.load(attachment)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+        awaitIdle(cacheFill);
+        try (InputStream in = store.load(attachment)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+
+        assertEquals(1, primary.loads.get());
+        try (InputStream in = cache.load(attachment)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+        assertSpoolDirEmpty();
+    }
+
+    @Test
+    void concurrentMissesShareOnePrimaryRead() throws Exception {
+        MemoryFileStore primary = new MemoryFileStore();
+        LocalFileStore cache = new LocalFileStore(tempDir.resolve("cache").toString());
+        StreamingCacheFill<Long> cacheFill = cacheFill();
+        CachedFileStore store = new CachedFileStore(primary, cache, cacheFill);
+        ApplicationAttachment attachment = attachment(4L);
+        byte[] content = content(2 * StreamingCacheFill.BUFFER_SIZE);
+        primary.contents.put(4L, content);
+        primary.gate = new CountDownLatch(1);
+
+        InputStream first = store.load(attachment);
+        InputStream second = store.load(attachment);
+        Future<byte[]> firstRead = executor.submit(() -> readAll(first));
+        Future<byte[]> secondRead = executor.submit(() -> readAll(second));
+        primary.gate.countDown();
+
+        assertArrayEquals(content, firstRead.get(5, TimeUnit.SECONDS));
+        assertArrayEquals(content, secondRead.get(5, TimeUnit.SECONDS));
+        assertEquals(1, primary.loads.get());
+        awaitIdle(cacheFill);
+        assertSpoolDirEmpty();
+    }
+
+    @Test
+    void missingBinaryPropagatesPrimaryFailure() {
+        MemoryFileStore primary = new MemoryFileStore();
+        StreamingCacheFill<Long> cacheFill = cacheFill();
+        CachedFileStore store = new CachedFileStore(primary, new MemoryFileStore(), cacheFill);
+
+        assertThrows(IllegalStateException.class, () -> store.load(attachment(5L)));
+        assertEquals(0, cacheFill.inFlight());
+    }
+
+    @Test
+    void deleteDuringFillSkipsCacheWrite() throws Exception {
+        MemoryFileStore primary = new MemoryFileStore();
+        MemoryFileStore cache = new MemoryFileStore();
+        StreamingCacheFill<Long> cacheFill = cacheFill();
+        CachedFileStore store = new CachedFileStore(primary, cache, cacheFill);
+        ApplicationAttachment attachment = attachment(6L);
+        byte[] content = content(4096);
+        primary.contents.put(6L, content);
+        primary.gate = new CountDownLatch(1);
+
+        InputStream in = store.load(attachment);
+        store.delete(attachment);
+        primary.gate.countDown();
+
+        assertArrayEquals(content, readAll(in));
+        awaitIdle(cacheFill);
+        assertTrue(cache.contents.isEmpty());
+    }
+
+    private StreamingCacheFill<Long> cacheFill() {
+        return new StreamingCacheFill<>("Attachment", executor, tempDir.resolve("spool"));
+    }
+
+    private void awaitIdle(StreamingCacheFill<?> cacheFill) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cacheFill.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, cacheFill.inFlight());
+    }
+
+    private void assertSpoolDirEmpty() throws IOException, InterruptedException {
+        Path spoolDir = tempDir.resolve("spool");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (spoolFiles(spoolDir) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, spoolFiles(spoolDir));
+    }
+
+    private static long spoolFiles(Path spoolDir) throws IOException {
+        if (!Files.exists(spoolDir)) {
+            return 0;
+        }
+        try (var files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private static ApplicationAttachment attachment(long attachmentId) {
+        ApplicationAttachment attachment = new ApplicationAttachment();
+        attachment.setObjectType(7);
+        attachment.setAttachmentId(attachmentId);
+        return attachment;
+    }
+
+    private static class MemoryFileStore implements FileStorage {
+
+        private final Map<Long, byte[]> contents = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile CountDownLatch gate;
+        private volatile boolean failSave;
+
+        @Override
+        public String save(Attachment attachment, InputStream input) {
+            try {
+                byte[] bytes = input.readAllBytes();
+                if (failSave) {
+                    throw new IllegalStateException("cache unavailable");
+                }
+                contents.put(attachment.getAttachmentId(), bytes);
+                return "memory:" + attachment.getAttachmentId();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public InputStream load(Attachment attachment) {
+            byte[] bytes = contents.get(attachment.getAttachmentId());
+            if (bytes == null) {
+                throw new IllegalStateException("Attachment not found: " + attachment.getAttachmentId());
+            }
+            loads.incrementAndGet();
+            CountDownLatch latch = gate;
+            return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    if (latch != null) {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(ex);
+                        }
+                    }
+                    return super.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public void delete(Attachment attachment) {
+            contents.remove(attachment.getAttachmentId());
+        }
+    }
+}
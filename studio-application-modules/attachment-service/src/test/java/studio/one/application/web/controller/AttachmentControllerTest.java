@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 
@@ -74,7 +75,7 @@ class AttachmentControllerTest {
         when(attachment.getSize()).thenReturn(2L);
         when(attachment.getName()).thenReturn("report.pdf");
 
-        ResponseEntity<?> response = controller.download(88L);
+        ResponseEntity<?> response = controller.download(88L, new HttpHeaders());
 
         assertEquals("application/pdf", response.getHeaders().getContentType().toString());
         assertEquals(2L, response.getHeaders().getContentLength());
@@ -1,13 +1,40 @@
 package studio.one.application.web.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import studio.one.application.attachment.domain.entity.ApplicationAttachment;
+import studio.one.application.attachment.service.AttachmentService;
 
 class AttachmentWebSupportTest {
 
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @TempDir
+    Path tempDir;
+
     @Test
     void sanitizeFilenameRemovesPathSegments() {
         assertEquals("contract.pdf", AttachmentWebSupport.sanitizeFilename("dir/subdir/contract.pdf"));
@@ -20,4 +47,125 @@ class AttachmentWebSupportTest {
         assertEquals(MediaType.APPLICATION_OCTET_STREAM, AttachmentWebSupport.resolveMediaType(null));
         assertEquals(MediaType.APPLICATION_OCTET_STREAM, AttachmentWebSupport.resolveMediaType("not a type"));
     }
+
+    @Test
+    void fullDownloadCarriesStrongEtagFromContentHash() throws Exception {
+        AttachmentService service = streamingService();
+        HttpHeaders request = new HttpHeaders();
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("\"sha256-abc\"", response.getHeaders().getETag());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertArrayEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void rangeRequestReturnsPartialContent() throws Exception {
+        AttachmentService service = streamingService();
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=2-5");
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(206, response.getStatusCode().value());
+        assertEquals("bytes 2-5/10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4L, response.getHeaders().getContentLength());
+        assertArrayEquals("2345".getBytes(), body(response));
+    }
+
+    @Test
+    void rangeRequestUsesLocalFileWhenAvailable() throws Exception {
+        Path file = Files.write(tempDir.resolve("content"), CONTENT);
+        AttachmentService service = mock(AttachmentService.class);
+        when(service.getLocalPath(any())).thenReturn(Optional.of(file));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=-3");
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(206, response.getStatusCode().value());
+        assertEquals("bytes 7-9/10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals("789".getBytes(), body(response));
+        verify(service, never()).getInputStream(any());
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+        AttachmentService service = streamingService();
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=20-30");
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(416, response.getStatusCode().value());
+        assertEquals("bytes */10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void staleIfRangeServesFullContent() throws Exception {
+        AttachmentService service = streamingService();
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=2-5");
+        request.set(HttpHeaders.IF_RANGE, "\"sha256-other\"");
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertArrayEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304WithoutOpeningContent() throws Exception {
+        AttachmentService service = mock(AttachmentService.class);
+        HttpHeaders request = new HttpHeaders();
+        request.setIfNoneMatch("\"sha256-abc\"");
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(304, response.getStatusCode().value());
+        assertNull(response.getBody());
+        verify(service, never()).getInputStream(any());
+    }
+
+    @Test
+    void ifModifiedSinceReturns304ForUnchangedAttachment() throws Exception {
+        AttachmentService service = mock(AttachmentService.class);
+        HttpHeaders request = new HttpHeaders();
+        request.setIfModifiedSince(Instant.parse("2026-01-01T00:00:00Z"));
+
+        ResponseEntity<StreamingResponseBody> response = download(service, request);
+
+        assertEquals(304, response.getStatusCode().value());
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(AttachmentService service, HttpHeaders request)
+            throws Exception {
+        return AttachmentWebSupport.downloadResponse(attachment(), service, request, CacheControl.noCache());
+    }
+
+    private AttachmentService streamingService() throws Exception {
+        AttachmentService service = mock(AttachmentService.class);
+        when(service.getInputStream(any()))
+                .thenReturn(new ByteArrayInputStream(CONTENT));
+        return service;
+    }
+
+    private static byte[] body(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static ApplicationAttachment attachment() {
+        ApplicationAttachment attachment = new ApplicationAttachment();
+        attachment.setAttachmentId(7L);
+        attachment.setName("movie.mp4");
+        attachment.setContentType("video/mp4");
+        attachment.setSize(CONTENT.length);
+        attachment.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+        attachment.setProperties(Map.of(AttachmentService.CONTENT_SHA256_PROPERTY, "abc"));
+        return attachment;
+    }
 }
@@ -415,7 +415,7 @@ public class AttachmentEmbeddingPipelineController {
                     String.valueOf(attachment.getAttachmentId()),
                     text,
                     metadata,
-                    List.copyOf(vector.values()));
+                    vector.vector());
             vectorStore.upsert(List.of(document));
         } catch (Exception ex) {
             log.warn("Failed to persist embedding for attachment {}", attachment.getAttachmentId(), ex);
@@ -22,6 +22,7 @@ import studio.one.application.attachment.domain.model.Attachment;
 import studio.one.platform.ai.core.embedding.EmbeddingPort;
 import studio.one.platform.ai.core.embedding.EmbeddingRequest;
 import studio.one.platform.ai.core.embedding.EmbeddingVector;
+import studio.one.platform.ai.core.embedding.FloatVector;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
 import studio.one.platform.ai.core.vector.VectorRecord;
 import studio.one.platform.ai.core.embedding.EmbeddingInputType;
@@ -170,7 +171,7 @@ public class DefaultAttachmentStructuredRagIndexer implements AttachmentStructur
                     .vectors()
                     .get(0);
             progress.onEmbeddedCount(i + 1);
-            List<Double> embedding = List.copyOf(vector.values());
+            FloatVector embedding = vector.vector();
             records.add(VectorRecord.builder()
                     .id(chunk.id())
                     .documentId(documentId)
@@ -180,7 +181,7 @@ public class DefaultAttachmentStructuredRagIndexer implements AttachmentStructur
                     .text(chunk.content())
                     .embedding(embedding)
                     .embeddingModel(embeddingModel(chunkMetadata))
-                    .embeddingDimension(embedding.size())
+                    .embeddingDimension(embedding.dimension())
                     .chunkType(text(standardChunkMetadata.get(VectorRecord.KEY_CHUNK_TYPE)))
                     .headingPath(text(firstPresent(standardChunkMetadata, chunkMetadata, VectorRecord.KEY_HEADING_PATH)))
                     .sourceRef(text(firstPresent(standardChunkMetadata, chunkMetadata,
@@ -26,6 +26,8 @@ dependencies {
 
     testImplementation("org.mockito:mockito-core")
     testImplementation("org.springframework.boot:spring-boot-starter-web")
+    testImplementation("org.springframework.boot:spring-boot-starter-mail")
+    testImplementation("org.springframework:spring-jdbc")
     testImplementation("org.springframework.data:spring-data-commons")
     testImplementation("org.springframework.security:spring-security-core")
     testImplementation(project(":studio-platform"))
@@ -1,5 +1,7 @@
 package studio.one.application.mail.config;
 
+import java.time.Duration;
+
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -29,8 +31,26 @@ public class ImapProperties {
 
     private String folder = "INBOX";
 
+    /**
+     * 한 번의 동기화에서 처리할 최대 메시지 수. 최초 동기화는 최신 메시지부터,
+     * 증분 동기화는 체크포인트 이후 오래된 UID 부터 이 수만큼 처리한다. 증분 동기화에서 이미 저장된 UID 는
+     * 건너뛰며 이 수에 포함하지 않는다.
+     */
     private int maxMessages = 500;
 
+    /**
+     * 같은 UID 의 처리를 시도할 최대 횟수. 이 횟수만큼 연속으로 실패하면 실패로 기록하고 체크포인트를
+     * 그 UID 뒤로 옮긴다. 시도 횟수는 서비스 메모리에 보관하므로 재시작하면 다시 센다.
+     */
+    @Min(1)
+    private int maxAttemptsPerMessage = 3;
+
+    /**
+     * 한 페이지에서 가져와 처리할 메시지 수. 페이지마다 저장 여부를 한 번에 조회하고 체크포인트를 갱신한다.
+     */
+    @Min(1)
+    private int pageSize = 100;
+
     /**
      * 동시 처리 스레드 수 (1 이상). 메시지/첨부 파싱과 저장을 병렬 처리할 때 사용.
      */
@@ -43,6 +63,17 @@ public class ImapProperties {
     @Min(1)
     private long maxAttachmentBytes = 10 * 1024 * 1024; // 10MB
 
+    /**
+     * 첨부를 메모리에 보관하는 최대 크기(바이트). 넘으면 임시 파일로 스풀한 뒤 스트림으로 저장한다.
+     */
+    @Min(0)
+    private long spoolThresholdBytes = 256 * 1024; // 256KB
+
+    /**
+     * 첨부 스풀 임시 파일 디렉터리. 비어 있으면 시스템 임시 디렉터리를 사용한다.
+     */
+    private String spoolDirectory;
+
     /**
      * 본문 저장 최대 크기(바이트). 초과 시 잘라서 저장한다.
      */
@@ -53,4 +84,44 @@ public class ImapProperties {
      * 동기화 후 서버에서 메일을 삭제할지 여부 (기본: false).
      */
     private boolean deleteAfterFetch = false;
+
+    private Idle idle = new Idle();
+
+    private AttachmentCleanup attachmentCleanup = new AttachmentCleanup();
+
+    @Getter
+    @Setter
+    public static class Idle {
+
+        /**
+         * IMAP IDLE 로 새 메일 도착을 감지해 증분 동기화를 실행할지 여부 (기본: false).
+         */
+        private boolean enabled = false;
+
+        /**
+         * 연결이 끊겼을 때 다시 연결하기 전 대기 시간.
+         */
+        private Duration reconnectDelay = Duration.ofSeconds(30);
+
+        /**
+         * IDLE 을 다시 시작하는 주기. 서버가 유휴 연결을 끊기 전(RFC 2177 권장 29분 미만)이어야 한다.
+         */
+        private Duration keepAlive = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class AttachmentCleanup {
+
+        /**
+         * 어떤 첨부도 참조하지 않는 바이너리를 주기적으로(매시 15분) 삭제할지 여부 (기본: true).
+         */
+        private boolean enabled = true;
+
+        /**
+         * 저장 후 이 시간이 지나지 않은 바이너리는 참조가 없어도 삭제하지 않는다.
+         * 진행 중인 동기화가 저장한 바이너리를 보호한다.
+         */
+        private Duration grace = Duration.ofHours(24);
+    }
 }
@@ -0,0 +1,45 @@
+package studio.one.application.mail.domain.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * SHA-256 으로 식별되는 첨부 바이너리. 같은 바이너리를 가진 첨부들이 공유한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "TB_APPLICATION_MAIL_ATTACHMENT_CONTENT")
+public class MailAttachmentContentEntity {
+
+    @Id
+    @Column(name = "CONTENT_HASH", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "SIZE", nullable = false)
+    private long size;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "CONTENT", columnDefinition = "BYTEA", nullable = false)
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    private byte[] content;
+
+    @Column(name = "CREATED_AT", updatable = false)
+    private Instant createdAt;
+}
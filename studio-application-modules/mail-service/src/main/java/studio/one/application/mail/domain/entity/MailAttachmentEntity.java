@@ -61,6 +61,9 @@ public class MailAttachmentEntity implements MailAttachment {
     @JdbcTypeCode(SqlTypes.VARBINARY)
     private byte[] content;
 
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
+
     @CreatedDate
     @Column(name = "CREATED_AT", updatable = false)
     private Instant createdAt;
@@ -69,5 +72,6 @@ public class MailAttachmentEntity implements MailAttachment {
     @Column(name = "UPDATED_AT")
     private Instant updatedAt;
 
-    // Lombok @Getter/@Setter covers content byte[]; kept lazy to avoid eager loading
+    // Lombok @Getter/@Setter covers content byte[]; kept lazy to avoid eager loading.
+    // Rows written since V1002 keep CONTENT null and reference TB_APPLICATION_MAIL_ATTACHMENT_CONTENT by CONTENT_HASH.
 }
@@ -0,0 +1,32 @@
+package studio.one.application.mail.domain.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import studio.one.application.mail.domain.model.MailSyncState;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "TB_APPLICATION_MAIL_SYNC_STATE")
+public class MailSyncStateEntity implements MailSyncState {
+
+    @Id
+    @Column(name = "FOLDER", length = 128, nullable = false)
+    private String folder;
+
+    @Column(name = "UID_VALIDITY", nullable = false)
+    private long uidValidity;
+
+    @Column(name = "LAST_UID", nullable = false)
+    private long lastUid;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private Instant updatedAt;
+}
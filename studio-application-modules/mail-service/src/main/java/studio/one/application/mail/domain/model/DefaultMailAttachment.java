@@ -1,5 +1,7 @@
 package studio.one.application.mail.domain.model;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 
 import lombok.Getter;
@@ -14,6 +16,13 @@ public class DefaultMailAttachment implements MailAttachment {
     private String contentType;
     private long size;
     private byte[] content;
+    private String contentHash;
+    private transient ContentSource contentSource;
     private Instant createdAt;
     private Instant updatedAt;
+
+    @Override
+    public InputStream openContent() throws IOException {
+        return contentSource != null ? contentSource.open() : MailAttachment.super.openContent();
+    }
 }
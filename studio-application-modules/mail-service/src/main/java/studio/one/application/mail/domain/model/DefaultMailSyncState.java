@@ -0,0 +1,15 @@
+package studio.one.application.mail.domain.model;
+
+import java.time.Instant;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DefaultMailSyncState implements MailSyncState {
+    private String folder;
+    private long uidValidity;
+    private long lastUid;
+    private Instant updatedAt;
+}
@@ -1,5 +1,8 @@
 package studio.one.application.mail.domain.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 
 public interface MailAttachment {
@@ -22,9 +25,31 @@ public interface MailAttachment {
     byte[] getContent();
     void setContent(byte[] content);
 
+    /**
+     * 첨부 바이너리의 SHA-256(hex). 같은 해시의 바이너리는 한 번만 저장된다.
+     */
+    String getContentHash();
+    void setContentHash(String contentHash);
+
+    /**
+     * 첨부 바이너리를 스트림으로 연다. 호출자가 닫아야 한다.
+     */
+    default InputStream openContent() throws IOException {
+        byte[] content = getContent();
+        return content == null ? InputStream.nullInputStream() : new ByteArrayInputStream(content);
+    }
+
     Instant getCreatedAt();
     void setCreatedAt(Instant createdAt);
 
     Instant getUpdatedAt();
     void setUpdatedAt(Instant updatedAt);
+
+    /**
+     * 메모리에 올리지 않은 첨부 바이너리의 스트림 공급자.
+     */
+    @FunctionalInterface
+    interface ContentSource {
+        InputStream open() throws IOException;
+    }
 }
@@ -0,0 +1,21 @@
+package studio.one.application.mail.domain.model;
+
+import java.time.Instant;
+
+/**
+ * IMAP 폴더별 동기화 체크포인트. UIDVALIDITY 가 같으면 {@code lastUid} 이후 UID 만 가져온다.
+ */
+public interface MailSyncState {
+
+    String getFolder();
+    void setFolder(String folder);
+
+    long getUidValidity();
+    void setUidValidity(long uidValidity);
+
+    long getLastUid();
+    void setLastUid(long lastUid);
+
+    Instant getUpdatedAt();
+    void setUpdatedAt(Instant updatedAt);
+}
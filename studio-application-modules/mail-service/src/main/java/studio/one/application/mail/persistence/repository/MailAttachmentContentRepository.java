@@ -0,0 +1,40 @@
+package studio.one.application.mail.persistence.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import studio.one.application.mail.domain.entity.MailAttachmentContentEntity;
+
+public interface MailAttachmentContentRepository extends JpaRepository<MailAttachmentContentEntity, String> {
+
+    /**
+     * 바이너리의 {@code CREATED_AT} 을 갱신한다. 다시 참조된 바이너리가 정리 대상에서 빠지도록 재사용할 때 호출한다.
+     *
+     * @return 갱신한 행 수 (바이너리가 없으면 0)
+     */
+    @Modifying
+    @Query("update MailAttachmentContentEntity c set c.createdAt = :createdAt where c.contentHash = :contentHash")
+    int touch(@Param("contentHash") String contentHash, @Param("createdAt") Instant createdAt);
+
+    /**
+     * 같은 해시의 바이너리가 없으면 저장하고, 있으면 {@code CREATED_AT} 만 갱신한다. 동시에 같은 바이너리를 저장해도
+     * 중복 키 오류가 나지 않는다.
+     */
+    @Modifying
+    @Query(value = "insert into TB_APPLICATION_MAIL_ATTACHMENT_CONTENT (CONTENT_HASH, SIZE, CONTENT, CREATED_AT) "
+            + "values (:contentHash, :size, :content, :createdAt) "
+            + "on conflict (CONTENT_HASH) do update set CREATED_AT = EXCLUDED.CREATED_AT", nativeQuery = true)
+    int insertOrTouch(@Param("contentHash") String contentHash,
+            @Param("size") long size,
+            @Param("content") byte[] content,
+            @Param("createdAt") Instant createdAt);
+
+    @Modifying
+    @Query("delete from MailAttachmentContentEntity c where c.createdAt < :createdBefore and not exists "
+            + "(select a.attachmentId from MailAttachmentEntity a where a.contentHash = c.contentHash)")
+    int deleteUnreferenced(@Param("createdBefore") Instant createdBefore);
+}
@@ -8,5 +8,6 @@ import studio.one.application.mail.domain.entity.MailAttachmentEntity;
 
 public interface MailAttachmentRepository extends JpaRepository<MailAttachmentEntity, Long> {
     List<MailAttachmentEntity> findByMailId(long mailId);
+    List<MailAttachmentEntity> findByMailIdOrderByAttachmentIdAsc(long mailId);
     void deleteByMailId(long mailId);
 }
@@ -1,9 +1,13 @@
 package studio.one.application.mail.persistence.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import studio.one.application.mail.domain.entity.MailMessageEntity;
 
@@ -14,4 +18,8 @@ public interface MailMessageRepository extends JpaRepository<MailMessageEntity,
 
     Optional<MailMessageEntity> findByMessageId(String messageId);
 
+    @Query("select m.uid, m.mailId from MailMessageEntity m where m.folder = :folder and m.uid in :uids")
+    List<Object[]> findUidAndMailIdByFolderAndUidIn(@Param("folder") String folder,
+            @Param("uids") Collection<Long> uids);
+
 }
@@ -0,0 +1,8 @@
+package studio.one.application.mail.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import studio.one.application.mail.domain.entity.MailSyncStateEntity;
+
+public interface MailSyncStateRepository extends JpaRepository<MailSyncStateEntity, String> {
+}
@@ -0,0 +1,29 @@
+package studio.one.application.mail.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 어떤 첨부도 참조하지 않는 첨부 바이너리를 정리한다. 유예 시간보다 최근에 저장된 바이너리는 남긴다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class MailAttachmentContentCleanupJob {
+
+    private final MailAttachmentService mailAttachmentService;
+    private final Duration grace;
+    private final Clock clock;
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void deleteUnreferencedContents() {
+        Instant cutoff = Instant.now(clock).minus(grace);
+        int deleted = mailAttachmentService.deleteUnreferencedContents(cutoff);
+        log.debug("Deleted {} unreferenced mail attachment content(s) created before {}", deleted, cutoff);
+    }
+}
@@ -1,5 +1,6 @@
 package studio.one.application.mail.service;
 
+import java.time.Instant;
 import java.util.List;
 
 import studio.one.application.mail.domain.model.MailAttachment;
@@ -9,8 +10,21 @@ public interface MailAttachmentService {
 
     public static final String SERVICE_NAME = ServiceNames.Featrues.PREFIX  + ":mail:attachment-service";
 
-
+    /**
+     * 메일의 첨부를 교체한다. 저장된 첨부의 파일명/콘텐츠 타입/해시가 모두 같으면 아무것도 하지 않는다.
+     * 바이너리는 SHA-256 해시 단위로 한 번만 저장된다.
+     */
     void replaceAttachments(long mailId, List<MailAttachment> attachments);
 
     List<MailAttachment> findByMailId(long mailId);
+
+    /**
+     * 더 이상 어떤 첨부도 참조하지 않는 바이너리 중 {@code createdBefore} 이전에 저장된 것을 삭제한다.
+     * 진행 중인 동기화가 방금 저장한 바이너리를 지우지 않도록 호출자는 유예 시간을 둔 시각을 넘긴다.
+     *
+     * @return 삭제된 바이너리 수
+     */
+    default int deleteUnreferencedContents(Instant createdBefore) {
+        return 0;
+    }
 }
@@ -1,5 +1,8 @@
 package studio.one.application.mail.service;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -16,6 +19,19 @@ public interface MailMessageService {
 
     Optional<MailMessage> findByFolderAndUid(String folder, long uid);
 
+    /**
+     * 폴더 내 여러 UID 의 저장 여부를 한 번에 조회한다.
+     *
+     * @return 저장된 UID 와 메일 ID 의 맵 (없는 UID 는 포함되지 않는다)
+     */
+    default Map<Long, Long> findMailIdsByFolderAndUids(String folder, Collection<Long> uids) {
+        Map<Long, Long> found = new LinkedHashMap<>();
+        for (Long uid : uids) {
+            findByFolderAndUid(folder, uid).ifPresent(m -> found.put(uid, m.getMailId()));
+        }
+        return found;
+    }
+
     Optional<MailMessage> findByMessageId(String messageId);
 
     MailMessage saveOrUpdate(MailMessage message);
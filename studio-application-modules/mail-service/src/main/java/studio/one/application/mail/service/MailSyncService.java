@@ -19,4 +19,11 @@ public interface MailSyncService {
      * @return 성공 처리 건수
      */
     int sync(studio.one.application.mail.domain.model.MailSyncLog log);
+
+    /**
+     * @return 동기화가 진행 중이면 {@code true}
+     */
+    default boolean isRunning() {
+        return false;
+    }
 }
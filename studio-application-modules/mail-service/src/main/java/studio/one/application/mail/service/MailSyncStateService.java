@@ -0,0 +1,20 @@
+package studio.one.application.mail.service;
+
+import java.util.Optional;
+
+import studio.one.application.mail.domain.model.MailSyncState;
+
+/**
+ * IMAP 증분 동기화 체크포인트(UIDVALIDITY, 마지막 동기화 UID) 저장소.
+ */
+public interface MailSyncStateService {
+
+    String SERVICE_NAME = "mailSyncStateService";
+
+    Optional<MailSyncState> find(String folder);
+
+    /**
+     * 폴더의 체크포인트를 저장한다. 없으면 새로 만든다.
+     */
+    void save(String folder, long uidValidity, long lastUid);
+}
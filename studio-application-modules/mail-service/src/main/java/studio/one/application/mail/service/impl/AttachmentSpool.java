@@ -0,0 +1,116 @@
+package studio.one.application.mail.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.application.mail.domain.model.MailAttachment;
+
+/**
+ * MIME 파트 바이너리를 한 번 읽으면서 SHA-256 을 계산해 보관한다.
+ * <p>
+ * {@code memoryThreshold} 까지는 메모리에 두고, 넘으면 임시 파일로 옮겨 이어 쓴다.
+ * 저장이 끝나면 {@link #close()} 로 임시 파일을 지운다.
+ */
+@Slf4j
+final class AttachmentSpool implements MailAttachment.ContentSource, Closeable {
+
+    private final byte[] memory;
+    private final Path file;
+    private final long size;
+    private final String sha256;
+
+    private AttachmentSpool(byte[] memory, Path file, long size, String sha256) {
+        this.memory = memory;
+        this.file = file;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 스풀한다. 입력 스트림은 닫힌다.
+     *
+     * @return {@code maxBytes} 를 넘으면 {@code null}
+     */
+    static AttachmentSpool copy(InputStream input, long maxBytes, long memoryThreshold, Path directory)
+            throws IOException {
+        MessageDigest digest = MailAttachmentDigests.sha256();
+        if (input == null) {
+            return new AttachmentSpool(new byte[0], null, 0, MailAttachmentDigests.toHex(digest));
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Path file = null;
+        OutputStream out = buffer;
+        long total = 0;
+        boolean completed = false;
+        try (InputStream in = input) {
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    return null;
+                }
+                digest.update(chunk, 0, read);
+                if (file == null && total > memoryThreshold) {
+                    file = directory == null
+                            ? Files.createTempFile("mail-attachment-", ".spool")
+                            : Files.createTempFile(Files.createDirectories(directory), "mail-attachment-", ".spool");
+                    out = Files.newOutputStream(file);
+                    buffer.writeTo(out);
+                    buffer = null;
+                }
+                out.write(chunk, 0, read);
+            }
+            completed = true;
+        } finally {
+            if (file != null) {
+                out.close();
+                if (!completed) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+        return new AttachmentSpool(file == null ? buffer.toByteArray() : null, file, total,
+                MailAttachmentDigests.toHex(digest));
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(memory);
+    }
+
+    long size() {
+        return size;
+    }
+
+    String sha256() {
+        return sha256;
+    }
+
+    boolean isSpooledToDisk() {
+        return file != null;
+    }
+
+    @Override
+    public void close() {
+        if (file != null) {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Failed to delete mail attachment spool {}: {}", file, ex.getMessage());
+        }
+    }
+}
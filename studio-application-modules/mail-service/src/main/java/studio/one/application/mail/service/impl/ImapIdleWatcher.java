@@ -0,0 +1,252 @@
+package studio.one.application.mail.service.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.event.MessageCountAdapter;
+import jakarta.mail.event.MessageCountEvent;
+
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.eclipse.angus.mail.imap.IMAPStore;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.application.mail.config.ImapProperties;
+import studio.one.application.mail.domain.model.MailSyncLog;
+import studio.one.application.mail.service.MailSyncLogService;
+import studio.one.application.mail.service.MailSyncNotifier;
+import studio.one.application.mail.service.MailSyncService;
+import studio.one.application.mail.web.dto.MailSyncLogDto;
+import studio.one.platform.exception.PlatformRuntimeException;
+
+/**
+ * IMAP IDLE 로 새 메일 도착을 기다렸다가 증분 동기화를 실행한다.
+ * <p>
+ * 전용 연결에서 폴더를 읽기 전용으로 열고 IDLE 상태를 유지한다. 메시지가 추가되면 동기화를 요청하며,
+ * 요청은 하나로 합쳐져 동기화 스레드에서 실행된다. 다른 동기화가 진행 중이면 잠시 뒤 다시 시도한다.
+ * 연결이 끊기면 {@code reconnectDelay} 후 다시 연결하고, 연결될 때마다 그 사이 도착한 메일을 위해
+ * 동기화를 한 번 요청한다. {@code keepAlive} 주기로 폴더를 조회해 IDLE 을 다시 시작한다.
+ */
+@Slf4j
+public class ImapIdleWatcher implements AutoCloseable {
+
+    static final String TRIGGERED_BY = "idle";
+
+    private static final Duration BUSY_RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final ImapProperties properties;
+    private final MailSyncService mailSyncService;
+    private final MailSyncLogService mailSyncLogService;
+    private final AtomicBoolean syncRequested = new AtomicBoolean();
+    private MailSyncNotifier mailSyncNotifier;
+    private volatile boolean closed;
+    private volatile Thread idleThread;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile IMAPStore currentStore;
+
+    public ImapIdleWatcher(ImapProperties properties, MailSyncService mailSyncService,
+            MailSyncLogService mailSyncLogService) {
+        this.properties = Objects.requireNonNull(properties, "properties");
+        this.mailSyncService = Objects.requireNonNull(mailSyncService, "mailSyncService");
+        this.mailSyncLogService = Objects.requireNonNull(mailSyncLogService, "mailSyncLogService");
+    }
+
+    public void setMailSyncNotifier(MailSyncNotifier mailSyncNotifier) {
+        this.mailSyncNotifier = mailSyncNotifier;
+    }
+
+    public synchronized void start() {
+        if (idleThread != null) {
+            return;
+        }
+        closed = false;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-imap-idle-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread thread = new Thread(this::run, "mail-imap-idle");
+        thread.setDaemon(true);
+        idleThread = thread;
+        thread.start();
+        log.info("IMAP IDLE watcher started (folder={}, keepAlive={}, reconnectDelay={})",
+                properties.getFolder(), properties.getIdle().getKeepAlive(), properties.getIdle().getReconnectDelay());
+    }
+
+    /**
+     * 동기화를 요청한다. 아직 실행되지 않은 요청이 있으면 합쳐진다.
+     */
+    public void requestSync() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || !syncRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(this::runSync);
+        } catch (RejectedExecutionException ex) {
+            syncRequested.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = idleThread;
+            idleThread = null;
+        }
+        IMAPStore store = currentStore;
+        if (store != null) {
+            try {
+                store.close();
+            } catch (MessagingException ex) {
+                log.debug("Failed to close IMAP IDLE connection: {}", ex.getMessage());
+            }
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        ScheduledExecutorService current = scheduler;
+        scheduler = null;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            try (IMAPStore store = (IMAPStore) ImapMailSyncService.createSession(properties)
+                    .getStore(properties.getProtocol())) {
+                currentStore = store;
+                store.connect(properties.getHost(), properties.getPort(), properties.getUsername(),
+                        properties.getPassword());
+                if (!store.hasCapability("IDLE")) {
+                    log.warn("IMAP server {} does not support IDLE; watcher stopped", properties.getHost());
+                    return;
+                }
+                IMAPFolder folder = (IMAPFolder) store.getFolder(properties.getFolder());
+                folder.open(Folder.READ_ONLY);
+                folder.addMessageCountListener(new MessageCountAdapter() {
+                    @Override
+                    public void messagesAdded(MessageCountEvent event) {
+                        requestSync();
+                    }
+                });
+                requestSync();
+                idle(folder);
+            } catch (MessagingException | IllegalStateException ex) {
+                if (!closed) {
+                    log.warn("IMAP IDLE connection lost (folder={}): {}; reconnecting in {}", properties.getFolder(),
+                            ex.getMessage(), properties.getIdle().getReconnectDelay());
+                }
+            } finally {
+                currentStore = null;
+            }
+            if (!closed && !sleep(properties.getIdle().getReconnectDelay())) {
+                return;
+            }
+        }
+    }
+
+    private void idle(IMAPFolder folder) throws MessagingException {
+        ScheduledExecutorService current = scheduler;
+        if (current == null) {
+            return;
+        }
+        long keepAliveMs = Math.max(1000L, properties.getIdle().getKeepAlive().toMillis());
+        // 다른 스레드에서 폴더를 사용하면 진행 중인 IDLE 이 끝나므로, 주기적으로 조회해 IDLE 을 다시 건다.
+        ScheduledFuture<?> keepAlive = current.scheduleWithFixedDelay(() -> {
+            try {
+                folder.getMessageCount();
+            } catch (MessagingException | IllegalStateException ex) {
+                log.debug("IMAP IDLE keep-alive failed: {}", ex.getMessage());
+            }
+        }, keepAliveMs, keepAliveMs, TimeUnit.MILLISECONDS);
+        try {
+            while (!closed && folder.isOpen()) {
+                folder.idle();
+            }
+        } finally {
+            keepAlive.cancel(false);
+        }
+    }
+
+    private void runSync() {
+        syncRequested.set(false);
+        if (closed) {
+            return;
+        }
+        if (mailSyncService.isRunning()) {
+            scheduleRetry();
+            return;
+        }
+        MailSyncLog syncLog = mailSyncLogService.start(TRIGGERED_BY);
+        try {
+            int synced = mailSyncService.sync(syncLog);
+            log.debug("IMAP IDLE triggered sync stored {} message(s)", synced);
+        } catch (PlatformRuntimeException ex) {
+            if (!isSyncInProgress(ex)) {
+                log.warn("IMAP IDLE triggered sync failed: {}", ex.getMessage());
+                return;
+            }
+            // 수동/스케줄 동기화와 겹친 경우: 이 로그는 건너뛴 것으로 닫고 다시 시도한다.
+            mailSyncLogService.complete(syncLog.getLogId(), 0, 0, 0, "skipped", ex.getMessage());
+            scheduleRetry();
+        } catch (RuntimeException ex) {
+            log.warn("IMAP IDLE triggered sync failed: {}", ex.getMessage());
+        } finally {
+            notifyLog(syncLog.getLogId());
+        }
+    }
+
+    private boolean isSyncInProgress(PlatformRuntimeException ex) {
+        return ex.getType() != null
+                && ImapMailSyncService.SYNC_IN_PROGRESS.getId().equals(ex.getType().getId());
+    }
+
+    private void scheduleRetry() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || closed) {
+            return;
+        }
+        try {
+            current.schedule(this::requestSync, BUSY_RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            log.debug("IMAP IDLE sync retry rejected: {}", ex.getMessage());
+        }
+    }
+
+    private void notifyLog(long logId) {
+        if (mailSyncNotifier == null) {
+            return;
+        }
+        try {
+            mailSyncNotifier.notifyLog(MailSyncLogDto.from(mailSyncLogService.get(logId)));
+        } catch (Exception ex) {
+            log.debug("Failed to notify sync completion for log {}: {}", logId, ex.getMessage());
+        }
+    }
+
+    private boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(Math.max(0L, delay.toMillis()));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
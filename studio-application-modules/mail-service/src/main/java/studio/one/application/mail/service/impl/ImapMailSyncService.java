@@ -21,15 +21,20 @@
 
 package studio.one.application.mail.service.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -44,6 +49,7 @@ import jakarta.mail.Folder;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
+import jakarta.mail.UIDFolder;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeUtility;
@@ -61,10 +67,12 @@ import studio.one.application.mail.domain.model.DefaultMailAttachment;
 import studio.one.application.mail.domain.model.DefaultMailMessage;
 import studio.one.application.mail.domain.model.MailAttachment;
 import studio.one.application.mail.domain.model.MailMessage;
+import studio.one.application.mail.domain.model.MailSyncState;
 import studio.one.application.mail.service.MailAttachmentService;
 import studio.one.application.mail.service.MailMessageService;
 import studio.one.application.mail.service.MailSyncLogService;
 import studio.one.application.mail.service.MailSyncService;
+import studio.one.application.mail.service.MailSyncStateService;
 import studio.one.platform.error.ErrorType;
 import studio.one.platform.error.Severity;
 import studio.one.platform.exception.PlatformRuntimeException;
@@ -81,20 +89,36 @@ import studio.one.platform.exception.UnAuthorizedException;
  *   수정일        수정자           수정내용
  *  ---------    --------    ---------------------------
  * 2025-12-10  donghyuck, son: 최초 생성.
+ * 2026-10-17  donghyuck, son: UID 체크포인트 기반 증분 동기화, 페이지 단위 저장 여부 일괄 조회, 공용 스레드 풀.
+ * 2026-10-17  donghyuck, son: 첨부 스트리밍 스풀(임계치 초과 시 임시 파일)과 SHA-256 해시 계산.
+ * 2026-10-18  donghyuck, son: 증분 동기화 처리 한도에서 저장된 UID 제외, UID 별 재시도 횟수 제한.
  * </pre>
  */
 
 @Slf4j
 @Service(MailSyncService.SERVICE_NAME)
-public class ImapMailSyncService implements MailSyncService {
+public class ImapMailSyncService implements MailSyncService, AutoCloseable {
 
-    private static final ErrorType SYNC_IN_PROGRESS = ErrorType.of("error.mail.sync.in-progress", HttpStatus.CONFLICT, Severity.WARN);
+    static final ErrorType SYNC_IN_PROGRESS = ErrorType.of("error.mail.sync.in-progress", HttpStatus.CONFLICT, Severity.WARN);
+
+    private static final FetchProfile FETCH_PROFILE = new FetchProfile();
+
+    static {
+        FETCH_PROFILE.add(UIDFolder.FetchProfileItem.UID);
+        FETCH_PROFILE.add(FetchProfile.Item.ENVELOPE);
+        FETCH_PROFILE.add(FetchProfile.Item.FLAGS);
+        FETCH_PROFILE.add(FetchProfile.Item.CONTENT_INFO);
+    }
 
     private final ImapProperties properties;
     private final MailMessageService mailMessageService;
     private final MailAttachmentService mailAttachmentService;
     private final MailSyncLogService mailSyncLogService;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService executor;
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private long failedAttemptsUidValidity = -1L;
+    private MailSyncStateService mailSyncStateService;
 
     public ImapMailSyncService(ImapProperties properties, MailMessageService mailMessageService,
             MailAttachmentService mailAttachmentService,
@@ -103,6 +127,24 @@ public class ImapMailSyncService implements MailSyncService {
         this.mailMessageService = mailMessageService;
         this.mailAttachmentService = mailAttachmentService;
         this.mailSyncLogService = mailSyncLogService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "mail-sync-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 체크포인트 저장소를 지정하면 UIDVALIDITY 와 마지막 UID 를 기준으로 증분 동기화한다.
+     */
+    public void setMailSyncStateService(MailSyncStateService mailSyncStateService) {
+        this.mailSyncStateService = mailSyncStateService;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
     }
 
     @Override
@@ -116,6 +158,36 @@ public class ImapMailSyncService implements MailSyncService {
         if (!running.compareAndSet(false, true)) {
             throw PlatformRuntimeException.of(SYNC_IN_PROGRESS);
         }
+        try (IMAPStore store = (IMAPStore) createSession(properties).getStore(properties.getProtocol())) {
+            store.connect(properties.getHost(), properties.getPort(), properties.getUsername(), properties.getPassword());
+            IMAPFolder folder = (IMAPFolder) store.getFolder(properties.getFolder());
+            folder.open(properties.isDeleteAfterFetch() ? Folder.READ_WRITE : Folder.READ_ONLY);
+            SyncResult result = syncFolder(folder, syncLog);
+            folder.close(false);
+            mailSyncLogService.complete(syncLog.getLogId(), result.processed(), result.succeeded(), result.failed(),
+                    "completed", result.summary());
+            return result.succeeded();
+        } catch (MessagingException ex) {
+            mailSyncLogService.complete(syncLog.getLogId(), 0, 0, 1, "failed", ex.getMessage());
+
+            if ( ex instanceof AuthenticationFailedException )
+                throw UnAuthorizedException.of(ErrorType.of("error.mail.imap.authfailed", HttpStatus.UNAUTHORIZED), ex);
+            
+            throw new IllegalStateException("Failed to sync IMAP messages: " + ex.getMessage(), ex);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 동기화 스레드 풀을 종료한다.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    static Session createSession(ImapProperties properties) {
         Properties javaMailProps = new Properties();
         String protocol = properties.getProtocol();
         javaMailProps.put("mail.store.protocol", protocol);
@@ -124,86 +196,186 @@ public class ImapMailSyncService implements MailSyncService {
         if (properties.isSsl()) {
             javaMailProps.put("mail." + protocol + ".ssl.enable", "true");
         }
-        Session session = Session.getInstance(javaMailProps);
+        return Session.getInstance(javaMailProps);
+    }
 
-        try (IMAPStore store = (IMAPStore) session.getStore(protocol)) {
-            store.connect(properties.getHost(), properties.getPort(), properties.getUsername(), properties.getPassword());
-            IMAPFolder folder = (IMAPFolder) store.getFolder(properties.getFolder());
-            folder.open(properties.isDeleteAfterFetch() ? Folder.READ_WRITE : Folder.READ_ONLY);
-            Message[] messages = folder.getMessages();
-            FetchProfile profile = new FetchProfile();
-            profile.add(FetchProfile.Item.ENVELOPE);
-            profile.add(FetchProfile.Item.FLAGS);
-            profile.add(FetchProfile.Item.CONTENT_INFO);
-            folder.fetch(messages, profile);
-
-            AtomicInteger succeeded = new AtomicInteger();
-            AtomicInteger failed = new AtomicInteger();
-            int limit = properties.getMaxMessages() <= 0 ? messages.length : properties.getMaxMessages();
-            int start = Math.max(0, messages.length - limit);
-            int poolSize = Math.max(1, properties.getConcurrency());
-            ExecutorService executor = Executors.newFixedThreadPool(poolSize);
-            List<Future<?>> futures = new ArrayList<>();
-            for (int i = start; i < messages.length; i++) {
-                Message msg = messages[i];
-                futures.add(executor.submit(() -> {
-                    try {
-                        long uid = folder.getUID(msg);
-                        MailMessage target = mailMessageService.findByFolderAndUid(properties.getFolder(), uid)
-                                .orElseGet(DefaultMailMessage::new);
-                        List<MailAttachment> attachments = new ArrayList<>();
-                        populateMessage(target, msg, uid, attachments);
-                        try {
-                            MailMessage saved = mailMessageService.saveOrUpdate(target);
-                            mailAttachmentService.replaceAttachments(saved.getMailId(), attachments);
-                            if (properties.isDeleteAfterFetch()) {
-                                msg.setFlag(jakarta.mail.Flags.Flag.DELETED, true);
-                            }
-                            succeeded.incrementAndGet();
-                        } catch (DataIntegrityViolationException dive) {
-                            // 이미 동일 UID가 저장된 경우 등 제약 위반 → skip
-                            failed.incrementAndGet();
-                            this.log.warn("Skip duplicate mail (folder={}, uid={}): {}", properties.getFolder(), uid,
-                                    dive.getMostSpecificCause() != null ? dive.getMostSpecificCause().getMessage()
-                                            : dive.getMessage());
-                        }
-                    } catch (Exception ex) {
-                        failed.incrementAndGet();
-                        this.log.warn("Skip message due to processing error: {}", ex.getMessage());
-                    }
-                }));
+    /**
+     * 열린 폴더를 동기화한다.
+     * <p>
+     * 저장된 체크포인트의 UIDVALIDITY 가 폴더와 같으면 마지막 UID 이후 메시지만 UID 오름차순으로 가져오고,
+     * 이미 저장된 UID 는 건너뛴다. 체크포인트가 없거나 UIDVALIDITY 가 바뀌었으면 최신 {@code maxMessages}
+     * 건을 다시 가져와 덮어쓴다. 페이지마다 저장 여부를 한 번에 조회하고, 처리가 끝나면 실패 없이 연속으로
+     * 저장된 마지막 UID 까지 체크포인트를 옮긴다.
+     * <p>
+     * {@code maxMessages} 는 실제로 처리할 UID 만 센다. 같은 UID 가 {@code maxAttemptsPerMessage} 번 연속으로
+     * 실패하면 포기하고 체크포인트를 그 뒤로 옮겨, 한 메시지 때문에 이후 메일이 계속 밀리지 않게 한다.
+     */
+    SyncResult syncFolder(IMAPFolder folder, studio.one.application.mail.domain.model.MailSyncLog syncLog)
+            throws MessagingException {
+        String folderName = properties.getFolder();
+        long uidValidity = folder.getUIDValidity();
+        MailSyncState state = mailSyncStateService == null ? null
+                : mailSyncStateService.find(folderName).orElse(null);
+        boolean incremental = state != null && state.getUidValidity() == uidValidity;
+        if (state != null && !incremental) {
+            log.info("UIDVALIDITY of folder {} changed ({} -> {}); running full resync", folderName,
+                    state.getUidValidity(), uidValidity);
+        }
+        long checkpoint = incremental ? state.getLastUid() : 0L;
+        Message[] messages = incremental
+                ? folder.getMessagesByUID(checkpoint + 1, UIDFolder.LASTUID)
+                : folder.getMessages();
+        int limit = properties.getMaxMessages() <= 0 ? messages.length : properties.getMaxMessages();
+        int from = incremental ? 0 : Math.max(0, messages.length - limit);
+        int pageSize = Math.max(1, properties.getPageSize());
+        int maxAttempts = Math.max(1, properties.getMaxAttemptsPerMessage());
+        if (failedAttemptsUidValidity != uidValidity) {
+            failedAttempts.clear();
+            failedAttemptsUidValidity = uidValidity;
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int skipped = 0;
+        int abandoned = 0;
+        int remaining = limit;
+        long lastUid = checkpoint;
+        boolean advancing = true;
+        for (int offset = from; offset < messages.length && remaining > 0; offset += pageSize) {
+            Message[] page = Arrays.copyOfRange(messages, offset, Math.min(messages.length, offset + pageSize));
+            folder.fetch(page, FETCH_PROFILE);
+            TreeMap<Long, Message> byUid = new TreeMap<>();
+            for (Message msg : page) {
+                long uid = folder.getUID(msg);
+                // "n:*" 는 n 보다 큰 UID 가 없으면 마지막 메시지를 돌려준다.
+                if (uid > checkpoint) {
+                    byUid.put(uid, msg);
+                }
+            }
+            if (byUid.isEmpty()) {
+                continue;
+            }
+            Map<Long, Long> existing = mailMessageService.findMailIdsByFolderAndUids(folderName, byUid.keySet());
+            Map<Long, Future<Boolean>> futures = new LinkedHashMap<>();
+            // 처리 한도에 걸려 다음 동기화로 넘긴 첫 UID. 체크포인트는 이 UID 앞에서 멈춘다.
+            long deferredFrom = Long.MAX_VALUE;
+            for (Map.Entry<Long, Message> entry : byUid.entrySet()) {
+                long uid = entry.getKey();
+                if (incremental && existing.containsKey(uid)) {
+                    skipped++;
+                    continue;
+                }
+                if (remaining == 0) {
+                    deferredFrom = uid;
+                    break;
+                }
+                remaining--;
+                Message msg = entry.getValue();
+                boolean stored = existing.containsKey(uid);
+                futures.put(uid, executor.submit(() -> saveMessage(msg, uid, stored, succeeded, failed)));
             }
-            // wait all
-            for (Future<?> f : futures) {
+            Set<Long> failedUids = new HashSet<>();
+            for (Map.Entry<Long, Future<Boolean>> entry : futures.entrySet()) {
+                long uid = entry.getKey();
                 try {
-                    f.get();
+                    if (entry.getValue().get()) {
+                        failedAttempts.remove(uid);
+                    } else if (failedAttempts.merge(uid, 1, Integer::sum) >= maxAttempts) {
+                        failedAttempts.remove(uid);
+                        abandoned++;
+                        log.warn("Giving up on mail (folder={}, uid={}) after {} failed attempts", folderName, uid,
+                                maxAttempts);
+                    } else {
+                        failedUids.add(uid);
+                    }
                 } catch (CancellationException | InterruptedException | ExecutionException ex) {
-                    executor.shutdownNow();
+                    futures.values().forEach(f -> f.cancel(true));
+                    if (ex instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
                     failed.incrementAndGet();
                     mailSyncLogService.complete(syncLog.getLogId(),
                             succeeded.get() + failed.get(), succeeded.get(), failed.get(), "failed", ex.getMessage());
                     throw new IllegalStateException("Failed to complete IMAP sync: " + ex.getMessage() , ex);
                 }
             }
-            executor.shutdown();
-            folder.close(false);
-            mailSyncLogService.complete(syncLog.getLogId(),
-                    succeeded.get() + failed.get(), succeeded.get(), failed.get(), "completed", null);
-            return succeeded.get();
-        } catch (MessagingException ex) {
-            mailSyncLogService.complete(syncLog.getLogId(), 0, 0, 1, "failed", ex.getMessage());
+            if (advancing) {
+                // 실패한 UID 부터는 체크포인트를 옮기지 않고 다음 동기화에서 다시 시도한다.
+                long advanced = lastUid;
+                for (Long uid : byUid.headMap(deferredFrom).keySet()) {
+                    if (failedUids.contains(uid)) {
+                        advancing = false;
+                        break;
+                    }
+                    advanced = uid;
+                }
+                if (advanced > lastUid) {
+                    saveCheckpoint(folderName, uidValidity, advanced);
+                    lastUid = advanced;
+                }
+            }
+        }
+        return new SyncResult(succeeded.get(), failed.get(), skipped, abandoned, uidValidity, lastUid);
+    }
 
-            if ( ex instanceof AuthenticationFailedException )
-                throw UnAuthorizedException.of(ErrorType.of("error.mail.imap.authfailed", HttpStatus.UNAUTHORIZED), ex);
-            
-            throw new IllegalStateException("Failed to sync IMAP messages: " + ex.getMessage(), ex);
-        } finally {
-            running.set(false);
+    private boolean saveMessage(Message msg, long uid, boolean stored, AtomicInteger succeeded, AtomicInteger failed) {
+        try {
+            MailMessage target = stored
+                    ? mailMessageService.findByFolderAndUid(properties.getFolder(), uid).orElseGet(DefaultMailMessage::new)
+                    : new DefaultMailMessage();
+            List<MailAttachment> attachments = new ArrayList<>();
+            List<AttachmentSpool> spools = new ArrayList<>();
+            try {
+                populateMessage(target, msg, uid, attachments, spools);
+                MailMessage saved = mailMessageService.saveOrUpdate(target);
+                mailAttachmentService.replaceAttachments(saved.getMailId(), attachments);
+                if (properties.isDeleteAfterFetch()) {
+                    msg.setFlag(jakarta.mail.Flags.Flag.DELETED, true);
+                }
+                succeeded.incrementAndGet();
+                return true;
+            } catch (DataIntegrityViolationException dive) {
+                // 이미 동일 UID가 저장된 경우 등 제약 위반 → skip
+                failed.incrementAndGet();
+                this.log.warn("Skip duplicate mail (folder={}, uid={}): {}", properties.getFolder(), uid,
+                        dive.getMostSpecificCause() != null ? dive.getMostSpecificCause().getMessage()
+                                : dive.getMessage());
+                return true;
+            } finally {
+                spools.forEach(AttachmentSpool::close);
+            }
+        } catch (Exception ex) {
+            failed.incrementAndGet();
+            this.log.warn("Skip message due to processing error (uid={}): {}", uid, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void saveCheckpoint(String folderName, long uidValidity, long lastUid) {
+        if (mailSyncStateService == null) {
+            return;
+        }
+        try {
+            mailSyncStateService.save(folderName, uidValidity, lastUid);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to save mail sync checkpoint (folder={}, uid={}): {}", folderName, lastUid, ex.getMessage());
         }
     }
 
-    private void populateMessage(MailMessage target, Message message, long uid, List<MailAttachment> attachments)
-            throws MessagingException, IOException {
+    record SyncResult(int succeeded, int failed, int skipped, int abandoned, long uidValidity, long lastUid) {
+
+        int processed() {
+            return succeeded + failed;
+        }
+
+        String summary() {
+            return "uidValidity=" + uidValidity + ", lastUid=" + lastUid + ", skipped=" + skipped
+                    + ", abandoned=" + abandoned;
+        }
+    }
+
+    private void populateMessage(MailMessage target, Message message, long uid, List<MailAttachment> attachments,
+            List<AttachmentSpool> spools) throws MessagingException, IOException {
         target.setFolder(properties.getFolder());
         target.setUid(uid);
         target.setMessageId(extractMessageId(message));
@@ -215,7 +387,7 @@ public class ImapMailSyncService implements MailSyncService {
         target.setSentAt(toInstant(message.getSentDate()));
         target.setReceivedAt(toInstant(message.getReceivedDate()));
         target.setFlags(toFlagString(message.getFlags()));
-        target.setBody(extractBody(message, attachments));
+        target.setBody(extractBody(message, attachments, spools));
         if (target.getCreatedAt() == null) {
             target.setCreatedAt(Instant.now());
         }
@@ -256,7 +428,7 @@ public class ImapMailSyncService implements MailSyncService {
         return null;
     }
 
-    private String extractBody(Message message, List<MailAttachment> attachments)
+    private String extractBody(Message message, List<MailAttachment> attachments, List<AttachmentSpool> spools)
             throws IOException, MessagingException {
         Object content = message.getContent();
         if (content instanceof String) {
@@ -270,23 +442,27 @@ public class ImapMailSyncService implements MailSyncService {
                 boolean isAttachment = disposition != null
                         && disposition.equalsIgnoreCase(jakarta.mail.Part.ATTACHMENT);
                 try {
-                    Object partContent = bodyPart.getContent();
                     if (isAttachment || bodyPart.getFileName() != null) {
-                        MailAttachment attachment = new DefaultMailAttachment();
+                        // 첨부는 디코딩된 스트림을 바로 스풀하고(해시 계산 포함) 메모리에 통째로 올리지 않는다.
+                        DefaultMailAttachment attachment = new DefaultMailAttachment();
                         attachment.setFilename(decodeFilename(bodyPart.getFileName()));
                         attachment.setContentType(bodyPart.getContentType());
-                        byte[] bytes = toBytes(bodyPart.getInputStream(), properties.getMaxAttachmentBytes());
-                        if (bytes == null) {
+                        AttachmentSpool spool = AttachmentSpool.copy(bodyPart.getInputStream(),
+                                properties.getMaxAttachmentBytes(), properties.getSpoolThresholdBytes(),
+                                spoolDirectory());
+                        if (spool == null) {
                             log.warn("Skip attachment '{}' exceeding max size {} bytes", attachment.getFilename(),
                                     properties.getMaxAttachmentBytes());
                             continue;
                         }
-                        attachment.setContent(bytes);
-                        attachment.setSize(attachment.getContent() != null ? attachment.getContent().length : 0);
+                        spools.add(spool);
+                        attachment.setContentSource(spool);
+                        attachment.setContentHash(spool.sha256());
+                        attachment.setSize(spool.size());
                         attachment.setCreatedAt(Instant.now());
                         attachments.add(attachment);
-                    } else if (partContent instanceof String) {
-                        appendBodyPart(builder, (String) partContent);
+                    } else if (bodyPart.getContent() instanceof String partContent) {
+                        appendBodyPart(builder, partContent);
                     }
                 } catch (Exception ex) {
                     log.warn("Skip part due to parse error: {}", ex.getMessage());
@@ -308,23 +484,9 @@ public class ImapMailSyncService implements MailSyncService {
         }
     }
 
-    private byte[] toBytes(InputStream input, long maxBytes) throws IOException {
-        if (input == null) {
-            return new byte[0];
-        }
-        try (InputStream in = input; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[4096];
-            long total = 0;
-            int read;
-            while ((read = in.read(buffer)) != -1) {
-                total += read;
-                if (total > maxBytes) {
-                    return null; // signal oversized
-                }
-                out.write(buffer, 0, read);
-            }
-            return out.toByteArray();
-        }
+    private Path spoolDirectory() {
+        String directory = properties.getSpoolDirectory();
+        return directory == null || directory.isBlank() ? null : Path.of(directory);
     }
 
     private void appendBodyPart(StringBuilder builder, String partContent) {
@@ -1,14 +1,17 @@
 package studio.one.application.mail.service.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.SqlBinaryValue;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +33,18 @@ public class JdbcMailAttachmentService implements MailAttachmentService {
     @SqlStatement("data.mail.findAttachmentsByMail")
     private String findAttachmentsByMailSql;
 
+    @SqlStatement("data.mail.findAttachmentDigestsByMail")
+    private String findAttachmentDigestsByMailSql;
+
+    @SqlStatement("data.mail.touchAttachmentContent")
+    private String touchAttachmentContentSql;
+
+    @SqlStatement("data.mail.insertAttachmentContent")
+    private String insertAttachmentContentSql;
+
+    @SqlStatement("data.mail.deleteUnreferencedAttachmentContents")
+    private String deleteUnreferencedAttachmentContentsSql;
+
     private static final RowMapper<MailAttachment> ROW_MAPPER = (rs, rowNum) -> {
         DefaultMailAttachment attachment = new DefaultMailAttachment();
         attachment.setAttachmentId(rs.getLong("ATTACHMENT_ID"));
@@ -37,6 +52,7 @@ public class JdbcMailAttachmentService implements MailAttachmentService {
         attachment.setFilename(rs.getString("FILENAME"));
         attachment.setContentType(rs.getString("CONTENT_TYPE"));
         attachment.setSize(rs.getLong("SIZE"));
+        attachment.setContentHash(rs.getString("CONTENT_HASH"));
         attachment.setContent(rs.getBytes("CONTENT"));
         Timestamp created = rs.getTimestamp("CREATED_AT");
         Timestamp updated = rs.getTimestamp("UPDATED_AT");
@@ -45,6 +61,14 @@ public class JdbcMailAttachmentService implements MailAttachmentService {
         return attachment;
     };
 
+    private static final RowMapper<MailAttachment> DIGEST_ROW_MAPPER = (rs, rowNum) -> {
+        DefaultMailAttachment attachment = new DefaultMailAttachment();
+        attachment.setFilename(rs.getString("FILENAME"));
+        attachment.setContentType(rs.getString("CONTENT_TYPE"));
+        attachment.setContentHash(rs.getString("CONTENT_HASH"));
+        return attachment;
+    };
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public JdbcMailAttachmentService(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -53,18 +77,28 @@ public class JdbcMailAttachmentService implements MailAttachmentService {
 
     @Override
     public void replaceAttachments(long mailId, List<MailAttachment> attachments) {
+        List<MailAttachment> targets = attachments == null ? List.of() : attachments;
+        MailAttachmentDigests.ensureHashes(targets);
+        List<MailAttachment> stored = jdbcTemplate.query(findAttachmentDigestsByMailSql, Map.of("mailId", mailId),
+                DIGEST_ROW_MAPPER);
+        if (MailAttachmentDigests.sameAttachments(stored, targets)) {
+            return;
+        }
         jdbcTemplate.update(deleteAttachmentsByMailSql, Map.of("mailId", mailId));
-        if (attachments == null || attachments.isEmpty()) {
+        if (targets.isEmpty()) {
             return;
         }
         Instant now = Instant.now();
-        List<MapSqlParameterSource> batch = attachments.stream()
+        for (MailAttachment att : targets) {
+            storeContent(att, now);
+        }
+        List<MapSqlParameterSource> batch = targets.stream()
                 .map(att -> new MapSqlParameterSource()
                         .addValue("mailId", mailId)
                         .addValue("filename", att.getFilename())
                         .addValue("contentType", att.getContentType())
                         .addValue("size", att.getSize())
-                        .addValue("content", att.getContent())
+                        .addValue("contentHash", att.getContentHash())
                         .addValue("createdAt", toTimestamp(att.getCreatedAt(), now))
                         .addValue("updatedAt", Timestamp.from(now)))
                 .toList();
@@ -77,6 +111,35 @@ public class JdbcMailAttachmentService implements MailAttachmentService {
         return jdbcTemplate.query(findAttachmentsByMailSql, Map.of("mailId", mailId), ROW_MAPPER);
     }
 
+    @Override
+    public int deleteUnreferencedContents(Instant createdBefore) {
+        return jdbcTemplate.update(deleteUnreferencedAttachmentContentsSql,
+                Map.of("createdBefore", Timestamp.from(createdBefore)));
+    }
+
+    /**
+     * 같은 해시의 바이너리가 없을 때만 스트림으로 저장한다. 이미 있으면 {@code CREATED_AT} 을 갱신해 참조 없는
+     * 바이너리 정리가 방금 다시 참조한 바이너리를 지우지 않게 한다. 갱신한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로
+     * 동시에 실행된 정리도 갱신된 시각을 보고 건너뛴다.
+     */
+    private void storeContent(MailAttachment att, Instant now) {
+        int touched = jdbcTemplate.update(touchAttachmentContentSql,
+                Map.of("contentHash", att.getContentHash(), "createdAt", Timestamp.from(now)));
+        if (touched > 0) {
+            return;
+        }
+        try (InputStream in = att.openContent()) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("contentHash", att.getContentHash())
+                    .addValue("size", att.getSize())
+                    .addValue("content", new SqlBinaryValue(in, att.getSize()))
+                    .addValue("createdAt", Timestamp.from(now));
+            jdbcTemplate.update(insertAttachmentContentSql, params);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read mail attachment content", ex);
+        }
+    }
+
     private Timestamp toTimestamp(Instant value, Instant defaultInstant) {
         return Timestamp.from(value == null ? defaultInstant : value);
     }
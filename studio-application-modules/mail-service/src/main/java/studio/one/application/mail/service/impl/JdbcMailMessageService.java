@@ -3,6 +3,7 @@ package studio.one.application.mail.service.impl;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -46,6 +47,9 @@ public class JdbcMailMessageService implements MailMessageService {
     @SqlStatement("data.mail.findByUid")
     private String findByUidSql;
 
+    @SqlStatement("data.mail.findIdsByUids")
+    private String findIdsByUidsSql;
+
     @SqlStatement("data.mail.findByMessageId")
     private String findByMessageIdSql;
 
@@ -140,6 +144,22 @@ public class JdbcMailMessageService implements MailMessageService {
         return Optional.ofNullable(message);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findMailIdsByFolderAndUids(String folder, Collection<Long> uids) {
+        Map<Long, Long> found = new LinkedHashMap<>();
+        if (uids == null || uids.isEmpty()) {
+            return found;
+        }
+        jdbcTemplate.query(findIdsByUidsSql, new MapSqlParameterSource()
+                .addValue("folder", folder)
+                .addValue("uids", uids),
+                rs -> {
+                    found.put(rs.getLong("UID"), rs.getLong("MAIL_ID"));
+                });
+        return found;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<MailMessage> findByMessageId(String messageId) {
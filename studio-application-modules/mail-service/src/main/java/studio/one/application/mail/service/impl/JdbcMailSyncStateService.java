@@ -0,0 +1,67 @@
+package studio.one.application.mail.service.impl;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import studio.one.application.mail.domain.model.DefaultMailSyncState;
+import studio.one.application.mail.domain.model.MailSyncState;
+import studio.one.application.mail.service.MailSyncStateService;
+import studio.one.platform.data.sqlquery.annotation.SqlStatement;
+
+@Transactional
+@Service(MailSyncStateService.SERVICE_NAME)
+public class JdbcMailSyncStateService implements MailSyncStateService {
+
+    @SqlStatement("data.mail.syncStateFind")
+    private String findSql;
+
+    @SqlStatement("data.mail.syncStateUpdate")
+    private String updateSql;
+
+    @SqlStatement("data.mail.syncStateInsert")
+    private String insertSql;
+
+    private static final RowMapper<MailSyncState> ROW_MAPPER = (rs, rowNum) -> {
+        DefaultMailSyncState state = new DefaultMailSyncState();
+        state.setFolder(rs.getString("FOLDER"));
+        state.setUidValidity(rs.getLong("UID_VALIDITY"));
+        state.setLastUid(rs.getLong("LAST_UID"));
+        Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
+        state.setUpdatedAt(updatedAt != null ? updatedAt.toInstant() : null);
+        return state;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcMailSyncStateService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MailSyncState> find(String folder) {
+        return jdbcTemplate.query(findSql, Map.of("folder", folder), ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void save(String folder, long uidValidity, long lastUid) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("folder", folder)
+                .addValue("uidValidity", uidValidity)
+                .addValue("lastUid", lastUid)
+                .addValue("updatedAt", Timestamp.from(Instant.now()));
+        if (jdbcTemplate.update(updateSql, params) == 0) {
+            jdbcTemplate.update(insertSql, params);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package studio.one.application.mail.service.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -8,28 +11,48 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import studio.one.application.mail.domain.entity.MailAttachmentEntity;
+import studio.one.application.mail.domain.model.DefaultMailAttachment;
 import studio.one.application.mail.domain.model.MailAttachment;
+import studio.one.application.mail.persistence.repository.MailAttachmentContentRepository;
 import studio.one.application.mail.persistence.repository.MailAttachmentRepository;
 import studio.one.application.mail.service.MailAttachmentService;
 
+/**
+ * JPA 첨부 저장소. {@link MailAttachmentContentRepository} 가 있으면 바이너리를 해시 단위로 한 번만
+ * 저장하고, 없으면 이전처럼 첨부 행에 함께 저장한다. JPA 매핑이 {@code byte[]} 이므로 새 바이너리는
+ * 저장 시점에 메모리로 읽는다(이미 저장된 해시는 읽지 않는다). 바이너리는 JDBC 경로와 같이
+ * {@code on conflict do nothing} 으로 저장하므로 같은 첨부를 동시에 저장해도 메일 저장이 실패하지 않는다.
+ */
 @Transactional
 @Service( MailAttachmentService.SERVICE_NAME)
 public class JpaMailAttachmentService implements MailAttachmentService {
 
     private final MailAttachmentRepository repository;
+    private final MailAttachmentContentRepository contentRepository;
 
     public JpaMailAttachmentService(MailAttachmentRepository repository) {
+        this(repository, null);
+    }
+
+    public JpaMailAttachmentService(MailAttachmentRepository repository,
+            MailAttachmentContentRepository contentRepository) {
         this.repository = repository;
+        this.contentRepository = contentRepository;
     }
 
     @Override
     public void replaceAttachments(long mailId, List<MailAttachment> attachments) {
+        List<MailAttachment> targets = attachments == null ? List.of() : attachments;
+        MailAttachmentDigests.ensureHashes(targets);
+        if (MailAttachmentDigests.sameAttachments(repository.findByMailIdOrderByAttachmentIdAsc(mailId), targets)) {
+            return;
+        }
         repository.deleteByMailId(mailId);
-        if (attachments == null || attachments.isEmpty()) {
+        if (targets.isEmpty()) {
             return;
         }
         Instant now = Instant.now();
-        List<MailAttachmentEntity> entities = attachments.stream()
+        List<MailAttachmentEntity> entities = targets.stream()
                 .map(att -> toEntity(att, mailId, now))
                 .toList();
         repository.saveAll(entities);
@@ -38,19 +61,61 @@ public class JpaMailAttachmentService implements MailAttachmentService {
     @Override
     @Transactional(readOnly = true)
     public List<MailAttachment> findByMailId(long mailId) {
-        return repository.findByMailId(mailId).stream().map(a -> a).collect(Collectors.toList());
+        return repository.findByMailIdOrderByAttachmentIdAsc(mailId).stream()
+                .map(this::withContent)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int deleteUnreferencedContents(Instant createdBefore) {
+        return contentRepository == null ? 0 : contentRepository.deleteUnreferenced(createdBefore);
+    }
+
+    private MailAttachment withContent(MailAttachmentEntity entity) {
+        if (contentRepository == null || entity.getContentHash() == null || entity.getContent() != null) {
+            return entity;
+        }
+        DefaultMailAttachment attachment = new DefaultMailAttachment();
+        attachment.setAttachmentId(entity.getAttachmentId());
+        attachment.setMailId(entity.getMailId());
+        attachment.setFilename(entity.getFilename());
+        attachment.setContentType(entity.getContentType());
+        attachment.setSize(entity.getSize());
+        attachment.setContentHash(entity.getContentHash());
+        attachment.setCreatedAt(entity.getCreatedAt());
+        attachment.setUpdatedAt(entity.getUpdatedAt());
+        contentRepository.findById(entity.getContentHash())
+                .ifPresent(content -> attachment.setContent(content.getContent()));
+        return attachment;
     }
 
     private MailAttachmentEntity toEntity(MailAttachment attachment, long mailId, Instant now) {
         MailAttachmentEntity entity = new MailAttachmentEntity();
-        entity.setAttachmentId(attachment.getAttachmentId());
         entity.setMailId(mailId);
         entity.setFilename(attachment.getFilename());
         entity.setContentType(attachment.getContentType());
         entity.setSize(attachment.getSize());
-        entity.setContent(attachment.getContent());
+        entity.setContentHash(attachment.getContentHash());
+        if (contentRepository == null) {
+            entity.setContent(readContent(attachment));
+        } else if (contentRepository.touch(attachment.getContentHash(), now) == 0) {
+            // 재사용할 때도 CREATED_AT 을 갱신해 참조 없는 바이너리 정리가 방금 다시 참조한 바이너리를 지우지 않게 한다.
+            contentRepository.insertOrTouch(attachment.getContentHash(), attachment.getSize(),
+                    readContent(attachment), now);
+        }
         entity.setCreatedAt(attachment.getCreatedAt() == null ? now : attachment.getCreatedAt());
         entity.setUpdatedAt(now);
         return entity;
     }
+
+    private byte[] readContent(MailAttachment attachment) {
+        if (attachment.getContent() != null) {
+            return attachment.getContent();
+        }
+        try (InputStream in = attachment.openContent()) {
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read mail attachment content", ex);
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package studio.one.application.mail.service.impl;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -46,6 +49,19 @@ public class JpaMailMessageService implements MailMessageService {
         return repository.findByFolderAndUid(folder, uid).map(m -> m);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findMailIdsByFolderAndUids(String folder, Collection<Long> uids) {
+        Map<Long, Long> found = new LinkedHashMap<>();
+        if (uids == null || uids.isEmpty()) {
+            return found;
+        }
+        for (Object[] row : repository.findUidAndMailIdByFolderAndUidIn(folder, uids)) {
+            found.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return found;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<MailMessage> findByMessageId(String messageId) {
@@ -0,0 +1,42 @@
+package studio.one.application.mail.service.impl;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import studio.one.application.mail.domain.entity.MailSyncStateEntity;
+import studio.one.application.mail.domain.model.MailSyncState;
+import studio.one.application.mail.persistence.repository.MailSyncStateRepository;
+import studio.one.application.mail.service.MailSyncStateService;
+
+@Transactional
+@Service(MailSyncStateService.SERVICE_NAME)
+public class JpaMailSyncStateService implements MailSyncStateService {
+
+    private final MailSyncStateRepository repository;
+
+    public JpaMailSyncStateService(MailSyncStateRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MailSyncState> find(String folder) {
+        return repository.findById(folder).map(s -> s);
+    }
+
+    @Override
+    public void save(String folder, long uidValidity, long lastUid) {
+        MailSyncStateEntity entity = repository.findById(folder).orElseGet(() -> {
+            MailSyncStateEntity created = new MailSyncStateEntity();
+            created.setFolder(folder);
+            return created;
+        });
+        entity.setUidValidity(uidValidity);
+        entity.setLastUid(lastUid);
+        entity.setUpdatedAt(Instant.now());
+        repository.save(entity);
+    }
+}
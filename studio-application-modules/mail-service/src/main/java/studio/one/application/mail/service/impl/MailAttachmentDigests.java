@@ -0,0 +1,81 @@
+package studio.one.application.mail.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+import studio.one.application.mail.domain.model.MailAttachment;
+
+/**
+ * 첨부 바이너리 해시 계산과 저장된 첨부 목록 비교.
+ */
+final class MailAttachmentDigests {
+
+    private MailAttachmentDigests() {
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 해시가 비어 있는 첨부는 바이너리를 읽어 해시를 채운다.
+     */
+    static void ensureHashes(List<MailAttachment> attachments) {
+        for (MailAttachment attachment : attachments) {
+            if (attachment.getContentHash() != null) {
+                continue;
+            }
+            MessageDigest digest = sha256();
+            byte[] buffer = new byte[8192];
+            long size = 0;
+            try (InputStream in = attachment.openContent()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    size += read;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to read mail attachment content", ex);
+            }
+            attachment.setContentHash(toHex(digest));
+            if (attachment.getSize() <= 0) {
+                attachment.setSize(size);
+            }
+        }
+    }
+
+    /**
+     * 저장된 첨부와 새 첨부가 순서대로 같은 파일명/콘텐츠 타입/해시를 가지면 {@code true}.
+     * 해시 없이 저장된(이전 방식) 첨부가 있으면 다르다고 본다.
+     */
+    static boolean sameAttachments(List<? extends MailAttachment> stored, List<MailAttachment> incoming) {
+        if (stored.size() != incoming.size()) {
+            return false;
+        }
+        for (int i = 0; i < stored.size(); i++) {
+            MailAttachment a = stored.get(i);
+            MailAttachment b = incoming.get(i);
+            if (a.getContentHash() == null
+                    || !a.getContentHash().equals(b.getContentHash())
+                    || !Objects.equals(a.getFilename(), b.getFilename())
+                    || !Objects.equals(a.getContentType(), b.getContentType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,8 @@
+CREATE TABLE TB_APPLICATION_MAIL_SYNC_STATE (
+    FOLDER VARCHAR(128) PRIMARY KEY, -- 폴더 이름
+    UID_VALIDITY BIGINT NOT NULL, -- IMAP UIDVALIDITY
+    LAST_UID BIGINT NOT NULL, -- 마지막으로 동기화된 UID
+    UPDATED_AT TIMESTAMPTZ NOT NULL -- 갱신 시간
+);
+
+COMMENT ON TABLE TB_APPLICATION_MAIL_SYNC_STATE IS 'IMAP 증분 동기화 체크포인트';
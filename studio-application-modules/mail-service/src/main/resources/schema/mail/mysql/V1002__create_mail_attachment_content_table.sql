@@ -0,0 +1,12 @@
+CREATE TABLE TB_APPLICATION_MAIL_ATTACHMENT_CONTENT (
+    CONTENT_HASH VARCHAR(64) PRIMARY KEY, -- 바이너리 SHA-256 (hex)
+    SIZE BIGINT NOT NULL, -- 크기
+    CONTENT BYTEA NOT NULL, -- 바이너리
+    CREATED_AT TIMESTAMPTZ DEFAULT NOW() -- 생성일
+);
+
+COMMENT ON TABLE TB_APPLICATION_MAIL_ATTACHMENT_CONTENT IS 'IMAP 메일 첨부 바이너리 (해시 단위 중복 제거)';
+
+-- 새 첨부는 CONTENT 를 비워 두고 CONTENT_HASH 로 바이너리를 참조한다. 기존 행은 CONTENT 를 그대로 사용한다.
+ALTER TABLE TB_APPLICATION_MAIL_ATTACHMENT ADD COLUMN CONTENT_HASH VARCHAR(64);
+CREATE INDEX IDX_TB_APPLICATION_MAIL_ATTACHMENT_HASH ON TB_APPLICATION_MAIL_ATTACHMENT (CONTENT_HASH);
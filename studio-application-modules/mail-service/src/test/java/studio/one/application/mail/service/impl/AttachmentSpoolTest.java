@@ -0,0 +1,77 @@
+package studio.one.application.mail.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AttachmentSpoolTest {
+
+    @TempDir
+    Path spoolDir;
+
+    @Test
+    void keepsSmallContentInMemory() throws Exception {
+        byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+
+        try (AttachmentSpool spool = AttachmentSpool.copy(new ByteArrayInputStream(data), 1024, 16, spoolDir)) {
+            assertFalse(spool.isSpooledToDisk());
+            assertEquals(5, spool.size());
+            assertEquals(sha256(data), spool.sha256());
+            try (InputStream in = spool.open()) {
+                assertArrayEquals(data, in.readAllBytes());
+            }
+        }
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void spoolsLargeContentToDiskAndDeletesOnClose() throws Exception {
+        byte[] data = new byte[20_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        AttachmentSpool spool = AttachmentSpool.copy(new ByteArrayInputStream(data), 100_000, 1024, spoolDir);
+        assertTrue(spool.isSpooledToDisk());
+        assertEquals(1, countFiles());
+        assertEquals(data.length, spool.size());
+        assertEquals(sha256(data), spool.sha256());
+        try (InputStream in = spool.open()) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+
+        spool.close();
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void returnsNullAndLeavesNoFileWhenContentExceedsMax() throws Exception {
+        byte[] data = new byte[50_000];
+
+        assertNull(AttachmentSpool.copy(new ByteArrayInputStream(data), 30_000, 1024, spoolDir));
+        assertEquals(0, countFiles());
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(java.security.MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
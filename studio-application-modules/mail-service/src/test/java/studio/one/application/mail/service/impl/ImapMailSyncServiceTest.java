@@ -0,0 +1,233 @@
+package studio.one.application.mail.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.UIDFolder;
+import jakarta.mail.internet.MimeMessage;
+
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import studio.one.application.mail.config.ImapProperties;
+import studio.one.application.mail.domain.model.DefaultMailMessage;
+import studio.one.application.mail.domain.model.DefaultMailSyncLog;
+import studio.one.application.mail.domain.model.DefaultMailSyncState;
+import studio.one.application.mail.domain.model.MailMessage;
+import studio.one.application.mail.service.MailAttachmentService;
+import studio.one.application.mail.service.MailMessageService;
+import studio.one.application.mail.service.MailSyncLogService;
+import studio.one.application.mail.service.MailSyncStateService;
+
+class ImapMailSyncServiceTest {
+
+    private final Session session = Session.getInstance(new Properties());
+    private ImapProperties properties;
+    private MailMessageService messageService;
+    private MailSyncStateService stateService;
+    private IMAPFolder folder;
+    private ImapMailSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ImapProperties();
+        properties.setConcurrency(2);
+        properties.setPageSize(2);
+        messageService = mock(MailMessageService.class);
+        when(messageService.saveOrUpdate(any())).thenAnswer(inv -> {
+            MailMessage message = inv.getArgument(0);
+            message.setMailId(message.getUid() * 100);
+            return message;
+        });
+        stateService = mock(MailSyncStateService.class);
+        folder = mock(IMAPFolder.class);
+        service = new ImapMailSyncService(properties, messageService, mock(MailAttachmentService.class),
+                mock(MailSyncLogService.class));
+        service.setMailSyncStateService(stateService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void incrementalSyncFetchesNewUidsAndSkipsStoredOnes() throws Exception {
+        when(folder.getUIDValidity()).thenReturn(7L);
+        when(stateService.find("INBOX")).thenReturn(Optional.of(state(7L, 10L)));
+        Message[] messages = messages(11, 12, 13);
+        when(folder.getMessagesByUID(11L, UIDFolder.LASTUID)).thenReturn(messages);
+        when(messageService.findMailIdsByFolderAndUids(eq("INBOX"), any())).thenReturn(Map.of(12L, 1200L));
+
+        ImapMailSyncService.SyncResult result = service.syncFolder(folder, new DefaultMailSyncLog());
+
+        assertEquals(2, result.succeeded());
+        assertEquals(1, result.skipped());
+        assertEquals(13L, result.lastUid());
+        verify(messageService, times(2)).saveOrUpdate(any());
+        verify(messageService, never()).findByFolderAndUid(anyString(), anyLong());
+        verify(folder, never()).getMessages();
+        verify(stateService).save("INBOX", 7L, 12L);
+        verify(stateService).save("INBOX", 7L, 13L);
+    }
+
+    @Test
+    void incrementalSyncIgnoresLastMessageReturnedForEmptyRange() throws Exception {
+        when(folder.getUIDValidity()).thenReturn(7L);
+        when(stateService.find("INBOX")).thenReturn(Optional.of(state(7L, 10L)));
+        Message[] messages = messages(10);
+        when(folder.getMessagesByUID(11L, UIDFolder.LASTUID)).thenReturn(messages);
+
+        ImapMailSyncService.SyncResult result = service.syncFolder(folder, new DefaultMailSyncLog());
+
+        assertEquals(0, result.processed());
+        assertEquals(10L, result.lastUid());
+        verify(messageService, never()).saveOrUpdate(any());
+        verify(stateService, never()).save(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void changedUidValidityTriggersFullResyncOfLatestMessages() throws Exception {
+        properties.setMaxMessages(2);
+        when(folder.getUIDValidity()).thenReturn(8L);
+        when(stateService.find("INBOX")).thenReturn(Optional.of(state(7L, 10L)));
+        Message[] messages = messages(1, 2, 3);
+        when(folder.getMessages()).thenReturn(messages);
+        when(messageService.findMailIdsByFolderAndUids(eq("INBOX"), any())).thenReturn(Map.of(2L, 200L));
+        DefaultMailMessage stored = new DefaultMailMessage();
+        stored.setMailId(200L);
+        when(messageService.findByFolderAndUid("INBOX", 2L)).thenReturn(Optional.of(stored));
+
+        ImapMailSyncService.SyncResult result = service.syncFolder(folder, new DefaultMailSyncLog());
+
+        assertEquals(2, result.succeeded());
+        assertEquals(0, result.skipped());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<Long>> uids = ArgumentCaptor.forClass(Set.class);
+        verify(messageService).findMailIdsByFolderAndUids(eq("INBOX"), uids.capture());
+        assertEquals(List.of(2L, 3L), List.copyOf(uids.getValue()));
+        verify(messageService).findByFolderAndUid("INBOX", 2L);
+        verify(folder, never()).getMessagesByUID(anyLong(), anyLong());
+        verify(stateService).save("INBOX", 8L, 3L);
+    }
+
+    @Test
+    void checkpointStopsBeforeFirstFailedUid() throws Exception {
+        properties.setPageSize(10);
+        when(folder.getUIDValidity()).thenReturn(7L);
+        when(stateService.find("INBOX")).thenReturn(Optional.of(state(7L, 10L)));
+        Message[] messages = messages(11, 12, 13);
+        when(folder.getMessagesByUID(11L, UIDFolder.LASTUID)).thenReturn(messages);
+        doAnswer(inv -> {
+            MailMessage message = inv.getArgument(0);
+            if (message.getUid() == 12L) {
+                throw new IllegalStateException("boom");
+            }
+            message.setMailId(message.getUid() * 100);
+            return message;
+        }).when(messageService).saveOrUpdate(any());
+
+        ImapMailSyncService.SyncResult result = service.syncFolder(folder, new DefaultMailSyncLog());
+
+        assertEquals(2, result.succeeded());
+        assertEquals(1, result.failed());
+        assertEquals(11L, result.lastUid());
+        verify(stateService).save("INBOX", 7L, 11L);
+        verify(stateService, never()).save("INBOX", 7L, 13L);
+    }
+
+    @Test
+    void messageLimitCountsOnlyUidsThatNeedProcessing() throws Exception {
+        properties.setMaxMessages(2);
+        when(folder.getUIDValidity()).thenReturn(7L);
+        when(stateService.find("INBOX")).thenReturn(Optional.of(state(7L, 10L)));
+        Message[] messages = messages(11, 12, 13, 14, 15);
+        when(folder.getMessagesByUID(11L, UIDFolder.LASTUID)).thenReturn(messages);
+        when(messageService.findMailIdsByFolderAndUids(eq("INBOX"), any()))
+                .thenReturn(Map.of(11L, 1100L, 12L, 1200L))
+                .thenReturn(Map.of());
+
+        ImapMailSyncService.SyncResult result = service.syncFolder(folder, new DefaultMailSyncLog());
+
+        assertEquals(2, result.succeeded());
+        assertEquals(2, result.skipped());
+        assertEquals(14L, result.lastUid());
+        verify(messageService, times(2)).saveOrUpdate(any());
+        verify(stateService).save("INBOX", 7L, 14L);
+        verify(stateService, never()).save("INBOX", 7L, 15L);
+    }
+
+    @Test
+    void checkpointMovesPastUidThatKeepsFailing() throws Exception {
+        properties.setPageSize(10);
+        properties.setMaxAttemptsPerMessage(2);
+        when(folder.getUIDValidity()).thenReturn(7L);
+        when(stateService.find("INBOX"))
+                .thenReturn(Optional.of(state(7L, 10L)))
+                .thenReturn(Optional.of(state(7L, 11L)));
+        Message[] first = messages(11, 12, 13);
+        Message[] second = messages(12, 13);
+        when(folder.getMessagesByUID(11L, UIDFolder.LASTUID)).thenReturn(first);
+        when(folder.getMessagesByUID(12L, UIDFolder.LASTUID)).thenReturn(second);
+        doAnswer(inv -> {
+            MailMessage message = inv.getArgument(0);
+            if (message.getUid() == 12L) {
+                throw new IllegalStateException("boom");
+            }
+            message.setMailId(message.getUid() * 100);
+            return message;
+        }).when(messageService).saveOrUpdate(any());
+
+        ImapMailSyncService.SyncResult retried = service.syncFolder(folder, new DefaultMailSyncLog());
+        ImapMailSyncService.SyncResult abandoned = service.syncFolder(folder, new DefaultMailSyncLog());
+
+        assertEquals(11L, retried.lastUid());
+        assertEquals(0, retried.abandoned());
+        assertEquals(1, abandoned.failed());
+        assertEquals(1, abandoned.abandoned());
+        assertEquals(13L, abandoned.lastUid());
+        verify(stateService).save("INBOX", 7L, 13L);
+    }
+
+    private DefaultMailSyncState state(long uidValidity, long lastUid) {
+        DefaultMailSyncState state = new DefaultMailSyncState();
+        state.setFolder("INBOX");
+        state.setUidValidity(uidValidity);
+        state.setLastUid(lastUid);
+        return state;
+    }
+
+    private Message[] messages(long... uids) throws MessagingException {
+        Message[] messages = new Message[uids.length];
+        for (int i = 0; i < uids.length; i++) {
+            MimeMessage message = new MimeMessage(session);
+            message.setSubject("message " + uids[i]);
+            message.setText("body " + uids[i]);
+            message.saveChanges();
+            messages[i] = message;
+            when(folder.getUID(message)).thenReturn(uids[i]);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,146 @@
+package studio.one.application.mail.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.support.SqlBinaryValue;
+
+import studio.one.application.mail.domain.model.DefaultMailAttachment;
+import studio.one.application.mail.domain.model.MailAttachment;
+import studio.one.application.mail.service.MailAttachmentContentCleanupJob;
+
+class JdbcMailAttachmentServiceTest {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private JdbcMailAttachmentService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        service = new JdbcMailAttachmentService(jdbcTemplate);
+        for (String name : List.of("insertAttachmentSql", "deleteAttachmentsByMailSql", "findAttachmentsByMailSql",
+                "findAttachmentDigestsByMailSql", "touchAttachmentContentSql", "insertAttachmentContentSql",
+                "deleteUnreferencedAttachmentContentsSql")) {
+            Field field = JdbcMailAttachmentService.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(service, name);
+        }
+    }
+
+    @Test
+    void skipsReplaceWhenStoredAttachmentsHaveSameHashes() {
+        DefaultMailAttachment incoming = attachment("a.txt", "hello");
+        MailAttachmentDigests.ensureHashes(List.of(incoming));
+        storedDigests(List.of(digest("a.txt", incoming.getContentHash())));
+
+        service.replaceAttachments(1L, List.of(incoming));
+
+        verify(jdbcTemplate, never()).update(eq("deleteAttachmentsByMailSql"), anyMap());
+        verify(jdbcTemplate, never()).batchUpdate(eq("insertAttachmentSql"), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    void cleanupJobDeletesOnlyContentOlderThanGrace() {
+        Instant now = Instant.parse("2026-10-17T10:15:00Z");
+        MailAttachmentContentCleanupJob job = new MailAttachmentContentCleanupJob(
+                service, Duration.ofHours(24), Clock.fixed(now, ZoneOffset.UTC));
+
+        job.deleteUnreferencedContents();
+
+        verify(jdbcTemplate).update("deleteUnreferencedAttachmentContentsSql",
+                Map.of("createdBefore", Timestamp.from(Instant.parse("2026-10-16T10:15:00Z"))));
+    }
+
+    @Test
+    void storesContentOnceAndReferencesItByHash() {
+        storedDigests(List.of());
+        when(jdbcTemplate.update(eq("touchAttachmentContentSql"), anyMap())).thenReturn(0, 1);
+        DefaultMailAttachment first = attachment("a.txt", "same");
+        DefaultMailAttachment second = attachment("b.txt", "same");
+
+        service.replaceAttachments(1L, List.of(first, second));
+
+        assertEquals(first.getContentHash(), second.getContentHash());
+        ArgumentCaptor<MapSqlParameterSource> content = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).update(eq("insertAttachmentContentSql"), content.capture());
+        assertInstanceOf(SqlBinaryValue.class, content.getValue().getValue("content"));
+        ArgumentCaptor<SqlParameterSource[]> rows = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(eq("insertAttachmentSql"), rows.capture());
+        assertEquals(2, rows.getValue().length);
+        assertEquals(first.getContentHash(), rows.getValue()[1].getValue("contentHash"));
+    }
+
+    @Test
+    void replacesLegacyRowsWithoutHash() {
+        storedDigests(List.of(digest("a.txt", null)));
+        when(jdbcTemplate.update(eq("touchAttachmentContentSql"), anyMap())).thenReturn(1);
+
+        service.replaceAttachments(1L, List.of(attachment("a.txt", "hello")));
+
+        verify(jdbcTemplate).update("deleteAttachmentsByMailSql", Map.of("mailId", 1L));
+        verify(jdbcTemplate, never()).update(eq("insertAttachmentContentSql"), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void refreshesCreatedAtWhenReusingStoredContent() {
+        storedDigests(List.of());
+        when(jdbcTemplate.update(eq("touchAttachmentContentSql"), anyMap())).thenReturn(1);
+        DefaultMailAttachment incoming = attachment("a.txt", "hello");
+
+        service.replaceAttachments(1L, List.of(incoming));
+
+        ArgumentCaptor<Map<String, ?>> touch = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).update(eq("touchAttachmentContentSql"), touch.capture());
+        assertEquals(incoming.getContentHash(), touch.getValue().get("contentHash"));
+        assertInstanceOf(Timestamp.class, touch.getValue().get("createdAt"));
+        verify(jdbcTemplate, never()).update(eq("insertAttachmentContentSql"), any(SqlParameterSource.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void storedDigests(List<MailAttachment> stored) {
+        when(jdbcTemplate.query(eq("findAttachmentDigestsByMailSql"), anyMap(), any(RowMapper.class)))
+                .thenReturn(stored);
+    }
+
+    private static DefaultMailAttachment attachment(String filename, String content) {
+        DefaultMailAttachment attachment = new DefaultMailAttachment();
+        attachment.setFilename(filename);
+        attachment.setContentType("text/plain");
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        attachment.setContent(bytes);
+        attachment.setSize(bytes.length);
+        return attachment;
+    }
+
+    private static DefaultMailAttachment digest(String filename, String hash) {
+        DefaultMailAttachment attachment = new DefaultMailAttachment();
+        attachment.setFilename(filename);
+        attachment.setContentType("text/plain");
+        attachment.setContentHash(hash);
+        return attachment;
+    }
+}
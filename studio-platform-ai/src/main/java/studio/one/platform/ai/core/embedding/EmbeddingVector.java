@@ -1,6 +1,5 @@
 package studio.one.platform.ai.core.embedding;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -10,22 +9,37 @@ import java.util.Objects;
 public final class EmbeddingVector {
 
     private final String referenceId;
-    private final List<Double> values;
+    private final FloatVector vector;
 
     public EmbeddingVector(String referenceId, List<Double> values) {
+        this(referenceId, FloatVector.of(Objects.requireNonNull(values, "values")));
+    }
+
+    public EmbeddingVector(String referenceId, float[] values) {
+        this(referenceId, FloatVector.of(Objects.requireNonNull(values, "values")));
+    }
+
+    public EmbeddingVector(String referenceId, FloatVector vector) {
         this.referenceId = referenceId;
-        Objects.requireNonNull(values, "values");
-        if (values.isEmpty()) {
+        Objects.requireNonNull(vector, "vector");
+        if (vector.isEmpty()) {
             throw new IllegalArgumentException("Embedding values cannot be empty");
         }
-        this.values = List.copyOf(values);
+        this.vector = vector;
     }
 
     public String referenceId() {
         return referenceId;
     }
 
+    /**
+     * Returns a read-only {@code List<Double>} view over {@link #vector()}.
+     */
     public List<Double> values() {
-        return Collections.unmodifiableList(values);
+        return vector.asList();
+    }
+
+    public FloatVector vector() {
+        return vector;
     }
 }
@@ -0,0 +1,129 @@
+package studio.one.platform.ai.core.embedding;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, {@code float[]}-backed embedding vector.
+ * <p>
+ * A 1536-dimension embedding costs about 6 KB as a {@code FloatVector} versus
+ * roughly 40 KB as a boxed {@code List<Double>}. {@link #asList()} exposes a
+ * lazily created read-only {@code List<Double>} view for legacy call sites; it
+ * does not copy the backing array. The view widens each element through its
+ * shortest decimal form, so a value such as {@code 0.1} that entered as a
+ * {@code double} reads back as {@code 0.1} rather than
+ * {@code 0.10000000149011612}, both in comparisons and in serialized JSON.
+ * Code that only needs the numbers should read {@link #get(int)} or
+ * {@link #backingArray()} instead.
+ */
+public final class FloatVector {
+
+    private static final FloatVector EMPTY = new FloatVector(new float[0]);
+
+    private final float[] values;
+    private List<Double> listView;
+
+    private FloatVector(float[] values) {
+        this.values = values;
+    }
+
+    public static FloatVector empty() {
+        return EMPTY;
+    }
+
+    public static FloatVector of(float[] values) {
+        Objects.requireNonNull(values, "values");
+        return values.length == 0 ? EMPTY : new FloatVector(values.clone());
+    }
+
+    public static FloatVector of(List<? extends Number> values) {
+        Objects.requireNonNull(values, "values");
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        float[] copy = new float[values.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = Objects.requireNonNull(values.get(i), "values must not contain null").floatValue();
+        }
+        return new FloatVector(copy);
+    }
+
+    public int dimension() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public float get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the backing array.
+     */
+    public float[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns the backing array without copying it, for adapters that hand the vector to a
+     * driver or serializer. Callers must not modify the returned array.
+     */
+    public float[] backingArray() {
+        return values;
+    }
+
+    /**
+     * Returns a read-only {@code List<Double>} view over the backing array.
+     */
+    public List<Double> asList() {
+        List<Double> view = listView;
+        if (view == null) {
+            view = new DoubleListView(values);
+            listView = view;
+        }
+        return view;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof FloatVector vector && Arrays.equals(values, vector.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "FloatVector[dimension=" + values.length + "]";
+    }
+
+    private static final class DoubleListView extends AbstractList<Double> implements RandomAccess {
+
+        private final float[] values;
+
+        private DoubleListView(float[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return Double.valueOf(Float.toString(values[index]));
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
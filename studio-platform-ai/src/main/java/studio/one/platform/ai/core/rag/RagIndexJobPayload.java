@@ -0,0 +1,16 @@
+package studio.one.platform.ai.core.rag;
+
+import java.util.Objects;
+
+/**
+ * Original request of a RAG index job, persisted so that any node can execute or
+ * retry the job.
+ */
+public record RagIndexJobPayload(
+        RagIndexJobCreateRequest request,
+        RagIndexJobSourceRequest sourceRequest) {
+
+    public RagIndexJobPayload {
+        Objects.requireNonNull(request, "request");
+    }
+}
@@ -0,0 +1,24 @@
+package studio.one.platform.ai.core.rag;
+
+import java.util.Locale;
+
+/**
+ * Dispatch priority of a queued RAG index job. Higher priorities are always
+ * dequeued first; jobs of the same priority are served round-robin per tenant.
+ */
+public enum RagIndexJobPriority {
+    HIGH,
+    NORMAL,
+    LOW;
+
+    public static RagIndexJobPriority from(String value) {
+        if (value == null || value.isBlank()) {
+            return NORMAL;
+        }
+        try {
+            return RagIndexJobPriority.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ignored) {
+            return NORMAL;
+        }
+    }
+}
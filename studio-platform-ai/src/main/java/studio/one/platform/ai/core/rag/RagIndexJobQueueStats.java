@@ -0,0 +1,27 @@
+package studio.one.platform.ai.core.rag;
+
+/**
+ * Point-in-time snapshot of the RAG index job queue and worker pool.
+ * Wait time is measured from submission until a worker picks the job up,
+ * run time from pick-up until the job returns.
+ */
+public record RagIndexJobQueueStats(
+        int queued,
+        int running,
+        int capacity,
+        int workers,
+        long submitted,
+        long rejected,
+        long completed,
+        long averageWaitMillis,
+        long maxWaitMillis,
+        long averageRunMillis,
+        long maxRunMillis) {
+
+    public RagIndexJobQueueStats {
+        queued = Math.max(0, queued);
+        running = Math.max(0, running);
+        capacity = Math.max(0, capacity);
+        workers = Math.max(0, workers);
+    }
+}
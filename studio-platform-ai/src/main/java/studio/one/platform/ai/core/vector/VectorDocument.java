@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import studio.one.platform.ai.core.embedding.FloatVector;
+
 /**
  * Represents a document persisted in a vector store.
  */
@@ -13,13 +15,17 @@ public final class VectorDocument {
     private final String id;
     private final String content;
     private final Map<String, Object> metadata;
-    private final List<Double> embedding;
+    private final FloatVector embedding;
 
     public VectorDocument(String id, String content, Map<String, Object> metadata, List<Double> embedding) {
+        this(id, content, metadata, FloatVector.of(Objects.requireNonNull(embedding, "embedding")));
+    }
+
+    public VectorDocument(String id, String content, Map<String, Object> metadata, FloatVector embedding) {
         this.id = Objects.requireNonNull(id, "id");
         this.content = Objects.requireNonNull(content, "content");
         this.metadata = metadata == null ? Map.of() : Map.copyOf(metadata);
-        this.embedding = List.copyOf(Objects.requireNonNull(embedding, "embedding"));
+        this.embedding = Objects.requireNonNull(embedding, "embedding");
     }
 
     public String id() {
@@ -34,7 +40,14 @@ public final class VectorDocument {
         return Collections.unmodifiableMap(metadata);
     }
 
+    /**
+     * Returns a read-only {@code List<Double>} view over {@link #embeddingVector()}.
+     */
     public List<Double> embedding() {
-        return Collections.unmodifiableList(embedding);
+        return embedding.asList();
+    }
+
+    public FloatVector embeddingVector() {
+        return embedding;
     }
 }
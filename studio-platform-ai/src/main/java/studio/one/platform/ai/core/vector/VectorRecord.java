@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import studio.one.platform.ai.core.embedding.FloatVector;
+
 /**
  * RAG chunk record persisted by a vector store.
  * <p>
@@ -46,7 +48,7 @@ public final class VectorRecord {
     private final String parentChunkId;
     private final String contentHash;
     private final String text;
-    private final List<Double> embedding;
+    private final FloatVector embedding;
     private final String embeddingModel;
     private final int embeddingDimension;
     private final String chunkType;
@@ -79,20 +81,41 @@ public final class VectorRecord {
             Integer page,
             Integer slide,
             Map<String, Object> metadata) {
+        this(id, documentId, chunkId, parentChunkId, contentHash, text,
+                FloatVector.of(Objects.requireNonNull(embedding, "embedding")), embeddingModel, embeddingDimension,
+                chunkType, headingPath, sourceRef, page, slide, metadata);
+    }
+
+    private VectorRecord(
+            String id,
+            String documentId,
+            String chunkId,
+            String parentChunkId,
+            String contentHash,
+            String text,
+            FloatVector embedding,
+            String embeddingModel,
+            int embeddingDimension,
+            String chunkType,
+            String headingPath,
+            String sourceRef,
+            Integer page,
+            Integer slide,
+            Map<String, Object> metadata) {
         this.id = requireText(id, "id");
         this.documentId = requireText(documentId, "documentId");
         this.chunkId = requireText(chunkId, "chunkId");
         this.parentChunkId = normalize(parentChunkId);
         this.contentHash = requireText(contentHash, "contentHash");
         this.text = requireText(text, "text");
-        this.embedding = List.copyOf(Objects.requireNonNull(embedding, "embedding"));
+        this.embedding = Objects.requireNonNull(embedding, "embedding");
         if (this.embedding.isEmpty()) {
             throw new IllegalArgumentException("embedding must not be empty");
         }
         if (embeddingDimension <= 0) {
             throw new IllegalArgumentException("embeddingDimension must be greater than zero");
         }
-        if (embeddingDimension != this.embedding.size()) {
+        if (embeddingDimension != this.embedding.dimension()) {
             throw new IllegalArgumentException("embeddingDimension must match embedding size");
         }
         this.embeddingModel = requireText(embeddingModel, "embeddingModel");
@@ -133,7 +156,14 @@ public final class VectorRecord {
         return text;
     }
 
+    /**
+     * Returns a read-only {@code List<Double>} view over {@link #embeddingVector()}.
+     */
     public List<Double> embedding() {
+        return embedding.asList();
+    }
+
+    public FloatVector embeddingVector() {
         return embedding;
     }
 
@@ -197,7 +227,7 @@ public final class VectorRecord {
         private String parentChunkId;
         private String contentHash;
         private String text;
-        private List<Double> embedding;
+        private FloatVector embedding;
         private String embeddingModel;
         private Integer embeddingDimension;
         private String chunkType;
@@ -241,6 +271,11 @@ public final class VectorRecord {
         }
 
         public Builder embedding(List<Double> embedding) {
+            this.embedding = embedding == null ? null : FloatVector.of(embedding);
+            return this;
+        }
+
+        public Builder embedding(FloatVector embedding) {
             this.embedding = embedding;
             return this;
         }
@@ -286,8 +321,8 @@ public final class VectorRecord {
         }
 
         public VectorRecord build() {
-            List<Double> vector = Objects.requireNonNull(embedding, "embedding");
-            int dimension = embeddingDimension == null ? vector.size() : embeddingDimension;
+            FloatVector vector = Objects.requireNonNull(embedding, "embedding");
+            int dimension = embeddingDimension == null ? vector.dimension() : embeddingDimension;
             return new VectorRecord(
                     id,
                     documentId,
@@ -0,0 +1,77 @@
+package studio.one.platform.ai.core.vector;
+
+import java.util.Objects;
+
+/**
+ * Recall and latency of a store's compressed search mode measured against its full-precision
+ * search over the same sample queries.
+ * <p>
+ * {@code recall} is the fraction of full-precision top-K hits that the compressed mode also
+ * returned, summed over all queries. Latencies are per-query means in milliseconds.
+ */
+public final class VectorSearchComparison {
+
+    private final String baselineMode;
+    private final String candidateMode;
+    private final int queries;
+    private final double recall;
+    private final double baselineMeanMs;
+    private final double candidateMeanMs;
+
+    public VectorSearchComparison(
+            String baselineMode,
+            String candidateMode,
+            int queries,
+            double recall,
+            double baselineMeanMs,
+            double candidateMeanMs) {
+        if (queries < 0) {
+            throw new IllegalArgumentException("queries must not be negative");
+        }
+        if (recall < 0.0d || recall > 1.0d) {
+            throw new IllegalArgumentException("recall must be between 0 and 1");
+        }
+        this.baselineMode = Objects.requireNonNull(baselineMode, "baselineMode");
+        this.candidateMode = Objects.requireNonNull(candidateMode, "candidateMode");
+        this.queries = queries;
+        this.recall = recall;
+        this.baselineMeanMs = baselineMeanMs;
+        this.candidateMeanMs = candidateMeanMs;
+    }
+
+    public String baselineMode() {
+        return baselineMode;
+    }
+
+    public String candidateMode() {
+        return candidateMode;
+    }
+
+    public int queries() {
+        return queries;
+    }
+
+    public double recall() {
+        return recall;
+    }
+
+    public double baselineMeanMs() {
+        return baselineMeanMs;
+    }
+
+    public double candidateMeanMs() {
+        return candidateMeanMs;
+    }
+
+    @Override
+    public String toString() {
+        return "VectorSearchComparison{"
+                + "baselineMode='" + baselineMode + '\''
+                + ", candidateMode='" + candidateMode + '\''
+                + ", queries=" + queries
+                + ", recall=" + recall
+                + ", baselineMeanMs=" + baselineMeanMs
+                + ", candidateMeanMs=" + candidateMeanMs
+                + '}';
+    }
+}
@@ -4,19 +4,22 @@ import java.util.List;
 import java.util.Objects;
 
 import studio.one.platform.ai.core.MetadataFilter;
+import studio.one.platform.ai.core.embedding.FloatVector;
 
 /**
  * Encapsulates a similarity search query for a vector store.
  */
 public final class VectorSearchRequest {
 
-    private final List<Double> embedding;
+    private final FloatVector embedding;
     private final String queryText;
     private final int topK;
     private final MetadataFilter metadataFilter;
     private final Double minScore;
     private final boolean includeText;
     private final boolean includeMetadata;
+    private final Integer efSearch;
+    private final Integer probes;
 
     public VectorSearchRequest(List<Double> embedding, int topK) {
         this(embedding, null, topK, MetadataFilter.empty(), null, true, true);
@@ -30,6 +33,10 @@ public final class VectorSearchRequest {
         this(embedding, null, topK, metadataFilter, minScore, true, true);
     }
 
+    public VectorSearchRequest(FloatVector embedding, int topK, MetadataFilter metadataFilter) {
+        this(embedding, null, topK, metadataFilter, null, true, true);
+    }
+
     public VectorSearchRequest(
             List<Double> embedding,
             String queryText,
@@ -38,7 +45,32 @@ public final class VectorSearchRequest {
             Double minScore,
             boolean includeText,
             boolean includeMetadata) {
-        this.embedding = List.copyOf(Objects.requireNonNull(embedding, "embedding"));
+        this(FloatVector.of(Objects.requireNonNull(embedding, "embedding")), queryText, topK, metadataFilter, minScore,
+                includeText, includeMetadata);
+    }
+
+    public VectorSearchRequest(
+            FloatVector embedding,
+            String queryText,
+            int topK,
+            MetadataFilter metadataFilter,
+            Double minScore,
+            boolean includeText,
+            boolean includeMetadata) {
+        this(embedding, queryText, topK, metadataFilter, minScore, includeText, includeMetadata, null, null);
+    }
+
+    private VectorSearchRequest(
+            FloatVector embedding,
+            String queryText,
+            int topK,
+            MetadataFilter metadataFilter,
+            Double minScore,
+            boolean includeText,
+            boolean includeMetadata,
+            Integer efSearch,
+            Integer probes) {
+        this.embedding = Objects.requireNonNull(embedding, "embedding");
         if (embedding.isEmpty()) {
             throw new IllegalArgumentException("Search embedding must not be empty");
         }
@@ -54,6 +86,24 @@ public final class VectorSearchRequest {
         this.minScore = minScore;
         this.includeText = includeText;
         this.includeMetadata = includeMetadata;
+        if (efSearch != null && efSearch <= 0) {
+            throw new IllegalArgumentException("efSearch must be greater than zero");
+        }
+        if (probes != null && probes <= 0) {
+            throw new IllegalArgumentException("probes must be greater than zero");
+        }
+        this.efSearch = efSearch;
+        this.probes = probes;
+    }
+
+    /**
+     * Returns a copy of this request with approximate nearest neighbour tuning.
+     * {@code efSearch} applies to HNSW indexes and {@code probes} to IVFFlat indexes;
+     * {@code null} keeps the store default. Stores without such an index ignore both.
+     */
+    public VectorSearchRequest withAnnTuning(Integer efSearch, Integer probes) {
+        return new VectorSearchRequest(embedding, queryText, topK, metadataFilter, minScore, includeText,
+                includeMetadata, efSearch, probes);
     }
 
     /**
@@ -64,7 +114,14 @@ public final class VectorSearchRequest {
         return queryVector();
     }
 
+    /**
+     * Returns a read-only {@code List<Double>} view over {@link #queryEmbedding()}.
+     */
     public List<Double> queryVector() {
+        return embedding.asList();
+    }
+
+    public FloatVector queryEmbedding() {
         return embedding;
     }
 
@@ -95,4 +152,12 @@ public final class VectorSearchRequest {
     public boolean includeMetadata() {
         return includeMetadata;
     }
+
+    public Integer efSearch() {
+        return efSearch;
+    }
+
+    public Integer probes() {
+        return probes;
+    }
 }
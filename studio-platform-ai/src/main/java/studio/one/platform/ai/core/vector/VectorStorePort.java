@@ -58,6 +58,42 @@ public interface VectorStorePort {
                 .toList());
     }
 
+    /**
+     * Incrementally updates an object scope: upserts {@code documents} by chunk index and deletes
+     * the stored chunks whose chunk index is {@code chunkCount} or higher. Stored chunks below
+     * {@code chunkCount} that are not in {@code documents} are left unchanged.
+     * <p>
+     * Stores that return embeddings from {@link #listDocumentsByObject(String, String)} must
+     * implement this.
+     */
+    default void updateByObject(String objectType, String objectId, List<VectorDocument> documents, int chunkCount) {
+        throw new UnsupportedOperationException("updateByObject is not implemented");
+    }
+
+    /**
+     * Record variant of {@link #updateByObject(String, String, List, int)}, used by the RAG
+     * pipeline to write only the chunks that changed since the previous index of the object.
+     */
+    default void updateRecordsByObject(String objectType, String objectId, List<VectorRecord> records,
+            int chunkCount) {
+        Objects.requireNonNull(records, "records");
+        updateByObject(objectType, objectId, records.stream()
+                .map(record -> toObjectScopedDocument(objectType, objectId, record))
+                .toList(), chunkCount);
+    }
+
+    /**
+     * Returns the stored chunks of an object scope in chunk_index order, including their
+     * embeddings, so that re-indexing can reuse embeddings of unchanged content.
+     * <p>
+     * The default empty list means the store cannot return embeddings; callers then re-embed
+     * every chunk and replace the object with
+     * {@link #replaceRecordsByObject(String, String, List)}.
+     */
+    default List<VectorDocument> listDocumentsByObject(String objectType, String objectId) {
+        return List.of();
+    }
+
     private static VectorDocument toObjectScopedDocument(String objectType, String objectId, VectorRecord record) {
         VectorDocument document = toLegacyDocument(record);
         Map<String, Object> metadata = new LinkedHashMap<>(document.metadata());
@@ -126,6 +162,16 @@ public interface VectorStorePort {
         return false;
     }
 
+    /**
+     * Runs the sample queries with full-precision search and with the store's compressed
+     * (quantized) search mode, and reports recall of the latter plus the mean latency of both.
+     * <p>
+     * Stores without a compressed mode do not implement this.
+     */
+    default VectorSearchComparison compareSearchModes(List<VectorSearchRequest> queries) {
+        throw new UnsupportedOperationException("compareSearchModes is not implemented");
+    }
+
     /**
      * 지정된 objectType/objectId 조합의 벡터가 존재하는지 여부를 반환한다.
      */
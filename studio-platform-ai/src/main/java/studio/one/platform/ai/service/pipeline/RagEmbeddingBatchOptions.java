@@ -0,0 +1,51 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Runtime options for the batched RAG embedding stage.
+ *
+ * <p>{@code batchSize} bounds the number of texts sent in a single provider call,
+ * {@code maxConcurrency} bounds the number of batches in flight per resolved
+ * embedding profile, and {@code requestsPerSecond} throttles provider calls
+ * ({@code 0} disables throttling).
+ */
+public record RagEmbeddingBatchOptions(
+        int batchSize,
+        int maxConcurrency,
+        int requestsPerSecond,
+        Duration rateLimitTimeout) {
+
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+    public static final int DEFAULT_REQUESTS_PER_SECOND = 0;
+    public static final Duration DEFAULT_RATE_LIMIT_TIMEOUT = Duration.ofSeconds(30);
+
+    public RagEmbeddingBatchOptions {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        if (requestsPerSecond < 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be greater than or equal to 0");
+        }
+        rateLimitTimeout = rateLimitTimeout == null ? DEFAULT_RATE_LIMIT_TIMEOUT : rateLimitTimeout;
+        if (rateLimitTimeout.isNegative()) {
+            throw new IllegalArgumentException("rateLimitTimeout must not be negative");
+        }
+    }
+
+    public static RagEmbeddingBatchOptions defaults() {
+        return new RagEmbeddingBatchOptions(
+                DEFAULT_BATCH_SIZE,
+                DEFAULT_MAX_CONCURRENCY,
+                DEFAULT_REQUESTS_PER_SECOND,
+                DEFAULT_RATE_LIMIT_TIMEOUT);
+    }
+
+    public boolean rateLimited() {
+        return requestsPerSecond > 0;
+    }
+}
@@ -0,0 +1,58 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Runtime options for claiming RAG index jobs from a shared repository.
+ *
+ * <p>{@code nodeId} identifies the lease owner. A claimed job is leased for
+ * {@code leaseDuration} and renewed every {@code heartbeatInterval}; a lease that
+ * is not renewed in time is recovered by any node and the job is re-queued until
+ * it has been claimed {@code maxAttempts} times. {@code pollInterval} is the
+ * delay between claim attempts when the queue is idle.
+ */
+public record RagIndexJobClaimOptions(
+        String nodeId,
+        Duration leaseDuration,
+        Duration heartbeatInterval,
+        Duration pollInterval,
+        int maxAttempts) {
+
+    public static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(60);
+    public static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(2);
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    public RagIndexJobClaimOptions {
+        Objects.requireNonNull(nodeId, "nodeId");
+        if (nodeId.isBlank()) {
+            throw new IllegalArgumentException("nodeId must not be blank");
+        }
+        leaseDuration = leaseDuration == null ? DEFAULT_LEASE_DURATION : leaseDuration;
+        heartbeatInterval = heartbeatInterval == null ? DEFAULT_HEARTBEAT_INTERVAL : heartbeatInterval;
+        pollInterval = pollInterval == null ? DEFAULT_POLL_INTERVAL : pollInterval;
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("leaseDuration must be positive");
+        }
+        if (heartbeatInterval.isNegative() || heartbeatInterval.isZero()
+                || heartbeatInterval.compareTo(leaseDuration) >= 0) {
+            throw new IllegalArgumentException("heartbeatInterval must be positive and shorter than leaseDuration");
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0");
+        }
+    }
+
+    public static RagIndexJobClaimOptions defaults(String nodeId) {
+        return new RagIndexJobClaimOptions(
+                nodeId,
+                DEFAULT_LEASE_DURATION,
+                DEFAULT_HEARTBEAT_INTERVAL,
+                DEFAULT_POLL_INTERVAL,
+                DEFAULT_MAX_ATTEMPTS);
+    }
+}
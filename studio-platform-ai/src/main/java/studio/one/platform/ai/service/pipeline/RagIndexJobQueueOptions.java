@@ -0,0 +1,41 @@
+package studio.one.platform.ai.service.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Runtime options for the RAG index job queue.
+ *
+ * <p>{@code workers} is the number of jobs executed concurrently and
+ * {@code capacity} bounds the number of queued (not yet running) jobs. When the
+ * queue is full a submission waits up to {@code offerTimeout} for space and is
+ * rejected afterwards ({@link Duration#ZERO} rejects immediately).
+ * {@code virtualThreads} runs workers on virtual threads when the runtime
+ * supports them.
+ */
+public record RagIndexJobQueueOptions(
+        int workers,
+        int capacity,
+        Duration offerTimeout,
+        boolean virtualThreads) {
+
+    public static final int DEFAULT_WORKERS = 2;
+    public static final int DEFAULT_CAPACITY = 100;
+    public static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ZERO;
+
+    public RagIndexJobQueueOptions {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be greater than 0");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        offerTimeout = offerTimeout == null ? DEFAULT_OFFER_TIMEOUT : offerTimeout;
+        if (offerTimeout.isNegative()) {
+            throw new IllegalArgumentException("offerTimeout must not be negative");
+        }
+    }
+
+    public static RagIndexJobQueueOptions defaults() {
+        return new RagIndexJobQueueOptions(DEFAULT_WORKERS, DEFAULT_CAPACITY, DEFAULT_OFFER_TIMEOUT, false);
+    }
+}
@@ -1,5 +1,6 @@
 package studio.one.platform.ai.service.pipeline;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -9,6 +10,8 @@ import studio.one.platform.ai.core.rag.RagIndexJobFilter;
 import studio.one.platform.ai.core.rag.RagIndexJobLog;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPayload;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 import studio.one.platform.ai.core.rag.RagIndexJobStatus;
 import studio.one.platform.ai.core.rag.RagIndexJobStep;
@@ -44,4 +47,79 @@ public interface RagIndexJobRepository {
     RagIndexJobLog appendLog(RagIndexJobLog log);
 
     List<RagIndexJobLog> findLogs(String jobId);
+
+    /**
+     * Persists the original request of a job. Repositories that are not shared
+     * between nodes may ignore it.
+     */
+    default void saveRequest(String jobId, RagIndexJobPayload payload) {
+    }
+
+    default Optional<RagIndexJobPayload> findRequest(String jobId) {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether this repository supports the lease based claiming methods below
+     * and can therefore be shared by several nodes.
+     */
+    default boolean supportsClaiming() {
+        return false;
+    }
+
+    /**
+     * Marks a {@code PENDING} job as claimable by any node.
+     */
+    default void enqueue(String jobId, RagIndexJobPriority priority) {
+        throw new UnsupportedOperationException("enqueue is not implemented");
+    }
+
+    /**
+     * Atomically claims up to {@code limit} enqueued jobs for {@code owner}, highest
+     * priority and oldest first. Jobs locked by another node are skipped.
+     */
+    default List<String> claimNext(String owner, Duration leaseDuration, int limit) {
+        return List.of();
+    }
+
+    /**
+     * Claims a specific {@code PENDING} job for {@code owner}.
+     *
+     * @return {@code false} if another owner holds a live lease on the job
+     */
+    default boolean claim(String jobId, String owner, Duration leaseDuration) {
+        return true;
+    }
+
+    /**
+     * Extends the lease of an active job.
+     *
+     * @return {@code false} if {@code owner} no longer holds the lease or the job is no longer active
+     */
+    default boolean renewLease(String jobId, String owner, Duration leaseDuration) {
+        return true;
+    }
+
+    default void releaseLease(String jobId, String owner) {
+    }
+
+    /**
+     * Returns a {@code PENDING} job that {@code owner} claimed but could not start to the shared
+     * queue. The stored priority is kept and the claim is not counted as an attempt.
+     *
+     * @return {@code false} if {@code owner} no longer holds the lease or the job is no longer pending
+     */
+    default boolean requeueClaimed(String jobId, String owner) {
+        return false;
+    }
+
+    /**
+     * Re-queues active jobs whose lease has expired, or fails them once they have been
+     * claimed {@code maxAttempts} times.
+     *
+     * @return the number of recovered jobs
+     */
+    default int recoverExpiredLeases(int maxAttempts) {
+        return 0;
+    }
 }
@@ -9,6 +9,8 @@ import studio.one.platform.ai.core.rag.RagIndexJobFilter;
 import studio.one.platform.ai.core.rag.RagIndexJobLog;
 import studio.one.platform.ai.core.rag.RagIndexJobPage;
 import studio.one.platform.ai.core.rag.RagIndexJobPageRequest;
+import studio.one.platform.ai.core.rag.RagIndexJobPriority;
+import studio.one.platform.ai.core.rag.RagIndexJobQueueStats;
 import studio.one.platform.ai.core.rag.RagIndexJobSort;
 
 public interface RagIndexJobService {
@@ -29,6 +31,30 @@ public interface RagIndexJobService {
 
     RagIndexJob retryJob(String jobId);
 
+    /**
+     * Queues a {@code PENDING} job for asynchronous execution and returns immediately.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the queue is full
+     * @throws UnsupportedOperationException if the service has no job queue
+     */
+    default RagIndexJob submitJob(String jobId, RagIndexJobPriority priority) {
+        throw new UnsupportedOperationException("submitJob is not implemented");
+    }
+
+    /**
+     * Resets a finished job and queues it for asynchronous re-execution.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the queue is full
+     * @throws UnsupportedOperationException if the service has no job queue
+     */
+    default RagIndexJob submitRetry(String jobId, RagIndexJobPriority priority) {
+        throw new UnsupportedOperationException("submitRetry is not implemented");
+    }
+
+    default Optional<RagIndexJobQueueStats> queueStats() {
+        return Optional.empty();
+    }
+
     Optional<RagIndexJob> getJob(String jobId);
 
     RagIndexJobPage listJobs(RagIndexJobFilter filter, RagIndexJobPageRequest pageable);
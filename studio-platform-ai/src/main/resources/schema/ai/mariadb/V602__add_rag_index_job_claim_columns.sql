@@ -0,0 +1,13 @@
+ALTER TABLE tb_ai_rag_index_job
+  ADD COLUMN request_payload  TEXT,
+  ADD COLUMN priority         INT NOT NULL DEFAULT 1,
+  ADD COLUMN enqueued_at      TIMESTAMP NULL,
+  ADD COLUMN lease_owner      VARCHAR(200),
+  ADD COLUMN lease_expires_at TIMESTAMP NULL,
+  ADD COLUMN attempt_count    INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_ai_rag_job_claim
+    ON tb_ai_rag_index_job(status, priority, enqueued_at);
+
+CREATE INDEX idx_ai_rag_job_lease
+    ON tb_ai_rag_index_job(lease_expires_at);
@@ -0,0 +1,11 @@
+-- hybrid 검색의 lexical 후보를 GIN 인덱스로 찾기 위해 tsvector 를 미리 계산해 둔다.
+-- 검색 쿼리는 같은 'simple' 설정으로 plainto_tsquery 를 만들어야 인덱스를 사용한다.
+ALTER TABLE tb_ai_document_chunk
+  ADD COLUMN text_search TSVECTOR
+  GENERATED ALWAYS AS (
+    to_tsvector('simple'::regconfig, COALESCE(text, '') || ' ' || COALESCE(metadata->>'keywordsText', ''))
+  ) STORED;
+
+CREATE INDEX idx_ai_chunk_text_search
+    ON tb_ai_document_chunk
+    USING gin (text_search);
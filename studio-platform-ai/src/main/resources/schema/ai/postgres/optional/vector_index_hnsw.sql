@@ -0,0 +1,18 @@
+-- =================================================
+-- PACKAGE: AI (OPTIONAL, pgvector 0.5.0+)
+-- CREATE : 2026.10.17
+-- =================================================
+-- tb_ai_document_chunk.embedding 의 ivfflat 인덱스를 HNSW 인덱스로 교체한다.
+-- Flyway 가 자동 적용하지 않으므로 점검 시간에 수동으로 실행한다.
+-- opclass 는 studio.ai.vector.postgres.metric 과 같아야 한다.
+--   cosine        -> vector_cosine_ops (<=>)
+--   l2            -> vector_l2_ops     (<->)
+--   inner-product -> vector_ip_ops     (<#>)
+-- 검색 품질/속도는 studio.ai.vector.postgres.ef-search (기본 40) 로 조정한다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_chunk_vector_hnsw_cosine
+ON tb_ai_document_chunk
+USING hnsw (embedding vector_cosine_ops)
+WITH (m = 16, ef_construction = 64);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_ai_chunk_vector;
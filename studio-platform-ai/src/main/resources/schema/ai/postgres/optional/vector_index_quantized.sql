@@ -0,0 +1,22 @@
+-- =================================================
+-- PACKAGE: AI (OPTIONAL, pgvector 0.7.0+)
+-- CREATE : 2026.10.17
+-- =================================================
+-- tb_ai_document_chunk.embedding 의 양자화 표현식 인덱스를 만든다.
+-- studio.ai.vector.postgres.quantization.mode 에 맞는 인덱스 하나만 실행한다.
+-- 표현식과 차원(768)은 quantization.dimension 과 같아야 planner 가 인덱스를 사용한다.
+-- 1차 후보를 이 인덱스로 찾고 embedding 원본으로 정확한 거리를 다시 계산하므로
+-- 양자화 인덱스가 준비된 뒤에는 전체 정밀도 인덱스(idx_ai_chunk_vector*)를 지워도 된다.
+
+-- halfvec (2 bytes/dim). opclass 는 metric 과 같아야 한다.
+--   cosine -> halfvec_cosine_ops, l2 -> halfvec_l2_ops, inner-product -> halfvec_ip_ops
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_chunk_halfvec_hnsw_cosine
+ON tb_ai_document_chunk
+USING hnsw ((embedding::halfvec(768)) halfvec_cosine_ops)
+WITH (m = 16, ef_construction = 64);
+
+-- binary (1 bit/dim, Hamming). metric 과 무관하며 정규화된 embedding 에서 효과가 좋다.
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_chunk_binary_hnsw_hamming
+-- ON tb_ai_document_chunk
+-- USING hnsw ((binary_quantize(embedding)::bit(768)) bit_hamming_ops)
+-- WITH (m = 16, ef_construction = 64);
@@ -0,0 +1,70 @@
+package studio.one.platform.ai.core.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import studio.one.platform.ai.core.vector.VectorRecord;
+
+class FloatVectorContractTest {
+
+    @Test
+    void copiesInputArrayAndExposesReadOnlyDoubleView() {
+        float[] source = {0.1f, 0.2f, 0.3f};
+        FloatVector vector = FloatVector.of(source);
+        source[0] = 9f;
+
+        assertThat(vector.dimension()).isEqualTo(3);
+        assertThat(vector.get(0)).isEqualTo(0.1f);
+        assertThat(vector.asList()).containsExactly(0.1, 0.2, 0.3);
+        assertThat(List.of(0.1, 0.2, 0.3)).isEqualTo(vector.asList());
+        assertThat(vector.asList()).hasSameHashCodeAs(List.of(0.1, 0.2, 0.3));
+        assertThat(vector.asList()).isSameAs(vector.asList());
+        assertThatThrownBy(() -> vector.asList().set(0, 1.0))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void toArrayReturnsDefensiveCopy() {
+        FloatVector vector = FloatVector.of(List.of(1.0, 2.0));
+        vector.toArray()[0] = 5f;
+
+        assertThat(vector.toArray()).containsExactly(1f, 2f);
+        assertThat(vector).isEqualTo(FloatVector.of(new float[] {1f, 2f}));
+    }
+
+    @Test
+    void backingArrayIsNotCopied() {
+        FloatVector vector = FloatVector.of(new float[] {1f, 2f});
+
+        assertThat(vector.backingArray()).isSameAs(vector.backingArray()).containsExactly(1f, 2f);
+    }
+
+    @Test
+    void emptyInputsShareEmptyInstance() {
+        assertThat(FloatVector.of(List.of())).isSameAs(FloatVector.empty());
+        assertThat(FloatVector.of(new float[0]).isEmpty()).isTrue();
+    }
+
+    @Test
+    void embeddingVectorAndRecordKeepFloatStorage() {
+        EmbeddingVector embedding = new EmbeddingVector("chunk-1", new float[] {0.5f, 0.25f});
+        VectorRecord record = VectorRecord.builder()
+                .id("chunk-1")
+                .documentId("doc-1")
+                .chunkId("chunk-1")
+                .contentHash("hash-1")
+                .text("hello")
+                .embedding(embedding.vector())
+                .embeddingModel("text-embedding-3-small")
+                .embeddingDimension(2)
+                .build();
+
+        assertThat(embedding.values()).containsExactly(0.5, 0.25);
+        assertThat(record.embeddingVector()).isSameAs(embedding.vector());
+        assertThat(record.embedding()).containsExactly(0.5, 0.25);
+    }
+}
@@ -69,6 +69,22 @@ class VectorContractsTest {
         assertThat(request.includeMetadata()).isFalse();
     }
 
+    @Test
+    void vectorSearchRequestCarriesAnnTuningOnCopies() {
+        VectorSearchRequest request = new VectorSearchRequest(List.of(0.1d, 0.2d), 5);
+
+        VectorSearchRequest tuned = request.withAnnTuning(80, 10);
+
+        assertThat(request.efSearch()).isNull();
+        assertThat(request.probes()).isNull();
+        assertThat(tuned.efSearch()).isEqualTo(80);
+        assertThat(tuned.probes()).isEqualTo(10);
+        assertThat(tuned.topK()).isEqualTo(5);
+        assertThat(tuned.queryVector()).containsExactly(0.1d, 0.2d);
+        assertThatThrownBy(() -> request.withAnnTuning(0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @SuppressWarnings("deprecation")
     private static List<Double> legacyEmbedding(VectorSearchRequest request) {
         return request.embedding();
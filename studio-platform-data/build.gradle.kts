@@ -16,6 +16,7 @@ dependencies {
     implementation(project(":studio-platform"))
     compileOnly("org.springframework.boot:spring-boot-starter-web")
     testImplementation("org.springframework.boot:spring-boot-starter-web")
+    testImplementation("org.springframework.data:spring-data-commons")
     compileOnly("org.springframework.boot:spring-boot-starter-data-jpa")  
     implementation("commons-codec:commons-codec")
     implementation ("org.freemarker:freemarker:${property("freemarkerVersion")}")  
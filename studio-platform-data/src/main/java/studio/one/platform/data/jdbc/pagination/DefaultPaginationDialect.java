@@ -7,6 +7,12 @@ public class DefaultPaginationDialect implements PaginationDialect {
         throw new UnsupportedOperationException("Pagination is not supported for this database");
     }
 
+    @Override
+    public String applyLimit(String sql, int limit) {
+        // OFFSET 이 없는 keyset 조회는 SQL:2008 표준 구문으로 처리한다.
+        return sql + " FETCH FIRST " + limit + " ROWS ONLY";
+    }
+
     @Override
     public boolean supportsPagination() {
         return false;
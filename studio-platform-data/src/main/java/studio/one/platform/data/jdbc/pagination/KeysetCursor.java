@@ -0,0 +1,121 @@
+package studio.one.platform.data.jdbc.pagination;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * keyset 정렬 컬럼 값을 불투명한 continuation token 으로 인코딩/디코딩한다.
+ * <p>
+ * token 에는 정렬 조건 {@link KeysetSort#signature() signature}의 checksum 이 포함되어, 다른 정렬 조건으로
+ * 만든 cursor 는 거부된다. 값은 {@code Long}, {@code BigDecimal}, {@code String}, {@code Boolean},
+ * {@code Timestamp}로 복원된다.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public final class KeysetCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(String signature, List<?> values) {
+        StringBuilder sb = new StringBuilder(checksum(signature));
+        for (Object value : values) {
+            sb.append('.').append(type(value)).append(ENCODER.encodeToString(text(value).getBytes(StandardCharsets.UTF_8)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException token 형식이 잘못되었거나 다른 정렬 조건으로 만들어진 경우
+     */
+    public static List<Object> decode(String token, String signature, int expectedSize) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != expectedSize + 1 || !parts[0].equals(checksum(signature))) {
+            throw new IllegalArgumentException("Invalid or stale keyset cursor");
+        }
+        List<Object> values = new ArrayList<>(expectedSize);
+        try {
+            for (int i = 1; i < parts.length; i++) {
+                String part = parts[i];
+                if (part.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid keyset cursor");
+                }
+                String text = new String(DECODER.decode(part.substring(1)), StandardCharsets.UTF_8);
+                values.add(value(part.charAt(0), text));
+            }
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid keyset cursor", ex);
+        }
+        return values;
+    }
+
+    private static char type(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return 'l';
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof Double || value instanceof Float) {
+            return 'd';
+        }
+        if (value instanceof String) {
+            return 's';
+        }
+        if (value instanceof Boolean) {
+            return 'b';
+        }
+        if (value instanceof java.util.Date || value instanceof Instant || value instanceof OffsetDateTime
+                || value instanceof LocalDateTime) {
+            return 't';
+        }
+        throw new IllegalArgumentException("Unsupported keyset value type: " + value.getClass().getName());
+    }
+
+    private static String text(Object value) {
+        if (value instanceof java.util.Date date) {
+            return (date instanceof Timestamp ts ? ts.toInstant() : date.toInstant()).toString();
+        }
+        if (value instanceof OffsetDateTime odt) {
+            return odt.toInstant().toString();
+        }
+        if (value instanceof LocalDateTime ldt) {
+            return Timestamp.valueOf(ldt).toInstant().toString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return new BigDecimal(value.toString()).toPlainString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    private static Object value(char type, String text) {
+        return switch (type) {
+            case 'l' -> Long.valueOf(text);
+            case 'd' -> new BigDecimal(text);
+            case 's' -> text;
+            case 'b' -> Boolean.valueOf(text);
+            case 't' -> Timestamp.from(Instant.parse(text));
+            default -> throw new IllegalArgumentException("Unknown keyset value type: " + type);
+        };
+    }
+
+    private static String checksum(String signature) {
+        CRC32 crc = new CRC32();
+        crc.update(signature.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
@@ -0,0 +1,29 @@
+package studio.one.platform.data.jdbc.pagination;
+
+import java.util.List;
+
+/**
+ * keyset(seek) 페이지 결과.
+ *
+ * @param content       페이지 내용
+ * @param nextCursor    다음 페이지 continuation token (마지막 페이지이면 {@code null})
+ * @param totalElements 전체 건수 ({@link PageTotalMode#NONE} 이거나 추정할 수 없으면 {@code null})
+ * @param totalMode     {@code totalElements}를 계산한 방식
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor, Long totalElements, PageTotalMode totalMode) {
+
+    public KeysetPage {
+        content = content == null ? List.of() : List.copyOf(content);
+        totalMode = totalElements == null ? PageTotalMode.NONE : totalMode;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isTotalEstimated() {
+        return totalMode == PageTotalMode.ESTIMATED;
+    }
+}
@@ -0,0 +1,46 @@
+package studio.one.platform.data.jdbc.pagination;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * keyset(seek) 페이지 요청.
+ * <p>
+ * 첫 페이지는 {@code cursor}가 {@code null}이고, 다음 페이지는 이전 {@link KeysetPage#nextCursor()}를 그대로 전달한다.
+ * cursor는 정렬 컬럼 값을 담은 불투명 토큰이므로 같은 {@code sort}와 함께 사용해야 한다.
+ *
+ * @param cursor    이전 페이지가 반환한 continuation token (첫 페이지는 {@code null})
+ * @param size      페이지 크기 (1 이상)
+ * @param sort      정렬 조건 (unsorted 이면 저장소 기본 키 순서)
+ * @param totalMode 전체 건수 계산 방식
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public record KeysetPageRequest(String cursor, int size, Sort sort, PageTotalMode totalMode) {
+
+    public KeysetPageRequest {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        if (cursor != null && cursor.isBlank()) {
+            cursor = null;
+        }
+        sort = sort == null ? Sort.unsorted() : sort;
+        totalMode = totalMode == null ? PageTotalMode.NONE : totalMode;
+    }
+
+    public static KeysetPageRequest first(int size) {
+        return new KeysetPageRequest(null, size, Sort.unsorted(), PageTotalMode.NONE);
+    }
+
+    public static KeysetPageRequest first(int size, Sort sort) {
+        return new KeysetPageRequest(null, size, sort, PageTotalMode.NONE);
+    }
+
+    public KeysetPageRequest next(String nextCursor) {
+        return new KeysetPageRequest(nextCursor, size, sort, totalMode);
+    }
+
+    public KeysetPageRequest withTotal(PageTotalMode mode) {
+        return new KeysetPageRequest(cursor, size, sort, mode);
+    }
+}
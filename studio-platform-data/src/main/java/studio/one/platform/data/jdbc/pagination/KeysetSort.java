@@ -0,0 +1,146 @@
+package studio.one.platform.data.jdbc.pagination;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * keyset 페이지의 정렬 컬럼 목록과 seek 조건 SQL.
+ * <p>
+ * 컬럼은 조회 결과의 컬럼 label 이며 값이 {@code null}이 아니어야 한다. 마지막 컬럼은 행을 유일하게 식별하는
+ * tie-breaker 컬럼이다. seek 조건은 row value 비교를 지원하지 않는 Oracle/SQL Server 에서도 동작하도록
+ * {@code (a > :k0 or (a = :k0 and b > :k1))} 형태로 펼쳐서 만든다.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public final class KeysetSort {
+
+    private static final Pattern COLUMN_LABEL = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final List<Column> columns;
+
+    private KeysetSort(List<Column> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * 정렬 조건을 keyset 컬럼으로 변환한다.
+     *
+     * @param sort            요청 정렬 조건
+     * @param columns         정렬 가능한 속성 이름 → 컬럼 label
+     * @param tieBreakerLabel 유일 키 컬럼 label (정렬 조건에 없으면 오름차순으로 덧붙인다)
+     * @throws IllegalArgumentException keyset 정렬을 지원하지 않는 속성인 경우
+     */
+    public static KeysetSort of(Sort sort, Map<String, String> columns, String tieBreakerLabel) {
+        List<Column> resolved = new ArrayList<>();
+        boolean tieBreakerSorted = false;
+        boolean tieBreakerAscending = true;
+        if (sort != null) {
+            for (Sort.Order order : sort) {
+                String label = columns == null ? null : columns.get(order.getProperty());
+                if (label == null) {
+                    throw new IllegalArgumentException("Keyset pagination does not support sorting by " + order.getProperty());
+                }
+                if (resolved.stream().anyMatch(column -> column.label().equals(label))) {
+                    continue;
+                }
+                resolved.add(new Column(label, order.isAscending()));
+                if (label.equals(tieBreakerLabel)) {
+                    tieBreakerSorted = true;
+                    tieBreakerAscending = order.isAscending();
+                    break;
+                }
+            }
+        }
+        if (!tieBreakerSorted) {
+            resolved.add(new Column(tieBreakerLabel, tieBreakerAscending));
+        }
+        return new KeysetSort(resolved);
+    }
+
+    public List<Column> columns() {
+        return columns;
+    }
+
+    /** cursor 가 이 정렬 조건으로 만들어졌는지 확인할 때 쓰는 식별 문자열. */
+    public String signature() {
+        StringBuilder sb = new StringBuilder();
+        for (Column column : columns) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(column.label()).append(column.ascending() ? ":asc" : ":desc");
+        }
+        return sb.toString();
+    }
+
+    public String orderByClause() {
+        StringBuilder sb = new StringBuilder(" order by ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Column column = columns.get(i);
+            sb.append(column.label()).append(column.ascending() ? " asc" : " desc");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 이전 페이지 마지막 행 다음부터 조회하는 조건을 만든다. 파라미터 이름은 {@code paramPrefix + index} 이다.
+     */
+    public String seekPredicate(String paramPrefix) {
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sb.append(" or ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; j++) {
+                sb.append(columns.get(j).label()).append(" = :").append(paramPrefix).append(j).append(" and ");
+            }
+            Column column = columns.get(i);
+            sb.append(column.label()).append(column.ascending() ? " > :" : " < :").append(paramPrefix).append(i);
+            sb.append(')');
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * 현재 행의 keyset 컬럼 값을 읽는다.
+     *
+     * @throws IllegalStateException keyset 컬럼 값이 {@code null}인 경우
+     */
+    public List<Object> read(ResultSet rs) throws SQLException {
+        List<Object> values = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            Object value = rs.getObject(column.label());
+            if (value == null) {
+                throw new IllegalStateException("Keyset column " + column.label() + " must not be null");
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * @param label     조회 결과 컬럼 label
+     * @param ascending 오름차순 여부
+     */
+    public record Column(String label, boolean ascending) {
+
+        public Column {
+            Objects.requireNonNull(label, "label");
+            if (!COLUMN_LABEL.matcher(label).matches()) {
+                throw new IllegalArgumentException("Invalid keyset column label: " + label);
+            }
+        }
+    }
+}
@@ -10,4 +10,14 @@ public class MySqlPaginationDialect implements PaginationDialect {
         sb.append(" LIMIT ").append(offset).append(", ").append(limit);
         return sb.toString();
     }
+
+    @Override
+    public String applyLimit(String sql, int limit) {
+        return sql + " LIMIT " + limit;
+    }
+
+    @Override
+    public String estimatedRowCountSql() {
+        return "SELECT table_rows FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = :table";
+    }
 }
\ No newline at end of file
@@ -11,4 +11,14 @@ public class OraclePaginationDialect implements PaginationDialect {
                 "  WHERE ROWNUM <= " + end +
                 ") WHERE rnum > " + offset;
     }
+
+    @Override
+    public String applyLimit(String sql, int limit) {
+        return "SELECT * FROM (" + sql + ") WHERE ROWNUM <= " + limit;
+    }
+
+    @Override
+    public String estimatedRowCountSql() {
+        return "SELECT num_rows FROM user_tables WHERE table_name = UPPER(:table)";
+    }
 }
\ No newline at end of file
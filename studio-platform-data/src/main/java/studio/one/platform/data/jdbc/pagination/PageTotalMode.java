@@ -0,0 +1,22 @@
+package studio.one.platform.data.jdbc.pagination;
+
+/**
+ * keyset 페이지 조회 시 전체 건수를 계산하는 방식.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public enum PageTotalMode {
+
+    /** {@code count(*)} 쿼리로 정확한 건수를 계산한다. */
+    EXACT,
+
+    /**
+     * DB 통계(예: PostgreSQL {@code pg_class.reltuples})의 테이블 행 수 추정치를 사용한다.
+     * 조건이 없는 전체 목록에만 의미가 있으며, 추정할 수 없으면 건수를 제공하지 않는다.
+     */
+    ESTIMATED,
+
+    /** 건수를 계산하지 않는다. */
+    NONE
+}
@@ -53,4 +53,26 @@ public interface PaginationDialect {
     default boolean supportsPagination() {
         return true;
     }
+
+    /**
+     * keyset(seek) 페이지처럼 OFFSET 없이 앞쪽 {@code limit}건만 가져오는 SQL을 만든다.
+     *
+     * @param sql   원본 SQL (ORDER BY 포함)
+     * @param limit 가져올 행 수
+     * @return DB에 맞게 변환된 SQL
+     * @since 2026-10-17
+     */
+    default String applyLimit(String sql, int limit) {
+        return applyPagination(sql, 0, limit);
+    }
+
+    /**
+     * DB 통계에서 테이블 행 수 추정치를 조회하는 SQL. 테이블 이름은 {@code :table} 파라미터로 전달되며
+     * 결과는 단일 숫자 컬럼이다. 추정치를 제공하지 않는 DB 이면 {@code null}을 반환한다.
+     *
+     * @since 2026-10-17
+     */
+    default String estimatedRowCountSql() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -9,4 +9,15 @@ public class PostgresPaginationDialect implements PaginationDialect {
         sb.append(" LIMIT ").append(limit).append(" OFFSET ").append(offset);
         return sb.toString();
     }
+
+    @Override
+    public String applyLimit(String sql, int limit) {
+        return sql + " LIMIT " + limit;
+    }
+
+    @Override
+    public String estimatedRowCountSql() {
+        // ANALYZE 전에는 reltuples 가 -1(PostgreSQL 14+) 이므로 상위에서 음수를 무시한다.
+        return "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(:table)";
+    }
 }
\ No newline at end of file
@@ -12,4 +12,9 @@ public class SqlServerPaginationDialect implements PaginationDialect {
         }
         return trimmed + " OFFSET " + offset + " ROWS FETCH NEXT " + limit + " ROWS ONLY";
     }
+
+    @Override
+    public String estimatedRowCountSql() {
+        return "SELECT SUM(p.rows) FROM sys.partitions p WHERE p.object_id = OBJECT_ID(:table) AND p.index_id IN (0, 1)";
+    }
 }
\ No newline at end of file
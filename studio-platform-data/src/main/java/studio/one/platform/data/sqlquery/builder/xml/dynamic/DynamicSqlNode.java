@@ -30,6 +30,7 @@ import studio.one.platform.data.sqlquery.factory.impl.StaticModels;
 import freemarker.ext.beans.BeansWrapper;
 import freemarker.ext.beans.BeansWrapperBuilder;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import freemarker.template.TemplateException;
 
 /**
@@ -42,6 +43,9 @@ import freemarker.template.TemplateException;
  * - Map<?, ?> → Map<String, Object> 변환 로직 안전성 향상
  * - Freemarker 템플릿 예외 처리 개선
  * - BeansWrapper 인스턴스 재사용 최적화
+ * 2026-10-17 :
+ * - 실행마다 Freemarker 템플릿을 파싱하지 않고 노드별로 한 번 컴파일한 {@link Template} 을 재사용
+ * - 공유 {@link Configuration} 을 {@link #setConfiguration(Configuration)} 으로 교체할 수 있도록 변경
  */
 public class DynamicSqlNode implements SqlNode {
 
@@ -49,7 +53,38 @@ public class DynamicSqlNode implements SqlNode {
 		VELOCITY, FREEMARKER
 	}
 	
-	private static BeansWrapper wrapper = new BeansWrapperBuilder(Configuration.VERSION_2_3_25).build();
+	private static volatile BeansWrapper wrapper = new BeansWrapperBuilder(Configuration.VERSION_2_3_25).build();
+
+	private static volatile Configuration configuration = createConfiguration(wrapper);
+
+	/**
+	 * 동적 SQL 템플릿 컴파일에 사용하는 기본 {@link Configuration} 을 생성한다.
+	 */
+	public static Configuration createConfiguration(BeansWrapper objectWrapper) {
+		Configuration cfg = new Configuration(Configuration.VERSION_2_3_25);
+		cfg.setObjectWrapper(objectWrapper);
+		cfg.setNumberFormat("computer");
+		cfg.setLocalizedLookup(false);
+		return cfg;
+	}
+
+	public static Configuration getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * 모든 동적 SQL 노드가 공유하는 {@link Configuration} 을 교체한다. 이미 컴파일된 템플릿은 다음 실행 시 새
+	 * 설정으로 다시 컴파일된다. {@code BeansWrapper} 가 지정되어 있으면 모델 래핑에도 같은 wrapper 를 사용한다.
+	 */
+	public static void setConfiguration(Configuration configuration) {
+		if (configuration == null) {
+			throw new IllegalArgumentException("configuration must not be null");
+		}
+		if (configuration.getObjectWrapper() instanceof BeansWrapper beansWrapper) {
+			wrapper = beansWrapper;
+		}
+		DynamicSqlNode.configuration = configuration;
+	}
 	
 	protected static void populateStatics(Map<String, Object> model) {
 		model.put("enums", wrapper.getEnumModels());
@@ -63,6 +98,8 @@ public class DynamicSqlNode implements SqlNode {
 
 	private Language language = Language.FREEMARKER;
 
+	private volatile Template template;
+
 	public DynamicSqlNode(String text) {
 		this.text = text;
 	}
@@ -98,16 +135,13 @@ public class DynamicSqlNode implements SqlNode {
 	}
 
 	protected String processTemplate(Map<String, Object> model) {
-		StringReader reader = new StringReader(text);
 		StringWriter writer = new StringWriter();
 		if( language == Language.FREEMARKER ){
 			try { 
 				populateStatics(model);
 				freemarker.template.SimpleHash root = new freemarker.template.SimpleHash(wrapper);
 				root.putAll(model);
-				freemarker.template.Template template = new freemarker.template.Template("dynamic", reader, null);
-				template.setNumberFormat("computer"); 
-				template.process(root, writer);
+				getTemplate().process(root, writer);
 			} catch (IOException  | TemplateException e) {
 				log.error("Freemarker 처리 중 오류 발생: {}", e.getMessage(), e);
 			} 
@@ -115,6 +149,25 @@ public class DynamicSqlNode implements SqlNode {
 		return writer.toString();
 	}
 
+	/**
+	 * 컴파일된 템플릿을 반환한다. 최초 실행 시 또는 공유 {@link Configuration} 이 교체된 경우에만 파싱한다.
+	 */
+	Template getTemplate() throws IOException {
+		Configuration cfg = configuration;
+		Template compiled = template;
+		if (compiled == null || compiled.getConfiguration() != cfg) {
+			synchronized (this) {
+				compiled = template;
+				if (compiled == null || compiled.getConfiguration() != cfg) {
+					compiled = new Template("dynamic", new StringReader(text), cfg);
+					compiled.setNumberFormat("computer");
+					template = compiled;
+				}
+			}
+		}
+		return compiled;
+	}
+
 	@Override
 	public String toString() {
 		return "dynamic[" + text + "]";
@@ -0,0 +1,78 @@
+package studio.one.platform.data.jdbc.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class KeysetPaginationTest {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "id", "ID",
+            "name", "NAME",
+            "created", "CREATED_AT");
+
+    @Test
+    void sortAppendsTieBreakerAndExpandsSeekPredicate() {
+        KeysetSort sort = KeysetSort.of(Sort.by(Sort.Order.desc("created"), Sort.Order.asc("name")), COLUMNS, "ID");
+
+        assertThat(sort.orderByClause()).isEqualTo(" order by CREATED_AT desc, NAME asc, ID asc");
+        assertThat(sort.seekPredicate("k"))
+                .isEqualTo("((CREATED_AT < :k0) or (CREATED_AT = :k0 and NAME > :k1)"
+                        + " or (CREATED_AT = :k0 and NAME = :k1 and ID > :k2))");
+    }
+
+    @Test
+    void sortStopsAtTieBreakerAndKeepsItsDirection() {
+        KeysetSort sort = KeysetSort.of(Sort.by(Sort.Order.desc("id"), Sort.Order.asc("name")), COLUMNS, "ID");
+
+        assertThat(sort.signature()).isEqualTo("ID:desc");
+    }
+
+    @Test
+    void sortRejectsPropertiesWithoutKeysetColumn() {
+        assertThatThrownBy(() -> KeysetSort.of(Sort.by("email"), COLUMNS, "ID"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+    }
+
+    @Test
+    void cursorRoundTripsSupportedValueTypes() {
+        Timestamp created = Timestamp.from(Instant.parse("2026-10-17T01:02:03.123456789Z"));
+        List<Object> values = List.of(42L, "한글.name", created, new BigDecimal("1.50"), true);
+
+        String token = KeysetCursor.encode("sig", values);
+
+        assertThat(KeysetCursor.decode(token, "sig", 5)).containsExactly(42L, "한글.name", created,
+                new BigDecimal("1.50"), true);
+    }
+
+    @Test
+    void cursorRejectsTokensFromOtherSortsOrMalformedInput() {
+        String token = KeysetCursor.encode("ID:asc", List.of(1));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "ID:desc", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(token + ".x!!", "ID:asc", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("garbage", "ID:asc", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void requestNormalizesDefaultsAndRejectsEmptyPages() {
+        KeysetPageRequest request = new KeysetPageRequest(" ", 10, null, null);
+
+        assertThat(request.cursor()).isNull();
+        assertThat(request.sort().isUnsorted()).isTrue();
+        assertThat(request.totalMode()).isEqualTo(PageTotalMode.NONE);
+        assertThatThrownBy(() -> KeysetPageRequest.first(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
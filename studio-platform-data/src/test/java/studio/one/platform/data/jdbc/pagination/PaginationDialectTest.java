@@ -58,4 +58,26 @@ class PaginationDialectTest {
                 .isInstanceOf(UnsupportedOperationException.class)
                 .hasMessageContaining("Pagination is not supported");
     }
+
+    @Test
+    void dialectsApplyLimitWithoutOffset() {
+        String sql = "select * from sample order by id";
+
+        assertThat(new PostgresPaginationDialect().applyLimit(sql, 11)).isEqualTo(sql + " LIMIT 11");
+        assertThat(new MySqlPaginationDialect().applyLimit(sql, 11)).isEqualTo(sql + " LIMIT 11");
+        assertThat(new OraclePaginationDialect().applyLimit(sql, 11))
+                .isEqualTo("SELECT * FROM (" + sql + ") WHERE ROWNUM <= 11");
+        assertThat(new SqlServerPaginationDialect().applyLimit(sql, 11))
+                .isEqualTo(sql + " OFFSET 0 ROWS FETCH NEXT 11 ROWS ONLY");
+        assertThat(new DefaultPaginationDialect().applyLimit(sql, 11)).isEqualTo(sql + " FETCH FIRST 11 ROWS ONLY");
+    }
+
+    @Test
+    void knownDialectsProvideRowCountEstimates() {
+        assertThat(new PostgresPaginationDialect().estimatedRowCountSql()).contains("pg_class").contains(":table");
+        assertThat(new MySqlPaginationDialect().estimatedRowCountSql()).contains("table_rows");
+        assertThat(new OraclePaginationDialect().estimatedRowCountSql()).contains("num_rows");
+        assertThat(new SqlServerPaginationDialect().estimatedRowCountSql()).contains("sys.partitions");
+        assertThat(new DefaultPaginationDialect().estimatedRowCountSql()).isNull();
+    }
 }
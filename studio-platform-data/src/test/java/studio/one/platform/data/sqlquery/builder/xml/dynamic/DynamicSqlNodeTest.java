@@ -0,0 +1,51 @@
+package studio.one.platform.data.sqlquery.builder.xml.dynamic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import freemarker.ext.beans.BeansWrapper;
+import freemarker.template.Configuration;
+
+class DynamicSqlNodeTest {
+
+    private final Configuration original = DynamicSqlNode.getConfiguration();
+
+    @AfterEach
+    void restoreConfiguration() {
+        DynamicSqlNode.setConfiguration(original);
+    }
+
+    @Test
+    void compilesTemplateOnceAndRendersEachExecution() throws Exception {
+        DynamicSqlNode node = new DynamicSqlNode(
+                "select * from users<#if name??> where name = '${name}'</#if> limit ${limit}");
+
+        assertThat(render(node, Map.of("name", "alice", "limit", 1000))).isEqualTo(
+                "select * from users where name = 'alice' limit 1000");
+        assertThat(render(node, Map.of("limit", 5))).isEqualTo("select * from users limit 5");
+        assertThat(node.getTemplate()).isSameAs(node.getTemplate());
+    }
+
+    @Test
+    void recompilesWhenSharedConfigurationIsReplaced() throws Exception {
+        DynamicSqlNode node = new DynamicSqlNode("select ${value}");
+        render(node, Map.of("value", 1));
+
+        Configuration replacement = DynamicSqlNode.createConfiguration(
+                (BeansWrapper) original.getObjectWrapper());
+        DynamicSqlNode.setConfiguration(replacement);
+
+        assertThat(render(node, Map.of("value", 2))).isEqualTo("select 2");
+        assertThat(node.getTemplate().getConfiguration()).isSameAs(replacement);
+    }
+
+    private String render(DynamicSqlNode node, Map<String, Object> parameters) {
+        DynamicContext context = new DynamicContext(parameters);
+        node.apply(context);
+        return context.getSql();
+    }
+}
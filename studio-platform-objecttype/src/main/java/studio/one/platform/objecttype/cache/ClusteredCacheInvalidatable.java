@@ -0,0 +1,42 @@
+package studio.one.platform.objecttype.cache;
+
+import java.util.Objects;
+
+import studio.one.platform.cache.CacheInvalidation;
+import studio.one.platform.cache.CacheInvalidationBus;
+
+/**
+ * 무효화를 {@link CacheInvalidationBus}로 발행해 모든 노드의 로컬 캐시에 적용합니다.
+ * 로컬 캐시는 생성 시 버스에 {@code cacheName}으로 등록됩니다.
+ */
+public class ClusteredCacheInvalidatable implements CacheInvalidatable {
+
+    public static final String REGISTRY_CACHE = "objecttype.registry";
+    public static final String POLICY_CACHE = "objecttype.policy";
+
+    private final CacheInvalidationBus bus;
+    private final String cacheName;
+
+    public ClusteredCacheInvalidatable(CacheInvalidationBus bus, String cacheName, CacheInvalidatable local) {
+        this.bus = Objects.requireNonNull(bus, "bus");
+        this.cacheName = Objects.requireNonNull(cacheName, "cacheName");
+        Objects.requireNonNull(local, "local");
+        bus.subscribe(cacheName, invalidation -> {
+            if (invalidation.isAll()) {
+                local.invalidateAll();
+                return;
+            }
+            invalidation.keys().forEach(key -> local.invalidateType(Integer.parseInt(key)));
+        });
+    }
+
+    @Override
+    public void invalidateAll() {
+        bus.publish(CacheInvalidation.all(cacheName));
+    }
+
+    @Override
+    public void invalidateType(int objectType) {
+        bus.publish(CacheInvalidation.of(cacheName, objectType));
+    }
+}
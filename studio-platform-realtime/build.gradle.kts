@@ -19,4 +19,9 @@ dependencies {
     compileOnly("org.springframework.boot:spring-boot-starter-validation")
     compileOnly("org.springframework.boot:spring-boot-starter-data-redis")
     compileOnly("org.springframework.security:spring-security-oauth2-jose")
+    testImplementation(project(":studio-platform"))
+    testImplementation("org.springframework.boot:spring-boot-starter-data-redis")
+    testImplementation("com.fasterxml.jackson.core:jackson-databind")
+    testImplementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    testImplementation("org.mockito:mockito-core")
 }
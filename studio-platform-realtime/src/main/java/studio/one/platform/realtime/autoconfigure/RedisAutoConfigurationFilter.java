@@ -36,6 +36,9 @@ public class RedisAutoConfigurationFilter implements AutoConfigurationImportFilt
         if (environment == null) {
             return false;
         }
+        if ("redis".equalsIgnoreCase(environment.getProperty("studio.cache.invalidation.type"))) {
+            return false;
+        }
         String key = "studio.realtime.stomp.redis-enabled";
         if (!environment.containsProperty(key)) {
             return false;
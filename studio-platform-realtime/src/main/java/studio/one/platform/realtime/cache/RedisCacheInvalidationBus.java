@@ -0,0 +1,83 @@
+package studio.one.platform.realtime.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.cache.AbstractCacheInvalidationBus;
+import studio.one.platform.cache.CacheInvalidation;
+
+/**
+ * Redis pub/sub으로 캐시 무효화를 모든 노드에 전파하는 버스입니다.
+ * <p>
+ * 발행 시 현재 노드의 handler를 먼저 호출한 뒤 채널로 전송하고, 수신 시 자신이 발행한 메시지는 건너뜁니다.
+ * Redis 전송이 실패해도 로컬 무효화는 적용되며 다른 노드는 캐시 TTL로 수렴합니다.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus extends AbstractCacheInvalidationBus implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, String channel,
+            String nodeId) {
+        super(nodeId);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "redisTemplate");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.channel = Objects.requireNonNull(channel, "channel");
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        CacheInvalidation stamped = stamp(invalidation);
+        deliver(stamped);
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(WireMessage.from(stamped)));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Failed to broadcast cache invalidation for {}: {}", stamped.cacheName(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), WireMessage.class).toInvalidation();
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Skip malformed cache invalidation message: {}", ex.getMessage());
+            return;
+        }
+        if (!isRemote(invalidation)) {
+            return;
+        }
+        deliver(invalidation);
+    }
+
+    /**
+     * 채널로 전송하는 JSON 형식. {@link CacheInvalidation}의 파생 속성은 포함하지 않는다.
+     */
+    record WireMessage(String cacheName, List<String> keys, String origin) {
+
+        static WireMessage from(CacheInvalidation invalidation) {
+            return new WireMessage(invalidation.cacheName(), invalidation.keys(), invalidation.origin());
+        }
+
+        CacheInvalidation toInvalidation() {
+            return new CacheInvalidation(cacheName, keys, origin);
+        }
+    }
+}
@@ -21,6 +21,7 @@
 
 package studio.one.platform.realtime.stomp.config;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -108,4 +109,38 @@ public class RealtimeStompProperties {
      * 기본값은 true로 두어 익명 연결을 허용하지 않는다.
      */
     private boolean rejectAnonymous = true;
+
+    /**
+     * Redis 발행 배치 설정.
+     */
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * destination 별 배치 발행 사용 여부. false 면 envelope 마다 단건 JSON 객체로 발행한다.
+         * 배치(JSON 배열) 형식은 이전 버전 노드가 읽지 못하므로 기본값은 false 이며, 모든 노드를
+         * 교체한 뒤 켠다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 한 Redis 메시지에 담을 최대 envelope 수. 도달하면 즉시 발행한다.
+         */
+        private int maxSize = 100;
+
+        /**
+         * 첫 envelope 이 대기열에 들어간 뒤 배치를 발행하기까지 기다리는 시간.
+         */
+        private Duration flushInterval = Duration.ofMillis(5);
+
+        /**
+         * 같은 대상(사용자/destination)으로 수신된 여러 페이로드를 하나의 STOMP 프레임
+         * ({@code RealtimePayloadBatch})으로 묶을지 여부. 클라이언트가 배치 형식을 처리해야 하므로
+         * 기본값은 false.
+         */
+        private boolean coalesceFrames = false;
+    }
 }
@@ -0,0 +1,18 @@
+package studio.one.platform.realtime.stomp.domain.model;
+
+import java.util.List;
+
+/**
+ * 같은 대상으로 짧은 시간에 몰린 페이로드를 하나의 STOMP 프레임으로 묶은 DTO.
+ * {@code studio.realtime.stomp.batch.coalesce-frames=true} 일 때만 사용된다.
+ */
+public record RealtimePayloadBatch(List<RealtimePayload> items) implements RealtimePayload {
+
+    public RealtimePayloadBatch {
+        items = List.copyOf(items);
+    }
+
+    public int getSize() {
+        return items.size();
+    }
+}
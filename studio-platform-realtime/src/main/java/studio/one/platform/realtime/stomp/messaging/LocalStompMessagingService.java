@@ -24,11 +24,12 @@ package studio.one.platform.realtime.stomp.messaging;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.platform.realtime.stomp.config.RealtimeStompProperties;
 import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
 import studio.one.platform.realtime.stomp.domain.model.RealtimePayload;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+import studio.one.platform.realtime.stomp.redis.RealtimeRedisPublisher;
 
 /**
  *
@@ -41,17 +42,38 @@ import studio.one.platform.realtime.stomp.domain.model.RealtimePayload;
  *   수정일        수정자           수정내용
  *  ---------    --------    ---------------------------
  * 2025-12-19  donghyuck, son: 최초 생성.
+ * 2026-10-17  donghyuck, son: 리플렉션 기반 Redis 발행을 RealtimeRedisPublisher 로 교체.
  * </pre>
  */
 
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class LocalStompMessagingService implements RealtimeMessagingService {
 
+    private static final String LOCAL_TRANSPORT = "local";
+
     private final SimpMessagingTemplate template;
     private final RealtimeStompProperties properties;
-    private final Object redisTemplate;
+    private final RealtimeRedisPublisher redisPublisher;
+    private final RealtimeMetricsRecorder metrics;
+
+    public LocalStompMessagingService(
+            SimpMessagingTemplate template,
+            RealtimeStompProperties properties,
+            RealtimeRedisPublisher redisPublisher) {
+        this(template, properties, redisPublisher, RealtimeMetricsRecorder.noop());
+    }
+
+    public LocalStompMessagingService(
+            SimpMessagingTemplate template,
+            RealtimeStompProperties properties,
+            RealtimeRedisPublisher redisPublisher,
+            RealtimeMetricsRecorder metrics) {
+        this.template = template;
+        this.properties = properties;
+        this.redisPublisher = redisPublisher;
+        this.metrics = metrics == null ? RealtimeMetricsRecorder.noop() : metrics;
+    }
 
     @Override
     public void sendToTopic(String destination, RealtimePayload payload) {
@@ -65,42 +87,34 @@ public class LocalStompMessagingService implements RealtimeMessagingService {
 
     @Override
     public void publish(RealtimeEnvelope envelope) {
-        Object payloadObject = envelope.getPayload();
-        if (!(payloadObject instanceof RealtimePayload payload)) {
+        if (!(envelope.getPayload() instanceof RealtimePayload)) {
             throw new IllegalArgumentException("RealtimeEnvelope payload 는 비어 있을 수 없습니다. DTO를 전달하세요.");
         }
         boolean redisRequested = properties.isRedisEnabled();
-        boolean hasRedis = redisTemplate != null;
+        boolean hasRedis = redisPublisher != null;
 
         // Redis 연계 시: 모든 노드(자기 자신 포함)는 Subscriber 경로로만 전송해 중복을 피한다.
         if (redisRequested && hasRedis) {
-            if (publishWithRedis(envelope)) {
+            try {
+                redisPublisher.publish(envelope, this::dispatchLocal);
                 return;
+            } catch (RuntimeException ex) {
+                log.warn("Redis publish failed. fallback to local send: {}", ex.getMessage());
             }
         }
 
         // Redis 설정이 true지만 빈이 없으면 로컬로 fallback
         if (redisRequested && !hasRedis) {
-            log.warn("studio.realtime.redis-enabled=true 이지만 RedisTemplate 이 없어 로컬 전송으로 fallback 합니다.");
+            log.warn("studio.realtime.redis-enabled=true 이지만 RealtimeRedisPublisher 가 없어 로컬 전송으로 fallback 합니다.");
         }
 
         // Redis 비활성: 현재 노드로 직접 전송
-        dispatchLocal(envelope, payload);
-    }
-
-    private boolean publishWithRedis(RealtimeEnvelope envelope) {
-        try {
-            java.lang.reflect.Method method = redisTemplate.getClass()
-                    .getMethod("convertAndSend", String.class, Object.class);
-            method.invoke(redisTemplate, properties.getRedisChannel(), envelope);
-            return true;
-        } catch (Exception ex) {
-            log.warn("Redis publish failed. fallback to local send: {}", ex.getMessage());
-            return false;
-        }
+        dispatchLocal(envelope);
     }
 
-    private void dispatchLocal(RealtimeEnvelope envelope, RealtimePayload payload) {
+    private void dispatchLocal(RealtimeEnvelope envelope) {
+        RealtimePayload payload = (RealtimePayload) envelope.getPayload();
+        metrics.recordPublish(LOCAL_TRANSPORT, 1);
         if (envelope.getType() == RealtimeEnvelope.MessageType.USER && envelope.getUserId() != null) {
             sendToUser(envelope.getUserId(), envelope.getDestination(), payload);
         } else {
@@ -0,0 +1,43 @@
+package studio.one.platform.realtime.stomp.metrics;
+
+import java.time.Duration;
+
+/**
+ * 실시간 메시징 발행량과 fan-out 지연을 기록한다.
+ */
+public interface RealtimeMetricsRecorder {
+
+    /**
+     * 발행을 기록한다.
+     *
+     * @param transport 전송 경로 (redis, local)
+     * @param envelopes 한 번에 발행된 envelope 수 (Redis 배치 크기)
+     */
+    default void recordPublish(String transport, int envelopes) {
+        // no-op by default
+    }
+
+    /**
+     * Redis 에서 수신한 envelope 의 로컬 STOMP 전달을 기록한다.
+     *
+     * @param type    메시지 타입 (topic, user)
+     * @param latency envelope 생성 시각부터 로컬 브로커 전달까지 걸린 시간
+     */
+    default void recordFanOut(String type, Duration latency) {
+        // no-op by default
+    }
+
+    /**
+     * 로컬 브로커로 보낸 STOMP 프레임을 기록한다.
+     *
+     * @param payloads 프레임에 담긴 페이로드 수
+     */
+    default void recordFrame(int payloads) {
+        // no-op by default
+    }
+
+    static RealtimeMetricsRecorder noop() {
+        return new RealtimeMetricsRecorder() {
+        };
+    }
+}
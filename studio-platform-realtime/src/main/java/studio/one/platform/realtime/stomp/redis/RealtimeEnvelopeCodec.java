@@ -0,0 +1,93 @@
+package studio.one.platform.realtime.stomp.redis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
+
+/**
+ * Redis 채널로 오가는 {@link RealtimeEnvelope} 직렬화 코덱.
+ * <p>
+ * 단건은 JSON 객체, 배치는 미리 직렬화된 envelope 바이트를 그대로 이어 붙인 JSON 배열로
+ * 표현한다. 배치를 만들 때 envelope 을 다시 직렬화하지 않으며, 단건 형식은 기존 노드와
+ * 호환된다.
+ */
+public class RealtimeEnvelopeCodec {
+
+    private static final TypeReference<List<RealtimeEnvelope>> ENVELOPE_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public RealtimeEnvelopeCodec() {
+        this(new ObjectMapper().findAndRegisterModules());
+    }
+
+    public RealtimeEnvelopeCodec(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    public byte[] encode(RealtimeEnvelope envelope) {
+        try {
+            return objectMapper.writeValueAsBytes(envelope);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Realtime envelope serialization failed", ex);
+        }
+    }
+
+    /**
+     * 미리 직렬화된 envelope 들을 하나의 배치 페이로드로 묶는다. 한 건이면 그대로 반환한다.
+     */
+    public byte[] join(List<byte[]> encoded) {
+        if (encoded.size() == 1) {
+            return encoded.get(0);
+        }
+        int length = encoded.size() + 1;
+        for (byte[] bytes : encoded) {
+            length += bytes.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        out.write('[');
+        for (int i = 0; i < encoded.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(encoded.get(i));
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    /**
+     * 단건(JSON 객체) 또는 배치(JSON 배열) 페이로드를 envelope 목록으로 복원한다.
+     */
+    public List<RealtimeEnvelope> decode(byte[] body) throws IOException {
+        if (body == null || body.length == 0) {
+            return List.of();
+        }
+        if (isArray(body)) {
+            return objectMapper.readValue(body, ENVELOPE_LIST);
+        }
+        RealtimeEnvelope envelope = objectMapper.readValue(body, RealtimeEnvelope.class);
+        return envelope == null ? List.of() : List.of(envelope);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    private static boolean isArray(byte[] body) {
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return b == '[';
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package studio.one.platform.realtime.stomp.redis;
+
+import java.util.function.Consumer;
+
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
+
+/**
+ * Redis Pub/Sub 채널로 envelope 을 전파하는 발행자.
+ * <p>
+ * 발행이 실패하면(즉시 또는 배치 flush 시점) 전달되지 못한 envelope 마다 {@code onFailure} 를
+ * 호출해 호출자가 로컬 전송으로 fallback 할 수 있게 한다.
+ */
+public interface RealtimeRedisPublisher {
+
+    void publish(RealtimeEnvelope envelope, Consumer<RealtimeEnvelope> onFailure);
+}
@@ -21,20 +21,28 @@
 
 package studio.one.platform.realtime.stomp.redis;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.SerializationException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
 import studio.one.platform.realtime.stomp.domain.model.RealtimePayload;
+import studio.one.platform.realtime.stomp.domain.model.RealtimePayloadBatch;
 import studio.one.platform.realtime.stomp.messaging.RealtimeMessagingService;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
 
 /**
  *
@@ -47,54 +55,152 @@ import studio.one.platform.realtime.stomp.messaging.RealtimeMessagingService;
  *   수정일        수정자           수정내용
  *  ---------    --------    ---------------------------
  * 2025-12-19  donghyuck, son: 최초 생성.
+ * 2026-10-17  donghyuck, son: 배치 메시지 수신, STOMP 프레임 병합, fan-out 지표 추가.
  * </pre>
  */
 
 @Slf4j
-@RequiredArgsConstructor 
 public class RealtimeRedisSubscriber implements MessageListener {
 
-    private final RedisTemplate<String, RealtimeEnvelope> redisTemplate;
+    private final RealtimeEnvelopeCodec codec;
     private final RealtimeMessagingService messagingService;
     private final ObjectMapper objectMapper;
+    private final RealtimeMetricsRecorder metrics;
+    private final boolean coalesceFrames;
+    private final Clock clock;
+
+    public RealtimeRedisSubscriber(
+            RealtimeEnvelopeCodec codec,
+            RealtimeMessagingService messagingService,
+            ObjectMapper objectMapper) {
+        this(codec, messagingService, objectMapper, RealtimeMetricsRecorder.noop(), false, Clock.systemUTC());
+    }
+
+    public RealtimeRedisSubscriber(
+            RealtimeEnvelopeCodec codec,
+            RealtimeMessagingService messagingService,
+            ObjectMapper objectMapper,
+            RealtimeMetricsRecorder metrics,
+            boolean coalesceFrames,
+            Clock clock) {
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.messagingService = Objects.requireNonNull(messagingService, "messagingService");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.metrics = metrics == null ? RealtimeMetricsRecorder.noop() : metrics;
+        this.coalesceFrames = coalesceFrames;
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        List<RealtimeEnvelope> envelopes;
         try {
-            RealtimeEnvelope envelope = (RealtimeEnvelope) redisTemplate.getValueSerializer().deserialize(message.getBody());
-            if (envelope != null && envelope.getDestination() != null) {
-                Object payload = envelope.getPayload();
-                if (payload instanceof Map && envelope.getPayloadType() != null) {
-                    try {
-                        Class<?> clazz = Class.forName(envelope.getPayloadType());
-                        if (!RealtimePayload.class.isAssignableFrom(clazz)) {
-                            log.warn("Skip realtime message: payload type {} does not implement RealtimePayload", clazz.getName());
-                            return;
-                        }
-                        payload = objectMapper.convertValue(payload, clazz);
-                        envelope.setPayload(payload);
-                    } catch (ClassNotFoundException cnf) {
-                        log.debug("Payload type not found: {}", envelope.getPayloadType());
-                        return;
-                    } catch (IllegalArgumentException iae) {
-                        log.warn("Payload conversion failed to {}: {}", envelope.getPayloadType(), iae.getMessage());
-                        return;
-                    }
-                }
-                if (!(payload instanceof RealtimePayload typedPayload)) {
-                    log.warn("Skip realtime message: payload is not RealtimePayload. destination={}", envelope.getDestination());
-                    return;
-                }
-                if (envelope.getType() == RealtimeEnvelope.MessageType.USER && envelope.getUserId() != null) {
-                    messagingService.sendToUser(envelope.getUserId(), envelope.getDestination(), typedPayload);
-                } else {
-                    messagingService.sendToTopic(envelope.getDestination(), typedPayload);
+            envelopes = codec.decode(message.getBody());
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Realtime redis subscriber deserialization failed: {}", ex.getMessage());
+            return;
+        }
+        for (Frame frame : frames(envelopes)) {
+            try {
+                dispatch(frame);
+            } catch (Exception ex) {
+                log.debug("Realtime redis subscriber failed: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 수신한 envelope 을 전송 단위 프레임으로 묶는다. 프레임 병합이 켜져 있으면 같은 대상
+     * (타입, 사용자, destination)의 페이로드가 도착 순서대로 하나의 프레임에 모인다.
+     */
+    private Iterable<Frame> frames(List<RealtimeEnvelope> envelopes) {
+        List<Frame> frames = new ArrayList<>(envelopes.size());
+        Map<FrameKey, Frame> byTarget = coalesceFrames ? new LinkedHashMap<>() : null;
+        for (RealtimeEnvelope envelope : envelopes) {
+            RealtimePayload payload = resolvePayload(envelope);
+            if (payload == null) {
+                continue;
+            }
+            if (byTarget == null) {
+                frames.add(new Frame(envelope).add(envelope, payload));
+            } else {
+                byTarget.computeIfAbsent(FrameKey.of(envelope), key -> new Frame(envelope)).add(envelope, payload);
+            }
+        }
+        return byTarget == null ? frames : byTarget.values();
+    }
+
+    private RealtimePayload resolvePayload(RealtimeEnvelope envelope) {
+        if (envelope == null || envelope.getDestination() == null) {
+            return null;
+        }
+        Object payload = envelope.getPayload();
+        if (payload instanceof Map && envelope.getPayloadType() != null) {
+            try {
+                Class<?> clazz = Class.forName(envelope.getPayloadType());
+                if (!RealtimePayload.class.isAssignableFrom(clazz)) {
+                    log.warn("Skip realtime message: payload type {} does not implement RealtimePayload", clazz.getName());
+                    return null;
                 }
+                payload = objectMapper.convertValue(payload, clazz);
+                envelope.setPayload(payload);
+            } catch (ClassNotFoundException cnf) {
+                log.debug("Payload type not found: {}", envelope.getPayloadType());
+                return null;
+            } catch (IllegalArgumentException iae) {
+                log.warn("Payload conversion failed to {}: {}", envelope.getPayloadType(), iae.getMessage());
+                return null;
             }
-        } catch (SerializationException | ClassCastException ex) {
-            log.warn("Realtime redis subscriber deserialization failed: {}", ex.getMessage());
-        } catch (Exception ex) {
-            log.debug("Realtime redis subscriber failed: {}", ex.getMessage());
+        }
+        if (!(payload instanceof RealtimePayload typedPayload)) {
+            log.warn("Skip realtime message: payload is not RealtimePayload. destination={}", envelope.getDestination());
+            return null;
+        }
+        return typedPayload;
+    }
+
+    private void dispatch(Frame frame) {
+        RealtimeEnvelope target = frame.target;
+        RealtimePayload payload = frame.payloads.size() == 1
+                ? frame.payloads.get(0)
+                : new RealtimePayloadBatch(frame.payloads);
+        boolean toUser = target.getType() == RealtimeEnvelope.MessageType.USER && target.getUserId() != null;
+        if (toUser) {
+            messagingService.sendToUser(target.getUserId(), target.getDestination(), payload);
+        } else {
+            messagingService.sendToTopic(target.getDestination(), payload);
+        }
+        metrics.recordFrame(frame.payloads.size());
+        String type = (toUser ? RealtimeEnvelope.MessageType.USER : RealtimeEnvelope.MessageType.TOPIC)
+                .name().toLowerCase(Locale.ROOT);
+        Instant now = clock.instant();
+        for (Instant createdAt : frame.createdAt) {
+            Duration latency = createdAt == null ? Duration.ZERO : Duration.between(createdAt, now);
+            metrics.recordFanOut(type, latency.isNegative() ? Duration.ZERO : latency);
+        }
+    }
+
+    private static final class Frame {
+
+        private final RealtimeEnvelope target;
+        private final List<RealtimePayload> payloads = new ArrayList<>(1);
+        private final List<Instant> createdAt = new ArrayList<>(1);
+
+        private Frame(RealtimeEnvelope target) {
+            this.target = target;
+        }
+
+        private Frame add(RealtimeEnvelope envelope, RealtimePayload payload) {
+            payloads.add(payload);
+            createdAt.add(envelope.getTimestamp());
+            return this;
+        }
+    }
+
+    private record FrameKey(RealtimeEnvelope.MessageType type, String userId, String destination) {
+
+        static FrameKey of(RealtimeEnvelope envelope) {
+            return new FrameKey(envelope.getType(), envelope.getUserId(), envelope.getDestination());
         }
     }
 }
@@ -0,0 +1,158 @@
+package studio.one.platform.realtime.stomp.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.RedisOperations;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+
+/**
+ * {@link RealtimeRedisPublisher} 기본 구현.
+ * <p>
+ * envelope 은 발행 시점에 한 번만 바이트로 직렬화되고, 같은 destination 으로 몰린 envelope 은
+ * {@code flushInterval} 동안 모아 하나의 Redis 메시지(JSON 배열)로 발행된다. 배치가
+ * {@code maxBatchSize} 에 도달하면 호출 스레드에서 즉시 발행한다. {@code maxBatchSize <= 1}
+ * 이거나 {@code flushInterval} 이 0 이면 배치 없이 매번 바로 발행한다.
+ */
+@Slf4j
+public class RedisRealtimePublisher implements RealtimeRedisPublisher, AutoCloseable {
+
+    static final String TRANSPORT = "redis";
+
+    private final RedisOperations<String, byte[]> redis;
+    private final String channel;
+    private final RealtimeEnvelopeCodec codec;
+    private final RealtimeMetricsRecorder metrics;
+    private final int maxBatchSize;
+    private final Duration flushInterval;
+    private final Map<String, List<Pending>> pending = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private boolean flushScheduled;
+    private boolean closed;
+
+    public RedisRealtimePublisher(
+            RedisOperations<String, byte[]> redis,
+            String channel,
+            RealtimeEnvelopeCodec codec,
+            RealtimeMetricsRecorder metrics,
+            int maxBatchSize,
+            Duration flushInterval) {
+        this.redis = Objects.requireNonNull(redis, "redis");
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.metrics = metrics == null ? RealtimeMetricsRecorder.noop() : metrics;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.flushInterval = flushInterval == null ? Duration.ZERO : flushInterval;
+    }
+
+    @Override
+    public void publish(RealtimeEnvelope envelope, Consumer<RealtimeEnvelope> onFailure) {
+        Pending item = new Pending(envelope, codec.encode(envelope), onFailure);
+        if (!isBatching()) {
+            send(List.of(item));
+            return;
+        }
+        List<Pending> full;
+        synchronized (this) {
+            full = closed ? List.of(item) : enqueue(item);
+        }
+        if (full != null) {
+            send(full);
+        }
+    }
+
+    /** 호출자가 모니터를 잡은 상태에서 호출한다. 배치가 가득 차면 떼어 내 반환한다. */
+    private List<Pending> enqueue(Pending item) {
+        String destination = item.envelope().getDestination();
+        List<Pending> batch = pending.computeIfAbsent(destination, key -> new ArrayList<>());
+        batch.add(item);
+        if (batch.size() >= maxBatchSize) {
+            return pending.remove(destination);
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            scheduler().schedule(this::flush, flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return null;
+    }
+
+    /**
+     * 대기 중인 모든 배치를 destination 별로 발행한다.
+     */
+    public void flush() {
+        List<List<Pending>> batches;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batches = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (List<Pending> batch : batches) {
+            send(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            closed = true;
+            executor = scheduler;
+            scheduler = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        flush();
+    }
+
+    private boolean isBatching() {
+        return maxBatchSize > 1 && !flushInterval.isZero() && !flushInterval.isNegative();
+    }
+
+    private void send(List<Pending> batch) {
+        List<byte[]> encoded = new ArrayList<>(batch.size());
+        for (Pending item : batch) {
+            encoded.add(item.body());
+        }
+        try {
+            redis.convertAndSend(channel, codec.join(encoded));
+            metrics.recordPublish(TRANSPORT, batch.size());
+        } catch (RuntimeException ex) {
+            log.warn("Redis publish of {} realtime message(s) failed. fallback to local send: {}",
+                    batch.size(), ex.getMessage());
+            for (Pending item : batch) {
+                if (item.onFailure() != null) {
+                    item.onFailure().accept(item.envelope());
+                }
+            }
+        }
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "realtime-redis-publish");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    private record Pending(RealtimeEnvelope envelope, byte[] body, Consumer<RealtimeEnvelope> onFailure) {
+    }
+}
@@ -0,0 +1,90 @@
+package studio.one.platform.realtime.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import studio.one.platform.cache.CacheInvalidation;
+
+class RedisCacheInvalidationBusTest {
+
+    private static final String CHANNEL = "test:cache";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<RedisCacheInvalidationBus> nodes = new ArrayList<>();
+
+    @Test
+    void invalidationReachesEveryNodeExactlyOnce() {
+        RedisCacheInvalidationBus nodeA = node("node-a");
+        RedisCacheInvalidationBus nodeB = node("node-b");
+        List<CacheInvalidation> onA = new ArrayList<>();
+        List<CacheInvalidation> onB = new ArrayList<>();
+        nodeA.subscribe("roles.effective", onA::add);
+        nodeB.subscribe("roles.effective", onB::add);
+
+        nodeA.publish(CacheInvalidation.of("roles.effective", 42L));
+
+        assertThat(onA).singleElement().satisfies(invalidation -> assertThat(nodeA.isRemote(invalidation)).isFalse());
+        assertThat(onB).singleElement().satisfies(invalidation -> {
+            assertThat(invalidation.keys()).containsExactly("42");
+            assertThat(invalidation.origin()).isEqualTo("node-a");
+            assertThat(nodeB.isRemote(invalidation)).isTrue();
+        });
+    }
+
+    @Test
+    void localInvalidationSurvivesRedisFailure() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        doThrow(new RedisConnectionFailureException("down")).when(template).convertAndSend(anyString(), anyString());
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(template, objectMapper, CHANNEL, "node-a");
+        List<CacheInvalidation> received = new ArrayList<>();
+        bus.subscribe("users", received::add);
+
+        bus.publish(CacheInvalidation.all("users"));
+
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void malformedMessageIsIgnored() {
+        RedisCacheInvalidationBus bus = node("node-a");
+        List<CacheInvalidation> received = new ArrayList<>();
+        bus.subscribe("users", received::add);
+
+        bus.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not-json".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(received).isEmpty();
+    }
+
+    /**
+     * Redis 채널 대신 메시지를 모든 노드의 listener로 전달하는 template을 사용한다.
+     */
+    private RedisCacheInvalidationBus node(String nodeId) {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            byte[] body = invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8);
+            for (RedisCacheInvalidationBus node : nodes) {
+                node.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+            }
+            return 1L;
+        }).when(template).convertAndSend(eq(CHANNEL), anyString());
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(template, objectMapper, CHANNEL, nodeId);
+        nodes.add(bus);
+        return bus;
+    }
+}
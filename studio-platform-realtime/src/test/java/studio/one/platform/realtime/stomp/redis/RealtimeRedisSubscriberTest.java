@@ -0,0 +1,123 @@
+package studio.one.platform.realtime.stomp.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelopes;
+import studio.one.platform.realtime.stomp.domain.model.RealtimePayload;
+import studio.one.platform.realtime.stomp.domain.model.RealtimePayloadBatch;
+import studio.one.platform.realtime.stomp.messaging.RealtimeMessagingService;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+import studio.one.platform.realtime.stomp.redis.RedisRealtimePublisherTest.Note;
+
+class RealtimeRedisSubscriberTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:01Z");
+
+    private final RealtimeEnvelopeCodec codec = new RealtimeEnvelopeCodec();
+    private final RecordingMessagingService messaging = new RecordingMessagingService();
+    private final List<Duration> latencies = new ArrayList<>();
+    private final List<Integer> frames = new ArrayList<>();
+
+    @Test
+    void dispatchesEveryEnvelopeOfBatchAsOwnFrameByDefault() {
+        RealtimeRedisSubscriber subscriber = subscriber(false);
+
+        subscriber.onMessage(message(
+                envelope(RealtimeEnvelopes.toUser("u1", "/jobs", new Note("1"))),
+                envelope(RealtimeEnvelopes.toUser("u1", "/jobs", new Note("2"))),
+                envelope(RealtimeEnvelopes.toTopic("/jobs", new Note("3")))), null);
+
+        assertThat(messaging.sent).containsExactly("user:u1:/jobs:1", "user:u1:/jobs:2", "topic:/jobs:3");
+        assertThat(latencies).containsOnly(Duration.ofSeconds(1)).hasSize(3);
+    }
+
+    @Test
+    void coalescesPayloadsForSameTargetIntoOneFrame() {
+        RealtimeRedisSubscriber subscriber = subscriber(true);
+
+        subscriber.onMessage(message(
+                envelope(RealtimeEnvelopes.toUser("u1", "/jobs", new Note("1"))),
+                envelope(RealtimeEnvelopes.toUser("u2", "/jobs", new Note("2"))),
+                envelope(RealtimeEnvelopes.toUser("u1", "/jobs", new Note("3")))), null);
+
+        assertThat(messaging.sent).containsExactly("user:u1:/jobs:1,3", "user:u2:/jobs:2");
+        assertThat(frames).containsExactly(2, 1);
+        assertThat(latencies).hasSize(3);
+    }
+
+    @Test
+    void skipsPayloadTypesThatAreNotRealtimePayload() {
+        RealtimeRedisSubscriber subscriber = subscriber(false);
+        RealtimeEnvelope rogue = RealtimeEnvelopes.toTopic("/jobs", new Note("x"));
+        rogue.setPayloadType(String.class.getName());
+
+        subscriber.onMessage(message(envelope(rogue), envelope(RealtimeEnvelopes.toTopic("/jobs", new Note("ok")))), null);
+
+        assertThat(messaging.sent).containsExactly("topic:/jobs:ok");
+    }
+
+    private RealtimeRedisSubscriber subscriber(boolean coalesceFrames) {
+        RealtimeMetricsRecorder metrics = new RealtimeMetricsRecorder() {
+            @Override
+            public void recordFanOut(String type, Duration latency) {
+                latencies.add(latency);
+            }
+
+            @Override
+            public void recordFrame(int payloads) {
+                frames.add(payloads);
+            }
+        };
+        return new RealtimeRedisSubscriber(codec, messaging, new ObjectMapper(), metrics, coalesceFrames,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private byte[] envelope(RealtimeEnvelope envelope) {
+        envelope.setTimestamp(NOW.minusSeconds(1));
+        return codec.encode(envelope);
+    }
+
+    private DefaultMessage message(byte[]... envelopes) {
+        return new DefaultMessage("test:realtime".getBytes(), codec.join(List.of(envelopes)));
+    }
+
+    private static String texts(RealtimePayload payload) {
+        if (payload instanceof RealtimePayloadBatch batch) {
+            return String.join(",", batch.items().stream().map(RealtimeRedisSubscriberTest::texts).toList());
+        }
+        return ((Note) payload).getText();
+    }
+
+    private static class RecordingMessagingService implements RealtimeMessagingService {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void sendToTopic(String destination, RealtimePayload payload) {
+            sent.add("topic:" + destination + ":" + texts(payload));
+        }
+
+        @Override
+        public void sendToUser(String user, String destination, RealtimePayload payload) {
+            sent.add("user:" + user + ":" + destination + ":" + texts(payload));
+        }
+
+        @Override
+        public void publish(RealtimeEnvelope envelope) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package studio.one.platform.realtime.stomp.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelope;
+import studio.one.platform.realtime.stomp.domain.model.RealtimeEnvelopes;
+import studio.one.platform.realtime.stomp.domain.model.RealtimePayload;
+import studio.one.platform.realtime.stomp.metrics.RealtimeMetricsRecorder;
+
+class RedisRealtimePublisherTest {
+
+    private static final String CHANNEL = "test:realtime";
+
+    private final RealtimeEnvelopeCodec codec = new RealtimeEnvelopeCodec();
+    private final List<byte[]> published = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final List<RedisRealtimePublisher> publishers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        publishers.forEach(RedisRealtimePublisher::close);
+    }
+
+    @Test
+    void coalescesBurstPerDestinationIntoOneRedisMessage() throws Exception {
+        RedisRealtimePublisher publisher = publisher(recordingRedis(), 100, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(RealtimeEnvelopes.toUser("user-" + i, "/jobs", new Note("n" + i)), env -> { });
+        }
+        publisher.publish(RealtimeEnvelopes.toTopic("/alerts", new Note("a")), env -> { });
+        assertThat(published).isEmpty();
+
+        publisher.flush();
+
+        assertThat(published).hasSize(2);
+        List<RealtimeEnvelope> jobs = codec.decode(published.get(0));
+        assertThat(jobs).extracting(RealtimeEnvelope::getUserId).containsExactly("user-0", "user-1", "user-2");
+        assertThat(codec.decode(published.get(1))).singleElement()
+                .extracting(RealtimeEnvelope::getDestination).isEqualTo("/alerts");
+        assertThat(new String(published.get(1)).trim()).startsWith("{");
+        assertThat(batchSizes).containsExactly(3, 1);
+    }
+
+    @Test
+    void publishesImmediatelyWhenBatchIsFull() throws Exception {
+        RedisRealtimePublisher publisher = publisher(recordingRedis(), 2, Duration.ofMinutes(1));
+
+        publisher.publish(RealtimeEnvelopes.toTopic("/jobs", new Note("1")), env -> { });
+        publisher.publish(RealtimeEnvelopes.toTopic("/jobs", new Note("2")), env -> { });
+
+        assertThat(published).hasSize(1);
+        assertThat(codec.decode(published.get(0))).hasSize(2);
+    }
+
+    @Test
+    void scheduledFlushPublishesPendingBatch() throws Exception {
+        RedisRealtimePublisher publisher = publisher(recordingRedis(), 100, Duration.ofMillis(10));
+
+        publisher.publish(RealtimeEnvelopes.toTopic("/jobs", new Note("1")), env -> { });
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (published.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(published).hasSize(1);
+    }
+
+    @Test
+    void failedPublishFallsBackForEveryEnvelopeInBatch() {
+        @SuppressWarnings("unchecked")
+        RedisOperations<String, byte[]> redis = mock(RedisOperations.class);
+        doThrow(new RedisConnectionFailureException("down")).when(redis).convertAndSend(eq(CHANNEL), any());
+        RedisRealtimePublisher publisher = publisher(redis, 100, Duration.ofMinutes(1));
+        List<RealtimeEnvelope> fallback = new ArrayList<>();
+
+        publisher.publish(RealtimeEnvelopes.toTopic("/jobs", new Note("1")), fallback::add);
+        publisher.publish(RealtimeEnvelopes.toTopic("/jobs", new Note("2")), fallback::add);
+        publisher.flush();
+
+        assertThat(fallback).extracting(env -> ((Note) env.getPayload()).getText()).containsExactly("1", "2");
+    }
+
+    private RedisRealtimePublisher publisher(RedisOperations<String, byte[]> redis, int maxBatchSize, Duration interval) {
+        RealtimeMetricsRecorder metrics = new RealtimeMetricsRecorder() {
+            @Override
+            public void recordPublish(String transport, int envelopes) {
+                batchSizes.add(envelopes);
+            }
+        };
+        RedisRealtimePublisher publisher = new RedisRealtimePublisher(redis, CHANNEL, codec, metrics, maxBatchSize, interval);
+        publishers.add(publisher);
+        return publisher;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisOperations<String, byte[]> recordingRedis() {
+        RedisOperations<String, byte[]> redis = mock(RedisOperations.class);
+        doAnswer(invocation -> {
+            published.add(invocation.getArgument(1));
+            return 1L;
+        }).when(redis).convertAndSend(eq(CHANNEL), any());
+        return redis;
+    }
+
+    public static class Note implements RealtimePayload {
+
+        private String text;
+
+        public Note() {
+        }
+
+        Note(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -1,24 +1,68 @@
 package studio.one.base.security.acl.policy;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.event.EventListener;
 import org.springframework.security.acls.model.AclCache;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.cache.CacheInvalidation;
+import studio.one.platform.cache.CacheInvalidationBus;
 import studio.one.platform.security.authz.DomainPolicyRefreshEvent;
 
 /**
- * Clears ACL cache whenever domain policies are refreshed.
+ * {@link DomainPolicyRefreshEvent} 발생 시 ACL 캐시를 비웁니다.
+ * <p>
+ * {@link CacheInvalidationBus}가 있으면 무효화를 모든 노드에 전파하고, 다른 노드에서 온 무효화는
+ * ACL 캐시를 비운 뒤 {@link DomainPolicyRefreshEvent#remote()}를 발행해 도메인 정책도 다시 읽게 합니다.
  */
-@RequiredArgsConstructor
 @Slf4j
-public class AclCacheInvalidationListener {
+public class AclCacheInvalidationListener implements ApplicationEventPublisherAware {
+
+    public static final String CACHE_NAME = "acl";
 
     private final ObjectProvider<AclCache> aclCacheProvider;
+    private final CacheInvalidationBus bus;
+    private ApplicationEventPublisher eventPublisher;
+
+    public AclCacheInvalidationListener(ObjectProvider<AclCache> aclCacheProvider) {
+        this(aclCacheProvider, null);
+    }
+
+    public AclCacheInvalidationListener(ObjectProvider<AclCache> aclCacheProvider, CacheInvalidationBus bus) {
+        this.aclCacheProvider = aclCacheProvider;
+        this.bus = bus;
+        if (bus != null) {
+            bus.subscribe(CACHE_NAME, this::onInvalidation);
+        }
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
 
     @EventListener
     public void onDomainPolicyRefresh(DomainPolicyRefreshEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        if (bus != null) {
+            bus.publish(CacheInvalidation.all(CACHE_NAME));
+            return;
+        }
+        clearCache();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        clearCache();
+        if (bus.isRemote(invalidation) && eventPublisher != null) {
+            eventPublisher.publishEvent(DomainPolicyRefreshEvent.remote());
+        }
+    }
+
+    private void clearCache() {
         AclCache cache = aclCacheProvider.getIfAvailable();
         if (cache == null) {
             return;
@@ -28,15 +28,20 @@ dependencies {
     compileOnly(project(":studio-platform-user-default"))
     compileOnly(project(":studio-platform-data")) 
     testImplementation(project(":studio-platform"))
+    testImplementation(project(":studio-platform-identity"))
+    testImplementation(project(":studio-platform-user"))
     testImplementation("org.springframework.boot:spring-boot-starter-web")
     testImplementation("org.springframework.boot:spring-boot-starter-security")
     testImplementation("org.mockito:mockito-core")
+    testImplementation("org.springframework.data:spring-data-commons")
+    testImplementation("org.springframework:spring-jdbc")
 
     compileOnly ("org.mapstruct:mapstruct:$mapstructVersion")
     annotationProcessor ("org.mapstruct:mapstruct-processor:$mapstructVersion")
     annotationProcessor ("org.projectlombok:lombok-mapstruct-binding:0.2.0")
 
     compileOnly("org.postgresql:postgresql")    
+    implementation("com.github.ben-manes.caffeine:caffeine:${property("caffeineVersion")}")
     api("io.jsonwebtoken:jjwt-api:$jsonwebtokenVersion")
     api("io.jsonwebtoken:jjwt-impl:$jsonwebtokenVersion")
     api("io.jsonwebtoken:jjwt-jackson:$jsonwebtokenVersion")    
@@ -29,10 +29,6 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.base.security.audit.domain.entity.LoginFailureLog;
 import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
@@ -54,16 +50,33 @@ import studio.one.platform.constant.ServiceNames;
  */
 
 
-@RequiredArgsConstructor
 @Slf4j
 public class LoginFailureEventListener
     implements ApplicationListener<AuthenticationFailureBadCredentialsEvent> {
 
   private final ObjectProvider<AccountLockService> lockSvc;
   private final ObjectProvider<LoginFailureLogRepository> logRepo;
+  private final ObjectProvider<LoginFailureLogBatchWriter> batchWriter;
+
+  public LoginFailureEventListener(
+      ObjectProvider<AccountLockService> lockSvc,
+      ObjectProvider<LoginFailureLogRepository> logRepo) {
+    this(lockSvc, logRepo, null);
+  }
+
+  /**
+   * @param batchWriter 설정되면 감사 로그를 건별 저장 대신 배치 버퍼에 넣는다.
+   */
+  public LoginFailureEventListener(
+      ObjectProvider<AccountLockService> lockSvc,
+      ObjectProvider<LoginFailureLogRepository> logRepo,
+      ObjectProvider<LoginFailureLogBatchWriter> batchWriter) {
+    this.lockSvc = lockSvc;
+    this.logRepo = logRepo;
+    this.batchWriter = batchWriter;
+  }
 
   @Async(ServiceNames.SECURITY_AUDIT_LOGIN_FAILURE_EXECUTOR)
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Override
   public void onApplicationEvent(AuthenticationFailureBadCredentialsEvent event) {
     final Instant now = Instant.now();
@@ -107,14 +120,23 @@ public class LoginFailureEventListener
           .occurredAt(occAt)
           .build();
 
-      logRepo.ifAvailable(repo -> repo.save(entry));
+      LoginFailureLogBatchWriter writer = batchWriter == null ? null : batchWriter.getIfAvailable();
+      if (writer != null) {
+        writer.submit(entry);
+      } else {
+        logRepo.ifAvailable(repo -> repo.save(entry));
+      }
     } catch (Exception ex) {
       log.warn("Login failure audit log write failed (ignored). username={}, reason={}", uname, ex.toString());
     }
 
     // 2) 계정 잠금 (final 값만 캡처)
     try {
-      lockSvc.ifAvailable(s -> s.onFailedLogin(uname));
+      lockSvc.ifAvailable(s -> {
+        if (s.recordFailure(uname)) {
+          s.onFailedLogin(uname);
+        }
+      });
     } catch (Exception ex) {
       log.warn("Account lock update failed (ignored). username={}, reason={}", uname, ex.toString());
     }
@@ -0,0 +1,30 @@
+package studio.one.base.security.audit;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import studio.one.base.security.audit.persistence.LoginFailureHourlyCountRepository;
+
+/**
+ * 직전 시간과 현재 시간의 로그인 실패를 주기적으로 다시 집계한다. 집계는 시간대/유형 행 단위 upsert라 반복 실행해도 안전하고
+ * 집계 중에도 조회가 빈 구간을 보지 않으며,
+ * 대시보드 수치는 최대 실행 주기만큼 늦을 수 있다.
+ */
+@RequiredArgsConstructor
+public class LoginFailureHourlyRollupJob {
+
+    private final LoginFailureHourlyCountRepository repository;
+    private final Clock clock;
+
+    @Scheduled(cron = "0 */5 * * * *")
+    @Transactional
+    public void rollupRecent() {
+        Instant currentHour = Instant.now(clock).truncatedTo(ChronoUnit.HOURS);
+        repository.rollup(currentHour.minus(1, ChronoUnit.HOURS), currentHour.plus(1, ChronoUnit.HOURS));
+    }
+}
@@ -0,0 +1,203 @@
+package studio.one.base.security.audit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.base.security.audit.domain.entity.LoginFailureLog;
+import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
+
+/**
+ * Buffers login failure audit entries in a bounded queue and writes them to the
+ * {@link LoginFailureLogRepository} in batches.
+ * <p>
+ * A flush is triggered when {@code batchSize} entries are pending or when
+ * {@code flushInterval} elapses, whichever comes first. When the queue is full the
+ * {@link OverflowPolicy} decides whether the entry is dropped or the caller waits up to
+ * {@code offerTimeout} for space. Entries that fail to write are logged and discarded so
+ * that a database outage cannot grow the buffer without bound.
+ */
+@Slf4j
+public class LoginFailureLogBatchWriter implements AutoCloseable {
+
+    public enum OverflowPolicy {
+        /** 버퍼가 가득 차면 새 엔트리를 버린다. */
+        DROP,
+        /** 버퍼에 여유가 생길 때까지 offer-timeout 만큼 대기한 뒤, 그래도 가득 차 있으면 버린다. */
+        BLOCK
+    }
+
+    private final LoginFailureLogRepository repository;
+    private final BlockingQueue<LoginFailureLog> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration offerTimeout;
+    private final Object flushLock = new Object();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile ScheduledExecutorService executor;
+
+    public LoginFailureLogBatchWriter(
+            LoginFailureLogRepository repository,
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            OverflowPolicy overflowPolicy,
+            Duration offerTimeout) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.repository = Objects.requireNonNull(repository, "repository");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.min(batchSize, capacity);
+        this.flushInterval = Objects.requireNonNull(flushInterval, "flushInterval");
+        this.overflowPolicy = Objects.requireNonNullElse(overflowPolicy, OverflowPolicy.DROP);
+        this.offerTimeout = Objects.requireNonNullElse(offerTimeout, Duration.ZERO);
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-failure-audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1L, flushInterval.toMillis());
+        executor.scheduleWithFixedDelay(this::safeFlush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Login failure audit writer started (capacity={}, batchSize={}, flushInterval={}, overflow={})",
+                queue.remainingCapacity() + queue.size(), batchSize, flushInterval, overflowPolicy);
+    }
+
+    /**
+     * Queues an entry for the next batch.
+     *
+     * @return {@code false} when the entry was dropped because the buffer is full
+     */
+    public boolean submit(LoginFailureLog entry) {
+        Objects.requireNonNull(entry, "entry");
+        boolean accepted = queue.offer(entry);
+        if (!accepted && overflowPolicy == OverflowPolicy.BLOCK && !offerTimeout.isZero()) {
+            try {
+                accepted = queue.offer(entry, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!accepted) {
+            long total = dropped.incrementAndGet();
+            if (total == 1 || total % 1000 == 0) {
+                log.warn("Login failure audit buffer is full; {} entr(y/ies) dropped so far", total);
+            }
+            return false;
+        }
+        if (queue.size() >= batchSize) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * Writes every pending entry, one batch at a time.
+     *
+     * @return the number of entries written
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            int total = 0;
+            List<LoginFailureLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                total += write(batch);
+                batch.clear();
+            }
+            return total;
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Stops the flush thread and writes whatever is still buffered.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdown();
+                try {
+                    executor.awaitTermination(flushInterval.toMillis() + 1000L, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                executor = null;
+            }
+        }
+        safeFlush();
+    }
+
+    private int write(List<LoginFailureLog> batch) {
+        try {
+            repository.insertBatch(batch);
+            written.addAndGet(batch.size());
+            return batch.size();
+        } catch (RuntimeException ex) {
+            failed.addAndGet(batch.size());
+            log.warn("Login failure audit batch write failed; {} entr(y/ies) discarded: {}", batch.size(), ex.toString());
+            return 0;
+        }
+    }
+
+    private void requestFlush() {
+        ScheduledExecutorService current = executor;
+        if (current == null || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(() -> {
+                flushRequested.set(false);
+                safeFlush();
+            });
+        } catch (RejectedExecutionException ex) {
+            flushRequested.set(false);
+        }
+    }
+
+    private void safeFlush() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Login failure audit flush failed: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package studio.one.base.security.audit;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import studio.one.base.security.audit.persistence.jdbc.LoginFailureLogPartitionManager;
+
+/**
+ * 로그인 실패 로그 파티션을 미리 만들어 두어 새 행이 기본(default) 파티션으로 들어가지 않게 한다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class LoginFailureLogPartitionJob {
+
+    private final LoginFailureLogPartitionManager partitionManager;
+    private final int precreate;
+    private final Clock clock;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void precreatePartitions() {
+        int ensured = partitionManager.ensurePartitions(Instant.now(clock), precreate);
+        log.debug("Ensured {} login failure log partition(s)", ensured);
+    }
+}
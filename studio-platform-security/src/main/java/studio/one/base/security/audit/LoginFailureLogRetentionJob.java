@@ -1,19 +1,43 @@
 package studio.one.base.security.audit;
 
 import lombok.RequiredArgsConstructor;
+import studio.one.base.security.audit.persistence.LoginFailureHourlyCountRepository;
 import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
+import studio.one.base.security.audit.persistence.jdbc.LoginFailureLogPartitionManager;
 
 @RequiredArgsConstructor
 public class LoginFailureLogRetentionJob {
 
     private final LoginFailureLogRepository repo;
     private final Integer retentionDays; 
+
+    private LoginFailureLogPartitionManager partitionManager;
+
+    private LoginFailureHourlyCountRepository hourlyCountRepository;
+
+    /** 설정되면 파티션 테이블에서 보관 기간이 지난 파티션을 통째로 삭제(DROP)한다. */
+    public void setPartitionManager(LoginFailureLogPartitionManager partitionManager) {
+        this.partitionManager = partitionManager;
+    }
+
+    /** 설정되면 시간대별 집계도 같은 보관 기간으로 정리한다. */
+    public void setHourlyCountRepository(LoginFailureHourlyCountRepository hourlyCountRepository) {
+        this.hourlyCountRepository = hourlyCountRepository;
+    }
+
     @org.springframework.scheduling.annotation.Scheduled(cron = "0 0 4 * * *")
     @org.springframework.transaction.annotation.Transactional
     public void purgeOld() { 
         if (retentionDays == null || retentionDays <= 0)
             return;
         java.time.Instant cutoff = java.time.Instant.now().minus(java.time.Duration.ofDays(retentionDays));
+        if (partitionManager != null) {
+            // 경계 파티션에 남은 행은 아래 delete 가 처리한다 (occurred_at 조건으로 해당 파티션만 스캔).
+            partitionManager.dropPartitionsBefore(cutoff);
+        }
         repo.deleteOlderThan(cutoff);
+        if (hourlyCountRepository != null) {
+            hourlyCountRepository.deleteOlderThan(cutoff);
+        }
     }
 }
@@ -0,0 +1,13 @@
+package studio.one.base.security.audit.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 시간(hour) 단위로 사전 집계된 로그인 실패 건수.
+ *
+ * @param bucketStart 집계 구간 시작 시각 (정시)
+ * @param failureType 실패 유형 (없으면 {@code UNKNOWN})
+ * @param failures    구간 내 실패 건수
+ */
+public record LoginFailureHourlyCount(Instant bucketStart, String failureType, long failures) {
+}
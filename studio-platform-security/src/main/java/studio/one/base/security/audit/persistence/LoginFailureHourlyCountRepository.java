@@ -0,0 +1,21 @@
+package studio.one.base.security.audit.persistence;
+
+import java.time.Instant;
+import java.util.List;
+
+import studio.one.base.security.audit.domain.model.LoginFailureHourlyCount;
+
+public interface LoginFailureHourlyCountRepository {
+
+  /**
+   * {@code [from, to)} 구간(정시 단위)의 실패 로그를 시간대/유형별로 다시 집계해 저장한다. 기존 집계 행은 지우지 않고
+   * 새 건수로 덮어쓴다(upsert).
+   *
+   * @return 저장된 집계 행 수
+   */
+  int rollup(Instant from, Instant to);
+
+  List<LoginFailureHourlyCount> findBetween(Instant from, Instant to);
+
+  long deleteOlderThan(Instant cutoff);
+}
@@ -1,6 +1,7 @@
 package studio.one.base.security.audit.persistence;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,16 @@ public interface LoginFailureLogRepository {
 
   LoginFailureLog save(LoginFailureLog log);
 
+  /**
+   * 여러 건의 감사 로그를 한 번에 저장한다. 기본 구현은 {@link #save(LoginFailureLog)} 를 반복 호출하며,
+   * 구현체는 JDBC batch 등으로 재정의할 수 있다.
+   */
+  default void insertBatch(List<LoginFailureLog> logs) {
+    for (LoginFailureLog log : logs) {
+      save(log);
+    }
+  }
+
   long deleteOlderThan(Instant cutoff);
 
   long countByUsernameSince(String username, Instant since);
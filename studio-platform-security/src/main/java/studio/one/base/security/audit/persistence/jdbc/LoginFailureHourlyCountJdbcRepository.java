@@ -0,0 +1,58 @@
+package studio.one.base.security.audit.persistence.jdbc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import studio.one.base.security.audit.domain.model.LoginFailureHourlyCount;
+import studio.one.base.security.audit.persistence.LoginFailureHourlyCountRepository;
+import studio.one.platform.data.sqlquery.annotation.SqlStatement;
+
+@Repository
+public class LoginFailureHourlyCountJdbcRepository implements LoginFailureHourlyCountRepository {
+
+    private static final RowMapper<LoginFailureHourlyCount> ROW_MAPPER = (rs, rowNum) -> new LoginFailureHourlyCount(
+            rs.getTimestamp("bucket_start").toInstant(),
+            rs.getString("failure_type"),
+            rs.getLong("failures"));
+
+    private final NamedParameterJdbcTemplate template;
+
+    @SqlStatement("security.loginFailureHourlyRollup")
+    private String rollupSql;
+
+    @SqlStatement("security.loginFailureHourlyFindBetween")
+    private String findBetweenSql;
+
+    @SqlStatement("security.loginFailureHourlyDeleteOlderThan")
+    private String deleteOlderThanSql;
+
+    public LoginFailureHourlyCountJdbcRepository(NamedParameterJdbcTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public int rollup(Instant from, Instant to) {
+        Map<String, Object> params = Map.of(
+                "from", Timestamp.from(from),
+                "to", Timestamp.from(to));
+        return template.update(rollupSql, params);
+    }
+
+    @Override
+    public List<LoginFailureHourlyCount> findBetween(Instant from, Instant to) {
+        return template.query(findBetweenSql, Map.of(
+                "from", Timestamp.from(from),
+                "to", Timestamp.from(to)), ROW_MAPPER);
+    }
+
+    @Override
+    public long deleteOlderThan(Instant cutoff) {
+        return template.update(deleteOlderThanSql, Map.of("cutoff", Timestamp.from(cutoff)));
+    }
+}
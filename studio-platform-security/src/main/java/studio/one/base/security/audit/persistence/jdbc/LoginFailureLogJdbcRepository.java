@@ -3,6 +3,7 @@ package studio.one.base.security.audit.persistence.jdbc;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -39,6 +41,9 @@ public class LoginFailureLogJdbcRepository implements LoginFailureLogRepository
     @SqlStatement("security.loginFailureLogInsert")
     private String insertSql;
 
+    @SqlStatement("security.loginFailureLogBatchInsert")
+    private String batchInsertSql;
+
     @SqlStatement("security.loginFailureLogUpdate")
     private String updateSql;
 
@@ -66,6 +71,21 @@ public class LoginFailureLogJdbcRepository implements LoginFailureLogRepository
         return update(log);
     }
 
+    @Override
+    public void insertBatch(List<LoginFailureLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[logs.size()];
+        for (int i = 0; i < logs.size(); i++) {
+            LoginFailureLog log = logs.get(i);
+            Instant occurred = Objects.requireNonNullElseGet(log.getOccurredAt(), Instant::now);
+            log.setOccurredAt(occurred);
+            batch[i] = insertParams(log, occurred);
+        }
+        template.batchUpdate(batchInsertSql, batch);
+    }
+
     @Override
     public long deleteOlderThan(Instant cutoff) {
         return template.update(deleteOlderThanSql, Map.of("cutoff", Timestamp.from(cutoff)));
@@ -103,13 +123,7 @@ public class LoginFailureLogJdbcRepository implements LoginFailureLogRepository
 
     private LoginFailureLog insert(LoginFailureLog log) {
         Instant occurred = Objects.requireNonNullElseGet(log.getOccurredAt(), Instant::now);
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("username", log.getUsername())
-                .addValue("remote_ip", log.getRemoteIp())
-                .addValue("user_agent", log.getUserAgent())
-                .addValue("failure_type", log.getFailureType())
-                .addValue("message", log.getMessage())
-                .addValue("occurred_at", Timestamp.from(occurred));
+        MapSqlParameterSource params = insertParams(log, occurred);
         KeyHolder keyHolder = new GeneratedKeyHolder();
         template.update(insertSql, params, keyHolder, new String[] { "id" });
         Number key = keyHolder.getKey();
@@ -120,6 +134,16 @@ public class LoginFailureLogJdbcRepository implements LoginFailureLogRepository
         return log;
     }
 
+    private static MapSqlParameterSource insertParams(LoginFailureLog log, Instant occurred) {
+        return new MapSqlParameterSource()
+                .addValue("username", log.getUsername())
+                .addValue("remote_ip", log.getRemoteIp())
+                .addValue("user_agent", log.getUserAgent())
+                .addValue("failure_type", log.getFailureType())
+                .addValue("message", log.getMessage())
+                .addValue("occurred_at", Timestamp.from(occurred));
+    }
+
     private LoginFailureLog update(LoginFailureLog log) {
         Map<String, Object> params = new HashMap<>();
         params.put("username", log.getUsername());
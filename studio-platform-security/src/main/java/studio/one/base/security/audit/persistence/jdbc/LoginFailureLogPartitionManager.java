@@ -0,0 +1,200 @@
+package studio.one.base.security.audit.persistence.jdbc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the time partitions of a range-partitioned {@code tb_login_failure_log}
+ * (PostgreSQL declarative partitioning on {@code occurred_at}).
+ * <p>
+ * Partitions are named {@code tb_login_failure_log_pYYYYMMDD} (daily) or
+ * {@code tb_login_failure_log_pYYYYMM} (monthly) with UTC boundaries, so retention can
+ * drop whole partitions instead of deleting rows. All operations are no-ops while the
+ * table is not partitioned; see {@code schema/security/postgres/optional/login_failure_log_partitioned.sql}.
+ */
+@Slf4j
+public class LoginFailureLogPartitionManager {
+
+    public enum Interval {
+        DAILY,
+        MONTHLY
+    }
+
+    static final String TABLE = "tb_login_failure_log";
+
+    static final String PARTITION_PREFIX = TABLE + "_p";
+
+    private static final DateTimeFormatter DAILY_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final DateTimeFormatter MONTHLY_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String RELKIND_SQL = "select c.relkind from pg_class c where c.oid = to_regclass(:table)";
+
+    private static final String PARTITIONS_SQL = "select c.relname from pg_inherits i"
+            + " join pg_class c on c.oid = i.inhrelid"
+            + " where i.inhparent = to_regclass(:table)";
+
+    private static final String DEFAULT_PARTITION_SQL = PARTITIONS_SQL
+            + " and pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT'";
+
+    private final NamedParameterJdbcTemplate template;
+
+    private final Interval interval;
+
+    public LoginFailureLogPartitionManager(NamedParameterJdbcTemplate template, Interval interval) {
+        this.template = Objects.requireNonNull(template, "template");
+        this.interval = Objects.requireNonNullElse(interval, Interval.DAILY);
+    }
+
+    public boolean isPartitioned() {
+        String kind = template.query(RELKIND_SQL, Map.of("table", TABLE),
+                rs -> rs.next() ? rs.getString(1) : null);
+        return "p".equals(kind);
+    }
+
+    /**
+     * Creates the partition containing {@code now} and the next {@code ahead} partitions
+     * when they do not exist yet.
+     * <p>
+     * Failures are logged together as an error, since rows of a missing partition land in the
+     * DEFAULT partition (or fail to insert without one). A range that overlaps an existing
+     * partition of the other interval, or rows already in the DEFAULT partition, make the create
+     * fail; the latter is reported separately by {@link #checkDefaultPartition()}.
+     *
+     * @return the number of partitions created or already present
+     */
+    public int ensurePartitions(Instant now, int ahead) {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        int ensured = 0;
+        List<String> failed = new ArrayList<>();
+        DataAccessException lastError = null;
+        LocalDate start = periodStart(now);
+        for (int i = 0; i <= Math.max(0, ahead); i++) {
+            LocalDate end = nextStart(start);
+            try {
+                template.getJdbcTemplate().execute(createPartitionSql(start, end));
+                ensured++;
+            } catch (DataAccessException ex) {
+                failed.add(partitionName(start));
+                lastError = ex;
+            }
+            start = end;
+        }
+        if (!failed.isEmpty()) {
+            log.error("Failed to create {} of {} {} login failure log partition(s) {}; check that the interval matches "
+                    + "the existing partitions. Last error: {}", failed.size(), failed.size() + ensured,
+                    interval.name().toLowerCase(Locale.ROOT), failed, lastError.getMessage());
+        }
+        checkDefaultPartition();
+        return ensured;
+    }
+
+    /**
+     * Logs a warning when the DEFAULT partition holds rows. PostgreSQL refuses to create a
+     * partition whose range covers rows of the DEFAULT partition, so they have to be moved out
+     * before the partition can be created.
+     *
+     * @return the number of rows in the DEFAULT partition, or {@code 0} when there is none
+     */
+    public long checkDefaultPartition() {
+        List<String> names = template.queryForList(DEFAULT_PARTITION_SQL, Map.of("table", TABLE), String.class);
+        if (names.isEmpty()) {
+            return 0L;
+        }
+        String name = names.get(0);
+        Map<String, Object> stats = template.getJdbcTemplate().queryForMap(
+                "select count(*) as row_count, min(occurred_at) as first_at, max(occurred_at) as last_at from " + name);
+        long rows = ((Number) stats.get("row_count")).longValue();
+        if (rows > 0) {
+            log.warn("Default partition {} holds {} login failure log row(s) from {} to {}; partitions covering that "
+                    + "range cannot be created until the rows are moved out.", name, rows, stats.get("first_at"),
+                    stats.get("last_at"));
+        }
+        return rows;
+    }
+
+    /**
+     * Drops every partition whose upper bound is at or before {@code cutoff}.
+     *
+     * @return the names of the dropped partitions
+     */
+    public List<String> dropPartitionsBefore(Instant cutoff) {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        List<String> dropped = new ArrayList<>();
+        LocalDate cutoffDate = LocalDate.ofInstant(cutoff, ZoneOffset.UTC);
+        for (String name : template.queryForList(PARTITIONS_SQL, Map.of("table", TABLE), String.class)) {
+            LocalDate[] range = parseRange(name);
+            if (range == null) {
+                continue;
+            }
+            if (!range[1].isAfter(cutoffDate)) {
+                template.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + name);
+                dropped.add(name);
+            }
+        }
+        if (!dropped.isEmpty()) {
+            log.info("Dropped {} login failure log partition(s) older than {}: {}", dropped.size(), cutoff, dropped);
+        }
+        return dropped;
+    }
+
+    String partitionName(LocalDate start) {
+        return PARTITION_PREFIX + start.format(interval == Interval.MONTHLY ? MONTHLY_SUFFIX : DAILY_SUFFIX);
+    }
+
+    String createPartitionSql(LocalDate start, LocalDate end) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(start)
+                + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + start + " 00:00:00+00') TO ('" + end + " 00:00:00+00')";
+    }
+
+    LocalDate periodStart(Instant instant) {
+        LocalDate date = LocalDate.ofInstant(instant, ZoneOffset.UTC);
+        return interval == Interval.MONTHLY ? date.withDayOfMonth(1) : date;
+    }
+
+    LocalDate nextStart(LocalDate start) {
+        return interval == Interval.MONTHLY ? start.plusMonths(1) : start.plusDays(1);
+    }
+
+    /**
+     * Parses {@code [start, end)} from a partition name of either naming scheme, so that
+     * partitions created before an interval change are still recognised.
+     */
+    static LocalDate[] parseRange(String name) {
+        if (name == null || !name.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        String suffix = name.substring(PARTITION_PREFIX.length());
+        try {
+            if (suffix.length() == 8) {
+                LocalDate start = LocalDate.parse(suffix, DAILY_SUFFIX);
+                return new LocalDate[] { start, start.plusDays(1) };
+            }
+            if (suffix.length() == 6) {
+                LocalDate start = LocalDate.parse(suffix + "01", DAILY_SUFFIX);
+                return new LocalDate[] { start, start.plusMonths(1) };
+            }
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+        return null;
+    }
+}
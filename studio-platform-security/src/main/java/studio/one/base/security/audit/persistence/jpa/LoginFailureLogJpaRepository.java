@@ -1,6 +1,7 @@
 package studio.one.base.security.audit.persistence.jpa;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,11 @@ public interface LoginFailureLogJpaRepository
 
     long countByUsernameAndOccurredAtAfter(String username, Instant since);
 
+    @Override
+    default void insertBatch(List<LoginFailureLog> logs) {
+        saveAll(logs);
+    }
+
     @Override
     default long deleteOlderThan(Instant cutoff) {
         return deleteByOccurredAtBefore(cutoff);
@@ -1,9 +1,13 @@
 package studio.one.base.security.audit.service;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import studio.one.base.security.audit.domain.entity.LoginFailureLog;
+import studio.one.base.security.audit.domain.model.LoginFailureHourlyCount;
 import studio.one.platform.constant.ServiceNames;
 
 public interface LoginFailureQueryService {
@@ -11,4 +15,18 @@ public interface LoginFailureQueryService {
     public static final String SERVICE_NAME = ServiceNames.PREFIX + ":audit:login-failure-query-service";
     Page<LoginFailureLog> find(LoginFailQuery query, Pageable pageable);
 
+    /**
+     * 시간대별 사전 집계를 지원하는지 여부.
+     */
+    default boolean isHourlyCountsEnabled() {
+        return false;
+    }
+
+    /**
+     * {@code [from, to)} 구간의 시간대/유형별 실패 건수를 반환한다.
+     */
+    default List<LoginFailureHourlyCount> hourlyCounts(OffsetDateTime from, OffsetDateTime to) {
+        throw new UnsupportedOperationException("Hourly login failure counts are not enabled");
+    }
+
 }
\ No newline at end of file
@@ -21,6 +21,13 @@
 
 package studio.one.base.security.audit.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +37,8 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.base.security.audit.domain.entity.LoginFailureLog;
+import studio.one.base.security.audit.domain.model.LoginFailureHourlyCount;
+import studio.one.base.security.audit.persistence.LoginFailureHourlyCountRepository;
 import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
 
 /**
@@ -51,11 +60,35 @@ import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
 @Slf4j
 public class LoginFailureQueryServiceImpl implements LoginFailureQueryService {
 
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(93);
+
     private final LoginFailureLogRepository repo;
 
+    private LoginFailureHourlyCountRepository hourlyCountRepository;
+
+    private Duration defaultLookback;
+
+    private Clock clock = Clock.systemUTC();
+
+    public void setHourlyCountRepository(LoginFailureHourlyCountRepository hourlyCountRepository) {
+        this.hourlyCountRepository = hourlyCountRepository;
+    }
+
+    /**
+     * 시작 시각이 없는 조회에 적용할 기본 조회 기간. 파티션 테이블에서 전체 파티션 스캔을 피하기 위해 사용한다.
+     */
+    public void setDefaultLookback(Duration defaultLookback) {
+        this.defaultLookback = defaultLookback;
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
     @Override
-    public Page<LoginFailureLog> find(LoginFailQuery q, Pageable pageable) {
+    public Page<LoginFailureLog> find(LoginFailQuery query, Pageable pageable) {
         Pageable p = safePageable(pageable);
+        LoginFailQuery q = withDefaultRange(query);
         log.debug("[LoginFailureQuery] usernameLike={}, ipEquals={}, failureType={}, from={}, to={}",
                 q != null ? q.getUsernameLike() : null,
                 q != null ? q.getIpEquals() : null,
@@ -65,6 +98,44 @@ public class LoginFailureQueryServiceImpl implements LoginFailureQueryService {
         return repo.search(q, p);
     }
 
+    @Override
+    public boolean isHourlyCountsEnabled() {
+        return hourlyCountRepository != null;
+    }
+
+    @Override
+    public List<LoginFailureHourlyCount> hourlyCounts(OffsetDateTime from, OffsetDateTime to) {
+        if (hourlyCountRepository == null) {
+            return LoginFailureQueryService.super.hourlyCounts(from, to);
+        }
+        Instant end = to != null ? to.toInstant() : Instant.now(clock).truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.HOURS);
+        Instant start = from != null ? from.toInstant() : end.minus(1, ChronoUnit.DAYS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(start, end).compareTo(MAX_HOURLY_RANGE) > 0) {
+            throw new IllegalArgumentException("Hourly range must not exceed " + MAX_HOURLY_RANGE.toDays() + " days");
+        }
+        return hourlyCountRepository.findBetween(start, end);
+    }
+
+    private LoginFailQuery withDefaultRange(LoginFailQuery q) {
+        if (defaultLookback == null || defaultLookback.isZero() || defaultLookback.isNegative()) {
+            return q;
+        }
+        if (q != null && q.getFrom() != null) {
+            return q;
+        }
+        OffsetDateTime to = q != null && q.getTo() != null ? q.getTo() : OffsetDateTime.now(clock);
+        return LoginFailQuery.builder()
+                .from(to.minus(defaultLookback))
+                .to(q != null ? q.getTo() : null)
+                .usernameLike(q != null ? q.getUsernameLike() : null)
+                .ipEquals(q != null ? q.getIpEquals() : null)
+                .failureType(q != null ? q.getFailureType() : null)
+                .build();
+    }
+
     private Pageable safePageable(Pageable pageable) {
         Sort defaultSort = Sort.by(Sort.Order.desc("occurredAt"));
         if (pageable == null) {
@@ -46,6 +46,14 @@ public interface AccountLockService {
 
     void onFailedLogin(String username);
 
+    /**
+     * 실패를 메모리 카운터에 먼저 기록한다. 잠금 상태를 DB 에 반영해야 할 때만 {@code true} 를 반환하며,
+     * 호출자는 그 경우에만 {@link #onFailedLogin(String)} 을 호출하면 된다.
+     */
+    default boolean recordFailure(String username) {
+        return true;
+    }
+
     void onSuccessfulLogin(String username);
 
     Optional<Instant> getLockedUntil(String username);
@@ -26,6 +26,7 @@ import java.time.Instant;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
@@ -64,6 +65,22 @@ public class AccountLockServiceImpl implements AccountLockService {
 
     private final boolean resetOnSuccess;
 
+    private LoginFailureCounters failureCounters;
+
+    /**
+     * 메모리 슬라이딩 윈도우 카운터를 설정한다. 설정되면 잠금 임계값 미만의 실패는 DB 를 건드리지 않는다.
+     * 카운터는 노드별로 유지되므로 여러 노드에서는 노드마다 임계값이 적용된다.
+     * 잠금 window 가 0(무제한 누적)이면 카운터로는 같은 기준을 지킬 수 없으므로 사용하지 않고 DB 경로로 처리한다.
+     */
+    public void setFailureCounters(LoginFailureCounters failureCounters) {
+        this.failureCounters = failureCounters;
+        if (failureCounters != null && !useWindow()) {
+            log.warn("[LOCK] in-memory failure counters ignored: lock window is not set, failures accumulate in the database");
+        } else if (failureCounters != null && !failureCounters.window().equals(window)) {
+            log.warn("[LOCK] in-memory failure counter window {} differs from lock window {}", failureCounters.window(), window);
+        }
+    }
+
     private boolean isEnabled() {
         return maxAttempts > 0
                 && lockDuration != null
@@ -75,6 +92,23 @@ public class AccountLockServiceImpl implements AccountLockService {
         return window != null && !window.isZero() && !window.isNegative();
     }
 
+    private boolean useCounters() {
+        return failureCounters != null && isEnabled() && useWindow();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public boolean recordFailure(String username) {
+        if (StringUtils.isBlank(username) || !useCounters())
+            return true;
+        int recent = failureCounters.record(username);
+        if (recent >= 0 && recent < maxAttempts) {
+            log.debug("[LOCK] user='{}' recentFailures={} below threshold, database untouched", username, recent);
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public void onFailedLogin(String username) {
         if (StringUtils.isBlank(username))
@@ -83,6 +117,11 @@ public class AccountLockServiceImpl implements AccountLockService {
         final boolean lockingEnabled = isEnabled();
         final Instant now = Instant.now(clock);
 
+        if (useCounters() && failureCounters.usernameFailures(username) >= maxAttempts) {
+            lockFromCounters(username, now);
+            return;
+        }
+
         boolean useWindow = useWindow();
         boolean withinWindow = false;
         if (useWindow) {
@@ -117,11 +156,29 @@ public class AccountLockServiceImpl implements AccountLockService {
         }
     }
 
+    private void lockFromCounters(String username, Instant now) {
+        int updated = accountLockRepository.bumpFailedAttempts(username, now);
+        if (updated == 0) {
+            log.debug("[LOCK] user='{}' does not exist, skipping", username);
+            return;
+        }
+        Instant until = now.plus(lockDuration);
+        Instant current = accountLockRepository.findAccountLockedUntil(username);
+        if (current == null || current.isBefore(until)) {
+            accountLockRepository.lockUntil(username, until);
+            log.info("[LOCK] user='{}' locked until {} (in-memory window threshold reached)", username, until);
+        }
+    }
+
     @Override
     public void onSuccessfulLogin(String username) {
         if (!resetOnSuccess || StringUtils.isBlank(username))
             return;
 
+        if (failureCounters != null) {
+            failureCounters.reset(username);
+        }
+
         int updated = accountLockRepository.resetLockState(username);
         if (updated > 0) {
             log.debug("[LOCK] user='{}' counters reset on success", username);
@@ -0,0 +1,47 @@
+package studio.one.base.security.authentication.lock.service;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * In-memory sliding-window login failure counters, kept per username.
+ * <p>
+ * Counters are local to the node. {@link AccountLockServiceImpl} consults them so that
+ * failures below the lock threshold do not touch the database. The window should be the
+ * account lock window, so that the in-memory threshold is as strict as the database one.
+ */
+public class LoginFailureCounters {
+
+    private final Duration window;
+    private final SlidingWindowCounter byUsername;
+
+    public LoginFailureCounters(Duration window, int buckets, int maxKeys, Clock clock) {
+        this.window = window;
+        this.byUsername = new SlidingWindowCounter(window, buckets, maxKeys, clock);
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Records a failure for the username.
+     *
+     * @return the username's failures inside the window, or {@code -1} when it is not tracked
+     */
+    public int record(String username) {
+        return byUsername.increment(username);
+    }
+
+    public int usernameFailures(String username) {
+        return byUsername.count(username);
+    }
+
+    public void reset(String username) {
+        byUsername.reset(username);
+    }
+
+    public int purgeExpired() {
+        return byUsername.purgeExpired();
+    }
+}
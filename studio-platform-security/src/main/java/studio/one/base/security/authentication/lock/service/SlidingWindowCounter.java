@@ -0,0 +1,135 @@
+package studio.one.base.security.authentication.lock.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key event counter over a sliding time window.
+ * <p>
+ * The window is split into a fixed number of buckets; a count is the sum of the buckets
+ * that still fall inside the window, so the window slides with bucket granularity. The
+ * number of tracked keys is capped: when the cap is reached, keys whose window has fully
+ * elapsed are purged, at most once per bucket so that a full map does not cost a scan per new
+ * key; keys only expire at bucket boundaries, so a second scan in the same bucket would find
+ * nothing new. If no room is freed the new key is not tracked and {@link #increment(String)}
+ * returns {@code -1}.
+ */
+public class SlidingWindowCounter {
+
+    private final Clock clock;
+    private final int buckets;
+    private final long bucketMillis;
+    private final int maxKeys;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeEpoch = new AtomicLong(Long.MIN_VALUE);
+
+    public SlidingWindowCounter(Duration window, int buckets, int maxKeys, Clock clock) {
+        Objects.requireNonNull(window, "window");
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("buckets must be positive");
+        }
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys must be positive");
+        }
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1L, window.toMillis() / buckets);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Records one event for the key.
+     *
+     * @return the number of events inside the window including this one, or {@code -1}
+     *         when the key could not be tracked because the key cap was reached
+     */
+    public int increment(String key) {
+        long epoch = currentEpoch();
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys && purgeOncePerBucket(epoch) == 0 && windows.size() >= maxKeys) {
+                return -1;
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(buckets));
+        }
+        return window.increment(epoch);
+    }
+
+    /**
+     * @return the number of events for the key inside the window
+     */
+    public int count(String key) {
+        Window window = windows.get(key);
+        return window == null ? 0 : window.sum(currentEpoch());
+    }
+
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * Removes keys without any event inside the window.
+     *
+     * @return the number of keys removed
+     */
+    public int purgeExpired() {
+        long epoch = currentEpoch();
+        int before = windows.size();
+        windows.entrySet().removeIf(e -> e.getValue().sum(epoch) == 0);
+        return Math.max(0, before - windows.size());
+    }
+
+    private int purgeOncePerBucket(long epoch) {
+        long last = lastPurgeEpoch.get();
+        if (last == epoch || !lastPurgeEpoch.compareAndSet(last, epoch)) {
+            return 0;
+        }
+        return purgeExpired();
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketMillis;
+    }
+
+    private static final class Window {
+
+        private final long[] epochs;
+        private final int[] counts;
+
+        Window(int buckets) {
+            this.epochs = new long[buckets];
+            this.counts = new int[buckets];
+        }
+
+        synchronized int increment(long epoch) {
+            int slot = (int) (epoch % epochs.length);
+            if (epochs[slot] != epoch) {
+                epochs[slot] = epoch;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            return sum(epoch);
+        }
+
+        synchronized int sum(long epoch) {
+            int total = 0;
+            for (int i = 0; i < epochs.length; i++) {
+                if (epoch - epochs[i] < epochs.length && counts[i] > 0) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
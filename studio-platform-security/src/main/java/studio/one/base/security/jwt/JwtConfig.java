@@ -64,4 +64,11 @@ public interface JwtConfig {
 
     String getIssuer();
 
+    /**
+     * {@code true}이면 권한 claim이 있는 액세스 토큰은 사용자 조회 없이 claim만으로 인증한다.
+     */
+    default boolean isStatelessAccessTokens() {
+        return false;
+    }
+
 }
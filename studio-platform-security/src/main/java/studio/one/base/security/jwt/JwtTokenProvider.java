@@ -27,7 +27,10 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
@@ -53,6 +56,8 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.base.security.exception.JwtTokenException;
+import studio.one.base.security.jwt.principal.JwtClaimsPrincipal;
+import studio.one.base.security.jwt.principal.JwtPrincipalCache;
 import studio.one.base.security.userdetails.ApplicationUserDetails;
 import studio.one.platform.identity.ApplicationPrincipal;
 import studio.one.platform.service.I18n;
@@ -79,6 +84,7 @@ import studio.one.platform.service.I18n;
  *  ---------    --------    ---------------------------
  * 2025-08-25  donghyuck, son: 최초 생성.
  * 2025-09-02  donghyuck, son: Bearer 토큰 파싱 보강
+ * 2026-10-17  donghyuck, son: jti 발급, principal 캐시 및 stateless 액세스 토큰 인증 추가
  * </pre>
  */
 
@@ -98,6 +104,8 @@ public class JwtTokenProvider {
     private final String cookieSameSite;
     private final JwtParser parser;
     private final I18n i18n;
+    private final JwtPrincipalCache principalCache;
+    private final boolean statelessAccessTokens;
 
     /**
      * JWT Token prefix
@@ -126,6 +134,19 @@ public class JwtTokenProvider {
             JwtConfig jwtConfig, 
             Clock clock,
             I18n i18n) {
+        this(jwtConfig, clock, i18n, null);
+    }
+
+    /**
+     * JwtTokenProvider 생성자
+     *
+     * @param principalCache 인증 principal 캐시, null이면 요청마다 사용자 정보를 조회
+     */
+    public JwtTokenProvider(
+            JwtConfig jwtConfig,
+            Clock clock,
+            I18n i18n,
+            JwtPrincipalCache principalCache) {
         this(Keys.hmacShaKeyFor( jwtConfig.getSecret().getBytes() ), 
             jwtConfig.getIssuer(), 
             jwtConfig.getAccessTtl(), 
@@ -137,7 +158,9 @@ public class JwtTokenProvider {
             jwtConfig.isCookieSecure(),
             jwtConfig.getCookieSameSite(),
             clock, 
-            i18n);
+            i18n,
+            principalCache,
+            jwtConfig.isStatelessAccessTokens());
     }
 
     /**
@@ -163,7 +186,34 @@ public class JwtTokenProvider {
             String cookieSameSite,
             Clock clock,
             I18n i18n) {
+        this(secret, issuer, accessTtl, refreshTtl, header, claimAuthorities, refreshCookieName, cookiePath,
+                cookieSecure, cookieSameSite, clock, i18n, null, false);
+    }
+
+    /**
+     * JwtTokenProvider 생성자
+     *
+     * @param principalCache        인증 principal 캐시, null이면 요청마다 사용자 정보를 조회
+     * @param statelessAccessTokens 권한 claim이 있는 액세스 토큰을 사용자 조회 없이 인증할지 여부
+     */
+    public JwtTokenProvider(
+            SecretKey secret,
+            String issuer,
+            Duration accessTtl,
+            Duration refreshTtl,
+            String header,
+            String claimAuthorities,
+            String refreshCookieName,
+            String cookiePath,
+            boolean cookieSecure,
+            String cookieSameSite,
+            Clock clock,
+            I18n i18n,
+            JwtPrincipalCache principalCache,
+            boolean statelessAccessTokens) {
         this.i18n = i18n;
+        this.principalCache = principalCache;
+        this.statelessAccessTokens = statelessAccessTokens;
         this.secretKey = Objects.requireNonNull(secret);
         this.issuer = Objects.requireNonNull(issuer);
         this.accessTtl = Objects.requireNonNull(accessTtl);
@@ -227,6 +277,7 @@ public class JwtTokenProvider {
         var builder = Jwts.builder()
                 .subject(StringUtils.defaultIfBlank(authentication.getName(), username))
                 .claim(claimAuthorities, authorities)
+                .id(UUID.randomUUID().toString())
                 .issuer(issuer)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
@@ -247,6 +298,7 @@ public class JwtTokenProvider {
         String username = resolveUsername(authentication);
         var builder = Jwts.builder()
                 .subject(StringUtils.defaultIfBlank(authentication.getName(), username))
+                .id(UUID.randomUUID().toString())
                 .issuer(issuer)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
@@ -267,23 +319,59 @@ public class JwtTokenProvider {
         if (StringUtils.isBlank(subject)) {
             throw JwtTokenException.invalid(token);
         }
-        // Jwts.parser().verifyWith(secretKey).build()
-        UserDetails details = userDetailsService.loadUserByUsername(subject);
+        Object rawAuthorities = claims.get(claimAuthorities);
+        if (statelessAccessTokens && rawAuthorities != null) {
+            // 권한 claim이 있는 액세스 토큰은 서명된 claim만으로 인증한다(리프레시 토큰에는 권한 claim이 없다).
+            Collection<? extends GrantedAuthority> authorities = parseAuthorities(rawAuthorities);
+            Set<String> roles = authorities.stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            JwtClaimsPrincipal principal = new JwtClaimsPrincipal(extractUserId(claims), subject, roles);
+            return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        }
+        UserDetails details = loadUser(subject, claims, userDetailsService);
         Collection<? extends GrantedAuthority> authorities = null;
         if (refresh) {
             // 리프레시 토큰은 권한 정보가 없으므로 빈 컬렉션 사용
             authorities = details.getAuthorities();
         } else {
             // 액세스 토큰은 권한 정보 포함
-            String raw = String.valueOf(claims.get(claimAuthorities));
-            authorities = Arrays.stream(raw.split(","))
-                    .filter(s -> !s.isEmpty())
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
+            authorities = parseAuthorities(rawAuthorities);
         }
         return new UsernamePasswordAuthenticationToken(details, "", authorities);
     }
 
+    private UserDetails loadUser(String subject, Claims claims, UserDetailsService userDetailsService) {
+        if (principalCache == null) {
+            return userDetailsService.loadUserByUsername(subject);
+        }
+        String tokenId = claims.getId();
+        if (StringUtils.isBlank(tokenId)) {
+            // jti가 없는 이전 토큰은 발급 시각으로 구분한다.
+            Date issuedAt = claims.getIssuedAt();
+            tokenId = issuedAt != null ? "iat-" + issuedAt.getTime() : "iat-none";
+        }
+        Date expiration = claims.getExpiration();
+        return principalCache.get(subject, tokenId, expiration != null ? expiration.toInstant() : null,
+                () -> userDetailsService.loadUserByUsername(subject));
+    }
+
+    private static Collection<? extends GrantedAuthority> parseAuthorities(Object rawAuthorities) {
+        String raw = String.valueOf(rawAuthorities);
+        return Arrays.stream(raw.split(","))
+                .filter(s -> !s.isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
+    private static Long extractUserId(Claims claims) {
+        Object value = claims.get(CLAIM_USER_ID);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? Long.valueOf(String.valueOf(value)) : null;
+    }
+
     public String getUsername(String token) {
         try {
             Claims claims = parser.parseSignedClaims(token).getPayload();
@@ -0,0 +1,50 @@
+package studio.one.base.security.jwt.principal;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.Set;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import studio.one.platform.identity.ApplicationPrincipal;
+
+/**
+ * stateless 모드에서 서명된 액세스 토큰 claim만으로 만든 principal입니다.
+ * 사용자 저장소를 조회하지 않으므로 권한 변경은 토큰이 재발급될 때 반영됩니다.
+ */
+@EqualsAndHashCode
+@ToString
+public final class JwtClaimsPrincipal implements ApplicationPrincipal, Principal, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+    private final String username;
+    private final Set<String> roles;
+
+    public JwtClaimsPrincipal(Long userId, String username, Set<String> roles) {
+        this.userId = userId;
+        this.username = username;
+        this.roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    @Override
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,140 @@
+package studio.one.base.security.jwt.principal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.identity.ApplicationPrincipal;
+
+/**
+ * JWT 인증 필터가 요청마다 {@code UserDetailsService}를 호출하지 않도록 토큰 subject + token id 단위로
+ * 인증 principal을 보관하는 bounded TTL 캐시입니다.
+ * <p>
+ * 항목은 설정 TTL과 토큰 만료 시각 중 이른 시점에 만료됩니다. 사용자 비활성화, 비밀번호 변경, 권한 변경,
+ * 리프레시 토큰 폐기 시 {@link #invalidateUser(Long, String)} 또는 {@link #invalidateAll()}로 즉시 비웁니다.
+ * 무효화와 동시에 진행 중이던 로드 결과는 캐시에 남기지 않습니다.
+ */
+@Slf4j
+public class JwtPrincipalCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final Cache<Key, Entry> cache;
+    private final Duration ttl;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+
+    public JwtPrincipalCache(long maximumSize, Duration ttl, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.ttl = Objects.requireNonNull(ttl, "ttl");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.clock = Objects.requireNonNullElseGet(clock, Clock::systemUTC);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(this::clockNanos)
+                .expireAfter(new EntryExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시된 principal을 반환하거나 {@code loader}로 읽어 캐시합니다.
+     *
+     * @param subject        토큰 subject(username)
+     * @param tokenId        토큰 id({@code jti}); 없으면 발급 시각 등 토큰별로 고유한 값
+     * @param tokenExpiresAt 토큰 만료 시각, 없으면 {@code null}
+     */
+    public UserDetails get(String subject, String tokenId, Instant tokenExpiresAt, Supplier<UserDetails> loader) {
+        Key key = new Key(subject, tokenId);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.details();
+        }
+        long observed = generation.get();
+        UserDetails details = loader.get();
+        Instant expiresAt = expiresAt(tokenExpiresAt);
+        if (details == null || !expiresAt.isAfter(clock.instant())) {
+            return details;
+        }
+        Entry entry = new Entry(details, userId(details), expiresAt);
+        cache.put(key, entry);
+        if (generation.get() != observed) {
+            // 로드 중 무효화가 일어났으면 이전 상태일 수 있는 결과를 남기지 않는다.
+            cache.asMap().remove(key, entry);
+        }
+        return details;
+    }
+
+    /**
+     * 지정 사용자의 모든 토큰에 대한 principal을 비웁니다. 둘 중 알려진 값만 전달해도 됩니다.
+     */
+    public void invalidateUser(Long userId, String username) {
+        generation.incrementAndGet();
+        cache.asMap().entrySet().removeIf(e -> (userId != null && userId.equals(e.getValue().userId()))
+                || (username != null && username.equals(e.getKey().subject())));
+        log.debug("Invalidated cached JWT principals for user {} ({})", userId, username);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("Invalidated all cached JWT principals");
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private long clockNanos() {
+        Instant now = clock.instant();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    private Instant expiresAt(Instant tokenExpiresAt) {
+        Instant byTtl = clock.instant().plus(ttl);
+        return tokenExpiresAt != null && tokenExpiresAt.isBefore(byTtl) ? tokenExpiresAt : byTtl;
+    }
+
+    private static Long userId(UserDetails details) {
+        return details instanceof ApplicationPrincipal principal ? principal.getUserId() : null;
+    }
+
+    private record Key(String subject, String tokenId) {
+    }
+
+    private record Entry(UserDetails details, Long userId, Instant expiresAt) {
+    }
+
+    private final class EntryExpiry implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry value, long currentTime) {
+            return Math.max(0L, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package studio.one.base.security.jwt.principal;
+
+import java.util.Objects;
+
+import org.springframework.context.event.EventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.base.security.jwt.refresh.RefreshTokenRevokedEvent;
+import studio.one.base.user.domain.event.UserAuthorityChangedEvent;
+import studio.one.base.user.domain.event.UserCacheEvictableEvent;
+import studio.one.platform.cache.CacheInvalidation;
+import studio.one.platform.cache.CacheInvalidationBus;
+import studio.one.platform.security.event.RoleUpdatedEvent;
+
+/**
+ * 사용자/권한 변경 이벤트를 받아 {@link JwtPrincipalCache}를 무효화합니다.
+ * <p>
+ * 사용자 이벤트는 커밋 이후 발행되므로 무효화 뒤 다시 읽어도 변경된 상태가 보입니다.
+ * {@link CacheInvalidationBus}가 있으면 모든 노드의 캐시에 같은 무효화를 적용합니다.
+ */
+@Slf4j
+public class JwtPrincipalCacheInvalidator {
+
+    public static final String CACHE_NAME = "security.jwt.principals";
+
+    private static final String USER_ID_KEY = "user:";
+    private static final String USERNAME_KEY = "username:";
+
+    private final JwtPrincipalCache cache;
+    private final CacheInvalidationBus bus;
+
+    public JwtPrincipalCacheInvalidator(JwtPrincipalCache cache) {
+        this(cache, null);
+    }
+
+    public JwtPrincipalCacheInvalidator(JwtPrincipalCache cache, CacheInvalidationBus bus) {
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.bus = bus;
+        if (bus != null) {
+            bus.subscribe(CACHE_NAME, this::apply);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserCacheEvictableEvent event) {
+        invalidateUser(event.getUserId(), event.getUsername());
+    }
+
+    @EventListener
+    public void onAuthorityChanged(UserAuthorityChangedEvent event) {
+        if (event.affectsAllUsers()) {
+            invalidateAll();
+        } else {
+            invalidateUser(event.getUserId(), null);
+        }
+    }
+
+    @EventListener
+    public void onRoleUpdated(RoleUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void onRefreshTokenRevoked(RefreshTokenRevokedEvent event) {
+        if (event.getUserId() != null) {
+            invalidateUser(event.getUserId(), null);
+        }
+    }
+
+    private void invalidateUser(Long userId, String username) {
+        if (bus == null) {
+            cache.invalidateUser(userId, username);
+            return;
+        }
+        bus.publish(CacheInvalidation.of(CACHE_NAME,
+                userId != null ? USER_ID_KEY + userId : null,
+                username != null ? USERNAME_KEY + username : null));
+    }
+
+    private void invalidateAll() {
+        if (bus == null) {
+            cache.invalidateAll();
+            return;
+        }
+        bus.publish(CacheInvalidation.all(CACHE_NAME));
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        if (invalidation.isAll()) {
+            cache.invalidateAll();
+            return;
+        }
+        for (String key : invalidation.keys()) {
+            if (key.startsWith(USER_ID_KEY)) {
+                cache.invalidateUser(Long.valueOf(key.substring(USER_ID_KEY.length())), null);
+            } else if (key.startsWith(USERNAME_KEY)) {
+                cache.invalidateUser(null, key.substring(USERNAME_KEY.length()));
+            } else {
+                log.debug("Ignore unknown JWT principal invalidation key {}", key);
+            }
+        }
+    }
+}
@@ -25,6 +25,8 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,7 +52,7 @@ import studio.one.base.security.jwt.refresh.persistence.RefreshTokenRepository;
 
 @RequiredArgsConstructor
 @Slf4j
-public class HashedRefreshTokenStore implements RefreshTokenStore {
+public class HashedRefreshTokenStore implements RefreshTokenStore, ApplicationEventPublisherAware {
     
     private static final String D_STRING = ".";
 
@@ -60,6 +62,13 @@ public class HashedRefreshTokenStore implements RefreshTokenStore {
     
     private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
 
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
     private static String[] split(String raw) {
         int dot = raw.indexOf(D_STRING);
         if (dot < 1)
@@ -127,6 +136,9 @@ public class HashedRefreshTokenStore implements RefreshTokenStore {
         refreshTokenRepository.findBySelector(parts[0]).ifPresent(e -> {
             e.setRevoked(true);
             refreshTokenRepository.save(e);
+            if (eventPublisher != null) {
+                eventPublisher.publishEvent(new RefreshTokenRevokedEvent(e.getUserId()));
+            }
         });
     }
 
@@ -0,0 +1,15 @@
+package studio.one.base.security.jwt.refresh;
+
+import java.io.Serializable;
+
+import lombok.Value;
+
+/**
+ * 리프레시 토큰이 폐기(로그아웃)되었을 때 발행되는 이벤트입니다.
+ * 캐시된 JWT principal을 비우는 데 사용합니다.
+ */
+@Value
+public class RefreshTokenRevokedEvent implements Serializable {
+
+    Long userId;
+}
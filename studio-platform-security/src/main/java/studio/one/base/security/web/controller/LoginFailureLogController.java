@@ -25,22 +25,26 @@ import static org.springframework.http.ResponseEntity.ok;
 
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.base.security.audit.service.LoginFailQuery;
 import studio.one.base.security.audit.service.LoginFailureQueryService;
+import studio.one.base.security.web.dto.LoginFailureHourlyCountDto;
 import studio.one.base.security.web.dto.LoginFailureLogDto;
 import studio.one.base.security.web.mapper.LoginFailureLogMapper;
 import studio.one.platform.constant.PropertyKeys;
@@ -92,4 +96,21 @@ public class LoginFailureLogController {
         return ok(ApiResponse.ok(service.find(q, pageable).map(mapper::toDto)));
     }
 
+    /**
+     * 시간대/유형별 사전 집계된 실패 건수. 기간을 생략하면 최근 24시간을 반환한다.
+     */
+    @GetMapping("/hourly")
+    @PreAuthorize("@endpointAuthz.can('security:audit_login_failure','read')")
+    public ResponseEntity<ApiResponse<List<LoginFailureHourlyCountDto>>> hourly(
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime to) {
+        if (!service.isHourlyCountsEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Hourly login failure counts are not enabled");
+        }
+        List<LoginFailureHourlyCountDto> counts = service.hourlyCounts(from, to).stream()
+                .map(mapper::toDto)
+                .toList();
+        return ok(ApiResponse.ok(counts));
+    }
+
 }
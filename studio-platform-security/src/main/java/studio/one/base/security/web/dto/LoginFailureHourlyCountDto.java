@@ -0,0 +1,13 @@
+package studio.one.base.security.web.dto;
+
+import java.time.OffsetDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record LoginFailureHourlyCountDto(
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING) OffsetDateTime bucketStart,
+
+        String failureType,
+        long failures
+) {}
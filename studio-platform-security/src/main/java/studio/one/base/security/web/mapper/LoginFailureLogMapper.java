@@ -4,6 +4,8 @@ import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
 import studio.one.base.security.audit.domain.entity.LoginFailureLog;
+import studio.one.base.security.audit.domain.model.LoginFailureHourlyCount;
+import studio.one.base.security.web.dto.LoginFailureHourlyCountDto;
 import studio.one.base.security.web.dto.LoginFailureLogDto;
 import studio.one.base.user.web.mapper.TimeMapper;
 
@@ -13,4 +15,6 @@ import studio.one.base.user.web.mapper.TimeMapper;
 public interface LoginFailureLogMapper {
     LoginFailureLogDto toDto(LoginFailureLog entity);
 
+    LoginFailureHourlyCountDto toDto(LoginFailureHourlyCount count);
+
 }
@@ -0,0 +1,12 @@
+-- =================================================
+-- PACKAGE: SECURITY
+-- CREATE : 2026.10.17
+-- =================================================
+
+-- 로그인 실패 시간대별 사전 집계 (관리자 대시보드용)
+CREATE TABLE IF NOT EXISTS tb_login_failure_hourly (
+  bucket_start TIMESTAMPTZ  NOT NULL,
+  failure_type VARCHAR(128) NOT NULL,
+  failures     BIGINT       NOT NULL DEFAULT 0,
+  CONSTRAINT pk_login_failure_hourly PRIMARY KEY (bucket_start, failure_type)
+);
@@ -0,0 +1,86 @@
+-- =================================================
+-- PACKAGE: SECURITY (OPTIONAL, PostgreSQL 11+)
+-- CREATE : 2026.10.17
+-- =================================================
+-- tb_login_failure_log 를 occurred_at 기준 range 파티션 테이블로 전환한다.
+-- Flyway 가 자동 적용하지 않으므로 점검 시간에 수동으로 실행한다.
+-- 파티션 이름 규칙: tb_login_failure_log_pYYYYMMDD (일 단위, UTC) 또는 tb_login_failure_log_pYYYYMM (월 단위)
+-- 실행 전에 아래 DO 블록의 partition_interval 을 studio.security.audit.login-failure.partitioning.interval 과
+-- 같은 값('daily' 또는 'monthly')으로 맞춘다. 단위가 다르면 이후 파티션 생성이 기존 파티션과 겹쳐 실패한다.
+-- 전환 후 studio.security.audit.login-failure.partitioning.enabled=true 로 파티션 사전 생성/삭제를 켠다.
+-- 기본(DEFAULT) 파티션에 행이 있으면 그 범위를 포함하는 새 파티션을 만들 수 없다. 파티션 관리 job 이 경고를 남기면
+-- 해당 행을 옮기거나 지운 뒤 파티션을 만든다.
+
+BEGIN;
+
+ALTER TABLE tb_login_failure_log RENAME TO tb_login_failure_log_legacy;
+ALTER INDEX IF EXISTS ix_login_fail_user_time RENAME TO ix_login_fail_user_time_legacy;
+ALTER INDEX IF EXISTS ix_login_fail_time_brin RENAME TO ix_login_fail_time_brin_legacy;
+ALTER INDEX IF EXISTS ix_login_fail_ip RENAME TO ix_login_fail_ip_legacy;
+ALTER SEQUENCE tb_login_failure_log_id_seq OWNED BY NONE;
+
+CREATE TABLE tb_login_failure_log (
+  id           BIGINT       NOT NULL DEFAULT nextval('tb_login_failure_log_id_seq'),
+  username     VARCHAR(150) NOT NULL,
+  remote_ip    inet,
+  user_agent   VARCHAR(512),
+  failure_type VARCHAR(128),
+  message      VARCHAR(1000),
+  occurred_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+  CONSTRAINT pk_login_failure_log PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+ALTER SEQUENCE tb_login_failure_log_id_seq OWNED BY tb_login_failure_log.id;
+
+CREATE INDEX ix_login_fail_user_time ON tb_login_failure_log (username, occurred_at DESC);
+CREATE INDEX ix_login_fail_time_brin ON tb_login_failure_log USING BRIN (occurred_at);
+CREATE INDEX ix_login_fail_ip ON tb_login_failure_log (remote_ip);
+
+-- 기존 데이터 범위 + 이후 파티션 생성 (daily: 7일, monthly: 다음 달까지)
+DO $$
+DECLARE
+  partition_interval CONSTANT TEXT := 'daily';  -- 'daily' | 'monthly'
+  today DATE := (now() AT TIME ZONE 'UTC')::date;
+  first_day DATE;
+  last_day DATE;
+  step INTERVAL;
+  suffix TEXT;
+  d DATE;
+BEGIN
+  IF partition_interval NOT IN ('daily', 'monthly') THEN
+    RAISE EXCEPTION 'partition_interval must be daily or monthly: %', partition_interval;
+  END IF;
+  SELECT coalesce(min((occurred_at AT TIME ZONE 'UTC')::date), today)
+    INTO first_day
+    FROM tb_login_failure_log_legacy;
+  IF partition_interval = 'monthly' THEN
+    step := interval '1 month';
+    suffix := 'YYYYMM';
+    d := date_trunc('month', first_day)::date;
+    last_day := (date_trunc('month', today) + interval '1 month')::date;
+  ELSE
+    step := interval '1 day';
+    suffix := 'YYYYMMDD';
+    d := first_day;
+    last_day := today + 7;
+  END IF;
+  WHILE d <= last_day LOOP
+    EXECUTE format(
+      'CREATE TABLE IF NOT EXISTS %I PARTITION OF tb_login_failure_log FOR VALUES FROM (%L) TO (%L)',
+      'tb_login_failure_log_p' || to_char(d, suffix),
+      d::text || ' 00:00:00+00',
+      (d + step)::date::text || ' 00:00:00+00');
+    d := (d + step)::date;
+  END LOOP;
+END $$;
+
+-- 범위를 벗어난 행을 받아 주는 기본 파티션. 파티션 사전 생성이 밀렸을 때 insert 가 실패하지 않게 한다.
+CREATE TABLE tb_login_failure_log_default PARTITION OF tb_login_failure_log DEFAULT;
+
+INSERT INTO tb_login_failure_log (id, username, remote_ip, user_agent, failure_type, message, occurred_at)
+SELECT id, username, remote_ip, user_agent, failure_type, message, occurred_at
+  FROM tb_login_failure_log_legacy;
+
+DROP TABLE tb_login_failure_log_legacy;
+
+COMMIT;
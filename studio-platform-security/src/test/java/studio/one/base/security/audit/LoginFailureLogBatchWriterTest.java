@@ -0,0 +1,157 @@
+package studio.one.base.security.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import studio.one.base.security.audit.LoginFailureLogBatchWriter.OverflowPolicy;
+import studio.one.base.security.audit.domain.entity.LoginFailureLog;
+import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
+import studio.one.base.security.audit.service.LoginFailQuery;
+
+class LoginFailureLogBatchWriterTest {
+
+    private final RecordingRepository repository = new RecordingRepository();
+
+    @Test
+    void flushWritesPendingEntriesInBatchesOfConfiguredSize() {
+        LoginFailureLogBatchWriter writer = new LoginFailureLogBatchWriter(
+                repository, 100, 3, Duration.ofMinutes(1), OverflowPolicy.DROP, Duration.ZERO);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(writer.submit(entry("user" + i)));
+        }
+
+        assertEquals(7, writer.flush());
+
+        assertEquals(List.of(3, 3, 1), repository.batchSizes);
+        assertEquals(0, repository.singleSaves);
+        assertEquals(0, writer.pending());
+        assertEquals(7, writer.writtenCount());
+    }
+
+    @Test
+    void dropPolicyRejectsEntriesWhenBufferIsFull() {
+        LoginFailureLogBatchWriter writer = new LoginFailureLogBatchWriter(
+                repository, 2, 10, Duration.ofMinutes(1), OverflowPolicy.DROP, Duration.ZERO);
+
+        assertTrue(writer.submit(entry("a")));
+        assertTrue(writer.submit(entry("b")));
+        assertFalse(writer.submit(entry("c")));
+
+        assertEquals(1, writer.droppedCount());
+        assertEquals(2, writer.pending());
+    }
+
+    @Test
+    void blockPolicyWaitsForSpaceBeforeDropping() {
+        LoginFailureLogBatchWriter writer = new LoginFailureLogBatchWriter(
+                repository, 1, 10, Duration.ofMinutes(1), OverflowPolicy.BLOCK, Duration.ofMillis(20));
+        writer.submit(entry("a"));
+
+        long started = System.nanoTime();
+        assertFalse(writer.submit(entry("b")));
+
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(1, writer.droppedCount());
+    }
+
+    @Test
+    void fullBatchIsFlushedByBackgroundThread() throws Exception {
+        LoginFailureLogBatchWriter writer = new LoginFailureLogBatchWriter(
+                repository, 100, 2, Duration.ofMinutes(1), OverflowPolicy.DROP, Duration.ZERO);
+        writer.start();
+        try {
+            writer.submit(entry("a"));
+            writer.submit(entry("b"));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (writer.writtenCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, writer.writtenCount());
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void closeFlushesRemainingEntries() {
+        LoginFailureLogBatchWriter writer = new LoginFailureLogBatchWriter(
+                repository, 100, 50, Duration.ofMinutes(1), OverflowPolicy.DROP, Duration.ZERO);
+        writer.start();
+        writer.submit(entry("a"));
+
+        writer.close();
+
+        assertEquals(1, writer.writtenCount());
+        assertEquals(List.of(1), repository.batchSizes);
+    }
+
+    @Test
+    void failedBatchIsCountedAndDiscarded() {
+        repository.failing = true;
+        LoginFailureLogBatchWriter writer = new LoginFailureLogBatchWriter(
+                repository, 100, 10, Duration.ofMinutes(1), OverflowPolicy.DROP, Duration.ZERO);
+        writer.submit(entry("a"));
+
+        assertEquals(0, writer.flush());
+
+        assertEquals(1, writer.failedCount());
+        assertEquals(0, writer.pending());
+    }
+
+    private static LoginFailureLog entry(String username) {
+        return LoginFailureLog.builder()
+                .username(username)
+                .remoteIp("10.0.0.1")
+                .failureType("BadCredentialsException")
+                .occurredAt(Instant.parse("2026-10-17T00:00:00Z"))
+                .build();
+    }
+
+    private static class RecordingRepository implements LoginFailureLogRepository {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile int singleSaves;
+        private volatile boolean failing;
+
+        @Override
+        public LoginFailureLog save(LoginFailureLog log) {
+            singleSaves++;
+            return log;
+        }
+
+        @Override
+        public void insertBatch(List<LoginFailureLog> logs) {
+            if (failing) {
+                throw new IllegalStateException("database unavailable");
+            }
+            batchSizes.add(logs.size());
+        }
+
+        @Override
+        public long deleteOlderThan(Instant cutoff) {
+            return 0;
+        }
+
+        @Override
+        public long countByUsernameSince(String username, Instant since) {
+            return 0;
+        }
+
+        @Override
+        public Page<LoginFailureLog> search(LoginFailQuery query, Pageable pageable) {
+            return Page.empty(pageable);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package studio.one.base.security.audit.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import studio.one.base.security.audit.persistence.jdbc.LoginFailureLogPartitionManager.Interval;
+
+class LoginFailureLogPartitionManagerTest {
+
+    private final NamedParameterJdbcTemplate template = mock(NamedParameterJdbcTemplate.class);
+    private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+
+    @Test
+    void dailyPartitionsUseUtcDayBoundaries() {
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.DAILY);
+        LocalDate start = manager.periodStart(Instant.parse("2026-10-17T23:59:59Z"));
+
+        assertEquals("tb_login_failure_log_p20261017", manager.partitionName(start));
+        assertEquals("CREATE TABLE IF NOT EXISTS tb_login_failure_log_p20261017 PARTITION OF tb_login_failure_log"
+                + " FOR VALUES FROM ('2026-10-17 00:00:00+00') TO ('2026-10-18 00:00:00+00')",
+                manager.createPartitionSql(start, manager.nextStart(start)));
+    }
+
+    @Test
+    void monthlyPartitionsStartOnFirstDay() {
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.MONTHLY);
+        LocalDate start = manager.periodStart(Instant.parse("2026-10-17T10:00:00Z"));
+
+        assertEquals(LocalDate.of(2026, 10, 1), start);
+        assertEquals("tb_login_failure_log_p202610", manager.partitionName(start));
+        assertEquals(LocalDate.of(2026, 11, 1), manager.nextStart(start));
+    }
+
+    @Test
+    void parsesBothNamingSchemesAndIgnoresOthers() {
+        assertEquals(LocalDate.of(2026, 10, 18), LoginFailureLogPartitionManager.parseRange("tb_login_failure_log_p20261017")[1]);
+        assertEquals(LocalDate.of(2026, 11, 1), LoginFailureLogPartitionManager.parseRange("tb_login_failure_log_p202610")[1]);
+        assertNull(LoginFailureLogPartitionManager.parseRange("tb_login_failure_log_default"));
+        assertNull(LoginFailureLogPartitionManager.parseRange("tb_login_failure_log_p2026AB17"));
+    }
+
+    @Test
+    void dropsOnlyPartitionsEndingBeforeCutoff() {
+        partitioned(true);
+        when(template.queryForList(anyString(), anyMap(), eq(String.class))).thenReturn(List.of(
+                "tb_login_failure_log_p20261015",
+                "tb_login_failure_log_p20261016",
+                "tb_login_failure_log_p20261017",
+                "tb_login_failure_log_default"));
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.DAILY);
+
+        List<String> dropped = manager.dropPartitionsBefore(Instant.parse("2026-10-17T04:00:00Z"));
+
+        assertEquals(List.of("tb_login_failure_log_p20261015", "tb_login_failure_log_p20261016"), dropped);
+        verify(jdbc).execute("DROP TABLE IF EXISTS tb_login_failure_log_p20261015");
+        verify(jdbc, never()).execute("DROP TABLE IF EXISTS tb_login_failure_log_p20261017");
+    }
+
+    @Test
+    void doesNothingWhenTableIsNotPartitioned() {
+        partitioned(false);
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.DAILY);
+
+        assertEquals(0, manager.ensurePartitions(Instant.parse("2026-10-17T00:00:00Z"), 7));
+        assertEquals(List.of(), manager.dropPartitionsBefore(Instant.parse("2026-10-17T00:00:00Z")));
+        verify(jdbc, never()).execute(anyString());
+    }
+
+    @Test
+    void ensuresCurrentAndUpcomingPartitions() {
+        partitioned(true);
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.DAILY);
+
+        assertEquals(3, manager.ensurePartitions(Instant.parse("2026-10-17T12:00:00Z"), 2));
+
+        verify(jdbc).execute(manager.createPartitionSql(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20)));
+    }
+
+    @Test
+    void keepsEnsuringAfterFailedPartitionAndChecksDefaultPartition() {
+        partitioned(true);
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.DAILY);
+        doThrow(new DataIntegrityViolationException("default partition would be violated")).when(jdbc)
+                .execute(manager.createPartitionSql(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 19)));
+        when(template.queryForList(anyString(), anyMap(), eq(String.class)))
+                .thenReturn(List.of("tb_login_failure_log_default"));
+        when(jdbc.queryForMap(anyString())).thenReturn(Map.of("row_count", 3L));
+
+        assertEquals(2, manager.ensurePartitions(Instant.parse("2026-10-17T12:00:00Z"), 2));
+
+        verify(jdbc).execute(manager.createPartitionSql(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20)));
+        verify(jdbc).queryForMap("select count(*) as row_count, min(occurred_at) as first_at,"
+                + " max(occurred_at) as last_at from tb_login_failure_log_default");
+    }
+
+    @Test
+    void reportsNoDefaultRowsWithoutDefaultPartition() {
+        partitioned(true);
+        LoginFailureLogPartitionManager manager = new LoginFailureLogPartitionManager(template, Interval.MONTHLY);
+
+        assertEquals(0L, manager.checkDefaultPartition());
+        verify(jdbc, never()).queryForMap(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void partitioned(boolean partitioned) {
+        when(template.query(anyString(), anyMap(), any(ResultSetExtractor.class))).thenReturn(partitioned ? "p" : "r");
+        when(template.getJdbcTemplate()).thenReturn(jdbc);
+    }
+}
@@ -0,0 +1,87 @@
+package studio.one.base.security.audit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import studio.one.base.security.audit.domain.model.LoginFailureHourlyCount;
+import studio.one.base.security.audit.persistence.LoginFailureHourlyCountRepository;
+import studio.one.base.security.audit.persistence.LoginFailureLogRepository;
+
+class LoginFailureQueryServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:20:00Z");
+
+    private final LoginFailureLogRepository repository = mock(LoginFailureLogRepository.class);
+    private final LoginFailureQueryServiceImpl service = new LoginFailureQueryServiceImpl(repository);
+
+    LoginFailureQueryServiceImplTest() {
+        service.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.search(any(), any())).thenReturn(Page.empty());
+    }
+
+    @Test
+    void queryWithoutStartIsBoundedByDefaultLookback() {
+        service.setDefaultLookback(Duration.ofDays(31));
+
+        service.find(LoginFailQuery.builder().usernameLike("ali").build(), PageRequest.of(0, 15));
+
+        LoginFailQuery q = capturedQuery();
+        assertEquals(NOW.minus(Duration.ofDays(31)), q.getFrom().toInstant());
+        assertNull(q.getTo());
+        assertEquals("ali", q.getUsernameLike());
+    }
+
+    @Test
+    void explicitStartIsKept() {
+        service.setDefaultLookback(Duration.ofDays(31));
+        LoginFailQuery query = LoginFailQuery.builder()
+                .from(OffsetDateTime.parse("2025-01-01T00:00:00Z"))
+                .build();
+
+        service.find(query, PageRequest.of(0, 15));
+
+        assertSame(query, capturedQuery());
+    }
+
+    @Test
+    void hourlyCountsDefaultToLastDayAndRejectHugeRanges() {
+        assertFalse(service.isHourlyCountsEnabled());
+        LoginFailureHourlyCountRepository hourly = mock(LoginFailureHourlyCountRepository.class);
+        List<LoginFailureHourlyCount> counts = List.of(
+                new LoginFailureHourlyCount(Instant.parse("2026-10-17T09:00:00Z"), "BadCredentialsException", 12));
+        when(hourly.findBetween(Instant.parse("2026-10-16T11:00:00Z"), Instant.parse("2026-10-17T11:00:00Z")))
+                .thenReturn(counts);
+        service.setHourlyCountRepository(hourly);
+
+        assertTrue(service.isHourlyCountsEnabled());
+        assertEquals(counts, service.hourlyCounts(null, null));
+        assertThrows(IllegalArgumentException.class, () -> service.hourlyCounts(
+                OffsetDateTime.parse("2025-01-01T00:00:00Z"), OffsetDateTime.parse("2026-01-01T00:00:00Z")));
+    }
+
+    private LoginFailQuery capturedQuery() {
+        ArgumentCaptor<LoginFailQuery> captor = ArgumentCaptor.forClass(LoginFailQuery.class);
+        verify(repository).search(captor.capture(), any());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,92 @@
+package studio.one.base.security.authentication.lock.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import studio.one.base.security.authentication.lock.persistence.AccountLockRepository;
+
+class AccountLockServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    private final AccountLockRepository repository = mock(AccountLockRepository.class);
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final AccountLockServiceImpl service = new AccountLockServiceImpl(
+            repository, clock, 3, WINDOW, Duration.ofMinutes(10), true);
+
+    @Test
+    void failuresBelowThresholdStayInMemory() {
+        service.setFailureCounters(new LoginFailureCounters(WINDOW, 15, 100, clock));
+
+        assertFalse(service.recordFailure("alice"));
+        assertFalse(service.recordFailure("alice"));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void reachingThresholdLocksWithoutReadModifyWrite() {
+        service.setFailureCounters(new LoginFailureCounters(WINDOW, 15, 100, clock));
+        when(repository.bumpFailedAttempts("alice", NOW)).thenReturn(1);
+        service.recordFailure("alice");
+        service.recordFailure("alice");
+
+        assertTrue(service.recordFailure("alice"));
+        service.onFailedLogin("alice");
+
+        verify(repository).lockUntil("alice", NOW.plus(Duration.ofMinutes(10)));
+        verify(repository, never()).findFailedAttempts(anyString());
+        verify(repository, never()).resetLockState(anyString());
+    }
+
+    @Test
+    void successfulLoginResetsInMemoryCounter() {
+        LoginFailureCounters counters = new LoginFailureCounters(WINDOW, 15, 100, clock);
+        service.setFailureCounters(counters);
+        service.recordFailure("alice");
+
+        service.onSuccessfulLogin("alice");
+
+        assertEquals(0, counters.usernameFailures("alice"));
+    }
+
+    @Test
+    void unlimitedLockWindowKeepsEveryFailureOnTheDatabasePath() {
+        AccountLockServiceImpl unlimited = new AccountLockServiceImpl(
+                repository, clock, 3, Duration.ZERO, Duration.ofMinutes(10), true);
+        LoginFailureCounters counters = new LoginFailureCounters(WINDOW, 15, 100, clock);
+        unlimited.setFailureCounters(counters);
+
+        assertTrue(unlimited.recordFailure("alice"));
+        assertEquals(0, counters.usernameFailures("alice"));
+    }
+
+    @Test
+    void withoutCountersEveryFailureGoesToDatabase() {
+        when(repository.bumpFailedAttempts(anyString(), any())).thenReturn(1);
+        when(repository.findFailedAttempts("alice")).thenReturn(1);
+
+        assertTrue(service.recordFailure("alice"));
+        service.onFailedLogin("alice");
+
+        verify(repository).bumpFailedAttempts("alice", NOW);
+        verify(repository, never()).lockUntil(anyString(), any());
+    }
+}
@@ -0,0 +1,101 @@
+package studio.one.base.security.authentication.lock.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-17T00:00:00Z"));
+
+    @Test
+    void countsOnlyEventsInsideTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10, 100, clock);
+
+        counter.increment("alice");
+        clock.advance(Duration.ofMinutes(5));
+        counter.increment("alice");
+        assertEquals(2, counter.count("alice"));
+
+        clock.advance(Duration.ofMinutes(6));
+        assertEquals(1, counter.count("alice"));
+
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals(0, counter.count("alice"));
+    }
+
+    @Test
+    void keysAreCountedIndependentlyAndCanBeReset() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10, 100, clock);
+
+        counter.increment("alice");
+        counter.increment("alice");
+        counter.increment("bob");
+        counter.reset("alice");
+
+        assertEquals(0, counter.count("alice"));
+        assertEquals(1, counter.count("bob"));
+    }
+
+    @Test
+    void keyCapPurgesExpiredKeysBeforeRefusingNewOnes() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10, 2, clock);
+        counter.increment("a");
+        counter.increment("b");
+
+        assertEquals(-1, counter.increment("c"));
+
+        clock.advance(Duration.ofMinutes(11));
+        assertEquals(1, counter.increment("c"));
+        assertEquals(1, counter.size());
+    }
+
+    @Test
+    void fullMapPurgeIsDueAgainInTheNextBucket() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10, 2, clock);
+        counter.increment("a");
+        counter.increment("b");
+        clock.advance(Duration.ofMinutes(5));
+
+        assertEquals(-1, counter.increment("c"));
+        assertEquals(-1, counter.increment("d"));
+
+        clock.advance(Duration.ofMinutes(6));
+        assertEquals(1, counter.increment("d"));
+        assertEquals(1, counter.increment("c"));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package studio.one.base.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import io.jsonwebtoken.security.Keys;
+import studio.one.base.security.jwt.principal.JwtClaimsPrincipal;
+import studio.one.base.security.jwt.principal.JwtPrincipalCache;
+import studio.one.platform.identity.ApplicationPrincipal;
+
+class JwtTokenProviderPrincipalTest {
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor("01234567890123456789012345678901".getBytes());
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final UserDetailsService userDetailsService = username -> {
+        lookups.incrementAndGet();
+        return new TestUser(7L, username);
+    };
+
+    @Test
+    void cachedPrincipalAvoidsRepeatedLookupsForTheSameToken() {
+        JwtTokenProvider provider = provider(new JwtPrincipalCache(100, Duration.ofSeconds(30), null), false);
+        String token = provider.generateToken(login());
+
+        Authentication first = provider.getAuthentication(token, userDetailsService, true);
+        Authentication second = provider.getAuthentication(token, userDetailsService, true);
+
+        assertEquals(1, lookups.get());
+        assertSame(first.getPrincipal(), second.getPrincipal());
+    }
+
+    @Test
+    void eachIssuedTokenHasItsOwnCacheEntry() {
+        JwtTokenProvider provider = provider(new JwtPrincipalCache(100, Duration.ofSeconds(30), null), false);
+        String first = provider.generateToken(login());
+        String second = provider.generateToken(login());
+
+        assertNotEquals(first, second);
+        provider.getAuthentication(first, userDetailsService, true);
+        provider.getAuthentication(second, userDetailsService, true);
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void withoutCacheEveryRequestLoadsTheUser() {
+        JwtTokenProvider provider = provider(null, false);
+        String token = provider.generateToken(login());
+
+        provider.getAuthentication(token, userDetailsService, true);
+        provider.getAuthentication(token, userDetailsService, true);
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void statelessAccessTokenAuthenticatesFromClaims() {
+        JwtTokenProvider provider = provider(null, true);
+        String token = provider.generateToken(login());
+
+        Authentication authentication = provider.getAuthentication(token, userDetailsService, true);
+
+        assertEquals(0, lookups.get());
+        JwtClaimsPrincipal principal = assertInstanceOf(JwtClaimsPrincipal.class, authentication.getPrincipal());
+        assertEquals(7L, principal.getUserId());
+        assertEquals("alice", principal.getUsername());
+        assertEquals(Set.of("ROLE_USER"), principal.getRoles());
+        assertEquals(List.of("ROLE_USER"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void statelessModeStillLoadsUserForRefreshTokens() {
+        JwtTokenProvider provider = provider(null, true);
+        String refresh = provider.generateRefreshToken(login());
+
+        Authentication authentication = provider.getAuthentication(refresh, userDetailsService, true);
+
+        assertEquals(1, lookups.get());
+        assertInstanceOf(TestUser.class, authentication.getPrincipal());
+    }
+
+    private static JwtTokenProvider provider(JwtPrincipalCache cache, boolean stateless) {
+        return new JwtTokenProvider(KEY, "studio-test", Duration.ofMinutes(15), Duration.ofMinutes(5),
+                null, null, null, null, false, null, Clock.systemUTC(), (code, args, locale) -> code,
+                cache, stateless);
+    }
+
+    private static Authentication login() {
+        TestUser user = new TestUser(7L, "alice");
+        return new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
+    }
+
+    private record TestUser(Long id, String name) implements UserDetails, ApplicationPrincipal {
+
+        @Override
+        public Long getUserId() {
+            return id;
+        }
+
+        @Override
+        public String getUsername() {
+            return name;
+        }
+
+        @Override
+        public Set<String> getRoles() {
+            return Set.of("ROLE_USER");
+        }
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+
+        @Override
+        public String getPassword() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package studio.one.base.security.jwt.principal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import studio.one.base.security.jwt.refresh.RefreshTokenRevokedEvent;
+import studio.one.base.user.domain.event.UserAuthorityChangedEvent;
+import studio.one.platform.identity.ApplicationPrincipal;
+
+class JwtPrincipalCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-17T00:00:00Z"));
+    private final JwtPrincipalCache cache = new JwtPrincipalCache(100, Duration.ofSeconds(30), clock);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void returnsCachedPrincipalUntilTtlElapses() {
+        UserDetails first = load("alice", "t1", null);
+        UserDetails second = load("alice", "t1", null);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        clock.advance(Duration.ofSeconds(31));
+        load("alice", "t1", null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void entryNeverOutlivesTheToken() {
+        Instant tokenExpiry = clock.instant().plusSeconds(5);
+        load("alice", "t1", tokenExpiry);
+        clock.advance(Duration.ofSeconds(6));
+
+        load("alice", "t1", tokenExpiry);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void separateTokensAreCachedSeparately() {
+        load("alice", "t1", null);
+        load("alice", "t2", null);
+
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void invalidateUserMatchesUserIdOrUsername() {
+        load("alice", "t1", null);
+        load("bob", "t2", null);
+
+        cache.invalidateUser(1L, null);
+        assertEquals(1, cache.size());
+
+        cache.invalidateUser(null, "bob");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidatorReactsToAuthorityAndRefreshEvents() {
+        JwtPrincipalCacheInvalidator invalidator = new JwtPrincipalCacheInvalidator(cache);
+        load("alice", "t1", null);
+        load("bob", "t2", null);
+
+        invalidator.onRefreshTokenRevoked(new RefreshTokenRevokedEvent(2L));
+        assertEquals(1, cache.size());
+
+        invalidator.onAuthorityChanged(UserAuthorityChangedEvent.ofGroup(10L, "admin", clock));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidationDuringLoadDiscardsTheLoadedPrincipal() {
+        cache.get("alice", "t1", null, () -> {
+            cache.invalidateUser(1L, "alice");
+            return new TestUser(1L, "alice");
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    private UserDetails load(String username, String tokenId, Instant tokenExpiry) {
+        return cache.get(username, tokenId, tokenExpiry, () -> {
+            loads.incrementAndGet();
+            return new TestUser("alice".equals(username) ? 1L : 2L, username);
+        });
+    }
+
+    private record TestUser(Long id, String name) implements UserDetails, ApplicationPrincipal {
+
+        @Override
+        public Long getUserId() {
+            return id;
+        }
+
+        @Override
+        public String getUsername() {
+            return name;
+        }
+
+        @Override
+        public Set<String> getRoles() {
+            return Set.of("ROLE_USER");
+        }
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+
+        @Override
+        public String getPassword() {
+            return "";
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package studio.one.platform.textract.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.textract.model.ParsedFile;
+
+/**
+ * On-disk tier that stores each result as a gzip-compressed serialized file under a directory and
+ * evicts the least recently used files once the directory exceeds {@code maxBytes}.
+ * <p>
+ * Recency is kept in memory and seeded from file modification times at start-up, so the tier
+ * survives restarts. Deserialization is restricted to the textract model types and JDK value
+ * types; unreadable or mismatching files are treated as a miss and deleted.
+ */
+@Slf4j
+public class DiskExtractionResultCache implements ExtractionResultCache {
+
+    private static final String SUFFIX = ".parsed.gz";
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;studio.one.platform.textract.model.*;studio.one.platform.textract.cache.*;"
+                    + "studio.one.platform.textract.extractor.DocumentFormat;"
+                    + "java.lang.*;java.util.*;java.math.*;java.time.*;!*");
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public DiskExtractionResultCache(Path directory, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create extraction cache directory: " + directory, e);
+        }
+        loadIndex();
+    }
+
+    @Override
+    public Optional<ParsedFile> get(ExtractionCacheKey key) {
+        String name = key.fileName() + SUFFIX;
+        synchronized (this) {
+            if (files.get(name) == null) {
+                return Optional.empty();
+            }
+        }
+        Path file = directory.resolve(name);
+        try (ObjectInputStream in = new ObjectInputStream(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            in.setObjectInputFilter(FILTER);
+            Object value = in.readObject();
+            if (value instanceof StoredResult stored && key.equals(stored.key())) {
+                touch(file);
+                return Optional.of(stored.parsedFile());
+            }
+            log.debug("Discarding extraction cache file with mismatching key: {}", file);
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            log.debug("Discarding unreadable extraction cache file {}: {}", file, e.getMessage());
+        }
+        remove(name);
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(ExtractionCacheKey key, ParsedFile parsedFile) {
+        String name = key.fileName() + SUFFIX;
+        Path target = directory.resolve(name);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, key.contentHash(), ".tmp");
+            try (OutputStream raw = new BufferedOutputStream(Files.newOutputStream(temp));
+                    ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(raw))) {
+                out.writeObject(new StoredResult(key, parsedFile));
+            }
+            long size = Files.size(temp);
+            if (size > maxBytes) {
+                Files.deleteIfExists(temp);
+                return;
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            record(name, size);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to write extraction cache file {}: {}", target, e.getMessage());
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return files.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private void loadIndex() {
+        List<Path> existing;
+        try (Stream<Path> stream = Files.list(directory)) {
+            existing = stream
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(DiskExtractionResultCache::lastModified))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list extraction cache directory: " + directory, e);
+        }
+        for (Path path : existing) {
+            try {
+                record(path.getFileName().toString(), Files.size(path));
+            } catch (IOException e) {
+                log.debug("Skipping extraction cache file {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private void record(String name, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Long previous = files.put(name, size);
+            if (previous != null) {
+                totalBytes -= previous;
+            }
+            totalBytes += size;
+            var iterator = files.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(name)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        evicted.forEach(evictedName -> deleteQuietly(directory.resolve(evictedName)));
+    }
+
+    private void remove(String name) {
+        synchronized (this) {
+            Long size = files.remove(name);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+        deleteQuietly(directory.resolve(name));
+    }
+
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Failed to touch extraction cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Failed to delete extraction cache file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record StoredResult(ExtractionCacheKey key, ParsedFile parsedFile) implements Serializable {
+    }
+}
@@ -0,0 +1,39 @@
+package studio.one.platform.textract.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Cache key of an extraction result: the SHA-256 of the input bytes plus the version of the
+ * parser that produced the result.
+ */
+public record ExtractionCacheKey(String contentHash, String parserVersion) implements Serializable {
+
+    public ExtractionCacheKey {
+        Objects.requireNonNull(contentHash, "contentHash");
+        Objects.requireNonNull(parserVersion, "parserVersion");
+    }
+
+    /**
+     * File-system safe name that is unique per content hash and parser version.
+     */
+    public String fileName() {
+        return contentHash + "-" + sha256Hex(parserVersion.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String sha256Hex(byte[] bytes) {
+        return HexFormat.of().formatHex(newDigest().digest(bytes));
+    }
+}
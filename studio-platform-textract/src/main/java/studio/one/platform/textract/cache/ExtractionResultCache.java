@@ -0,0 +1,32 @@
+package studio.one.platform.textract.cache;
+
+import java.util.Optional;
+
+import studio.one.platform.textract.model.ParsedFile;
+
+/**
+ * Cache of {@link ParsedFile} results keyed by input content hash and parser version.
+ */
+public interface ExtractionResultCache {
+
+    ExtractionResultCache NOOP = new ExtractionResultCache() {
+
+        @Override
+        public Optional<ParsedFile> get(ExtractionCacheKey key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(ExtractionCacheKey key, ParsedFile parsedFile) {
+            // no-op
+        }
+    };
+
+    Optional<ParsedFile> get(ExtractionCacheKey key);
+
+    void put(ExtractionCacheKey key, ParsedFile parsedFile);
+
+    static ExtractionResultCache noop() {
+        return NOOP;
+    }
+}
@@ -0,0 +1,92 @@
+package studio.one.platform.textract.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import studio.one.platform.textract.model.ExtractedTable;
+import studio.one.platform.textract.model.ParsedBlock;
+import studio.one.platform.textract.model.ParsedFile;
+
+/**
+ * Size-bounded, least-recently-used in-memory tier.
+ * <p>
+ * The bound is an estimate of retained bytes derived from the text carried by the result; results
+ * larger than the whole bound are not cached.
+ */
+public class InMemoryExtractionResultCache implements ExtractionResultCache {
+
+    private static final int BLOCK_OVERHEAD_BYTES = 256;
+
+    private final long maxWeight;
+    private final LinkedHashMap<ExtractionCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    public InMemoryExtractionResultCache(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public synchronized Optional<ParsedFile> get(ExtractionCacheKey key) {
+        Entry entry = entries.get(key);
+        return entry == null ? Optional.empty() : Optional.of(entry.parsedFile());
+    }
+
+    @Override
+    public synchronized void put(ExtractionCacheKey key, ParsedFile parsedFile) {
+        long entryWeight = weigh(parsedFile);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(parsedFile, entryWeight));
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        weight += entryWeight;
+        var iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<ExtractionCacheKey, Entry> eldest = iterator.next();
+            weight -= eldest.getValue().weight();
+            iterator.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    static long weigh(ParsedFile parsedFile) {
+        long chars = length(parsedFile.plainText());
+        chars += weighBlocks(parsedFile.blocks());
+        chars += weighBlocks(parsedFile.pages());
+        for (ExtractedTable table : parsedFile.tables()) {
+            chars += length(table.markdown()) + (long) table.cells().size() * BLOCK_OVERHEAD_BYTES / 2;
+        }
+        long blockCount = (long) parsedFile.blocks().size() + parsedFile.pages().size()
+                + parsedFile.images().size() + parsedFile.warnings().size();
+        return chars * 2 + blockCount * BLOCK_OVERHEAD_BYTES;
+    }
+
+    private static long weighBlocks(List<ParsedBlock> blocks) {
+        long chars = 0;
+        for (ParsedBlock block : blocks) {
+            chars += length(block.text()) + weighBlocks(block.children());
+        }
+        return chars;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Entry(ParsedFile parsedFile, long weight) {
+    }
+}
@@ -0,0 +1,38 @@
+package studio.one.platform.textract.cache;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import studio.one.platform.textract.model.ParsedFile;
+
+/**
+ * Two-tier cache: a fast first tier backed by a larger second tier. Second-tier hits are promoted
+ * to the first tier; writes go to both.
+ */
+public class TieredExtractionResultCache implements ExtractionResultCache {
+
+    private final ExtractionResultCache first;
+    private final ExtractionResultCache second;
+
+    public TieredExtractionResultCache(ExtractionResultCache first, ExtractionResultCache second) {
+        this.first = Objects.requireNonNull(first, "first");
+        this.second = Objects.requireNonNull(second, "second");
+    }
+
+    @Override
+    public Optional<ParsedFile> get(ExtractionCacheKey key) {
+        Optional<ParsedFile> cached = first.get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        cached = second.get(key);
+        cached.ifPresent(parsedFile -> first.put(key, parsedFile));
+        return cached;
+    }
+
+    @Override
+    public void put(ExtractionCacheKey key, ParsedFile parsedFile) {
+        first.put(key, parsedFile);
+        second.put(key, parsedFile);
+    }
+}
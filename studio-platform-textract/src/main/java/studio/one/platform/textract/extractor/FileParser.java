@@ -37,6 +37,7 @@ import studio.one.platform.textract.model.ParsedFile;
  *   수정일        수정자           수정내용
  *  ---------    --------    ---------------------------
  * 2025-11-27  donghyuck, son: 최초 생성.
+ * 2026-10-18  donghyuck, son: Implementation-Version 이 없을 때 파서 버전을 클래스 파일 해시로 대체.
  *          </pre>
  */
 
@@ -56,6 +57,17 @@ public interface FileParser {
      */
     String parse(byte[] bytes, String contentType, String filename) throws FileParseException;
 
+    /**
+     * 추출 결과 캐시 키에 포함되는 파서 버전.
+     * <p>
+     * 기본값은 구현 클래스 이름과 jar 의 Implementation-Version 이다. Implementation-Version 이 없으면 구현
+     * 클래스 파일의 SHA-256 을 쓰므로, 다시 빌드한 파서가 이전 빌드의 디스크 캐시 결과를 받지 않는다.
+     * 설정에 따라 결과가 달라지는 파서는 해당 설정을 포함하도록 재정의한다.
+     */
+    default String version() {
+        return ParserVersions.of(getClass());
+    }
+
     /**
      * 파일 내용을 구조화된 파싱 결과로 변환.
      */
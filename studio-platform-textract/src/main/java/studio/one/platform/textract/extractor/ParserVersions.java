@@ -0,0 +1,56 @@
+package studio.one.platform.textract.extractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Default {@link FileParser#version()} values, computed once per parser class.
+ * <p>
+ * Without a jar {@code Implementation-Version} (IDE runs, exploded or unversioned builds) the
+ * version falls back to a hash of the parser's class file, so a rebuilt parser does not reuse
+ * disk cache entries written by an older build. When the class file cannot be read either, a
+ * token that changes on every start is used, which keeps the disk cache from serving results
+ * across restarts.
+ */
+final class ParserVersions {
+
+    private static final String RUN_TOKEN = "run-" + UUID.randomUUID();
+
+    private static final ClassValue<String> VERSIONS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            Package pkg = type.getPackage();
+            String implementationVersion = pkg == null ? null : pkg.getImplementationVersion();
+            return type.getName() + "/" + (implementationVersion == null ? classFileHash(type) : implementationVersion);
+        }
+    };
+
+    private ParserVersions() {
+    }
+
+    static String of(Class<?> type) {
+        return VERSIONS.get(type);
+    }
+
+    static String classFileHash(Class<?> type) {
+        String name = type.getName();
+        String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            if (in == null) {
+                return RUN_TOKEN;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return "sha256-" + HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            return RUN_TOKEN;
+        }
+    }
+}
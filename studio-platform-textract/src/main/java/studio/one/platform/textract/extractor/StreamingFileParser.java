@@ -0,0 +1,38 @@
+package studio.one.platform.textract.extractor;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import studio.one.platform.textract.model.ParsedBlock;
+import studio.one.platform.textract.model.ParsedFile;
+
+/**
+ * 파일 전체를 {@code byte[]}로 적재하지 않고 파일에서 직접 읽어 파싱하는 파서.
+ * <p>
+ * 구현체는 {@link java.nio.channels.SeekableByteChannel} 또는 파일 기반 라이브러리 API로 필요한 부분만 읽고,
+ * 조립된 본문 블록을 만들어지는 순서대로 {@code blockListener}에 전달한다. 반환되는 {@link ParsedFile}의
+ * {@code blocks()}는 리스너가 받은 블록과 같은 순서이다.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public interface StreamingFileParser extends FileParser {
+
+    /**
+     * 파일을 구조화된 파싱 결과로 변환하면서 본문 블록을 순서대로 전달한다.
+     *
+     * @param file          읽을 파일
+     * @param contentType   HTTP Content-Type (nullable)
+     * @param filename      원본 파일명
+     * @param blockListener 블록 수신자 (nullable)
+     */
+    ParsedFile parseStructured(Path file, String contentType, String filename, Consumer<ParsedBlock> blockListener)
+            throws FileParseException;
+
+    /**
+     * 파일을 구조화된 파싱 결과로 변환.
+     */
+    default ParsedFile parseStructured(Path file, String contentType, String filename) throws FileParseException {
+        return parseStructured(file, contentType, filename, null);
+    }
+}
@@ -1,10 +1,12 @@
 package studio.one.platform.textract.extractor.impl;
 
+import java.util.ArrayList;
 import java.util.Locale;
 import java.util.LinkedHashMap;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -53,6 +55,13 @@ public abstract class AbstractFileParser implements FileParser {
         return false;
     }
 
+    /**
+     * 본문 블록 목록. 리스너가 있으면 추가되는 즉시 전달한다.
+     */
+    protected List<ParsedBlock> blockList(Consumer<ParsedBlock> blockListener) {
+        return blockListener == null ? new ArrayList<>() : new EmittingBlockList(blockListener);
+    }
+
     /**
      * 기본적인 정제: 제어문자 제거, CRLF 정규화, 과도한 공백 줄 축소.
      * 한글/다국어 텍스트는 그대로 유지한다.
@@ -2,13 +2,18 @@ package studio.one.platform.textract.extractor.impl;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.common.usermodel.PictureType;
 import org.apache.poi.ooxml.POIXMLException;
 import org.apache.poi.util.Units;
@@ -25,6 +30,7 @@ import org.apache.poi.xwpf.usermodel.XWPFTableRow;
 
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.extractor.StructuredFileParser;
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
@@ -33,7 +39,7 @@ import studio.one.platform.textract.model.ExtractedTableCell;
 import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
 
-public class DocxFileParser extends AbstractFileParser implements StructuredFileParser {
+public class DocxFileParser extends AbstractFileParser implements StructuredFileParser, StreamingFileParser {
 
     @Override
     public boolean supports(String contentType, String filename) {
@@ -48,53 +54,67 @@ public class DocxFileParser extends AbstractFileParser implements StructuredFile
             throws FileParseException {
         try (ByteArrayInputStream in = new ByteArrayInputStream(bytes);
                 XWPFDocument doc = new XWPFDocument(in)) {
+            return parseDocument(doc, contentType, filename, null);
+        } catch (IOException | POIXMLException | UnsupportedFileFormatException e) {
+            throw new FileParseException("Failed to parse DOCX file: " + safeFilename(filename), e);
+        }
+    }
 
-            StringBuilder sb = new StringBuilder();
-            List<ParsedBlock> blocks = new ArrayList<>();
-            List<ExtractedTable> tables = new ArrayList<>();
-            List<ExtractedImage> images = new ArrayList<>();
-            int order = 0;
+    @Override
+    public ParsedFile parseStructured(Path file, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+                XWPFDocument doc = new XWPFDocument(pkg)) {
+            return parseDocument(doc, contentType, filename, blockListener);
+        } catch (IOException | POIXMLException | UnsupportedFileFormatException | InvalidFormatException e) {
+            throw new FileParseException("Failed to parse DOCX file: " + safeFilename(filename), e);
+        }
+    }
 
-            order = appendBodyElements(doc.getBodyElements(), sb, blocks, tables, images, "body", null, order);
-            for (int i = 0; i < doc.getHeaderList().size(); i++) {
-                order = appendBodyElements(
-                        doc.getHeaderList().get(i).getBodyElements(),
-                        sb,
-                        blocks,
-                        tables,
-                        images,
-                        "header[" + i + "]",
-                        BlockType.HEADER,
-                        order);
-            }
-            for (int i = 0; i < doc.getFooterList().size(); i++) {
-                order = appendBodyElements(
-                        doc.getFooterList().get(i).getBodyElements(),
-                        sb,
-                        blocks,
-                        tables,
-                        images,
-                        "footer[" + i + "]",
-                        BlockType.FOOTER,
-                        order);
-            }
-            order = appendFootnotes(doc.getFootnotes(), sb, blocks, images, order);
+    private ParsedFile parseDocument(XWPFDocument doc, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) {
+        StringBuilder sb = new StringBuilder();
+        List<ParsedBlock> blocks = blockList(blockListener);
+        List<ExtractedTable> tables = new ArrayList<>();
+        List<ExtractedImage> images = new ArrayList<>();
+        int order = 0;
 
-            String text = cleanText(sb.toString());
-            return new ParsedFile(
-                    DocumentFormat.DOCX,
-                    text,
+        order = appendBodyElements(doc.getBodyElements(), sb, blocks, tables, images, "body", null, order);
+        for (int i = 0; i < doc.getHeaderList().size(); i++) {
+            order = appendBodyElements(
+                    doc.getHeaderList().get(i).getBodyElements(),
+                    sb,
                     blocks,
-                    fileMetadata(contentType, filename),
-                    List.of(),
-                    List.of(),
                     tables,
                     images,
-                    false);
-
-        } catch (IOException | POIXMLException | UnsupportedFileFormatException e) {
-            throw new FileParseException("Failed to parse DOCX file: " + safeFilename(filename), e);
+                    "header[" + i + "]",
+                    BlockType.HEADER,
+                    order);
         }
+        for (int i = 0; i < doc.getFooterList().size(); i++) {
+            order = appendBodyElements(
+                    doc.getFooterList().get(i).getBodyElements(),
+                    sb,
+                    blocks,
+                    tables,
+                    images,
+                    "footer[" + i + "]",
+                    BlockType.FOOTER,
+                    order);
+        }
+        order = appendFootnotes(doc.getFootnotes(), sb, blocks, images, order);
+
+        String text = cleanText(sb.toString());
+        return new ParsedFile(
+                DocumentFormat.DOCX,
+                text,
+                blocks,
+                fileMetadata(contentType, filename),
+                List.of(),
+                List.of(),
+                tables,
+                images,
+                false);
     }
 
     @Override
@@ -0,0 +1,29 @@
+package studio.one.platform.textract.extractor.impl;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import studio.one.platform.textract.model.ParsedBlock;
+
+/**
+ * 블록이 추가되는 즉시 리스너에 전달하는 블록 목록. 파서의 기존 조립 코드를 바꾸지 않고 블록을
+ * 만들어지는 순서대로 흘려보내기 위해 사용한다.
+ */
+final class EmittingBlockList extends ArrayList<ParsedBlock> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Consumer<ParsedBlock> blockListener;
+
+    EmittingBlockList(Consumer<ParsedBlock> blockListener) {
+        this.blockListener = Objects.requireNonNull(blockListener, "blockListener");
+    }
+
+    @Override
+    public boolean add(ParsedBlock block) {
+        super.add(block);
+        blockListener.accept(block);
+        return true;
+    }
+}
@@ -3,9 +3,11 @@ package studio.one.platform.textract.extractor.impl;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -14,6 +16,7 @@ import org.jsoup.select.Elements;
 
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.extractor.StructuredFileParser;
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
@@ -22,7 +25,7 @@ import studio.one.platform.textract.model.ExtractedTableCell;
 import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
 
-public class HtmlFileParser extends AbstractFileParser implements StructuredFileParser {
+public class HtmlFileParser extends AbstractFileParser implements StructuredFileParser, StreamingFileParser {
 
     @Override
     public boolean supports(String contentType, String filename) {
@@ -35,64 +38,80 @@ public class HtmlFileParser extends AbstractFileParser implements StructuredFile
     public ParsedFile parseStructured(byte[] bytes, String contentType, String filename) throws FileParseException {
         try (ByteArrayInputStream in = new ByteArrayInputStream(bytes)) {
             Document document = Jsoup.parse(in, StandardCharsets.UTF_8.name(), "");
-            document.select("script, style, noscript, template, nav, aside, footer, form").remove();
-            Element root = semanticRoot(document);
-            List<ParsedBlock> blocks = new ArrayList<>();
-            List<ExtractedTable> tables = new ArrayList<>();
-            List<ExtractedImage> images = new ArrayList<>();
-            StringBuilder sb = new StringBuilder();
-            int order = 0;
-
-            for (Element element : root.select("h1, h2, h3, h4, h5, h6, p, li, table, img")) {
-                String path = cssPath(element, order);
-                if ("table".equals(element.tagName())) {
-                    ExtractedTable table = extractTable(element, path);
-                    if (!table.markdown().isBlank()) {
-                        tables.add(table);
-                        blocks.add(ParsedBlock.text(path, BlockType.TABLE, table.markdown(), null, order, blockMetadata(path, order)));
-                        sb.append(table.markdown()).append("\n");
-                        order++;
-                    }
-                    continue;
-                }
-                if ("img".equals(element.tagName())) {
-                    ExtractedImage image = extractImage(element, path);
-                    images.add(image);
-                    String alt = cleanText(element.attr("alt"));
-                    if (alt != null && !alt.isBlank()) {
-                        blocks.add(ParsedBlock.text(path, BlockType.IMAGE_CAPTION, alt, null, order, blockMetadata(path, order)));
-                        sb.append(alt).append("\n");
-                        order++;
-                    }
-                    continue;
+            return parseDocument(document, contentType, filename, null);
+        } catch (IOException e) {
+            throw new FileParseException("Failed to parse HTML: " + safeFilename(filename), e);
+        }
+    }
+
+    @Override
+    public ParsedFile parseStructured(Path file, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        try {
+            Document document = Jsoup.parse(file.toFile(), StandardCharsets.UTF_8.name(), "");
+            return parseDocument(document, contentType, filename, blockListener);
+        } catch (IOException e) {
+            throw new FileParseException("Failed to parse HTML: " + safeFilename(filename), e);
+        }
+    }
+
+    private ParsedFile parseDocument(Document document, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) {
+        document.select("script, style, noscript, template, nav, aside, footer, form").remove();
+        Element root = semanticRoot(document);
+        List<ParsedBlock> blocks = blockList(blockListener);
+        List<ExtractedTable> tables = new ArrayList<>();
+        List<ExtractedImage> images = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        int order = 0;
+
+        for (Element element : root.select("h1, h2, h3, h4, h5, h6, p, li, table, img")) {
+            String path = cssPath(element, order);
+            if ("table".equals(element.tagName())) {
+                ExtractedTable table = extractTable(element, path);
+                if (!table.markdown().isBlank()) {
+                    tables.add(table);
+                    blocks.add(ParsedBlock.text(path, BlockType.TABLE, table.markdown(), null, order, blockMetadata(path, order)));
+                    sb.append(table.markdown()).append("\n");
+                    order++;
                 }
-                String text = cleanText(element.text());
-                if (text == null || text.isBlank() || hasTableAncestor(element)) {
-                    continue;
+                continue;
+            }
+            if ("img".equals(element.tagName())) {
+                ExtractedImage image = extractImage(element, path);
+                images.add(image);
+                String alt = cleanText(element.attr("alt"));
+                if (alt != null && !alt.isBlank()) {
+                    blocks.add(ParsedBlock.text(path, BlockType.IMAGE_CAPTION, alt, null, order, blockMetadata(path, order)));
+                    sb.append(alt).append("\n");
+                    order++;
                 }
-                BlockType type = resolveElementType(element);
-                blocks.add(ParsedBlock.text(path, type, text, null, order, blockMetadata(path, order)));
-                sb.append(text).append("\n");
-                order++;
+                continue;
             }
-
-            String text = cleanText(sb.toString());
-            if (text == null || text.isBlank()) {
-                text = cleanText(root.text());
+            String text = cleanText(element.text());
+            if (text == null || text.isBlank() || hasTableAncestor(element)) {
+                continue;
             }
-            return new ParsedFile(
-                    DocumentFormat.HTML,
-                    text,
-                    blocks,
-                    fileMetadata(contentType, filename),
-                    List.of(),
-                    List.of(),
-                    tables,
-                    images,
-                    false);
-        } catch (IOException e) {
-            throw new FileParseException("Failed to parse HTML: " + safeFilename(filename), e);
+            BlockType type = resolveElementType(element);
+            blocks.add(ParsedBlock.text(path, type, text, null, order, blockMetadata(path, order)));
+            sb.append(text).append("\n");
+            order++;
+        }
+
+        String text = cleanText(sb.toString());
+        if (text == null || text.isBlank()) {
+            text = cleanText(root.text());
         }
+        return new ParsedFile(
+                DocumentFormat.HTML,
+                text,
+                blocks,
+                fileMetadata(contentType, filename),
+                List.of(),
+                List.of(),
+                tables,
+                images,
+                false);
     }
 
     @Override
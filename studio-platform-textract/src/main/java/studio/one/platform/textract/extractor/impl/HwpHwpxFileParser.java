@@ -6,8 +6,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -15,9 +20,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -36,6 +43,7 @@ import org.xml.sax.SAXException;
 
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.extractor.StructuredFileParser;
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
@@ -49,7 +57,7 @@ import studio.one.platform.textract.model.ParsedFile;
  * HWP/HWPX parser based on rhwp's parser flow:
  * CFB/ZIP container -> section records/XML -> paragraph/control traversal.
  */
-public class HwpHwpxFileParser extends AbstractFileParser implements StructuredFileParser {
+public class HwpHwpxFileParser extends AbstractFileParser implements StructuredFileParser, StreamingFileParser {
 
     private static final int HWPTAG_BEGIN = 0x010;
     private static final int HWPTAG_BIN_DATA = HWPTAG_BEGIN + 2;
@@ -80,16 +88,57 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
         throw new FileParseException("Unsupported HWP/HWPX file: " + safeFilename(filename));
     }
 
+    @Override
+    public ParsedFile parseStructured(Path file, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        byte[] signature = readSignature(file, filename);
+        if (looksLikeHwpx(signature, filename)) {
+            try (ZipFile zip = new ZipFile(file.toFile())) {
+                return parseHwpx(new ZipFileEntries(zip), contentType, filename, blockListener);
+            } catch (IOException e) {
+                throw new FileParseException("Failed to parse HWPX file: " + safeFilename(filename), e);
+            }
+        }
+        if (looksLikeHwp(signature, filename)) {
+            try (POIFSFileSystem fs = new POIFSFileSystem(file.toFile(), true)) {
+                return parseHwp(fs, contentType, filename, blockListener);
+            } catch (IOException e) {
+                throw new FileParseException("Failed to parse HWP file: " + safeFilename(filename), e);
+            }
+        }
+        throw new FileParseException("Unsupported HWP/HWPX file: " + safeFilename(filename));
+    }
+
     @Override
     public String parse(byte[] bytes, String contentType, String filename) throws FileParseException {
         return parseStructured(bytes, contentType, filename).plainText();
     }
 
+    private byte[] readSignature(Path file, String filename) throws FileParseException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HWP_CFB_SIGNATURE.length);
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // keep reading until the signature is filled or the file ends
+            }
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        } catch (IOException e) {
+            throw new FileParseException("Failed to read HWP/HWPX file: " + safeFilename(filename), e);
+        }
+    }
+
     private ParsedFile parseHwpx(byte[] bytes, String contentType, String filename) throws FileParseException {
         try {
-            Map<String, byte[]> entries = readZipEntries(bytes);
+            return parseHwpx(new InMemoryEntries(readZipEntries(bytes)), contentType, filename, null);
+        } catch (IOException e) {
+            throw new FileParseException("Failed to parse HWPX file: " + safeFilename(filename), e);
+        }
+    }
+
+    private ParsedFile parseHwpx(PackageEntries entries, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        try {
             PackageInfo packageInfo = parsePackageInfo(entries);
-            List<ParsedBlock> blocks = new ArrayList<>();
+            List<ParsedBlock> blocks = blockList(blockListener);
             List<ExtractedTable> tables = new ArrayList<>();
             List<ExtractedImage> images = new ArrayList<>();
             List<ParseWarning> warnings = new ArrayList<>();
@@ -97,7 +146,7 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
 
             for (int i = 0; i < packageInfo.sectionFiles().size(); i++) {
                 String sectionPath = resolvePackagePath(entries, packageInfo.sectionFiles().get(i));
-                byte[] sectionBytes = entries.get(sectionPath);
+                byte[] sectionBytes = entries.read(sectionPath);
                 if (sectionBytes == null) {
                     warnings.add(ParseWarning.partial(
                             "hwpx.section.missing",
@@ -113,10 +162,9 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
 
             for (PackageItem item : packageInfo.binDataItems()) {
                 String path = resolvePackagePath(entries, item.href());
-                byte[] data = entries.get(path);
                 List<String> sourceRefs = packageInfo.referencedImages().getOrDefault(item.id(), List.of());
                 Map<String, Object> imageMetadata = new LinkedHashMap<>();
-                imageMetadata.put("bytes", data == null ? 0 : data.length);
+                imageMetadata.put("bytes", entries.size(path));
                 imageMetadata.put(ExtractedImage.KEY_PACKAGE_ID, item.id());
                 imageMetadata.put(ExtractedImage.KEY_BIN_DATA_REF, path);
                 if (sourceRefs.size() == 1) {
@@ -308,52 +356,57 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
 
     private ParsedFile parseHwp(byte[] bytes, String contentType, String filename) throws FileParseException {
         try (POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(bytes))) {
-            DirectoryEntry root = fs.getRoot();
-            byte[] header = readDocument(root, "FileHeader");
-            HwpFlags flags = parseHwpFlags(header);
-            List<ParseWarning> warnings = new ArrayList<>();
-            if (flags.encrypted()) {
-                warnings.add(ParseWarning.error(
-                        "hwp.encrypted",
-                        "Encrypted HWP is not supported",
-                        "FileHeader",
-                        Map.of()));
-            }
-            if (flags.distribution()) {
-                warnings.add(ParseWarning.partial(
-                        "hwp.distribution",
-                        "Distribution HWP ViewText decryption is not supported",
-                        "FileHeader",
-                        Map.of()));
-            }
-
-            List<BinDataRef> binDataRefs = readHwpBinDataRefs(root, flags.compressed(), warnings);
-            List<ParsedBlock> blocks = new ArrayList<>();
-            StringBuilder plain = new StringBuilder();
-            for (int sectionIndex = 0; ; sectionIndex++) {
-                Optional<byte[]> section = readHwpSection(root, sectionIndex, flags.compressed(), flags.distribution());
-                if (section.isEmpty()) {
-                    break;
-                }
-                parseHwpSection(section.get(), sectionIndex, plain, blocks, warnings);
-            }
-
-            List<ExtractedImage> images = readHwpImages(root, binDataRefs);
-            return new ParsedFile(
-                    DocumentFormat.HWP,
-                    cleanText(plain.toString()),
-                    blocks,
-                    metadata(contentType, filename, "hwp"),
-                    warnings,
-                    List.of(),
-                    List.of(),
-                    images,
-                    false);
+            return parseHwp(fs, contentType, filename, null);
         } catch (IOException e) {
             throw new FileParseException("Failed to parse HWP file: " + safeFilename(filename), e);
         }
     }
 
+    private ParsedFile parseHwp(POIFSFileSystem fs, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws IOException {
+        DirectoryEntry root = fs.getRoot();
+        byte[] header = readDocument(root, "FileHeader");
+        HwpFlags flags = parseHwpFlags(header);
+        List<ParseWarning> warnings = new ArrayList<>();
+        if (flags.encrypted()) {
+            warnings.add(ParseWarning.error(
+                    "hwp.encrypted",
+                    "Encrypted HWP is not supported",
+                    "FileHeader",
+                    Map.of()));
+        }
+        if (flags.distribution()) {
+            warnings.add(ParseWarning.partial(
+                    "hwp.distribution",
+                    "Distribution HWP ViewText decryption is not supported",
+                    "FileHeader",
+                    Map.of()));
+        }
+
+        List<BinDataRef> binDataRefs = readHwpBinDataRefs(root, flags.compressed(), warnings);
+        List<ParsedBlock> blocks = blockList(blockListener);
+        StringBuilder plain = new StringBuilder();
+        for (int sectionIndex = 0; ; sectionIndex++) {
+            Optional<byte[]> section = readHwpSection(root, sectionIndex, flags.compressed(), flags.distribution());
+            if (section.isEmpty()) {
+                break;
+            }
+            parseHwpSection(section.get(), sectionIndex, plain, blocks, warnings);
+        }
+
+        List<ExtractedImage> images = readHwpImages(root, binDataRefs);
+        return new ParsedFile(
+                DocumentFormat.HWP,
+                cleanText(plain.toString()),
+                blocks,
+                metadata(contentType, filename, "hwp"),
+                warnings,
+                List.of(),
+                List.of(),
+                images,
+                false);
+    }
+
     private void parseHwpSection(
             byte[] section,
             int sectionIndex,
@@ -506,7 +559,7 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
             if (entry.isDirectoryEntry()) {
                 continue;
             }
-            byte[] data = readDocument(binDataDir, entry.getName());
+            int size = entry instanceof DocumentEntry document ? document.getSize() : 0;
             String ext = extensionOf(entry.getName());
             int id = storageIdFromBinName(entry.getName()).orElse(images.size() + 1);
             BinDataRef ref = refsByStorageId.get(id);
@@ -517,7 +570,7 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
                     null,
                     null,
                     Map.of(
-                            "bytes", data.length,
+                            "bytes", size,
                             "storageId", id,
                             ExtractedImage.KEY_BIN_DATA_REF, entry.getName(),
                             ExtractedImage.KEY_SOURCE_REF, "bindata/" + entry.getName())));
@@ -586,6 +639,78 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
         return records;
     }
 
+    /**
+     * HWPX 패키지 항목 접근. byte[] 입력은 메모리에 펼친 항목을, 파일 입력은 {@link ZipFile}에서 필요한 항목만 읽는다.
+     */
+    private interface PackageEntries {
+
+        Collection<String> names();
+
+        boolean contains(String name);
+
+        byte[] read(String name) throws IOException;
+
+        int size(String name);
+    }
+
+    private record InMemoryEntries(Map<String, byte[]> entries) implements PackageEntries {
+
+        @Override
+        public Collection<String> names() {
+            return entries.keySet();
+        }
+
+        @Override
+        public boolean contains(String name) {
+            return entries.containsKey(name);
+        }
+
+        @Override
+        public byte[] read(String name) {
+            return entries.get(name);
+        }
+
+        @Override
+        public int size(String name) {
+            byte[] data = entries.get(name);
+            return data == null ? 0 : data.length;
+        }
+    }
+
+    private record ZipFileEntries(ZipFile zip) implements PackageEntries {
+
+        @Override
+        public Collection<String> names() {
+            return zip.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .map(ZipEntry::getName)
+                    .toList();
+        }
+
+        @Override
+        public boolean contains(String name) {
+            ZipEntry entry = zip.getEntry(name);
+            return entry != null && !entry.isDirectory();
+        }
+
+        @Override
+        public byte[] read(String name) throws IOException {
+            ZipEntry entry = zip.getEntry(name);
+            if (entry == null || entry.isDirectory()) {
+                return null;
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                return in.readAllBytes();
+            }
+        }
+
+        @Override
+        public int size(String name) {
+            ZipEntry entry = zip.getEntry(name);
+            return entry == null || entry.getSize() < 0 ? 0 : (int) Math.min(entry.getSize(), Integer.MAX_VALUE);
+        }
+    }
+
     private Map<String, byte[]> readZipEntries(byte[] bytes) throws IOException {
         Map<String, byte[]> entries = new LinkedHashMap<>();
         try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
@@ -599,11 +724,14 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
         return entries;
     }
 
-    private PackageInfo parsePackageInfo(Map<String, byte[]> entries)
+    private PackageInfo parsePackageInfo(PackageEntries entries)
             throws ParserConfigurationException, IOException, SAXException {
-        byte[] content = entries.getOrDefault("Contents/content.hpf", entries.get("content.hpf"));
+        byte[] content = entries.read("Contents/content.hpf");
+        if (content == null) {
+            content = entries.read("content.hpf");
+        }
         if (content == null) {
-            List<String> fallbackSections = entries.keySet().stream()
+            List<String> fallbackSections = entries.names().stream()
                     .filter(name -> name.toLowerCase(Locale.ROOT).contains("section"))
                     .sorted()
                     .toList();
@@ -660,12 +788,12 @@ public class HwpHwpxFileParser extends AbstractFileParser implements StructuredF
         return factory.newDocumentBuilder().parse(new ByteArrayInputStream(bytes));
     }
 
-    private String resolvePackagePath(Map<String, byte[]> entries, String href) {
-        if (entries.containsKey(href)) {
+    private String resolvePackagePath(PackageEntries entries, String href) {
+        if (entries.contains(href)) {
             return href;
         }
         String contentsPath = "Contents/" + href;
-        if (entries.containsKey(contentsPath)) {
+        if (entries.contains(contentsPath)) {
             return contentsPath;
         }
         return href;
@@ -1,20 +1,23 @@
 package studio.one.platform.textract.extractor.impl;
 
 import java.awt.image.BufferedImage;
+import java.awt.Dimension;
 import java.awt.Rectangle;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import lombok.extern.slf4j.Slf4j;
-import net.sourceforge.tess4j.ITessAPI;
-import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
@@ -24,6 +27,8 @@ import studio.one.platform.textract.model.ExtractedImage;
 import studio.one.platform.textract.model.ParseWarning;
 import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
+import studio.one.platform.textract.ocr.OcrPageResult;
+import studio.one.platform.textract.ocr.TesseractOcrEngine;
 
 @Slf4j
 public class ImageFileParser extends AbstractFileParser implements StructuredFileParser {
@@ -35,12 +40,21 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
     static final String KEY_WORD_COUNT = "wordCount";
     private static final double LOW_CONFIDENCE_THRESHOLD = 0.60d;
 
-    private final Tesseract tesseract; // Spring Bean 으로 주입받는 것을 권장
+    static final int MAX_FRAMES = 200;
+
+    private final TesseractOcrEngine ocr;
 
     public ImageFileParser(String tesseractDataPath, String language) {
-        this.tesseract = new Tesseract();
-        this.tesseract.setDatapath(tesseractDataPath);
-        this.tesseract.setLanguage(language);
+        this(new TesseractOcrEngine(tesseractDataPath, language));
+    }
+
+    public ImageFileParser(TesseractOcrEngine ocr) {
+        this.ocr = Objects.requireNonNull(ocr, "ocr");
+    }
+
+    @Override
+    public String version() {
+        return StructuredFileParser.super.version() + ";" + ocr.signature();
     }
 
     @Override
@@ -53,29 +67,40 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
     @Override
     public ParsedFile parseStructured(byte[] bytes, String contentType, String filename)
             throws FileParseException {
-        try (ByteArrayInputStream in = new ByteArrayInputStream(bytes)) {
-            BufferedImage image = ImageIO.read(in);
-            if (image == null) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            ImageReader reader = reader(in);
+            if (reader == null) {
                 throw new FileParseException("Unsupported or corrupt image: " + safeFilename(filename));
             }
-            List<OcrToken> tokens = ocrTokens(image);
-            List<ParsedBlock> blocks;
-            String text;
-            if (tokens.isEmpty()) {
-                text = cleanText(tesseract.doOCR(image));
-                blocks = ocrLineBlocks(text);
-            } else {
-                blocks = ocrLineBlocks(tokens);
-                text = plainText(blocks);
+            List<Dimension> frames = new ArrayList<>();
+            List<OcrPageResult> results;
+            try {
+                results = recognizeFrames(reader, frames);
+            } finally {
+                reader.dispose();
             }
+            boolean paged = frames.size() > 1;
+            List<ParsedBlock> blocks = new ArrayList<>();
+            List<ExtractedImage> extractedImages = new ArrayList<>(frames.size());
+            for (int index = 0; index < frames.size(); index++) {
+                Integer page = paged ? index + 1 : null;
+                String sourceRef = paged ? "image/page[" + index + "]" : "image";
+                List<ParsedBlock> pageBlocks = pageBlocks(results.get(index), sourceRef, page, blocks.size());
+                blocks.addAll(pageBlocks);
+                Dimension frame = frames.get(index);
+                extractedImages.add(new ExtractedImage(
+                        sourceRef,
+                        contentType,
+                        filename,
+                        frame.width,
+                        frame.height,
+                        imageMetadata(sourceRef, page, pageBlocks.size(),
+                                OcrQuality.fromBlocks(pageBlocks).confidenceAvailable())));
+            }
+            String text = !paged && !hasWords(results.get(0))
+                    ? cleanText(results.get(0).text())
+                    : plainText(blocks);
             OcrQuality quality = OcrQuality.fromBlocks(blocks);
-            ExtractedImage extractedImage = new ExtractedImage(
-                    "image",
-                    contentType,
-                    filename,
-                    image.getWidth(),
-                    image.getHeight(),
-                    imageMetadata(blocks.size(), quality.confidenceAvailable()));
             return new ParsedFile(
                     DocumentFormat.IMAGE,
                     text,
@@ -84,26 +109,75 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
                     ocrWarnings(quality),
                     List.of(),
                     List.of(),
-                    List.of(extractedImage),
+                    extractedImages,
                     true);
-        } catch (TesseractException | IOException e) {
+        } catch (TesseractException | IOException | IllegalStateException e) {
             throw new FileParseException("Failed to parse image: " + safeFilename(filename), e);
         }
     }
 
-    @Override
-    public String parse(byte[] bytes, String contentType, String filename) throws FileParseException {
-        return parseStructured(bytes, contentType, filename).plainText();
+    private boolean hasWords(OcrPageResult result) {
+        return result.words().stream().anyMatch(word -> word.text() != null && !word.text().isBlank());
     }
 
-    private List<OcrToken> ocrTokens(BufferedImage image) {
-        return tesseract.getWords(image, ITessAPI.TessPageIteratorLevel.RIL_WORD).stream()
-                .map(word -> new OcrToken(word.getText(), normalizeConfidence(word.getConfidence()), word.getBoundingBox()))
+    private List<ParsedBlock> pageBlocks(OcrPageResult result, String sourceRef, Integer page, int startOrder) {
+        List<OcrToken> tokens = result.words().stream()
+                .map(word -> new OcrToken(word.text(), normalizeConfidence(word.confidence()), word.bbox()))
                 .filter(token -> token.text() != null && !token.text().isBlank())
                 .toList();
+        if (tokens.isEmpty()) {
+            return ocrLineBlocks(cleanText(result.text()), sourceRef, page, startOrder);
+        }
+        return ocrLineBlocks(tokens, sourceRef, page, startOrder);
+    }
+
+    private ImageReader reader(ImageInputStream in) {
+        Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+        if (readers == null || !readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, false, true);
+        return reader;
+    }
+
+    /**
+     * 다중 프레임(TIFF 등) 이미지는 모든 프레임을, 그 외에는 첫 이미지만 인식한다.
+     * 프레임은 하나씩 디코딩해 바로 OCR 에 넘기므로 동시에 메모리에 올라가는 프레임 수는 OCR 풀 크기를 넘지 않는다.
+     * 각 프레임의 크기는 {@code frames} 에 순서대로 기록한다.
+     */
+    private List<OcrPageResult> recognizeFrames(ImageReader reader, List<Dimension> frames)
+            throws TesseractException, IOException {
+        int count = frameCount(reader);
+        return ocr.recognizeAll(count, index -> {
+            BufferedImage frame = reader.read(index);
+            frames.add(new Dimension(frame.getWidth(), frame.getHeight()));
+            return frame;
+        });
+    }
+
+    private int frameCount(ImageReader reader) throws IOException {
+        int count = reader.getNumImages(true);
+        if (count < 1) {
+            return 1;
+        }
+        if (count > MAX_FRAMES) {
+            log.warn("Image has {} frames; only the first {} are recognized", count, MAX_FRAMES);
+            return MAX_FRAMES;
+        }
+        return count;
+    }
+
+    @Override
+    public String parse(byte[] bytes, String contentType, String filename) throws FileParseException {
+        return parseStructured(bytes, contentType, filename).plainText();
     }
 
     List<ParsedBlock> ocrLineBlocks(String text) {
+        return ocrLineBlocks(text, "image", null, 0);
+    }
+
+    private List<ParsedBlock> ocrLineBlocks(String text, String sourceRef, Integer page, int startOrder) {
         if (text == null || text.isBlank()) {
             return List.of();
         }
@@ -114,15 +188,16 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
             if (cleanedLine == null || cleanedLine.isBlank()) {
                 continue;
             }
-            int order = blocks.size();
-            String path = "image/ocr/line[" + order + "]";
+            int lineIndex = blocks.size();
+            int order = startOrder + lineIndex;
+            String path = sourceRef + "/ocr/line[" + lineIndex + "]";
             blocks.add(ParsedBlock.text(
                     path,
                     BlockType.OCR_TEXT,
                     cleanedLine,
-                    null,
+                    page,
                     order,
-                    ocrBlockMetadata(path, order, null, List.of())));
+                    ocrBlockMetadata(path, order, page, null, List.of())));
         }
         return blocks;
     }
@@ -135,6 +210,10 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
     }
 
     List<ParsedBlock> ocrLineBlocks(List<OcrToken> tokens) {
+        return ocrLineBlocks(tokens, "image", null, 0);
+    }
+
+    private List<ParsedBlock> ocrLineBlocks(List<OcrToken> tokens, String sourceRef, Integer page, int startOrder) {
         if (tokens == null || tokens.isEmpty()) {
             return List.of();
         }
@@ -147,24 +226,33 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
             if (cleanedLine == null || cleanedLine.isBlank()) {
                 continue;
             }
-            int order = blocks.size();
-            String path = "image/ocr/line[" + order + "]";
+            int lineIndex = blocks.size();
+            int order = startOrder + lineIndex;
+            String path = sourceRef + "/ocr/line[" + lineIndex + "]";
             Double confidence = averageConfidence(lineTokens);
             blocks.add(ParsedBlock.text(
                     path,
                     BlockType.OCR_TEXT,
                     cleanedLine,
-                    null,
+                    page,
                     order,
-                    ocrBlockMetadata(path, order, confidence, lineTokens)));
+                    ocrBlockMetadata(path, order, page, confidence, lineTokens)));
         }
         return blocks;
     }
 
-    private Map<String, Object> ocrBlockMetadata(String path, int order, Double confidence, List<OcrToken> tokens) {
+    private Map<String, Object> ocrBlockMetadata(
+            String path,
+            int order,
+            Integer page,
+            Double confidence,
+            List<OcrToken> tokens) {
         Map<String, Object> metadata = new LinkedHashMap<>();
         metadata.put(ParsedBlock.KEY_SOURCE_REF, path);
         metadata.put(ParsedBlock.KEY_ORDER, order);
+        if (page != null) {
+            metadata.put(ExtractedImage.KEY_PAGE, page);
+        }
         metadata.put(ExtractedImage.KEY_OCR_APPLIED, true);
         metadata.put(ExtractedImage.KEY_OCR_UNIT, "line");
         metadata.put(ExtractedImage.KEY_CONFIDENCE_AVAILABLE, confidence != null);
@@ -188,9 +276,16 @@ public class ImageFileParser extends AbstractFileParser implements StructuredFil
         return metadata;
     }
 
-    private Map<String, Object> imageMetadata(int ocrLineCount, boolean confidenceAvailable) {
+    private Map<String, Object> imageMetadata(
+            String sourceRef,
+            Integer page,
+            int ocrLineCount,
+            boolean confidenceAvailable) {
         Map<String, Object> metadata = new LinkedHashMap<>();
-        metadata.put(ExtractedImage.KEY_SOURCE_REF, "image");
+        metadata.put(ExtractedImage.KEY_SOURCE_REF, sourceRef);
+        if (page != null) {
+            metadata.put(ExtractedImage.KEY_PAGE, page);
+        }
         metadata.put(ExtractedImage.KEY_OCR_APPLIED, true);
         metadata.put(ExtractedImage.KEY_OCR_LINE_COUNT, ocrLineCount);
         metadata.put(ExtractedImage.KEY_CONFIDENCE_AVAILABLE, confidenceAvailable);
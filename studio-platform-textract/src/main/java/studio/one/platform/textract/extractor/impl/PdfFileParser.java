@@ -2,15 +2,27 @@ package studio.one.platform.textract.extractor.impl;
 
 import java.awt.geom.Point2D;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.contentstream.PDFGraphicsStreamEngine;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImage;
@@ -20,6 +32,7 @@ import org.springframework.http.MediaType;
 import lombok.extern.slf4j.Slf4j;
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.extractor.StructuredFileParser;
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
@@ -29,10 +42,53 @@ import studio.one.platform.textract.model.ParseWarning;
 import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
 
+/**
+ * PDF 파서.
+ * <p>
+ * 기본 생성자는 호출 스레드에서 페이지를 순차 추출한다. {@code workers} 를 2 이상으로 주면 페이지를
+ * {@code pagesPerTask} 단위 범위로 나누어 워커 풀에서 병렬로 추출하며, 각 워커는 같은 원본에서 문서를
+ * 따로 열고 자신의 {@link PDFTextStripper} 를 사용한다. 호출 스레드는 첫 범위를 직접 처리한 뒤 나머지
+ * 범위의 결과를 페이지 순서대로 조립하므로 블록 순서와 sourceRef 는 순차 모드와 같다.
+ * <p>
+ * {@link #parseStructured(Path, String, String, Consumer)} 는 파일을 힙에 올리지 않고
+ * {@link RandomAccessReadBufferedFile} 로 읽으며, 조립된 본문 블록을 즉시 리스너에 전달한다. 이때 반복
+ * 머리글/바닥글은 앞쪽 {@code boundarySamplePages} 페이지만 보고 판정한다.
+ */
 @Slf4j
-public class PdfFileParser extends AbstractFileParser implements StructuredFileParser {
+public class PdfFileParser extends AbstractFileParser implements StructuredFileParser, StreamingFileParser, AutoCloseable {
 
     private static final double REPEATED_BOUNDARY_RATIO = 0.50d;
+    static final int DEFAULT_PAGES_PER_TASK = 16;
+    static final int DEFAULT_BOUNDARY_SAMPLE_PAGES = 10;
+
+    private final int workers;
+    private final int pagesPerTask;
+    private final int boundarySamplePages;
+    private ExecutorService executor;
+
+    public PdfFileParser() {
+        this(1, DEFAULT_PAGES_PER_TASK, DEFAULT_BOUNDARY_SAMPLE_PAGES);
+    }
+
+    /**
+     * @param workers             페이지 범위를 병렬 추출할 워커 수. 1이면 호출 스레드에서 순차 처리한다.
+     * @param pagesPerTask        워커 작업 하나가 처리할 연속 페이지 수
+     * @param boundarySamplePages 스트리밍 파싱에서 반복 머리글/바닥글 판정에 쓰는 앞쪽 페이지 수
+     */
+    public PdfFileParser(int workers, int pagesPerTask, int boundarySamplePages) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        if (pagesPerTask < 1) {
+            throw new IllegalArgumentException("pagesPerTask must be positive");
+        }
+        if (boundarySamplePages < 2) {
+            throw new IllegalArgumentException("boundarySamplePages must be at least 2");
+        }
+        this.workers = workers;
+        this.pagesPerTask = pagesPerTask;
+        this.boundarySamplePages = boundarySamplePages;
+    }
 
     @Override
     public boolean supports(String contentType, String filename) {
@@ -51,99 +107,119 @@ public class PdfFileParser extends AbstractFileParser implements StructuredFileP
 
     @Override
     public ParsedFile parseStructured(byte[] bytes, String contentType, String filename) throws FileParseException {
-        try (PDDocument document = Loader.loadPDF(bytes)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            stripper.setSortByPosition(true);
-            List<String> pages = extractPages(document, stripper);
-            List<String> cleanedPages = cleanPdfPages(pages);
-            List<ExtractedImage> images = extractImages(document);
-            TableExtraction tableExtraction = extractTables(cleanedPages);
-            List<ParsedBlock> pageBlocks = new ArrayList<>();
-            List<ParsedBlock> blocks = new ArrayList<>();
-            int order = 0;
-            for (int pageIndex = 0; pageIndex < cleanedPages.size(); pageIndex++) {
-                String pageText = cleanedPages.get(pageIndex);
-                if (pageText == null || pageText.isBlank()) {
-                    continue;
-                }
-                int pageNumber = pageIndex + 1;
-                String pagePath = "page[" + pageNumber + "]";
-                pageBlocks.add(ParsedBlock.text(
-                        pagePath,
-                        BlockType.PAGE,
-                        pageText,
-                        pageNumber,
-                        order,
-                        blockMetadata(pagePath, order)));
-                order++;
-                List<String> paragraphs = splitParagraphs(pageText);
-                for (int paragraphIndex = 0; paragraphIndex < paragraphs.size(); paragraphIndex++) {
-                    String paragraph = paragraphs.get(paragraphIndex);
-                    String paragraphPath = pagePath + "/paragraph[" + paragraphIndex + "]";
-                    blocks.add(ParsedBlock.text(
-                            paragraphPath,
-                            BlockType.PARAGRAPH,
-                            paragraph,
-                            pageNumber,
-                            order,
-                            blockMetadata(paragraphPath, order)));
-                    order++;
-                }
-                for (ExtractedTable table : tablesOnPage(tableExtraction.tables(), pagePath)) {
-                    blocks.add(new ParsedBlock(
-                            table.sourceRef(),
-                            BlockType.TABLE,
-                            table.sourceRef(),
-                            table.markdown(),
-                            pageNumber,
-                            List.of(),
-                            blockMetadata(table.sourceRef(), order)));
-                    order++;
+        return parse(() -> new RandomAccessReadBuffer(bytes), contentType, filename, null);
+    }
+
+    /**
+     * 파일을 힙에 적재하지 않고 파싱하면서, 페이지 순서대로 조립된 본문 블록(PARAGRAPH, TABLE)을
+     * {@code blockListener} 에 즉시 전달한다. 리스너가 있으면 반복 머리글/바닥글은 앞쪽
+     * {@code boundarySamplePages} 페이지 기준으로 판정하고, 리스너가 없으면 문서 전체 페이지 기준으로 판정한다.
+     */
+    @Override
+    public ParsedFile parseStructured(Path file, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        Objects.requireNonNull(file, "file");
+        return parse(() -> new RandomAccessReadBufferedFile(file.toFile()), contentType, filename, blockListener);
+    }
+
+    @Override
+    public String parse(byte[] bytes, String contentType, String filename) throws FileParseException {
+        return parseStructured(bytes, contentType, filename).plainText();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private ParsedFile parse(PdfSource source, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        int samplePages = blockListener == null ? Integer.MAX_VALUE : boundarySamplePages;
+        PageAssembler assembler = new PageAssembler(samplePages, blockListener);
+        try (PDDocument document = Loader.loadPDF(source.open())) {
+            int pageCount = document.getNumberOfPages();
+            if (workers <= 1 || pageCount <= pagesPerTask) {
+                extractPages(document, 1, pageCount, assembler::accept);
+            } else {
+                List<Future<List<PageContent>>> ranges = submitRanges(source, pagesPerTask + 1, pageCount);
+                try {
+                    extractPages(document, 1, pagesPerTask, assembler::accept);
+                    for (Future<List<PageContent>> range : ranges) {
+                        awaitRange(range).forEach(assembler::accept);
+                    }
+                } finally {
+                    ranges.forEach(range -> range.cancel(true));
                 }
             }
-            String text = cleanText(cleanedPages.stream()
-                    .filter(page -> page != null && !page.isBlank())
-                    .collect(Collectors.joining("\n\n")));
-            return new ParsedFile(
-                    DocumentFormat.PDF,
-                    text,
-                    blocks,
-                    fileMetadata(contentType, filename),
-                    tableExtraction.warnings(),
-                    pageBlocks,
-                    tableExtraction.tables(),
-                    images,
-                    false);
         } catch (IOException e) {
             throw new FileParseException("Failed to parse PDF file: " + safeFilename(filename), e);
         }
+        return assembler.finish(contentType, filename);
     }
 
-    @Override
-    public String parse(byte[] bytes, String contentType, String filename) throws FileParseException {
-        return parseStructured(bytes, contentType, filename).plainText();
+    private List<Future<List<PageContent>>> submitRanges(PdfSource source, int fromPage, int pageCount) {
+        ExecutorService pool = executor();
+        List<Future<List<PageContent>>> ranges = new ArrayList<>();
+        for (int start = fromPage; start <= pageCount; start += pagesPerTask) {
+            int rangeStart = start;
+            int rangeEnd = Math.min(pageCount, start + pagesPerTask - 1);
+            ranges.add(pool.submit(() -> {
+                try (PDDocument document = Loader.loadPDF(source.open())) {
+                    List<PageContent> pages = new ArrayList<>(rangeEnd - rangeStart + 1);
+                    extractPages(document, rangeStart, rangeEnd, pages::add);
+                    return pages;
+                }
+            }));
+        }
+        return ranges;
     }
 
-    private List<String> extractPages(PDDocument document, PDFTextStripper stripper) throws IOException {
-        List<String> pages = new ArrayList<>();
-        for (int page = 1; page <= document.getNumberOfPages(); page++) {
-            stripper.setStartPage(page);
-            stripper.setEndPage(page);
-            pages.add(stripper.getText(document));
+    private List<PageContent> awaitRange(Future<List<PageContent>> range) throws IOException {
+        try {
+            return range.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while extracting PDF pages");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
         }
-        return pages;
     }
 
-    private List<ExtractedImage> extractImages(PDDocument document) throws IOException {
-        List<ExtractedImage> images = new ArrayList<>();
-        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
-            PDPage page = document.getPage(pageIndex);
-            String pagePath = "page[" + (pageIndex + 1) + "]";
-            DrawnImageCollector collector = new DrawnImageCollector(page, pagePath);
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            AtomicInteger sequence = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(workers, runnable -> {
+                Thread thread = new Thread(runnable, "textract-pdf-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private void extractPages(PDDocument document, int fromPage, int toPage, Consumer<PageContent> sink)
+            throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setSortByPosition(true);
+        for (int pageNumber = fromPage; pageNumber <= toPage; pageNumber++) {
+            stripper.setStartPage(pageNumber);
+            stripper.setEndPage(pageNumber);
+            String text = stripper.getText(document);
+            PDPage page = document.getPage(pageNumber - 1);
+            DrawnImageCollector collector = new DrawnImageCollector(page, "page[" + pageNumber + "]");
             collector.processPage(page);
-            images.addAll(collector.images());
+            sink.accept(new PageContent(pageNumber, text, collector.images()));
         }
-        return images;
     }
 
     private ExtractedImage toExtractedImage(PDImage image, String sourceRef, String binDataRef) {
@@ -175,46 +251,36 @@ public class PdfFileParser extends AbstractFileParser implements StructuredFileP
         };
     }
 
-    private List<ExtractedTable> tablesOnPage(List<ExtractedTable> tables, String pagePath) {
-        return tables.stream()
-                .filter(table -> table.sourceRef().startsWith(pagePath + "/"))
-                .toList();
-    }
-
-    private TableExtraction extractTables(List<String> pages) {
-        List<ExtractedTable> tables = new ArrayList<>();
-        List<ParseWarning> warnings = new ArrayList<>();
-        int tableIndex = 0;
-        for (int pageIndex = 0; pageIndex < pages.size(); pageIndex++) {
-            String page = pages.get(pageIndex);
-            if (page == null || page.isBlank()) {
-                continue;
-            }
-            List<List<String>> rows = new ArrayList<>();
-            int candidateStartLine = -1;
-            List<String> lines = page.lines().toList();
-            for (int lineIndex = 0; lineIndex <= lines.size(); lineIndex++) {
-                String line = lineIndex < lines.size() ? lines.get(lineIndex) : "";
-                List<String> cells = splitTableCells(line);
-                if (cells.size() >= 2) {
-                    if (rows.isEmpty()) {
-                        candidateStartLine = lineIndex;
-                    }
-                    rows.add(cells);
-                    continue;
+    private int extractTables(
+            String page,
+            int pageNumber,
+            int tableIndex,
+            List<ExtractedTable> tables,
+            List<ParseWarning> warnings) {
+        List<List<String>> rows = new ArrayList<>();
+        int candidateStartLine = -1;
+        List<String> lines = page.lines().toList();
+        for (int lineIndex = 0; lineIndex <= lines.size(); lineIndex++) {
+            String line = lineIndex < lines.size() ? lines.get(lineIndex) : "";
+            List<String> cells = splitTableCells(line);
+            if (cells.size() >= 2) {
+                if (rows.isEmpty()) {
+                    candidateStartLine = lineIndex;
                 }
-                tableIndex = flushTableCandidate(
-                        tables,
-                        warnings,
-                        rows,
-                        pageIndex + 1,
-                        tableIndex,
-                        candidateStartLine);
-                rows = new ArrayList<>();
-                candidateStartLine = -1;
+                rows.add(cells);
+                continue;
             }
-        }
-        return new TableExtraction(tables, warnings);
+            tableIndex = flushTableCandidate(
+                    tables,
+                    warnings,
+                    rows,
+                    pageNumber,
+                    tableIndex,
+                    candidateStartLine);
+            rows = new ArrayList<>();
+            candidateStartLine = -1;
+        }
+        return tableIndex;
     }
 
     private int flushTableCandidate(
@@ -285,25 +351,29 @@ public class PdfFileParser extends AbstractFileParser implements StructuredFileP
         if (rawPages == null || rawPages.isEmpty()) {
             return List.of();
         }
-        List<List<String>> pageLines = rawPages.stream()
-                .map(this::contentLines)
-                .toList();
+        List<String> repeatedBoundaries = repeatedBoundaries(rawPages);
+        List<String> cleaned = new ArrayList<>();
+        for (String rawPage : rawPages) {
+            cleaned.add(cleanPage(rawPage, repeatedBoundaries));
+        }
+        return cleaned;
+    }
+
+    private List<String> repeatedBoundaries(List<String> rawPages) {
         Map<String, Integer> boundaryFrequency = new LinkedHashMap<>();
-        for (List<String> lines : pageLines) {
-            for (String boundaryLine : boundaryLines(lines)) {
+        for (String rawPage : rawPages) {
+            for (String boundaryLine : boundaryLines(contentLines(rawPage))) {
                 boundaryFrequency.merge(normalizeBoundaryLine(boundaryLine), 1, Integer::sum);
             }
         }
-        List<String> repeatedBoundaries = boundaryFrequency.entrySet().stream()
+        return boundaryFrequency.entrySet().stream()
                 .filter(entry -> isRepeatedBoundary(entry.getValue(), rawPages.size()))
                 .map(Map.Entry::getKey)
                 .toList();
-        List<String> cleaned = new ArrayList<>();
-        for (String rawPage : rawPages) {
-            String pageWithoutRepeatedBoundaries = removeRepeatedBoundaries(rawPage, repeatedBoundaries);
-            cleaned.add(cleanPdfText(pageWithoutRepeatedBoundaries));
-        }
-        return cleaned;
+    }
+
+    private String cleanPage(String rawPage, List<String> repeatedBoundaries) {
+        return cleanPdfText(removeRepeatedBoundaries(rawPage, repeatedBoundaries));
     }
 
     private boolean isRepeatedBoundary(int count, int pageCount) {
@@ -438,7 +508,122 @@ public class PdfFileParser extends AbstractFileParser implements StructuredFileP
         paragraph.setLength(0);
     }
 
-    private record TableExtraction(List<ExtractedTable> tables, List<ParseWarning> warnings) {
+    @FunctionalInterface
+    private interface PdfSource {
+        RandomAccessRead open() throws IOException;
+    }
+
+    private record PageContent(int pageNumber, String text, List<ExtractedImage> images) {
+    }
+
+    /**
+     * 페이지를 순서대로 받아 반복 경계 제거, 표 추출, 블록 조립을 수행한다. 반복 경계 판정 전까지는
+     * 표본 페이지를 보류한다.
+     */
+    private final class PageAssembler {
+
+        private final int samplePages;
+        private final Consumer<ParsedBlock> blockListener;
+        private final List<PageContent> sample = new ArrayList<>();
+        private final List<String> pageTexts = new ArrayList<>();
+        private final List<ParsedBlock> pageBlocks = new ArrayList<>();
+        private final List<ParsedBlock> blocks = new ArrayList<>();
+        private final List<ExtractedTable> tables = new ArrayList<>();
+        private final List<ParseWarning> warnings = new ArrayList<>();
+        private final List<ExtractedImage> images = new ArrayList<>();
+        private List<String> repeatedBoundaries;
+        private int order;
+        private int tableIndex;
+
+        PageAssembler(int samplePages, Consumer<ParsedBlock> blockListener) {
+            this.samplePages = samplePages;
+            this.blockListener = blockListener;
+        }
+
+        void accept(PageContent page) {
+            if (repeatedBoundaries != null) {
+                assemble(page);
+                return;
+            }
+            sample.add(page);
+            if (sample.size() >= samplePages) {
+                flushSample();
+            }
+        }
+
+        ParsedFile finish(String contentType, String filename) {
+            if (repeatedBoundaries == null) {
+                flushSample();
+            }
+            return new ParsedFile(
+                    DocumentFormat.PDF,
+                    cleanText(String.join("\n\n", pageTexts)),
+                    blocks,
+                    fileMetadata(contentType, filename),
+                    warnings,
+                    pageBlocks,
+                    tables,
+                    images,
+                    false);
+        }
+
+        private void flushSample() {
+            repeatedBoundaries = repeatedBoundaries(sample.stream().map(PageContent::text).toList());
+            sample.forEach(this::assemble);
+            sample.clear();
+        }
+
+        private void assemble(PageContent page) {
+            images.addAll(page.images());
+            String pageText = cleanPage(page.text(), repeatedBoundaries);
+            if (pageText == null || pageText.isBlank()) {
+                return;
+            }
+            pageTexts.add(pageText);
+            int pageNumber = page.pageNumber();
+            String pagePath = "page[" + pageNumber + "]";
+            pageBlocks.add(ParsedBlock.text(
+                    pagePath,
+                    BlockType.PAGE,
+                    pageText,
+                    pageNumber,
+                    order,
+                    blockMetadata(pagePath, order)));
+            order++;
+            List<String> paragraphs = splitParagraphs(pageText);
+            for (int paragraphIndex = 0; paragraphIndex < paragraphs.size(); paragraphIndex++) {
+                String paragraphPath = pagePath + "/paragraph[" + paragraphIndex + "]";
+                emit(ParsedBlock.text(
+                        paragraphPath,
+                        BlockType.PARAGRAPH,
+                        paragraphs.get(paragraphIndex),
+                        pageNumber,
+                        order,
+                        blockMetadata(paragraphPath, order)));
+                order++;
+            }
+            List<ExtractedTable> pageTables = new ArrayList<>();
+            tableIndex = extractTables(pageText, pageNumber, tableIndex, pageTables, warnings);
+            tables.addAll(pageTables);
+            for (ExtractedTable table : pageTables) {
+                emit(new ParsedBlock(
+                        table.sourceRef(),
+                        BlockType.TABLE,
+                        table.sourceRef(),
+                        table.markdown(),
+                        pageNumber,
+                        List.of(),
+                        blockMetadata(table.sourceRef(), order)));
+                order++;
+            }
+        }
+
+        private void emit(ParsedBlock block) {
+            blocks.add(block);
+            if (blockListener != null) {
+                blockListener.accept(block);
+            }
+        }
     }
 
     private class DrawnImageCollector extends PDFGraphicsStreamEngine {
@@ -4,12 +4,17 @@ import java.awt.Dimension;
 import java.awt.geom.Rectangle2D;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ooxml.POIXMLException;
 import org.apache.poi.util.Units;
 import org.apache.poi.xslf.usermodel.XMLSlideShow;
@@ -21,6 +26,7 @@ import org.apache.poi.xslf.usermodel.XSLFTextShape;
 
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.extractor.StructuredFileParser;
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
@@ -28,7 +34,7 @@ import studio.one.platform.textract.model.ParseWarning;
 import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
 
-public class PptxFileParser extends AbstractFileParser implements StructuredFileParser {
+public class PptxFileParser extends AbstractFileParser implements StructuredFileParser, StreamingFileParser {
 
     @Override
     public boolean supports(String contentType, String filename) {
@@ -39,79 +45,94 @@ public class PptxFileParser extends AbstractFileParser implements StructuredFile
     }
 
     @Override
-    public ParsedFile parseStructured(byte[] bytes, String contentType, String filename) throws FileParseException {
+    public ParsedFile parseStructured(byte[] bytes, String contentType, String filename)
+            throws FileParseException {
         try (ByteArrayInputStream in = new ByteArrayInputStream(bytes);
-             XMLSlideShow ppt = new XMLSlideShow(in)) {
-
-            StringBuilder sb = new StringBuilder();
-            List<ParsedBlock> blocks = new ArrayList<>();
-            List<ParsedBlock> pages = new ArrayList<>();
-            List<ExtractedImage> images = new ArrayList<>();
-            List<ParseWarning> warnings = new ArrayList<>();
-            Dimension pageSize = ppt.getPageSize();
-            int order = 0;
-
-            for (int slideIndex = 0; slideIndex < ppt.getSlides().size(); slideIndex++) {
-                StringBuilder slideText = new StringBuilder();
-                boolean titleSeen = false;
-                XSLFSlide slide = ppt.getSlides().get(slideIndex);
-                List<TextCandidate> textCandidates = new ArrayList<>();
-                List<PictureCandidate> pictureCandidates = new ArrayList<>();
-                int shapeIndex = 0;
-                for (XSLFShape shape : slide.getShapes()) {
-                    String path = "slide[" + (slideIndex + 1) + "]/shape[" + shapeIndex + "]";
-                    if (shape instanceof XSLFTextShape textShape) {
-                        String text = cleanText(textShape.getText());
-                        if (text != null && !text.isBlank()) {
-                            BlockType blockType = resolveTextShapeType(textShape, pageSize, titleSeen);
-                            if (blockType == BlockType.TITLE) {
-                                titleSeen = true;
-                            }
-                            textCandidates.add(new TextCandidate(text, textShape.getAnchor()));
-                            blocks.add(ParsedBlock.text(
-                                    path,
-                                    blockType,
-                                    text,
-                                    null,
-                                    order,
-                                    blockMetadata(path, slideIndex + 1, order)));
-                            sb.append(text).append("\n");
-                            slideText.append(text).append("\n");
-                            order++;
+                XMLSlideShow ppt = new XMLSlideShow(in)) {
+            return parseDocument(ppt, contentType, filename, null);
+        } catch (IOException | POIXMLException | UnsupportedFileFormatException e) {
+            throw new FileParseException("Failed to parse PPTX file: " + safeFilename(filename), e);
+        }
+    }
+
+    @Override
+    public ParsedFile parseStructured(Path file, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+                XMLSlideShow ppt = new XMLSlideShow(pkg)) {
+            return parseDocument(ppt, contentType, filename, blockListener);
+        } catch (IOException | POIXMLException | UnsupportedFileFormatException | InvalidFormatException e) {
+            throw new FileParseException("Failed to parse PPTX file: " + safeFilename(filename), e);
+        }
+    }
+
+    private ParsedFile parseDocument(XMLSlideShow ppt, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) {
+        StringBuilder sb = new StringBuilder();
+        List<ParsedBlock> blocks = blockList(blockListener);
+        List<ParsedBlock> pages = new ArrayList<>();
+        List<ExtractedImage> images = new ArrayList<>();
+        List<ParseWarning> warnings = new ArrayList<>();
+        Dimension pageSize = ppt.getPageSize();
+        int order = 0;
+
+        for (int slideIndex = 0; slideIndex < ppt.getSlides().size(); slideIndex++) {
+            StringBuilder slideText = new StringBuilder();
+            boolean titleSeen = false;
+            XSLFSlide slide = ppt.getSlides().get(slideIndex);
+            List<TextCandidate> textCandidates = new ArrayList<>();
+            List<PictureCandidate> pictureCandidates = new ArrayList<>();
+            int shapeIndex = 0;
+            for (XSLFShape shape : slide.getShapes()) {
+                String path = "slide[" + (slideIndex + 1) + "]/shape[" + shapeIndex + "]";
+                if (shape instanceof XSLFTextShape textShape) {
+                    String text = cleanText(textShape.getText());
+                    if (text != null && !text.isBlank()) {
+                        BlockType blockType = resolveTextShapeType(textShape, pageSize, titleSeen);
+                        if (blockType == BlockType.TITLE) {
+                            titleSeen = true;
                         }
-                    } else if (shape instanceof XSLFPictureShape pictureShape) {
-                        pictureCandidates.add(new PictureCandidate(pictureShape, path));
+                        textCandidates.add(new TextCandidate(text, textShape.getAnchor()));
+                        blocks.add(ParsedBlock.text(
+                                path,
+                                blockType,
+                                text,
+                                null,
+                                order,
+                                blockMetadata(path, slideIndex + 1, order)));
+                        sb.append(text).append("\n");
+                        slideText.append(text).append("\n");
+                        order++;
                     }
-                    shapeIndex++;
-                }
-                appendSlideImages(pictureCandidates, images, warnings, textCandidates);
-                String cleanedSlideText = cleanText(slideText.toString());
-                if (cleanedSlideText != null && !cleanedSlideText.isBlank()) {
-                    String path = "slide[" + (slideIndex + 1) + "]";
-                    pages.add(ParsedBlock.text(
-                            path,
-                            BlockType.PAGE,
-                            cleanedSlideText,
-                            null,
-                            pages.size(),
-                            blockMetadata(path, slideIndex + 1, pages.size())));
+                } else if (shape instanceof XSLFPictureShape pictureShape) {
+                    pictureCandidates.add(new PictureCandidate(pictureShape, path));
                 }
+                shapeIndex++;
+            }
+            appendSlideImages(pictureCandidates, images, warnings, textCandidates);
+            String cleanedSlideText = cleanText(slideText.toString());
+            if (cleanedSlideText != null && !cleanedSlideText.isBlank()) {
+                String path = "slide[" + (slideIndex + 1) + "]";
+                pages.add(ParsedBlock.text(
+                        path,
+                        BlockType.PAGE,
+                        cleanedSlideText,
+                        null,
+                        pages.size(),
+                        blockMetadata(path, slideIndex + 1, pages.size())));
             }
-
-            return new ParsedFile(
-                    DocumentFormat.PPTX,
-                    cleanText(sb.toString()),
-                    blocks,
-                    fileMetadata(contentType, filename),
-                    warnings,
-                    pages,
-                    List.of(),
-                    images,
-                    false);
-
-        } catch (IOException | POIXMLException | UnsupportedFileFormatException e) {
-            throw new FileParseException("Failed to parse PPTX file: " + safeFilename(filename), e);
         }
+
+        return new ParsedFile(
+                DocumentFormat.PPTX,
+                cleanText(sb.toString()),
+                blocks,
+                fileMetadata(contentType, filename),
+                warnings,
+                pages,
+                List.of(),
+                images,
+                false);
     }
 
     @Override
@@ -1,10 +1,20 @@
 package studio.one.platform.textract.extractor.impl;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import studio.one.platform.textract.extractor.DocumentFormatDetector;
 import studio.one.platform.textract.extractor.FileParseException;
+import studio.one.platform.textract.extractor.StreamingFileParser;
+import studio.one.platform.textract.model.ParsedBlock;
+import studio.one.platform.textract.model.ParsedFile;
 
-public class TextFileParser extends AbstractFileParser {
+public class TextFileParser extends AbstractFileParser implements StreamingFileParser {
 
     @Override
     public boolean supports(String contentType, String filename) {
@@ -19,4 +29,28 @@ public class TextFileParser extends AbstractFileParser {
     public String parse(byte[] bytes, String contentType, String filename) throws FileParseException {
         return cleanText(new String(bytes, StandardCharsets.UTF_8));
     }
+
+    @Override
+    public ParsedFile parseStructured(Path file, String contentType, String filename,
+            Consumer<ParsedBlock> blockListener) throws FileParseException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[8192];
+        // InputStreamReader replaces malformed input, matching new String(bytes, UTF_8).
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new FileParseException("Failed to read text file: " + safeFilename(filename), e);
+        }
+        ParsedFile parsed = ParsedFile.textOnly(
+                DocumentFormatDetector.detect(contentType, filename),
+                cleanText(text.toString()),
+                filename);
+        if (blockListener != null) {
+            parsed.blocks().forEach(blockListener);
+        }
+        return parsed;
+    }
 }
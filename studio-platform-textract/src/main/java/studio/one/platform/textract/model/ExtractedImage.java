@@ -1,5 +1,6 @@
 package studio.one.platform.textract.model;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -12,7 +13,7 @@ public record ExtractedImage(
         String filename,
         Integer width,
         Integer height,
-        Map<String, Object> metadata) {
+        Map<String, Object> metadata) implements Serializable {
 
     public static final String KEY_SOURCE_REF = "sourceRef";
     public static final String KEY_SOURCE_REFS = "sourceRefs";
@@ -1,5 +1,6 @@
 package studio.one.platform.textract.model;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -10,7 +11,7 @@ public record ExtractedTable(
         String path,
         String markdown,
         List<ExtractedTableCell> cells,
-        Map<String, Object> metadata) {
+        Map<String, Object> metadata) implements Serializable {
 
     public static final String KEY_SOURCE_REF = "sourceRef";
     public static final String KEY_FORMAT = "format";
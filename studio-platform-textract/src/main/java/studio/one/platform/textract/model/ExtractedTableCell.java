@@ -1,5 +1,6 @@
 package studio.one.platform.textract.model;
 
+import java.io.Serializable;
 import java.util.Map;
 
 /**
@@ -11,7 +12,7 @@ public record ExtractedTableCell(
         int rowSpan,
         int colSpan,
         String text,
-        Map<String, Object> metadata) {
+        Map<String, Object> metadata) implements Serializable {
 
     public static final String KEY_SOURCE_REF = "sourceRef";
     public static final String KEY_HEADER = "header";
@@ -1,5 +1,6 @@
 package studio.one.platform.textract.model;
 
+import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -11,7 +12,7 @@ public record ParseWarning(
         String code,
         String message,
         String path,
-        Map<String, Object> metadata) {
+        Map<String, Object> metadata) implements Serializable {
 
     public static final String KEY_CANONICAL_CODE = "canonicalCode";
     public static final String KEY_SEVERITY = "severity";
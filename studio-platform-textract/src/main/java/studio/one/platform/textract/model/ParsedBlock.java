@@ -1,5 +1,6 @@
 package studio.one.platform.textract.model;
 
+import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,7 @@ public record ParsedBlock(
         String text,
         Integer page,
         List<ParsedBlock> children,
-        Map<String, Object> metadata) {
+        Map<String, Object> metadata) implements Serializable {
 
     public static final String KEY_ORDER = "order";
     public static final String KEY_SOURCE_REF = "sourceRef";
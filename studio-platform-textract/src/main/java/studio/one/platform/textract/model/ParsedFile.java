@@ -1,5 +1,6 @@
 package studio.one.platform.textract.model;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -17,7 +18,7 @@ public record ParsedFile(
         List<ParsedBlock> pages,
         List<ExtractedTable> tables,
         List<ExtractedImage> images,
-        boolean ocrApplied) {
+        boolean ocrApplied) implements Serializable {
 
     public ParsedFile {
         format = format == null ? DocumentFormat.UNKNOWN : format;
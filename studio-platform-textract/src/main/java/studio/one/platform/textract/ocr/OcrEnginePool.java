@@ -0,0 +1,180 @@
+package studio.one.platform.textract.ocr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded pool of non thread-safe OCR engines.
+ * <p>
+ * Engines are created lazily up to {@code size}, or eagerly by {@link #prestart()}, and warmed up
+ * once right after creation. A caller borrows an idle engine for the duration of one call; when
+ * all engines are busy it waits up to the acquire timeout. The wait is reported to
+ * {@link OcrMetricsRecorder#recordQueueWait(Duration)}. {@link #close()} hands idle engines, and
+ * engines returned later, to the disposer.
+ *
+ * @param <T> engine type
+ */
+@Slf4j
+public class OcrEnginePool<T> implements AutoCloseable {
+
+    private final int size;
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super T> warmUp;
+    private final Consumer<? super T> disposer;
+    private final Duration acquireTimeout;
+    private final OcrMetricsRecorder metrics;
+    private final BlockingQueue<T> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean closed;
+
+    public OcrEnginePool(
+            int size,
+            Supplier<? extends T> factory,
+            Consumer<? super T> warmUp,
+            Duration acquireTimeout,
+            OcrMetricsRecorder metrics) {
+        this(size, factory, warmUp, null, acquireTimeout, metrics);
+    }
+
+    public OcrEnginePool(
+            int size,
+            Supplier<? extends T> factory,
+            Consumer<? super T> warmUp,
+            Consumer<? super T> disposer,
+            Duration acquireTimeout,
+            OcrMetricsRecorder metrics) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be >= 1");
+        }
+        this.size = size;
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.warmUp = warmUp;
+        this.disposer = disposer;
+        this.acquireTimeout = Objects.requireNonNull(acquireTimeout, "acquireTimeout");
+        this.metrics = metrics == null ? OcrMetricsRecorder.noop() : metrics;
+    }
+
+    /**
+     * Runs {@code call} with an exclusively borrowed engine.
+     */
+    public <R, E extends Exception> R execute(EngineCall<T, R, E> call) throws E {
+        T engine = acquire();
+        try {
+            return call.apply(engine);
+        } finally {
+            release(engine);
+        }
+    }
+
+    /**
+     * Creates and warms up engines until the pool holds {@code size} of them.
+     */
+    public void prestart() {
+        T engine;
+        while ((engine = tryCreate()) != null) {
+            release(engine);
+        }
+    }
+
+    /**
+     * Disposes idle engines. Engines still borrowed are disposed when they are returned, and
+     * later calls to {@link #execute(EngineCall)} fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        T engine;
+        while ((engine = idle.poll()) != null) {
+            dispose(engine);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int created() {
+        return created.get();
+    }
+
+    public int idle() {
+        return idle.size();
+    }
+
+    private T acquire() {
+        if (closed) {
+            throw new IllegalStateException("OCR engine pool is closed");
+        }
+        long started = System.nanoTime();
+        try {
+            T engine = idle.poll();
+            if (engine == null) {
+                engine = tryCreate();
+            }
+            if (engine == null) {
+                engine = idle.poll(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                if (engine == null) {
+                    throw new IllegalStateException("Timed out after " + acquireTimeout + " waiting for an OCR engine");
+                }
+            }
+            return engine;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an OCR engine", ex);
+        } finally {
+            metrics.recordQueueWait(Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private void release(T engine) {
+        idle.offer(engine);
+        if (closed && idle.remove(engine)) {
+            dispose(engine);
+        }
+    }
+
+    private void dispose(T engine) {
+        if (disposer == null) {
+            return;
+        }
+        try {
+            disposer.accept(engine);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to dispose OCR engine: {}", ex.getMessage());
+        }
+    }
+
+    private T tryCreate() {
+        int current;
+        do {
+            current = created.get();
+            if (closed || current >= size) {
+                return null;
+            }
+        } while (!created.compareAndSet(current, current + 1));
+        try {
+            T engine = factory.get();
+            if (warmUp != null) {
+                warmUp.accept(engine);
+            }
+            log.debug("Created OCR engine {}/{}", current + 1, size);
+            return engine;
+        } catch (RuntimeException | Error ex) {
+            created.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    @FunctionalInterface
+    public interface EngineCall<T, R, E extends Exception> {
+        R apply(T engine) throws E;
+    }
+}
@@ -0,0 +1,120 @@
+package studio.one.platform.textract.ocr;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+
+/**
+ * Optional image preparation before OCR: downscaling of oversized images and global
+ * (Otsu) binarization. Both steps are disabled by default.
+ */
+public final class OcrImagePreprocessor {
+
+    private final int maxDimension;
+    private final boolean binarize;
+
+    public OcrImagePreprocessor(int maxDimension, boolean binarize) {
+        this.maxDimension = Math.max(0, maxDimension);
+        this.binarize = binarize;
+    }
+
+    public boolean isNoop() {
+        return maxDimension == 0 && !binarize;
+    }
+
+    public Prepared prepare(BufferedImage image) {
+        if (isNoop()) {
+            return new Prepared(image, 1d);
+        }
+        double scale = scale(image);
+        BufferedImage result = image;
+        if (scale < 1d || binarize) {
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            result = redraw(image, width, height, binarize ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+        }
+        if (binarize) {
+            threshold(result);
+        }
+        return new Prepared(result, scale);
+    }
+
+    private double scale(BufferedImage image) {
+        int longest = Math.max(image.getWidth(), image.getHeight());
+        if (maxDimension == 0 || longest <= maxDimension) {
+            return 1d;
+        }
+        return (double) maxDimension / longest;
+    }
+
+    private static BufferedImage redraw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Rewrites a grayscale image to pure black and white using Otsu's threshold.
+     */
+    private static void threshold(BufferedImage gray) {
+        WritableRaster raster = gray.getRaster();
+        int width = raster.getWidth();
+        int height = raster.getHeight();
+        int[] pixels = raster.getSamples(0, 0, width, height, 0, (int[]) null);
+        int[] histogram = new int[256];
+        for (int pixel : pixels) {
+            histogram[pixel]++;
+        }
+        int cutoff = otsu(histogram, pixels.length);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = pixels[i] > cutoff ? 255 : 0;
+        }
+        raster.setSamples(0, 0, width, height, 0, pixels);
+    }
+
+    static int otsu(int[] histogram, int total) {
+        long weightedSum = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            weightedSum += (long) i * histogram[i];
+        }
+        long backgroundSum = 0;
+        int backgroundWeight = 0;
+        double bestVariance = -1d;
+        int best = 127;
+        for (int i = 0; i < histogram.length; i++) {
+            backgroundWeight += histogram[i];
+            if (backgroundWeight == 0) {
+                continue;
+            }
+            int foregroundWeight = total - backgroundWeight;
+            if (foregroundWeight == 0) {
+                break;
+            }
+            backgroundSum += (long) i * histogram[i];
+            double backgroundMean = (double) backgroundSum / backgroundWeight;
+            double foregroundMean = (double) (weightedSum - backgroundSum) / foregroundWeight;
+            double variance = (double) backgroundWeight * foregroundWeight
+                    * (backgroundMean - foregroundMean) * (backgroundMean - foregroundMean);
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param image prepared image
+     * @param scale factor applied to the original image (1 when not resized)
+     */
+    public record Prepared(BufferedImage image, double scale) {
+    }
+}
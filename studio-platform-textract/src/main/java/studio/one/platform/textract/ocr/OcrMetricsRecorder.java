@@ -0,0 +1,30 @@
+package studio.one.platform.textract.ocr;
+
+import java.time.Duration;
+
+/**
+ * Records OCR engine pool wait time and per-page recognition time.
+ */
+public interface OcrMetricsRecorder {
+
+    /**
+     * Records how long a caller waited for an idle OCR engine.
+     */
+    default void recordQueueWait(Duration wait) {
+        // no-op by default
+    }
+
+    /**
+     * Records the recognition time of a single page or image.
+     *
+     * @param elapsed recognition time, including preprocessing
+     * @param success whether recognition completed without error
+     */
+    default void recordPage(Duration elapsed, boolean success) {
+        // no-op by default
+    }
+
+    static OcrMetricsRecorder noop() {
+        return new OcrMetricsRecorder() {};
+    }
+}
@@ -0,0 +1,36 @@
+package studio.one.platform.textract.ocr;
+
+import java.time.Duration;
+
+/**
+ * OCR engine pool and image preprocessing options.
+ *
+ * @param poolSize          maximum number of engines, and of pages recognized in parallel
+ * @param acquireTimeout    maximum time to wait for an idle engine
+ * @param warmUp            whether all engines are created and initialized with the language data up front
+ * @param maxImageDimension images whose longer side exceeds this are downscaled before OCR; 0 disables
+ * @param binarize          whether images are converted to black and white (Otsu threshold) before OCR
+ */
+public record OcrOptions(
+        int poolSize,
+        Duration acquireTimeout,
+        boolean warmUp,
+        int maxImageDimension,
+        boolean binarize) {
+
+    public static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(60);
+
+    public OcrOptions {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be >= 1");
+        }
+        acquireTimeout = acquireTimeout == null || acquireTimeout.isNegative()
+                ? DEFAULT_ACQUIRE_TIMEOUT
+                : acquireTimeout;
+        maxImageDimension = Math.max(0, maxImageDimension);
+    }
+
+    public static OcrOptions defaults() {
+        return new OcrOptions(Runtime.getRuntime().availableProcessors(), DEFAULT_ACQUIRE_TIMEOUT, false, 0, false);
+    }
+}
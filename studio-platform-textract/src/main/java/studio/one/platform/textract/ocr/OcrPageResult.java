@@ -0,0 +1,16 @@
+package studio.one.platform.textract.ocr;
+
+import java.util.List;
+
+/**
+ * OCR result of a single page or image.
+ *
+ * @param words word-level results; empty when the engine could not segment words
+ * @param text  full-page text, only recognized when {@code words} is empty
+ */
+public record OcrPageResult(List<OcrWord> words, String text) {
+
+    public OcrPageResult {
+        words = words == null ? List.of() : List.copyOf(words);
+    }
+}
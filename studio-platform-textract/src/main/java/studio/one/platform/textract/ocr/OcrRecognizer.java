@@ -0,0 +1,25 @@
+package studio.one.platform.textract.ocr;
+
+import java.awt.image.BufferedImage;
+
+import net.sourceforge.tess4j.TesseractException;
+
+/**
+ * A single, initialized OCR engine.
+ * <p>
+ * Not thread-safe: {@link TesseractOcrEngine} borrows recognizers exclusively from an
+ * {@link OcrEnginePool} and closes them when the pool is closed.
+ */
+public interface OcrRecognizer extends AutoCloseable {
+
+    /**
+     * Recognizes one image. Word bounding boxes are in the coordinates of {@code image}.
+     */
+    OcrPageResult recognize(BufferedImage image) throws TesseractException;
+
+    /**
+     * Releases the native engine.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,11 @@
+package studio.one.platform.textract.ocr;
+
+import java.awt.Rectangle;
+
+/**
+ * Recognized word. The bounding box is in the coordinates of the original, unprocessed image.
+ *
+ * @param confidence raw engine confidence (Tesseract reports 0-100, negative when unavailable)
+ */
+public record OcrWord(String text, float confidence, Rectangle bbox) {
+}
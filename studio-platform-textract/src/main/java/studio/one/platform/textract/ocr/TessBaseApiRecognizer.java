@@ -0,0 +1,120 @@
+package studio.one.platform.textract.ocr;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.jna.Pointer;
+
+import net.sourceforge.tess4j.ITessAPI;
+import net.sourceforge.tess4j.TessAPI;
+import net.sourceforge.tess4j.TesseractException;
+import net.sourceforge.tess4j.util.ImageIOHelper;
+
+/**
+ * {@link OcrRecognizer} over one Tesseract {@code TessBaseAPI} handle.
+ * <p>
+ * The handle is initialized with the language data once, when the recognizer is created, and
+ * reused for every page: each call only sets the image, recognizes it and walks the result
+ * iterator. {@code net.sourceforge.tess4j.Tesseract} instead initializes and disposes the
+ * handle inside every {@code doOCR}/{@code getWords} call, so pooling it saves nothing.
+ */
+final class TessBaseApiRecognizer implements OcrRecognizer {
+
+    private static final int LEVEL = ITessAPI.TessPageIteratorLevel.RIL_WORD;
+
+    private final TessAPI api;
+    private ITessAPI.TessBaseAPI handle;
+
+    TessBaseApiRecognizer(String datapath, String language) {
+        this.api = TessAPI.INSTANCE;
+        this.handle = api.TessBaseAPICreate();
+        if (api.TessBaseAPIInit3(handle, datapath, language) != 0) {
+            api.TessBaseAPIDelete(handle);
+            handle = null;
+            throw new IllegalStateException(
+                    "Failed to initialize Tesseract with datapath=" + datapath + ", language=" + language);
+        }
+    }
+
+    @Override
+    public OcrPageResult recognize(BufferedImage image) throws TesseractException {
+        if (handle == null) {
+            throw new IllegalStateException("OCR recognizer is closed");
+        }
+        try {
+            setImage(image);
+            if (api.TessBaseAPIRecognize(handle, null) != 0) {
+                throw new TesseractException("Tesseract recognition failed");
+            }
+            List<OcrWord> words = words();
+            return new OcrPageResult(words, words.isEmpty() ? text() : null);
+        } finally {
+            api.TessBaseAPIClear(handle);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (handle != null) {
+            api.TessBaseAPIEnd(handle);
+            api.TessBaseAPIDelete(handle);
+            handle = null;
+        }
+    }
+
+    private void setImage(BufferedImage image) {
+        ByteBuffer pixels = ImageIOHelper.convertImageData(image);
+        int bitsPerPixel = image.getColorModel().getPixelSize();
+        int bytesPerLine = (int) Math.ceil(image.getWidth() * bitsPerPixel / 8.0d);
+        api.TessBaseAPISetImage(handle, pixels, image.getWidth(), image.getHeight(), bitsPerPixel / 8, bytesPerLine);
+    }
+
+    private List<OcrWord> words() {
+        List<OcrWord> words = new ArrayList<>();
+        ITessAPI.TessResultIterator results = api.TessBaseAPIGetIterator(handle);
+        if (results == null) {
+            return words;
+        }
+        try {
+            ITessAPI.TessPageIterator page = api.TessResultIteratorGetPageIterator(results);
+            IntBuffer left = IntBuffer.allocate(1);
+            IntBuffer top = IntBuffer.allocate(1);
+            IntBuffer right = IntBuffer.allocate(1);
+            IntBuffer bottom = IntBuffer.allocate(1);
+            do {
+                Pointer text = api.TessResultIteratorGetUTF8Text(results, LEVEL);
+                if (text == null) {
+                    continue;
+                }
+                String word = text.getString(0, "UTF-8");
+                api.TessDeleteText(text);
+                float confidence = api.TessResultIteratorConfidence(results, LEVEL);
+                Rectangle bbox = null;
+                if (api.TessPageIteratorBoundingBox(page, LEVEL, left, top, right, bottom) != 0) {
+                    bbox = new Rectangle(left.get(0), top.get(0), right.get(0) - left.get(0),
+                            bottom.get(0) - top.get(0));
+                }
+                words.add(new OcrWord(word, confidence, bbox));
+            } while (api.TessPageIteratorNext(page, LEVEL) != 0);
+        } finally {
+            api.TessResultIteratorDelete(results);
+        }
+        return words;
+    }
+
+    private String text() {
+        Pointer text = api.TessBaseAPIGetUTF8Text(handle);
+        if (text == null) {
+            return "";
+        }
+        try {
+            return text.getString(0, "UTF-8");
+        } finally {
+            api.TessDeleteText(text);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package studio.one.platform.textract.ocr;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.TesseractException;
+
+/**
+ * Thread-safe OCR facade over a bounded pool of Tesseract engines.
+ * <p>
+ * Each pooled {@link OcrRecognizer} keeps one {@code TessBaseAPI} handle initialized with the
+ * language data, so a page only pays for recognition. Recognizers are not thread-safe, so each
+ * recognition borrows one exclusively from an {@link OcrEnginePool} sized by
+ * {@link OcrOptions#poolSize()}. {@link #recognizeAll(int, PageSource)} recognizes independent pages
+ * in parallel on an internal executor with the same size while reading at most that many pages
+ * ahead; results are returned in page order. {@link #close()} ends the native handles.
+ */
+@Slf4j
+public class TesseractOcrEngine implements AutoCloseable {
+
+    private final String language;
+    private final OcrOptions options;
+    private final OcrMetricsRecorder metrics;
+    private final OcrEnginePool<OcrRecognizer> pool;
+    private final OcrImagePreprocessor preprocessor;
+    private ExecutorService executor;
+
+    public TesseractOcrEngine(String datapath, String language) {
+        this(datapath, language, OcrOptions.defaults(), OcrMetricsRecorder.noop());
+    }
+
+    public TesseractOcrEngine(String datapath, String language, OcrOptions options, OcrMetricsRecorder metrics) {
+        this(() -> new TessBaseApiRecognizer(datapath, language), language, options, metrics);
+    }
+
+    public TesseractOcrEngine(Supplier<? extends OcrRecognizer> factory, OcrOptions options, OcrMetricsRecorder metrics) {
+        this(factory, null, options, metrics);
+    }
+
+    private TesseractOcrEngine(
+            Supplier<? extends OcrRecognizer> factory,
+            String language,
+            OcrOptions options,
+            OcrMetricsRecorder metrics) {
+        this.language = language;
+        this.options = Objects.requireNonNull(options, "options");
+        this.metrics = metrics == null ? OcrMetricsRecorder.noop() : metrics;
+        this.pool = new OcrEnginePool<>(
+                options.poolSize(),
+                factory,
+                null,
+                OcrRecognizer::close,
+                options.acquireTimeout(),
+                this.metrics);
+        this.preprocessor = new OcrImagePreprocessor(options.maxImageDimension(), options.binarize());
+        if (options.warmUp()) {
+            prestart();
+        }
+    }
+
+    public OcrOptions options() {
+        return options;
+    }
+
+    /**
+     * Describes the settings that affect recognition output, for use in extraction cache keys.
+     */
+    public String signature() {
+        return "lang=" + (language == null ? "custom" : language)
+                + ";maxImageDimension=" + options.maxImageDimension()
+                + ";binarize=" + options.binarize();
+    }
+
+    /**
+     * Recognizes a single image on the calling thread.
+     */
+    public OcrPageResult recognize(BufferedImage image) throws TesseractException {
+        OcrImagePreprocessor.Prepared prepared = preprocessor.prepare(image);
+        return pool.execute(engine -> recognize(engine, prepared));
+    }
+
+    /**
+     * Recognizes independent pages in parallel, bounded by the pool size.
+     *
+     * @return results in the same order as {@code pages}
+     */
+    public List<OcrPageResult> recognizeAll(List<BufferedImage> pages) throws TesseractException {
+        try {
+            return recognizeAll(pages.size(), pages::get);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Reads {@code pageCount} pages one at a time on the calling thread and recognizes them in
+     * parallel, bounded by the pool size. At most {@link OcrOptions#poolSize()} decoded pages are
+     * held at once, so a long multi-frame image does not have to fit in memory.
+     *
+     * @return results in page order
+     */
+    public List<OcrPageResult> recognizeAll(int pageCount, PageSource pages) throws TesseractException, IOException {
+        if (pageCount <= 1 || options.poolSize() == 1) {
+            List<OcrPageResult> results = new ArrayList<>(pageCount);
+            for (int index = 0; index < pageCount; index++) {
+                results.add(recognize(pages.read(index)));
+            }
+            return results;
+        }
+        List<Future<OcrPageResult>> futures = new ArrayList<>(pageCount);
+        ExecutorService pageExecutor = executor();
+        Semaphore inFlight = new Semaphore(options.poolSize());
+        try {
+            for (int index = 0; index < pageCount; index++) {
+                inFlight.acquire();
+                BufferedImage page;
+                try {
+                    page = pages.read(index);
+                } catch (IOException | RuntimeException ex) {
+                    inFlight.release();
+                    throw ex;
+                }
+                Callable<OcrPageResult> task = () -> {
+                    try {
+                        return recognize(page);
+                    } finally {
+                        inFlight.release();
+                    }
+                };
+                futures.add(pageExecutor.submit(task));
+            }
+            List<OcrPageResult> results = new ArrayList<>(pageCount);
+            for (Future<OcrPageResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for OCR results", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof TesseractException tesseractException) {
+                throw tesseractException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("OCR failed", cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        pool.close();
+    }
+
+    private OcrPageResult recognize(OcrRecognizer engine, OcrImagePreprocessor.Prepared prepared)
+            throws TesseractException {
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            OcrPageResult result = engine.recognize(prepared.image());
+            List<OcrWord> words = new ArrayList<>(result.words().size());
+            for (OcrWord word : result.words()) {
+                words.add(new OcrWord(word.text(), word.confidence(), rescale(word.bbox(), prepared.scale())));
+            }
+            success = true;
+            return new OcrPageResult(words, result.text());
+        } finally {
+            metrics.recordPage(Duration.ofNanos(System.nanoTime() - started), success);
+        }
+    }
+
+    private static Rectangle rescale(Rectangle bbox, double scale) {
+        if (bbox == null || scale == 1d) {
+            return bbox;
+        }
+        return new Rectangle(
+                (int) Math.round(bbox.x / scale),
+                (int) Math.round(bbox.y / scale),
+                (int) Math.round(bbox.width / scale),
+                (int) Math.round(bbox.height / scale));
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            AtomicInteger sequence = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(options.poolSize(), runnable -> {
+                Thread thread = new Thread(runnable, "textract-ocr-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Initializes every pooled engine up front so the first requests do not load language data.
+     */
+    private void prestart() {
+        try {
+            pool.prestart();
+        } catch (RuntimeException ex) {
+            log.warn("OCR engine warm-up failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Supplies the pages of a multi-page image by index.
+     */
+    @FunctionalInterface
+    public interface PageSource {
+        BufferedImage read(int index) throws IOException;
+    }
+}
@@ -3,30 +3,58 @@ package studio.one.platform.textract.service;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import lombok.extern.slf4j.Slf4j;
+import studio.one.platform.textract.cache.ExtractionCacheKey;
+import studio.one.platform.textract.cache.ExtractionResultCache;
 import studio.one.platform.textract.extractor.FileParseException;
 import studio.one.platform.textract.extractor.FileParser;
 import studio.one.platform.textract.extractor.FileParserFactory;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.model.DocumentExtractionResult;
 import studio.one.platform.textract.model.ParsedFile;
 
+@Slf4j
 public class FileContentExtractionService {
 
+    private static final String KEY_FILENAME = "filename";
+    private static final String KEY_CONTENT_TYPE = "contentType";
+    private static final int SPOOL_THRESHOLD_BYTES = 1024 * 1024;
+
     private final FileParserFactory parserFactory;
     private final int maxExtractBytes;
+    private final ExtractionResultCache cache;
 
     public FileContentExtractionService(FileParserFactory parserFactory) {
         this(parserFactory, 10 * 1024 * 1024);
     }
 
     public FileContentExtractionService(FileParserFactory parserFactory, int maxExtractBytes) {
+        this(parserFactory, maxExtractBytes, ExtractionResultCache.noop());
+    }
+
+    /**
+     * @param cache 입력 바이트의 SHA-256 과 파서 버전을 키로 하는 추출 결과 캐시
+     */
+    public FileContentExtractionService(FileParserFactory parserFactory, int maxExtractBytes,
+            ExtractionResultCache cache) {
         this.parserFactory = Objects.requireNonNull(parserFactory);
         if (maxExtractBytes <= 0) {
             throw new IllegalArgumentException("maxExtractBytes must be positive");
         }
         this.maxExtractBytes = maxExtractBytes;
+        this.cache = cache == null ? ExtractionResultCache.noop() : cache;
     }
 
     public String extractText(String contentType, String filename, File file) throws FileParseException {
@@ -36,11 +64,18 @@ public class FileContentExtractionService {
     public ParsedFile parseStructured(String contentType, String filename, File file)
             throws FileParseException {
         try {
-            long fileSize = Files.size(file.toPath());
+            Path path = file.toPath();
+            long fileSize = Files.size(path);
             ensureWithinLimit(fileSize, filename);
-            byte[] bytes = Files.readAllBytes(file.toPath());
             FileParser parser = parserFactory.getParser(contentType, filename);
-            return parser.parseStructured(bytes, contentType, filename);
+            if (parser instanceof StreamingFileParser streaming) {
+                MessageDigest digest = caching() ? digestFile(path) : null;
+                return parseCached(parser, digest, contentType, filename,
+                        () -> streaming.parseStructured(path, contentType, filename));
+            }
+            try (InputStream in = Files.newInputStream(path)) {
+                return parseStream(parser, contentType, filename, in);
+            }
         } catch (IOException e) {
             throw new FileParseException("Failed to read file: " + filename, e);
         }
@@ -62,11 +97,8 @@ public class FileContentExtractionService {
     public ParsedFile parseStructured(String contentType, String filename, InputStream is)
             throws FileParseException {
         try {
-            int readLimit = maxExtractBytes == Integer.MAX_VALUE ? Integer.MAX_VALUE : maxExtractBytes + 1;
-            byte[] bytes = is.readNBytes(readLimit);
-            ensureWithinLimit(bytes.length, filename);
             FileParser parser = parserFactory.getParser(contentType, filename);
-            return parser.parseStructured(bytes, contentType, filename);
+            return parseStream(parser, contentType, filename, is);
         } catch (IOException e) {
             throw new FileParseException("Failed to read input stream for: " + filename, e);
         }
@@ -81,6 +113,102 @@ public class FileContentExtractionService {
         return DocumentExtractionResult.from(parseStructured(contentType, filename, is));
     }
 
+    /**
+     * 입력을 읽는 동안 SHA-256 을 함께 계산한다. 스트리밍 파서이고 입력이 {@value #SPOOL_THRESHOLD_BYTES} 바이트를
+     * 넘으면 힙 대신 임시 파일에 기록한 뒤 파일에서 파싱한다.
+     */
+    private ParsedFile parseStream(FileParser parser, String contentType, String filename, InputStream is)
+            throws IOException {
+        MessageDigest digest = caching() ? ExtractionCacheKey.newDigest() : null;
+        InputStream in = digest == null ? is : new DigestInputStream(is, digest);
+        int readLimit = maxExtractBytes == Integer.MAX_VALUE ? Integer.MAX_VALUE : maxExtractBytes + 1;
+        if (!(parser instanceof StreamingFileParser streaming) || maxExtractBytes <= SPOOL_THRESHOLD_BYTES) {
+            byte[] bytes = in.readNBytes(readLimit);
+            ensureWithinLimit(bytes.length, filename);
+            return parseCached(parser, digest, contentType, filename,
+                    () -> parser.parseStructured(bytes, contentType, filename));
+        }
+        byte[] head = in.readNBytes(SPOOL_THRESHOLD_BYTES + 1);
+        if (head.length <= SPOOL_THRESHOLD_BYTES) {
+            return parseCached(parser, digest, contentType, filename,
+                    () -> parser.parseStructured(head, contentType, filename));
+        }
+        Path spooled = Files.createTempFile("textract-", ".spool");
+        try {
+            try (OutputStream out = Files.newOutputStream(spooled)) {
+                out.write(head);
+                long total = head.length;
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    ensureWithinLimit(total, filename);
+                    out.write(buffer, 0, read);
+                }
+            }
+            return parseCached(parser, digest, contentType, filename,
+                    () -> streaming.parseStructured(spooled, contentType, filename));
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    /**
+     * 같은 내용과 파서 버전의 결과가 캐시에 있으면 파싱을 건너뛴다. {@code digest}가 null 이면 캐시를 쓰지 않는다.
+     */
+    private ParsedFile parseCached(FileParser parser, MessageDigest digest, String contentType, String filename,
+            Supplier<ParsedFile> parse) {
+        if (digest == null) {
+            return parse.get();
+        }
+        ExtractionCacheKey key = new ExtractionCacheKey(HexFormat.of().formatHex(digest.digest()), parser.version());
+        Optional<ParsedFile> cached = cache.get(key);
+        if (cached.isPresent()) {
+            log.debug("Reusing cached extraction result for {} ({})", filename, key.contentHash());
+            return withRequestMetadata(cached.get(), contentType, filename);
+        }
+        ParsedFile parsed = parse.get();
+        cache.put(key, parsed);
+        return parsed;
+    }
+
+    private MessageDigest digestFile(Path path) throws IOException {
+        MessageDigest digest = ExtractionCacheKey.newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest;
+    }
+
+    private boolean caching() {
+        return cache != ExtractionResultCache.noop();
+    }
+
+    /**
+     * 같은 내용이 다른 이름으로 업로드될 수 있으므로 캐시된 결과의 파일 메타데이터를 현재 요청 기준으로 바꾼다.
+     */
+    private ParsedFile withRequestMetadata(ParsedFile cached, String contentType, String filename) {
+        Map<String, Object> metadata = new LinkedHashMap<>(cached.metadata());
+        metadata.remove(KEY_FILENAME);
+        metadata.remove(KEY_CONTENT_TYPE);
+        if (filename != null && !filename.isBlank()) {
+            metadata.put(KEY_FILENAME, filename);
+        }
+        if (contentType != null && !contentType.isBlank()) {
+            metadata.put(KEY_CONTENT_TYPE, contentType);
+        }
+        return new ParsedFile(
+                cached.format(),
+                cached.plainText(),
+                cached.blocks(),
+                metadata,
+                cached.warnings(),
+                cached.pages(),
+                cached.tables(),
+                cached.images(),
+                cached.ocrApplied());
+    }
+
     private void ensureWithinLimit(long size, String filename) {
         if (size > maxExtractBytes) {
             throw new FileParseException("File too large to extract text: " + filename);
@@ -0,0 +1,127 @@
+package studio.one.platform.textract.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import studio.one.platform.textract.extractor.DocumentFormat;
+import studio.one.platform.textract.model.BlockType;
+import studio.one.platform.textract.model.ExtractedTable;
+import studio.one.platform.textract.model.ExtractedTableCell;
+import studio.one.platform.textract.model.ParseWarning;
+import studio.one.platform.textract.model.ParsedBlock;
+import studio.one.platform.textract.model.ParsedFile;
+
+class ExtractionResultCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void inMemoryTierEvictsLeastRecentlyUsedEntriesByWeight() {
+        ParsedFile file = parsedFile("x".repeat(100));
+        long entryWeight = InMemoryExtractionResultCache.weigh(file);
+        InMemoryExtractionResultCache cache = new InMemoryExtractionResultCache(entryWeight * 2);
+
+        cache.put(key("a"), file);
+        cache.put(key("b"), file);
+        cache.get(key("a"));
+        cache.put(key("c"), file);
+
+        assertTrue(cache.get(key("a")).isPresent());
+        assertFalse(cache.get(key("b")).isPresent());
+        assertTrue(cache.get(key("c")).isPresent());
+        assertEquals(entryWeight * 2, cache.weight());
+    }
+
+    @Test
+    void diskTierRoundTripsResultsAcrossInstances() {
+        ParsedFile file = parsedFile("본문 텍스트");
+        new DiskExtractionResultCache(tempDir, 1024 * 1024).put(key("a"), file);
+
+        DiskExtractionResultCache reopened = new DiskExtractionResultCache(tempDir, 1024 * 1024);
+        ParsedFile cached = reopened.get(key("a")).orElseThrow();
+
+        assertEquals(1, reopened.size());
+        assertEquals(file, cached);
+        assertFalse(reopened.get(new ExtractionCacheKey(hash("a"), "other")).isPresent());
+    }
+
+    @Test
+    void diskTierEvictsLeastRecentlyUsedFilesOverBudget() throws Exception {
+        DiskExtractionResultCache probe = new DiskExtractionResultCache(tempDir.resolve("probe"), 1024 * 1024);
+        probe.put(key("probe"), parsedFile("payload"));
+        long fileSize = probe.totalBytes();
+        DiskExtractionResultCache cache = new DiskExtractionResultCache(tempDir.resolve("lru"), fileSize * 2 + fileSize / 2);
+
+        cache.put(key("a"), parsedFile("payload"));
+        cache.put(key("b"), parsedFile("payload"));
+        cache.get(key("a"));
+        cache.put(key("c"), parsedFile("payload"));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(key("a")).isPresent());
+        assertFalse(cache.get(key("b")).isPresent());
+        try (Stream<Path> files = Files.list(tempDir.resolve("lru"))) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void diskTierTreatsCorruptFilesAsMiss() throws Exception {
+        DiskExtractionResultCache cache = new DiskExtractionResultCache(tempDir, 1024 * 1024);
+        cache.put(key("a"), parsedFile("payload"));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            Files.writeString(files.findFirst().orElseThrow(), "not gzip");
+        }
+
+        assertFalse(cache.get(key("a")).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void tieredCachePromotesSecondTierHits() {
+        InMemoryExtractionResultCache first = new InMemoryExtractionResultCache(1024 * 1024);
+        DiskExtractionResultCache second = new DiskExtractionResultCache(tempDir, 1024 * 1024);
+        second.put(key("a"), parsedFile("payload"));
+        TieredExtractionResultCache cache = new TieredExtractionResultCache(first, second);
+
+        assertTrue(cache.get(key("a")).isPresent());
+        assertEquals(1, first.size());
+    }
+
+    private static ExtractionCacheKey key(String content) {
+        return new ExtractionCacheKey(hash(content), "parser/1");
+    }
+
+    private static String hash(String content) {
+        return ExtractionCacheKey.sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ParsedFile parsedFile(String text) {
+        ParsedBlock paragraph = ParsedBlock.text("page[1]/paragraph[0]", BlockType.PARAGRAPH, text, 1, 0,
+                Map.of("sourceRef", "page[1]/paragraph[0]", "bbox", List.of(1, 2, 3, 4)));
+        ExtractedTable table = new ExtractedTable("page[1]/table[0]", "| a |", List.of(
+                new ExtractedTableCell(0, 0, 1, 1, "a", Map.of("header", true))), Map.of("format", "pdf"));
+        return new ParsedFile(
+                DocumentFormat.PDF,
+                text,
+                List.of(paragraph),
+                Map.of("filename", "sample.pdf"),
+                List.of(ParseWarning.warning("CODE", "message", "page[1]")),
+                List.of(),
+                List.of(table),
+                List.of(),
+                false);
+    }
+}
@@ -2,6 +2,7 @@ package studio.one.platform.textract.extractor;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
@@ -19,6 +20,15 @@ class FileParserFactoryTest {
         assertEquals(parser, factory.getParser("text/plain", "sample.txt"));
     }
 
+    @Test
+    void defaultVersionFallsBackToClassFileHashWithoutImplementationVersion() {
+        String version = new StaticParser("a").version();
+
+        assertEquals(StaticParser.class.getName() + "/" + ParserVersions.classFileHash(StaticParser.class), version);
+        assertTrue(version.contains("/sha256-"), version);
+        assertEquals(version, new StaticParser("b").version());
+    }
+
     @Test
     void defaultParseStructuredWrapsParseText() {
         FileParser parser = new StaticParser("hello");
@@ -8,6 +8,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Rectangle;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipEntry;
@@ -31,9 +34,12 @@ import org.apache.poi.xwpf.usermodel.XWPFHeader;
 import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.apache.poi.xwpf.usermodel.XWPFTable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import studio.one.platform.textract.extractor.DocumentFormat;
+import studio.one.platform.textract.extractor.StreamingFileParser;
 import studio.one.platform.textract.model.BlockType;
+import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
 
 class FormatGoldenTest {
@@ -136,6 +142,19 @@ class FormatGoldenTest {
         assertEquals(List.of("ERROR|HWP_ENCRYPTED|false|FileHeader"), snapshot(encrypted).warnings());
     }
 
+    @Test
+    void streamingParsersMatchByteArrayParsingAndEmitBlocksInOrder(@TempDir Path tempDir) throws Exception {
+        assertStreamingMatches(tempDir, new PdfFileParser(), pdfBytes(), "application/pdf", "golden.pdf");
+        assertStreamingMatches(tempDir, new DocxFileParser(), docxBytes(),
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "golden.docx");
+        assertStreamingMatches(tempDir, new PptxFileParser(), pptxBytes(),
+                "application/vnd.openxmlformats-officedocument.presentationml.presentation", "golden.pptx");
+        assertStreamingMatches(tempDir, new HtmlFileParser(), htmlBytes(), "text/html", "golden.html");
+        assertStreamingMatches(tempDir, new HwpHwpxFileParser(), hwpxBytes(), "application/hwpx", "golden.hwpx");
+        assertStreamingMatches(tempDir, new HwpHwpxFileParser(), hwpBytesWithFlags(0), "application/x-hwp", "golden.hwp");
+        assertStreamingMatches(tempDir, new TextFileParser(), "첫 줄\r\n둘째 줄\n".getBytes(UTF_8), "text/plain", "golden.txt");
+    }
+
     @Test
     void ocrGoldenCapturesKoreanLineBlocksWithoutEngineDependency() {
         List<String> blocks = new ImageFileParser("/tmp", "kor+eng").ocrLineBlocks("""
@@ -150,6 +169,19 @@ class FormatGoldenTest {
                 "OCR_TEXT|image/ocr/line[1]|1|둘째 줄"), blocks);
     }
 
+    private void assertStreamingMatches(Path tempDir, StreamingFileParser parser, byte[] bytes,
+            String contentType, String filename) throws Exception {
+        Path file = tempDir.resolve(filename);
+        Files.write(file, bytes);
+        List<ParsedBlock> emitted = new ArrayList<>();
+
+        ParsedFile fromBytes = parser.parseStructured(bytes, contentType, filename);
+        ParsedFile fromFile = parser.parseStructured(file, contentType, filename, emitted::add);
+
+        assertEquals(fromBytes, fromFile, filename);
+        assertEquals(fromFile.blocks(), emitted, filename);
+    }
+
     private GoldenSnapshot snapshot(ParsedFile file) {
         return new GoldenSnapshot(
                 file.format().name(),
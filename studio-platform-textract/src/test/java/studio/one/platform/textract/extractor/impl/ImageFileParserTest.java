@@ -4,15 +4,30 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
 import org.junit.jupiter.api.Test;
 
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
 import studio.one.platform.textract.model.ParseWarning;
 import studio.one.platform.textract.model.ParsedBlock;
+import studio.one.platform.textract.model.ParsedFile;
+import studio.one.platform.textract.ocr.OcrMetricsRecorder;
+import studio.one.platform.textract.ocr.OcrOptions;
+import studio.one.platform.textract.ocr.OcrPageResult;
+import studio.one.platform.textract.ocr.OcrRecognizer;
+import studio.one.platform.textract.ocr.OcrWord;
+import studio.one.platform.textract.ocr.TesseractOcrEngine;
 
 class ImageFileParserTest {
 
@@ -89,4 +104,53 @@ class ImageFileParserTest {
         assertEquals(1, warnings.size());
         assertEquals(0.42d, warnings.get(0).metadata().get(ImageFileParser.KEY_MIN_CONFIDENCE));
     }
+
+    @Test
+    void multiFrameImagesAreRecognizedPerPageInOrder() throws Exception {
+        try (TesseractOcrEngine engine = new TesseractOcrEngine(
+                ImageFileParserTest::widthEchoingRecognizer,
+                new OcrOptions(2, Duration.ofSeconds(5), false, 0, false),
+                OcrMetricsRecorder.noop())) {
+            ImageFileParser parser = new ImageFileParser(engine);
+
+            ParsedFile parsed = parser.parseStructured(tiff(100, 200, 300), "image/tiff", "scan.tiff");
+
+            assertEquals("page100\npage200\npage300", parsed.plainText());
+            assertEquals(List.of(1, 2, 3), parsed.blocks().stream().map(ParsedBlock::page).toList());
+            assertEquals("image/page[1]/ocr/line[0]", parsed.blocks().get(1).sourceRef());
+            assertEquals(1, parsed.blocks().get(1).order());
+            assertEquals(3, parsed.images().size());
+            assertEquals(2, parsed.images().get(1).metadata().get(ExtractedImage.KEY_PAGE));
+        }
+    }
+
+    private static OcrRecognizer widthEchoingRecognizer() {
+        return new OcrRecognizer() {
+            @Override
+            public OcrPageResult recognize(BufferedImage image) {
+                return new OcrPageResult(
+                        List.of(new OcrWord("page" + image.getWidth(), 95f, new Rectangle(0, 0, 10, 10))), null);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static byte[] tiff(int... widths) throws Exception {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("tiff").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+            for (int width : widths) {
+                writer.writeToSequence(new IIOImage(new BufferedImage(width, 10, BufferedImage.TYPE_BYTE_GRAY), null, null), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
 }
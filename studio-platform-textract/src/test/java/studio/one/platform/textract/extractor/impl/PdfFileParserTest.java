@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
@@ -15,11 +18,13 @@ import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.model.BlockType;
 import studio.one.platform.textract.model.ExtractedImage;
 import studio.one.platform.textract.model.ExtractedTable;
+import studio.one.platform.textract.model.ParsedBlock;
 import studio.one.platform.textract.model.ParsedFile;
 
 class PdfFileParserTest {
@@ -220,6 +225,91 @@ class PdfFileParserTest {
         assertTrue(result.plainText().contains("Total"));
     }
 
+    @Test
+    void parallelExtractionMatchesSequentialOutput() throws Exception {
+        byte[] bytes = pdfWithManyPages(7);
+
+        ParsedFile sequential = parser.parseStructured(bytes, "application/pdf", "manual.pdf");
+        ParsedFile parallel;
+        try (PdfFileParser parallelParser = new PdfFileParser(3, 2, 10)) {
+            parallel = parallelParser.parseStructured(bytes, "application/pdf", "manual.pdf");
+        }
+
+        assertEquals(sequential.plainText(), parallel.plainText());
+        assertEquals(describe(sequential.blocks()), describe(parallel.blocks()));
+        assertEquals(describe(sequential.pages()), describe(parallel.pages()));
+        assertEquals(7, parallel.tables().size());
+        assertEquals("page[7]/table[6]", parallel.tables().get(6).sourceRef());
+        assertTrue(parallel.plainText().indexOf("Body of page 2") < parallel.plainText().indexOf("Body of page 7"));
+        assertTrue(!parallel.plainText().contains("Manual header"));
+    }
+
+    @Test
+    void parseStructuredFromFileStreamsBlocksInPageOrder(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("manual.pdf");
+        Files.write(file, pdfWithManyPages(5));
+        List<ParsedBlock> emitted = new ArrayList<>();
+
+        ParsedFile result;
+        try (PdfFileParser streamingParser = new PdfFileParser(2, 2, 3)) {
+            result = streamingParser.parseStructured(file, "application/pdf", "manual.pdf", emitted::add);
+        }
+
+        assertEquals(describe(result.blocks()), describe(emitted));
+        for (int index = 1; index < emitted.size(); index++) {
+            assertTrue(emitted.get(index - 1).order() < emitted.get(index).order());
+            assertTrue(emitted.get(index - 1).page() <= emitted.get(index).page());
+        }
+        assertEquals(5, result.pages().size());
+        assertTrue(!result.plainText().contains("Manual footer"));
+    }
+
+    @Test
+    void parseStructuredFromFileMatchesByteArrayParsing(@TempDir Path tempDir) throws Exception {
+        byte[] bytes = pdfWithTwoPages();
+        Path file = tempDir.resolve("sample.pdf");
+        Files.write(file, bytes);
+
+        ParsedFile fromBytes = parser.parseStructured(bytes, "application/pdf", "sample.pdf");
+        ParsedFile fromFile = parser.parseStructured(file, "application/pdf", "sample.pdf");
+
+        assertEquals(fromBytes.plainText(), fromFile.plainText());
+        assertEquals(describe(fromBytes.blocks()), describe(fromFile.blocks()));
+    }
+
+    private byte[] pdfWithManyPages(int pageCount) throws Exception {
+        try (PDDocument document = new PDDocument();
+                ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int page = 1; page <= pageCount; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, pdPage)) {
+                    contentStream.beginText();
+                    contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    contentStream.newLineAtOffset(50, 750);
+                    contentStream.showText("Manual header");
+                    contentStream.newLineAtOffset(0, -40);
+                    contentStream.showText("Body of page " + page);
+                    contentStream.newLineAtOffset(0, -40);
+                    contentStream.showText("Item    Value");
+                    contentStream.newLineAtOffset(0, -20);
+                    contentStream.showText("Page    " + page);
+                    contentStream.newLineAtOffset(0, -600);
+                    contentStream.showText("Manual footer");
+                    contentStream.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private List<String> describe(List<ParsedBlock> blocks) {
+        return blocks.stream()
+                .map(block -> block.order() + ":" + block.sourceRef() + ":" + block.page() + ":" + block.text())
+                .toList();
+    }
+
     private byte[] pdfWithTwoPages() throws Exception {
         try (PDDocument document = new PDDocument();
                 ByteArrayOutputStream out = new ByteArrayOutputStream()) {
@@ -0,0 +1,135 @@
+package studio.one.platform.textract.ocr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class OcrEnginePoolTest {
+
+    @Test
+    void createsAndWarmsUpAtMostPoolSizeEngines() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        List<Integer> warmedUp = new CopyOnWriteArrayList<>();
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        OcrEnginePool<Integer> pool = new OcrEnginePool<>(
+                2, sequence::incrementAndGet, warmedUp::add, Duration.ofSeconds(5), OcrMetricsRecorder.noop());
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                futures.add(callers.submit(() -> pool.execute(engine -> {
+                    maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    Thread.sleep(10);
+                    inUse.decrementAndGet();
+                    return engine;
+                })));
+            }
+            for (Future<Integer> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(2, pool.created());
+        assertEquals(List.of(1, 2), warmedUp.stream().sorted().toList());
+        assertTrue(maxInUse.get() <= 2);
+        assertEquals(2, pool.idle());
+    }
+
+    @Test
+    void recordsQueueWaitAndTimesOutWhenAllEnginesAreBusy() throws Exception {
+        List<Duration> waits = new CopyOnWriteArrayList<>();
+        OcrMetricsRecorder metrics = new OcrMetricsRecorder() {
+            @Override
+            public void recordQueueWait(Duration wait) {
+                waits.add(wait);
+            }
+        };
+        OcrEnginePool<String> pool = new OcrEnginePool<>(1, () -> "engine", null, Duration.ofMillis(50), metrics);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> pool.execute(engine -> {
+            borrowed.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        holder.start();
+        assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+
+        assertThrows(IllegalStateException.class, () -> pool.execute(engine -> engine));
+
+        release.countDown();
+        holder.join();
+        assertEquals("engine", pool.execute(engine -> engine));
+        assertEquals(3, waits.size());
+        assertTrue(waits.stream().anyMatch(wait -> wait.compareTo(Duration.ofMillis(50)) >= 0));
+    }
+
+    @Test
+    void closeDisposesIdleEnginesAndEnginesReturnedLater() throws Exception {
+        List<String> disposed = new CopyOnWriteArrayList<>();
+        AtomicInteger sequence = new AtomicInteger();
+        OcrEnginePool<String> pool = new OcrEnginePool<>(
+                2, () -> "engine" + sequence.incrementAndGet(), null, disposed::add,
+                Duration.ofSeconds(5), OcrMetricsRecorder.noop());
+        pool.prestart();
+        assertEquals(2, pool.created());
+
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> pool.execute(engine -> {
+            borrowed.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        holder.start();
+        assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+
+        pool.close();
+        assertEquals(1, disposed.size());
+        assertThrows(IllegalStateException.class, () -> pool.execute(engine -> engine));
+
+        release.countDown();
+        holder.join();
+        assertEquals(List.of("engine1", "engine2"), disposed.stream().sorted().toList());
+        assertEquals(0, pool.idle());
+    }
+
+    @Test
+    void failedEngineCreationDoesNotConsumePoolCapacity() {
+        AtomicInteger attempts = new AtomicInteger();
+        OcrEnginePool<String> pool = new OcrEnginePool<>(1, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("tessdata missing");
+            }
+            return "engine";
+        }, null, Duration.ofMillis(50), OcrMetricsRecorder.noop());
+
+        assertThrows(IllegalStateException.class, () -> pool.execute(engine -> engine));
+        assertEquals("engine", pool.execute(engine -> engine));
+        assertEquals(1, pool.created());
+    }
+}
@@ -0,0 +1,54 @@
+package studio.one.platform.textract.ocr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class OcrImagePreprocessorTest {
+
+    @Test
+    void leavesImageUntouchedByDefault() {
+        BufferedImage image = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+
+        OcrImagePreprocessor.Prepared prepared = new OcrImagePreprocessor(0, false).prepare(image);
+
+        assertSame(image, prepared.image());
+        assertEquals(1d, prepared.scale());
+    }
+
+    @Test
+    void downscalesLongerSideToMaxDimension() {
+        BufferedImage image = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+
+        OcrImagePreprocessor.Prepared prepared = new OcrImagePreprocessor(2000, false).prepare(image);
+
+        assertEquals(2000, prepared.image().getWidth());
+        assertEquals(1500, prepared.image().getHeight());
+        assertEquals(0.5d, prepared.scale());
+    }
+
+    @Test
+    void binarizesToPureBlackAndWhite() {
+        BufferedImage image = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(230, 225, 210));
+        graphics.fillRect(0, 0, 40, 20);
+        graphics.setColor(new Color(60, 50, 70));
+        graphics.fillRect(5, 5, 20, 8);
+        graphics.dispose();
+
+        BufferedImage result = new OcrImagePreprocessor(0, true).prepare(image).image();
+
+        int[] samples = result.getRaster().getSamples(0, 0, 40, 20, 0, (int[]) null);
+        assertTrue(Arrays.stream(samples).allMatch(sample -> sample == 0 || sample == 255));
+        assertEquals(0, result.getRaster().getSample(10, 8, 0));
+        assertEquals(255, result.getRaster().getSample(35, 2, 0));
+    }
+}
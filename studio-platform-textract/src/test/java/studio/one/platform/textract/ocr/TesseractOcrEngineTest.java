@@ -0,0 +1,123 @@
+package studio.one.platform.textract.ocr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import net.sourceforge.tess4j.TesseractException;
+
+class TesseractOcrEngineTest {
+
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger maxInUse = new AtomicInteger();
+    private final List<Duration> pageTimes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private TesseractOcrEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.close();
+        }
+    }
+
+    @Test
+    void recognizesPagesInParallelAndKeepsPageOrder() throws Exception {
+        engine = engine(new OcrOptions(3, Duration.ofSeconds(5), false, 0, false));
+        List<BufferedImage> pages = List.of(page(10), page(20), page(30), page(40), page(50), page(60));
+
+        List<OcrPageResult> results = engine.recognizeAll(pages);
+
+        assertEquals(List.of("w10", "w20", "w30", "w40", "w50", "w60"),
+                results.stream().map(result -> result.words().get(0).text()).toList());
+        assertTrue(maxInUse.get() > 1, "pages should be recognized concurrently");
+        assertTrue(maxInUse.get() <= 3);
+        assertEquals(6, pageTimes.size());
+    }
+
+    @Test
+    void mapsWordBoxesBackToOriginalCoordinatesAfterDownscale() throws Exception {
+        engine = engine(new OcrOptions(1, Duration.ofSeconds(5), false, 100, false));
+
+        OcrPageResult result = engine.recognize(page(400));
+
+        assertEquals(new Rectangle(4, 8, 40, 16), result.words().get(0).bbox());
+    }
+
+    @Test
+    void readsPagesLazilyAndBoundsDecodedPagesToPoolSize() throws Exception {
+        engine = engine(new OcrOptions(2, Duration.ofSeconds(5), false, 0, false));
+        AtomicInteger read = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+
+        List<OcrPageResult> results = engine.recognizeAll(8, index -> {
+            maxAhead.accumulateAndGet(read.incrementAndGet() - pageTimes.size(), Math::max);
+            return page(10 * (index + 1));
+        });
+
+        assertEquals(8, results.size());
+        assertEquals("w80", results.get(7).words().get(0).text());
+        assertTrue(maxAhead.get() <= 2, "at most pool size pages should be decoded ahead");
+    }
+
+    @Test
+    void warmUpInitializesEveryEngineAndCloseReleasesThem() {
+        engine = engine(new OcrOptions(3, Duration.ofSeconds(5), true, 0, false));
+
+        assertEquals(3, created.get());
+
+        engine.close();
+        engine = null;
+        assertEquals(3, closed.get());
+    }
+
+    private TesseractOcrEngine engine(OcrOptions options) {
+        OcrMetricsRecorder metrics = new OcrMetricsRecorder() {
+            @Override
+            public void recordPage(Duration elapsed, boolean success) {
+                pageTimes.add(elapsed);
+            }
+        };
+        return new TesseractOcrEngine(this::fakeRecognizer, options, metrics);
+    }
+
+    private OcrRecognizer fakeRecognizer() {
+        created.incrementAndGet();
+        return new OcrRecognizer() {
+            @Override
+            public OcrPageResult recognize(BufferedImage image) throws TesseractException {
+                maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(30);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new TesseractException(ex);
+                } finally {
+                    inUse.decrementAndGet();
+                }
+                int scaled = image.getWidth() / 100;
+                return new OcrPageResult(List.of(new OcrWord("w" + image.getWidth(), 90f,
+                        new Rectangle(scaled, 2 * scaled, 10 * scaled, 4 * scaled))), null);
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+    }
+
+    private static BufferedImage page(int width) {
+        return new BufferedImage(width, 20, BufferedImage.TYPE_BYTE_GRAY);
+    }
+}
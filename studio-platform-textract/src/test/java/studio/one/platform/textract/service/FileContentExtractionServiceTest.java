@@ -3,20 +3,29 @@ package studio.one.platform.textract.service;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
+import studio.one.platform.textract.cache.InMemoryExtractionResultCache;
+import studio.one.platform.textract.extractor.DocumentFormat;
 import studio.one.platform.textract.extractor.FileParseException;
 import studio.one.platform.textract.extractor.FileParser;
 import studio.one.platform.textract.extractor.FileParserFactory;
+import studio.one.platform.textract.extractor.StreamingFileParser;
+import studio.one.platform.textract.model.ParsedBlock;
+import studio.one.platform.textract.model.ParsedFile;
 
 class FileContentExtractionServiceTest {
 
@@ -102,9 +111,130 @@ class FileContentExtractionServiceTest {
         assertEquals(1, parser.invocations);
     }
 
+    @Test
+    void parseStructuredReusesCachedResultForSameContentAndParserVersion() {
+        RecordingParser parser = new RecordingParser();
+        FileContentExtractionService service = new FileContentExtractionService(
+                new FileParserFactory(List.of(parser)),
+                16,
+                new InMemoryExtractionResultCache(1024 * 1024));
+
+        service.parseStructured("text/plain", "first.txt", new ByteArrayInputStream("abcd".getBytes(UTF_8)));
+        ParsedFile second = service.parseStructured(
+                "text/plain", "second.txt", new ByteArrayInputStream("abcd".getBytes(UTF_8)));
+
+        assertEquals(1, parser.invocations);
+        assertEquals("parsed", second.plainText());
+        assertEquals("second.txt", second.metadata().get("filename"));
+
+        parser.version = "v2";
+        service.parseStructured("text/plain", "third.txt", new ByteArrayInputStream("abcd".getBytes(UTF_8)));
+        service.parseStructured("text/plain", "other.txt", new ByteArrayInputStream("abce".getBytes(UTF_8)));
+
+        assertEquals(3, parser.invocations);
+    }
+
+    @Test
+    void parseStructuredSpoolsLargeStreamsToDiskForStreamingParsers() {
+        RecordingStreamingParser parser = new RecordingStreamingParser();
+        FileContentExtractionService service = new FileContentExtractionService(
+                new FileParserFactory(List.of(parser)),
+                4 * 1024 * 1024);
+        byte[] large = new byte[2 * 1024 * 1024];
+
+        ParsedFile result = service.parseStructured("text/plain", "large.txt", new ByteArrayInputStream(large));
+
+        assertEquals("streamed", result.plainText());
+        assertEquals(0, parser.byteInvocations);
+        assertEquals(large.length, parser.lastFileSize);
+        assertFalse(Files.exists(parser.lastFile));
+    }
+
+    @Test
+    void parseStructuredRejectsSpooledStreamsOverLimit() {
+        RecordingStreamingParser parser = new RecordingStreamingParser();
+        FileContentExtractionService service = new FileContentExtractionService(
+                new FileParserFactory(List.of(parser)),
+                2 * 1024 * 1024);
+        byte[] oversized = new byte[2 * 1024 * 1024 + 1];
+
+        assertThrows(FileParseException.class,
+                () -> service.parseStructured("text/plain", "large.txt", new ByteArrayInputStream(oversized)));
+        assertEquals(0, parser.fileInvocations);
+    }
+
+    @Test
+    void parseStructuredParsesSmallStreamsFromMemoryForStreamingParsers() {
+        RecordingStreamingParser parser = new RecordingStreamingParser();
+        FileContentExtractionService service = new FileContentExtractionService(
+                new FileParserFactory(List.of(parser)),
+                4 * 1024 * 1024);
+
+        service.parseStructured("text/plain", "small.txt", new ByteArrayInputStream("abcd".getBytes(UTF_8)));
+
+        assertEquals(1, parser.byteInvocations);
+        assertEquals(null, parser.lastFile);
+    }
+
+    @Test
+    void parseStructuredHandsFilesToStreamingParsersWithoutReadingThem() throws Exception {
+        RecordingStreamingParser parser = new RecordingStreamingParser();
+        FileContentExtractionService service = new FileContentExtractionService(
+                new FileParserFactory(List.of(parser)),
+                16,
+                new InMemoryExtractionResultCache(1024 * 1024));
+        Path temp = Files.createTempFile("streamed-attachment", ".txt");
+        temp.toFile().deleteOnExit();
+        Files.writeString(temp, "abcd", UTF_8);
+
+        service.parseStructured("text/plain", "file.txt", temp.toFile());
+        service.parseStructured("text/plain", "file.txt", temp.toFile());
+
+        assertEquals(temp, parser.lastFile);
+        assertEquals(1, parser.fileInvocations);
+        assertEquals(0, parser.byteInvocations);
+    }
+
+    private static final class RecordingStreamingParser implements StreamingFileParser {
+        private Path lastFile;
+        private long lastFileSize;
+        private int fileInvocations;
+        private int byteInvocations;
+
+        @Override
+        public boolean supports(String contentType, String filename) {
+            return true;
+        }
+
+        @Override
+        public String parse(byte[] bytes, String contentType, String filename) {
+            byteInvocations++;
+            return "parsed";
+        }
+
+        @Override
+        public ParsedFile parseStructured(Path file, String contentType, String filename,
+                Consumer<ParsedBlock> blockListener) {
+            fileInvocations++;
+            lastFile = file;
+            try {
+                lastFileSize = Files.size(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return ParsedFile.textOnly(DocumentFormat.TEXT, "streamed", filename);
+        }
+    }
+
     private static final class RecordingParser implements FileParser {
         private byte[] lastBytes;
         private int invocations;
+        private String version = "v1";
+
+        @Override
+        public String version() {
+            return version;
+        }
 
         @Override
         public boolean supports(String contentType, String filename) {
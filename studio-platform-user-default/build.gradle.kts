@@ -27,6 +27,7 @@ dependencies {
     compileOnly(project(":studio-platform"))
     compileOnly(project(":studio-platform-user"))
     compileOnly(project(":studio-platform-identity"))
+    compileOnly(project(":studio-platform-data"))
     compileOnly("org.mapstruct:mapstruct:$mapstructVersion")
     annotationProcessor("org.mapstruct:mapstruct-processor:$mapstructVersion")
     annotationProcessor("org.projectlombok:lombok-mapstruct-binding:0.2.0")
@@ -45,5 +46,7 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:postgresql")
+    testImplementation(project(":studio-platform-data"))
+    testRuntimeOnly("com.h2database:h2")
     testRuntimeOnly("org.postgresql:postgresql")
 }
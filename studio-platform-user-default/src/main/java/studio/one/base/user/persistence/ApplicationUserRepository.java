@@ -1,5 +1,6 @@
 package studio.one.base.user.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,8 @@ import studio.one.base.user.domain.entity.ApplicationGroup;
 import studio.one.base.user.domain.entity.ApplicationUser;
 import studio.one.base.user.domain.model.UserIdOnly;
 import studio.one.platform.constant.ServiceNames;
+import studio.one.platform.data.jdbc.pagination.KeysetPage;
+import studio.one.platform.data.jdbc.pagination.KeysetPageRequest;
 
 public interface ApplicationUserRepository {
 
@@ -19,6 +22,13 @@ public interface ApplicationUserRepository {
 
     Optional<ApplicationUser> findById(Long userId);
 
+    /**
+     * Loads the given users in no particular order; missing ids are skipped.
+     */
+    default List<ApplicationUser> findAllByUserIdIn(Collection<Long> userIds) {
+        return userIds.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
     Optional<ApplicationUser> findEnabledById(Long userId);
 
     Optional<ApplicationUser> findByUsername(String username);
@@ -43,6 +53,22 @@ public interface ApplicationUserRepository {
 
     List<ApplicationGroup> findGroupsByUserId(Long userId);
 
+    /**
+     * Keyset (cursor) variant of {@link #findAll(Pageable)} that avoids OFFSET scans on deep pages.
+     * Only the JDBC repository supports it.
+     */
+    default KeysetPage<ApplicationUser> findAll(KeysetPageRequest request) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getName());
+    }
+
+    default KeysetPage<ApplicationUser> findUsersByGroupId(Long groupId, KeysetPageRequest request) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getName());
+    }
+
+    default KeysetPage<ApplicationUser> search(String keyword, KeysetPageRequest request) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getName());
+    }
+
     List<Long> findGroupIdsByUserId(Long userId);
 
     ApplicationUser save(ApplicationUser user);
@@ -2,6 +2,7 @@ package studio.one.base.user.persistence.jdbc;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,8 @@ import studio.one.base.user.domain.entity.ApplicationGroup;
 import studio.one.base.user.domain.entity.ApplicationUser;
 import studio.one.base.user.domain.model.UserIdOnly;
 import studio.one.base.user.persistence.ApplicationUserRepository;
+import studio.one.platform.data.jdbc.pagination.KeysetPage;
+import studio.one.platform.data.jdbc.pagination.KeysetPageRequest;
 
 @Repository(ApplicationUserRepository.SERVICE_NAME)
 public class ApplicationUserJdbcRepository extends BaseJdbcRepository implements ApplicationUserRepository {
@@ -38,6 +41,16 @@ public class ApplicationUserJdbcRepository extends BaseJdbcRepository implements
             Map.entry("modifiedDate", "MODIFIED_DATE"),
             Map.entry("status", "STATUS"));
 
+    /**
+     * Sort properties usable with keyset paging: non-null columns only, labels as selected.
+     * {@code CREATION_DATE} is NOT NULL since {@code V302__require_user_creation_date.sql}.
+     */
+    private static final Map<String, String> KEYSET_COLUMNS = Map.of(
+            "userId", "USER_ID",
+            "username", "USERNAME",
+            "email", "EMAIL",
+            "creationDate", "CREATION_DATE");
+
     private static final RowMapper<ApplicationUser> USER_ROW_MAPPER = JdbcUserMapper::mapBasicUser;
 
     private static final RowMapper<ApplicationGroup> GROUP_ROW_MAPPER = (rs, rowNum) -> {
@@ -77,6 +90,21 @@ public class ApplicationUserJdbcRepository extends BaseJdbcRepository implements
         return page;
     }
 
+    @Override
+    public KeysetPage<ApplicationUser> findAll(KeysetPageRequest request) {
+        String select = """
+                select USER_ID, USERNAME, NAME, FIRST_NAME, LAST_NAME, PASSWORD_HASH,
+                       NAME_VISIBLE, EMAIL, EMAIL_VISIBLE, USER_ENABLED, USER_EXTERNAL, STATUS,
+                       FAILED_ATTEMPTS, LAST_FAILED_AT, ACCOUNT_LOCKED_UNTIL, CREATION_DATE, MODIFIED_DATE
+                  from TB_APPLICATION_USER
+                """;
+        String count = "select count(*) from TB_APPLICATION_USER";
+        KeysetPage<ApplicationUser> page = queryKeyset(select, count, Map.of(), request, USER_ROW_MAPPER,
+                "USER_ID", KEYSET_COLUMNS, TABLE);
+        loadProperties(page.content());
+        return page;
+    }
+
     @Override
     public Optional<ApplicationUser> findById(Long userId) {
         String sql = """
@@ -91,6 +119,23 @@ public class ApplicationUserJdbcRepository extends BaseJdbcRepository implements
         return result;
     }
 
+    @Override
+    public List<ApplicationUser> findAllByUserIdIn(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                select USER_ID, USERNAME, NAME, FIRST_NAME, LAST_NAME, PASSWORD_HASH,
+                       NAME_VISIBLE, EMAIL, EMAIL_VISIBLE, USER_ENABLED, USER_EXTERNAL, STATUS,
+                       FAILED_ATTEMPTS, LAST_FAILED_AT, ACCOUNT_LOCKED_UNTIL, CREATION_DATE, MODIFIED_DATE
+                  from TB_APPLICATION_USER
+                 where USER_ID in (:ids)
+                """;
+        List<ApplicationUser> users = namedTemplate.query(sql, Map.of("ids", userIds), USER_ROW_MAPPER);
+        loadProperties(users);
+        return users;
+    }
+
     @Override
     public Optional<ApplicationUser> findEnabledById(Long userId) {
         String sql = """
@@ -202,6 +247,24 @@ public class ApplicationUserJdbcRepository extends BaseJdbcRepository implements
         return page;
     }
 
+    @Override
+    public KeysetPage<ApplicationUser> findUsersByGroupId(Long groupId, KeysetPageRequest request) {
+        Map<String, Object> params = Map.of("groupId", groupId);
+        String select = """
+                select u.USER_ID, u.USERNAME, u.NAME, u.FIRST_NAME, u.LAST_NAME, u.PASSWORD_HASH,
+                       u.NAME_VISIBLE, u.EMAIL, u.EMAIL_VISIBLE, u.USER_ENABLED, u.USER_EXTERNAL, u.STATUS,
+                       u.FAILED_ATTEMPTS, u.LAST_FAILED_AT, u.ACCOUNT_LOCKED_UNTIL, u.CREATION_DATE, u.MODIFIED_DATE
+                  from TB_APPLICATION_USER u
+                  join TB_APPLICATION_GROUP_MEMBERS gm on gm.USER_ID = u.USER_ID
+                 where gm.GROUP_ID = :groupId
+                """;
+        String count = "select count(*) from TB_APPLICATION_GROUP_MEMBERS where GROUP_ID = :groupId";
+        KeysetPage<ApplicationUser> page = queryKeyset(select, count, params, request, USER_ROW_MAPPER,
+                "USER_ID", KEYSET_COLUMNS, null);
+        loadProperties(page.content());
+        return page;
+    }
+
     @Override
     public List<ApplicationUser> findUsersByGroupId(Long groupId) {
         String sql = """
@@ -243,6 +306,33 @@ public class ApplicationUserJdbcRepository extends BaseJdbcRepository implements
         return page;
     }
 
+    @Override
+    public KeysetPage<ApplicationUser> search(String keyword, KeysetPageRequest request) {
+        Map<String, Object> params = Map.of("q", normalize(keyword));
+        String select = """
+                select USER_ID, USERNAME, NAME, FIRST_NAME, LAST_NAME, PASSWORD_HASH,
+                       NAME_VISIBLE, EMAIL, EMAIL_VISIBLE, USER_ENABLED, USER_EXTERNAL, STATUS,
+                       FAILED_ATTEMPTS, LAST_FAILED_AT, ACCOUNT_LOCKED_UNTIL, CREATION_DATE, MODIFIED_DATE
+                  from TB_APPLICATION_USER
+                 where (:q = '' or
+                       lower(USERNAME) like :q or
+                       lower(NAME) like :q or
+                       lower(EMAIL) like :q)
+                """;
+        String count = """
+                select count(*)
+                  from TB_APPLICATION_USER
+                 where (:q = '' or
+                       lower(USERNAME) like :q or
+                       lower(NAME) like :q or
+                       lower(EMAIL) like :q)
+                """;
+        KeysetPage<ApplicationUser> page = queryKeyset(select, count, params, request, USER_ROW_MAPPER,
+                "USER_ID", KEYSET_COLUMNS, null);
+        loadProperties(page.content());
+        return page;
+    }
+
     @Override
     public List<ApplicationGroup> findGroupsByUserId(Long userId) {
         String sql = """
@@ -1,5 +1,6 @@
 package studio.one.base.user.persistence.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,9 @@ public interface ApplicationUserJpaRepository extends JpaRepository<ApplicationU
     @Query("select u from ApplicationUser u where lower(u.email) = lower(:email)")
     Optional<ApplicationUser> findByEmail(@Param("email") String email);
 
+    @Override
+    List<ApplicationUser> findAllByUserIdIn(Collection<Long> userIds);
+
     @Override
     boolean existsByUsername(String username);
 
@@ -0,0 +1,212 @@
+package studio.one.base.user.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import studio.one.base.user.domain.event.UserCacheEvictableEvent;
+import studio.one.platform.cache.CacheInvalidation;
+import studio.one.platform.cache.CacheInvalidationBus;
+
+/**
+ * username/email 접두어 index 를 메모리에 유지하는 소규모 배포용 사용자 검색.
+ * <p>
+ * 첫 검색 시 {@code TB_APPLICATION_USER}에서 전체 index 를 만들고, 이후에는 사용자 변경 이벤트
+ * ({@link UserCacheEvictableEvent})를 받아 해당 사용자만 다시 읽는다. {@link CacheInvalidationBus}가 있으면
+ * 다른 노드의 index 에도 같은 갱신을 전파한다. 검색은 접두어 일치만 지원하며 정확히 일치한 username →
+ * 정확히 일치한 email → username 접두어 → email 접두어 순으로 정렬한다.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+@Slf4j
+public class InMemoryUserSearchEngine implements UserSearchEngine {
+
+    /** 노드 간 index 갱신에 사용하는 무효화 이름. */
+    public static final String INDEX_NAME = "users.searchIndex";
+
+    private static final String SELECT = "select USER_ID, USERNAME, EMAIL from TB_APPLICATION_USER";
+
+    private final NamedParameterJdbcTemplate namedTemplate;
+    private final CacheInvalidationBus bus;
+    private volatile Index index;
+
+    public InMemoryUserSearchEngine(NamedParameterJdbcTemplate namedTemplate) {
+        this(namedTemplate, null);
+    }
+
+    public InMemoryUserSearchEngine(NamedParameterJdbcTemplate namedTemplate, CacheInvalidationBus bus) {
+        this.namedTemplate = namedTemplate;
+        this.bus = bus;
+        if (bus != null) {
+            bus.subscribe(INDEX_NAME, this::apply);
+        }
+    }
+
+    @Override
+    public Page<Long> search(String keyword, Pageable pageable) {
+        String prefix = keyword.trim().toLowerCase(Locale.ROOT);
+        Index current = index();
+        Set<Long> candidates = new HashSet<>();
+        for (Set<Long> ids : current.terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            candidates.addAll(ids);
+        }
+        List<Hit> hits = new ArrayList<>(candidates.size());
+        for (Long userId : candidates) {
+            Terms terms = current.users.get(userId);
+            if (terms != null) {
+                hits.add(new Hit(userId, rank(terms, prefix), terms.username().length()));
+            }
+        }
+        hits.sort(Comparator.comparingInt(Hit::rank).thenComparingInt(Hit::length).thenComparingLong(Hit::userId));
+        List<Long> content = hits.stream()
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(Hit::userId)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * 사용자 변경을 index 에 반영한다. 이벤트는 커밋 이후 발행되므로 일반 리스너로 받는다.
+     */
+    @EventListener
+    public void onUserChanged(UserCacheEvictableEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        if (bus != null) {
+            bus.publish(CacheInvalidation.of(INDEX_NAME, event.getUserId()));
+        } else {
+            refresh(event.getUserId());
+        }
+    }
+
+    /** 전체 index 를 다시 만든다. */
+    public synchronized void rebuild() {
+        Index rebuilt = new Index();
+        namedTemplate.query(SELECT, rs -> {
+            rebuilt.put(rs.getLong("USER_ID"), rs.getString("USERNAME"), rs.getString("EMAIL"));
+        });
+        index = rebuilt;
+        log.debug("Rebuilt in-memory user search index with {} users", rebuilt.users.size());
+    }
+
+    /** 사용자 한 명을 다시 읽어 index 에 반영한다. 삭제된 사용자는 index 에서 제거된다. */
+    public synchronized void refresh(Long userId) {
+        Index current = index;
+        if (current == null) {
+            return;
+        }
+        boolean[] found = { false };
+        namedTemplate.query(SELECT + " where USER_ID = :userId", Map.of("userId", userId), rs -> {
+            found[0] = true;
+            current.put(userId, rs.getString("USERNAME"), rs.getString("EMAIL"));
+        });
+        if (!found[0]) {
+            current.remove(userId);
+        }
+    }
+
+    /** index 에 포함된 사용자 수. */
+    public int size() {
+        Index current = index;
+        return current == null ? 0 : current.users.size();
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        if (invalidation.isAll()) {
+            if (index != null) {
+                rebuild();
+            }
+            return;
+        }
+        for (String key : invalidation.keys()) {
+            refresh(Long.valueOf(key));
+        }
+    }
+
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private static int rank(Terms terms, String prefix) {
+        if (terms.username().equals(prefix)) {
+            return 0;
+        }
+        if (prefix.equals(terms.email())) {
+            return 1;
+        }
+        return terms.username().startsWith(prefix) ? 2 : 3;
+    }
+
+    private record Terms(String username, String email) {
+    }
+
+    private record Hit(long userId, int rank, int length) {
+    }
+
+    private static final class Index {
+
+        private final NavigableMap<String, Set<Long>> terms = new ConcurrentSkipListMap<>();
+        private final Map<Long, Terms> users = new ConcurrentHashMap<>();
+
+        void put(long userId, String username, String email) {
+            remove(userId);
+            Terms entry = new Terms(normalize(username), normalize(email));
+            users.put(userId, entry);
+            add(entry.username(), userId);
+            add(entry.email(), userId);
+        }
+
+        void remove(long userId) {
+            Terms previous = users.remove(userId);
+            if (previous != null) {
+                drop(previous.username(), userId);
+                drop(previous.email(), userId);
+            }
+        }
+
+        private void add(String term, long userId) {
+            if (term != null && !term.isEmpty()) {
+                terms.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+
+        private void drop(String term, long userId) {
+            if (term != null) {
+                terms.computeIfPresent(term, (key, ids) -> {
+                    ids.remove(userId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
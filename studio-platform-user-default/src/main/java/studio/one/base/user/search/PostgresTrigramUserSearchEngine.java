@@ -0,0 +1,79 @@
+package studio.one.base.user.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * PostgreSQL {@code pg_trgm} 기반 사용자 검색.
+ * <p>
+ * {@code V301__optimize_group_member_summary_search.sql}의 {@code lower(USERNAME|NAME|EMAIL)} GIN trigram
+ * index를 그대로 사용한다. 저장소 검색의 {@code (:q = '' or ...)} 조건은 generic plan 에서 index 를 쓰지 못하므로
+ * 여기서는 조건을 빼고, 정확히 일치 → 접두어 일치 → {@code similarity()} 순으로 정렬한다.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public class PostgresTrigramUserSearchEngine implements UserSearchEngine {
+
+    private static final String MATCH = """
+              from TB_APPLICATION_USER
+             where lower(USERNAME) like :contains
+                or lower(NAME) like :contains
+                or lower(EMAIL) like :contains
+            """;
+
+    private static final String RANKED = """
+            select USER_ID
+            """ + MATCH + """
+             order by case
+                        when lower(USERNAME) = :keyword or lower(EMAIL) = :keyword then 0
+                        when lower(USERNAME) like :prefix or lower(EMAIL) like :prefix or lower(NAME) like :prefix then 1
+                        else 2
+                      end,
+                      greatest(similarity(lower(USERNAME), :keyword),
+                               similarity(lower(coalesce(NAME, '')), :keyword),
+                               similarity(lower(EMAIL), :keyword)) desc,
+                      USER_ID
+            """;
+
+    private final NamedParameterJdbcTemplate namedTemplate;
+
+    public PostgresTrigramUserSearchEngine(NamedParameterJdbcTemplate namedTemplate) {
+        this.namedTemplate = namedTemplate;
+    }
+
+    @Override
+    public Page<Long> search(String keyword, Pageable pageable) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(normalized);
+        Map<String, Object> params = new HashMap<>();
+        params.put("keyword", normalized);
+        params.put("prefix", escaped + "%");
+        params.put("contains", "%" + escaped + "%");
+
+        Long total = namedTemplate.queryForObject("select count(*)" + MATCH, params, Long.class);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+        String sql = RANKED;
+        if (pageable.isPaged()) {
+            params.put("limit", pageable.getPageSize());
+            params.put("offset", pageable.getOffset());
+            sql = sql + " limit :limit offset :offset";
+        }
+        List<Long> ids = namedTemplate.queryForList(sql, params, Long.class);
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    /** LIKE 와일드카드를 기본 escape 문자({@code \})로 이스케이프한다. */
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
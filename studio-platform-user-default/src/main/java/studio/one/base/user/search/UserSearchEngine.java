@@ -0,0 +1,24 @@
+package studio.one.base.user.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 사용자 키워드 검색 백엔드.
+ * <p>
+ * 구현체는 username/name/email 검색 결과를 일치 품질 순(정확히 일치 → 접두어 일치 → 부분 일치)으로 정렬한
+ * 사용자 ID 페이지를 반환한다. 사용자 본문 조회는 호출자가 {@code ApplicationUserRepository}로 수행한다.
+ * 빈 키워드와 명시적 정렬이 있는 요청은 호출자가 저장소 검색으로 처리한다.
+ *
+ * @author donghyuck, son
+ * @since 2026-10-17
+ */
+public interface UserSearchEngine {
+
+    /**
+     * @param keyword  검색어 (공백이 아님)
+     * @param pageable 페이지 정보, 정렬은 무시하고 일치 품질 순으로 정렬한다
+     * @return 일치 품질 순 사용자 ID 페이지
+     */
+    Page<Long> search(String keyword, Pageable pageable);
+}
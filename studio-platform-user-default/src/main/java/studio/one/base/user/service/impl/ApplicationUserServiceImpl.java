@@ -23,6 +23,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -41,6 +42,7 @@ import studio.one.base.user.domain.entity.ApplicationRole;
 import studio.one.base.user.domain.entity.ApplicationUser;
 import studio.one.base.user.domain.entity.ApplicationUserRole;
 import studio.one.base.user.domain.entity.ApplicationUserRoleId;
+import studio.one.base.user.domain.event.UserAuthorityChangedEvent;
 import studio.one.base.user.domain.event.UserDisabledEvent;
 import studio.one.base.user.domain.event.UserEnabledEvent;
 import studio.one.base.user.domain.event.UserPasswordResetEvent;
@@ -56,6 +58,7 @@ import studio.one.base.user.persistence.ApplicationGroupRepository;
 import studio.one.base.user.persistence.ApplicationRoleRepository;
 import studio.one.base.user.persistence.ApplicationUserRepository;
 import studio.one.base.user.persistence.ApplicationUserRoleRepository;
+import studio.one.base.user.search.UserSearchEngine;
 import studio.one.base.user.service.ApplicationUserService;
 import studio.one.base.user.service.BatchResult;
 import studio.one.base.user.service.PasswordPolicyService;
@@ -88,6 +91,14 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
     private final ObjectProvider<I18n> i18nProvider;
     private final UserMutator<ApplicationUser> userMutator;
     private final ObjectProvider<PasswordPolicyService> passwordPolicyValidatorProvider;
+    private UserSearchEngine userSearchEngine;
+
+    /**
+     * 키워드 검색에 사용할 검색 백엔드를 지정한다. 지정하지 않으면 저장소의 {@code search}를 사용한다.
+     */
+    public void setUserSearchEngine(UserSearchEngine userSearchEngine) {
+        this.userSearchEngine = userSearchEngine;
+    }
 
     @PostConstruct
     void initialize() {
@@ -111,7 +122,7 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
     }
 
     public Page<ApplicationUser> findByNameOrUsernameOrEmail(String keyword, Pageable pageable) {
-        return userRepo.search(keyword, pageable);
+        return searchUsers(keyword, pageable);
     }
 
     @Cacheable(cacheNames = CacheNames.User.BY_USER_ID, key = "#userId", unless = "#result == null")
@@ -154,6 +165,9 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
         }
         ApplicationUser saved = userRepo.save(user);
         log.debug("User created: id={}, username={}", saved.getUserId(), saved.getUsername());
+        domainEventsProvider.ifAvailable(
+                resolved -> resolved.publishAfterCommit(UserUpdatedEvent.of(saved.getUserId(), saved.getUsername(),
+                        "system", clock)));
         return saved;
     }
 
@@ -427,7 +441,29 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
     }
 
     public Page<ApplicationUser> search(String q, Pageable pageable) {
-        return userRepo.search(q, pageable);
+        return searchUsers(q, pageable);
+    }
+
+    /**
+     * 검색 백엔드가 있으면 일치 품질 순 ID 페이지를 받아 사용자를 한 번에 읽는다. 빈 키워드나 명시적
+     * 정렬 요청은 저장소 검색을 그대로 사용한다.
+     */
+    private Page<ApplicationUser> searchUsers(String keyword, Pageable pageable) {
+        UserSearchEngine engine = userSearchEngine;
+        if (engine == null || StringUtils.isBlank(keyword) || pageable.getSort().isSorted()) {
+            return userRepo.search(keyword, pageable);
+        }
+        Page<Long> ids = engine.search(keyword, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<Long, ApplicationUser> loaded = userRepo.findAllByUserIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(ApplicationUser::getUserId, user -> user, (a, b) -> a));
+        List<ApplicationUser> ordered = ids.getContent().stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, pageable, ids.getTotalElements());
     }
 
     public Page<ApplicationUser> getUsersByGroup(Long groupId, Pageable pageable) {
@@ -454,6 +490,7 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
                     .group(g)
                     .joinedBy(by)
                     .build());
+            publishAuthorityChanged(userId, by);
         }
     }
 
@@ -463,6 +500,7 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
     @Transactional
     public void leaveGroup(Long userId, Long groupId) {
         membershipRepo.deleteById(new ApplicationGroupMembershipId(groupId, userId));
+        publishAuthorityChanged(userId, "system");
     }
 
     public List<ApplicationRole> findRolesByUser(Long userId) {
@@ -493,6 +531,11 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    private void publishAuthorityChanged(Long userId, String actor) {
+        domainEventsProvider.ifAvailable(
+                resolved -> resolved.publishAfterCommit(UserAuthorityChangedEvent.ofUser(userId, actor, clock)));
+    }
+
     private void encodePasswordIfPresent(ApplicationUser user) {
         String raw = userMutator.getPassword(user);
         if (StringUtils.isBlank(raw)) {
@@ -526,6 +569,7 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
         ApplicationUserRoleId id = new ApplicationUserRoleId(u.getUserId(), r.getRoleId());
         if (!userRoleRepo.existsById(id)) {
             userRoleRepo.save(ApplicationUserRole.of(u.getUserId(), r, by));
+            publishAuthorityChanged(userId, by);
         }
     }
 
@@ -535,6 +579,7 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
     @Transactional
     public void revokeRole(Long userId, Long roleId) {
         userRoleRepo.deleteByUserIdAndRoleId(userId, roleId);
+        publishAuthorityChanged(userId, "system");
     }
 
     @Override
@@ -553,6 +598,9 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
         long inserted = toAssign.isEmpty() ? 0 : assignRolesBulk(userId, toAssign, actor).getInserted();
         long deleted = toRevoke.isEmpty() ? 0 : userRoleRepo.deleteByUserIdAndRoleIds(userId, toRevoke);
         long skipped = toAssign.size() - inserted;
+        if (deleted > 0) {
+            publishAuthorityChanged(userId, actor);
+        }
         return new BatchResult(desired.size(), inserted, skipped, deleted);
     }
 
@@ -590,6 +638,9 @@ public class ApplicationUserServiceImpl implements ApplicationUserService<Applic
             ps.setArray(3, con.createArrayOf("bigint", arr));
             return ps;
         });
+        if (inserted > 0) {
+            publishAuthorityChanged(userId, assignedBy);
+        }
 
         long skipped = valid.size() - inserted;
         return new BatchResult(valid.size(), inserted, skipped, 0);
@@ -16,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -131,15 +132,17 @@ public class UserMgmtController extends AbstractPasswordPolicyControllerSupport
         public ResponseEntity<ApiResponse<Page<UserDto>>> find(
                         @RequestParam(value = "q", required = false) Optional<String> q,
                         @RequestParam(value = "requireQuery", required = false, defaultValue = "true") boolean requireQuery,
-                        @PageableDefault(size = 15, sort = "userId", direction = Sort.Direction.DESC) Pageable pageable) {
+                        @PageableDefault(size = 15) Pageable pageable) {
 
                 Optional<String> keyword = RequestParamUtils.normalizeQuery(q);
                 if (keyword.isEmpty() && requireQuery)
                         return ok(ApiResponse.ok(Page.empty(pageable)));
                 Page<User> page;
                 if (keyword.isEmpty()) {
-                        page = userService.findAll(pageable);
+                        page = userService.findAll(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                                        pageable.getSortOr(Sort.by(Sort.Direction.DESC, "userId"))));
                 } else {
+                        // 정렬을 지정하지 않으면 검색 백엔드의 일치 품질 순서를 사용한다.
                         page = userService.findByNameOrUsernameOrEmail(keyword.get(), pageable);
                 }
                 Page<UserDto> dtoPage = page.map(userMapper::toDto);
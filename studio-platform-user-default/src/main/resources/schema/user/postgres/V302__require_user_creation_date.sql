@@ -0,0 +1,11 @@
+-- TB_APPLICATION_USER.CREATION_DATE becomes NOT NULL.
+-- Keyset paging sorts by creationDate and seeks with a plain comparison, which skips NULL rows.
+-- Both repositories already set the value on insert; rows written without it are backfilled.
+
+UPDATE TB_APPLICATION_USER
+   SET CREATION_DATE = COALESCE(MODIFIED_DATE, NOW())
+ WHERE CREATION_DATE IS NULL;
+
+ALTER TABLE TB_APPLICATION_USER
+    ALTER COLUMN CREATION_DATE SET DEFAULT NOW(),
+    ALTER COLUMN CREATION_DATE SET NOT NULL;
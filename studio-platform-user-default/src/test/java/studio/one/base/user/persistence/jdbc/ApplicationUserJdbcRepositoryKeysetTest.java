@@ -0,0 +1,167 @@
+package studio.one.base.user.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import studio.one.base.user.domain.entity.ApplicationUser;
+import studio.one.platform.data.jdbc.pagination.KeysetPage;
+import studio.one.platform.data.jdbc.pagination.KeysetPageRequest;
+import studio.one.platform.data.jdbc.pagination.PageTotalMode;
+
+class ApplicationUserJdbcRepositoryKeysetTest {
+
+    private EmbeddedDatabase database;
+    private ApplicationUserJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        createSchema(jdbcTemplate);
+        for (int i = 1; i <= 7; i++) {
+            // usernames are inserted out of id order so username sorting differs from the tie-breaker
+            jdbcTemplate.update("insert into TB_APPLICATION_USER (USERNAME, PASSWORD_HASH, NAME, EMAIL) values (?, 'x', ?, ?)",
+                    "user-" + (char) ('h' - i), "User " + i, "user" + i + "@example.com");
+        }
+        jdbcTemplate.update("insert into TB_APPLICATION_GROUP_MEMBERS (GROUP_ID, USER_ID) select 10, USER_ID from TB_APPLICATION_USER where mod(USER_ID, 2) = 1");
+        repository = new ApplicationUserJdbcRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void findAllWalksEveryRowOnceWithoutTotal() {
+        KeysetPageRequest request = KeysetPageRequest.first(3);
+
+        List<Long> ids = new ArrayList<>();
+        KeysetPage<ApplicationUser> page = repository.findAll(request);
+        assertThat(page.totalElements()).isNull();
+        while (true) {
+            page.content().forEach(user -> ids.add(user.getUserId()));
+            if (!page.hasNext()) {
+                break;
+            }
+            page = repository.findAll(request.next(page.nextCursor()));
+        }
+
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void searchSeeksByRequestedSortAndCountsWhenExactTotalRequested() {
+        KeysetPageRequest request = KeysetPageRequest.first(4, Sort.by(Sort.Order.desc("username")))
+                .withTotal(PageTotalMode.EXACT);
+
+        KeysetPage<ApplicationUser> first = repository.search("user", request);
+        KeysetPage<ApplicationUser> second = repository.search("user", request.next(first.nextCursor()));
+
+        assertThat(first.totalElements()).isEqualTo(7L);
+        assertThat(first.content()).extracting(ApplicationUser::getUsername)
+                .containsExactly("user-g", "user-f", "user-e", "user-d");
+        assertThat(second.content()).extracting(ApplicationUser::getUsername)
+                .containsExactly("user-c", "user-b", "user-a");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void creationDateSortWalksEveryRowOnce() {
+        KeysetPageRequest request = KeysetPageRequest.first(3, Sort.by(Sort.Order.desc("creationDate")));
+
+        List<Long> ids = new ArrayList<>();
+        KeysetPage<ApplicationUser> page = repository.findAll(request);
+        while (true) {
+            page.content().forEach(user -> ids.add(user.getUserId()));
+            if (!page.hasNext()) {
+                break;
+            }
+            page = repository.findAll(request.next(page.nextCursor()));
+        }
+
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void findUsersByGroupIdPagesMembersAndReturnsNoEstimateForFilteredQueries() {
+        KeysetPageRequest request = KeysetPageRequest.first(2).withTotal(PageTotalMode.ESTIMATED);
+
+        KeysetPage<ApplicationUser> first = repository.findUsersByGroupId(10L, request);
+        KeysetPage<ApplicationUser> second = repository.findUsersByGroupId(10L, request.next(first.nextCursor()));
+
+        assertThat(first.content()).extracting(ApplicationUser::getUserId).containsExactly(1L, 3L);
+        assertThat(second.content()).extracting(ApplicationUser::getUserId).containsExactly(5L, 7L);
+        assertThat(first.totalElements()).isNull();
+        assertThat(first.totalMode()).isEqualTo(PageTotalMode.NONE);
+    }
+
+    @Test
+    void rejectsCursorIssuedForDifferentSortAndUnsupportedSortProperties() {
+        KeysetPage<ApplicationUser> page = repository.findAll(KeysetPageRequest.first(2));
+
+        assertThatThrownBy(() -> repository.findAll(
+                KeysetPageRequest.first(2, Sort.by("username")).next(page.nextCursor())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+        assertThatThrownBy(() -> repository.findAll(KeysetPageRequest.first(2, Sort.by("name"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+    }
+
+    private void createSchema(JdbcTemplate jdbcTemplate) {
+        List.of(
+                """
+                CREATE TABLE TB_APPLICATION_USER (
+                  USER_ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+                  USERNAME VARCHAR(100) NOT NULL UNIQUE,
+                  PASSWORD_HASH VARCHAR(256) NOT NULL,
+                  NAME VARCHAR(100),
+                  NAME_VISIBLE BOOLEAN DEFAULT TRUE,
+                  FIRST_NAME VARCHAR(100),
+                  LAST_NAME VARCHAR(100),
+                  EMAIL VARCHAR(100) NOT NULL UNIQUE,
+                  EMAIL_VISIBLE BOOLEAN DEFAULT TRUE,
+                  FAILED_ATTEMPTS INTEGER DEFAULT 0,
+                  LAST_FAILED_AT TIMESTAMP,
+                  ACCOUNT_LOCKED_UNTIL TIMESTAMP,
+                  USER_ENABLED BOOLEAN DEFAULT TRUE,
+                  USER_EXTERNAL BOOLEAN DEFAULT FALSE,
+                  STATUS INTEGER DEFAULT 0,
+                  CREATION_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                  MODIFIED_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """,
+                """
+                CREATE TABLE TB_APPLICATION_USER_PROPERTY (
+                  USER_ID BIGINT NOT NULL,
+                  PROPERTY_NAME VARCHAR(100) NOT NULL,
+                  PROPERTY_VALUE VARCHAR(1024) NOT NULL
+                )
+                """,
+                """
+                CREATE TABLE TB_APPLICATION_GROUP_MEMBERS (
+                  GROUP_ID BIGINT NOT NULL,
+                  USER_ID BIGINT NOT NULL,
+                  PRIMARY KEY (GROUP_ID, USER_ID)
+                )
+                """)
+                .forEach(jdbcTemplate::execute);
+    }
+}
@@ -0,0 +1,128 @@
+package studio.one.base.user.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import studio.one.base.user.domain.event.UserUpdatedEvent;
+import studio.one.platform.cache.LocalCacheInvalidationBus;
+
+public class UserSearchEngineTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE TB_APPLICATION_USER (
+                  USER_ID BIGINT PRIMARY KEY,
+                  USERNAME VARCHAR(100) NOT NULL,
+                  NAME VARCHAR(100),
+                  EMAIL VARCHAR(100) NOT NULL
+                )
+                """);
+        // H2 has no pg_trgm; a shared-prefix ratio is enough to exercise the ranking order
+        jdbcTemplate.execute("CREATE ALIAS similarity FOR \"" + UserSearchEngineTest.class.getName() + ".similarity\"");
+        insert(1, "kimberly", "Kimberly Lee", "kimberly@example.com");
+        insert(2, "park", "Kim Park", "park@example.com");
+        insert(3, "kim", "Kim", "kim@example.com");
+        insert(4, "akim", "A Kim", "kim.a@example.com");
+        insert(5, "lee_kim", "Lee", "lee@example.com");
+        namedTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void inMemoryIndexRanksExactThenPrefixMatches() {
+        InMemoryUserSearchEngine engine = new InMemoryUserSearchEngine(namedTemplate);
+
+        Page<Long> page = engine.search(" KIM ", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(3L, 1L, 4L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(engine.search("kim", PageRequest.of(1, 2)).getContent()).containsExactly(4L);
+    }
+
+    @Test
+    void inMemoryIndexRefreshesChangedAndDeletedUsersFromEvents() {
+        InMemoryUserSearchEngine engine = new InMemoryUserSearchEngine(namedTemplate);
+        assertThat(engine.search("kim", PageRequest.of(0, 10)).getContent()).contains(1L);
+
+        jdbcTemplate.update("update TB_APPLICATION_USER set USERNAME = 'berly', EMAIL = 'berly@example.com' where USER_ID = 1");
+        jdbcTemplate.update("delete from TB_APPLICATION_USER where USER_ID = 3");
+        insert(6, "kimchi", "Kimchi", "kimchi@example.com");
+        engine.onUserChanged(UserUpdatedEvent.now(1L, "kimberly", "admin"));
+        engine.onUserChanged(UserUpdatedEvent.now(3L, "kim", "admin"));
+        engine.onUserChanged(UserUpdatedEvent.now(6L, "kimchi", "admin"));
+
+        assertThat(engine.search("kim", PageRequest.of(0, 10)).getContent()).containsExactly(6L, 4L);
+        assertThat(engine.search("ber", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+        assertThat(engine.size()).isEqualTo(5);
+    }
+
+    @Test
+    void inMemoryIndexAppliesUpdatesPublishedThroughInvalidationBus() {
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus("node-a");
+        InMemoryUserSearchEngine engine = new InMemoryUserSearchEngine(namedTemplate, bus);
+        engine.search("kim", PageRequest.of(0, 10));
+
+        insert(6, "kimchi", "Kimchi", "kimchi@example.com");
+        engine.onUserChanged(UserUpdatedEvent.now(6L, "kimchi", "admin"));
+
+        assertThat(engine.search("kimc", PageRequest.of(0, 10)).getContent()).containsExactly(6L);
+    }
+
+    @Test
+    void trigramEngineMatchesSubstringsAndRanksExactAndPrefixFirst() {
+        PostgresTrigramUserSearchEngine engine = new PostgresTrigramUserSearchEngine(namedTemplate);
+
+        Page<Long> page = engine.search("Kim", PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent().subList(0, 1)).containsExactly(3L);
+        assertThat(page.getContent().subList(1, 4)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(page.getContent().get(4)).isEqualTo(5L);
+    }
+
+    @Test
+    void trigramEngineEscapesLikeWildcards() {
+        PostgresTrigramUserSearchEngine engine = new PostgresTrigramUserSearchEngine(namedTemplate);
+
+        assertThat(engine.search("e_k", PageRequest.of(0, 10)).getContent()).containsExactly(5L);
+        assertThat(engine.search("%", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(PostgresTrigramUserSearchEngine.escapeLike("a%b_c\\")).isEqualTo("a\\%b\\_c\\\\");
+    }
+
+    private void insert(long id, String username, String name, String email) {
+        jdbcTemplate.update("insert into TB_APPLICATION_USER (USER_ID, USERNAME, NAME, EMAIL) values (?, ?, ?, ?)",
+                id, username, name, email);
+    }
+
+    public static double similarity(String value, String keyword) {
+        int common = 0;
+        while (common < Math.min(value.length(), keyword.length()) && value.charAt(common) == keyword.charAt(common)) {
+            common++;
+        }
+        return (double) common / Math.max(value.length(), keyword.length());
+    }
+}
@@ -3,12 +3,14 @@ package studio.one.base.user.service.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -17,6 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import studio.one.base.user.domain.entity.ApplicationUser;
@@ -25,6 +32,7 @@ import studio.one.base.user.persistence.ApplicationGroupRepository;
 import studio.one.base.user.persistence.ApplicationRoleRepository;
 import studio.one.base.user.persistence.ApplicationUserRepository;
 import studio.one.base.user.persistence.ApplicationUserRoleRepository;
+import studio.one.base.user.search.UserSearchEngine;
 import studio.one.base.user.service.PasswordPolicyService;
 import studio.one.platform.service.DomainEvents;
 import studio.one.platform.service.I18n;
@@ -123,6 +131,38 @@ class ApplicationUserServiceImplTest {
         verify(userRepo).save(user);
     }
 
+    @Test
+    void searchUsesEngineRankingAndLoadsUsersInOneCall() {
+        ApplicationUser exact = ApplicationUser.builder().userId(7L).username("kim").build();
+        ApplicationUser prefix = ApplicationUser.builder().userId(3L).username("kimberly").build();
+        UserSearchEngine engine = mock(UserSearchEngine.class);
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(engine.search("kim", pageable)).thenReturn(new PageImpl<>(List.of(7L, 3L), pageable, 2));
+        when(userRepo.findAllByUserIdIn(List.of(7L, 3L))).thenReturn(List.of(prefix, exact));
+        ApplicationUserServiceImpl service = service();
+        service.setUserSearchEngine(engine);
+
+        Page<ApplicationUser> page = service.search("kim", pageable);
+
+        assertEquals(List.of(exact, prefix), page.getContent());
+        assertEquals(2, page.getTotalElements());
+        verify(userRepo, never()).search(any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchFallsBackToRepositoryForSortedOrBlankQueries() {
+        UserSearchEngine engine = mock(UserSearchEngine.class);
+        ApplicationUserServiceImpl service = service();
+        service.setUserSearchEngine(engine);
+        PageRequest sorted = PageRequest.of(0, 10, Sort.by("username"));
+
+        service.search("kim", sorted);
+        service.search(" ", PageRequest.of(0, 10));
+
+        verify(userRepo).search("kim", sorted);
+        verify(engine, never()).search(any(), any(Pageable.class));
+    }
+
     // ---------- property tests ----------
 
     @Test
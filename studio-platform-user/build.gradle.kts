@@ -21,6 +21,7 @@ dependencies {
     compileOnly("org.springframework.boot:spring-boot-starter-validation")
     compileOnly(project(":studio-platform"))
     compileOnly(project(":studio-platform-identity"))
+    compileOnly(project(":studio-platform-data"))
     compileOnly ("org.mapstruct:mapstruct:$mapstructVersion")
     annotationProcessor ("org.mapstruct:mapstruct-processor:$mapstructVersion")
     annotationProcessor ("org.projectlombok:lombok-mapstruct-binding:0.2.0")
@@ -39,5 +40,6 @@ dependencies {
     testImplementation(project(":studio-platform"))
     testImplementation(project(":studio-platform-identity"))
     testImplementation(project(":studio-platform-user-default"))
+    testImplementation(project(":studio-platform-data"))
     testRuntimeOnly("org.postgresql:postgresql")
 }
@@ -10,5 +10,10 @@ public class CacheNames {
         public static final String BY_USERNAME = "users.byUsername";
     }
 
+    @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static final class Role {
+        public static final String EFFECTIVE = "roles.effective";
+    }
+
     
 }
@@ -0,0 +1,38 @@
+package studio.one.base.user.domain.event;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * 사용자의 유효 권한(직접 롤, 그룹 멤버십, 그룹 롤)이 바뀌었음을 알리는 이벤트.
+ * {@code userId}가 {@code null}이면 그룹 롤 변경처럼 여러 사용자에게 영향을 주는 변경이다.
+ */
+@Value
+public class UserAuthorityChangedEvent implements Serializable {
+
+    UUID eventId;
+    Long userId; // nullable: 다수 사용자 영향
+    Long groupId; // nullable
+    String actor;
+    OffsetDateTime occurredAt;
+
+    public static UserAuthorityChangedEvent ofUser(Long userId, String actor, Clock clock) {
+        return new UserAuthorityChangedEvent(UUID.randomUUID(), userId, null, actor, OffsetDateTime.now(clock));
+    }
+
+    public static UserAuthorityChangedEvent ofGroupMember(Long groupId, Long userId, String actor, Clock clock) {
+        return new UserAuthorityChangedEvent(UUID.randomUUID(), userId, groupId, actor, OffsetDateTime.now(clock));
+    }
+
+    public static UserAuthorityChangedEvent ofGroup(Long groupId, String actor, Clock clock) {
+        return new UserAuthorityChangedEvent(UUID.randomUUID(), null, groupId, actor, OffsetDateTime.now(clock));
+    }
+
+    public boolean affectsAllUsers() {
+        return userId == null;
+    }
+}
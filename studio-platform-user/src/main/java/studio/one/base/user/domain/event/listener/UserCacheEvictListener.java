@@ -2,19 +2,51 @@ package studio.one.base.user.domain.event.listener;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import lombok.RequiredArgsConstructor;
 import studio.one.base.user.constant.CacheNames;
+import studio.one.base.user.domain.event.UserAuthorityChangedEvent;
 import studio.one.base.user.domain.event.UserCacheEvictableEvent;
+import studio.one.platform.cache.CacheInvalidation;
+import studio.one.platform.cache.CacheInvalidationBus;
+import studio.one.platform.cache.SpringCacheInvalidationHandler;
 
-@RequiredArgsConstructor
+/**
+ * 사용자 변경 이벤트로 사용자/유효 롤 캐시를 비웁니다.
+ * {@link CacheInvalidationBus}가 있으면 모든 노드의 캐시에 같은 무효화를 적용합니다.
+ */
 public class UserCacheEvictListener {
 
     private final CacheManager cacheManager;
+    private final CacheInvalidationBus bus;
+
+    public UserCacheEvictListener(CacheManager cacheManager) {
+        this(cacheManager, null);
+    }
+
+    public UserCacheEvictListener(CacheManager cacheManager, CacheInvalidationBus bus) {
+        this.cacheManager = cacheManager;
+        this.bus = bus;
+        if (bus != null) {
+            SpringCacheInvalidationHandler byLong = new SpringCacheInvalidationHandler(cacheManager, Long::valueOf);
+            bus.subscribe(CacheNames.User.BY_USER_ID, byLong);
+            bus.subscribe(CacheNames.User.BY_USERNAME, new SpringCacheInvalidationHandler(cacheManager, key -> key));
+            bus.subscribe(CacheNames.Role.EFFECTIVE, byLong);
+        }
+    }
 
     private void evictUserCaches(Long userId, String username) {
+        if (bus != null) {
+            if (userId != null) {
+                bus.publish(CacheInvalidation.of(CacheNames.User.BY_USER_ID, userId));
+            }
+            if (username != null) {
+                bus.publish(CacheInvalidation.of(CacheNames.User.BY_USERNAME, username));
+            }
+            return;
+        }
         Cache byId = cacheManager.getCache(CacheNames.User.BY_USER_ID);
         Cache byUsername = cacheManager.getCache(CacheNames.User.BY_USERNAME);
 
@@ -31,4 +63,27 @@ public class UserCacheEvictListener {
         evictUserCaches(event.getUserId(), event.getUsername());
     }
 
+    /**
+     * 롤/그룹 변경은 커밋 이후 발행되므로 일반 리스너로 받는다. 그룹 롤 변경은 영향받는 사용자를
+     * 특정하지 않으므로 유효 롤 캐시 전체를 비운다.
+     */
+    @EventListener
+    public void onAuthorityChanged(UserAuthorityChangedEvent event) {
+        CacheInvalidation invalidation = event.affectsAllUsers()
+                ? CacheInvalidation.all(CacheNames.Role.EFFECTIVE)
+                : CacheInvalidation.of(CacheNames.Role.EFFECTIVE, event.getUserId());
+        if (bus != null) {
+            bus.publish(invalidation);
+            return;
+        }
+        Cache effective = cacheManager.getCache(CacheNames.Role.EFFECTIVE);
+        if (effective == null) {
+            return;
+        }
+        if (invalidation.isAll()) {
+            effective.clear();
+        } else {
+            effective.evict(event.getUserId());
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package studio.one.base.user.persistence.jdbc;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -18,6 +20,14 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import studio.one.platform.data.jdbc.pagination.KeysetCursor;
+import studio.one.platform.data.jdbc.pagination.KeysetPage;
+import studio.one.platform.data.jdbc.pagination.KeysetPageRequest;
+import studio.one.platform.data.jdbc.pagination.KeysetSort;
+import studio.one.platform.data.jdbc.pagination.PageTotalMode;
+import studio.one.platform.data.jdbc.pagination.PaginationDialect;
+import studio.one.platform.data.jdbc.pagination.PaginationDialectResolver;
+
 /**
  * Shared utility base for JDBC-backed repositories.
  */
@@ -25,12 +35,18 @@ abstract class BaseJdbcRepository {
 
     protected final NamedParameterJdbcTemplate namedTemplate;
     protected final JdbcTemplate jdbcTemplate;
+    private volatile PaginationDialect paginationDialect;
 
     protected BaseJdbcRepository(NamedParameterJdbcTemplate namedTemplate) {
         this.namedTemplate = namedTemplate;
         this.jdbcTemplate = namedTemplate.getJdbcTemplate();
     }
 
+    protected BaseJdbcRepository(NamedParameterJdbcTemplate namedTemplate, PaginationDialect paginationDialect) {
+        this(namedTemplate);
+        this.paginationDialect = paginationDialect;
+    }
+
     protected MapSqlParameterSource params() {
         return new MapSqlParameterSource();
     }
@@ -65,6 +81,81 @@ abstract class BaseJdbcRepository {
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * Keyset (seek) variant of {@link #queryPage}: no OFFSET scan, and the count query only runs
+     * when {@link PageTotalMode#EXACT} is requested.
+     * <p>
+     * {@code selectSql} is wrapped as a derived table, so {@code keysetColumns} map sort properties
+     * to result column labels (e.g. {@code USER_ID}, not {@code u.USER_ID}). Keyset columns must be
+     * non-null and {@code tieBreakerLabel} must be unique.
+     *
+     * @param estimateTable table whose statistics back {@link PageTotalMode#ESTIMATED}; pass
+     *                      {@code null} for filtered queries, which then return no total
+     */
+    protected <T> KeysetPage<T> queryKeyset(
+            String selectSql,
+            String countSql,
+            Map<String, ?> params,
+            KeysetPageRequest request,
+            RowMapper<T> mapper,
+            String tieBreakerLabel,
+            Map<String, String> keysetColumns,
+            String estimateTable) {
+
+        KeysetSort sort = KeysetSort.of(request.sort(), keysetColumns, tieBreakerLabel);
+        Map<String, Object> queryParams = new HashMap<>(params == null ? Map.of() : params);
+        StringBuilder sql = new StringBuilder("select * from (").append(selectSql).append(") keyset_");
+        if (request.cursor() != null) {
+            List<Object> keys = KeysetCursor.decode(request.cursor(), sort.signature(), sort.columns().size());
+            for (int i = 0; i < keys.size(); i++) {
+                queryParams.put("keyset_" + i, keys.get(i));
+            }
+            sql.append(" where ").append(sort.seekPredicate("keyset_"));
+        }
+        sql.append(sort.orderByClause());
+
+        int size = request.size();
+        List<List<Object>> lastKeys = new ArrayList<>(1);
+        List<T> rows = namedTemplate.query(paginationDialect().applyLimit(sql.toString(), size + 1), queryParams,
+                (rs, rowNum) -> {
+                    if (rowNum == size - 1) {
+                        lastKeys.add(sort.read(rs));
+                    }
+                    return mapper.mapRow(rs, rowNum);
+                });
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? KeysetCursor.encode(sort.signature(), lastKeys.get(0)) : null;
+        return new KeysetPage<>(content, nextCursor, total(request.totalMode(), countSql, queryParams, estimateTable),
+                request.totalMode());
+    }
+
+    private Long total(PageTotalMode mode, String countSql, Map<String, Object> params, String estimateTable) {
+        switch (mode) {
+            case EXACT:
+                return namedTemplate.queryForObject(countSql, params, Long.class);
+            case ESTIMATED:
+                String estimateSql = estimateTable == null ? null : paginationDialect().estimatedRowCountSql();
+                if (estimateSql == null) {
+                    return null;
+                }
+                Number estimate = queryOptional(estimateSql, Map.of("table", estimateTable), Number.class).orElse(null);
+                return estimate == null || estimate.longValue() < 0 ? null : estimate.longValue();
+            default:
+                return null;
+        }
+    }
+
+    protected PaginationDialect paginationDialect() {
+        PaginationDialect dialect = paginationDialect;
+        if (dialect == null) {
+            dialect = new PaginationDialectResolver().resolve(jdbcTemplate.getDataSource());
+            paginationDialect = dialect;
+        }
+        return dialect;
+    }
+
     protected Map<Long, Map<String, String>> fetchProperties(
             String tableName,
             String ownerColumn,
@@ -1,6 +1,7 @@
 package studio.one.base.user.service.impl;
 
 import java.sql.PreparedStatement;
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +32,7 @@ import studio.one.base.user.domain.entity.ApplicationGroupMembershipId;
 import studio.one.base.user.domain.entity.ApplicationGroupRole;
 import studio.one.base.user.domain.entity.ApplicationGroupRoleId;
 import studio.one.base.user.domain.entity.ApplicationRole;
+import studio.one.base.user.domain.event.UserAuthorityChangedEvent;
 import studio.one.base.user.domain.model.Role;
 import studio.one.base.user.exception.GroupNotFoundException;
 import studio.one.base.user.persistence.ApplicationGroupMembershipRepository;
@@ -41,6 +43,7 @@ import studio.one.base.user.service.ApplicationGroupService;
 import studio.one.base.user.service.BatchResult;
 import studio.one.platform.component.State;
 import studio.one.platform.exception.NotFoundException;
+import studio.one.platform.service.DomainEvents;
 import studio.one.platform.service.I18n;
 import studio.one.platform.util.I18nUtils;
 import studio.one.platform.util.LogUtils;
@@ -59,6 +62,7 @@ public class ApplicationGroupServiceImpl
     private final JdbcTemplate jdbcTemplate;
 
     private final ObjectProvider<I18n> i18nProvider;
+    private final ObjectProvider<DomainEvents> domainEventsProvider;
 
     @PostConstruct
     void initialize() {
@@ -164,6 +168,7 @@ public class ApplicationGroupServiceImpl
         if (!membershipRepo.existsById(id)) {
             membershipRepo
                     .save(ApplicationGroupMembership.builder().id(id).group(g).joinedBy(joinedBy).build());
+            publishMemberChanged(groupId, userId, joinedBy);
         }
     }
 
@@ -189,6 +194,7 @@ public class ApplicationGroupServiceImpl
             batch.add(m);
         }
         membershipRepo.saveAll(batch);
+        toInsert.forEach(uid -> publishMemberChanged(groupId, uid, joinedBy));
         return batch.size();
     }
 
@@ -216,7 +222,7 @@ public class ApplicationGroupServiceImpl
 
         final String actor = (joinedBy == null || joinedBy.isEmpty()) ? "system" : joinedBy;
 
-        return jdbcTemplate.update(con -> {
+        int inserted = jdbcTemplate.update(con -> {
             final PreparedStatement ps = con.prepareStatement(sql);
             ps.setLong(1, groupId);
             ps.setObject(2, joinedAt);
@@ -225,18 +231,30 @@ public class ApplicationGroupServiceImpl
             ps.setArray(4, con.createArrayOf("int8", arr));
             return ps;
         });
+        if (inserted > 0) {
+            for (Long uid : arr) {
+                publishMemberChanged(groupId, uid, actor);
+            }
+        }
+        return inserted;
     }
 
     @Override
     public void removeMember(Long groupId, Long userId) {
         membershipRepo.deleteById(new ApplicationGroupMembershipId(groupId, userId));
+        publishMemberChanged(groupId, userId, null);
     }
 
     @Override
     public int removeMembers(Long groupId, List<Long> userIds) {
         if (userIds == null || userIds.isEmpty())
             return 0;
-        return membershipRepo.deleteByGroupIdAndUserIds(groupId, userIds);
+        int removed = membershipRepo.deleteByGroupIdAndUserIds(groupId, userIds);
+        if (removed > 0) {
+            userIds.stream().filter(Objects::nonNull).distinct()
+                    .forEach(uid -> publishMemberChanged(groupId, uid, null));
+        }
+        return removed;
     }
 
     // --- 롤 ---
@@ -258,6 +276,9 @@ public class ApplicationGroupServiceImpl
         long inserted = toAssign.isEmpty() ? 0 : assignRolesBulk(groupId, toAssign, actor).getInserted();
         long deleted = toRevoke.isEmpty() ? 0 : groupRoleRepo.deleteByGroupIdAndRoleIds(groupId, toRevoke);
         long skipped = toAssign.size() - inserted;
+        if (deleted > 0) {
+            publishGroupRolesChanged(groupId, actor);
+        }
         return new BatchResult(desired.size(), inserted, skipped, deleted);
     }
 
@@ -294,6 +315,9 @@ public class ApplicationGroupServiceImpl
             ps.setArray(3, con.createArrayOf("bigint", arr));
             return ps;
         });
+        if (inserted > 0) {
+            publishGroupRolesChanged(groupId, assignedBy);
+        }
 
         long skipped = valid.size() - inserted;
         return new BatchResult(valid.size(), inserted, skipped, 0);
@@ -317,6 +341,9 @@ public class ApplicationGroupServiceImpl
             groupRoleRepo.save(gr);
             inserted++;
         }
+        if (inserted > 0) {
+            publishGroupRolesChanged(groupId, actor);
+        }
         return new BatchResult(candidates.size(), inserted, skipped, 0);
     }
 
@@ -329,12 +356,24 @@ public class ApplicationGroupServiceImpl
         if (!groupRoleRepo.existsByGroupIdAndRoleId(groupId, roleId)) {
             groupRoleRepo.save(ApplicationGroupRole.builder()
                     .id(id).group(g).role(r).assignedBy(by).build());
+            publishGroupRolesChanged(groupId, by);
         }
     }
 
     @Override
     public void revokeRole(Long groupId, Long roleId) {
         groupRoleRepo.deleteById(new ApplicationGroupRoleId(groupId, roleId));
+        publishGroupRolesChanged(groupId, null);
+    }
+
+    private void publishMemberChanged(Long groupId, Long userId, @Nullable String actor) {
+        domainEventsProvider.ifAvailable(resolved -> resolved.publishAfterCommit(
+                UserAuthorityChangedEvent.ofGroupMember(groupId, userId, actor, Clock.systemUTC())));
+    }
+
+    private void publishGroupRolesChanged(Long groupId, @Nullable String actor) {
+        domainEventsProvider.ifAvailable(resolved -> resolved.publishAfterCommit(
+                UserAuthorityChangedEvent.ofGroup(groupId, actor, Clock.systemUTC())));
     }
 
     // --- 조회 ---
@@ -0,0 +1,53 @@
+package studio.one.base.user.domain.event.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import studio.one.base.user.constant.CacheNames;
+import studio.one.base.user.domain.event.UserAuthorityChangedEvent;
+import studio.one.base.user.domain.event.UserDisabledEvent;
+import studio.one.platform.cache.LocalCacheInvalidationBus;
+
+class UserCacheEvictListenerTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+            CacheNames.User.BY_USER_ID, CacheNames.User.BY_USERNAME, CacheNames.Role.EFFECTIVE);
+    private final UserCacheEvictListener listener = new UserCacheEvictListener(
+            cacheManager, new LocalCacheInvalidationBus("node-a"));
+
+    @Test
+    void userEventEvictsUserCachesThroughTheBus() {
+        cache(CacheNames.User.BY_USER_ID).put(1L, "alice");
+        cache(CacheNames.User.BY_USERNAME).put("alice", "alice");
+        cache(CacheNames.User.BY_USER_ID).put(2L, "bob");
+
+        listener.onAnyUserEvent(UserDisabledEvent.of(1L, "alice", "admin", "test", null, Clock.systemUTC()));
+
+        assertThat(cache(CacheNames.User.BY_USER_ID).get(1L)).isNull();
+        assertThat(cache(CacheNames.User.BY_USERNAME).get("alice")).isNull();
+        assertThat(cache(CacheNames.User.BY_USER_ID).get(2L)).isNotNull();
+    }
+
+    @Test
+    void authorityChangeEvictsEffectiveRoles() {
+        Cache effective = cache(CacheNames.Role.EFFECTIVE);
+        effective.put(1L, "roles-1");
+        effective.put(2L, "roles-2");
+
+        listener.onAuthorityChanged(UserAuthorityChangedEvent.ofUser(1L, "admin", Clock.systemUTC()));
+        assertThat(effective.get(1L)).isNull();
+        assertThat(effective.get(2L)).isNotNull();
+
+        listener.onAuthorityChanged(UserAuthorityChangedEvent.ofGroup(10L, "admin", Clock.systemUTC()));
+        assertThat(effective.get(2L)).isNull();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -22,6 +22,7 @@ import studio.one.base.user.persistence.ApplicationGroupMembershipRepository;
 import studio.one.base.user.persistence.ApplicationGroupRepository;
 import studio.one.base.user.persistence.ApplicationGroupRoleRepository;
 import studio.one.base.user.persistence.ApplicationRoleRepository;
+import studio.one.platform.service.DomainEvents;
 import studio.one.platform.service.I18n;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +46,9 @@ class ApplicationGroupServiceImplTest {
     @Mock
     private ObjectProvider<I18n> i18nProvider;
 
+    @Mock
+    private ObjectProvider<DomainEvents> domainEventsProvider;
+
     // ---------- setProperty ----------
 
     @Test
@@ -122,6 +126,7 @@ class ApplicationGroupServiceImplTest {
                 membershipRepo,
                 groupRoleRepo,
                 jdbcTemplate,
-                i18nProvider);
+                i18nProvider,
+                domainEventsProvider);
     }
 }
@@ -0,0 +1,63 @@
+package studio.one.platform.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * handler 등록과 로컬 전달을 담당하는 {@link CacheInvalidationBus} 기본 구현입니다.
+ * 하위 클래스는 {@link #publish(CacheInvalidation)}에서 원격 전송을 추가합니다.
+ */
+@Slf4j
+public abstract class AbstractCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final String nodeId;
+    private final Map<String, List<CacheInvalidationHandler>> handlers = new ConcurrentHashMap<>();
+
+    protected AbstractCacheInvalidationBus(String nodeId) {
+        this.nodeId = StringUtils.defaultIfBlank(nodeId, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void subscribe(String cacheName, CacheInvalidationHandler handler) {
+        Objects.requireNonNull(cacheName, "cacheName");
+        Objects.requireNonNull(handler, "handler");
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * 발행 노드 id를 채워 반환합니다.
+     */
+    protected CacheInvalidation stamp(CacheInvalidation invalidation) {
+        return invalidation.origin() == null ? invalidation.withOrigin(nodeId) : invalidation;
+    }
+
+    /**
+     * 현재 노드의 handler에 무효화를 전달합니다. handler 실패는 다른 handler 실행을 막지 않습니다.
+     */
+    protected void deliver(CacheInvalidation invalidation) {
+        List<CacheInvalidationHandler> registered = handlers.get(invalidation.cacheName());
+        if (registered == null) {
+            return;
+        }
+        for (CacheInvalidationHandler handler : registered) {
+            try {
+                handler.invalidate(invalidation);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation handler failed for {}: {}", invalidation.cacheName(), ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package studio.one.platform.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 하나의 캐시에 대한 무효화 요청입니다.
+ * <p>
+ * {@code keys}가 비어 있으면 캐시 전체를 비웁니다. key는 노드 간 전송을 위해 문자열로 보관하며,
+ * 수신 측 {@link CacheInvalidationHandler}가 캐시의 key 타입으로 변환합니다.
+ *
+ * @param cacheName 캐시 이름
+ * @param keys      무효화할 key 목록, 비어 있으면 전체
+ * @param origin    요청을 발행한 노드 id
+ */
+public record CacheInvalidation(String cacheName, List<String> keys, String origin) implements Serializable {
+
+    public CacheInvalidation {
+        Objects.requireNonNull(cacheName, "cacheName");
+        keys = keys == null ? List.of() : List.copyOf(keys);
+    }
+
+    public static CacheInvalidation of(String cacheName, Object... keys) {
+        return new CacheInvalidation(cacheName,
+                Arrays.stream(keys).filter(Objects::nonNull).map(String::valueOf).toList(), null);
+    }
+
+    public static CacheInvalidation all(String cacheName) {
+        return new CacheInvalidation(cacheName, List.of(), null);
+    }
+
+    public boolean isAll() {
+        return keys.isEmpty();
+    }
+
+    public CacheInvalidation withOrigin(String nodeId) {
+        return new CacheInvalidation(cacheName, keys, nodeId);
+    }
+}
@@ -0,0 +1,26 @@
+package studio.one.platform.cache;
+
+/**
+ * 캐시 무효화를 모든 노드에 전파하는 버스입니다.
+ * <p>
+ * {@link #publish(CacheInvalidation)}는 현재 노드를 포함한 모든 노드에서 해당 캐시 이름으로 등록된
+ * {@link CacheInvalidationHandler}를 호출합니다. 따라서 캐시 소유자는 로컬 무효화와 원격 무효화를
+ * 같은 handler 하나로 처리합니다. 원격 전송이 실패하면 다른 노드는 캐시 TTL까지 이전 값을 볼 수 있습니다.
+ *
+ * @see LocalCacheInvalidationBus
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 현재 노드 id. {@link CacheInvalidation#origin()}과 비교해 원격 요청인지 판단할 수 있습니다.
+     */
+    String nodeId();
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(String cacheName, CacheInvalidationHandler handler);
+
+    default boolean isRemote(CacheInvalidation invalidation) {
+        return invalidation.origin() != null && !invalidation.origin().equals(nodeId());
+    }
+}
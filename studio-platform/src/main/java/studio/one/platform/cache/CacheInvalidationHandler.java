@@ -0,0 +1,10 @@
+package studio.one.platform.cache;
+
+/**
+ * {@link CacheInvalidationBus}로 전달된 무효화를 로컬 캐시에 적용합니다.
+ */
+@FunctionalInterface
+public interface CacheInvalidationHandler {
+
+    void invalidate(CacheInvalidation invalidation);
+}
@@ -0,0 +1,21 @@
+package studio.one.platform.cache;
+
+/**
+ * 단일 JVM 안에서만 무효화를 전달하는 {@link CacheInvalidationBus}입니다.
+ * 단일 노드 배포와 테스트의 기본 구현입니다.
+ */
+public class LocalCacheInvalidationBus extends AbstractCacheInvalidationBus {
+
+    public LocalCacheInvalidationBus() {
+        this(null);
+    }
+
+    public LocalCacheInvalidationBus(String nodeId) {
+        super(nodeId);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        deliver(stamp(invalidation));
+    }
+}
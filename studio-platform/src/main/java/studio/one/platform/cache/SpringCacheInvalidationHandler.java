@@ -0,0 +1,39 @@
+package studio.one.platform.cache;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * {@link CacheManager}가 관리하는 Spring 캐시({@code @Cacheable})에 무효화를 적용합니다.
+ */
+public class SpringCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private final CacheManager cacheManager;
+    private final Function<String, Object> keyParser;
+
+    /**
+     * @param keyParser 문자열 key를 캐시 key 타입으로 변환(예: {@code Long::valueOf})
+     */
+    public SpringCacheInvalidationHandler(CacheManager cacheManager, Function<String, Object> keyParser) {
+        this.cacheManager = Objects.requireNonNull(cacheManager, "cacheManager");
+        this.keyParser = Objects.requireNonNull(keyParser, "keyParser");
+    }
+
+    @Override
+    public void invalidate(CacheInvalidation invalidation) {
+        Cache cache = cacheManager.getCache(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.isAll()) {
+            cache.clear();
+            return;
+        }
+        for (String key : invalidation.keys()) {
+            cache.evict(keyParser.apply(key));
+        }
+    }
+}
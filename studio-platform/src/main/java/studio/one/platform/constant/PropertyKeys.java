@@ -31,6 +31,23 @@ public class PropertyKeys {
         public static final String LOG_ENVIRONMENT_VALUES = PREFIX + ".env.log.print-values";
     }
 
+    /**
+     * Contains cache related property keys.
+     */
+    @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static final class Cache {
+        public static final String PREFIX = Main.PREFIX + ".cache";
+
+        /**
+         * Contains cluster cache invalidation bus property keys.
+         */
+        @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+        public static final class Invalidation {
+            public static final String PREFIX = Cache.PREFIX + ".invalidation";
+            public static final String TYPE = PREFIX + TYPE_VALUE_STRING;
+        }
+    }
+
     @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
     public static final class Persistence {
         public static final String PREFIX = Main.PREFIX + PERSISTENCE_STRING;
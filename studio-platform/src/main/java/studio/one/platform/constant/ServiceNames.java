@@ -84,6 +84,7 @@ public class ServiceNames {
     public static final String SECURITY_AUDIT_LOGIN_FAILURE_LOG_RETENTION_JOB = Featrues.PREFIX  + ":security:audit:login-failure-log-retention-job";
     public static final String SECURITY_AUDIT_LOGIN_FAILURE_EVENT_LISTENER = Featrues.PREFIX  + ":security:audit:login-failure-event-listener"; 
     public static final String SECURITY_AUDIT_LOGIN_FAILURE_EVENT_PUBLISHER = Featrues.PREFIX  + ":security:audit:login-failure-event-publisher";
+    public static final String SECURITY_AUDIT_LOGIN_FAILURE_BATCH_WRITER = Featrues.PREFIX  + ":security:audit:login-failure-batch-writer";
     public static final String SECURITY_AUDIT_LOGIN_FAILURE_EXECUTOR = Featrues.PREFIX  + ":security:audit:login-failure-executor"; 
     public static final String SECURITY_AUDIT_LOGIN_SUCCESS_EVENT_LISTENER = Featrues.PREFIX  + ":security:audit:login-success-event-listener";
     public static final String SECURITY_ACCOUNT_LOCK_SERVICE = Featrues.PREFIX  + ":security:account-lock-service";
@@ -6,7 +6,28 @@ package studio.one.platform.security.authz;
  */
 public class DomainPolicyRefreshEvent {
 
+    private final boolean remote;
+
+    public DomainPolicyRefreshEvent() {
+        this(false);
+    }
+
+    private DomainPolicyRefreshEvent(boolean remote) {
+        this.remote = remote;
+    }
+
     public static DomainPolicyRefreshEvent of(){
         return new DomainPolicyRefreshEvent();
     }
+
+    /**
+     * Creates an event replayed from another node's refresh; it must not be broadcast again.
+     */
+    public static DomainPolicyRefreshEvent remote() {
+        return new DomainPolicyRefreshEvent(true);
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
 }
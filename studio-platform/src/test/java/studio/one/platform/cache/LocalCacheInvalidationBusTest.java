@@ -0,0 +1,61 @@
+package studio.one.platform.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class LocalCacheInvalidationBusTest {
+
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus("node-a");
+
+    @Test
+    void publishDeliversToHandlersOfTheSameCacheWithOrigin() {
+        List<CacheInvalidation> received = new ArrayList<>();
+        List<CacheInvalidation> other = new ArrayList<>();
+        bus.subscribe("users", received::add);
+        bus.subscribe("groups", other::add);
+
+        bus.publish(CacheInvalidation.of("users", 1L, null, 2L));
+
+        assertThat(received).singleElement().satisfies(invalidation -> {
+            assertThat(invalidation.keys()).containsExactly("1", "2");
+            assertThat(invalidation.origin()).isEqualTo("node-a");
+            assertThat(bus.isRemote(invalidation)).isFalse();
+        });
+        assertThat(other).isEmpty();
+    }
+
+    @Test
+    void failingHandlerDoesNotBlockOthers() {
+        List<CacheInvalidation> received = new ArrayList<>();
+        bus.subscribe("users", invalidation -> {
+            throw new IllegalStateException("boom");
+        });
+        bus.subscribe("users", received::add);
+
+        bus.publish(CacheInvalidation.all("users"));
+
+        assertThat(received).singleElement().satisfies(invalidation -> assertThat(invalidation.isAll()).isTrue());
+    }
+
+    @Test
+    void springCacheHandlerEvictsParsedKeysOrClears() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("users");
+        Cache cache = cacheManager.getCache("users");
+        cache.put(1L, "alice");
+        cache.put(2L, "bob");
+        bus.subscribe("users", new SpringCacheInvalidationHandler(cacheManager, Long::valueOf));
+
+        bus.publish(CacheInvalidation.of("users", 1L));
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+
+        bus.publish(CacheInvalidation.all("users"));
+        assertThat(cache.get(2L)).isNull();
+    }
+}